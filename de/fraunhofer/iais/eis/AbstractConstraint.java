@@ -20,4 +20,13 @@ public interface AbstractConstraint extends ModelClass {
     @Beta
     public AbstractConstraint deepCopy();
 
+    @Beta
+    public default AbstractConstraint deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default AbstractConstraint freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
 }
@@ -19,6 +19,15 @@ public interface AccessTokenRequestMessage extends RequestMessage {
     @Beta
     public AccessTokenRequestMessage deepCopy();
 
+    @Beta
+    public default AccessTokenRequestMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default AccessTokenRequestMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
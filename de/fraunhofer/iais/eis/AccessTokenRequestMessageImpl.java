@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 import javax.xml.datatype.XMLGregorianCalendar;
@@ -34,22 +36,39 @@ public class AccessTokenRequestMessageImpl implements AccessTokenRequestMessage
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("AccessToken Request Message", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<AccessTokenRequestMessageImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(AccessTokenRequestMessageImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment = Arrays.asList(new TypedLiteral(
-        "Message requesting an access token. This is intended for point-to-point communication with, e.g., Brokers.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("AccessToken Request Message", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Message requesting an access token. This is intended for point-to-point communication with, e.g., Brokers.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:authorizationToken", "authorizationToken"})
@@ -91,29 +110,48 @@ public class AccessTokenRequestMessageImpl implements AccessTokenRequestMessage
     protected URI _transferContract;
 
     protected AccessTokenRequestMessageImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("accessTokenRequestMessage");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("accessTokenRequestMessage"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:AccessTokenRequestMessage", this.id)
+            .add("issuerConnector", this._issuerConnector)
+            .add("recipientConnector", this._recipientConnector)
+            .add("correlationMessage", this._correlationMessage)
+            .add("transferContract", this._transferContract)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -121,21 +159,20 @@ public class AccessTokenRequestMessageImpl implements AccessTokenRequestMessage
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -150,17 +187,25 @@ public class AccessTokenRequestMessageImpl implements AccessTokenRequestMessage
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._modelVersion,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._modelVersion,
             this._issued,
             this._correlationMessage,
             this._issuerConnector,
@@ -171,6 +216,10 @@ public class AccessTokenRequestMessageImpl implements AccessTokenRequestMessage
             this._authorizationToken,
             this._transferContract,
             this._contentVersion);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -199,43 +248,94 @@ public class AccessTokenRequestMessageImpl implements AccessTokenRequestMessage
 
     @Override
     public AccessTokenRequestMessage deepCopy() {
-        AccessTokenRequestMessageBuilder builder = new AccessTokenRequestMessageBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public AccessTokenRequestMessage deepCopy(CopyContext context) {
+        AccessTokenRequestMessageBuilder builder =
+            context.preservesIds() ? new AccessTokenRequestMessageBuilder(getId()) : new AccessTokenRequestMessageBuilder();
+        context.register(this, builder.buildUnchecked());
         builder._modelVersion_(this._modelVersion);
         if (this._issued != null) {
             builder._issued_((XMLGregorianCalendar) this._issued.clone());
         }
         if (this._correlationMessage != null) {
-            builder._correlationMessage_(URI.create(this._correlationMessage.toString()));
+            builder._correlationMessage_(this._correlationMessage);
         }
         if (this._issuerConnector != null) {
-            builder._issuerConnector_(URI.create(this._issuerConnector.toString()));
+            builder._issuerConnector_(this._issuerConnector);
         }
         for (URI item : this._recipientConnector) {
             if (item != null) {
-                builder._recipientConnector_(URI.create(item.toString()));
+                builder._recipientConnector_(item);
             }
         }
         if (this._senderAgent != null) {
-            builder._senderAgent_(URI.create(this._senderAgent.toString()));
+            builder._senderAgent_(this._senderAgent);
         }
         for (URI item : this._recipientAgent) {
             if (item != null) {
-                builder._recipientAgent_(URI.create(item.toString()));
+                builder._recipientAgent_(item);
             }
         }
         if (this._securityToken != null) {
-            builder._securityToken_(this._securityToken.deepCopy());
+            builder._securityToken_(context.copy(this._securityToken));
         }
         if (this._authorizationToken != null) {
-            builder._authorizationToken_(this._authorizationToken.deepCopy());
+            builder._authorizationToken_(context.copy(this._authorizationToken));
         }
         if (this._transferContract != null) {
-            builder._transferContract_(URI.create(this._transferContract.toString()));
+            builder._transferContract_(this._transferContract);
         }
         builder._contentVersion_(this._contentVersion);
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.notNull(this._modelVersion, "modelVersion");
+        validator.notNull(this._issued, "issued");
+        validator.notNull(this._issuerConnector, "issuerConnector");
+        validator.notNull(this._senderAgent, "senderAgent");
+        validator.notNull(this._securityToken, "securityToken");
+        validator.child(this._authorizationToken);
+        validator.child(this._securityToken);
+    }
+
+    @Override
+    public AccessTokenRequestMessage freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            Freezer.freeze(this._authorizationToken);
+            this._recipientAgent = Freezer.freezeAll(this._recipientAgent);
+            this._recipientConnector = Freezer.freezeAll(this._recipientConnector);
+            Freezer.freeze(this._securityToken);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -246,6 +346,9 @@ public class AccessTokenRequestMessageImpl implements AccessTokenRequestMessage
 
     @Override
     public void setModelVersion(String _modelVersion_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._modelVersion = _modelVersion_;
     }
 
@@ -258,6 +361,9 @@ public class AccessTokenRequestMessageImpl implements AccessTokenRequestMessage
 
     @Override
     public void setIssued(XMLGregorianCalendar _issued_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._issued = _issued_;
     }
 
@@ -268,6 +374,9 @@ public class AccessTokenRequestMessageImpl implements AccessTokenRequestMessage
 
     @Override
     public void setCorrelationMessage(URI _correlationMessage_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._correlationMessage = _correlationMessage_;
     }
 
@@ -279,6 +388,9 @@ public class AccessTokenRequestMessageImpl implements AccessTokenRequestMessage
 
     @Override
     public void setIssuerConnector(URI _issuerConnector_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._issuerConnector = _issuerConnector_;
     }
 
@@ -289,6 +401,9 @@ public class AccessTokenRequestMessageImpl implements AccessTokenRequestMessage
 
     @Override
     public void setRecipientConnector(List<URI> _recipientConnector_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._recipientConnector = _recipientConnector_;
     }
 
@@ -300,6 +415,9 @@ public class AccessTokenRequestMessageImpl implements AccessTokenRequestMessage
 
     @Override
     public void setSenderAgent(URI _senderAgent_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._senderAgent = _senderAgent_;
     }
 
@@ -310,6 +428,9 @@ public class AccessTokenRequestMessageImpl implements AccessTokenRequestMessage
 
     @Override
     public void setRecipientAgent(List<URI> _recipientAgent_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._recipientAgent = _recipientAgent_;
     }
 
@@ -321,6 +442,9 @@ public class AccessTokenRequestMessageImpl implements AccessTokenRequestMessage
 
     @Override
     public void setSecurityToken(DynamicAttributeToken _securityToken_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._securityToken = _securityToken_;
     }
 
@@ -331,6 +455,9 @@ public class AccessTokenRequestMessageImpl implements AccessTokenRequestMessage
 
     @Override
     public void setAuthorizationToken(Token _authorizationToken_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._authorizationToken = _authorizationToken_;
     }
 
@@ -341,6 +468,9 @@ public class AccessTokenRequestMessageImpl implements AccessTokenRequestMessage
 
     @Override
     public void setTransferContract(URI _transferContract_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._transferContract = _transferContract_;
     }
 
@@ -351,6 +481,9 @@ public class AccessTokenRequestMessageImpl implements AccessTokenRequestMessage
 
     @Override
     public void setContentVersion(String _contentVersion_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._contentVersion = _contentVersion_;
     }
 }
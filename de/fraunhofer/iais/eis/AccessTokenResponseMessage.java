@@ -18,6 +18,15 @@ public interface AccessTokenResponseMessage extends ResponseMessage {
     @Beta
     public AccessTokenResponseMessage deepCopy();
 
+    @Beta
+    public default AccessTokenResponseMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default AccessTokenResponseMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
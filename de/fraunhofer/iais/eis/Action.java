@@ -22,6 +22,15 @@ public interface Action extends ModelClass {
     @Beta
     public Action deepCopy();
 
+    @Beta
+    public default Action deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Action freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -235,4 +244,29 @@ public interface Action extends ModelClass {
      */
     Action WRITE = new ActionBuilder(URI.create("https://w3id.org/idsa/code/WRITE")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/ADD
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static Action fromId(URI id) {
+        return id == null ? null : ActionImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:ADD).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static Action fromString(String id) {
+        return id == null ? null : ActionImpl.defaultInstance(id);
+    }
+
 }
@@ -64,7 +64,8 @@ public class ActionBuilder implements Builder<Action> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -72,7 +73,21 @@ public class ActionBuilder implements Builder<Action> {
      */
     @Override
     public Action build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(actionImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(actionImpl);
+        }
+        return actionImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public Action buildUnchecked() {
         return actionImpl;
     }
 }
@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 
@@ -31,22 +33,39 @@ public class ActionImpl implements Action {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Action", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<ActionImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(ActionImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment =
-        Arrays.asList(new TypedLiteral("A thing one might be permitted to do or prohibited from doing to something.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Action", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("A thing one might be permitted to do or prohibited from doing to something.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:actionRefinement", "actionRefinement"})
@@ -59,29 +78,43 @@ public class ActionImpl implements Action {
     protected PXP _pxpEndpoint;
 
     protected ActionImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("action");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("action"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:Action", this.id).build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -89,21 +122,20 @@ public class ActionImpl implements Action {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -118,19 +150,32 @@ public class ActionImpl implements Action {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._actionRefinement,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this.getId(),
+            this._actionRefinement,
             this._includedIn,
             this._pxpEndpoint);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -143,7 +188,7 @@ public class ActionImpl implements Action {
             return false;
         } else {
             ActionImpl other = (ActionImpl) obj;
-            return Objects.equals(this.id, other.id) &&
+            return Objects.equals(this.getId(), other.getId()) &&
                 Objects.equals(this._actionRefinement, other._actionRefinement) &&
                 Objects.equals(this._includedIn, other._includedIn) &&
                 Objects.equals(this._pxpEndpoint, other._pxpEndpoint);
@@ -152,19 +197,73 @@ public class ActionImpl implements Action {
 
     @Override
     public Action deepCopy() {
-        ActionBuilder builder = new ActionBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public Action deepCopy(CopyContext context) {
+        if (Action.fromId(this.id) == this) {
+            // default instances are shared instead of copied
+            return this;
+        }
+        ActionBuilder builder =
+            context.preservesIds() ? new ActionBuilder(getId()) : new ActionBuilder();
+        context.register(this, builder.buildUnchecked());
         for (Constraint item : this._actionRefinement) {
             if (item != null) {
-                builder._actionRefinement_(item.deepCopy());
+                builder._actionRefinement_(context.copy(item));
             }
         }
         builder._includedIn_(this._includedIn);
         if (this._pxpEndpoint != null) {
-            builder._pxpEndpoint_(this._pxpEndpoint.deepCopy());
+            builder._pxpEndpoint_(context.copy(this._pxpEndpoint));
         }
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.children(this._actionRefinement);
+        validator.child(this._includedIn);
+        validator.child(this._pxpEndpoint);
+    }
+
+    @Override
+    public Action freeze() {
+        if (Action.fromId(this.id) == this) {
+            // default instances are shared globally and stay as they are
+            return this;
+        }
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            this._actionRefinement = Freezer.freezeAll(this._actionRefinement);
+            Freezer.freeze(this._includedIn);
+            Freezer.freeze(this._pxpEndpoint);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -174,6 +273,9 @@ public class ActionImpl implements Action {
 
     @Override
     public void setActionRefinement(List<Constraint> _actionRefinement_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._actionRefinement = _actionRefinement_;
     }
 
@@ -184,6 +286,9 @@ public class ActionImpl implements Action {
 
     @Override
     public void setIncludedIn(Action _includedIn_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._includedIn = _includedIn_;
     }
 
@@ -194,7 +299,54 @@ public class ActionImpl implements Action {
 
     @Override
     public void setPxpEndpoint(PXP _pxpEndpoint_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._pxpEndpoint = _pxpEndpoint_;
     }
 
+    // lookup of the default instances as defined in the ontology
+
+    static Action defaultInstance(String id) {
+        if (id.startsWith("idsc:")) {
+            id = "https://w3id.org/idsa/code/" + id.substring(5);
+        }
+        return DefaultInstances.BY_ID.get(id);
+    }
+
+    /**
+     * Index of the default instances by their identifier. Held in a nested class, so that it is only
+     * built on first lookup, after all default instances of Action have been initialized.
+     */
+    private static class DefaultInstances {
+
+        private static final Map<String, Action> BY_ID = new HashMap<>(31);
+
+        static {
+            BY_ID.put(Action.ADD.getId().toString(), Action.ADD);
+            BY_ID.put(Action.AGGREGATE_BY_CONSUMER.getId().toString(), Action.AGGREGATE_BY_CONSUMER);
+            BY_ID.put(Action.AGGREGATE_BY_PROVIDER.getId().toString(), Action.AGGREGATE_BY_PROVIDER);
+            BY_ID.put(Action.ANONYMIZE.getId().toString(), Action.ANONYMIZE);
+            BY_ID.put(Action.COMPENSATE.getId().toString(), Action.COMPENSATE);
+            BY_ID.put(Action.DELETE.getId().toString(), Action.DELETE);
+            BY_ID.put(Action.DISTRIBUTE.getId().toString(), Action.DISTRIBUTE);
+            BY_ID.put(Action.DIVIDE.getId().toString(), Action.DIVIDE);
+            BY_ID.put(Action.ENCRYPT.getId().toString(), Action.ENCRYPT);
+            BY_ID.put(Action.GRANT_USE.getId().toString(), Action.GRANT_USE);
+            BY_ID.put(Action.HASH.getId().toString(), Action.HASH);
+            BY_ID.put(Action.INCREMENT_COUNTER.getId().toString(), Action.INCREMENT_COUNTER);
+            BY_ID.put(Action.LOG.getId().toString(), Action.LOG);
+            BY_ID.put(Action.MODIFY.getId().toString(), Action.MODIFY);
+            BY_ID.put(Action.MULTIPLY.getId().toString(), Action.MULTIPLY);
+            BY_ID.put(Action.NEXT_POLICY.getId().toString(), Action.NEXT_POLICY);
+            BY_ID.put(Action.NOTIFY.getId().toString(), Action.NOTIFY);
+            BY_ID.put(Action.READ.getId().toString(), Action.READ);
+            BY_ID.put(Action.REPLACE.getId().toString(), Action.REPLACE);
+            BY_ID.put(Action.SHUFFLE.getId().toString(), Action.SHUFFLE);
+            BY_ID.put(Action.TRACK_PROVENANCE.getId().toString(), Action.TRACK_PROVENANCE);
+            BY_ID.put(Action.USE.getId().toString(), Action.USE);
+            BY_ID.put(Action.WRITE.getId().toString(), Action.WRITE);
+        }
+    }
+
 }
@@ -20,6 +20,15 @@ public interface Agent extends Described {
     @Beta
     public Agent deepCopy();
 
+    @Beta
+    public default Agent deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Agent freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
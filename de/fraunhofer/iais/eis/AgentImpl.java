@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 
@@ -32,22 +34,39 @@ public class AgentImpl implements Agent {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Agent", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<AgentImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(AgentImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment = Arrays.asList(new TypedLiteral(
-        "Internal or external Agent interacting with the International Data Spaces, not necessarily an IDS Participant.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Agent", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Internal or external Agent interacting with the International Data Spaces, not necessarily an IDS Participant.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:description", "description"})
@@ -57,29 +76,45 @@ public class AgentImpl implements Agent {
     protected List<TypedLiteral> _title = new ArrayList<>();
 
     protected AgentImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("agent");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("agent"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:Agent", this.id)
+            .add("title", this._title)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -87,21 +122,20 @@ public class AgentImpl implements Agent {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -116,18 +150,30 @@ public class AgentImpl implements Agent {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._title,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._title,
             this._description);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -147,7 +193,14 @@ public class AgentImpl implements Agent {
 
     @Override
     public Agent deepCopy() {
-        AgentBuilder builder = new AgentBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public Agent deepCopy(CopyContext context) {
+        AgentBuilder builder =
+            context.preservesIds() ? new AgentBuilder(getId()) : new AgentBuilder();
+        context.register(this, builder.buildUnchecked());
         for (TypedLiteral item : this._title) {
             if (item != null && item.getLanguage() != null) {
                 builder._title_(new TypedLiteral(item.getValue(), item.getLanguage()));
@@ -165,6 +218,42 @@ public class AgentImpl implements Agent {
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        // no constraints or referred objects to validate
+    }
+
+    @Override
+    public Agent freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            this._description = Freezer.freezeAll(this._description);
+            this._title = Freezer.freezeAll(this._title);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -174,6 +263,9 @@ public class AgentImpl implements Agent {
 
     @Override
     public void setTitle(List<TypedLiteral> _title_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._title = _title_;
     }
 
@@ -184,6 +276,9 @@ public class AgentImpl implements Agent {
 
     @Override
     public void setDescription(List<TypedLiteral> _description_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._description = _description_;
     }
 
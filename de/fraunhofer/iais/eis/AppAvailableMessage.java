@@ -18,6 +18,15 @@ public interface AppAvailableMessage extends AppNotificationMessage {
     @Beta
     public AppAvailableMessage deepCopy();
 
+    @Beta
+    public default AppAvailableMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default AppAvailableMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 import javax.xml.datatype.XMLGregorianCalendar;
@@ -33,22 +35,39 @@ public class AppAvailableMessageImpl implements AppAvailableMessage {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("App Available Message", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<AppAvailableMessageImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(AppAvailableMessageImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment =
-        Arrays.asList(new TypedLiteral("Message indicating that a specific App should be available (again) in the AppStore.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("App Available Message", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Message indicating that a specific App should be available (again) in the AppStore.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @NotNull
@@ -94,29 +113,48 @@ public class AppAvailableMessageImpl implements AppAvailableMessage {
     protected URI _transferContract;
 
     protected AppAvailableMessageImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("appAvailableMessage");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("appAvailableMessage"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:AppAvailableMessage", this.id)
+            .add("issuerConnector", this._issuerConnector)
+            .add("recipientConnector", this._recipientConnector)
+            .add("correlationMessage", this._correlationMessage)
+            .add("transferContract", this._transferContract)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -124,21 +162,20 @@ public class AppAvailableMessageImpl implements AppAvailableMessage {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -153,17 +190,25 @@ public class AppAvailableMessageImpl implements AppAvailableMessage {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._affectedResource,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._affectedResource,
             this._modelVersion,
             this._issued,
             this._correlationMessage,
@@ -175,6 +220,10 @@ public class AppAvailableMessageImpl implements AppAvailableMessage {
             this._authorizationToken,
             this._transferContract,
             this._contentVersion);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -204,46 +253,98 @@ public class AppAvailableMessageImpl implements AppAvailableMessage {
 
     @Override
     public AppAvailableMessage deepCopy() {
-        AppAvailableMessageBuilder builder = new AppAvailableMessageBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public AppAvailableMessage deepCopy(CopyContext context) {
+        AppAvailableMessageBuilder builder =
+            context.preservesIds() ? new AppAvailableMessageBuilder(getId()) : new AppAvailableMessageBuilder();
+        context.register(this, builder.buildUnchecked());
         if (this._affectedResource != null) {
-            builder._affectedResource_(URI.create(this._affectedResource.toString()));
+            builder._affectedResource_(this._affectedResource);
         }
         builder._modelVersion_(this._modelVersion);
         if (this._issued != null) {
             builder._issued_((XMLGregorianCalendar) this._issued.clone());
         }
         if (this._correlationMessage != null) {
-            builder._correlationMessage_(URI.create(this._correlationMessage.toString()));
+            builder._correlationMessage_(this._correlationMessage);
         }
         if (this._issuerConnector != null) {
-            builder._issuerConnector_(URI.create(this._issuerConnector.toString()));
+            builder._issuerConnector_(this._issuerConnector);
         }
         for (URI item : this._recipientConnector) {
             if (item != null) {
-                builder._recipientConnector_(URI.create(item.toString()));
+                builder._recipientConnector_(item);
             }
         }
         if (this._senderAgent != null) {
-            builder._senderAgent_(URI.create(this._senderAgent.toString()));
+            builder._senderAgent_(this._senderAgent);
         }
         for (URI item : this._recipientAgent) {
             if (item != null) {
-                builder._recipientAgent_(URI.create(item.toString()));
+                builder._recipientAgent_(item);
             }
         }
         if (this._securityToken != null) {
-            builder._securityToken_(this._securityToken.deepCopy());
+            builder._securityToken_(context.copy(this._securityToken));
         }
         if (this._authorizationToken != null) {
-            builder._authorizationToken_(this._authorizationToken.deepCopy());
+            builder._authorizationToken_(context.copy(this._authorizationToken));
         }
         if (this._transferContract != null) {
-            builder._transferContract_(URI.create(this._transferContract.toString()));
+            builder._transferContract_(this._transferContract);
         }
         builder._contentVersion_(this._contentVersion);
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.notNull(this._affectedResource, "affectedResource");
+        validator.notNull(this._modelVersion, "modelVersion");
+        validator.notNull(this._issued, "issued");
+        validator.notNull(this._issuerConnector, "issuerConnector");
+        validator.notNull(this._senderAgent, "senderAgent");
+        validator.notNull(this._securityToken, "securityToken");
+        validator.child(this._authorizationToken);
+        validator.child(this._securityToken);
+    }
+
+    @Override
+    public AppAvailableMessage freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            Freezer.freeze(this._authorizationToken);
+            this._recipientAgent = Freezer.freezeAll(this._recipientAgent);
+            this._recipientConnector = Freezer.freezeAll(this._recipientConnector);
+            Freezer.freeze(this._securityToken);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -254,6 +355,9 @@ public class AppAvailableMessageImpl implements AppAvailableMessage {
 
     @Override
     public void setAffectedResource(URI _affectedResource_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._affectedResource = _affectedResource_;
     }
 
@@ -265,6 +369,9 @@ public class AppAvailableMessageImpl implements AppAvailableMessage {
 
     @Override
     public void setModelVersion(String _modelVersion_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._modelVersion = _modelVersion_;
     }
 
@@ -277,6 +384,9 @@ public class AppAvailableMessageImpl implements AppAvailableMessage {
 
     @Override
     public void setIssued(XMLGregorianCalendar _issued_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._issued = _issued_;
     }
 
@@ -287,6 +397,9 @@ public class AppAvailableMessageImpl implements AppAvailableMessage {
 
     @Override
     public void setCorrelationMessage(URI _correlationMessage_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._correlationMessage = _correlationMessage_;
     }
 
@@ -298,6 +411,9 @@ public class AppAvailableMessageImpl implements AppAvailableMessage {
 
     @Override
     public void setIssuerConnector(URI _issuerConnector_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._issuerConnector = _issuerConnector_;
     }
 
@@ -308,6 +424,9 @@ public class AppAvailableMessageImpl implements AppAvailableMessage {
 
     @Override
     public void setRecipientConnector(List<URI> _recipientConnector_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._recipientConnector = _recipientConnector_;
     }
 
@@ -319,6 +438,9 @@ public class AppAvailableMessageImpl implements AppAvailableMessage {
 
     @Override
     public void setSenderAgent(URI _senderAgent_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._senderAgent = _senderAgent_;
     }
 
@@ -329,6 +451,9 @@ public class AppAvailableMessageImpl implements AppAvailableMessage {
 
     @Override
     public void setRecipientAgent(List<URI> _recipientAgent_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._recipientAgent = _recipientAgent_;
     }
 
@@ -340,6 +465,9 @@ public class AppAvailableMessageImpl implements AppAvailableMessage {
 
     @Override
     public void setSecurityToken(DynamicAttributeToken _securityToken_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._securityToken = _securityToken_;
     }
 
@@ -350,6 +478,9 @@ public class AppAvailableMessageImpl implements AppAvailableMessage {
 
     @Override
     public void setAuthorizationToken(Token _authorizationToken_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._authorizationToken = _authorizationToken_;
     }
 
@@ -360,6 +491,9 @@ public class AppAvailableMessageImpl implements AppAvailableMessage {
 
     @Override
     public void setTransferContract(URI _transferContract_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._transferContract = _transferContract_;
     }
 
@@ -370,6 +504,9 @@ public class AppAvailableMessageImpl implements AppAvailableMessage {
 
     @Override
     public void setContentVersion(String _contentVersion_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._contentVersion = _contentVersion_;
     }
 }
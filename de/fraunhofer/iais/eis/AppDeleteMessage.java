@@ -18,6 +18,15 @@ public interface AppDeleteMessage extends AppNotificationMessage {
     @Beta
     public AppDeleteMessage deepCopy();
 
+    @Beta
+    public default AppDeleteMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default AppDeleteMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
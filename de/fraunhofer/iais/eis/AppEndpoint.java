@@ -23,6 +23,15 @@ public interface AppEndpoint extends Endpoint {
     @Beta
     public AppEndpoint deepCopy();
 
+    @Beta
+    public default AppEndpoint deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default AppEndpoint freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
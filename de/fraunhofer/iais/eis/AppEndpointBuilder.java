@@ -186,7 +186,8 @@ public class AppEndpointBuilder implements Builder<AppEndpoint> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -194,7 +195,21 @@ public class AppEndpointBuilder implements Builder<AppEndpoint> {
      */
     @Override
     public AppEndpoint build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(appEndpointImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(appEndpointImpl);
+        }
+        return appEndpointImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public AppEndpoint buildUnchecked() {
         return appEndpointImpl;
     }
 }
@@ -2,13 +2,15 @@ package de.fraunhofer.iais.eis;
 
 import java.math.BigInteger;
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 
@@ -32,21 +34,39 @@ public class AppEndpointImpl implements AppEndpoint {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("DataApp Endpoint", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<AppEndpointImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(AppEndpointImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment = Arrays.asList(new TypedLiteral("Description of endpoints a DataApp offers.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("DataApp Endpoint", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Description of endpoints a DataApp offers.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:accessURL", "accessURL"})
@@ -87,29 +107,48 @@ public class AppEndpointImpl implements AppEndpoint {
     protected String _path;
 
     protected AppEndpointImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("appEndpoint");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("appEndpoint"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:AppEndpoint", this.id)
+            .add("accessURL", this._accessURL)
+            .add("appEndpointPort", this._appEndpointPort)
+            .add("appEndpointProtocol", this._appEndpointProtocol)
+            .add("inboundPath", this._inboundPath)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -117,21 +156,20 @@ public class AppEndpointImpl implements AppEndpoint {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -146,17 +184,25 @@ public class AppEndpointImpl implements AppEndpoint {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._appEndpointType,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._appEndpointType,
             this._appEndpointPort,
             this._appEndpointMediaType,
             this._appEndpointProtocol,
@@ -168,6 +214,10 @@ public class AppEndpointImpl implements AppEndpoint {
             this._inboundPath,
             this._outboundPath,
             this._apiSpecifiation);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -197,16 +247,23 @@ public class AppEndpointImpl implements AppEndpoint {
 
     @Override
     public AppEndpoint deepCopy() {
-        AppEndpointBuilder builder = new AppEndpointBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public AppEndpoint deepCopy(CopyContext context) {
+        AppEndpointBuilder builder =
+            context.preservesIds() ? new AppEndpointBuilder(getId()) : new AppEndpointBuilder();
+        context.register(this, builder.buildUnchecked());
         builder._appEndpointType_(this._appEndpointType);
         builder._appEndpointPort_(this._appEndpointPort);
         if (this._appEndpointMediaType != null) {
-            builder._appEndpointMediaType_(this._appEndpointMediaType.deepCopy());
+            builder._appEndpointMediaType_(context.copy(this._appEndpointMediaType));
         }
         builder._appEndpointProtocol_(this._appEndpointProtocol);
         builder._language_(this._language);
         if (this._accessURL != null) {
-            builder._accessURL_(URI.create(this._accessURL.toString()));
+            builder._accessURL_(this._accessURL);
         }
         for (TypedLiteral item : this._endpointInformation) {
             if (item != null && item.getLanguage() != null) {
@@ -217,7 +274,7 @@ public class AppEndpointImpl implements AppEndpoint {
         }
         for (URI item : this._endpointDocumentation) {
             if (item != null) {
-                builder._endpointDocumentation_(URI.create(item.toString()));
+                builder._endpointDocumentation_(item);
             }
         }
         builder._path_(this._path);
@@ -229,6 +286,50 @@ public class AppEndpointImpl implements AppEndpoint {
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.notNull(this._appEndpointType, "appEndpointType");
+        validator.children(this._apiSpecifiation);
+        validator.child(this._appEndpointMediaType);
+        validator.child(this._appEndpointType);
+        validator.child(this._language);
+    }
+
+    @Override
+    public AppEndpoint freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            this._apiSpecifiation = Freezer.freezeAll(this._apiSpecifiation);
+            Freezer.freeze(this._appEndpointMediaType);
+            Freezer.freeze(this._appEndpointType);
+            this._endpointDocumentation = Freezer.freezeAll(this._endpointDocumentation);
+            this._endpointInformation = Freezer.freezeAll(this._endpointInformation);
+            Freezer.freeze(this._language);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -239,6 +340,9 @@ public class AppEndpointImpl implements AppEndpoint {
 
     @Override
     public void setAppEndpointType(AppEndpointType _appEndpointType_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._appEndpointType = _appEndpointType_;
     }
 
@@ -249,6 +353,9 @@ public class AppEndpointImpl implements AppEndpoint {
 
     @Override
     public void setAppEndpointPort(BigInteger _appEndpointPort_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._appEndpointPort = _appEndpointPort_;
     }
 
@@ -259,6 +366,9 @@ public class AppEndpointImpl implements AppEndpoint {
 
     @Override
     public void setAppEndpointMediaType(MediaType _appEndpointMediaType_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._appEndpointMediaType = _appEndpointMediaType_;
     }
 
@@ -269,6 +379,9 @@ public class AppEndpointImpl implements AppEndpoint {
 
     @Override
     public void setAppEndpointProtocol(String _appEndpointProtocol_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._appEndpointProtocol = _appEndpointProtocol_;
     }
 
@@ -279,6 +392,9 @@ public class AppEndpointImpl implements AppEndpoint {
 
     @Override
     public void setLanguage(Language _language_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._language = _language_;
     }
 
@@ -289,6 +405,9 @@ public class AppEndpointImpl implements AppEndpoint {
 
     @Override
     public void setAccessURL(URI _accessURL_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._accessURL = _accessURL_;
     }
 
@@ -299,6 +418,9 @@ public class AppEndpointImpl implements AppEndpoint {
 
     @Override
     public void setEndpointInformation(List<TypedLiteral> _endpointInformation_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._endpointInformation = _endpointInformation_;
     }
 
@@ -309,6 +431,9 @@ public class AppEndpointImpl implements AppEndpoint {
 
     @Override
     public void setEndpointDocumentation(List<URI> _endpointDocumentation_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._endpointDocumentation = _endpointDocumentation_;
     }
 
@@ -319,6 +444,9 @@ public class AppEndpointImpl implements AppEndpoint {
 
     @Override
     public void setPath(String _path_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._path = _path_;
     }
 
@@ -329,6 +457,9 @@ public class AppEndpointImpl implements AppEndpoint {
 
     @Override
     public void setInboundPath(String _inboundPath_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._inboundPath = _inboundPath_;
     }
 
@@ -339,6 +470,9 @@ public class AppEndpointImpl implements AppEndpoint {
 
     @Override
     public void setOutboundPath(String _outboundPath_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._outboundPath = _outboundPath_;
     }
 
@@ -349,6 +483,9 @@ public class AppEndpointImpl implements AppEndpoint {
 
     @Override
     public void setApiSpecifiation(List<IdsProtocolSpecification> _apiSpecifiation_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._apiSpecifiation = _apiSpecifiation_;
     }
 }
@@ -20,6 +20,15 @@ public interface AppEndpointType extends ModelClass {
     @Beta
     public AppEndpointType deepCopy();
 
+    @Beta
+    public default AppEndpointType deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default AppEndpointType freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /**
@@ -59,4 +68,29 @@ public interface AppEndpointType extends ModelClass {
     AppEndpointType USAGE_POLICY_ENDPOINT =
         new AppEndpointTypeBuilder(URI.create("https://w3id.org/idsa/code/USAGE_POLICY_ENDPOINT")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/CONFIG_ENDPOINT
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static AppEndpointType fromId(URI id) {
+        return id == null ? null : AppEndpointTypeImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:CONFIG_ENDPOINT).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static AppEndpointType fromString(String id) {
+        return id == null ? null : AppEndpointTypeImpl.defaultInstance(id);
+    }
+
 }
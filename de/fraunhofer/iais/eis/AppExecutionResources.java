@@ -20,6 +20,15 @@ public interface AppExecutionResources extends SecurityGuarantee {
     @Beta
     public AppExecutionResources deepCopy();
 
+    @Beta
+    public default AppExecutionResources deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default AppExecutionResources freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /** 
@@ -37,4 +46,29 @@ public interface AppExecutionResources extends SecurityGuarantee {
     AppExecutionResources APP_RESOURCES_REMOTE_VERIFICATION =
         new AppExecutionResourcesBuilder(URI.create("https://w3id.org/idsa/code/APP_RESOURCES_REMOTE_VERIFICATION")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/APP_RESOURCES_LOCAL_ENFORCEMENT
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static AppExecutionResources fromId(URI id) {
+        return id == null ? null : AppExecutionResourcesImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:APP_RESOURCES_LOCAL_ENFORCEMENT).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static AppExecutionResources fromString(String id) {
+        return id == null ? null : AppExecutionResourcesImpl.defaultInstance(id);
+    }
+
 }
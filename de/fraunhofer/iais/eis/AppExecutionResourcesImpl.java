@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 
@@ -31,47 +33,79 @@ public class AppExecutionResourcesImpl implements AppExecutionResources {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("App execution resources", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<AppExecutionResourcesImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(AppExecutionResourcesImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment = Arrays.asList(new TypedLiteral("Resource control for deployed services.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("App execution resources", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Resource control for deployed services.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     protected AppExecutionResourcesImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("appExecutionResources");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("appExecutionResources"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:AppExecutionResources", this.id).build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -79,21 +113,20 @@ public class AppExecutionResourcesImpl implements AppExecutionResources {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -108,17 +141,29 @@ public class AppExecutionResourcesImpl implements AppExecutionResources {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode());
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hashCode(this.getId());
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -131,17 +176,89 @@ public class AppExecutionResourcesImpl implements AppExecutionResources {
             return false;
         } else {
             AppExecutionResourcesImpl other = (AppExecutionResourcesImpl) obj;
-            return Objects.equals(this.id, other.id);
+            return Objects.equals(this.getId(), other.getId());
         }
     }
 
     @Override
     public AppExecutionResources deepCopy() {
-        AppExecutionResourcesBuilder builder = new AppExecutionResourcesBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
 
+    @Override
+    public AppExecutionResources deepCopy(CopyContext context) {
+        if (AppExecutionResources.fromId(this.id) == this) {
+            // default instances are shared instead of copied
+            return this;
+        }
+        AppExecutionResourcesBuilder builder =
+            context.preservesIds() ? new AppExecutionResourcesBuilder(getId()) : new AppExecutionResourcesBuilder();
+        context.register(this, builder.buildUnchecked());
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        // no constraints or referred objects to validate
+    }
+
+    @Override
+    public AppExecutionResources freeze() {
+        if (AppExecutionResources.fromId(this.id) == this) {
+            // default instances are shared globally and stay as they are
+            return this;
+        }
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
+    // lookup of the default instances as defined in the ontology
+
+    static AppExecutionResources defaultInstance(String id) {
+        if (id.startsWith("idsc:")) {
+            id = "https://w3id.org/idsa/code/" + id.substring(5);
+        }
+        return DefaultInstances.BY_ID.get(id);
+    }
+
+    /**
+     * Index of the default instances by their identifier. Held in a nested class, so that it is only
+     * built on first lookup, after all default instances of AppExecutionResources have been initialized.
+     */
+    private static class DefaultInstances {
+
+        private static final Map<String, AppExecutionResources> BY_ID = new HashMap<>(5);
+
+        static {
+            BY_ID.put(AppExecutionResources.APP_RESOURCES_LOCAL_ENFORCEMENT.getId().toString(), AppExecutionResources.APP_RESOURCES_LOCAL_ENFORCEMENT);
+            BY_ID.put(AppExecutionResources.APP_RESOURCES_NONE.getId().toString(), AppExecutionResources.APP_RESOURCES_NONE);
+            BY_ID.put(AppExecutionResources.APP_RESOURCES_REMOTE_VERIFICATION.getId().toString(), AppExecutionResources.APP_RESOURCES_REMOTE_VERIFICATION);
+        }
+    }
+
 }
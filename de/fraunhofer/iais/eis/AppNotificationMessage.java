@@ -21,4 +21,13 @@ public interface AppNotificationMessage extends ResourceNotificationMessage {
     @Beta
     public AppNotificationMessage deepCopy();
 
+    @Beta
+    public default AppNotificationMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default AppNotificationMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
 }
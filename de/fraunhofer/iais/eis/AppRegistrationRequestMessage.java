@@ -25,6 +25,15 @@ public interface AppRegistrationRequestMessage extends RequestMessage {
     @Beta
     public AppRegistrationRequestMessage deepCopy();
 
+    @Beta
+    public default AppRegistrationRequestMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default AppRegistrationRequestMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -19,6 +19,15 @@ public interface AppRegistrationResponseMessage extends ResponseMessage {
     @Beta
     public AppRegistrationResponseMessage deepCopy();
 
+    @Beta
+    public default AppRegistrationResponseMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default AppRegistrationResponseMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
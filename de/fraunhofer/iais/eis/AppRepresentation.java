@@ -21,6 +21,15 @@ public interface AppRepresentation extends SoftwareRepresentation {
     @Beta
     public AppRepresentation deepCopy();
 
+    @Beta
+    public default AppRepresentation deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default AppRepresentation freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -187,7 +187,8 @@ public class AppRepresentationBuilder implements Builder<AppRepresentation> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -195,7 +196,21 @@ public class AppRepresentationBuilder implements Builder<AppRepresentation> {
      */
     @Override
     public AppRepresentation build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(appRepresentationImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(appRepresentationImpl);
+        }
+        return appRepresentationImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public AppRepresentation buildUnchecked() {
         return appRepresentationImpl;
     }
 }
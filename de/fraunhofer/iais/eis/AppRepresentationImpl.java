@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 import javax.xml.datatype.XMLGregorianCalendar;
@@ -33,21 +35,39 @@ public class AppRepresentationImpl implements AppRepresentation {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("App Representation", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<AppRepresentationImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(AppRepresentationImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment = Arrays.asList(new TypedLiteral("App representation", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("App Representation", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("App representation", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:created", "created"})
@@ -87,29 +107,48 @@ public class AppRepresentationImpl implements AppRepresentation {
     protected List<TypedLiteral> _title = new ArrayList<>();
 
     protected AppRepresentationImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("appRepresentation");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("appRepresentation"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:AppRepresentation", this.id)
+            .add("title", this._title)
+            .add("created", this._created)
+            .add("dataAppDistributionService", this._dataAppDistributionService)
+            .add("dataAppRuntimeEnvironment", this._dataAppRuntimeEnvironment)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -117,21 +156,20 @@ public class AppRepresentationImpl implements AppRepresentation {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -146,17 +184,25 @@ public class AppRepresentationImpl implements AppRepresentation {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._dataAppInformation,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._dataAppInformation,
             this._dataAppDistributionService,
             this._dataAppRuntimeEnvironment,
             this._instance,
@@ -168,6 +214,10 @@ public class AppRepresentationImpl implements AppRepresentation {
             this._title,
             this._description,
             this._shapesGraph);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -197,24 +247,31 @@ public class AppRepresentationImpl implements AppRepresentation {
 
     @Override
     public AppRepresentation deepCopy() {
-        AppRepresentationBuilder builder = new AppRepresentationBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public AppRepresentation deepCopy(CopyContext context) {
+        AppRepresentationBuilder builder =
+            context.preservesIds() ? new AppRepresentationBuilder(getId()) : new AppRepresentationBuilder();
+        context.register(this, builder.buildUnchecked());
         if (this._dataAppInformation != null) {
-            builder._dataAppInformation_(this._dataAppInformation.deepCopy());
+            builder._dataAppInformation_(context.copy(this._dataAppInformation));
         }
         if (this._dataAppDistributionService != null) {
-            builder._dataAppDistributionService_(URI.create(this._dataAppDistributionService.toString()));
+            builder._dataAppDistributionService_(this._dataAppDistributionService);
         }
         builder._dataAppRuntimeEnvironment_(this._dataAppRuntimeEnvironment);
         for (RepresentationInstance item : this._instance) {
             if (item != null) {
-                builder._instance_(item.deepCopy());
+                builder._instance_(context.copy(item));
             }
         }
         if (this._mediaType != null) {
-            builder._mediaType_(this._mediaType.deepCopy());
+            builder._mediaType_(context.copy(this._mediaType));
         }
         if (this._representationStandard != null) {
-            builder._representationStandard_(URI.create(this._representationStandard.toString()));
+            builder._representationStandard_(this._representationStandard);
         }
         builder._language_(this._language);
         if (this._created != null) {
@@ -238,11 +295,54 @@ public class AppRepresentationImpl implements AppRepresentation {
             }
         }
         if (this._shapesGraph != null) {
-            builder._shapesGraph_(URI.create(this._shapesGraph.toString()));
+            builder._shapesGraph_(this._shapesGraph);
         }
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.child(this._dataAppInformation);
+        validator.children(this._instance);
+        validator.child(this._language);
+        validator.child(this._mediaType);
+    }
+
+    @Override
+    public AppRepresentation freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            Freezer.freeze(this._dataAppInformation);
+            this._description = Freezer.freezeAll(this._description);
+            this._instance = Freezer.freezeAll(this._instance);
+            Freezer.freeze(this._language);
+            Freezer.freeze(this._mediaType);
+            this._title = Freezer.freezeAll(this._title);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -252,6 +352,9 @@ public class AppRepresentationImpl implements AppRepresentation {
 
     @Override
     public void setDataAppInformation(DataApp _dataAppInformation_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._dataAppInformation = _dataAppInformation_;
     }
 
@@ -262,6 +365,9 @@ public class AppRepresentationImpl implements AppRepresentation {
 
     @Override
     public void setDataAppDistributionService(URI _dataAppDistributionService_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._dataAppDistributionService = _dataAppDistributionService_;
     }
 
@@ -272,6 +378,9 @@ public class AppRepresentationImpl implements AppRepresentation {
 
     @Override
     public void setDataAppRuntimeEnvironment(String _dataAppRuntimeEnvironment_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._dataAppRuntimeEnvironment = _dataAppRuntimeEnvironment_;
     }
 
@@ -282,6 +391,9 @@ public class AppRepresentationImpl implements AppRepresentation {
 
     @Override
     public void setInstance(List<RepresentationInstance> _instance_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._instance = _instance_;
     }
 
@@ -292,6 +404,9 @@ public class AppRepresentationImpl implements AppRepresentation {
 
     @Override
     public void setMediaType(MediaType _mediaType_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._mediaType = _mediaType_;
     }
 
@@ -302,6 +417,9 @@ public class AppRepresentationImpl implements AppRepresentation {
 
     @Override
     public void setRepresentationStandard(URI _representationStandard_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._representationStandard = _representationStandard_;
     }
 
@@ -312,6 +430,9 @@ public class AppRepresentationImpl implements AppRepresentation {
 
     @Override
     public void setLanguage(Language _language_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._language = _language_;
     }
 
@@ -323,6 +444,9 @@ public class AppRepresentationImpl implements AppRepresentation {
 
     @Override
     public void setCreated(XMLGregorianCalendar _created_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._created = _created_;
     }
 
@@ -334,6 +458,9 @@ public class AppRepresentationImpl implements AppRepresentation {
 
     @Override
     public void setModified(XMLGregorianCalendar _modified_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._modified = _modified_;
     }
 
@@ -344,6 +471,9 @@ public class AppRepresentationImpl implements AppRepresentation {
 
     @Override
     public void setTitle(List<TypedLiteral> _title_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._title = _title_;
     }
 
@@ -354,6 +484,9 @@ public class AppRepresentationImpl implements AppRepresentation {
 
     @Override
     public void setDescription(List<TypedLiteral> _description_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._description = _description_;
     }
 
@@ -364,6 +497,9 @@ public class AppRepresentationImpl implements AppRepresentation {
 
     @Override
     public void setShapesGraph(URI _shapesGraph_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._shapesGraph = _shapesGraph_;
     }
 
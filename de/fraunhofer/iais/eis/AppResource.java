@@ -18,6 +18,15 @@ public interface AppResource extends Resource {
     @Beta
     public AppResource deepCopy();
 
+    @Beta
+    public default AppResource deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default AppResource freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
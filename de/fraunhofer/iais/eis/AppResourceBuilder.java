@@ -506,7 +506,8 @@ public class AppResourceBuilder implements Builder<AppResource> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -514,7 +515,21 @@ public class AppResourceBuilder implements Builder<AppResource> {
      */
     @Override
     public AppResource build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(appResourceImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(appResourceImpl);
+        }
+        return appResourceImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public AppResource buildUnchecked() {
         return appResourceImpl;
     }
 }
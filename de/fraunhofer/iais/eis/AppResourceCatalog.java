@@ -22,6 +22,15 @@ public interface AppResourceCatalog extends Catalog {
     @Beta
     public AppResourceCatalog deepCopy();
 
+    @Beta
+    public default AppResourceCatalog deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default AppResourceCatalog freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
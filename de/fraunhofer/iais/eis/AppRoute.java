@@ -30,6 +30,15 @@ public interface AppRoute extends ModelClass {
     @Beta
     public AppRoute deepCopy();
 
+    @Beta
+    public default AppRoute deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default AppRoute freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -18,6 +18,15 @@ public interface AppStore extends Connector {
     @Beta
     public AppStore deepCopy();
 
+    @Beta
+    public default AppStore deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default AppStore freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
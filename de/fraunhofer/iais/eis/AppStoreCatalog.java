@@ -18,6 +18,15 @@ public interface AppStoreCatalog extends ConnectorCatalog {
     @Beta
     public AppStoreCatalog deepCopy();
 
+    @Beta
+    public default AppStoreCatalog deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default AppStoreCatalog freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -42,7 +42,8 @@ public class AppStoreCatalogBuilder implements Builder<AppStoreCatalog> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -50,7 +51,21 @@ public class AppStoreCatalogBuilder implements Builder<AppStoreCatalog> {
      */
     @Override
     public AppStoreCatalog build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(appStoreCatalogImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(appStoreCatalogImpl);
+        }
+        return appStoreCatalogImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public AppStoreCatalog buildUnchecked() {
         return appStoreCatalogImpl;
     }
 }
@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
@@ -32,21 +34,39 @@ public class AppStoreImpl implements AppStore {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("App Store", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<AppStoreImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(AppStoreImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment = Arrays.asList(new TypedLiteral("Secure platform for distributing Data Apps.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("App Store", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Secure platform for distributing Data Apps.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:authInfo", "authInfo"})
@@ -111,29 +131,47 @@ public class AppStoreImpl implements AppStore {
     protected String _version;
 
     protected AppStoreImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("appStore");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("appStore"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:AppStore", this.id)
+            .add("title", this._title)
+            .add("outboundModelVersion", this._outboundModelVersion)
+            .add("version", this._version)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -141,21 +179,20 @@ public class AppStoreImpl implements AppStore {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -170,17 +207,25 @@ public class AppStoreImpl implements AppStore {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._hasDefaultEndpoint,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._hasDefaultEndpoint,
             this._hasEndpoint,
             this._authInfo,
             this._resourceCatalog,
@@ -199,6 +244,10 @@ public class AppStoreImpl implements AppStore {
             this._version,
             this._title,
             this._description);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -235,26 +284,33 @@ public class AppStoreImpl implements AppStore {
 
     @Override
     public AppStore deepCopy() {
-        AppStoreBuilder builder = new AppStoreBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public AppStore deepCopy(CopyContext context) {
+        AppStoreBuilder builder =
+            context.preservesIds() ? new AppStoreBuilder(getId()) : new AppStoreBuilder();
+        context.register(this, builder.buildUnchecked());
         if (this._hasDefaultEndpoint != null) {
-            builder._hasDefaultEndpoint_(this._hasDefaultEndpoint.deepCopy());
+            builder._hasDefaultEndpoint_(context.copy(this._hasDefaultEndpoint));
         }
         for (ConnectorEndpoint item : this._hasEndpoint) {
             if (item != null) {
-                builder._hasEndpoint_(item.deepCopy());
+                builder._hasEndpoint_(context.copy(item));
             }
         }
         if (this._authInfo != null) {
-            builder._authInfo_(this._authInfo.deepCopy());
+            builder._authInfo_(context.copy(this._authInfo));
         }
         for (ResourceCatalog item : this._resourceCatalog) {
             if (item != null) {
-                builder._resourceCatalog_(item.deepCopy());
+                builder._resourceCatalog_(context.copy(item));
             }
         }
         for (URI item : this._hasAgent) {
             if (item != null) {
-                builder._hasAgent_(URI.create(item.toString()));
+                builder._hasAgent_(item);
             }
         }
         builder._securityProfile_(this._securityProfile);
@@ -262,29 +318,29 @@ public class AppStoreImpl implements AppStore {
             builder._extendedGuarantee_(item);
         }
         if (this._maintainerAsObject != null) {
-            builder._maintainerAsObject_(this._maintainerAsObject.deepCopy());
+            builder._maintainerAsObject_(context.copy(this._maintainerAsObject));
         }
         if (this._maintainerAsUri != null) {
-            builder._maintainerAsUri_(URI.create(this._maintainerAsUri.toString()));
+            builder._maintainerAsUri_(this._maintainerAsUri);
         }
         if (this._curatorAsObject != null) {
-            builder._curatorAsObject_(this._curatorAsObject.deepCopy());
+            builder._curatorAsObject_(context.copy(this._curatorAsObject));
         }
         if (this._curatorAsUri != null) {
-            builder._curatorAsUri_(URI.create(this._curatorAsUri.toString()));
+            builder._curatorAsUri_(this._curatorAsUri);
         }
         if (this._physicalLocation != null) {
-            builder._physicalLocation_(this._physicalLocation.deepCopy());
+            builder._physicalLocation_(context.copy(this._physicalLocation));
         }
         for (String item : this._inboundModelVersion) {
             builder._inboundModelVersion_(item);
         }
         builder._outboundModelVersion_(this._outboundModelVersion);
         if (this._componentCertification != null) {
-            builder._componentCertification_(this._componentCertification.deepCopy());
+            builder._componentCertification_(context.copy(this._componentCertification));
         }
         if (this._publicKey != null) {
-            builder._publicKey_(this._publicKey.deepCopy());
+            builder._publicKey_(context.copy(this._publicKey));
         }
         builder._version_(this._version);
         for (TypedLiteral item : this._title) {
@@ -304,6 +360,70 @@ public class AppStoreImpl implements AppStore {
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.notNull(this._hasDefaultEndpoint, "hasDefaultEndpoint");
+        validator.notNull(this._securityProfile, "securityProfile");
+        validator.notNull(this._curatorAsObject != null ? this._curatorAsObject : this._curatorAsUri, "curator");
+        validator.notEmpty(this._inboundModelVersion, "inboundModelVersion");
+        validator.notNull(this._outboundModelVersion, "outboundModelVersion");
+        validator.child(this._authInfo);
+        validator.child(this._componentCertification);
+        validator.child(this._curatorAsObject);
+        validator.children(this._extendedGuarantee);
+        validator.child(this._hasDefaultEndpoint);
+        validator.children(this._hasEndpoint);
+        validator.child(this._maintainerAsObject);
+        validator.child(this._physicalLocation);
+        validator.child(this._publicKey);
+        validator.children(this._resourceCatalog);
+        validator.child(this._securityProfile);
+    }
+
+    @Override
+    public AppStore freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            Freezer.freeze(this._authInfo);
+            Freezer.freeze(this._componentCertification);
+            Freezer.freeze(this._curatorAsObject);
+            this._description = Freezer.freezeAll(this._description);
+            this._extendedGuarantee = Freezer.freezeAll(this._extendedGuarantee);
+            this._hasAgent = Freezer.freezeAll(this._hasAgent);
+            Freezer.freeze(this._hasDefaultEndpoint);
+            this._hasEndpoint = Freezer.freezeAll(this._hasEndpoint);
+            this._inboundModelVersion = Freezer.freezeAll(this._inboundModelVersion);
+            Freezer.freeze(this._maintainerAsObject);
+            Freezer.freeze(this._physicalLocation);
+            Freezer.freeze(this._publicKey);
+            this._resourceCatalog = Freezer.freezeAll(this._resourceCatalog);
+            Freezer.freeze(this._securityProfile);
+            this._title = Freezer.freezeAll(this._title);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -314,6 +434,9 @@ public class AppStoreImpl implements AppStore {
 
     @Override
     public void setHasDefaultEndpoint(ConnectorEndpoint _hasDefaultEndpoint_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._hasDefaultEndpoint = _hasDefaultEndpoint_;
     }
 
@@ -324,6 +447,9 @@ public class AppStoreImpl implements AppStore {
 
     @Override
     public void setHasEndpoint(List<ConnectorEndpoint> _hasEndpoint_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._hasEndpoint = _hasEndpoint_;
     }
 
@@ -334,6 +460,9 @@ public class AppStoreImpl implements AppStore {
 
     @Override
     public void setAuthInfo(AuthInfo _authInfo_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._authInfo = _authInfo_;
     }
 
@@ -344,6 +473,9 @@ public class AppStoreImpl implements AppStore {
 
     @Override
     public void setResourceCatalog(List<ResourceCatalog> _resourceCatalog_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._resourceCatalog = _resourceCatalog_;
     }
 
@@ -354,6 +486,9 @@ public class AppStoreImpl implements AppStore {
 
     @Override
     public void setHasAgent(List<URI> _hasAgent_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._hasAgent = _hasAgent_;
     }
 
@@ -365,6 +500,9 @@ public class AppStoreImpl implements AppStore {
 
     @Override
     public void setSecurityProfile(SecurityProfile _securityProfile_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._securityProfile = _securityProfile_;
     }
 
@@ -375,6 +513,9 @@ public class AppStoreImpl implements AppStore {
 
     @Override
     public void setExtendedGuarantee(List<SecurityGuarantee> _extendedGuarantee_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._extendedGuarantee = _extendedGuarantee_;
     }
 
@@ -385,6 +526,9 @@ public class AppStoreImpl implements AppStore {
 
     @Override
     public void setMaintainerAsObject(Participant _maintainer_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._maintainerAsObject = _maintainer_;
     }
 
@@ -395,6 +539,9 @@ public class AppStoreImpl implements AppStore {
 
     @Override
     public void setMaintainerAsUri(URI _maintainer_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._maintainerAsUri = _maintainer_;
     }
 
@@ -416,6 +563,9 @@ public class AppStoreImpl implements AppStore {
 
     @Override
     public void setCuratorAsObject(Participant _curator_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._curatorAsObject = _curator_;
     }
 
@@ -426,6 +576,9 @@ public class AppStoreImpl implements AppStore {
 
     @Override
     public void setCuratorAsUri(URI _curator_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._curatorAsUri = _curator_;
     }
 
@@ -448,6 +601,9 @@ public class AppStoreImpl implements AppStore {
 
     @Override
     public void setPhysicalLocation(Location _physicalLocation_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._physicalLocation = _physicalLocation_;
     }
 
@@ -459,6 +615,9 @@ public class AppStoreImpl implements AppStore {
 
     @Override
     public void setInboundModelVersion(List<String> _inboundModelVersion_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._inboundModelVersion = _inboundModelVersion_;
     }
 
@@ -470,6 +629,9 @@ public class AppStoreImpl implements AppStore {
 
     @Override
     public void setOutboundModelVersion(String _outboundModelVersion_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._outboundModelVersion = _outboundModelVersion_;
     }
 
@@ -480,6 +642,9 @@ public class AppStoreImpl implements AppStore {
 
     @Override
     public void setComponentCertification(ComponentCertification _componentCertification_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._componentCertification = _componentCertification_;
     }
 
@@ -490,6 +655,9 @@ public class AppStoreImpl implements AppStore {
 
     @Override
     public void setPublicKey(PublicKey _publicKey_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._publicKey = _publicKey_;
     }
 
@@ -500,6 +668,9 @@ public class AppStoreImpl implements AppStore {
 
     @Override
     public void setVersion(String _version_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._version = _version_;
     }
 
@@ -510,6 +681,9 @@ public class AppStoreImpl implements AppStore {
 
     @Override
     public void setTitle(List<TypedLiteral> _title_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._title = _title_;
     }
 
@@ -520,6 +694,9 @@ public class AppStoreImpl implements AppStore {
 
     @Override
     public void setDescription(List<TypedLiteral> _description_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._description = _description_;
     }
 }
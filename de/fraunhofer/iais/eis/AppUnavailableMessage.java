@@ -18,6 +18,15 @@ public interface AppUnavailableMessage extends AppNotificationMessage {
     @Beta
     public AppUnavailableMessage deepCopy();
 
+    @Beta
+    public default AppUnavailableMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default AppUnavailableMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
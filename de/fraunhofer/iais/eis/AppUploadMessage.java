@@ -30,6 +30,15 @@ public interface AppUploadMessage extends UploadMessage {
     @Beta
     public AppUploadMessage deepCopy();
 
+    @Beta
+    public default AppUploadMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default AppUploadMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
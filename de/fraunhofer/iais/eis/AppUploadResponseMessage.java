@@ -18,6 +18,15 @@ public interface AppUploadResponseMessage extends UploadResponseMessage {
     @Beta
     public AppUploadResponseMessage deepCopy();
 
+    @Beta
+    public default AppUploadResponseMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default AppUploadResponseMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
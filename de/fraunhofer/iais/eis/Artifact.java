@@ -25,6 +25,15 @@ public interface Artifact extends Asset, RepresentationInstance {
     @Beta
     public Artifact deepCopy();
 
+    @Beta
+    public default Artifact deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Artifact freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
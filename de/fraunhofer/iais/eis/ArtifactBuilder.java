@@ -77,7 +77,8 @@ public class ArtifactBuilder implements Builder<Artifact> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -85,7 +86,21 @@ public class ArtifactBuilder implements Builder<Artifact> {
      */
     @Override
     public Artifact build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(artifactImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(artifactImpl);
+        }
+        return artifactImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public Artifact buildUnchecked() {
         return artifactImpl;
     }
 }
@@ -2,13 +2,15 @@ package de.fraunhofer.iais.eis;
 
 import java.math.BigInteger;
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 import javax.xml.datatype.XMLGregorianCalendar;
@@ -35,23 +37,39 @@ public class ArtifactImpl implements Artifact {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Artifact", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<ArtifactImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(ArtifactImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment = Arrays.asList(new TypedLiteral(
-        "Instance of a Representation materialized at a partiuclar version and point in time. Possesses characteristics like file name, size, creation date etc.",
-        "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Artifact", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Instance of a Representation materialized at a partiuclar version and point in time. Possesses characteristics like file name, size, creation date etc.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:byteSize", "byteSize"})
@@ -70,29 +88,48 @@ public class ArtifactImpl implements Artifact {
     protected String _fileName;
 
     protected ArtifactImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("artifact");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("artifact"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:Artifact", this.id)
+            .add("byteSize", this._byteSize)
+            .add("checkSum", this._checkSum)
+            .add("creationDate", this._creationDate)
+            .add("duration", this._duration)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -100,21 +137,20 @@ public class ArtifactImpl implements Artifact {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -129,21 +165,33 @@ public class ArtifactImpl implements Artifact {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._byteSize,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._byteSize,
             this._fileName,
             this._creationDate,
             this._checkSum,
             this._duration);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -166,7 +214,14 @@ public class ArtifactImpl implements Artifact {
 
     @Override
     public Artifact deepCopy() {
-        ArtifactBuilder builder = new ArtifactBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public Artifact deepCopy(CopyContext context) {
+        ArtifactBuilder builder =
+            context.preservesIds() ? new ArtifactBuilder(getId()) : new ArtifactBuilder();
+        context.register(this, builder.buildUnchecked());
         builder._byteSize_(this._byteSize);
         builder._fileName_(this._fileName);
         if (this._creationDate != null) {
@@ -177,6 +232,40 @@ public class ArtifactImpl implements Artifact {
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        // no constraints or referred objects to validate
+    }
+
+    @Override
+    public Artifact freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -186,6 +275,9 @@ public class ArtifactImpl implements Artifact {
 
     @Override
     public void setByteSize(BigInteger _byteSize_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._byteSize = _byteSize_;
     }
 
@@ -196,6 +288,9 @@ public class ArtifactImpl implements Artifact {
 
     @Override
     public void setFileName(String _fileName_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._fileName = _fileName_;
     }
 
@@ -207,6 +302,9 @@ public class ArtifactImpl implements Artifact {
 
     @Override
     public void setCreationDate(XMLGregorianCalendar _creationDate_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._creationDate = _creationDate_;
     }
 
@@ -217,6 +315,9 @@ public class ArtifactImpl implements Artifact {
 
     @Override
     public void setCheckSum(String _checkSum_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._checkSum = _checkSum_;
     }
 
@@ -227,6 +328,9 @@ public class ArtifactImpl implements Artifact {
 
     @Override
     public void setDuration(java.math.BigDecimal _duration_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._duration = _duration_;
     }
 
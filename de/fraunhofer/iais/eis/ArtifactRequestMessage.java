@@ -24,6 +24,15 @@ public interface ArtifactRequestMessage extends RequestMessage {
     @Beta
     public ArtifactRequestMessage deepCopy();
 
+    @Beta
+    public default ArtifactRequestMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ArtifactRequestMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -19,6 +19,15 @@ public interface ArtifactResponseMessage extends ResponseMessage {
     @Beta
     public ArtifactResponseMessage deepCopy();
 
+    @Beta
+    public default ArtifactResponseMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ArtifactResponseMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
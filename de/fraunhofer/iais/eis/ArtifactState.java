@@ -20,6 +20,15 @@ public interface ArtifactState extends ModelClass {
     @Beta
     public ArtifactState deepCopy();
 
+    @Beta
+    public default ArtifactState deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ArtifactState freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /**
@@ -43,4 +52,29 @@ public interface ArtifactState extends ModelClass {
      */
     ArtifactState PSEUDONYMIZED = new ArtifactStateBuilder(URI.create("https://w3id.org/idsa/code/PSEUDONYMIZED")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/ANONYMIZED
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static ArtifactState fromId(URI id) {
+        return id == null ? null : ArtifactStateImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:ANONYMIZED).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static ArtifactState fromString(String id) {
+        return id == null ? null : ArtifactStateImpl.defaultInstance(id);
+    }
+
 }
@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 
@@ -31,47 +33,79 @@ public class ArtifactStateImpl implements ArtifactState {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Artifact State", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<ArtifactStateImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(ArtifactStateImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment = Arrays.asList(new TypedLiteral("The state which an ids:Artifact may have or not.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Artifact State", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("The state which an ids:Artifact may have or not.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     protected ArtifactStateImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("artifactState");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("artifactState"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:ArtifactState", this.id).build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -79,21 +113,20 @@ public class ArtifactStateImpl implements ArtifactState {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -108,17 +141,29 @@ public class ArtifactStateImpl implements ArtifactState {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode());
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hashCode(this.getId());
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -131,15 +176,88 @@ public class ArtifactStateImpl implements ArtifactState {
             return false;
         } else {
             ArtifactStateImpl other = (ArtifactStateImpl) obj;
-            return Objects.equals(this.id, other.id);
+            return Objects.equals(this.getId(), other.getId());
         }
     }
 
     @Override
     public ArtifactState deepCopy() {
-        ArtifactStateBuilder builder = new ArtifactStateBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
 
+    @Override
+    public ArtifactState deepCopy(CopyContext context) {
+        if (ArtifactState.fromId(this.id) == this) {
+            // default instances are shared instead of copied
+            return this;
+        }
+        ArtifactStateBuilder builder =
+            context.preservesIds() ? new ArtifactStateBuilder(getId()) : new ArtifactStateBuilder();
+        context.register(this, builder.buildUnchecked());
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        // no constraints or referred objects to validate
+    }
+
+    @Override
+    public ArtifactState freeze() {
+        if (ArtifactState.fromId(this.id) == this) {
+            // default instances are shared globally and stay as they are
+            return this;
+        }
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
+    // lookup of the default instances as defined in the ontology
+
+    static ArtifactState defaultInstance(String id) {
+        if (id.startsWith("idsc:")) {
+            id = "https://w3id.org/idsa/code/" + id.substring(5);
+        }
+        return DefaultInstances.BY_ID.get(id);
+    }
+
+    /**
+     * Index of the default instances by their identifier. Held in a nested class, so that it is only
+     * built on first lookup, after all default instances of ArtifactState have been initialized.
+     */
+    private static class DefaultInstances {
+
+        private static final Map<String, ArtifactState> BY_ID = new HashMap<>(6);
+
+        static {
+            BY_ID.put(ArtifactState.ANONYMIZED.getId().toString(), ArtifactState.ANONYMIZED);
+            BY_ID.put(ArtifactState.COMBINED.getId().toString(), ArtifactState.COMBINED);
+            BY_ID.put(ArtifactState.ENCRYPTED.getId().toString(), ArtifactState.ENCRYPTED);
+            BY_ID.put(ArtifactState.PSEUDONYMIZED.getId().toString(), ArtifactState.PSEUDONYMIZED);
+        }
+    }
+
 }
@@ -22,4 +22,13 @@ public interface Asset extends ModelClass {
     @Beta
     public Asset deepCopy();
 
+    @Beta
+    public default Asset deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Asset freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
 }
@@ -21,6 +21,15 @@ public interface AssetCollection extends Asset {
     @Beta
     public AssetCollection deepCopy();
 
+    @Beta
+    public default AssetCollection deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default AssetCollection freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -20,6 +20,15 @@ public interface Audience extends ModelClass {
     @Beta
     public Audience deepCopy();
 
+    @Beta
+    public default Audience deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Audience freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /**
@@ -28,4 +37,29 @@ public interface Audience extends ModelClass {
     Audience IDS_CONNECTOR_ATTRIBUTES_ALL =
         new AudienceBuilder(URI.create("https://w3id.org/idsa/code/IDS_CONNECTOR_ATTRIBUTES_ALL")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/IDS_CONNECTOR_ATTRIBUTES_ALL
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static Audience fromId(URI id) {
+        return id == null ? null : AudienceImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:IDS_CONNECTOR_ATTRIBUTES_ALL).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static Audience fromString(String id) {
+        return id == null ? null : AudienceImpl.defaultInstance(id);
+    }
+
 }
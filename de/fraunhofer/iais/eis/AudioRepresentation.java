@@ -19,6 +19,15 @@ public interface AudioRepresentation extends Representation {
     @Beta
     public AudioRepresentation deepCopy();
 
+    @Beta
+    public default AudioRepresentation deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default AudioRepresentation freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 import javax.xml.datatype.XMLGregorianCalendar;
@@ -33,21 +35,39 @@ public class AudioRepresentationImpl implements AudioRepresentation {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Audio Representation", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<AudioRepresentationImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(AudioRepresentationImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment = Arrays.asList(new TypedLiteral("Audio representation", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Audio Representation", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Audio representation", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:created", "created"})
@@ -81,29 +101,48 @@ public class AudioRepresentationImpl implements AudioRepresentation {
     protected List<TypedLiteral> _title = new ArrayList<>();
 
     protected AudioRepresentationImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("audioRepresentation");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("audioRepresentation"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:AudioRepresentation", this.id)
+            .add("title", this._title)
+            .add("created", this._created)
+            .add("modified", this._modified)
+            .add("representationStandard", this._representationStandard)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -111,21 +150,20 @@ public class AudioRepresentationImpl implements AudioRepresentation {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -140,17 +178,25 @@ public class AudioRepresentationImpl implements AudioRepresentation {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._samplingRate,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._samplingRate,
             this._instance,
             this._mediaType,
             this._representationStandard,
@@ -160,6 +206,10 @@ public class AudioRepresentationImpl implements AudioRepresentation {
             this._title,
             this._description,
             this._shapesGraph);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -187,18 +237,25 @@ public class AudioRepresentationImpl implements AudioRepresentation {
 
     @Override
     public AudioRepresentation deepCopy() {
-        AudioRepresentationBuilder builder = new AudioRepresentationBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public AudioRepresentation deepCopy(CopyContext context) {
+        AudioRepresentationBuilder builder =
+            context.preservesIds() ? new AudioRepresentationBuilder(getId()) : new AudioRepresentationBuilder();
+        context.register(this, builder.buildUnchecked());
         builder._samplingRate_(this._samplingRate);
         for (RepresentationInstance item : this._instance) {
             if (item != null) {
-                builder._instance_(item.deepCopy());
+                builder._instance_(context.copy(item));
             }
         }
         if (this._mediaType != null) {
-            builder._mediaType_(this._mediaType.deepCopy());
+            builder._mediaType_(context.copy(this._mediaType));
         }
         if (this._representationStandard != null) {
-            builder._representationStandard_(URI.create(this._representationStandard.toString()));
+            builder._representationStandard_(this._representationStandard);
         }
         builder._language_(this._language);
         if (this._created != null) {
@@ -222,11 +279,52 @@ public class AudioRepresentationImpl implements AudioRepresentation {
             }
         }
         if (this._shapesGraph != null) {
-            builder._shapesGraph_(URI.create(this._shapesGraph.toString()));
+            builder._shapesGraph_(this._shapesGraph);
         }
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.children(this._instance);
+        validator.child(this._language);
+        validator.child(this._mediaType);
+    }
+
+    @Override
+    public AudioRepresentation freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            this._description = Freezer.freezeAll(this._description);
+            this._instance = Freezer.freezeAll(this._instance);
+            Freezer.freeze(this._language);
+            Freezer.freeze(this._mediaType);
+            this._title = Freezer.freezeAll(this._title);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -236,6 +334,9 @@ public class AudioRepresentationImpl implements AudioRepresentation {
 
     @Override
     public void setSamplingRate(java.math.BigDecimal _samplingRate_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._samplingRate = _samplingRate_;
     }
 
@@ -246,6 +347,9 @@ public class AudioRepresentationImpl implements AudioRepresentation {
 
     @Override
     public void setInstance(List<RepresentationInstance> _instance_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._instance = _instance_;
     }
 
@@ -256,6 +360,9 @@ public class AudioRepresentationImpl implements AudioRepresentation {
 
     @Override
     public void setMediaType(MediaType _mediaType_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._mediaType = _mediaType_;
     }
 
@@ -266,6 +373,9 @@ public class AudioRepresentationImpl implements AudioRepresentation {
 
     @Override
     public void setRepresentationStandard(URI _representationStandard_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._representationStandard = _representationStandard_;
     }
 
@@ -276,6 +386,9 @@ public class AudioRepresentationImpl implements AudioRepresentation {
 
     @Override
     public void setLanguage(Language _language_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._language = _language_;
     }
 
@@ -287,6 +400,9 @@ public class AudioRepresentationImpl implements AudioRepresentation {
 
     @Override
     public void setCreated(XMLGregorianCalendar _created_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._created = _created_;
     }
 
@@ -298,6 +414,9 @@ public class AudioRepresentationImpl implements AudioRepresentation {
 
     @Override
     public void setModified(XMLGregorianCalendar _modified_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._modified = _modified_;
     }
 
@@ -308,6 +427,9 @@ public class AudioRepresentationImpl implements AudioRepresentation {
 
     @Override
     public void setTitle(List<TypedLiteral> _title_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._title = _title_;
     }
 
@@ -318,6 +440,9 @@ public class AudioRepresentationImpl implements AudioRepresentation {
 
     @Override
     public void setDescription(List<TypedLiteral> _description_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._description = _description_;
     }
 
@@ -328,6 +453,9 @@ public class AudioRepresentationImpl implements AudioRepresentation {
 
     @Override
     public void setShapesGraph(URI _shapesGraph_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._shapesGraph = _shapesGraph_;
     }
 
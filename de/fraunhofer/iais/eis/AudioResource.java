@@ -18,6 +18,15 @@ public interface AudioResource extends Resource {
     @Beta
     public AudioResource deepCopy();
 
+    @Beta
+    public default AudioResource deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default AudioResource freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -506,7 +506,8 @@ public class AudioResourceBuilder implements Builder<AudioResource> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -514,7 +515,21 @@ public class AudioResourceBuilder implements Builder<AudioResource> {
      */
     @Override
     public AudioResource build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(audioResourceImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(audioResourceImpl);
+        }
+        return audioResourceImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public AudioResource buildUnchecked() {
         return audioResourceImpl;
     }
 }
@@ -21,6 +21,15 @@ public interface AuditGuarantee extends SecurityGuarantee {
     @Beta
     public AuditGuarantee deepCopy();
 
+    @Beta
+    public default AuditGuarantee deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default AuditGuarantee freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /** 
@@ -35,4 +44,29 @@ public interface AuditGuarantee extends SecurityGuarantee {
     */
     AuditGuarantee AUDIT_REMOTE_TRACING = new AuditGuaranteeBuilder(URI.create("https://w3id.org/idsa/code/AUDIT_REMOTE_TRACING")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/AUDIT_LOCAL_LOGGING
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static AuditGuarantee fromId(URI id) {
+        return id == null ? null : AuditGuaranteeImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:AUDIT_LOCAL_LOGGING).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static AuditGuarantee fromString(String id) {
+        return id == null ? null : AuditGuaranteeImpl.defaultInstance(id);
+    }
+
 }
@@ -24,6 +24,15 @@ public interface AuthInfo extends ModelClass {
     @Beta
     public AuthInfo deepCopy();
 
+    @Beta
+    public default AuthInfo deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default AuthInfo freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
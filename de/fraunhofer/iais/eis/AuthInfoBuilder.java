@@ -41,7 +41,8 @@ public class AuthInfoBuilder implements Builder<AuthInfo> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -49,7 +50,21 @@ public class AuthInfoBuilder implements Builder<AuthInfo> {
      */
     @Override
     public AuthInfo build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(authInfoImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(authInfoImpl);
+        }
+        return authInfoImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public AuthInfo buildUnchecked() {
         return authInfoImpl;
     }
 }
@@ -20,6 +20,15 @@ public interface AuthStandard extends ModelClass {
     @Beta
     public AuthStandard deepCopy();
 
+    @Beta
+    public default AuthStandard deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default AuthStandard freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /**
@@ -27,4 +36,29 @@ public interface AuthStandard extends ModelClass {
      */
     AuthStandard OAUTH2_JWT = new AuthStandardBuilder(URI.create("https://w3id.org/idsa/code/OAUTH2_JWT")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/OAUTH2_JWT
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static AuthStandard fromId(URI id) {
+        return id == null ? null : AuthStandardImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:OAUTH2_JWT).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static AuthStandard fromString(String id) {
+        return id == null ? null : AuthStandardImpl.defaultInstance(id);
+    }
+
 }
@@ -21,6 +21,15 @@ public interface AuthenticationGuarantee extends SecurityGuarantee {
     @Beta
     public AuthenticationGuarantee deepCopy();
 
+    @Beta
+    public default AuthenticationGuarantee deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default AuthenticationGuarantee freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /** 
@@ -38,4 +47,29 @@ public interface AuthenticationGuarantee extends SecurityGuarantee {
     AuthenticationGuarantee AUTHENTICATION_SERVER_SIDE =
         new AuthenticationGuaranteeBuilder(URI.create("https://w3id.org/idsa/code/AUTHENTICATION_SERVER_SIDE")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/AUTHENTICATION_MUTUAL
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static AuthenticationGuarantee fromId(URI id) {
+        return id == null ? null : AuthenticationGuaranteeImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:AUTHENTICATION_MUTUAL).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static AuthenticationGuarantee fromString(String id) {
+        return id == null ? null : AuthenticationGuaranteeImpl.defaultInstance(id);
+    }
+
 }
@@ -18,6 +18,15 @@ public interface BaseConnector extends Connector {
     @Beta
     public BaseConnector deepCopy();
 
+    @Beta
+    public default BaseConnector deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default BaseConnector freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
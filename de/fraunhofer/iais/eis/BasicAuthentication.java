@@ -20,6 +20,15 @@ public interface BasicAuthentication extends UserAuthentication {
     @Beta
     public BasicAuthentication deepCopy();
 
+    @Beta
+    public default BasicAuthentication deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default BasicAuthentication freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
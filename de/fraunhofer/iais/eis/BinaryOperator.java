@@ -20,6 +20,15 @@ public interface BinaryOperator extends ModelClass {
     @Beta
     public BinaryOperator deepCopy();
 
+    @Beta
+    public default BinaryOperator deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default BinaryOperator freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /**
@@ -357,4 +366,29 @@ public interface BinaryOperator extends ModelClass {
      */
     BinaryOperator TEMPORAL_EQUALS = new BinaryOperatorBuilder(URI.create("https://w3id.org/idsa/code/TEMPORAL_EQUALS")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/AFTER
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static BinaryOperator fromId(URI id) {
+        return id == null ? null : BinaryOperatorImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:AFTER).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static BinaryOperator fromString(String id) {
+        return id == null ? null : BinaryOperatorImpl.defaultInstance(id);
+    }
+
 }
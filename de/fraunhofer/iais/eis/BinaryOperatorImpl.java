@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 
@@ -31,47 +33,79 @@ public class BinaryOperatorImpl implements BinaryOperator {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("BinaryOperator", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<BinaryOperatorImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(BinaryOperatorImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment = Arrays.asList(new TypedLiteral("The class of binary operators.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("BinaryOperator", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("The class of binary operators.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     protected BinaryOperatorImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("binaryOperator");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("binaryOperator"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:BinaryOperator", this.id).build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -79,21 +113,20 @@ public class BinaryOperatorImpl implements BinaryOperator {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -108,17 +141,29 @@ public class BinaryOperatorImpl implements BinaryOperator {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode());
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hashCode(this.getId());
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -131,17 +176,132 @@ public class BinaryOperatorImpl implements BinaryOperator {
             return false;
         } else {
             BinaryOperatorImpl other = (BinaryOperatorImpl) obj;
-            return Objects.equals(this.id, other.id);
+            return Objects.equals(this.getId(), other.getId());
         }
     }
 
     @Override
     public BinaryOperator deepCopy() {
-        BinaryOperatorBuilder builder = new BinaryOperatorBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
 
+    @Override
+    public BinaryOperator deepCopy(CopyContext context) {
+        if (BinaryOperator.fromId(this.id) == this) {
+            // default instances are shared instead of copied
+            return this;
+        }
+        BinaryOperatorBuilder builder =
+            context.preservesIds() ? new BinaryOperatorBuilder(getId()) : new BinaryOperatorBuilder();
+        context.register(this, builder.buildUnchecked());
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        // no constraints or referred objects to validate
+    }
+
+    @Override
+    public BinaryOperator freeze() {
+        if (BinaryOperator.fromId(this.id) == this) {
+            // default instances are shared globally and stay as they are
+            return this;
+        }
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
+    // lookup of the default instances as defined in the ontology
+
+    static BinaryOperator defaultInstance(String id) {
+        if (id.startsWith("idsc:")) {
+            id = "https://w3id.org/idsa/code/" + id.substring(5);
+        }
+        return DefaultInstances.BY_ID.get(id);
+    }
+
+    /**
+     * Index of the default instances by their identifier. Held in a nested class, so that it is only
+     * built on first lookup, after all default instances of BinaryOperator have been initialized.
+     */
+    private static class DefaultInstances {
+
+        private static final Map<String, BinaryOperator> BY_ID = new HashMap<>(62);
+
+        static {
+            BY_ID.put(BinaryOperator.AFTER.getId().toString(), BinaryOperator.AFTER);
+            BY_ID.put(BinaryOperator.BEFORE.getId().toString(), BinaryOperator.BEFORE);
+            BY_ID.put(BinaryOperator.CONTAINS.getId().toString(), BinaryOperator.CONTAINS);
+            BY_ID.put(BinaryOperator.COVERED_BY.getId().toString(), BinaryOperator.COVERED_BY);
+            BY_ID.put(BinaryOperator.COVERS.getId().toString(), BinaryOperator.COVERS);
+            BY_ID.put(BinaryOperator.DEFINES_AS.getId().toString(), BinaryOperator.DEFINES_AS);
+            BY_ID.put(BinaryOperator.DISJOINT.getId().toString(), BinaryOperator.DISJOINT);
+            BY_ID.put(BinaryOperator.DURATION_EQ.getId().toString(), BinaryOperator.DURATION_EQ);
+            BY_ID.put(BinaryOperator.DURING.getId().toString(), BinaryOperator.DURING);
+            BY_ID.put(BinaryOperator.EQ.getId().toString(), BinaryOperator.EQ);
+            BY_ID.put(BinaryOperator.EQUALS.getId().toString(), BinaryOperator.EQUALS);
+            BY_ID.put(BinaryOperator.FINISHED_BY.getId().toString(), BinaryOperator.FINISHED_BY);
+            BY_ID.put(BinaryOperator.FINISHES.getId().toString(), BinaryOperator.FINISHES);
+            BY_ID.put(BinaryOperator.GT.getId().toString(), BinaryOperator.GT);
+            BY_ID.put(BinaryOperator.GTEQ.getId().toString(), BinaryOperator.GTEQ);
+            BY_ID.put(BinaryOperator.HAS_MEMBERSHIP.getId().toString(), BinaryOperator.HAS_MEMBERSHIP);
+            BY_ID.put(BinaryOperator.HAS_SITE.getId().toString(), BinaryOperator.HAS_SITE);
+            BY_ID.put(BinaryOperator.HAS_STATE.getId().toString(), BinaryOperator.HAS_STATE);
+            BY_ID.put(BinaryOperator.IN.getId().toString(), BinaryOperator.IN);
+            BY_ID.put(BinaryOperator.INSIDE.getId().toString(), BinaryOperator.INSIDE);
+            BY_ID.put(BinaryOperator.INSIDE_NETWORK.getId().toString(), BinaryOperator.INSIDE_NETWORK);
+            BY_ID.put(BinaryOperator.LONGER.getId().toString(), BinaryOperator.LONGER);
+            BY_ID.put(BinaryOperator.LONGER_EQ.getId().toString(), BinaryOperator.LONGER_EQ);
+            BY_ID.put(BinaryOperator.LT.getId().toString(), BinaryOperator.LT);
+            BY_ID.put(BinaryOperator.LTEQ.getId().toString(), BinaryOperator.LTEQ);
+            BY_ID.put(BinaryOperator.MATCHES.getId().toString(), BinaryOperator.MATCHES);
+            BY_ID.put(BinaryOperator.MEETS.getId().toString(), BinaryOperator.MEETS);
+            BY_ID.put(BinaryOperator.MEMBER_OF.getId().toString(), BinaryOperator.MEMBER_OF);
+            BY_ID.put(BinaryOperator.MET_BY.getId().toString(), BinaryOperator.MET_BY);
+            BY_ID.put(BinaryOperator.NOT.getId().toString(), BinaryOperator.NOT);
+            BY_ID.put(BinaryOperator.OVERLAPPED_BY.getId().toString(), BinaryOperator.OVERLAPPED_BY);
+            BY_ID.put(BinaryOperator.OVERLAPS.getId().toString(), BinaryOperator.OVERLAPS);
+            BY_ID.put(BinaryOperator.SAME_AS.getId().toString(), BinaryOperator.SAME_AS);
+            BY_ID.put(BinaryOperator.SHORTER.getId().toString(), BinaryOperator.SHORTER);
+            BY_ID.put(BinaryOperator.SHORTER_EQ.getId().toString(), BinaryOperator.SHORTER_EQ);
+            BY_ID.put(BinaryOperator.SPATIAL_CONTAINS.getId().toString(), BinaryOperator.SPATIAL_CONTAINS);
+            BY_ID.put(BinaryOperator.SPATIAL_EQUALS.getId().toString(), BinaryOperator.SPATIAL_EQUALS);
+            BY_ID.put(BinaryOperator.SPATIAL_MEET.getId().toString(), BinaryOperator.SPATIAL_MEET);
+            BY_ID.put(BinaryOperator.SPATIAL_OVERLAP.getId().toString(), BinaryOperator.SPATIAL_OVERLAP);
+            BY_ID.put(BinaryOperator.STARTED_BY.getId().toString(), BinaryOperator.STARTED_BY);
+            BY_ID.put(BinaryOperator.STARTS.getId().toString(), BinaryOperator.STARTS);
+            BY_ID.put(BinaryOperator.STRING_CONTAINS.getId().toString(), BinaryOperator.STRING_CONTAINS);
+            BY_ID.put(BinaryOperator.STRING_EQ.getId().toString(), BinaryOperator.STRING_EQ);
+            BY_ID.put(BinaryOperator.STRING_IS_CONTAINED.getId().toString(), BinaryOperator.STRING_IS_CONTAINED);
+            BY_ID.put(BinaryOperator.TEMPORAL_DISJOINT.getId().toString(), BinaryOperator.TEMPORAL_DISJOINT);
+            BY_ID.put(BinaryOperator.TEMPORAL_EQUALS.getId().toString(), BinaryOperator.TEMPORAL_EQUALS);
+        }
+    }
+
 }
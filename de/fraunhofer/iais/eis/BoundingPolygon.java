@@ -23,6 +23,15 @@ public interface BoundingPolygon extends Geometry {
     @Beta
     public BoundingPolygon deepCopy();
 
+    @Beta
+    public default BoundingPolygon deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default BoundingPolygon freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
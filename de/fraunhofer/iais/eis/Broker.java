@@ -21,6 +21,15 @@ public interface Broker extends Connector {
     @Beta
     public Broker deepCopy();
 
+    @Beta
+    public default Broker deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Broker freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -328,7 +328,8 @@ public class BrokerBuilder implements Builder<Broker> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -336,7 +337,21 @@ public class BrokerBuilder implements Builder<Broker> {
      */
     @Override
     public Broker build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(brokerImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(brokerImpl);
+        }
+        return brokerImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public Broker buildUnchecked() {
         return brokerImpl;
     }
 }
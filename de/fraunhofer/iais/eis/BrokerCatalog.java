@@ -18,6 +18,15 @@ public interface BrokerCatalog extends ConnectorCatalog {
     @Beta
     public BrokerCatalog deepCopy();
 
+    @Beta
+    public default BrokerCatalog deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default BrokerCatalog freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -6,4 +6,15 @@ public interface Builder<T> {
 
     public T build() throws ConstraintViolationException;
 
+    /**
+     * This function builds the object without validating it. The generated builders override it; for
+     * other implementations it calls build() with validation deferred on the current thread (see
+     * ValidationMode).
+     *
+     * @return the constructed object, not validated
+     */
+    public default T buildUnchecked() {
+        return ValidationMode.deferred(this::build);
+    }
+
 }
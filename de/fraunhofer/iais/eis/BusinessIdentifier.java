@@ -22,6 +22,15 @@ public interface BusinessIdentifier extends ModelClass {
     @Beta
     public BusinessIdentifier deepCopy();
 
+    @Beta
+    public default BusinessIdentifier deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default BusinessIdentifier freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
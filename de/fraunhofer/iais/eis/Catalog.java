@@ -22,4 +22,13 @@ public interface Catalog extends ModelClass {
     @Beta
     public Catalog deepCopy();
 
+    @Beta
+    public default Catalog deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Catalog freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
 }
@@ -23,6 +23,15 @@ public interface Certification extends ManagedEntity {
     @Beta
     public Certification deepCopy();
 
+    @Beta
+    public default Certification deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Certification freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -20,6 +20,15 @@ public interface CertificationLevel extends ModelClass {
     @Beta
     public CertificationLevel deepCopy();
 
+    @Beta
+    public default CertificationLevel deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default CertificationLevel freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -19,6 +19,15 @@ public interface ClearingHouse extends InfrastructureComponent {
     @Beta
     public ClearingHouse deepCopy();
 
+    @Beta
+    public default ClearingHouse deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ClearingHouse freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -185,7 +185,8 @@ public class ClearingHouseBuilder implements Builder<ClearingHouse> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -193,7 +194,21 @@ public class ClearingHouseBuilder implements Builder<ClearingHouse> {
      */
     @Override
     public ClearingHouse build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(clearingHouseImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(clearingHouseImpl);
+        }
+        return clearingHouseImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public ClearingHouse buildUnchecked() {
         return clearingHouseImpl;
     }
 }
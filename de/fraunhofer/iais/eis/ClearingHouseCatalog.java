@@ -21,6 +21,15 @@ public interface ClearingHouseCatalog extends Catalog {
     @Beta
     public ClearingHouseCatalog deepCopy();
 
+    @Beta
+    public default ClearingHouseCatalog deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ClearingHouseCatalog freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
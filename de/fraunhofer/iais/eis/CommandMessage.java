@@ -19,6 +19,15 @@ public interface CommandMessage extends RequestMessage {
     @Beta
     public CommandMessage deepCopy();
 
+    @Beta
+    public default CommandMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default CommandMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -19,6 +19,15 @@ public interface ComponentCertification extends Certification {
     @Beta
     public ComponentCertification deepCopy();
 
+    @Beta
+    public default ComponentCertification deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ComponentCertification freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -110,7 +110,8 @@ public class ComponentCertificationBuilder implements Builder<ComponentCertifica
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -118,7 +119,21 @@ public class ComponentCertificationBuilder implements Builder<ComponentCertifica
      */
     @Override
     public ComponentCertification build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(componentCertificationImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(componentCertificationImpl);
+        }
+        return componentCertificationImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public ComponentCertification buildUnchecked() {
         return componentCertificationImpl;
     }
 }
@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 import javax.xml.datatype.XMLGregorianCalendar;
@@ -34,23 +36,39 @@ public class ComponentCertificationImpl implements ComponentCertification {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Component Certification", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<ComponentCertificationImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(ComponentCertificationImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment = Arrays.asList(new TypedLiteral(
-        "Process and result of certifying a software component/servivce in order to become a certified part of the International Data Space infrastructure.",
-        "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Component Certification", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Process and result of certifying a software component/servivce in order to become a certified part of the International Data Space infrastructure.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:certificationLevel", "certificationLevel"})
@@ -72,29 +90,47 @@ public class ComponentCertificationImpl implements ComponentCertification {
     protected String _version;
 
     protected ComponentCertificationImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("componentCertification");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("componentCertification"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:ComponentCertification", this.id)
+            .add("title", this._title)
+            .add("lastValidDate", this._lastValidDate)
+            .add("version", this._version)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -102,21 +138,20 @@ public class ComponentCertificationImpl implements ComponentCertification {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -131,22 +166,34 @@ public class ComponentCertificationImpl implements ComponentCertification {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._certificationLevel,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._certificationLevel,
             this._lastValidDate,
             this._evaluationFacility,
             this._version,
             this._title,
             this._description);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -170,13 +217,20 @@ public class ComponentCertificationImpl implements ComponentCertification {
 
     @Override
     public ComponentCertification deepCopy() {
-        ComponentCertificationBuilder builder = new ComponentCertificationBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public ComponentCertification deepCopy(CopyContext context) {
+        ComponentCertificationBuilder builder =
+            context.preservesIds() ? new ComponentCertificationBuilder(getId()) : new ComponentCertificationBuilder();
+        context.register(this, builder.buildUnchecked());
         builder._certificationLevel_(this._certificationLevel);
         if (this._lastValidDate != null) {
             builder._lastValidDate_((XMLGregorianCalendar) this._lastValidDate.clone());
         }
         if (this._evaluationFacility != null) {
-            builder._evaluationFacility_(this._evaluationFacility.deepCopy());
+            builder._evaluationFacility_(context.copy(this._evaluationFacility));
         }
         builder._version_(this._version);
         for (TypedLiteral item : this._title) {
@@ -196,6 +250,45 @@ public class ComponentCertificationImpl implements ComponentCertification {
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.child(this._certificationLevel);
+        validator.child(this._evaluationFacility);
+    }
+
+    @Override
+    public ComponentCertification freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            Freezer.freeze(this._certificationLevel);
+            this._description = Freezer.freezeAll(this._description);
+            Freezer.freeze(this._evaluationFacility);
+            this._title = Freezer.freezeAll(this._title);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -205,6 +298,9 @@ public class ComponentCertificationImpl implements ComponentCertification {
 
     @Override
     public void setCertificationLevel(CertificationLevel _certificationLevel_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._certificationLevel = _certificationLevel_;
     }
 
@@ -216,6 +312,9 @@ public class ComponentCertificationImpl implements ComponentCertification {
 
     @Override
     public void setLastValidDate(XMLGregorianCalendar _lastValidDate_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._lastValidDate = _lastValidDate_;
     }
 
@@ -226,6 +325,9 @@ public class ComponentCertificationImpl implements ComponentCertification {
 
     @Override
     public void setEvaluationFacility(EvaluationFacility _evaluationFacility_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._evaluationFacility = _evaluationFacility_;
     }
 
@@ -236,6 +338,9 @@ public class ComponentCertificationImpl implements ComponentCertification {
 
     @Override
     public void setVersion(String _version_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._version = _version_;
     }
 
@@ -246,6 +351,9 @@ public class ComponentCertificationImpl implements ComponentCertification {
 
     @Override
     public void setTitle(List<TypedLiteral> _title_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._title = _title_;
     }
 
@@ -256,6 +364,9 @@ public class ComponentCertificationImpl implements ComponentCertification {
 
     @Override
     public void setDescription(List<TypedLiteral> _description_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._description = _description_;
     }
 
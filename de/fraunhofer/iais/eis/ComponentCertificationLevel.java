@@ -20,6 +20,15 @@ public interface ComponentCertificationLevel extends CertificationLevel {
     @Beta
     public ComponentCertificationLevel deepCopy();
 
+    @Beta
+    public default ComponentCertificationLevel deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ComponentCertificationLevel freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /** 
@@ -56,4 +65,29 @@ public interface ComponentCertificationLevel extends CertificationLevel {
     ComponentCertificationLevel COMPONENT_TRUST_SECURITY_PROFILE_HIGH_ASSURANCE_EVALUATION = new ComponentCertificationLevelBuilder(
         URI.create("https://w3id.org/idsa/code/COMPONENT_TRUST_SECURITY_PROFILE_HIGH_ASSURANCE_EVALUATION")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/COMPONENT_BASE_SECURITY_PROFILE_CHECKLIST_APPROACH
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static ComponentCertificationLevel fromId(URI id) {
+        return id == null ? null : ComponentCertificationLevelImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:COMPONENT_BASE_SECURITY_PROFILE_CHECKLIST_APPROACH).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static ComponentCertificationLevel fromString(String id) {
+        return id == null ? null : ComponentCertificationLevelImpl.defaultInstance(id);
+    }
+
 }
@@ -30,7 +30,8 @@ public class ComponentCertificationLevelBuilder implements Builder<ComponentCert
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -38,7 +39,21 @@ public class ComponentCertificationLevelBuilder implements Builder<ComponentCert
      */
     @Override
     public ComponentCertificationLevel build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(componentCertificationLevelImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(componentCertificationLevelImpl);
+        }
+        return componentCertificationLevelImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public ComponentCertificationLevel buildUnchecked() {
         return componentCertificationLevelImpl;
     }
 }
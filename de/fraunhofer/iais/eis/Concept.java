@@ -17,4 +17,13 @@ public interface Concept extends ModelClass {
     @Beta
     public Concept deepCopy();
 
+    @Beta
+    public default Concept deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Concept freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
 }
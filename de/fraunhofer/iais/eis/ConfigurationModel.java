@@ -24,6 +24,15 @@ public interface ConfigurationModel extends ModelClass {
     @Beta
     public ConfigurationModel deepCopy();
 
+    @Beta
+    public default ConfigurationModel deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ConfigurationModel freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -240,7 +240,8 @@ public class ConfigurationModelBuilder implements Builder<ConfigurationModel> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -248,7 +249,21 @@ public class ConfigurationModelBuilder implements Builder<ConfigurationModel> {
      */
     @Override
     public ConfigurationModel build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(configurationModelImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(configurationModelImpl);
+        }
+        return configurationModelImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public ConfigurationModel buildUnchecked() {
         return configurationModelImpl;
     }
 }
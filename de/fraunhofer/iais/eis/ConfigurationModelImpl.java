@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 
@@ -31,21 +33,39 @@ public class ConfigurationModelImpl implements ConfigurationModel {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Configuration Model", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<ConfigurationModelImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(ConfigurationModelImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment = Arrays.asList(new TypedLiteral("Configuration Model is used for Connector deployment.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Configuration Model", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Configuration Model is used for Connector deployment.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:appRoute", "appRoute"})
@@ -103,29 +123,48 @@ public class ConfigurationModelImpl implements ConfigurationModel {
     protected List<UserAuthentication> _userAuthentication = new ArrayList<>();
 
     protected ConfigurationModelImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("configurationModel");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("configurationModel"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:ConfigurationModel", this.id)
+            .add("keyStore", this._keyStore)
+            .add("keyStoreAlias", this._keyStoreAlias)
+            .add("keyStorePassword", this._keyStorePassword)
+            .add("trustStore", this._trustStore)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -133,21 +172,20 @@ public class ConfigurationModelImpl implements ConfigurationModel {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -162,17 +200,25 @@ public class ConfigurationModelImpl implements ConfigurationModel {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._userAuthentication,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._userAuthentication,
             this._configurationModelLogLevel,
             this._connectorStatus,
             this._connectorDeployMode,
@@ -189,6 +235,10 @@ public class ConfigurationModelImpl implements ConfigurationModel {
             this._configuredAppStore,
             this._configuredAppResource,
             this._configuredClearingHouse);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -223,53 +273,118 @@ public class ConfigurationModelImpl implements ConfigurationModel {
 
     @Override
     public ConfigurationModel deepCopy() {
-        ConfigurationModelBuilder builder = new ConfigurationModelBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public ConfigurationModel deepCopy(CopyContext context) {
+        ConfigurationModelBuilder builder =
+            context.preservesIds() ? new ConfigurationModelBuilder(getId()) : new ConfigurationModelBuilder();
+        context.register(this, builder.buildUnchecked());
         for (UserAuthentication item : this._userAuthentication) {
             if (item != null) {
-                builder._userAuthentication_(item.deepCopy());
+                builder._userAuthentication_(context.copy(item));
             }
         }
         builder._configurationModelLogLevel_(this._configurationModelLogLevel);
         builder._connectorStatus_(this._connectorStatus);
         builder._connectorDeployMode_(this._connectorDeployMode);
         if (this._connectorDescription != null) {
-            builder._connectorDescription_(this._connectorDescription.deepCopy());
+            builder._connectorDescription_(context.copy(this._connectorDescription));
         }
         for (Proxy item : this._connectorProxy) {
             if (item != null) {
-                builder._connectorProxy_(item.deepCopy());
+                builder._connectorProxy_(context.copy(item));
             }
         }
         if (this._trustStore != null) {
-            builder._trustStore_(URI.create(this._trustStore.toString()));
+            builder._trustStore_(this._trustStore);
         }
         builder._trustStoreAlias_(this._trustStoreAlias);
         builder._trustStorePassword_(this._trustStorePassword);
         if (this._keyStore != null) {
-            builder._keyStore_(URI.create(this._keyStore.toString()));
+            builder._keyStore_(this._keyStore);
         }
         builder._keyStoreAlias_(this._keyStoreAlias);
         builder._keyStorePassword_(this._keyStorePassword);
         if (this._configuredBroker != null) {
-            builder._configuredBroker_(this._configuredBroker.deepCopy());
+            builder._configuredBroker_(context.copy(this._configuredBroker));
         }
         for (AppRoute item : this._appRoute) {
             if (item != null) {
-                builder._appRoute_(item.deepCopy());
+                builder._appRoute_(context.copy(item));
             }
         }
         if (this._configuredAppStore != null) {
-            builder._configuredAppStore_(this._configuredAppStore.deepCopy());
+            builder._configuredAppStore_(context.copy(this._configuredAppStore));
         }
         if (this._configuredAppResource != null) {
-            builder._configuredAppResource_(this._configuredAppResource.deepCopy());
+            builder._configuredAppResource_(context.copy(this._configuredAppResource));
         }
         if (this._configuredClearingHouse != null) {
-            builder._configuredClearingHouse_(this._configuredClearingHouse.deepCopy());
+            builder._configuredClearingHouse_(context.copy(this._configuredClearingHouse));
         }
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.notNull(this._configurationModelLogLevel, "configurationModelLogLevel");
+        validator.notNull(this._connectorStatus, "connectorStatus");
+        validator.notNull(this._connectorDeployMode, "connectorDeployMode");
+        validator.children(this._appRoute);
+        validator.child(this._configurationModelLogLevel);
+        validator.child(this._configuredAppResource);
+        validator.child(this._configuredAppStore);
+        validator.child(this._configuredBroker);
+        validator.child(this._configuredClearingHouse);
+        validator.child(this._connectorDeployMode);
+        validator.child(this._connectorDescription);
+        validator.children(this._connectorProxy);
+        validator.child(this._connectorStatus);
+        validator.children(this._userAuthentication);
+    }
+
+    @Override
+    public ConfigurationModel freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            this._appRoute = Freezer.freezeAll(this._appRoute);
+            Freezer.freeze(this._configurationModelLogLevel);
+            Freezer.freeze(this._configuredAppResource);
+            Freezer.freeze(this._configuredAppStore);
+            Freezer.freeze(this._configuredBroker);
+            Freezer.freeze(this._configuredClearingHouse);
+            Freezer.freeze(this._connectorDeployMode);
+            Freezer.freeze(this._connectorDescription);
+            this._connectorProxy = Freezer.freezeAll(this._connectorProxy);
+            Freezer.freeze(this._connectorStatus);
+            this._userAuthentication = Freezer.freezeAll(this._userAuthentication);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -279,6 +394,9 @@ public class ConfigurationModelImpl implements ConfigurationModel {
 
     @Override
     public void setUserAuthentication(List<UserAuthentication> _userAuthentication_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._userAuthentication = _userAuthentication_;
     }
 
@@ -290,6 +408,9 @@ public class ConfigurationModelImpl implements ConfigurationModel {
 
     @Override
     public void setConfigurationModelLogLevel(LogLevel _configurationModelLogLevel_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._configurationModelLogLevel = _configurationModelLogLevel_;
     }
 
@@ -301,6 +422,9 @@ public class ConfigurationModelImpl implements ConfigurationModel {
 
     @Override
     public void setConnectorStatus(ConnectorStatus _connectorStatus_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._connectorStatus = _connectorStatus_;
     }
 
@@ -312,6 +436,9 @@ public class ConfigurationModelImpl implements ConfigurationModel {
 
     @Override
     public void setConnectorDeployMode(ConnectorDeployMode _connectorDeployMode_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._connectorDeployMode = _connectorDeployMode_;
     }
 
@@ -322,6 +449,9 @@ public class ConfigurationModelImpl implements ConfigurationModel {
 
     @Override
     public void setConnectorDescription(Connector _connectorDescription_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._connectorDescription = _connectorDescription_;
     }
 
@@ -332,6 +462,9 @@ public class ConfigurationModelImpl implements ConfigurationModel {
 
     @Override
     public void setConnectorProxy(List<Proxy> _connectorProxy_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._connectorProxy = _connectorProxy_;
     }
 
@@ -342,6 +475,9 @@ public class ConfigurationModelImpl implements ConfigurationModel {
 
     @Override
     public void setTrustStore(URI _trustStore_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._trustStore = _trustStore_;
     }
 
@@ -352,6 +488,9 @@ public class ConfigurationModelImpl implements ConfigurationModel {
 
     @Override
     public void setTrustStoreAlias(String _trustStoreAlias_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._trustStoreAlias = _trustStoreAlias_;
     }
 
@@ -362,6 +501,9 @@ public class ConfigurationModelImpl implements ConfigurationModel {
 
     @Override
     public void setTrustStorePassword(String _trustStorePassword_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._trustStorePassword = _trustStorePassword_;
     }
 
@@ -372,6 +514,9 @@ public class ConfigurationModelImpl implements ConfigurationModel {
 
     @Override
     public void setKeyStore(URI _keyStore_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._keyStore = _keyStore_;
     }
 
@@ -382,6 +527,9 @@ public class ConfigurationModelImpl implements ConfigurationModel {
 
     @Override
     public void setKeyStoreAlias(String _keyStoreAlias_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._keyStoreAlias = _keyStoreAlias_;
     }
 
@@ -392,6 +540,9 @@ public class ConfigurationModelImpl implements ConfigurationModel {
 
     @Override
     public void setKeyStorePassword(String _keyStorePassword_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._keyStorePassword = _keyStorePassword_;
     }
 
@@ -402,6 +553,9 @@ public class ConfigurationModelImpl implements ConfigurationModel {
 
     @Override
     public void setConfiguredBroker(BrokerCatalog _configuredBroker_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._configuredBroker = _configuredBroker_;
     }
 
@@ -412,6 +566,9 @@ public class ConfigurationModelImpl implements ConfigurationModel {
 
     @Override
     public void setAppRoute(List<AppRoute> _appRoute_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._appRoute = _appRoute_;
     }
 
@@ -422,6 +579,9 @@ public class ConfigurationModelImpl implements ConfigurationModel {
 
     @Override
     public void setConfiguredAppStore(AppStoreCatalog _configuredAppStore_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._configuredAppStore = _configuredAppStore_;
     }
 
@@ -432,6 +592,9 @@ public class ConfigurationModelImpl implements ConfigurationModel {
 
     @Override
     public void setConfiguredAppResource(AppResourceCatalog _configuredAppResource_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._configuredAppResource = _configuredAppResource_;
     }
 
@@ -442,6 +605,9 @@ public class ConfigurationModelImpl implements ConfigurationModel {
 
     @Override
     public void setConfiguredClearingHouse(ClearingHouseCatalog _configuredClearingHouse_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._configuredClearingHouse = _configuredClearingHouse_;
     }
 }
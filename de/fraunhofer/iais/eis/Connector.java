@@ -29,6 +29,15 @@ public interface Connector extends InfrastructureComponent {
     @Beta
     public Connector deepCopy();
 
+    @Beta
+    public default Connector deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Connector freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -23,6 +23,15 @@ public interface ConnectorCatalog extends Catalog {
     @Beta
     public ConnectorCatalog deepCopy();
 
+    @Beta
+    public default ConnectorCatalog deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ConnectorCatalog freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
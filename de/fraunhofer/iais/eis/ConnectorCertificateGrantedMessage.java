@@ -19,6 +19,15 @@ public interface ConnectorCertificateGrantedMessage extends ConnectorNotificatio
     @Beta
     public ConnectorCertificateGrantedMessage deepCopy();
 
+    @Beta
+    public default ConnectorCertificateGrantedMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ConnectorCertificateGrantedMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
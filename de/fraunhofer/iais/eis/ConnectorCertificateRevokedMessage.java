@@ -21,6 +21,15 @@ public interface ConnectorCertificateRevokedMessage extends ConnectorNotificatio
     @Beta
     public ConnectorCertificateRevokedMessage deepCopy();
 
+    @Beta
+    public default ConnectorCertificateRevokedMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ConnectorCertificateRevokedMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
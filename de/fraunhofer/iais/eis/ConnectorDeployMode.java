@@ -21,6 +21,15 @@ public interface ConnectorDeployMode extends ModelClass {
     @Beta
     public ConnectorDeployMode deepCopy();
 
+    @Beta
+    public default ConnectorDeployMode deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ConnectorDeployMode freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /**
@@ -34,4 +43,29 @@ public interface ConnectorDeployMode extends ModelClass {
      */
     ConnectorDeployMode TEST_DEPLOYMENT = new ConnectorDeployModeBuilder(URI.create("https://w3id.org/idsa/code/TEST_DEPLOYMENT")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/PRODUCTIVE_DEPLOYMENT
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static ConnectorDeployMode fromId(URI id) {
+        return id == null ? null : ConnectorDeployModeImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:PRODUCTIVE_DEPLOYMENT).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static ConnectorDeployMode fromString(String id) {
+        return id == null ? null : ConnectorDeployModeImpl.defaultInstance(id);
+    }
+
 }
@@ -19,6 +19,15 @@ public interface ConnectorEndpoint extends Endpoint {
     @Beta
     public ConnectorEndpoint deepCopy();
 
+    @Beta
+    public default ConnectorEndpoint deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ConnectorEndpoint freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -141,7 +141,8 @@ public class ConnectorEndpointBuilder implements Builder<ConnectorEndpoint> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -149,7 +150,21 @@ public class ConnectorEndpointBuilder implements Builder<ConnectorEndpoint> {
      */
     @Override
     public ConnectorEndpoint build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(connectorEndpointImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(connectorEndpointImpl);
+        }
+        return connectorEndpointImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public ConnectorEndpoint buildUnchecked() {
         return connectorEndpointImpl;
     }
 }
@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 
@@ -31,21 +33,39 @@ public class ConnectorEndpointImpl implements ConnectorEndpoint {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Connector Endpoint", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<ConnectorEndpointImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(ConnectorEndpointImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment = Arrays.asList(new TypedLiteral("Connector-specific endpoint exposing Artifacts.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Connector Endpoint", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Connector-specific endpoint exposing Artifacts.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @NotNull
@@ -74,29 +94,48 @@ public class ConnectorEndpointImpl implements ConnectorEndpoint {
     protected String _path;
 
     protected ConnectorEndpointImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("connectorEndpoint");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("connectorEndpoint"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:ConnectorEndpoint", this.id)
+            .add("accessURL", this._accessURL)
+            .add("inboundPath", this._inboundPath)
+            .add("outboundPath", this._outboundPath)
+            .add("path", this._path)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -104,21 +143,20 @@ public class ConnectorEndpointImpl implements ConnectorEndpoint {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -133,17 +171,25 @@ public class ConnectorEndpointImpl implements ConnectorEndpoint {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._endpointArtifact,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._endpointArtifact,
             this._accessURL,
             this._endpointInformation,
             this._endpointDocumentation,
@@ -151,6 +197,10 @@ public class ConnectorEndpointImpl implements ConnectorEndpoint {
             this._inboundPath,
             this._outboundPath,
             this._apiSpecifiation);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -176,12 +226,19 @@ public class ConnectorEndpointImpl implements ConnectorEndpoint {
 
     @Override
     public ConnectorEndpoint deepCopy() {
-        ConnectorEndpointBuilder builder = new ConnectorEndpointBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public ConnectorEndpoint deepCopy(CopyContext context) {
+        ConnectorEndpointBuilder builder =
+            context.preservesIds() ? new ConnectorEndpointBuilder(getId()) : new ConnectorEndpointBuilder();
+        context.register(this, builder.buildUnchecked());
         if (this._endpointArtifact != null) {
-            builder._endpointArtifact_(this._endpointArtifact.deepCopy());
+            builder._endpointArtifact_(context.copy(this._endpointArtifact));
         }
         if (this._accessURL != null) {
-            builder._accessURL_(URI.create(this._accessURL.toString()));
+            builder._accessURL_(this._accessURL);
         }
         for (TypedLiteral item : this._endpointInformation) {
             if (item != null && item.getLanguage() != null) {
@@ -192,7 +249,7 @@ public class ConnectorEndpointImpl implements ConnectorEndpoint {
         }
         for (URI item : this._endpointDocumentation) {
             if (item != null) {
-                builder._endpointDocumentation_(URI.create(item.toString()));
+                builder._endpointDocumentation_(item);
             }
         }
         builder._path_(this._path);
@@ -204,6 +261,46 @@ public class ConnectorEndpointImpl implements ConnectorEndpoint {
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.notNull(this._accessURL, "accessURL");
+        validator.children(this._apiSpecifiation);
+        validator.child(this._endpointArtifact);
+    }
+
+    @Override
+    public ConnectorEndpoint freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            this._apiSpecifiation = Freezer.freezeAll(this._apiSpecifiation);
+            Freezer.freeze(this._endpointArtifact);
+            this._endpointDocumentation = Freezer.freezeAll(this._endpointDocumentation);
+            this._endpointInformation = Freezer.freezeAll(this._endpointInformation);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -213,6 +310,9 @@ public class ConnectorEndpointImpl implements ConnectorEndpoint {
 
     @Override
     public void setEndpointArtifact(Artifact _endpointArtifact_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._endpointArtifact = _endpointArtifact_;
     }
 
@@ -224,6 +324,9 @@ public class ConnectorEndpointImpl implements ConnectorEndpoint {
 
     @Override
     public void setAccessURL(URI _accessURL_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._accessURL = _accessURL_;
     }
 
@@ -234,6 +337,9 @@ public class ConnectorEndpointImpl implements ConnectorEndpoint {
 
     @Override
     public void setEndpointInformation(List<TypedLiteral> _endpointInformation_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._endpointInformation = _endpointInformation_;
     }
 
@@ -244,6 +350,9 @@ public class ConnectorEndpointImpl implements ConnectorEndpoint {
 
     @Override
     public void setEndpointDocumentation(List<URI> _endpointDocumentation_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._endpointDocumentation = _endpointDocumentation_;
     }
 
@@ -254,6 +363,9 @@ public class ConnectorEndpointImpl implements ConnectorEndpoint {
 
     @Override
     public void setPath(String _path_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._path = _path_;
     }
 
@@ -264,6 +376,9 @@ public class ConnectorEndpointImpl implements ConnectorEndpoint {
 
     @Override
     public void setInboundPath(String _inboundPath_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._inboundPath = _inboundPath_;
     }
 
@@ -274,6 +389,9 @@ public class ConnectorEndpointImpl implements ConnectorEndpoint {
 
     @Override
     public void setOutboundPath(String _outboundPath_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._outboundPath = _outboundPath_;
     }
 
@@ -284,6 +402,9 @@ public class ConnectorEndpointImpl implements ConnectorEndpoint {
 
     @Override
     public void setApiSpecifiation(List<IdsProtocolSpecification> _apiSpecifiation_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._apiSpecifiation = _apiSpecifiation_;
     }
 }
@@ -26,6 +26,15 @@ public interface ConnectorNotificationMessage extends NotificationMessage {
     @Beta
     public ConnectorNotificationMessage deepCopy();
 
+    @Beta
+    public default ConnectorNotificationMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ConnectorNotificationMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -20,6 +20,15 @@ public interface ConnectorStatus extends ModelClass {
     @Beta
     public ConnectorStatus deepCopy();
 
+    @Beta
+    public default ConnectorStatus deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ConnectorStatus freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /**
@@ -38,4 +47,29 @@ public interface ConnectorStatus extends ModelClass {
      */
     ConnectorStatus CONNECTOR_ONLINE = new ConnectorStatusBuilder(URI.create("https://w3id.org/idsa/code/CONNECTOR_ONLINE")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/CONNECTOR_BADLY_CONFIGURED
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static ConnectorStatus fromId(URI id) {
+        return id == null ? null : ConnectorStatusImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:CONNECTOR_BADLY_CONFIGURED).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static ConnectorStatus fromString(String id) {
+        return id == null ? null : ConnectorStatusImpl.defaultInstance(id);
+    }
+
 }
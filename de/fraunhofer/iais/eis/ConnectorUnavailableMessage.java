@@ -19,6 +19,15 @@ public interface ConnectorUnavailableMessage extends ConnectorNotificationMessag
     @Beta
     public ConnectorUnavailableMessage deepCopy();
 
+    @Beta
+    public default ConnectorUnavailableMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ConnectorUnavailableMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -176,7 +176,8 @@ public class ConnectorUnavailableMessageBuilder implements Builder<ConnectorUnav
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -184,7 +185,21 @@ public class ConnectorUnavailableMessageBuilder implements Builder<ConnectorUnav
      */
     @Override
     public ConnectorUnavailableMessage build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(connectorUnavailableMessageImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(connectorUnavailableMessageImpl);
+        }
+        return connectorUnavailableMessageImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public ConnectorUnavailableMessage buildUnchecked() {
         return connectorUnavailableMessageImpl;
     }
 }
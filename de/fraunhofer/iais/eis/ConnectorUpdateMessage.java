@@ -19,6 +19,15 @@ public interface ConnectorUpdateMessage extends ConnectorNotificationMessage {
     @Beta
     public ConnectorUpdateMessage deepCopy();
 
+    @Beta
+    public default ConnectorUpdateMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ConnectorUpdateMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -18,6 +18,15 @@ public interface ConnectorbasedAgreement extends ContractAgreement {
     @Beta
     public ConnectorbasedAgreement deepCopy();
 
+    @Beta
+    public default ConnectorbasedAgreement deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ConnectorbasedAgreement freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
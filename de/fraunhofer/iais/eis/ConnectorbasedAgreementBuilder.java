@@ -165,7 +165,8 @@ public class ConnectorbasedAgreementBuilder implements Builder<ConnectorbasedAgr
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -173,7 +174,21 @@ public class ConnectorbasedAgreementBuilder implements Builder<ConnectorbasedAgr
      */
     @Override
     public ConnectorbasedAgreement build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(connectorbasedAgreementImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(connectorbasedAgreementImpl);
+        }
+        return connectorbasedAgreementImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public ConnectorbasedAgreement buildUnchecked() {
         return connectorbasedAgreementImpl;
     }
 }
@@ -18,6 +18,15 @@ public interface ConnectorbasedOffer extends ContractOffer {
     @Beta
     public ConnectorbasedOffer deepCopy();
 
+    @Beta
+    public default ConnectorbasedOffer deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ConnectorbasedOffer freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -18,6 +18,15 @@ public interface ConnectorbasedRequest extends ContractRequest {
     @Beta
     public ConnectorbasedRequest deepCopy();
 
+    @Beta
+    public default ConnectorbasedRequest deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ConnectorbasedRequest freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 import javax.xml.datatype.XMLGregorianCalendar;
@@ -33,22 +35,39 @@ public class ConnectorbasedRequestImpl implements ConnectorbasedRequest {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Connector-restricted Data Usage Request", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<ConnectorbasedRequestImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(ConnectorbasedRequestImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment =
-        Arrays.asList(new TypedLiteral("The ContractRequest class representing the 'Connector-restricted Data Usage' policy class.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Connector-restricted Data Usage Request", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("The ContractRequest class representing the 'Connector-restricted Data Usage' policy class.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:consumer", "consumer"})
@@ -82,29 +101,48 @@ public class ConnectorbasedRequestImpl implements ConnectorbasedRequest {
     protected URI _provider;
 
     protected ConnectorbasedRequestImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("connectorbasedRequest");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("connectorbasedRequest"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:ConnectorbasedRequest", this.id)
+            .add("consumer", this._consumer)
+            .add("contractDate", this._contractDate)
+            .add("contractEnd", this._contractEnd)
+            .add("contractStart", this._contractStart)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -112,21 +150,20 @@ public class ConnectorbasedRequestImpl implements ConnectorbasedRequest {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -141,17 +178,25 @@ public class ConnectorbasedRequestImpl implements ConnectorbasedRequest {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._contractStart,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._contractStart,
             this._contractEnd,
             this._contractDate,
             this._provider,
@@ -161,6 +206,10 @@ public class ConnectorbasedRequestImpl implements ConnectorbasedRequest {
             this._permission,
             this._prohibition,
             this._obligation);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -188,7 +237,14 @@ public class ConnectorbasedRequestImpl implements ConnectorbasedRequest {
 
     @Override
     public ConnectorbasedRequest deepCopy() {
-        ConnectorbasedRequestBuilder builder = new ConnectorbasedRequestBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public ConnectorbasedRequest deepCopy(CopyContext context) {
+        ConnectorbasedRequestBuilder builder =
+            context.preservesIds() ? new ConnectorbasedRequestBuilder(getId()) : new ConnectorbasedRequestBuilder();
+        context.register(this, builder.buildUnchecked());
         if (this._contractStart != null) {
             builder._contractStart_((XMLGregorianCalendar) this._contractStart.clone());
         }
@@ -199,35 +255,78 @@ public class ConnectorbasedRequestImpl implements ConnectorbasedRequest {
             builder._contractDate_((XMLGregorianCalendar) this._contractDate.clone());
         }
         if (this._provider != null) {
-            builder._provider_(URI.create(this._provider.toString()));
+            builder._provider_(this._provider);
         }
         if (this._consumer != null) {
-            builder._consumer_(URI.create(this._consumer.toString()));
+            builder._consumer_(this._consumer);
         }
         if (this._contractDocument != null) {
-            builder._contractDocument_(this._contractDocument.deepCopy());
+            builder._contractDocument_(context.copy(this._contractDocument));
         }
         if (this._contractAnnex != null) {
-            builder._contractAnnex_(this._contractAnnex.deepCopy());
+            builder._contractAnnex_(context.copy(this._contractAnnex));
         }
         for (Permission item : this._permission) {
             if (item != null) {
-                builder._permission_(item.deepCopy());
+                builder._permission_(context.copy(item));
             }
         }
         for (Prohibition item : this._prohibition) {
             if (item != null) {
-                builder._prohibition_(item.deepCopy());
+                builder._prohibition_(context.copy(item));
             }
         }
         for (Duty item : this._obligation) {
             if (item != null) {
-                builder._obligation_(item.deepCopy());
+                builder._obligation_(context.copy(item));
             }
         }
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.child(this._contractAnnex);
+        validator.child(this._contractDocument);
+        validator.children(this._obligation);
+        validator.children(this._permission);
+        validator.children(this._prohibition);
+    }
+
+    @Override
+    public ConnectorbasedRequest freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            Freezer.freeze(this._contractAnnex);
+            Freezer.freeze(this._contractDocument);
+            this._obligation = Freezer.freezeAll(this._obligation);
+            this._permission = Freezer.freezeAll(this._permission);
+            this._prohibition = Freezer.freezeAll(this._prohibition);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -238,6 +337,9 @@ public class ConnectorbasedRequestImpl implements ConnectorbasedRequest {
 
     @Override
     public void setContractStart(XMLGregorianCalendar _contractStart_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._contractStart = _contractStart_;
     }
 
@@ -249,6 +351,9 @@ public class ConnectorbasedRequestImpl implements ConnectorbasedRequest {
 
     @Override
     public void setContractEnd(XMLGregorianCalendar _contractEnd_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._contractEnd = _contractEnd_;
     }
 
@@ -260,6 +365,9 @@ public class ConnectorbasedRequestImpl implements ConnectorbasedRequest {
 
     @Override
     public void setContractDate(XMLGregorianCalendar _contractDate_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._contractDate = _contractDate_;
     }
 
@@ -270,6 +378,9 @@ public class ConnectorbasedRequestImpl implements ConnectorbasedRequest {
 
     @Override
     public void setProvider(URI _provider_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._provider = _provider_;
     }
 
@@ -280,6 +391,9 @@ public class ConnectorbasedRequestImpl implements ConnectorbasedRequest {
 
     @Override
     public void setConsumer(URI _consumer_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._consumer = _consumer_;
     }
 
@@ -290,6 +404,9 @@ public class ConnectorbasedRequestImpl implements ConnectorbasedRequest {
 
     @Override
     public void setContractDocument(TextResource _contractDocument_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._contractDocument = _contractDocument_;
     }
 
@@ -300,6 +417,9 @@ public class ConnectorbasedRequestImpl implements ConnectorbasedRequest {
 
     @Override
     public void setContractAnnex(Resource _contractAnnex_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._contractAnnex = _contractAnnex_;
     }
 
@@ -310,6 +430,9 @@ public class ConnectorbasedRequestImpl implements ConnectorbasedRequest {
 
     @Override
     public void setPermission(List<Permission> _permission_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._permission = _permission_;
     }
 
@@ -320,6 +443,9 @@ public class ConnectorbasedRequestImpl implements ConnectorbasedRequest {
 
     @Override
     public void setProhibition(List<Prohibition> _prohibition_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._prohibition = _prohibition_;
     }
 
@@ -330,6 +456,9 @@ public class ConnectorbasedRequestImpl implements ConnectorbasedRequest {
 
     @Override
     public void setObligation(List<Duty> _obligation_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._obligation = _obligation_;
     }
 
@@ -23,6 +23,15 @@ public interface Constraint extends AbstractConstraint {
     @Beta
     public Constraint deepCopy();
 
+    @Beta
+    public default Constraint deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Constraint freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
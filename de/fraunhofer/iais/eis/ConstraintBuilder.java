@@ -85,7 +85,8 @@ public class ConstraintBuilder implements Builder<Constraint> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -93,7 +94,21 @@ public class ConstraintBuilder implements Builder<Constraint> {
      */
     @Override
     public Constraint build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(constraintImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(constraintImpl);
+        }
+        return constraintImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public Constraint buildUnchecked() {
         return constraintImpl;
     }
 }
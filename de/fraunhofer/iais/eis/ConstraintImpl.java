@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 
@@ -31,21 +33,39 @@ public class ConstraintImpl implements Constraint {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Constraint", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<ConstraintImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(ConstraintImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment = Arrays.asList(new TypedLiteral("The class of Constraints that restrict a Rule.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Constraint", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("The class of Constraints that restrict a Rule.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @NotNull
@@ -69,29 +89,46 @@ public class ConstraintImpl implements Constraint {
     protected URI _unit;
 
     protected ConstraintImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("constraint");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("constraint"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:Constraint", this.id)
+            .add("rightOperandReference", this._rightOperandReference)
+            .add("unit", this._unit)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -99,21 +136,20 @@ public class ConstraintImpl implements Constraint {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -128,22 +164,34 @@ public class ConstraintImpl implements Constraint {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._leftOperand,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._leftOperand,
             this._operator,
             this._rightOperand,
             this._rightOperandReference,
             this._unit,
             this._pipEndpoint);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -167,24 +215,72 @@ public class ConstraintImpl implements Constraint {
 
     @Override
     public Constraint deepCopy() {
-        ConstraintBuilder builder = new ConstraintBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public Constraint deepCopy(CopyContext context) {
+        ConstraintBuilder builder =
+            context.preservesIds() ? new ConstraintBuilder(getId()) : new ConstraintBuilder();
+        context.register(this, builder.buildUnchecked());
         builder._leftOperand_(this._leftOperand);
         builder._operator_(this._operator);
         if (this._rightOperand != null) {
             builder._rightOperand_(new RdfResource(this._rightOperand.getValue(), URI.create(this._rightOperand.getType())));
         }
         if (this._rightOperandReference != null) {
-            builder._rightOperandReference_(URI.create(this._rightOperandReference.toString()));
+            builder._rightOperandReference_(this._rightOperandReference);
         }
         if (this._unit != null) {
-            builder._unit_(URI.create(this._unit.toString()));
+            builder._unit_(this._unit);
         }
         if (this._pipEndpoint != null) {
-            builder._pipEndpoint_(this._pipEndpoint.deepCopy());
+            builder._pipEndpoint_(context.copy(this._pipEndpoint));
         }
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.notNull(this._leftOperand, "leftOperand");
+        validator.notNull(this._operator, "operator");
+        validator.child(this._leftOperand);
+        validator.child(this._operator);
+        validator.child(this._pipEndpoint);
+    }
+
+    @Override
+    public Constraint freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            Freezer.freeze(this._leftOperand);
+            Freezer.freeze(this._operator);
+            Freezer.freeze(this._pipEndpoint);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -195,6 +291,9 @@ public class ConstraintImpl implements Constraint {
 
     @Override
     public void setLeftOperand(LeftOperand _leftOperand_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._leftOperand = _leftOperand_;
     }
 
@@ -206,6 +305,9 @@ public class ConstraintImpl implements Constraint {
 
     @Override
     public void setOperator(BinaryOperator _operator_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._operator = _operator_;
     }
 
@@ -216,6 +318,9 @@ public class ConstraintImpl implements Constraint {
 
     @Override
     public void setRightOperand(RdfResource _rightOperand_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._rightOperand = _rightOperand_;
     }
 
@@ -226,6 +331,9 @@ public class ConstraintImpl implements Constraint {
 
     @Override
     public void setRightOperandReference(URI _rightOperandReference_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._rightOperandReference = _rightOperandReference_;
     }
 
@@ -236,6 +344,9 @@ public class ConstraintImpl implements Constraint {
 
     @Override
     public void setUnit(URI _unit_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._unit = _unit_;
     }
 
@@ -246,6 +357,9 @@ public class ConstraintImpl implements Constraint {
 
     @Override
     public void setPipEndpoint(PIP _pipEndpoint_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._pipEndpoint = _pipEndpoint_;
     }
 
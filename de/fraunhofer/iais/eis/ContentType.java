@@ -21,6 +21,15 @@ public interface ContentType extends ModelClass {
     @Beta
     public ContentType deepCopy();
 
+    @Beta
+    public default ContentType deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ContentType freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /**
@@ -34,4 +43,29 @@ public interface ContentType extends ModelClass {
      */
     ContentType SCHEMA_DEFINITION = new ContentTypeBuilder(URI.create("https://w3id.org/idsa/code/SCHEMA_DEFINITION")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/INTERFACE_DEFINITION
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static ContentType fromId(URI id) {
+        return id == null ? null : ContentTypeImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:INTERFACE_DEFINITION).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static ContentType fromString(String id) {
+        return id == null ? null : ContentTypeImpl.defaultInstance(id);
+    }
+
 }
@@ -27,6 +27,15 @@ public interface Contract extends ModelClass {
     @Beta
     public Contract deepCopy();
 
+    @Beta
+    public default Contract deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Contract freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
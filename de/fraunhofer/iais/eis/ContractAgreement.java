@@ -34,6 +34,15 @@ public interface ContractAgreement extends Contract {
     @Beta
     public ContractAgreement deepCopy();
 
+    @Beta
+    public default ContractAgreement deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ContractAgreement freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
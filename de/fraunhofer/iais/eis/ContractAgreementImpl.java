@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 import javax.xml.datatype.XMLGregorianCalendar;
@@ -33,22 +35,39 @@ public class ContractAgreementImpl implements ContractAgreement {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Contract agreement", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<ContractAgreementImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(ContractAgreementImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment =
-        Arrays.asList(new TypedLiteral("Contract governing the actual usage of a Resource that has been agreed by all parties.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Contract agreement", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Contract governing the actual usage of a Resource that has been agreed by all parties.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:consumer", "consumer"})
@@ -83,29 +102,48 @@ public class ContractAgreementImpl implements ContractAgreement {
     protected URI _provider;
 
     protected ContractAgreementImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("contractAgreement");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("contractAgreement"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:ContractAgreement", this.id)
+            .add("consumer", this._consumer)
+            .add("contractDate", this._contractDate)
+            .add("contractEnd", this._contractEnd)
+            .add("contractStart", this._contractStart)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -113,21 +151,20 @@ public class ContractAgreementImpl implements ContractAgreement {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -142,17 +179,25 @@ public class ContractAgreementImpl implements ContractAgreement {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._contractStart,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._contractStart,
             this._contractEnd,
             this._contractDate,
             this._provider,
@@ -162,6 +207,10 @@ public class ContractAgreementImpl implements ContractAgreement {
             this._permission,
             this._prohibition,
             this._obligation);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -189,7 +238,14 @@ public class ContractAgreementImpl implements ContractAgreement {
 
     @Override
     public ContractAgreement deepCopy() {
-        ContractAgreementBuilder builder = new ContractAgreementBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public ContractAgreement deepCopy(CopyContext context) {
+        ContractAgreementBuilder builder =
+            context.preservesIds() ? new ContractAgreementBuilder(getId()) : new ContractAgreementBuilder();
+        context.register(this, builder.buildUnchecked());
         if (this._contractStart != null) {
             builder._contractStart_((XMLGregorianCalendar) this._contractStart.clone());
         }
@@ -200,35 +256,79 @@ public class ContractAgreementImpl implements ContractAgreement {
             builder._contractDate_((XMLGregorianCalendar) this._contractDate.clone());
         }
         if (this._provider != null) {
-            builder._provider_(URI.create(this._provider.toString()));
+            builder._provider_(this._provider);
         }
         if (this._consumer != null) {
-            builder._consumer_(URI.create(this._consumer.toString()));
+            builder._consumer_(this._consumer);
         }
         if (this._contractDocument != null) {
-            builder._contractDocument_(this._contractDocument.deepCopy());
+            builder._contractDocument_(context.copy(this._contractDocument));
         }
         if (this._contractAnnex != null) {
-            builder._contractAnnex_(this._contractAnnex.deepCopy());
+            builder._contractAnnex_(context.copy(this._contractAnnex));
         }
         for (Permission item : this._permission) {
             if (item != null) {
-                builder._permission_(item.deepCopy());
+                builder._permission_(context.copy(item));
             }
         }
         for (Prohibition item : this._prohibition) {
             if (item != null) {
-                builder._prohibition_(item.deepCopy());
+                builder._prohibition_(context.copy(item));
             }
         }
         for (Duty item : this._obligation) {
             if (item != null) {
-                builder._obligation_(item.deepCopy());
+                builder._obligation_(context.copy(item));
             }
         }
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.notNull(this._contractStart, "contractStart");
+        validator.child(this._contractAnnex);
+        validator.child(this._contractDocument);
+        validator.children(this._obligation);
+        validator.children(this._permission);
+        validator.children(this._prohibition);
+    }
+
+    @Override
+    public ContractAgreement freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            Freezer.freeze(this._contractAnnex);
+            Freezer.freeze(this._contractDocument);
+            this._obligation = Freezer.freezeAll(this._obligation);
+            this._permission = Freezer.freezeAll(this._permission);
+            this._prohibition = Freezer.freezeAll(this._prohibition);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -240,6 +340,9 @@ public class ContractAgreementImpl implements ContractAgreement {
 
     @Override
     public void setContractStart(XMLGregorianCalendar _contractStart_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._contractStart = _contractStart_;
     }
 
@@ -251,6 +354,9 @@ public class ContractAgreementImpl implements ContractAgreement {
 
     @Override
     public void setContractEnd(XMLGregorianCalendar _contractEnd_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._contractEnd = _contractEnd_;
     }
 
@@ -262,6 +368,9 @@ public class ContractAgreementImpl implements ContractAgreement {
 
     @Override
     public void setContractDate(XMLGregorianCalendar _contractDate_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._contractDate = _contractDate_;
     }
 
@@ -272,6 +381,9 @@ public class ContractAgreementImpl implements ContractAgreement {
 
     @Override
     public void setProvider(URI _provider_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._provider = _provider_;
     }
 
@@ -282,6 +394,9 @@ public class ContractAgreementImpl implements ContractAgreement {
 
     @Override
     public void setConsumer(URI _consumer_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._consumer = _consumer_;
     }
 
@@ -292,6 +407,9 @@ public class ContractAgreementImpl implements ContractAgreement {
 
     @Override
     public void setContractDocument(TextResource _contractDocument_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._contractDocument = _contractDocument_;
     }
 
@@ -302,6 +420,9 @@ public class ContractAgreementImpl implements ContractAgreement {
 
     @Override
     public void setContractAnnex(Resource _contractAnnex_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._contractAnnex = _contractAnnex_;
     }
 
@@ -312,6 +433,9 @@ public class ContractAgreementImpl implements ContractAgreement {
 
     @Override
     public void setPermission(List<Permission> _permission_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._permission = _permission_;
     }
 
@@ -322,6 +446,9 @@ public class ContractAgreementImpl implements ContractAgreement {
 
     @Override
     public void setProhibition(List<Prohibition> _prohibition_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._prohibition = _prohibition_;
     }
 
@@ -332,6 +459,9 @@ public class ContractAgreementImpl implements ContractAgreement {
 
     @Override
     public void setObligation(List<Duty> _obligation_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._obligation = _obligation_;
     }
 
@@ -19,6 +19,15 @@ public interface ContractAgreementMessage extends ResponseMessage {
     @Beta
     public ContractAgreementMessage deepCopy();
 
+    @Beta
+    public default ContractAgreementMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ContractAgreementMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -34,6 +34,15 @@ public interface ContractOffer extends Contract {
     @Beta
     public ContractOffer deepCopy();
 
+    @Beta
+    public default ContractOffer deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ContractOffer freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -21,6 +21,15 @@ public interface ContractOfferMessage extends NotificationMessage {
     @Beta
     public ContractOfferMessage deepCopy();
 
+    @Beta
+    public default ContractOfferMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ContractOfferMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -19,6 +19,15 @@ public interface ContractRejectionMessage extends RejectionMessage {
     @Beta
     public ContractRejectionMessage deepCopy();
 
+    @Beta
+    public default ContractRejectionMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ContractRejectionMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
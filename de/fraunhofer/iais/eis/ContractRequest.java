@@ -34,6 +34,15 @@ public interface ContractRequest extends Contract {
     @Beta
     public ContractRequest deepCopy();
 
+    @Beta
+    public default ContractRequest deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ContractRequest freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -19,6 +19,15 @@ public interface ContractRequestMessage extends RequestMessage {
     @Beta
     public ContractRequestMessage deepCopy();
 
+    @Beta
+    public default ContractRequestMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ContractRequestMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
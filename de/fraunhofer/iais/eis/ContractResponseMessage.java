@@ -20,6 +20,15 @@ public interface ContractResponseMessage extends ResponseMessage {
     @Beta
     public ContractResponseMessage deepCopy();
 
+    @Beta
+    public default ContractResponseMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ContractResponseMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
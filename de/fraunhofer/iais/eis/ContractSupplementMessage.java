@@ -19,6 +19,15 @@ public interface ContractSupplementMessage extends NotificationMessage {
     @Beta
     public ContractSupplementMessage deepCopy();
 
+    @Beta
+    public default ContractSupplementMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ContractSupplementMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
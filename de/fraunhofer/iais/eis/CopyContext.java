@@ -0,0 +1,84 @@
+package de.fraunhofer.iais.eis;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import de.fraunhofer.iais.eis.util.*;
+
+/**
+ * Keeps track of the objects copied during a deep copy, so that an object referred to from several
+ * places of a graph (e.g. one ContractOffer used by several Resources) is copied only once and all
+ * references point to the same copy. Additionally, the context decides whether the copies keep the
+ * ids of their originals:
+ *
+ * <pre>
+ * ResourceCatalog snapshot = CopyContext.preservingIds().copy(catalog);
+ * </pre>
+ */
+@Beta
+public final class CopyContext {
+
+    private final boolean preserveIds;
+
+    private final Map<ModelClass, ModelClass> copies = new IdentityHashMap<>();
+
+    private CopyContext(boolean preserveIds) {
+        this.preserveIds = preserveIds;
+    }
+
+    /**
+     * This function creates a context whose copies get new random ids, as done by deepCopy().
+     *
+     * @return new copy context
+     */
+    public static CopyContext withNewIds() {
+        return new CopyContext(false);
+    }
+
+    /**
+     * This function creates a context whose copies keep the ids of their originals.
+     *
+     * @return new copy context
+     */
+    public static CopyContext preservingIds() {
+        return new CopyContext(true);
+    }
+
+    /**
+     * This function retrieves whether the copies keep the ids of their originals.
+     *
+     * @return true, if the ids are kept
+     */
+    public boolean preservesIds() {
+        return preserveIds;
+    }
+
+    /**
+     * This function returns the copy of the given object within this context, creating it on first
+     * request.
+     *
+     * @param original object to copy, may be null
+     * @param <T> type of the object
+     * @return copy of the object or null, if the given object is null
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends ModelClass> T copy(T original) {
+        if (original == null) {
+            return null;
+        }
+        ModelClass copy = copies.get(original);
+        return copy != null ? (T) copy : (T) original.deepCopy(this);
+    }
+
+    /**
+     * This function records the copy of an object before its properties are copied, so that further
+     * references to the object, including cyclic ones, resolve to the same copy.
+     *
+     * @param original object being copied
+     * @param copy copy of the object
+     */
+    public void register(ModelClass original, ModelClass copy) {
+        copies.put(original, copy);
+    }
+
+}
@@ -19,6 +19,15 @@ public interface CustomMediaType extends MediaType {
     @Beta
     public CustomMediaType deepCopy();
 
+    @Beta
+    public default CustomMediaType deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default CustomMediaType freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -20,6 +20,15 @@ public interface DAPS extends InfrastructureComponent {
     @Beta
     public DAPS deepCopy();
 
+    @Beta
+    public default DAPS deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default DAPS freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -26,6 +26,15 @@ public interface DatPayload extends JwtPayload {
     @Beta
     public DatPayload deepCopy();
 
+    @Beta
+    public default DatPayload deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default DatPayload freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -164,7 +164,8 @@ public class DatPayloadBuilder implements Builder<DatPayload> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -172,7 +173,21 @@ public class DatPayloadBuilder implements Builder<DatPayload> {
      */
     @Override
     public DatPayload build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(datPayloadImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(datPayloadImpl);
+        }
+        return datPayloadImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public DatPayload buildUnchecked() {
         return datPayloadImpl;
     }
 }
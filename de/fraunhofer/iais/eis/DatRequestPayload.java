@@ -26,6 +26,15 @@ public interface DatRequestPayload extends JwtPayload {
     @Beta
     public DatRequestPayload deepCopy();
 
+    @Beta
+    public default DatRequestPayload deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default DatRequestPayload freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
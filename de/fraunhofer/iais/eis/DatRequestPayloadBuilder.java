@@ -142,7 +142,8 @@ public class DatRequestPayloadBuilder implements Builder<DatRequestPayload> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -150,7 +151,21 @@ public class DatRequestPayloadBuilder implements Builder<DatRequestPayload> {
      */
     @Override
     public DatRequestPayload build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(datRequestPayloadImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(datRequestPayloadImpl);
+        }
+        return datRequestPayloadImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public DatRequestPayload buildUnchecked() {
         return datRequestPayloadImpl;
     }
 }
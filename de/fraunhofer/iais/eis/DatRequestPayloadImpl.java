@@ -2,13 +2,15 @@ package de.fraunhofer.iais.eis;
 
 import java.math.BigInteger;
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
@@ -41,23 +43,39 @@ public class DatRequestPayloadImpl implements DatRequestPayload {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("DAT Request Payload", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<DatRequestPayloadImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(DatRequestPayloadImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment = Arrays.asList(new TypedLiteral(
-        "The Dynamic Attribute Token (DAT) *Request* Payload is the JSON Element of any DAT containing the claims of the token bearer. This payload itself is a JSON-LD encoded RDF class with a defined set of attributes. These attributes are either defined by RFC 7519 or by the IDS Information Model. As a direct consequence of regarding the DAT Payload as JSON-LD, *all* DAT Payloads must have exactly one \"@context\" attribute with the IDS context URI as its value and a \"@type\" with ids:DatPayload as its value. Note that, different to the DatPayload, the DatRequestPayload contains the *self-claims* of a connector and is not yet signed by any DAPS. Consequently, no other connector must accept a DatRequest object as a DAT. A DatRequest and its contained DatRequestPayload is *only* intended for interactions with a DAPS and *nothing else*!",
-        "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("DAT Request Payload", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("The Dynamic Attribute Token (DAT) *Request* Payload is the JSON Element of any DAT containing the claims of the token bearer. This payload itself is a JSON-LD encoded RDF class with a defined set of attributes. These attributes are either defined by RFC 7519 or by the IDS Information Model. As a direct consequence of regarding the DAT Payload as JSON-LD, *all* DAT Payloads must have exactly one \"@context\" attribute with the IDS context URI as its value and a \"@type\" with ids:DatPayload as its value. Note that, different to the DatPayload, the DatRequestPayload contains the *self-claims* of a connector and is not yet signed by any DAPS. Consequently, no other connector must accept a DatRequest object as a DAT. A DatRequest and its contained DatRequestPayload is *only* intended for interactions with a DAPS and *nothing else*!", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @NotNull
@@ -99,29 +117,48 @@ public class DatRequestPayloadImpl implements DatRequestPayload {
     protected List<String> _transportCertsSha256 = new ArrayList<>();
 
     protected DatRequestPayloadImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("datRequestPayload");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("datRequestPayload"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:DatRequestPayload", this.id)
+            .add("exp", this._exp)
+            .add("iat", this._iat)
+            .add("iss", this._iss)
+            .add("nbf", this._nbf)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -129,21 +166,20 @@ public class DatRequestPayloadImpl implements DatRequestPayload {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -158,17 +194,25 @@ public class DatRequestPayloadImpl implements DatRequestPayload {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._transportCertsSha256,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._transportCertsSha256,
             this._aud,
             this._exp,
             this._iat,
@@ -178,6 +222,10 @@ public class DatRequestPayloadImpl implements DatRequestPayload {
             this._scope,
             this._sub,
             this._securityProfile);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -205,7 +253,14 @@ public class DatRequestPayloadImpl implements DatRequestPayload {
 
     @Override
     public DatRequestPayload deepCopy() {
-        DatRequestPayloadBuilder builder = new DatRequestPayloadBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public DatRequestPayload deepCopy(CopyContext context) {
+        DatRequestPayloadBuilder builder =
+            context.preservesIds() ? new DatRequestPayloadBuilder(getId()) : new DatRequestPayloadBuilder();
+        context.register(this, builder.buildUnchecked());
         for (String item : this._transportCertsSha256) {
             builder._transportCertsSha256_(item);
         }
@@ -215,7 +270,7 @@ public class DatRequestPayloadImpl implements DatRequestPayload {
         builder._iss_(this._iss);
         builder._nbf_(this._nbf);
         if (this._referringConnector != null) {
-            builder._referringConnector_(URI.create(this._referringConnector.toString()));
+            builder._referringConnector_(this._referringConnector);
         }
         builder._scope_(this._scope);
         builder._sub_(this._sub);
@@ -223,6 +278,52 @@ public class DatRequestPayloadImpl implements DatRequestPayload {
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.notEmpty(this._transportCertsSha256, "transportCertsSha256");
+        validator.notNull(this._aud, "aud");
+        validator.notNull(this._exp, "exp");
+        validator.notNull(this._iat, "iat");
+        validator.notNull(this._nbf, "nbf");
+        validator.notNull(this._scope, "scope");
+        validator.notNull(this._sub, "sub");
+        validator.notNull(this._securityProfile, "securityProfile");
+        validator.child(this._aud);
+        validator.child(this._securityProfile);
+    }
+
+    @Override
+    public DatRequestPayload freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            Freezer.freeze(this._aud);
+            Freezer.freeze(this._securityProfile);
+            this._transportCertsSha256 = Freezer.freezeAll(this._transportCertsSha256);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -233,6 +334,9 @@ public class DatRequestPayloadImpl implements DatRequestPayload {
 
     @Override
     public void setTransportCertsSha256(List<String> _transportCertsSha256_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._transportCertsSha256 = _transportCertsSha256_;
     }
 
@@ -244,6 +348,9 @@ public class DatRequestPayloadImpl implements DatRequestPayload {
 
     @Override
     public void setAud(Audience _aud_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._aud = _aud_;
     }
 
@@ -255,6 +362,9 @@ public class DatRequestPayloadImpl implements DatRequestPayload {
 
     @Override
     public void setExp(BigInteger _exp_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._exp = _exp_;
     }
 
@@ -266,6 +376,9 @@ public class DatRequestPayloadImpl implements DatRequestPayload {
 
     @Override
     public void setIat(BigInteger _iat_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._iat = _iat_;
     }
 
@@ -276,6 +389,9 @@ public class DatRequestPayloadImpl implements DatRequestPayload {
 
     @Override
     public void setIss(String _iss_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._iss = _iss_;
     }
 
@@ -287,6 +403,9 @@ public class DatRequestPayloadImpl implements DatRequestPayload {
 
     @Override
     public void setNbf(BigInteger _nbf_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._nbf = _nbf_;
     }
 
@@ -297,6 +416,9 @@ public class DatRequestPayloadImpl implements DatRequestPayload {
 
     @Override
     public void setReferringConnector(URI _referringConnector_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._referringConnector = _referringConnector_;
     }
 
@@ -308,6 +430,9 @@ public class DatRequestPayloadImpl implements DatRequestPayload {
 
     @Override
     public void setScope(String _scope_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._scope = _scope_;
     }
 
@@ -319,6 +444,9 @@ public class DatRequestPayloadImpl implements DatRequestPayload {
 
     @Override
     public void setSub(String _sub_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._sub = _sub_;
     }
 
@@ -330,6 +458,9 @@ public class DatRequestPayloadImpl implements DatRequestPayload {
 
     @Override
     public void setSecurityProfile(SecurityProfile _securityProfile_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._securityProfile = _securityProfile_;
     }
 }
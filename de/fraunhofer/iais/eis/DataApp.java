@@ -27,6 +27,15 @@ public interface DataApp extends ModelClass {
     @Beta
     public DataApp deepCopy();
 
+    @Beta
+    public default DataApp deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default DataApp freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
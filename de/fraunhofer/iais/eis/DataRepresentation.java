@@ -21,6 +21,15 @@ public interface DataRepresentation extends Representation {
     @Beta
     public DataRepresentation deepCopy();
 
+    @Beta
+    public default DataRepresentation deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default DataRepresentation freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -18,6 +18,15 @@ public interface DataResource extends Resource {
     @Beta
     public DataResource deepCopy();
 
+    @Beta
+    public default DataResource deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default DataResource freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -506,7 +506,8 @@ public class DataResourceBuilder implements Builder<DataResource> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -514,7 +515,21 @@ public class DataResourceBuilder implements Builder<DataResource> {
      */
     @Override
     public DataResource build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(dataResourceImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(dataResourceImpl);
+        }
+        return dataResourceImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public DataResource buildUnchecked() {
         return dataResourceImpl;
     }
 }
@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 import javax.xml.datatype.XMLGregorianCalendar;
@@ -33,21 +35,39 @@ public class DataResourceImpl implements DataResource {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Data Resource", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<DataResourceImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(DataResourceImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment = Arrays.asList(new TypedLiteral("Resource (at least partially) comprising data content.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Data Resource", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Resource (at least partially) comprising data content.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:accrualPeriodicity", "accrualPeriodicity"})
@@ -141,29 +161,48 @@ public class DataResourceImpl implements DataResource {
     protected String _version;
 
     protected DataResourceImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("dataResource");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("dataResource"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:DataResource", this.id)
+            .add("title", this._title)
+            .add("contentStandard", this._contentStandard)
+            .add("created", this._created)
+            .add("customLicense", this._customLicense)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -171,21 +210,20 @@ public class DataResourceImpl implements DataResource {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -200,17 +238,25 @@ public class DataResourceImpl implements DataResource {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._standardLicense,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._standardLicense,
             this._customLicense,
             this._resourcePart,
             this._resourceEndpoint,
@@ -240,6 +286,10 @@ public class DataResourceImpl implements DataResource {
             this._description,
             this._shapesGraph,
             this._version);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -287,68 +337,75 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public DataResource deepCopy() {
-        DataResourceBuilder builder = new DataResourceBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public DataResource deepCopy(CopyContext context) {
+        DataResourceBuilder builder =
+            context.preservesIds() ? new DataResourceBuilder(getId()) : new DataResourceBuilder();
+        context.register(this, builder.buildUnchecked());
         if (this._standardLicense != null) {
-            builder._standardLicense_(URI.create(this._standardLicense.toString()));
+            builder._standardLicense_(this._standardLicense);
         }
         if (this._customLicense != null) {
-            builder._customLicense_(URI.create(this._customLicense.toString()));
+            builder._customLicense_(this._customLicense);
         }
         for (Resource item : this._resourcePart) {
             if (item != null) {
-                builder._resourcePart_(item.deepCopy());
+                builder._resourcePart_(context.copy(item));
             }
         }
         for (ConnectorEndpoint item : this._resourceEndpoint) {
             if (item != null) {
-                builder._resourceEndpoint_(item.deepCopy());
+                builder._resourceEndpoint_(context.copy(item));
             }
         }
         for (ContractOffer item : this._contractOffer) {
             if (item != null) {
-                builder._contractOffer_(item.deepCopy());
+                builder._contractOffer_(context.copy(item));
             }
         }
         builder._paymentModality_(this._paymentModality);
         if (this._publisherAsObject != null) {
-            builder._publisherAsObject_(this._publisherAsObject.deepCopy());
+            builder._publisherAsObject_(context.copy(this._publisherAsObject));
         }
         if (this._publisherAsUri != null) {
-            builder._publisherAsUri_(URI.create(this._publisherAsUri.toString()));
+            builder._publisherAsUri_(this._publisherAsUri);
         }
         if (this._sovereignAsObject != null) {
-            builder._sovereignAsObject_(this._sovereignAsObject.deepCopy());
+            builder._sovereignAsObject_(context.copy(this._sovereignAsObject));
         }
         if (this._sovereignAsUri != null) {
-            builder._sovereignAsUri_(URI.create(this._sovereignAsUri.toString()));
+            builder._sovereignAsUri_(this._sovereignAsUri);
         }
         for (Resource item : this._sample) {
             if (item != null) {
-                builder._sample_(item.deepCopy());
+                builder._sample_(context.copy(item));
             }
         }
         if (this._variant != null) {
-            builder._variant_(this._variant.deepCopy());
+            builder._variant_(context.copy(this._variant));
         }
         builder._contentType_(this._contentType);
         for (DigitalContent item : this._contentPart) {
             if (item != null) {
-                builder._contentPart_(item.deepCopy());
+                builder._contentPart_(context.copy(item));
             }
         }
         for (Representation item : this._representation) {
             if (item != null) {
-                builder._representation_(item.deepCopy());
+                builder._representation_(context.copy(item));
             }
         }
         for (Representation item : this._defaultRepresentation) {
             if (item != null) {
-                builder._defaultRepresentation_(item.deepCopy());
+                builder._defaultRepresentation_(context.copy(item));
             }
         }
         for (URI item : this._theme) {
             if (item != null) {
-                builder._theme_(URI.create(item.toString()));
+                builder._theme_(item);
             }
         }
         for (TypedLiteral item : this._keyword) {
@@ -360,18 +417,18 @@ public class DataResourceImpl implements DataResource {
         }
         for (TemporalEntity item : this._temporalCoverage) {
             if (item != null) {
-                builder._temporalCoverage_(item.deepCopy());
+                builder._temporalCoverage_(context.copy(item));
             }
         }
         builder._temporalResolution_(this._temporalResolution);
         for (Location item : this._spatialCoverage) {
             if (item != null) {
-                builder._spatialCoverage_(item.deepCopy());
+                builder._spatialCoverage_(context.copy(item));
             }
         }
         builder._accrualPeriodicity_(this._accrualPeriodicity);
         if (this._contentStandard != null) {
-            builder._contentStandard_(URI.create(this._contentStandard.toString()));
+            builder._contentStandard_(this._contentStandard);
         }
         for (Language item : this._language) {
             builder._language_(item);
@@ -397,12 +454,83 @@ public class DataResourceImpl implements DataResource {
             }
         }
         if (this._shapesGraph != null) {
-            builder._shapesGraph_(URI.create(this._shapesGraph.toString()));
+            builder._shapesGraph_(this._shapesGraph);
         }
         builder._version_(this._version);
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.child(this._accrualPeriodicity);
+        validator.children(this._contentPart);
+        validator.child(this._contentType);
+        validator.children(this._contractOffer);
+        validator.children(this._defaultRepresentation);
+        validator.children(this._language);
+        validator.child(this._paymentModality);
+        validator.child(this._publisherAsObject);
+        validator.children(this._representation);
+        validator.children(this._resourceEndpoint);
+        validator.children(this._resourcePart);
+        validator.children(this._sample);
+        validator.child(this._sovereignAsObject);
+        validator.children(this._spatialCoverage);
+        validator.children(this._temporalCoverage);
+        validator.child(this._temporalResolution);
+        validator.child(this._variant);
+    }
+
+    @Override
+    public DataResource freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            Freezer.freeze(this._accrualPeriodicity);
+            this._contentPart = Freezer.freezeAll(this._contentPart);
+            Freezer.freeze(this._contentType);
+            this._contractOffer = Freezer.freezeAll(this._contractOffer);
+            this._defaultRepresentation = Freezer.freezeAll(this._defaultRepresentation);
+            this._description = Freezer.freezeAll(this._description);
+            this._keyword = Freezer.freezeAll(this._keyword);
+            this._language = Freezer.freezeAll(this._language);
+            Freezer.freeze(this._paymentModality);
+            Freezer.freeze(this._publisherAsObject);
+            this._representation = Freezer.freezeAll(this._representation);
+            this._resourceEndpoint = Freezer.freezeAll(this._resourceEndpoint);
+            this._resourcePart = Freezer.freezeAll(this._resourcePart);
+            this._sample = Freezer.freezeAll(this._sample);
+            Freezer.freeze(this._sovereignAsObject);
+            this._spatialCoverage = Freezer.freezeAll(this._spatialCoverage);
+            this._temporalCoverage = Freezer.freezeAll(this._temporalCoverage);
+            Freezer.freeze(this._temporalResolution);
+            this._theme = Freezer.freezeAll(this._theme);
+            this._title = Freezer.freezeAll(this._title);
+            Freezer.freeze(this._variant);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -412,6 +540,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setStandardLicense(URI _standardLicense_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._standardLicense = _standardLicense_;
     }
 
@@ -422,6 +553,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setCustomLicense(URI _customLicense_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._customLicense = _customLicense_;
     }
 
@@ -432,6 +566,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setResourcePart(List<Resource> _resourcePart_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._resourcePart = _resourcePart_;
     }
 
@@ -442,6 +579,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setResourceEndpoint(List<ConnectorEndpoint> _resourceEndpoint_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._resourceEndpoint = _resourceEndpoint_;
     }
 
@@ -452,6 +592,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setContractOffer(List<ContractOffer> _contractOffer_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._contractOffer = _contractOffer_;
     }
 
@@ -462,6 +605,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setPaymentModality(PaymentModality _paymentModality_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._paymentModality = _paymentModality_;
     }
 
@@ -472,6 +618,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setPublisherAsObject(Agent _publisher_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._publisherAsObject = _publisher_;
     }
 
@@ -482,6 +631,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setPublisherAsUri(URI _publisher_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._publisherAsUri = _publisher_;
     }
 
@@ -503,6 +655,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setSovereignAsObject(Agent _sovereign_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._sovereignAsObject = _sovereign_;
     }
 
@@ -513,6 +668,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setSovereignAsUri(URI _sovereign_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._sovereignAsUri = _sovereign_;
     }
 
@@ -534,6 +692,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setSample(List<Resource> _sample_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._sample = _sample_;
     }
 
@@ -544,6 +705,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setVariant(Resource _variant_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._variant = _variant_;
     }
 
@@ -554,6 +718,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setContentType(ContentType _contentType_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._contentType = _contentType_;
     }
 
@@ -564,6 +731,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setContentPart(List<DigitalContent> _contentPart_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._contentPart = _contentPart_;
     }
 
@@ -574,6 +744,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setRepresentation(List<Representation> _representation_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._representation = _representation_;
     }
 
@@ -584,6 +757,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setDefaultRepresentation(List<Representation> _defaultRepresentation_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._defaultRepresentation = _defaultRepresentation_;
     }
 
@@ -594,6 +770,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setTheme(List<URI> _theme_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._theme = _theme_;
     }
 
@@ -604,6 +783,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setKeyword(List<TypedLiteral> _keyword_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._keyword = _keyword_;
     }
 
@@ -614,6 +796,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setTemporalCoverage(List<TemporalEntity> _temporalCoverage_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._temporalCoverage = _temporalCoverage_;
     }
 
@@ -624,6 +809,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setTemporalResolution(Frequency _temporalResolution_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._temporalResolution = _temporalResolution_;
     }
 
@@ -634,6 +822,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setSpatialCoverage(List<Location> _spatialCoverage_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._spatialCoverage = _spatialCoverage_;
     }
 
@@ -644,6 +835,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setAccrualPeriodicity(Frequency _accrualPeriodicity_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._accrualPeriodicity = _accrualPeriodicity_;
     }
 
@@ -654,6 +848,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setContentStandard(URI _contentStandard_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._contentStandard = _contentStandard_;
     }
 
@@ -664,6 +861,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setLanguage(List<Language> _language_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._language = _language_;
     }
 
@@ -675,6 +875,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setCreated(XMLGregorianCalendar _created_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._created = _created_;
     }
 
@@ -686,6 +889,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setModified(XMLGregorianCalendar _modified_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._modified = _modified_;
     }
 
@@ -696,6 +902,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setTitle(List<TypedLiteral> _title_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._title = _title_;
     }
 
@@ -706,6 +915,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setDescription(List<TypedLiteral> _description_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._description = _description_;
     }
 
@@ -716,6 +928,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setShapesGraph(URI _shapesGraph_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._shapesGraph = _shapesGraph_;
     }
 
@@ -726,6 +941,9 @@ public class DataResourceImpl implements DataResource {
 
     @Override
     public void setVersion(String _version_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._version = _version_;
     }
 }
@@ -19,6 +19,15 @@ public interface DeleteAfterIntervalAgreement extends ContractAgreement {
     @Beta
     public DeleteAfterIntervalAgreement deepCopy();
 
+    @Beta
+    public default DeleteAfterIntervalAgreement deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default DeleteAfterIntervalAgreement freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -19,6 +19,15 @@ public interface DeleteAfterIntervalOffer extends ContractOffer {
     @Beta
     public DeleteAfterIntervalOffer deepCopy();
 
+    @Beta
+    public default DeleteAfterIntervalOffer deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default DeleteAfterIntervalOffer freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -19,6 +19,15 @@ public interface DeleteAfterIntervalRequest extends ContractRequest {
     @Beta
     public DeleteAfterIntervalRequest deepCopy();
 
+    @Beta
+    public default DeleteAfterIntervalRequest deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default DeleteAfterIntervalRequest freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
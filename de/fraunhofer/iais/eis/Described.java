@@ -25,6 +25,15 @@ public interface Described extends ModelClass {
     @Beta
     public Described deepCopy();
 
+    @Beta
+    public default Described deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Described freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
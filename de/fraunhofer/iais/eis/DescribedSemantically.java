@@ -22,6 +22,15 @@ public interface DescribedSemantically extends ModelClass {
     @Beta
     public DescribedSemantically deepCopy();
 
+    @Beta
+    public default DescribedSemantically deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default DescribedSemantically freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -26,6 +26,15 @@ public interface DescriptionRequestMessage extends RequestMessage {
     @Beta
     public DescriptionRequestMessage deepCopy();
 
+    @Beta
+    public default DescriptionRequestMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default DescriptionRequestMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -19,6 +19,15 @@ public interface DescriptionResponseMessage extends ResponseMessage {
     @Beta
     public DescriptionResponseMessage deepCopy();
 
+    @Beta
+    public default DescriptionResponseMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default DescriptionResponseMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
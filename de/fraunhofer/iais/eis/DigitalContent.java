@@ -26,6 +26,15 @@ public interface DigitalContent extends Described {
     @Beta
     public DigitalContent deepCopy();
 
+    @Beta
+    public default DigitalContent deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default DigitalContent freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
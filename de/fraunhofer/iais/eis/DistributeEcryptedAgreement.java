@@ -18,6 +18,15 @@ public interface DistributeEcryptedAgreement extends ContractAgreement {
     @Beta
     public DistributeEcryptedAgreement deepCopy();
 
+    @Beta
+    public default DistributeEcryptedAgreement deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default DistributeEcryptedAgreement freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -18,6 +18,15 @@ public interface DistributeEcryptedOffer extends ContractOffer {
     @Beta
     public DistributeEcryptedOffer deepCopy();
 
+    @Beta
+    public default DistributeEcryptedOffer deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default DistributeEcryptedOffer freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
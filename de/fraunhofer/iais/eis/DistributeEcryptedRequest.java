@@ -18,6 +18,15 @@ public interface DistributeEcryptedRequest extends ContractRequest {
     @Beta
     public DistributeEcryptedRequest deepCopy();
 
+    @Beta
+    public default DistributeEcryptedRequest deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default DistributeEcryptedRequest freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
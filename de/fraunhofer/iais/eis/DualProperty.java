@@ -0,0 +1,53 @@
+package de.fraunhofer.iais.eis;
+
+import java.net.URI;
+import java.util.AbstractList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Helper functions for the properties that can hold both model objects and URIs of model objects
+ * (e.g. ids:offeredResource of a ResourceCatalog), which are stored as an AsObject and an AsUri list.
+ */
+final class DualProperty {
+
+    private DualProperty() {}
+
+    /**
+     * Removes the URIs of the given objects from the given URI list, so that an object is not listed
+     * twice. The ids are collected in a hash set first, so that the cost is linear in the size of both
+     * lists even for catalogs with many thousand entries.
+     */
+    static void removeObjectIds(List<URI> uris, List<? extends ModelClass> objects) {
+        if (uris == null || objects == null || uris.isEmpty() || objects.isEmpty()) {
+            return;
+        }
+        Set<URI> ids = new HashSet<>(objects.size() * 4 / 3 + 1);
+        for (ModelClass object : objects) {
+            ids.add(object.getId());
+        }
+        uris.removeIf(ids::contains);
+    }
+
+    /**
+     * Creates a read-only view of both lists, objects first, without copying their elements. The view
+     * reflects later changes of the lists.
+     */
+    static List<Object> union(List<?> objects, List<URI> uris) {
+        return new AbstractList<Object>() {
+
+            @Override
+            public Object get(int index) {
+                int objectCount = objects.size();
+                return index < objectCount ? objects.get(index) : uris.get(index - objectCount);
+            }
+
+            @Override
+            public int size() {
+                return objects.size() + uris.size();
+            }
+        };
+    }
+
+}
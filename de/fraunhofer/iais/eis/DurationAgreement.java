@@ -18,6 +18,15 @@ public interface DurationAgreement extends ContractAgreement {
     @Beta
     public DurationAgreement deepCopy();
 
+    @Beta
+    public default DurationAgreement deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default DurationAgreement freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -20,6 +20,15 @@ public interface DurationEntity extends TemporalEntity {
     @Beta
     public DurationEntity deepCopy();
 
+    @Beta
+    public default DurationEntity deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default DurationEntity freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -30,7 +30,8 @@ public class DurationEntityBuilder implements Builder<DurationEntity> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -38,7 +39,21 @@ public class DurationEntityBuilder implements Builder<DurationEntity> {
      */
     @Override
     public DurationEntity build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(durationEntityImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(durationEntityImpl);
+        }
+        return durationEntityImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public DurationEntity buildUnchecked() {
         return durationEntityImpl;
     }
 }
@@ -18,6 +18,15 @@ public interface DurationOffer extends ContractOffer {
     @Beta
     public DurationOffer deepCopy();
 
+    @Beta
+    public default DurationOffer deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default DurationOffer freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -18,6 +18,15 @@ public interface DurationRequest extends ContractRequest {
     @Beta
     public DurationRequest deepCopy();
 
+    @Beta
+    public default DurationRequest deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default DurationRequest freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
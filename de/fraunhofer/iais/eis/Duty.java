@@ -18,6 +18,15 @@ public interface Duty extends Rule {
     @Beta
     public Duty deepCopy();
 
+    @Beta
+    public default Duty deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Duty freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -174,7 +174,8 @@ public class DutyBuilder implements Builder<Duty> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -182,7 +183,21 @@ public class DutyBuilder implements Builder<Duty> {
      */
     @Override
     public Duty build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(dutyImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(dutyImpl);
+        }
+        return dutyImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public Duty buildUnchecked() {
         return dutyImpl;
     }
 }
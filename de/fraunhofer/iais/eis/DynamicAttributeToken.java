@@ -21,6 +21,15 @@ public interface DynamicAttributeToken extends Token {
     @Beta
     public DynamicAttributeToken deepCopy();
 
+    @Beta
+    public default DynamicAttributeToken deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default DynamicAttributeToken freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -25,6 +25,15 @@ public interface Endpoint extends ModelClass {
     @Beta
     public Endpoint deepCopy();
 
+    @Beta
+    public default Endpoint deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Endpoint freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
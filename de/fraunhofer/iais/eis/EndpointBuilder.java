@@ -130,7 +130,8 @@ public class EndpointBuilder implements Builder<Endpoint> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -138,7 +139,21 @@ public class EndpointBuilder implements Builder<Endpoint> {
      */
     @Override
     public Endpoint build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(endpointImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(endpointImpl);
+        }
+        return endpointImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public Endpoint buildUnchecked() {
         return endpointImpl;
     }
 }
@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 
@@ -31,22 +33,39 @@ public class EndpointImpl implements Endpoint {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Endpoint", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<EndpointImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(EndpointImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment =
-        Arrays.asList(new TypedLiteral("Access point of data exchange, service interaction and service description.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Endpoint", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Access point of data exchange, service interaction and service description.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:accessURL", "accessURL"})
@@ -71,29 +90,48 @@ public class EndpointImpl implements Endpoint {
     protected String _path;
 
     protected EndpointImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("endpoint");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("endpoint"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:Endpoint", this.id)
+            .add("accessURL", this._accessURL)
+            .add("inboundPath", this._inboundPath)
+            .add("outboundPath", this._outboundPath)
+            .add("path", this._path)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -101,21 +139,20 @@ public class EndpointImpl implements Endpoint {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -130,23 +167,35 @@ public class EndpointImpl implements Endpoint {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._accessURL,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._accessURL,
             this._endpointInformation,
             this._endpointDocumentation,
             this._path,
             this._inboundPath,
             this._outboundPath,
             this._apiSpecifiation);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -171,9 +220,16 @@ public class EndpointImpl implements Endpoint {
 
     @Override
     public Endpoint deepCopy() {
-        EndpointBuilder builder = new EndpointBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public Endpoint deepCopy(CopyContext context) {
+        EndpointBuilder builder =
+            context.preservesIds() ? new EndpointBuilder(getId()) : new EndpointBuilder();
+        context.register(this, builder.buildUnchecked());
         if (this._accessURL != null) {
-            builder._accessURL_(URI.create(this._accessURL.toString()));
+            builder._accessURL_(this._accessURL);
         }
         for (TypedLiteral item : this._endpointInformation) {
             if (item != null && item.getLanguage() != null) {
@@ -184,7 +240,7 @@ public class EndpointImpl implements Endpoint {
         }
         for (URI item : this._endpointDocumentation) {
             if (item != null) {
-                builder._endpointDocumentation_(URI.create(item.toString()));
+                builder._endpointDocumentation_(item);
             }
         }
         builder._path_(this._path);
@@ -196,6 +252,43 @@ public class EndpointImpl implements Endpoint {
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.children(this._apiSpecifiation);
+    }
+
+    @Override
+    public Endpoint freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            this._apiSpecifiation = Freezer.freezeAll(this._apiSpecifiation);
+            this._endpointDocumentation = Freezer.freezeAll(this._endpointDocumentation);
+            this._endpointInformation = Freezer.freezeAll(this._endpointInformation);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -205,6 +298,9 @@ public class EndpointImpl implements Endpoint {
 
     @Override
     public void setAccessURL(URI _accessURL_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._accessURL = _accessURL_;
     }
 
@@ -215,6 +311,9 @@ public class EndpointImpl implements Endpoint {
 
     @Override
     public void setEndpointInformation(List<TypedLiteral> _endpointInformation_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._endpointInformation = _endpointInformation_;
     }
 
@@ -225,6 +324,9 @@ public class EndpointImpl implements Endpoint {
 
     @Override
     public void setEndpointDocumentation(List<URI> _endpointDocumentation_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._endpointDocumentation = _endpointDocumentation_;
     }
 
@@ -235,6 +337,9 @@ public class EndpointImpl implements Endpoint {
 
     @Override
     public void setPath(String _path_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._path = _path_;
     }
 
@@ -245,6 +350,9 @@ public class EndpointImpl implements Endpoint {
 
     @Override
     public void setInboundPath(String _inboundPath_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._inboundPath = _inboundPath_;
     }
 
@@ -255,6 +363,9 @@ public class EndpointImpl implements Endpoint {
 
     @Override
     public void setOutboundPath(String _outboundPath_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._outboundPath = _outboundPath_;
     }
 
@@ -265,6 +376,9 @@ public class EndpointImpl implements Endpoint {
 
     @Override
     public void setApiSpecifiation(List<IdsProtocolSpecification> _apiSpecifiation_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._apiSpecifiation = _apiSpecifiation_;
     }
 }
@@ -19,6 +19,15 @@ public interface EvaluationFacility extends ModelClass {
     @Beta
     public EvaluationFacility deepCopy();
 
+    @Beta
+    public default EvaluationFacility deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default EvaluationFacility freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -18,6 +18,15 @@ public interface Event extends ModelClass {
     @Beta
     public Event deepCopy();
 
+    @Beta
+    public default Event deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Event freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -18,6 +18,15 @@ public interface EventAgreement extends ContractAgreement {
     @Beta
     public EventAgreement deepCopy();
 
+    @Beta
+    public default EventAgreement deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default EventAgreement freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
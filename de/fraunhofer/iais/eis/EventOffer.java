@@ -18,6 +18,15 @@ public interface EventOffer extends ContractOffer {
     @Beta
     public EventOffer deepCopy();
 
+    @Beta
+    public default EventOffer deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default EventOffer freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
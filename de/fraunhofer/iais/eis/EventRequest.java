@@ -18,6 +18,15 @@ public interface EventRequest extends ContractRequest {
     @Beta
     public EventRequest deepCopy();
 
+    @Beta
+    public default EventRequest deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default EventRequest freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -0,0 +1,48 @@
+package de.fraunhofer.iais.eis;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Helper functions for the freeze() implementations of the model classes.
+ */
+final class Freezer {
+
+    private Freezer() {}
+
+    /**
+     * Freezes the model objects in the given list and returns an unmodifiable copy of it, which
+     * replaces the list in the frozen object. The list is copied, as it may still be referenced by the
+     * caller that handed it to the builder or setter.
+     */
+    static <T> List<T> freezeAll(List<T> values) {
+        if (values == null) {
+            return null;
+        }
+        List<T> copy = new ArrayList<>(values);
+        for (T value : copy) {
+            if (value instanceof ModelClass) {
+                ((ModelClass) value).freeze();
+            }
+        }
+        return Collections.unmodifiableList(copy);
+    }
+
+    /**
+     * Freezes the given model object, if any.
+     */
+    static void freeze(ModelClass value) {
+        if (value != null) {
+            value.freeze();
+        }
+    }
+
+    /**
+     * Creates the exception thrown on an attempt to modify a frozen object.
+     */
+    static UnsupportedOperationException frozen(ModelClass object) {
+        return new UnsupportedOperationException(object.getClass().getSimpleName() + " " + object.getId() + " is frozen");
+    }
+
+}
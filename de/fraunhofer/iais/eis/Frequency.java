@@ -20,6 +20,15 @@ public interface Frequency extends ModelClass {
     @Beta
     public Frequency deepCopy();
 
+    @Beta
+    public default Frequency deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Frequency freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /**
@@ -152,4 +161,29 @@ public interface Frequency extends ModelClass {
      */
     Frequency WEEKLY = new FrequencyBuilder(URI.create("https://w3id.org/idsa/code/WEEKLY")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/ANNUAL
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static Frequency fromId(URI id) {
+        return id == null ? null : FrequencyImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:ANNUAL).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static Frequency fromString(String id) {
+        return id == null ? null : FrequencyImpl.defaultInstance(id);
+    }
+
 }
@@ -19,7 +19,8 @@ public class FrequencyBuilder implements Builder<Frequency> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -27,7 +28,21 @@ public class FrequencyBuilder implements Builder<Frequency> {
      */
     @Override
     public Frequency build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(frequencyImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(frequencyImpl);
+        }
+        return frequencyImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public Frequency buildUnchecked() {
         return frequencyImpl;
     }
 }
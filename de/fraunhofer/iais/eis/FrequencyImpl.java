@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 
@@ -31,47 +33,79 @@ public class FrequencyImpl implements Frequency {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Frequency", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<FrequencyImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(FrequencyImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment = Arrays.asList(new TypedLiteral("Class of all frequencies.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Frequency", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Class of all frequencies.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     protected FrequencyImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("frequency");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("frequency"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:Frequency", this.id).build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -79,21 +113,20 @@ public class FrequencyImpl implements Frequency {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -108,17 +141,29 @@ public class FrequencyImpl implements Frequency {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode());
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hashCode(this.getId());
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -131,15 +176,110 @@ public class FrequencyImpl implements Frequency {
             return false;
         } else {
             FrequencyImpl other = (FrequencyImpl) obj;
-            return Objects.equals(this.id, other.id);
+            return Objects.equals(this.getId(), other.getId());
         }
     }
 
     @Override
     public Frequency deepCopy() {
-        FrequencyBuilder builder = new FrequencyBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
 
+    @Override
+    public Frequency deepCopy(CopyContext context) {
+        if (Frequency.fromId(this.id) == this) {
+            // default instances are shared instead of copied
+            return this;
+        }
+        FrequencyBuilder builder =
+            context.preservesIds() ? new FrequencyBuilder(getId()) : new FrequencyBuilder();
+        context.register(this, builder.buildUnchecked());
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        // no constraints or referred objects to validate
+    }
+
+    @Override
+    public Frequency freeze() {
+        if (Frequency.fromId(this.id) == this) {
+            // default instances are shared globally and stay as they are
+            return this;
+        }
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
+    // lookup of the default instances as defined in the ontology
+
+    static Frequency defaultInstance(String id) {
+        if (id.startsWith("idsc:")) {
+            id = "https://w3id.org/idsa/code/" + id.substring(5);
+        }
+        return DefaultInstances.BY_ID.get(id);
+    }
+
+    /**
+     * Index of the default instances by their identifier. Held in a nested class, so that it is only
+     * built on first lookup, after all default instances of Frequency have been initialized.
+     */
+    private static class DefaultInstances {
+
+        private static final Map<String, Frequency> BY_ID = new HashMap<>(35);
+
+        static {
+            BY_ID.put(Frequency.ANNUAL.getId().toString(), Frequency.ANNUAL);
+            BY_ID.put(Frequency.BIENNIAL.getId().toString(), Frequency.BIENNIAL);
+            BY_ID.put(Frequency.BIHOURLY.getId().toString(), Frequency.BIHOURLY);
+            BY_ID.put(Frequency.BIMONTHLY.getId().toString(), Frequency.BIMONTHLY);
+            BY_ID.put(Frequency.BIWEEKLY.getId().toString(), Frequency.BIWEEKLY);
+            BY_ID.put(Frequency.CONTINUOUS.getId().toString(), Frequency.CONTINUOUS);
+            BY_ID.put(Frequency.DAILY.getId().toString(), Frequency.DAILY);
+            BY_ID.put(Frequency.EVERY_10_MINUTES.getId().toString(), Frequency.EVERY_10_MINUTES);
+            BY_ID.put(Frequency.EVERY_15_MINUTES.getId().toString(), Frequency.EVERY_15_MINUTES);
+            BY_ID.put(Frequency.EVERY_1_MINUTE.getId().toString(), Frequency.EVERY_1_MINUTE);
+            BY_ID.put(Frequency.EVERY_30_MINUTES.getId().toString(), Frequency.EVERY_30_MINUTES);
+            BY_ID.put(Frequency.EVERY_5_MINUTES.getId().toString(), Frequency.EVERY_5_MINUTES);
+            BY_ID.put(Frequency.EVERY_THREE_HOURS.getId().toString(), Frequency.EVERY_THREE_HOURS);
+            BY_ID.put(Frequency.HOURLY.getId().toString(), Frequency.HOURLY);
+            BY_ID.put(Frequency.IRREGULAR.getId().toString(), Frequency.IRREGULAR);
+            BY_ID.put(Frequency.MONTHLY.getId().toString(), Frequency.MONTHLY);
+            BY_ID.put(Frequency.QUARTERLY.getId().toString(), Frequency.QUARTERLY);
+            BY_ID.put(Frequency.SEMIANNUAL.getId().toString(), Frequency.SEMIANNUAL);
+            BY_ID.put(Frequency.SEMIMONTHLY.getId().toString(), Frequency.SEMIMONTHLY);
+            BY_ID.put(Frequency.SEMIWEEKLY.getId().toString(), Frequency.SEMIWEEKLY);
+            BY_ID.put(Frequency.THREE_TIMES_A_MONTH.getId().toString(), Frequency.THREE_TIMES_A_MONTH);
+            BY_ID.put(Frequency.THREE_TIMES_A_WEEK.getId().toString(), Frequency.THREE_TIMES_A_WEEK);
+            BY_ID.put(Frequency.THREE_TIMES_A_YEAR.getId().toString(), Frequency.THREE_TIMES_A_YEAR);
+            BY_ID.put(Frequency.TRIENNIAL.getId().toString(), Frequency.TRIENNIAL);
+            BY_ID.put(Frequency.TWO_TIMES_A_DAY.getId().toString(), Frequency.TWO_TIMES_A_DAY);
+            BY_ID.put(Frequency.WEEKLY.getId().toString(), Frequency.WEEKLY);
+        }
+    }
+
 }
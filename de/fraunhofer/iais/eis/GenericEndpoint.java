@@ -19,6 +19,15 @@ public interface GenericEndpoint extends Endpoint {
     @Beta
     public GenericEndpoint deepCopy();
 
+    @Beta
+    public default GenericEndpoint deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default GenericEndpoint freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
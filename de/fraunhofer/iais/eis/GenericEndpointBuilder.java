@@ -152,7 +152,8 @@ public class GenericEndpointBuilder implements Builder<GenericEndpoint> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -160,7 +161,21 @@ public class GenericEndpointBuilder implements Builder<GenericEndpoint> {
      */
     @Override
     public GenericEndpoint build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(genericEndpointImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(genericEndpointImpl);
+        }
+        return genericEndpointImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public GenericEndpoint buildUnchecked() {
         return genericEndpointImpl;
     }
 }
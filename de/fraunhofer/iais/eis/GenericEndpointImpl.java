@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 
@@ -31,22 +33,39 @@ public class GenericEndpointImpl implements GenericEndpoint {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Generic Endpoint", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<GenericEndpointImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(GenericEndpointImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment = Arrays
-        .asList(new TypedLiteral("Generic endpoints describe non-IDS-specific endpoints, e.g., to integrate external services.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Generic Endpoint", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Generic endpoints describe non-IDS-specific endpoints, e.g., to integrate external services.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:accessURL", "accessURL"})
@@ -77,29 +96,48 @@ public class GenericEndpointImpl implements GenericEndpoint {
     protected String _path;
 
     protected GenericEndpointImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("genericEndpoint");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("genericEndpoint"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:GenericEndpoint", this.id)
+            .add("accessURL", this._accessURL)
+            .add("genericEndpointConfiguration", this._genericEndpointConfiguration)
+            .add("inboundPath", this._inboundPath)
+            .add("outboundPath", this._outboundPath)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -107,21 +145,20 @@ public class GenericEndpointImpl implements GenericEndpoint {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -136,17 +173,25 @@ public class GenericEndpointImpl implements GenericEndpoint {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._genericEndpointAuthentication,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._genericEndpointAuthentication,
             this._genericEndpointConfiguration,
             this._accessURL,
             this._endpointInformation,
@@ -155,6 +200,10 @@ public class GenericEndpointImpl implements GenericEndpoint {
             this._inboundPath,
             this._outboundPath,
             this._apiSpecifiation);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -181,13 +230,20 @@ public class GenericEndpointImpl implements GenericEndpoint {
 
     @Override
     public GenericEndpoint deepCopy() {
-        GenericEndpointBuilder builder = new GenericEndpointBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public GenericEndpoint deepCopy(CopyContext context) {
+        GenericEndpointBuilder builder =
+            context.preservesIds() ? new GenericEndpointBuilder(getId()) : new GenericEndpointBuilder();
+        context.register(this, builder.buildUnchecked());
         if (this._genericEndpointAuthentication != null) {
-            builder._genericEndpointAuthentication_(this._genericEndpointAuthentication.deepCopy());
+            builder._genericEndpointAuthentication_(context.copy(this._genericEndpointAuthentication));
         }
         builder._genericEndpointConfiguration_(this._genericEndpointConfiguration);
         if (this._accessURL != null) {
-            builder._accessURL_(URI.create(this._accessURL.toString()));
+            builder._accessURL_(this._accessURL);
         }
         for (TypedLiteral item : this._endpointInformation) {
             if (item != null && item.getLanguage() != null) {
@@ -198,7 +254,7 @@ public class GenericEndpointImpl implements GenericEndpoint {
         }
         for (URI item : this._endpointDocumentation) {
             if (item != null) {
-                builder._endpointDocumentation_(URI.create(item.toString()));
+                builder._endpointDocumentation_(item);
             }
         }
         builder._path_(this._path);
@@ -210,6 +266,45 @@ public class GenericEndpointImpl implements GenericEndpoint {
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.children(this._apiSpecifiation);
+        validator.child(this._genericEndpointAuthentication);
+    }
+
+    @Override
+    public GenericEndpoint freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            this._apiSpecifiation = Freezer.freezeAll(this._apiSpecifiation);
+            this._endpointDocumentation = Freezer.freezeAll(this._endpointDocumentation);
+            this._endpointInformation = Freezer.freezeAll(this._endpointInformation);
+            Freezer.freeze(this._genericEndpointAuthentication);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -219,6 +314,9 @@ public class GenericEndpointImpl implements GenericEndpoint {
 
     @Override
     public void setGenericEndpointAuthentication(BasicAuthentication _genericEndpointAuthentication_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._genericEndpointAuthentication = _genericEndpointAuthentication_;
     }
 
@@ -229,6 +327,9 @@ public class GenericEndpointImpl implements GenericEndpoint {
 
     @Override
     public void setGenericEndpointConfiguration(String _genericEndpointConfiguration_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._genericEndpointConfiguration = _genericEndpointConfiguration_;
     }
 
@@ -239,6 +340,9 @@ public class GenericEndpointImpl implements GenericEndpoint {
 
     @Override
     public void setAccessURL(URI _accessURL_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._accessURL = _accessURL_;
     }
 
@@ -249,6 +353,9 @@ public class GenericEndpointImpl implements GenericEndpoint {
 
     @Override
     public void setEndpointInformation(List<TypedLiteral> _endpointInformation_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._endpointInformation = _endpointInformation_;
     }
 
@@ -259,6 +366,9 @@ public class GenericEndpointImpl implements GenericEndpoint {
 
     @Override
     public void setEndpointDocumentation(List<URI> _endpointDocumentation_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._endpointDocumentation = _endpointDocumentation_;
     }
 
@@ -269,6 +379,9 @@ public class GenericEndpointImpl implements GenericEndpoint {
 
     @Override
     public void setPath(String _path_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._path = _path_;
     }
 
@@ -279,6 +392,9 @@ public class GenericEndpointImpl implements GenericEndpoint {
 
     @Override
     public void setInboundPath(String _inboundPath_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._inboundPath = _inboundPath_;
     }
 
@@ -289,6 +405,9 @@ public class GenericEndpointImpl implements GenericEndpoint {
 
     @Override
     public void setOutboundPath(String _outboundPath_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._outboundPath = _outboundPath_;
     }
 
@@ -299,6 +418,9 @@ public class GenericEndpointImpl implements GenericEndpoint {
 
     @Override
     public void setApiSpecifiation(List<IdsProtocolSpecification> _apiSpecifiation_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._apiSpecifiation = _apiSpecifiation_;
     }
 }
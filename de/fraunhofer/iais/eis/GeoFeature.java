@@ -18,6 +18,15 @@ public interface GeoFeature extends Location {
     @Beta
     public GeoFeature deepCopy();
 
+    @Beta
+    public default GeoFeature deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default GeoFeature freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
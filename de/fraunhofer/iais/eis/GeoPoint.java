@@ -21,6 +21,15 @@ public interface GeoPoint extends Location {
     @Beta
     public GeoPoint deepCopy();
 
+    @Beta
+    public default GeoPoint deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default GeoPoint freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -41,7 +41,8 @@ public class GeoPointBuilder implements Builder<GeoPoint> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -49,7 +50,21 @@ public class GeoPointBuilder implements Builder<GeoPoint> {
      */
     @Override
     public GeoPoint build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(geoPointImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(geoPointImpl);
+        }
+        return geoPointImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public GeoPoint buildUnchecked() {
         return geoPointImpl;
     }
 }
@@ -18,4 +18,13 @@ public interface Geometry extends Location {
     @Beta
     public Geometry deepCopy();
 
+    @Beta
+    public default Geometry deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Geometry freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
 }
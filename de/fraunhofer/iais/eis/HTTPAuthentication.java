@@ -21,6 +21,15 @@ public interface HTTPAuthentication extends BasicAuthentication {
     @Beta
     public HTTPAuthentication deepCopy();
 
+    @Beta
+    public default HTTPAuthentication deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default HTTPAuthentication freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
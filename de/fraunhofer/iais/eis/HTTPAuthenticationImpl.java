@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 
@@ -31,21 +33,39 @@ public class HTTPAuthenticationImpl implements HTTPAuthentication {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("HTTP Authentication", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<HTTPAuthenticationImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(HTTPAuthenticationImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment = Arrays.asList(new TypedLiteral("HTTP authentication.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("HTTP Authentication", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("HTTP authentication.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:authPassword", "authPassword"})
@@ -58,29 +78,47 @@ public class HTTPAuthenticationImpl implements HTTPAuthentication {
     protected URI _httpAuthURI;
 
     protected HTTPAuthenticationImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("hTTPAuthentication");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("hTTPAuthentication"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:HTTPAuthentication", this.id)
+            .add("authPassword", this._authPassword)
+            .add("authUsername", this._authUsername)
+            .add("httpAuthURI", this._httpAuthURI)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -88,21 +126,20 @@ public class HTTPAuthenticationImpl implements HTTPAuthentication {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -117,19 +154,31 @@ public class HTTPAuthenticationImpl implements HTTPAuthentication {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._httpAuthURI,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._httpAuthURI,
             this._authPassword,
             this._authUsername);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -150,15 +199,56 @@ public class HTTPAuthenticationImpl implements HTTPAuthentication {
 
     @Override
     public HTTPAuthentication deepCopy() {
-        HTTPAuthenticationBuilder builder = new HTTPAuthenticationBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public HTTPAuthentication deepCopy(CopyContext context) {
+        HTTPAuthenticationBuilder builder =
+            context.preservesIds() ? new HTTPAuthenticationBuilder(getId()) : new HTTPAuthenticationBuilder();
+        context.register(this, builder.buildUnchecked());
         if (this._httpAuthURI != null) {
-            builder._httpAuthURI_(URI.create(this._httpAuthURI.toString()));
+            builder._httpAuthURI_(this._httpAuthURI);
         }
         builder._authPassword_(this._authPassword);
         builder._authUsername_(this._authUsername);
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        // no constraints or referred objects to validate
+    }
+
+    @Override
+    public HTTPAuthentication freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -168,6 +258,9 @@ public class HTTPAuthenticationImpl implements HTTPAuthentication {
 
     @Override
     public void setHttpAuthURI(URI _httpAuthURI_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._httpAuthURI = _httpAuthURI_;
     }
 
@@ -178,6 +271,9 @@ public class HTTPAuthenticationImpl implements HTTPAuthentication {
 
     @Override
     public void setAuthPassword(String _authPassword_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._authPassword = _authPassword_;
     }
 
@@ -188,6 +284,9 @@ public class HTTPAuthenticationImpl implements HTTPAuthentication {
 
     @Override
     public void setAuthUsername(String _authUsername_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._authUsername = _authUsername_;
     }
 }
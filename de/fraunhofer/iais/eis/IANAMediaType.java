@@ -18,6 +18,15 @@ public interface IANAMediaType extends MediaType {
     @Beta
     public IANAMediaType deepCopy();
 
+    @Beta
+    public default IANAMediaType deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default IANAMediaType freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
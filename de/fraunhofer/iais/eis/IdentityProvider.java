@@ -19,6 +19,15 @@ public interface IdentityProvider extends InfrastructureComponent {
     @Beta
     public IdentityProvider deepCopy();
 
+    @Beta
+    public default IdentityProvider deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default IdentityProvider freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
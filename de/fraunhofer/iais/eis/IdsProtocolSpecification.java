@@ -20,6 +20,15 @@ public interface IdsProtocolSpecification extends ModelClass {
     @Beta
     public IdsProtocolSpecification deepCopy();
 
+    @Beta
+    public default IdsProtocolSpecification deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default IdsProtocolSpecification freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /**
@@ -42,4 +51,29 @@ public interface IdsProtocolSpecification extends ModelClass {
      */
     IdsProtocolSpecification QUERY = new IdsProtocolSpecificationBuilder(URI.create("https://w3id.org/idsa/code/QUERY")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/IDS-CP
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static IdsProtocolSpecification fromId(URI id) {
+        return id == null ? null : IdsProtocolSpecificationImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI (e.g. https://w3id.org/idsa/code/IDS-CP) or in its prefixed form (e.g. idsc:IDS-CP).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static IdsProtocolSpecification fromString(String id) {
+        return id == null ? null : IdsProtocolSpecificationImpl.defaultInstance(id);
+    }
+
 }
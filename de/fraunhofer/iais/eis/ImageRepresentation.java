@@ -19,6 +19,15 @@ public interface ImageRepresentation extends Representation {
     @Beta
     public ImageRepresentation deepCopy();
 
+    @Beta
+    public default ImageRepresentation deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ImageRepresentation freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
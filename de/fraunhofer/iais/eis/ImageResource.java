@@ -18,6 +18,15 @@ public interface ImageResource extends Resource {
     @Beta
     public ImageResource deepCopy();
 
+    @Beta
+    public default ImageResource deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ImageResource freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
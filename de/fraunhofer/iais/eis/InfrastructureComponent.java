@@ -30,6 +30,15 @@ public interface InfrastructureComponent extends ManagedEntity {
     @Beta
     public InfrastructureComponent deepCopy();
 
+    @Beta
+    public default InfrastructureComponent deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default InfrastructureComponent freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
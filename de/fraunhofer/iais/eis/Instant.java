@@ -22,6 +22,15 @@ public interface Instant extends TemporalEntity {
     @Beta
     public Instant deepCopy();
 
+    @Beta
+    public default Instant deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Instant freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -43,7 +43,8 @@ public class InstantBuilder implements Builder<Instant> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -51,7 +52,21 @@ public class InstantBuilder implements Builder<Instant> {
      */
     @Override
     public Instant build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(instantImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(instantImpl);
+        }
+        return instantImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public Instant buildUnchecked() {
         return instantImpl;
     }
 }
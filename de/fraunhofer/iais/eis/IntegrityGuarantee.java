@@ -22,6 +22,15 @@ public interface IntegrityGuarantee extends SecurityGuarantee {
     @Beta
     public IntegrityGuarantee deepCopy();
 
+    @Beta
+    public default IntegrityGuarantee deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default IntegrityGuarantee freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /** 
@@ -39,4 +48,29 @@ public interface IntegrityGuarantee extends SecurityGuarantee {
     IntegrityGuarantee INTEGRITY_VERIFICATION_REMOTE =
         new IntegrityGuaranteeBuilder(URI.create("https://w3id.org/idsa/code/INTEGRITY_VERIFICATION_REMOTE")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/INTEGRITY_PROTECTION_LOCAL
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static IntegrityGuarantee fromId(URI id) {
+        return id == null ? null : IntegrityGuaranteeImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:INTEGRITY_PROTECTION_LOCAL).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static IntegrityGuarantee fromString(String id) {
+        return id == null ? null : IntegrityGuaranteeImpl.defaultInstance(id);
+    }
+
 }
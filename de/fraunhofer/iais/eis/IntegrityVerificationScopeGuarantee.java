@@ -20,6 +20,15 @@ public interface IntegrityVerificationScopeGuarantee extends SecurityGuarantee {
     @Beta
     public IntegrityVerificationScopeGuarantee deepCopy();
 
+    @Beta
+    public default IntegrityVerificationScopeGuarantee deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default IntegrityVerificationScopeGuarantee freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /** 
@@ -38,4 +47,29 @@ public interface IntegrityVerificationScopeGuarantee extends SecurityGuarantee {
     IntegrityVerificationScopeGuarantee INTEGRITY_VERIFICATION_SCOPE_NONE =
         new IntegrityVerificationScopeGuaranteeBuilder(URI.create("https://w3id.org/idsa/code/INTEGRITY_VERIFICATION_SCOPE_NONE")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/INTEGRITY_VERIFICATION_SCOPE_NONE
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static IntegrityVerificationScopeGuarantee fromId(URI id) {
+        return id == null ? null : IntegrityVerificationScopeGuaranteeImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:INTEGRITY_VERIFICATION_SCOPE_NONE).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static IntegrityVerificationScopeGuarantee fromString(String id) {
+        return id == null ? null : IntegrityVerificationScopeGuaranteeImpl.defaultInstance(id);
+    }
+
 }
@@ -21,6 +21,15 @@ public interface Interval extends TemporalEntity {
     @Beta
     public Interval deepCopy();
 
+    @Beta
+    public default Interval deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Interval freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
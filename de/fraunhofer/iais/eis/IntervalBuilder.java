@@ -52,7 +52,8 @@ public class IntervalBuilder implements Builder<Interval> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -60,7 +61,21 @@ public class IntervalBuilder implements Builder<Interval> {
      */
     @Override
     public Interval build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(intervalImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(intervalImpl);
+        }
+        return intervalImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public Interval buildUnchecked() {
         return intervalImpl;
     }
 }
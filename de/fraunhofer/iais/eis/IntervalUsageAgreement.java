@@ -18,6 +18,15 @@ public interface IntervalUsageAgreement extends ContractAgreement {
     @Beta
     public IntervalUsageAgreement deepCopy();
 
+    @Beta
+    public default IntervalUsageAgreement deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default IntervalUsageAgreement freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
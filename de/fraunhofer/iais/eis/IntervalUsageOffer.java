@@ -18,6 +18,15 @@ public interface IntervalUsageOffer extends ContractOffer {
     @Beta
     public IntervalUsageOffer deepCopy();
 
+    @Beta
+    public default IntervalUsageOffer deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default IntervalUsageOffer freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -18,6 +18,15 @@ public interface IntervalUsageRequest extends ContractRequest {
     @Beta
     public IntervalUsageRequest deepCopy();
 
+    @Beta
+    public default IntervalUsageRequest deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default IntervalUsageRequest freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -23,6 +23,15 @@ public interface InvokeOperationMessage extends RequestMessage {
     @Beta
     public InvokeOperationMessage deepCopy();
 
+    @Beta
+    public default InvokeOperationMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default InvokeOperationMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -28,6 +28,15 @@ public interface JwtPayload extends ModelClass {
     @Beta
     public JwtPayload deepCopy();
 
+    @Beta
+    public default JwtPayload deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default JwtPayload freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -20,6 +20,15 @@ public interface KeyType extends ModelClass {
     @Beta
     public KeyType deepCopy();
 
+    @Beta
+    public default KeyType deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default KeyType freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /** 
@@ -38,4 +47,29 @@ public interface KeyType extends ModelClass {
     */
     KeyType RSA = new KeyTypeBuilder(URI.create("https://w3id.org/idsa/code/RSA")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/DSA
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static KeyType fromId(URI id) {
+        return id == null ? null : KeyTypeImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:DSA).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static KeyType fromString(String id) {
+        return id == null ? null : KeyTypeImpl.defaultInstance(id);
+    }
+
 }
@@ -20,6 +20,15 @@ public interface Language extends ModelClass {
     @Beta
     public Language deepCopy();
 
+    @Beta
+    public default Language deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Language freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /** 
@@ -765,4 +774,29 @@ public interface Language extends ModelClass {
     */
     Language ZU = new LanguageBuilder(URI.create("https://w3id.org/idsa/code/ZU")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/AA
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static Language fromId(URI id) {
+        return id == null ? null : LanguageImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:AA).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static Language fromString(String id) {
+        return id == null ? null : LanguageImpl.defaultInstance(id);
+    }
+
 }
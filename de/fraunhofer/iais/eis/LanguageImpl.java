@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 
@@ -31,48 +33,79 @@ public class LanguageImpl implements Language {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Language", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<LanguageImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(LanguageImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment =
-        Arrays.asList(new TypedLiteral("The class of languages potentially being used by textual Data Assets.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Language", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("The class of languages potentially being used by textual Data Assets.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     protected LanguageImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("language");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("language"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:Language", this.id).build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -80,21 +113,20 @@ public class LanguageImpl implements Language {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -109,17 +141,29 @@ public class LanguageImpl implements Language {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode());
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hashCode(this.getId());
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -132,15 +176,269 @@ public class LanguageImpl implements Language {
             return false;
         } else {
             LanguageImpl other = (LanguageImpl) obj;
-            return Objects.equals(this.id, other.id);
+            return Objects.equals(this.getId(), other.getId());
         }
     }
 
     @Override
     public Language deepCopy() {
-        LanguageBuilder builder = new LanguageBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
 
+    @Override
+    public Language deepCopy(CopyContext context) {
+        if (Language.fromId(this.id) == this) {
+            // default instances are shared instead of copied
+            return this;
+        }
+        LanguageBuilder builder =
+            context.preservesIds() ? new LanguageBuilder(getId()) : new LanguageBuilder();
+        context.register(this, builder.buildUnchecked());
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        // no constraints or referred objects to validate
+    }
+
+    @Override
+    public Language freeze() {
+        if (Language.fromId(this.id) == this) {
+            // default instances are shared globally and stay as they are
+            return this;
+        }
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
+    // lookup of the default instances as defined in the ontology
+
+    static Language defaultInstance(String id) {
+        if (id.startsWith("idsc:")) {
+            id = "https://w3id.org/idsa/code/" + id.substring(5);
+        }
+        return DefaultInstances.BY_ID.get(id);
+    }
+
+    /**
+     * Index of the default instances by their identifier. Held in a nested class, so that it is only
+     * built on first lookup, after all default instances of Language have been initialized.
+     */
+    private static class DefaultInstances {
+
+        private static final Map<String, Language> BY_ID = new HashMap<>(247);
+
+        static {
+            BY_ID.put(Language.AA.getId().toString(), Language.AA);
+            BY_ID.put(Language.AB.getId().toString(), Language.AB);
+            BY_ID.put(Language.AE.getId().toString(), Language.AE);
+            BY_ID.put(Language.AF.getId().toString(), Language.AF);
+            BY_ID.put(Language.AK.getId().toString(), Language.AK);
+            BY_ID.put(Language.AM.getId().toString(), Language.AM);
+            BY_ID.put(Language.AN.getId().toString(), Language.AN);
+            BY_ID.put(Language.AR.getId().toString(), Language.AR);
+            BY_ID.put(Language.AS.getId().toString(), Language.AS);
+            BY_ID.put(Language.AV.getId().toString(), Language.AV);
+            BY_ID.put(Language.AY.getId().toString(), Language.AY);
+            BY_ID.put(Language.AZ.getId().toString(), Language.AZ);
+            BY_ID.put(Language.BA.getId().toString(), Language.BA);
+            BY_ID.put(Language.BE.getId().toString(), Language.BE);
+            BY_ID.put(Language.BG.getId().toString(), Language.BG);
+            BY_ID.put(Language.BH.getId().toString(), Language.BH);
+            BY_ID.put(Language.BI.getId().toString(), Language.BI);
+            BY_ID.put(Language.BM.getId().toString(), Language.BM);
+            BY_ID.put(Language.BN.getId().toString(), Language.BN);
+            BY_ID.put(Language.BO.getId().toString(), Language.BO);
+            BY_ID.put(Language.BR.getId().toString(), Language.BR);
+            BY_ID.put(Language.BS.getId().toString(), Language.BS);
+            BY_ID.put(Language.CA.getId().toString(), Language.CA);
+            BY_ID.put(Language.CE.getId().toString(), Language.CE);
+            BY_ID.put(Language.CH.getId().toString(), Language.CH);
+            BY_ID.put(Language.CO.getId().toString(), Language.CO);
+            BY_ID.put(Language.CR.getId().toString(), Language.CR);
+            BY_ID.put(Language.CS.getId().toString(), Language.CS);
+            BY_ID.put(Language.CU.getId().toString(), Language.CU);
+            BY_ID.put(Language.CV.getId().toString(), Language.CV);
+            BY_ID.put(Language.CY.getId().toString(), Language.CY);
+            BY_ID.put(Language.DA.getId().toString(), Language.DA);
+            BY_ID.put(Language.DE.getId().toString(), Language.DE);
+            BY_ID.put(Language.DV.getId().toString(), Language.DV);
+            BY_ID.put(Language.DZ.getId().toString(), Language.DZ);
+            BY_ID.put(Language.EE.getId().toString(), Language.EE);
+            BY_ID.put(Language.EL.getId().toString(), Language.EL);
+            BY_ID.put(Language.EN.getId().toString(), Language.EN);
+            BY_ID.put(Language.EO.getId().toString(), Language.EO);
+            BY_ID.put(Language.ES.getId().toString(), Language.ES);
+            BY_ID.put(Language.ET.getId().toString(), Language.ET);
+            BY_ID.put(Language.EU.getId().toString(), Language.EU);
+            BY_ID.put(Language.FA.getId().toString(), Language.FA);
+            BY_ID.put(Language.FF.getId().toString(), Language.FF);
+            BY_ID.put(Language.FI.getId().toString(), Language.FI);
+            BY_ID.put(Language.FJ.getId().toString(), Language.FJ);
+            BY_ID.put(Language.FO.getId().toString(), Language.FO);
+            BY_ID.put(Language.FR.getId().toString(), Language.FR);
+            BY_ID.put(Language.FY.getId().toString(), Language.FY);
+            BY_ID.put(Language.GA.getId().toString(), Language.GA);
+            BY_ID.put(Language.GD.getId().toString(), Language.GD);
+            BY_ID.put(Language.GL.getId().toString(), Language.GL);
+            BY_ID.put(Language.GN.getId().toString(), Language.GN);
+            BY_ID.put(Language.GU.getId().toString(), Language.GU);
+            BY_ID.put(Language.GV.getId().toString(), Language.GV);
+            BY_ID.put(Language.HA.getId().toString(), Language.HA);
+            BY_ID.put(Language.HE.getId().toString(), Language.HE);
+            BY_ID.put(Language.HI.getId().toString(), Language.HI);
+            BY_ID.put(Language.HO.getId().toString(), Language.HO);
+            BY_ID.put(Language.HR.getId().toString(), Language.HR);
+            BY_ID.put(Language.HT.getId().toString(), Language.HT);
+            BY_ID.put(Language.HU.getId().toString(), Language.HU);
+            BY_ID.put(Language.HY.getId().toString(), Language.HY);
+            BY_ID.put(Language.HZ.getId().toString(), Language.HZ);
+            BY_ID.put(Language.IA.getId().toString(), Language.IA);
+            BY_ID.put(Language.ID.getId().toString(), Language.ID);
+            BY_ID.put(Language.IE.getId().toString(), Language.IE);
+            BY_ID.put(Language.IG.getId().toString(), Language.IG);
+            BY_ID.put(Language.II.getId().toString(), Language.II);
+            BY_ID.put(Language.IK.getId().toString(), Language.IK);
+            BY_ID.put(Language.IO.getId().toString(), Language.IO);
+            BY_ID.put(Language.IS.getId().toString(), Language.IS);
+            BY_ID.put(Language.IT.getId().toString(), Language.IT);
+            BY_ID.put(Language.IU.getId().toString(), Language.IU);
+            BY_ID.put(Language.JA.getId().toString(), Language.JA);
+            BY_ID.put(Language.JV.getId().toString(), Language.JV);
+            BY_ID.put(Language.KA.getId().toString(), Language.KA);
+            BY_ID.put(Language.KG.getId().toString(), Language.KG);
+            BY_ID.put(Language.KI.getId().toString(), Language.KI);
+            BY_ID.put(Language.KJ.getId().toString(), Language.KJ);
+            BY_ID.put(Language.KK.getId().toString(), Language.KK);
+            BY_ID.put(Language.KL.getId().toString(), Language.KL);
+            BY_ID.put(Language.KM.getId().toString(), Language.KM);
+            BY_ID.put(Language.KN.getId().toString(), Language.KN);
+            BY_ID.put(Language.KO.getId().toString(), Language.KO);
+            BY_ID.put(Language.KR.getId().toString(), Language.KR);
+            BY_ID.put(Language.KS.getId().toString(), Language.KS);
+            BY_ID.put(Language.KU.getId().toString(), Language.KU);
+            BY_ID.put(Language.KV.getId().toString(), Language.KV);
+            BY_ID.put(Language.KW.getId().toString(), Language.KW);
+            BY_ID.put(Language.KY.getId().toString(), Language.KY);
+            BY_ID.put(Language.LA.getId().toString(), Language.LA);
+            BY_ID.put(Language.LB.getId().toString(), Language.LB);
+            BY_ID.put(Language.LG.getId().toString(), Language.LG);
+            BY_ID.put(Language.LI.getId().toString(), Language.LI);
+            BY_ID.put(Language.LN.getId().toString(), Language.LN);
+            BY_ID.put(Language.LO.getId().toString(), Language.LO);
+            BY_ID.put(Language.LT.getId().toString(), Language.LT);
+            BY_ID.put(Language.LU.getId().toString(), Language.LU);
+            BY_ID.put(Language.LV.getId().toString(), Language.LV);
+            BY_ID.put(Language.MG.getId().toString(), Language.MG);
+            BY_ID.put(Language.MH.getId().toString(), Language.MH);
+            BY_ID.put(Language.MI.getId().toString(), Language.MI);
+            BY_ID.put(Language.MK.getId().toString(), Language.MK);
+            BY_ID.put(Language.ML.getId().toString(), Language.ML);
+            BY_ID.put(Language.MN.getId().toString(), Language.MN);
+            BY_ID.put(Language.MR.getId().toString(), Language.MR);
+            BY_ID.put(Language.MS.getId().toString(), Language.MS);
+            BY_ID.put(Language.MT.getId().toString(), Language.MT);
+            BY_ID.put(Language.MULTI_LINGUAL.getId().toString(), Language.MULTI_LINGUAL);
+            BY_ID.put(Language.MY.getId().toString(), Language.MY);
+            BY_ID.put(Language.NA.getId().toString(), Language.NA);
+            BY_ID.put(Language.NB.getId().toString(), Language.NB);
+            BY_ID.put(Language.ND.getId().toString(), Language.ND);
+            BY_ID.put(Language.NE.getId().toString(), Language.NE);
+            BY_ID.put(Language.NG.getId().toString(), Language.NG);
+            BY_ID.put(Language.NL.getId().toString(), Language.NL);
+            BY_ID.put(Language.NN.getId().toString(), Language.NN);
+            BY_ID.put(Language.NO.getId().toString(), Language.NO);
+            BY_ID.put(Language.NR.getId().toString(), Language.NR);
+            BY_ID.put(Language.NV.getId().toString(), Language.NV);
+            BY_ID.put(Language.NY.getId().toString(), Language.NY);
+            BY_ID.put(Language.OC.getId().toString(), Language.OC);
+            BY_ID.put(Language.OJ.getId().toString(), Language.OJ);
+            BY_ID.put(Language.OM.getId().toString(), Language.OM);
+            BY_ID.put(Language.OR.getId().toString(), Language.OR);
+            BY_ID.put(Language.OS.getId().toString(), Language.OS);
+            BY_ID.put(Language.PA.getId().toString(), Language.PA);
+            BY_ID.put(Language.PI.getId().toString(), Language.PI);
+            BY_ID.put(Language.PL.getId().toString(), Language.PL);
+            BY_ID.put(Language.PS.getId().toString(), Language.PS);
+            BY_ID.put(Language.PT.getId().toString(), Language.PT);
+            BY_ID.put(Language.QU.getId().toString(), Language.QU);
+            BY_ID.put(Language.RM.getId().toString(), Language.RM);
+            BY_ID.put(Language.RN.getId().toString(), Language.RN);
+            BY_ID.put(Language.RO.getId().toString(), Language.RO);
+            BY_ID.put(Language.RU.getId().toString(), Language.RU);
+            BY_ID.put(Language.RW.getId().toString(), Language.RW);
+            BY_ID.put(Language.SA.getId().toString(), Language.SA);
+            BY_ID.put(Language.SC.getId().toString(), Language.SC);
+            BY_ID.put(Language.SD.getId().toString(), Language.SD);
+            BY_ID.put(Language.SE.getId().toString(), Language.SE);
+            BY_ID.put(Language.SG.getId().toString(), Language.SG);
+            BY_ID.put(Language.SI.getId().toString(), Language.SI);
+            BY_ID.put(Language.SK.getId().toString(), Language.SK);
+            BY_ID.put(Language.SL.getId().toString(), Language.SL);
+            BY_ID.put(Language.SM.getId().toString(), Language.SM);
+            BY_ID.put(Language.SN.getId().toString(), Language.SN);
+            BY_ID.put(Language.SO.getId().toString(), Language.SO);
+            BY_ID.put(Language.SQ.getId().toString(), Language.SQ);
+            BY_ID.put(Language.SR.getId().toString(), Language.SR);
+            BY_ID.put(Language.SS.getId().toString(), Language.SS);
+            BY_ID.put(Language.ST.getId().toString(), Language.ST);
+            BY_ID.put(Language.SU.getId().toString(), Language.SU);
+            BY_ID.put(Language.SV.getId().toString(), Language.SV);
+            BY_ID.put(Language.SW.getId().toString(), Language.SW);
+            BY_ID.put(Language.TA.getId().toString(), Language.TA);
+            BY_ID.put(Language.TE.getId().toString(), Language.TE);
+            BY_ID.put(Language.TG.getId().toString(), Language.TG);
+            BY_ID.put(Language.TH.getId().toString(), Language.TH);
+            BY_ID.put(Language.TI.getId().toString(), Language.TI);
+            BY_ID.put(Language.TK.getId().toString(), Language.TK);
+            BY_ID.put(Language.TL.getId().toString(), Language.TL);
+            BY_ID.put(Language.TN.getId().toString(), Language.TN);
+            BY_ID.put(Language.TO.getId().toString(), Language.TO);
+            BY_ID.put(Language.TR.getId().toString(), Language.TR);
+            BY_ID.put(Language.TS.getId().toString(), Language.TS);
+            BY_ID.put(Language.TT.getId().toString(), Language.TT);
+            BY_ID.put(Language.TW.getId().toString(), Language.TW);
+            BY_ID.put(Language.TY.getId().toString(), Language.TY);
+            BY_ID.put(Language.UG.getId().toString(), Language.UG);
+            BY_ID.put(Language.UK.getId().toString(), Language.UK);
+            BY_ID.put(Language.UR.getId().toString(), Language.UR);
+            BY_ID.put(Language.UZ.getId().toString(), Language.UZ);
+            BY_ID.put(Language.VE.getId().toString(), Language.VE);
+            BY_ID.put(Language.VI.getId().toString(), Language.VI);
+            BY_ID.put(Language.VO.getId().toString(), Language.VO);
+            BY_ID.put(Language.WA.getId().toString(), Language.WA);
+            BY_ID.put(Language.WO.getId().toString(), Language.WO);
+            BY_ID.put(Language.XH.getId().toString(), Language.XH);
+            BY_ID.put(Language.YI.getId().toString(), Language.YI);
+            BY_ID.put(Language.YO.getId().toString(), Language.YO);
+            BY_ID.put(Language.ZA.getId().toString(), Language.ZA);
+            BY_ID.put(Language.ZH.getId().toString(), Language.ZH);
+            BY_ID.put(Language.ZU.getId().toString(), Language.ZU);
+        }
+    }
+
 }
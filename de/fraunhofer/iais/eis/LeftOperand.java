@@ -21,6 +21,15 @@ public interface LeftOperand extends ModelClass {
     @Beta
     public LeftOperand deepCopy();
 
+    @Beta
+    public default LeftOperand deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default LeftOperand freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -241,4 +250,29 @@ public interface LeftOperand extends ModelClass {
      */
     LeftOperand XPATH = new LeftOperandBuilder(URI.create("https://w3id.org/idsa/code/XPATH")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/ABSOLUTE_SPATIAL_POSITION
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static LeftOperand fromId(URI id) {
+        return id == null ? null : LeftOperandImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:ABSOLUTE_SPATIAL_POSITION).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static LeftOperand fromString(String id) {
+        return id == null ? null : LeftOperandImpl.defaultInstance(id);
+    }
+
 }
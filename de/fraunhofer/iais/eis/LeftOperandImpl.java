@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 
@@ -31,51 +33,82 @@ public class LeftOperandImpl implements LeftOperand {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("LeftOperand", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<LeftOperandImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(LeftOperandImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment =
-        Arrays.asList(new TypedLiteral("Instances of the LeftOperand class are used as the leftOperand of a Constraint.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("LeftOperand", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Instances of the LeftOperand class are used as the leftOperand of a Constraint.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:broader", "broader"})
     protected LeftOperand _broader;
 
     protected LeftOperandImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("leftOperand");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("leftOperand"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:LeftOperand", this.id).build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -83,21 +116,20 @@ public class LeftOperandImpl implements LeftOperand {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -112,17 +144,30 @@ public class LeftOperandImpl implements LeftOperand {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._broader);
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this.getId(),
+            this._broader);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -135,18 +180,68 @@ public class LeftOperandImpl implements LeftOperand {
             return false;
         } else {
             LeftOperandImpl other = (LeftOperandImpl) obj;
-            return Objects.equals(this.id, other.id) &&
+            return Objects.equals(this.getId(), other.getId()) &&
                 Objects.equals(this._broader, other._broader);
         }
     }
 
     @Override
     public LeftOperand deepCopy() {
-        LeftOperandBuilder builder = new LeftOperandBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public LeftOperand deepCopy(CopyContext context) {
+        if (LeftOperand.fromId(this.id) == this) {
+            // default instances are shared instead of copied
+            return this;
+        }
+        LeftOperandBuilder builder =
+            context.preservesIds() ? new LeftOperandBuilder(getId()) : new LeftOperandBuilder();
+        context.register(this, builder.buildUnchecked());
         builder._broader_(this._broader);
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.child(this._broader);
+    }
+
+    @Override
+    public LeftOperand freeze() {
+        if (LeftOperand.fromId(this.id) == this) {
+            // default instances are shared globally and stay as they are
+            return this;
+        }
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            Freezer.freeze(this._broader);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -156,7 +251,63 @@ public class LeftOperandImpl implements LeftOperand {
 
     @Override
     public void setBroader(LeftOperand _broader_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._broader = _broader_;
     }
 
+    // lookup of the default instances as defined in the ontology
+
+    static LeftOperand defaultInstance(String id) {
+        if (id.startsWith("idsc:")) {
+            id = "https://w3id.org/idsa/code/" + id.substring(5);
+        }
+        return DefaultInstances.BY_ID.get(id);
+    }
+
+    /**
+     * Index of the default instances by their identifier. Held in a nested class, so that it is only
+     * built on first lookup, after all default instances of LeftOperand have been initialized.
+     */
+    private static class DefaultInstances {
+
+        private static final Map<String, LeftOperand> BY_ID = new HashMap<>(43);
+
+        static {
+            BY_ID.put(LeftOperand.ABSOLUTE_SPATIAL_POSITION.getId().toString(), LeftOperand.ABSOLUTE_SPATIAL_POSITION);
+            BY_ID.put(LeftOperand.APPLICATION.getId().toString(), LeftOperand.APPLICATION);
+            BY_ID.put(LeftOperand.ARTIFACT_STATE.getId().toString(), LeftOperand.ARTIFACT_STATE);
+            BY_ID.put(LeftOperand.CONNECTOR.getId().toString(), LeftOperand.CONNECTOR);
+            BY_ID.put(LeftOperand.COUNT.getId().toString(), LeftOperand.COUNT);
+            BY_ID.put(LeftOperand.DATE_TIME.getId().toString(), LeftOperand.DATE_TIME);
+            BY_ID.put(LeftOperand.DELAY.getId().toString(), LeftOperand.DELAY);
+            BY_ID.put(LeftOperand.ELAPSED_TIME.getId().toString(), LeftOperand.ELAPSED_TIME);
+            BY_ID.put(LeftOperand.ENDPOINT.getId().toString(), LeftOperand.ENDPOINT);
+            BY_ID.put(LeftOperand.EVENT.getId().toString(), LeftOperand.EVENT);
+            BY_ID.put(LeftOperand.HASH_ALGORITHM.getId().toString(), LeftOperand.HASH_ALGORITHM);
+            BY_ID.put(LeftOperand.JSON_PATH.getId().toString(), LeftOperand.JSON_PATH);
+            BY_ID.put(LeftOperand.LOG_LEVEL.getId().toString(), LeftOperand.LOG_LEVEL);
+            BY_ID.put(LeftOperand.NOTIFICATION_LEVEL.getId().toString(), LeftOperand.NOTIFICATION_LEVEL);
+            BY_ID.put(LeftOperand.OPERAND.getId().toString(), LeftOperand.OPERAND);
+            BY_ID.put(LeftOperand.PATH.getId().toString(), LeftOperand.PATH);
+            BY_ID.put(LeftOperand.PAYMENT.getId().toString(), LeftOperand.PAYMENT);
+            BY_ID.put(LeftOperand.PAY_AMOUNT.getId().toString(), LeftOperand.PAY_AMOUNT);
+            BY_ID.put(LeftOperand.POLICY_EVALUATION_TIME.getId().toString(), LeftOperand.POLICY_EVALUATION_TIME);
+            BY_ID.put(LeftOperand.PURPOSE.getId().toString(), LeftOperand.PURPOSE);
+            BY_ID.put(LeftOperand.QUANTITY.getId().toString(), LeftOperand.QUANTITY);
+            BY_ID.put(LeftOperand.RECIPIENT.getId().toString(), LeftOperand.RECIPIENT);
+            BY_ID.put(LeftOperand.RECURRENCE_RATE.getId().toString(), LeftOperand.RECURRENCE_RATE);
+            BY_ID.put(LeftOperand.REPLACE_WITH.getId().toString(), LeftOperand.REPLACE_WITH);
+            BY_ID.put(LeftOperand.ROLE.getId().toString(), LeftOperand.ROLE);
+            BY_ID.put(LeftOperand.SECURITY_LEVEL.getId().toString(), LeftOperand.SECURITY_LEVEL);
+            BY_ID.put(LeftOperand.STATE.getId().toString(), LeftOperand.STATE);
+            BY_ID.put(LeftOperand.SYSTEM.getId().toString(), LeftOperand.SYSTEM);
+            BY_ID.put(LeftOperand.SYSTEM_DEVICE.getId().toString(), LeftOperand.SYSTEM_DEVICE);
+            BY_ID.put(LeftOperand.TARGET_POLICY.getId().toString(), LeftOperand.TARGET_POLICY);
+            BY_ID.put(LeftOperand.USER.getId().toString(), LeftOperand.USER);
+            BY_ID.put(LeftOperand.XPATH.getId().toString(), LeftOperand.XPATH);
+        }
+    }
+
 }
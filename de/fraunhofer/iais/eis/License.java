@@ -18,6 +18,15 @@ public interface License extends ModelClass {
     @Beta
     public License deepCopy();
 
+    @Beta
+    public default License deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default License freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
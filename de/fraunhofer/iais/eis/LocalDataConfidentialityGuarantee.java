@@ -20,6 +20,15 @@ public interface LocalDataConfidentialityGuarantee extends SecurityGuarantee {
     @Beta
     public LocalDataConfidentialityGuarantee deepCopy();
 
+    @Beta
+    public default LocalDataConfidentialityGuarantee deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default LocalDataConfidentialityGuarantee freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /** 
@@ -39,4 +48,29 @@ public interface LocalDataConfidentialityGuarantee extends SecurityGuarantee {
         new LocalDataConfidentialityGuaranteeBuilder(URI.create("https://w3id.org/idsa/code/LOCAL_DATA_CONFIDENTIALITY_SECURE_ERASURE"))
             .build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/LOCAL_DATA_CONFIDENTIALITY_FULL_ENCRYPTION
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static LocalDataConfidentialityGuarantee fromId(URI id) {
+        return id == null ? null : LocalDataConfidentialityGuaranteeImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:LOCAL_DATA_CONFIDENTIALITY_FULL_ENCRYPTION).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static LocalDataConfidentialityGuarantee fromString(String id) {
+        return id == null ? null : LocalDataConfidentialityGuaranteeImpl.defaultInstance(id);
+    }
+
 }
@@ -20,4 +20,13 @@ public interface Location extends ModelClass {
     @Beta
     public Location deepCopy();
 
+    @Beta
+    public default Location deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Location freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
 }
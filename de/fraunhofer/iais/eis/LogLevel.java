@@ -21,6 +21,15 @@ public interface LogLevel extends ModelClass {
     @Beta
     public LogLevel deepCopy();
 
+    @Beta
+    public default LogLevel deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default LogLevel freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /**
@@ -38,4 +47,29 @@ public interface LogLevel extends ModelClass {
      */
     LogLevel NO_LOGGING = new LogLevelBuilder(URI.create("https://w3id.org/idsa/code/NO_LOGGING")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/DEBUG_LEVEL_LOGGING
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static LogLevel fromId(URI id) {
+        return id == null ? null : LogLevelImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:DEBUG_LEVEL_LOGGING).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static LogLevel fromString(String id) {
+        return id == null ? null : LogLevelImpl.defaultInstance(id);
+    }
+
 }
@@ -18,6 +18,15 @@ public interface LogMessage extends NotificationMessage {
     @Beta
     public LogMessage deepCopy();
 
+    @Beta
+    public default LogMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default LogMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -18,6 +18,15 @@ public interface LoggingAgreement extends ContractAgreement {
     @Beta
     public LoggingAgreement deepCopy();
 
+    @Beta
+    public default LoggingAgreement deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default LoggingAgreement freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
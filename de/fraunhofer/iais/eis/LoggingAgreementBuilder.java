@@ -165,7 +165,8 @@ public class LoggingAgreementBuilder implements Builder<LoggingAgreement> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -173,7 +174,21 @@ public class LoggingAgreementBuilder implements Builder<LoggingAgreement> {
      */
     @Override
     public LoggingAgreement build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(loggingAgreementImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(loggingAgreementImpl);
+        }
+        return loggingAgreementImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public LoggingAgreement buildUnchecked() {
         return loggingAgreementImpl;
     }
 }
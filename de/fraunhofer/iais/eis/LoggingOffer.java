@@ -18,6 +18,15 @@ public interface LoggingOffer extends ContractOffer {
     @Beta
     public LoggingOffer deepCopy();
 
+    @Beta
+    public default LoggingOffer deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default LoggingOffer freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
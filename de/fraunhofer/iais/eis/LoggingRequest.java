@@ -18,6 +18,15 @@ public interface LoggingRequest extends ContractRequest {
     @Beta
     public LoggingRequest deepCopy();
 
+    @Beta
+    public default LoggingRequest deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default LoggingRequest freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -22,6 +22,15 @@ public interface LogicalConstraint extends AbstractConstraint {
     @Beta
     public LogicalConstraint deepCopy();
 
+    @Beta
+    public default LogicalConstraint deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default LogicalConstraint freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -86,7 +86,8 @@ public class LogicalConstraintBuilder implements Builder<LogicalConstraint> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -94,7 +95,21 @@ public class LogicalConstraintBuilder implements Builder<LogicalConstraint> {
      */
     @Override
     public LogicalConstraint build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(logicalConstraintImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(logicalConstraintImpl);
+        }
+        return logicalConstraintImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public LogicalConstraint buildUnchecked() {
         return logicalConstraintImpl;
     }
 }
@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 
@@ -32,23 +34,39 @@ public class LogicalConstraintImpl implements LogicalConstraint {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Logical Constraint", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<LogicalConstraintImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(LogicalConstraintImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment = Arrays.asList(new TypedLiteral(
-        "The class of Logical Constraints that restrict a Rule. A Logical Constraints is a collection of Constraints, related with each other through the ids:operand property.",
-        "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Logical Constraint", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("The class of Logical Constraints that restrict a Rule. A Logical Constraints is a collection of Constraints, related with each other through the ids:operand property.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:and", "and"})
@@ -61,29 +79,43 @@ public class LogicalConstraintImpl implements LogicalConstraint {
     protected List<Constraint> _xone = new ArrayList<>();
 
     protected LogicalConstraintImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("logicalConstraint");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("logicalConstraint"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:LogicalConstraint", this.id).build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -91,21 +123,20 @@ public class LogicalConstraintImpl implements LogicalConstraint {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -120,19 +151,31 @@ public class LogicalConstraintImpl implements LogicalConstraint {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._and,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._and,
             this._or,
             this._xone);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -153,25 +196,71 @@ public class LogicalConstraintImpl implements LogicalConstraint {
 
     @Override
     public LogicalConstraint deepCopy() {
-        LogicalConstraintBuilder builder = new LogicalConstraintBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public LogicalConstraint deepCopy(CopyContext context) {
+        LogicalConstraintBuilder builder =
+            context.preservesIds() ? new LogicalConstraintBuilder(getId()) : new LogicalConstraintBuilder();
+        context.register(this, builder.buildUnchecked());
         for (Constraint item : this._and) {
             if (item != null) {
-                builder._and_(item.deepCopy());
+                builder._and_(context.copy(item));
             }
         }
         for (Constraint item : this._or) {
             if (item != null) {
-                builder._or_(item.deepCopy());
+                builder._or_(context.copy(item));
             }
         }
         for (Constraint item : this._xone) {
             if (item != null) {
-                builder._xone_(item.deepCopy());
+                builder._xone_(context.copy(item));
             }
         }
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.children(this._and);
+        validator.children(this._or);
+        validator.children(this._xone);
+    }
+
+    @Override
+    public LogicalConstraint freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            this._and = Freezer.freezeAll(this._and);
+            this._or = Freezer.freezeAll(this._or);
+            this._xone = Freezer.freezeAll(this._xone);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -181,6 +270,9 @@ public class LogicalConstraintImpl implements LogicalConstraint {
 
     @Override
     public void setAnd(List<Constraint> _and_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._and = _and_;
     }
 
@@ -191,6 +283,9 @@ public class LogicalConstraintImpl implements LogicalConstraint {
 
     @Override
     public void setOr(List<Constraint> _or_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._or = _or_;
     }
 
@@ -201,6 +296,9 @@ public class LogicalConstraintImpl implements LogicalConstraint {
 
     @Override
     public void setXone(List<Constraint> _xone_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._xone = _xone_;
     }
 
@@ -22,6 +22,15 @@ public interface ManagedEntity extends Described {
     @Beta
     public ManagedEntity deepCopy();
 
+    @Beta
+    public default ManagedEntity deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ManagedEntity freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
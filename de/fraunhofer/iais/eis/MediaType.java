@@ -21,6 +21,15 @@ public interface MediaType extends ModelClass {
     @Beta
     public MediaType deepCopy();
 
+    @Beta
+    public default MediaType deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default MediaType freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
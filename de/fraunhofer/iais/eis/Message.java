@@ -28,6 +28,15 @@ public interface Message extends ModelClass {
     @Beta
     public Message deepCopy();
 
+    @Beta
+    public default Message deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Message freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
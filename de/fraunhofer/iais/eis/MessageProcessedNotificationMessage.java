@@ -18,6 +18,15 @@ public interface MessageProcessedNotificationMessage extends NotificationMessage
     @Beta
     public MessageProcessedNotificationMessage deepCopy();
 
+    @Beta
+    public default MessageProcessedNotificationMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default MessageProcessedNotificationMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -1,13 +1,18 @@
 package de.fraunhofer.iais.eis;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.net.URI;
 import java.util.List;
 import java.util.Map;
 
 import javax.validation.constraints.NotNull;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import de.fraunhofer.iais.eis.jackson.ModelWriter;
 import de.fraunhofer.iais.eis.util.*;
 
 public interface ModelClass {
@@ -22,6 +27,18 @@ public interface ModelClass {
     @NotNull
     public URI getId();
 
+    /**
+     * This function retrieves the ID of the current object without generating a random one, so that
+     * e.g. toString() does not change the objects it describes. The default implementation returns
+     * getId().
+     * 
+     * @return ID of current object as URI, or null if none has been set or generated yet
+     */
+    @Beta
+    public default URI peekId() {
+        return getId();
+    }
+
     /**
      * This function retrieves a human readable label about the current class, as defined in the
      * ontology. This label could, for example, be used as a field heading in a user interface
@@ -38,11 +55,134 @@ public interface ModelClass {
      */
     public List<TypedLiteral> getComment();
 
+    /**
+     * This function serializes the current object and all objects reachable from it. toString() only
+     * returns a short description with the type, the ID and a few key properties.
+     * 
+     * @return Serialization of the object graph
+     */
     public String toRdf();
 
+    /**
+     * This function writes the current object and all objects reachable from it as UTF-8 encoded
+     * JSON-LD to the given stream, without building the document in memory first. The stream is
+     * flushed, but not closed. Use ModelWriter for other ObjectMapper configurations or chunked output.
+     * <p>
+     * The document describes the same graph as toRdf(), but is not identical to it: it is written
+     * compactly by the generated serializers of package de.fraunhofer.iais.eis.codecs, which omit
+     * unset properties, write URIs as {"@id": ...} and only declare the "ids" and "idsc" prefixes in
+     * "@context". It is the same as ModelWriter.shared() writes, and is read back by an ObjectMapper
+     * with the CodecModule registered.
+     * 
+     * @param out Target of the serialization
+     * @throws IOException This exception is thrown, if writing fails.
+     */
+    public default void toRdf(OutputStream out) throws IOException {
+        ModelWriter.shared().write(this, out);
+    }
+
+    /**
+     * This function writes the current object and all objects reachable from it as JSON-LD to the
+     * given writer, without building the document in memory first. The writer is flushed, but not
+     * closed. The document is the same as written by toRdf(OutputStream), see there for how it differs
+     * from toRdf().
+     * 
+     * @param out Target of the serialization
+     * @throws IOException This exception is thrown, if writing fails.
+     */
+    public default void toRdf(Writer out) throws IOException {
+        ModelWriter.shared().write(this, out);
+    }
+
+    /**
+     * This function creates a deep copy of this object within the given copy context, which maps every
+     * original object to a single copy and decides whether the copies keep the ids of their originals.
+     * Use CopyContext.copy() to copy an object, so that earlier copies of the same object are reused.
+     * The default implementation, which is only used by implementations of the model interfaces outside
+     * of this library, throws an UnsupportedOperationException.
+     * 
+     * @param context context of the copy operation
+     * @return Copy of this object
+     */
+    @Beta
+    public default ModelClass deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    /**
+     * This function makes this object and all objects reachable from it read-only: setters throw an
+     * UnsupportedOperationException, list getters return unmodifiable lists and the hash code is
+     * computed only once. A frozen object can be shared between threads after it has been safely
+     * published, e.g. through a final or volatile field. Literal values such as TypedLiteral or
+     * XMLGregorianCalendar remain mutable Java objects and must not be modified. Freeze a deep copy to
+     * keep a mutable original. Default instances of the vocabulary classes (e.g. Language.EN) are
+     * shared globally and are not frozen, neither directly nor when reached from a frozen object. The
+     * default implementation, which is only used by implementations of the model interfaces outside of
+     * this library, throws an UnsupportedOperationException.
+     * 
+     * @return This object
+     */
+    public default ModelClass freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
+    /**
+     * This function retrieves whether this object has been frozen.
+     * 
+     * @return true, if the object is read-only; always false for implementations of the model
+     *         interfaces outside of this library
+     */
+    @JsonIgnore
+    public default boolean isFrozen() {
+        return false;
+    }
+
+    /**
+     * This function retrieves the serialized form of this frozen object that has been stored for the
+     * given format, e.g. by a serializer that splices unchanged subtrees into its output instead of
+     * serializing them again.
+     * 
+     * @param format Format of the serialized form, compared by identity
+     * @return Serialized form or null, if none has been stored for the format
+     */
+    @Beta
+    public default Object getSerializedForm(Object format) {
+        return null;
+    }
+
+    /**
+     * This function stores the serialized form of this object for the given format, replacing the one
+     * stored for any other format. Only frozen objects keep it, as they cannot change anymore.
+     * 
+     * @param format Format of the serialized form, compared by identity
+     * @param serializedForm Serialized form of this object and all objects reachable from it
+     */
+    @Beta
+    public default void setSerializedForm(Object format, Object serializedForm) {}
+
     // getter and setter for generic property map
+    /**
+     * This function retrieves the generic properties of this object, with string values starting with
+     * "http" parsed to URIs. The map and the lists and maps within it are read-only and are reused until
+     * the next call of setProperty(); modifying them throws an UnsupportedOperationException. Use
+     * setProperty() to change a property, or copy the map to work on it. setProperty() stores a copy of
+     * the given value, so later changes of that value are not reflected here.
+     * 
+     * @return Read-only map of the generic properties, or null if there are none
+     */
     public Map<String, Object> getProperties();
 
     public void setProperty(String property, Object value);
 
+    /**
+     * This function checks the constraints of this object, as declared in the ontology, and hands the
+     * objects it refers to on to the validator. The model classes implement it without reflection;
+     * other implementations fall back to the bean validation of VocabUtil.
+     * 
+     * @param validator validator collecting the violations
+     */
+    public default void validate(ModelValidator validator) {
+        VocabUtil.getInstance().validate(this);
+    }
+
 }
@@ -0,0 +1,107 @@
+package de.fraunhofer.iais.eis;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import de.fraunhofer.iais.eis.util.*;
+
+/**
+ * Checks the constraints declared in the ontology (e.g. the required ids:issuerConnector of a
+ * Message) through the validate(ModelValidator) functions of the model classes, which test the
+ * required properties directly instead of using reflective bean validation.
+ */
+public final class ModelValidator {
+
+    private final boolean recursive;
+
+    private final Set<ModelClass> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private final Set<String> messages = new LinkedHashSet<>();
+
+    private ModelValidator(boolean recursive) {
+        this.recursive = recursive;
+    }
+
+    /**
+     * This function validates the properties of the given object, but not the objects it refers to.
+     * This is the validation performed by the build() functions of the builder classes.
+     *
+     * @param object object to validate
+     * @throws ConstraintViolationException This exception is thrown, if a violation is found.
+     */
+    public static void validate(ModelClass object) throws ConstraintViolationException {
+        new ModelValidator(false).run(object);
+    }
+
+    /**
+     * This function validates the given object and every object reachable from it once.
+     *
+     * @param root object to validate together with its children
+     * @throws ConstraintViolationException This exception is thrown, if a violation is found.
+     */
+    public static void validateAll(ModelClass root) throws ConstraintViolationException {
+        new ModelValidator(true).run(root);
+    }
+
+    private void run(ModelClass root) {
+        visited.add(root);
+        root.validate(this);
+        if (!messages.isEmpty()) {
+            throw new ConstraintViolationException(messages);
+        }
+    }
+
+    /**
+     * Reports a violation, if a required property is not set.
+     *
+     * @param value value of the property
+     * @param property name of the property
+     */
+    public void notNull(Object value, String property) {
+        if (value == null) {
+            messages.add(property + " must not be null");
+        }
+    }
+
+    /**
+     * Reports a violation, if a required property is not set or empty.
+     *
+     * @param value value of the property
+     * @param property name of the property
+     */
+    public void notEmpty(Collection<?> value, String property) {
+        if (value == null || value.isEmpty()) {
+            messages.add(property + " must not be empty");
+        }
+    }
+
+    /**
+     * Validates an object referred to by the object currently validated, if the validation is
+     * recursive and the object has not been validated before.
+     *
+     * @param child referred object, may be null
+     */
+    public void child(ModelClass child) {
+        if (recursive && child != null && visited.add(child)) {
+            child.validate(this);
+        }
+    }
+
+    /**
+     * Validates the objects referred to by the object currently validated, if the validation is
+     * recursive.
+     *
+     * @param children referred objects, may be null
+     */
+    public void children(Collection<? extends ModelClass> children) {
+        if (recursive && children != null) {
+            for (ModelClass child : children) {
+                child(child);
+            }
+        }
+    }
+
+}
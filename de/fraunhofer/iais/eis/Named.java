@@ -21,6 +21,15 @@ public interface Named extends ModelClass {
     @Beta
     public Named deepCopy();
 
+    @Beta
+    public default Named deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Named freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -18,6 +18,15 @@ public interface NotMoreThanNAgreement extends ContractAgreement {
     @Beta
     public NotMoreThanNAgreement deepCopy();
 
+    @Beta
+    public default NotMoreThanNAgreement deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default NotMoreThanNAgreement freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
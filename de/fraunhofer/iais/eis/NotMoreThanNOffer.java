@@ -18,6 +18,15 @@ public interface NotMoreThanNOffer extends ContractOffer {
     @Beta
     public NotMoreThanNOffer deepCopy();
 
+    @Beta
+    public default NotMoreThanNOffer deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default NotMoreThanNOffer freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -18,6 +18,15 @@ public interface NotMoreThanNRequest extends ContractRequest {
     @Beta
     public NotMoreThanNRequest deepCopy();
 
+    @Beta
+    public default NotMoreThanNRequest deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default NotMoreThanNRequest freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -18,6 +18,15 @@ public interface NotificationAgreement extends ContractAgreement {
     @Beta
     public NotificationAgreement deepCopy();
 
+    @Beta
+    public default NotificationAgreement deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default NotificationAgreement freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
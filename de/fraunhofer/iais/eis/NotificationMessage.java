@@ -26,6 +26,15 @@ public interface NotificationMessage extends Message {
     @Beta
     public NotificationMessage deepCopy();
 
+    @Beta
+    public default NotificationMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default NotificationMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -18,6 +18,15 @@ public interface NotificationOffer extends ContractOffer {
     @Beta
     public NotificationOffer deepCopy();
 
+    @Beta
+    public default NotificationOffer deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default NotificationOffer freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
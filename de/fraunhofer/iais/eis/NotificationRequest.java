@@ -18,6 +18,15 @@ public interface NotificationRequest extends ContractRequest {
     @Beta
     public NotificationRequest deepCopy();
 
+    @Beta
+    public default NotificationRequest deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default NotificationRequest freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -19,6 +19,15 @@ public interface OperationResultMessage extends ResponseMessage {
     @Beta
     public OperationResultMessage deepCopy();
 
+    @Beta
+    public default OperationResultMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default OperationResultMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -18,6 +18,15 @@ public interface OrchestrationApp extends DataApp {
     @Beta
     public OrchestrationApp deepCopy();
 
+    @Beta
+    public default OrchestrationApp deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default OrchestrationApp freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
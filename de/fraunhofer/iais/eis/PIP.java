@@ -19,6 +19,15 @@ public interface PIP extends UsageControlComponent {
     @Beta
     public PIP deepCopy();
 
+    @Beta
+    public default PIP deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default PIP freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
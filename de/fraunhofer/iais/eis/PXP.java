@@ -19,6 +19,15 @@ public interface PXP extends UsageControlComponent {
     @Beta
     public PXP deepCopy();
 
+    @Beta
+    public default PXP deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default PXP freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -22,6 +22,15 @@ public interface ParIS extends Connector {
     @Beta
     public ParIS deepCopy();
 
+    @Beta
+    public default ParIS deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ParIS freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
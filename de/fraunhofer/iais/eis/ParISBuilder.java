@@ -328,7 +328,8 @@ public class ParISBuilder implements Builder<ParIS> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -336,7 +337,21 @@ public class ParISBuilder implements Builder<ParIS> {
      */
     @Override
     public ParIS build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(parISImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(parISImpl);
+        }
+        return parISImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public ParIS buildUnchecked() {
         return parISImpl;
     }
 }
@@ -25,6 +25,15 @@ public interface Participant extends Agent, ManagedEntity {
     @Beta
     public Participant deepCopy();
 
+    @Beta
+    public default Participant deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Participant freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
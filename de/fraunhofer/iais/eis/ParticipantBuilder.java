@@ -262,7 +262,8 @@ public class ParticipantBuilder implements Builder<Participant> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -270,7 +271,21 @@ public class ParticipantBuilder implements Builder<Participant> {
      */
     @Override
     public Participant build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(participantImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(participantImpl);
+        }
+        return participantImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public Participant buildUnchecked() {
         return participantImpl;
     }
 }
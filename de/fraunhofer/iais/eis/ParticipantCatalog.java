@@ -23,6 +23,15 @@ public interface ParticipantCatalog extends Catalog {
     @Beta
     public ParticipantCatalog deepCopy();
 
+    @Beta
+    public default ParticipantCatalog deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ParticipantCatalog freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -1,15 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 
@@ -33,22 +33,39 @@ public class ParticipantCatalogImpl implements ParticipantCatalog {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Participant Catalog", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<ParticipantCatalogImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(ParticipantCatalogImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment =
-        Arrays.asList(new TypedLiteral("Class that aggregates Participants from a (distributable) Catalog.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Participant Catalog", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Class that aggregates Participants from a (distributable) Catalog.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:memberAsObject", "memberAsObject"})
@@ -58,29 +75,43 @@ public class ParticipantCatalogImpl implements ParticipantCatalog {
     protected List<URI> _memberAsUri = new ArrayList<>();
 
     protected ParticipantCatalogImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("participantCatalog");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("participantCatalog"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:ParticipantCatalog", this.id).build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -88,21 +119,20 @@ public class ParticipantCatalogImpl implements ParticipantCatalog {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -117,18 +147,30 @@ public class ParticipantCatalogImpl implements ParticipantCatalog {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._memberAsObject,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._memberAsObject,
             this._memberAsUri);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -148,20 +190,63 @@ public class ParticipantCatalogImpl implements ParticipantCatalog {
 
     @Override
     public ParticipantCatalog deepCopy() {
-        ParticipantCatalogBuilder builder = new ParticipantCatalogBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public ParticipantCatalog deepCopy(CopyContext context) {
+        ParticipantCatalogBuilder builder =
+            context.preservesIds() ? new ParticipantCatalogBuilder(getId()) : new ParticipantCatalogBuilder();
+        context.register(this, builder.buildUnchecked());
         for (Participant item : this._memberAsObject) {
             if (item != null) {
-                builder._memberAsObject_(item.deepCopy());
+                builder._memberAsObject_(context.copy(item));
             }
         }
         for (URI item : this._memberAsUri) {
             if (item != null) {
-                builder._memberAsUri_(URI.create(item.toString()));
+                builder._memberAsUri_(item);
             }
         }
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.children(this._memberAsObject);
+    }
+
+    @Override
+    public ParticipantCatalog freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            this._memberAsObject = Freezer.freezeAll(this._memberAsObject);
+            this._memberAsUri = Freezer.freezeAll(this._memberAsUri);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -171,10 +256,11 @@ public class ParticipantCatalogImpl implements ParticipantCatalog {
 
     @Override
     public void setMemberAsObject(List<Participant> _member_) {
-        this._memberAsObject = _member_;
-        for (Participant item : this._memberAsObject) {
-            this._memberAsUri.remove(item.getId());
+        if (this.frozen) {
+            throw Freezer.frozen(this);
         }
+        this._memberAsObject = _member_;
+        DualProperty.removeObjectIds(this._memberAsUri, this._memberAsObject);
     }
 
     @Override
@@ -184,18 +270,16 @@ public class ParticipantCatalogImpl implements ParticipantCatalog {
 
     @Override
     public void setMemberAsUri(List<URI> _member_) {
-        this._memberAsUri = _member_;
-        for (Participant item : this._memberAsObject) {
-            this._memberAsUri.remove(item.getId());
+        if (this.frozen) {
+            throw Freezer.frozen(this);
         }
+        this._memberAsUri = _member_;
+        DualProperty.removeObjectIds(this._memberAsUri, this._memberAsObject);
     }
 
     @Override
     public UriOrModelClass getMember() {
-        return new UriOrModelClass(
-            Stream.concat(
-                this._memberAsObject.stream(),
-                this._memberAsUri.stream()).collect(Collectors.toList()));
+        return new UriOrModelClass(DualProperty.union(this._memberAsObject, this._memberAsUri));
     }
 
 }
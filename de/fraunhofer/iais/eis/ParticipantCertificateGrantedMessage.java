@@ -19,6 +19,15 @@ public interface ParticipantCertificateGrantedMessage extends ParticipantNotific
     @Beta
     public ParticipantCertificateGrantedMessage deepCopy();
 
+    @Beta
+    public default ParticipantCertificateGrantedMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ParticipantCertificateGrantedMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -21,6 +21,15 @@ public interface ParticipantCertificateRevokedMessage extends ParticipantNotific
     @Beta
     public ParticipantCertificateRevokedMessage deepCopy();
 
+    @Beta
+    public default ParticipantCertificateRevokedMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ParticipantCertificateRevokedMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
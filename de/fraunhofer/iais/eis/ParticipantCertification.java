@@ -23,6 +23,15 @@ public interface ParticipantCertification extends Certification {
     @Beta
     public ParticipantCertification deepCopy();
 
+    @Beta
+    public default ParticipantCertification deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ParticipantCertification freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -121,7 +121,8 @@ public class ParticipantCertificationBuilder implements Builder<ParticipantCerti
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -129,7 +130,21 @@ public class ParticipantCertificationBuilder implements Builder<ParticipantCerti
      */
     @Override
     public ParticipantCertification build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(participantCertificationImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(participantCertificationImpl);
+        }
+        return participantCertificationImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public ParticipantCertification buildUnchecked() {
         return participantCertificationImpl;
     }
 }
@@ -20,6 +20,15 @@ public interface ParticipantCertificationLevel extends CertificationLevel {
     @Beta
     public ParticipantCertificationLevel deepCopy();
 
+    @Beta
+    public default ParticipantCertificationLevel deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ParticipantCertificationLevel freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /** 
@@ -57,4 +66,29 @@ public interface ParticipantCertificationLevel extends CertificationLevel {
         new ParticipantCertificationLevelBuilder(URI.create("https://w3id.org/idsa/code/PARTICIPANT_MEMBER_LEVEL_MANAGEMENT_SYSTEM"))
             .build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/PARTICIPANT_CENTRAL_LEVEL_CONTROL_FRAMEWORK
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static ParticipantCertificationLevel fromId(URI id) {
+        return id == null ? null : ParticipantCertificationLevelImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:PARTICIPANT_CENTRAL_LEVEL_CONTROL_FRAMEWORK).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static ParticipantCertificationLevel fromString(String id) {
+        return id == null ? null : ParticipantCertificationLevelImpl.defaultInstance(id);
+    }
+
 }
@@ -30,7 +30,8 @@ public class ParticipantCertificationLevelBuilder implements Builder<Participant
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -38,7 +39,21 @@ public class ParticipantCertificationLevelBuilder implements Builder<Participant
      */
     @Override
     public ParticipantCertificationLevel build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(participantCertificationLevelImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(participantCertificationLevelImpl);
+        }
+        return participantCertificationLevelImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public ParticipantCertificationLevel buildUnchecked() {
         return participantCertificationLevelImpl;
     }
 }
@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 
@@ -32,23 +34,39 @@ public class ParticipantImpl implements Participant {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Participant", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<ParticipantImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(ParticipantImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment = Arrays.asList(new TypedLiteral(
-        "Stakeholder in the International Data Spaces, assuming one or more of the predefined roles; every participant is given a unique identity by the Identity Provider.",
-        "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Participant", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Stakeholder in the International Data Spaces, assuming one or more of the predefined roles; every participant is given a unique identity by the Identity Provider.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:businessIdentifier", "businessIdentifier"})
@@ -98,29 +116,48 @@ public class ParticipantImpl implements Participant {
     protected String _version;
 
     protected ParticipantImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("participant");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("participant"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:Participant", this.id)
+            .add("title", this._title)
+            .add("corporateHomepage", this._corporateHomepage)
+            .add("jurisdiction", this._jurisdiction)
+            .add("legalForm", this._legalForm)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -128,21 +165,20 @@ public class ParticipantImpl implements Participant {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -157,17 +193,25 @@ public class ParticipantImpl implements Participant {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._legalName,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._legalName,
             this._primarySite,
             this._corporateEmailAddress,
             this._corporateHomepage,
@@ -182,6 +226,10 @@ public class ParticipantImpl implements Participant {
             this._title,
             this._description,
             this._version);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -214,33 +262,40 @@ public class ParticipantImpl implements Participant {
 
     @Override
     public Participant deepCopy() {
-        ParticipantBuilder builder = new ParticipantBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public Participant deepCopy(CopyContext context) {
+        ParticipantBuilder builder =
+            context.preservesIds() ? new ParticipantBuilder(getId()) : new ParticipantBuilder();
+        context.register(this, builder.buildUnchecked());
         for (String item : this._legalName) {
             builder._legalName_(item);
         }
         if (this._primarySite != null) {
-            builder._primarySite_(this._primarySite.deepCopy());
+            builder._primarySite_(context.copy(this._primarySite));
         }
         for (String item : this._corporateEmailAddress) {
             builder._corporateEmailAddress_(item);
         }
         if (this._corporateHomepage != null) {
-            builder._corporateHomepage_(URI.create(this._corporateHomepage.toString()));
+            builder._corporateHomepage_(this._corporateHomepage);
         }
         for (Participant item : this._memberParticipant) {
             if (item != null) {
-                builder._memberParticipant_(item.deepCopy());
+                builder._memberParticipant_(context.copy(item));
             }
         }
         if (this._participantCertification != null) {
-            builder._participantCertification_(this._participantCertification.deepCopy());
+            builder._participantCertification_(context.copy(this._participantCertification));
         }
         if (this._participantRefinement != null) {
-            builder._participantRefinement_(this._participantRefinement.deepCopy());
+            builder._participantRefinement_(context.copy(this._participantRefinement));
         }
         for (BusinessIdentifier item : this._businessIdentifier) {
             if (item != null) {
-                builder._businessIdentifier_(item.deepCopy());
+                builder._businessIdentifier_(context.copy(item));
             }
         }
         builder._vatID_(this._vatID);
@@ -248,7 +303,7 @@ public class ParticipantImpl implements Participant {
         builder._jurisdiction_(this._jurisdiction);
         for (Person item : this._memberPerson) {
             if (item != null) {
-                builder._memberPerson_(item.deepCopy());
+                builder._memberPerson_(context.copy(item));
             }
         }
         for (TypedLiteral item : this._title) {
@@ -269,6 +324,56 @@ public class ParticipantImpl implements Participant {
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.notNull(this._legalForm, "legalForm");
+        validator.children(this._businessIdentifier);
+        validator.children(this._memberParticipant);
+        validator.children(this._memberPerson);
+        validator.child(this._participantCertification);
+        validator.child(this._participantRefinement);
+        validator.child(this._primarySite);
+    }
+
+    @Override
+    public Participant freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            this._businessIdentifier = Freezer.freezeAll(this._businessIdentifier);
+            this._corporateEmailAddress = Freezer.freezeAll(this._corporateEmailAddress);
+            this._description = Freezer.freezeAll(this._description);
+            this._legalName = Freezer.freezeAll(this._legalName);
+            this._memberParticipant = Freezer.freezeAll(this._memberParticipant);
+            this._memberPerson = Freezer.freezeAll(this._memberPerson);
+            Freezer.freeze(this._participantCertification);
+            Freezer.freeze(this._participantRefinement);
+            Freezer.freeze(this._primarySite);
+            this._title = Freezer.freezeAll(this._title);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -278,6 +383,9 @@ public class ParticipantImpl implements Participant {
 
     @Override
     public void setLegalName(List<String> _legalName_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._legalName = _legalName_;
     }
 
@@ -288,6 +396,9 @@ public class ParticipantImpl implements Participant {
 
     @Override
     public void setPrimarySite(Site _primarySite_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._primarySite = _primarySite_;
     }
 
@@ -298,6 +409,9 @@ public class ParticipantImpl implements Participant {
 
     @Override
     public void setCorporateEmailAddress(List<String> _corporateEmailAddress_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._corporateEmailAddress = _corporateEmailAddress_;
     }
 
@@ -308,6 +422,9 @@ public class ParticipantImpl implements Participant {
 
     @Override
     public void setCorporateHomepage(URI _corporateHomepage_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._corporateHomepage = _corporateHomepage_;
     }
 
@@ -318,6 +435,9 @@ public class ParticipantImpl implements Participant {
 
     @Override
     public void setMemberParticipant(List<Participant> _memberParticipant_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._memberParticipant = _memberParticipant_;
     }
 
@@ -328,6 +448,9 @@ public class ParticipantImpl implements Participant {
 
     @Override
     public void setParticipantCertification(ParticipantCertification _participantCertification_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._participantCertification = _participantCertification_;
     }
 
@@ -338,6 +461,9 @@ public class ParticipantImpl implements Participant {
 
     @Override
     public void setParticipantRefinement(AbstractConstraint _participantRefinement_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._participantRefinement = _participantRefinement_;
     }
 
@@ -348,6 +474,9 @@ public class ParticipantImpl implements Participant {
 
     @Override
     public void setBusinessIdentifier(List<BusinessIdentifier> _businessIdentifier_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._businessIdentifier = _businessIdentifier_;
     }
 
@@ -358,6 +487,9 @@ public class ParticipantImpl implements Participant {
 
     @Override
     public void setVatID(String _vatID_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._vatID = _vatID_;
     }
 
@@ -369,6 +501,9 @@ public class ParticipantImpl implements Participant {
 
     @Override
     public void setLegalForm(String _legalForm_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._legalForm = _legalForm_;
     }
 
@@ -379,6 +514,9 @@ public class ParticipantImpl implements Participant {
 
     @Override
     public void setJurisdiction(String _jurisdiction_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._jurisdiction = _jurisdiction_;
     }
 
@@ -389,6 +527,9 @@ public class ParticipantImpl implements Participant {
 
     @Override
     public void setMemberPerson(List<Person> _memberPerson_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._memberPerson = _memberPerson_;
     }
 
@@ -399,6 +540,9 @@ public class ParticipantImpl implements Participant {
 
     @Override
     public void setTitle(List<TypedLiteral> _title_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._title = _title_;
     }
 
@@ -409,6 +553,9 @@ public class ParticipantImpl implements Participant {
 
     @Override
     public void setDescription(List<TypedLiteral> _description_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._description = _description_;
     }
 
@@ -419,6 +566,9 @@ public class ParticipantImpl implements Participant {
 
     @Override
     public void setVersion(String _version_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._version = _version_;
     }
 
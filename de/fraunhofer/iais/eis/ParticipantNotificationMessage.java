@@ -26,6 +26,15 @@ public interface ParticipantNotificationMessage extends NotificationMessage {
     @Beta
     public ParticipantNotificationMessage deepCopy();
 
+    @Beta
+    public default ParticipantNotificationMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ParticipantNotificationMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -25,6 +25,15 @@ public interface ParticipantRequestMessage extends RequestMessage {
     @Beta
     public ParticipantRequestMessage deepCopy();
 
+    @Beta
+    public default ParticipantRequestMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ParticipantRequestMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
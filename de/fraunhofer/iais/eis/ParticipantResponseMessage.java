@@ -20,6 +20,15 @@ public interface ParticipantResponseMessage extends ResponseMessage {
     @Beta
     public ParticipantResponseMessage deepCopy();
 
+    @Beta
+    public default ParticipantResponseMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ParticipantResponseMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
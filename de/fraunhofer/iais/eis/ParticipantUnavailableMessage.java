@@ -19,6 +19,15 @@ public interface ParticipantUnavailableMessage extends ParticipantNotificationMe
     @Beta
     public ParticipantUnavailableMessage deepCopy();
 
+    @Beta
+    public default ParticipantUnavailableMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ParticipantUnavailableMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -19,6 +19,15 @@ public interface ParticipantUpdateMessage extends ParticipantNotificationMessage
     @Beta
     public ParticipantUpdateMessage deepCopy();
 
+    @Beta
+    public default ParticipantUpdateMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ParticipantUpdateMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
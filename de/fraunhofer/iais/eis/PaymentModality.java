@@ -22,6 +22,15 @@ public interface PaymentModality extends ModelClass {
     @Beta
     public PaymentModality deepCopy();
 
+    @Beta
+    public default PaymentModality deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default PaymentModality freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /**
@@ -39,4 +48,29 @@ public interface PaymentModality extends ModelClass {
      */
     PaymentModality NEGOTIATION_BASIS = new PaymentModalityBuilder(URI.create("https://w3id.org/idsa/code/NEGOTIATION_BASIS")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/FIXED_PRICE
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static PaymentModality fromId(URI id) {
+        return id == null ? null : PaymentModalityImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:FIXED_PRICE).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static PaymentModality fromString(String id) {
+        return id == null ? null : PaymentModalityImpl.defaultInstance(id);
+    }
+
 }
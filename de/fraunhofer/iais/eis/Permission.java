@@ -21,6 +21,15 @@ public interface Permission extends Rule {
     @Beta
     public Permission deepCopy();
 
+    @Beta
+    public default Permission deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Permission freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
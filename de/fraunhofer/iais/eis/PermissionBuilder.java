@@ -218,7 +218,8 @@ public class PermissionBuilder implements Builder<Permission> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -226,7 +227,21 @@ public class PermissionBuilder implements Builder<Permission> {
      */
     @Override
     public Permission build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(permissionImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(permissionImpl);
+        }
+        return permissionImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public Permission buildUnchecked() {
         return permissionImpl;
     }
 }
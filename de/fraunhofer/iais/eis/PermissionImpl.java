@@ -1,17 +1,18 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
-
 import com.fasterxml.jackson.annotation.JsonAlias;
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
@@ -32,22 +33,39 @@ public class PermissionImpl implements Permission {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Permission", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<PermissionImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(PermissionImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment =
-        Arrays.asList(new TypedLiteral("The class of Permissions as defined in the ODRL ontology.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Permission", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("The class of Permissions as defined in the ODRL ontology.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @NotEmpty
@@ -82,29 +100,46 @@ public class PermissionImpl implements Permission {
     protected List<TypedLiteral> _title = new ArrayList<>();
 
     protected PermissionImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("permission");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("permission"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:Permission", this.id)
+            .add("title", this._title)
+            .add("target", this._target)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -112,21 +147,20 @@ public class PermissionImpl implements Permission {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -141,17 +175,25 @@ public class PermissionImpl implements Permission {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._preDuty,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._preDuty,
             this._postDuty,
             this._assignee,
             this._assigner,
@@ -161,6 +203,10 @@ public class PermissionImpl implements Permission {
             this._assetRefinement,
             this._title,
             this._description);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -188,40 +234,47 @@ public class PermissionImpl implements Permission {
 
     @Override
     public Permission deepCopy() {
-        PermissionBuilder builder = new PermissionBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public Permission deepCopy(CopyContext context) {
+        PermissionBuilder builder =
+            context.preservesIds() ? new PermissionBuilder(getId()) : new PermissionBuilder();
+        context.register(this, builder.buildUnchecked());
         for (Duty item : this._preDuty) {
             if (item != null) {
-                builder._preDuty_(item.deepCopy());
+                builder._preDuty_(context.copy(item));
             }
         }
         for (Duty item : this._postDuty) {
             if (item != null) {
-                builder._postDuty_(item.deepCopy());
+                builder._postDuty_(context.copy(item));
             }
         }
         for (URI item : this._assignee) {
             if (item != null) {
-                builder._assignee_(URI.create(item.toString()));
+                builder._assignee_(item);
             }
         }
         for (URI item : this._assigner) {
             if (item != null) {
-                builder._assigner_(URI.create(item.toString()));
+                builder._assigner_(item);
             }
         }
         if (this._target != null) {
-            builder._target_(URI.create(this._target.toString()));
+            builder._target_(this._target);
         }
         for (AbstractConstraint item : this._constraint) {
             if (item != null) {
-                builder._constraint_(item.deepCopy());
+                builder._constraint_(context.copy(item));
             }
         }
         for (Action item : this._action) {
             builder._action_(item);
         }
         if (this._assetRefinement != null) {
-            builder._assetRefinement_(this._assetRefinement.deepCopy());
+            builder._assetRefinement_(context.copy(this._assetRefinement));
         }
         for (TypedLiteral item : this._title) {
             if (item != null && item.getLanguage() != null) {
@@ -240,6 +293,54 @@ public class PermissionImpl implements Permission {
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.notEmpty(this._action, "action");
+        validator.children(this._action);
+        validator.child(this._assetRefinement);
+        validator.children(this._constraint);
+        validator.children(this._postDuty);
+        validator.children(this._preDuty);
+    }
+
+    @Override
+    public Permission freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            this._action = Freezer.freezeAll(this._action);
+            Freezer.freeze(this._assetRefinement);
+            this._assignee = Freezer.freezeAll(this._assignee);
+            this._assigner = Freezer.freezeAll(this._assigner);
+            this._constraint = Freezer.freezeAll(this._constraint);
+            this._description = Freezer.freezeAll(this._description);
+            this._postDuty = Freezer.freezeAll(this._postDuty);
+            this._preDuty = Freezer.freezeAll(this._preDuty);
+            this._title = Freezer.freezeAll(this._title);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -249,6 +350,9 @@ public class PermissionImpl implements Permission {
 
     @Override
     public void setPreDuty(List<Duty> _preDuty_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._preDuty = _preDuty_;
     }
 
@@ -259,6 +363,9 @@ public class PermissionImpl implements Permission {
 
     @Override
     public void setPostDuty(List<Duty> _postDuty_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._postDuty = _postDuty_;
     }
 
@@ -269,6 +376,9 @@ public class PermissionImpl implements Permission {
 
     @Override
     public void setAssignee(List<URI> _assignee_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._assignee = _assignee_;
     }
 
@@ -279,6 +389,9 @@ public class PermissionImpl implements Permission {
 
     @Override
     public void setAssigner(List<URI> _assigner_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._assigner = _assigner_;
     }
 
@@ -289,6 +402,9 @@ public class PermissionImpl implements Permission {
 
     @Override
     public void setTarget(URI _target_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._target = _target_;
     }
 
@@ -299,6 +415,9 @@ public class PermissionImpl implements Permission {
 
     @Override
     public void setConstraint(List<AbstractConstraint> _constraint_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._constraint = _constraint_;
     }
 
@@ -310,6 +429,9 @@ public class PermissionImpl implements Permission {
 
     @Override
     public void setAction(List<Action> _action_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._action = _action_;
     }
 
@@ -320,6 +442,9 @@ public class PermissionImpl implements Permission {
 
     @Override
     public void setAssetRefinement(AbstractConstraint _assetRefinement_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._assetRefinement = _assetRefinement_;
     }
 
@@ -330,6 +455,9 @@ public class PermissionImpl implements Permission {
 
     @Override
     public void setTitle(List<TypedLiteral> _title_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._title = _title_;
     }
 
@@ -340,6 +468,9 @@ public class PermissionImpl implements Permission {
 
     @Override
     public void setDescription(List<TypedLiteral> _description_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._description = _description_;
     }
 
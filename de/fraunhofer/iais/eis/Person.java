@@ -21,6 +21,15 @@ public interface Person extends ModelClass {
     @Beta
     public Person deepCopy();
 
+    @Beta
+    public default Person deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Person freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 
@@ -31,21 +33,39 @@ public class PersonImpl implements Person {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Person", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<PersonImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(PersonImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment = Arrays.asList(new TypedLiteral("The class of persons (people)", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Person", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("The class of persons (people)", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:emailAddress", "emailAddress"})
@@ -64,29 +84,47 @@ public class PersonImpl implements Person {
     protected List<String> _phoneNumber = new ArrayList<>();
 
     protected PersonImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("person");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("person"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:Person", this.id)
+            .add("familyName", this._familyName)
+            .add("givenName", this._givenName)
+            .add("homepage", this._homepage)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -94,21 +132,20 @@ public class PersonImpl implements Person {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -123,21 +160,33 @@ public class PersonImpl implements Person {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._familyName,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._familyName,
             this._givenName,
             this._phoneNumber,
             this._emailAddress,
             this._homepage);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -160,7 +209,14 @@ public class PersonImpl implements Person {
 
     @Override
     public Person deepCopy() {
-        PersonBuilder builder = new PersonBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public Person deepCopy(CopyContext context) {
+        PersonBuilder builder =
+            context.preservesIds() ? new PersonBuilder(getId()) : new PersonBuilder();
+        context.register(this, builder.buildUnchecked());
         builder._familyName_(this._familyName);
         builder._givenName_(this._givenName);
         for (String item : this._phoneNumber) {
@@ -173,6 +229,42 @@ public class PersonImpl implements Person {
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        // no constraints or referred objects to validate
+    }
+
+    @Override
+    public Person freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            this._emailAddress = Freezer.freezeAll(this._emailAddress);
+            this._phoneNumber = Freezer.freezeAll(this._phoneNumber);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -182,6 +274,9 @@ public class PersonImpl implements Person {
 
     @Override
     public void setFamilyName(String _familyName_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._familyName = _familyName_;
     }
 
@@ -192,6 +287,9 @@ public class PersonImpl implements Person {
 
     @Override
     public void setGivenName(String _givenName_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._givenName = _givenName_;
     }
 
@@ -202,6 +300,9 @@ public class PersonImpl implements Person {
 
     @Override
     public void setPhoneNumber(List<String> _phoneNumber_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._phoneNumber = _phoneNumber_;
     }
 
@@ -212,6 +313,9 @@ public class PersonImpl implements Person {
 
     @Override
     public void setEmailAddress(List<String> _emailAddress_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._emailAddress = _emailAddress_;
     }
 
@@ -222,6 +326,9 @@ public class PersonImpl implements Person {
 
     @Override
     public void setHomepage(String _homepage_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._homepage = _homepage_;
     }
 
@@ -18,6 +18,15 @@ public interface Prohibition extends Rule {
     @Beta
     public Prohibition deepCopy();
 
+    @Beta
+    public default Prohibition deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Prohibition freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
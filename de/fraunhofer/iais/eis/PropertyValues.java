@@ -0,0 +1,48 @@
+package de.fraunhofer.iais.eis;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Helper functions for the generic properties of the model classes.
+ */
+final class PropertyValues {
+
+    private PropertyValues() {}
+
+    /**
+     * Returns a read-only snapshot of a value given to setProperty(): strings starting with "http" are
+     * parsed as URIs, and lists and maps are copied into unmodifiable ones, recursively. Later changes
+     * of the given value thus do not reach the object, and the values returned by getProperties()
+     * cannot be changed through it.
+     */
+    static Object snapshot(Object value) {
+        if (value instanceof String && value.toString().startsWith("http")) {
+            try {
+                return new URI(value.toString());
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
+        } else if (value instanceof List) {
+            List<?> values = (List<?>) value;
+            List<Object> result = new ArrayList<>(values.size());
+            for (Object element : values) {
+                result.add(snapshot(element));
+            }
+            return Collections.unmodifiableList(result);
+        } else if (value instanceof Map) {
+            Map<?, ?> values = (Map<?, ?>) value;
+            Map<String, Object> result = new HashMap<>();
+            for (Map.Entry<?, ?> entry : values.entrySet()) {
+                result.put(entry.getKey().toString(), snapshot(entry.getValue()));
+            }
+            return Collections.unmodifiableMap(result);
+        }
+        return value;
+    }
+
+}
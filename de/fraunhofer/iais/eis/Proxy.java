@@ -24,6 +24,15 @@ public interface Proxy extends ModelClass {
     @Beta
     public Proxy deepCopy();
 
+    @Beta
+    public default Proxy deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Proxy freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
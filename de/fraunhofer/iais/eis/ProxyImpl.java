@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 
@@ -31,21 +33,39 @@ public class ProxyImpl implements Proxy {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Proxy", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<ProxyImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(ProxyImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment = Arrays.asList(new TypedLiteral("Holds Proxy information.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Proxy", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Holds Proxy information.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:noProxy", "noProxy"})
@@ -59,29 +79,45 @@ public class ProxyImpl implements Proxy {
     protected URI _proxyURI;
 
     protected ProxyImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("proxy");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("proxy"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:Proxy", this.id)
+            .add("proxyURI", this._proxyURI)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -89,21 +125,20 @@ public class ProxyImpl implements Proxy {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -118,19 +153,31 @@ public class ProxyImpl implements Proxy {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._proxyURI,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._proxyURI,
             this._noProxy,
             this._proxyAuthentication);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -151,21 +198,65 @@ public class ProxyImpl implements Proxy {
 
     @Override
     public Proxy deepCopy() {
-        ProxyBuilder builder = new ProxyBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public Proxy deepCopy(CopyContext context) {
+        ProxyBuilder builder =
+            context.preservesIds() ? new ProxyBuilder(getId()) : new ProxyBuilder();
+        context.register(this, builder.buildUnchecked());
         if (this._proxyURI != null) {
-            builder._proxyURI_(URI.create(this._proxyURI.toString()));
+            builder._proxyURI_(this._proxyURI);
         }
         for (URI item : this._noProxy) {
             if (item != null) {
-                builder._noProxy_(URI.create(item.toString()));
+                builder._noProxy_(item);
             }
         }
         if (this._proxyAuthentication != null) {
-            builder._proxyAuthentication_(this._proxyAuthentication.deepCopy());
+            builder._proxyAuthentication_(context.copy(this._proxyAuthentication));
         }
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.notNull(this._proxyURI, "proxyURI");
+        validator.child(this._proxyAuthentication);
+    }
+
+    @Override
+    public Proxy freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            this._noProxy = Freezer.freezeAll(this._noProxy);
+            Freezer.freeze(this._proxyAuthentication);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -176,6 +267,9 @@ public class ProxyImpl implements Proxy {
 
     @Override
     public void setProxyURI(URI _proxyURI_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._proxyURI = _proxyURI_;
     }
 
@@ -186,6 +280,9 @@ public class ProxyImpl implements Proxy {
 
     @Override
     public void setNoProxy(List<URI> _noProxy_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._noProxy = _noProxy_;
     }
 
@@ -196,6 +293,9 @@ public class ProxyImpl implements Proxy {
 
     @Override
     public void setProxyAuthentication(BasicAuthentication _proxyAuthentication_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._proxyAuthentication = _proxyAuthentication_;
     }
 }
@@ -19,6 +19,15 @@ public interface PublicKey extends ModelClass {
     @Beta
     public PublicKey deepCopy();
 
+    @Beta
+    public default PublicKey deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default PublicKey freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -18,6 +18,15 @@ public interface PurposeAgreement extends ContractAgreement {
     @Beta
     public PurposeAgreement deepCopy();
 
+    @Beta
+    public default PurposeAgreement deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default PurposeAgreement freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
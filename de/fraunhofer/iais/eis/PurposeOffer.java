@@ -18,6 +18,15 @@ public interface PurposeOffer extends ContractOffer {
     @Beta
     public PurposeOffer deepCopy();
 
+    @Beta
+    public default PurposeOffer deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default PurposeOffer freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -18,6 +18,15 @@ public interface PurposeRequest extends ContractRequest {
     @Beta
     public PurposeRequest deepCopy();
 
+    @Beta
+    public default PurposeRequest deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default PurposeRequest freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
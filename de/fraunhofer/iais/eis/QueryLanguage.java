@@ -20,6 +20,15 @@ public interface QueryLanguage extends ModelClass {
     @Beta
     public QueryLanguage deepCopy();
 
+    @Beta
+    public default QueryLanguage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default QueryLanguage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /** 
@@ -34,4 +43,29 @@ public interface QueryLanguage extends ModelClass {
     */
     QueryLanguage XQUERY = new QueryLanguageBuilder(URI.create("https://w3id.org/idsa/code/XQUERY")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/SPARQL
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static QueryLanguage fromId(URI id) {
+        return id == null ? null : QueryLanguageImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:SPARQL).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static QueryLanguage fromString(String id) {
+        return id == null ? null : QueryLanguageImpl.defaultInstance(id);
+    }
+
 }
@@ -19,6 +19,15 @@ public interface QueryMessage extends RequestMessage {
     @Beta
     public QueryMessage deepCopy();
 
+    @Beta
+    public default QueryMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default QueryMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -198,7 +198,8 @@ public class QueryMessageBuilder implements Builder<QueryMessage> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -206,7 +207,21 @@ public class QueryMessageBuilder implements Builder<QueryMessage> {
      */
     @Override
     public QueryMessage build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(queryMessageImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(queryMessageImpl);
+        }
+        return queryMessageImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public QueryMessage buildUnchecked() {
         return queryMessageImpl;
     }
 }
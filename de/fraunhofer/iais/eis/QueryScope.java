@@ -20,6 +20,15 @@ public interface QueryScope extends ModelClass {
     @Beta
     public QueryScope deepCopy();
 
+    @Beta
+    public default QueryScope deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default QueryScope freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /** 
@@ -34,4 +43,29 @@ public interface QueryScope extends ModelClass {
     */
     QueryScope INACTIVE_ONLY = new QueryScopeBuilder(URI.create("https://w3id.org/idsa/code/INACTIVE_ONLY")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/ACTIVE_ONLY
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static QueryScope fromId(URI id) {
+        return id == null ? null : QueryScopeImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:ACTIVE_ONLY).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static QueryScope fromString(String id) {
+        return id == null ? null : QueryScopeImpl.defaultInstance(id);
+    }
+
 }
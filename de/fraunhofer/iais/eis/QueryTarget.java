@@ -20,6 +20,15 @@ public interface QueryTarget extends ModelClass {
     @Beta
     public QueryTarget deepCopy();
 
+    @Beta
+    public default QueryTarget deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default QueryTarget freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /** 
@@ -42,4 +51,29 @@ public interface QueryTarget extends ModelClass {
     */
     QueryTarget PARIS = new QueryTargetBuilder(URI.create("https://w3id.org/idsa/code/PARIS")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/ANY
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static QueryTarget fromId(URI id) {
+        return id == null ? null : QueryTargetImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:ANY).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static QueryTarget fromString(String id) {
+        return id == null ? null : QueryTargetImpl.defaultInstance(id);
+    }
+
 }
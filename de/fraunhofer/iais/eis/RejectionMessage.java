@@ -21,6 +21,15 @@ public interface RejectionMessage extends ResponseMessage {
     @Beta
     public RejectionMessage deepCopy();
 
+    @Beta
+    public default RejectionMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default RejectionMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -20,6 +20,15 @@ public interface RejectionReason extends ModelClass {
     @Beta
     public RejectionReason deepCopy();
 
+    @Beta
+    public default RejectionReason deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default RejectionReason freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /**
@@ -87,4 +96,29 @@ public interface RejectionReason extends ModelClass {
     RejectionReason VERSION_NOT_SUPPORTED =
         new RejectionReasonBuilder(URI.create("https://w3id.org/idsa/code/VERSION_NOT_SUPPORTED")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/BAD_PARAMETERS
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static RejectionReason fromId(URI id) {
+        return id == null ? null : RejectionReasonImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:BAD_PARAMETERS).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static RejectionReason fromString(String id) {
+        return id == null ? null : RejectionReasonImpl.defaultInstance(id);
+    }
+
 }
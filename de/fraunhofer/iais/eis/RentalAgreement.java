@@ -18,6 +18,15 @@ public interface RentalAgreement extends ContractAgreement {
     @Beta
     public RentalAgreement deepCopy();
 
+    @Beta
+    public default RentalAgreement deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default RentalAgreement freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -18,6 +18,15 @@ public interface RentalOffer extends ContractOffer {
     @Beta
     public RentalOffer deepCopy();
 
+    @Beta
+    public default RentalOffer deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default RentalOffer freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -18,6 +18,15 @@ public interface RentalRequest extends ContractRequest {
     @Beta
     public RentalRequest deepCopy();
 
+    @Beta
+    public default RentalRequest deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default RentalRequest freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -31,6 +31,15 @@ public interface Representation extends Asset, Described, DescribedSemantically
     @Beta
     public Representation deepCopy();
 
+    @Beta
+    public default Representation deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Representation freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 import javax.xml.datatype.XMLGregorianCalendar;
@@ -33,21 +35,39 @@ public class RepresentationImpl implements Representation {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Representation", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<RepresentationImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(RepresentationImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment = Arrays.asList(new TypedLiteral("Syntactic template of a Resource.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Representation", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Syntactic template of a Resource.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:created", "created"})
@@ -78,29 +98,48 @@ public class RepresentationImpl implements Representation {
     protected List<TypedLiteral> _title = new ArrayList<>();
 
     protected RepresentationImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("representation");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("representation"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:Representation", this.id)
+            .add("title", this._title)
+            .add("created", this._created)
+            .add("modified", this._modified)
+            .add("representationStandard", this._representationStandard)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -108,21 +147,20 @@ public class RepresentationImpl implements Representation {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -137,17 +175,25 @@ public class RepresentationImpl implements Representation {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._instance,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._instance,
             this._mediaType,
             this._representationStandard,
             this._language,
@@ -156,6 +202,10 @@ public class RepresentationImpl implements Representation {
             this._title,
             this._description,
             this._shapesGraph);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -182,17 +232,24 @@ public class RepresentationImpl implements Representation {
 
     @Override
     public Representation deepCopy() {
-        RepresentationBuilder builder = new RepresentationBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public Representation deepCopy(CopyContext context) {
+        RepresentationBuilder builder =
+            context.preservesIds() ? new RepresentationBuilder(getId()) : new RepresentationBuilder();
+        context.register(this, builder.buildUnchecked());
         for (RepresentationInstance item : this._instance) {
             if (item != null) {
-                builder._instance_(item.deepCopy());
+                builder._instance_(context.copy(item));
             }
         }
         if (this._mediaType != null) {
-            builder._mediaType_(this._mediaType.deepCopy());
+            builder._mediaType_(context.copy(this._mediaType));
         }
         if (this._representationStandard != null) {
-            builder._representationStandard_(URI.create(this._representationStandard.toString()));
+            builder._representationStandard_(this._representationStandard);
         }
         builder._language_(this._language);
         if (this._created != null) {
@@ -216,11 +273,52 @@ public class RepresentationImpl implements Representation {
             }
         }
         if (this._shapesGraph != null) {
-            builder._shapesGraph_(URI.create(this._shapesGraph.toString()));
+            builder._shapesGraph_(this._shapesGraph);
         }
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.children(this._instance);
+        validator.child(this._language);
+        validator.child(this._mediaType);
+    }
+
+    @Override
+    public Representation freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            this._description = Freezer.freezeAll(this._description);
+            this._instance = Freezer.freezeAll(this._instance);
+            Freezer.freeze(this._language);
+            Freezer.freeze(this._mediaType);
+            this._title = Freezer.freezeAll(this._title);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -230,6 +328,9 @@ public class RepresentationImpl implements Representation {
 
     @Override
     public void setInstance(List<RepresentationInstance> _instance_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._instance = _instance_;
     }
 
@@ -240,6 +341,9 @@ public class RepresentationImpl implements Representation {
 
     @Override
     public void setMediaType(MediaType _mediaType_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._mediaType = _mediaType_;
     }
 
@@ -250,6 +354,9 @@ public class RepresentationImpl implements Representation {
 
     @Override
     public void setRepresentationStandard(URI _representationStandard_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._representationStandard = _representationStandard_;
     }
 
@@ -260,6 +367,9 @@ public class RepresentationImpl implements Representation {
 
     @Override
     public void setLanguage(Language _language_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._language = _language_;
     }
 
@@ -271,6 +381,9 @@ public class RepresentationImpl implements Representation {
 
     @Override
     public void setCreated(XMLGregorianCalendar _created_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._created = _created_;
     }
 
@@ -282,6 +395,9 @@ public class RepresentationImpl implements Representation {
 
     @Override
     public void setModified(XMLGregorianCalendar _modified_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._modified = _modified_;
     }
 
@@ -292,6 +408,9 @@ public class RepresentationImpl implements Representation {
 
     @Override
     public void setTitle(List<TypedLiteral> _title_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._title = _title_;
     }
 
@@ -302,6 +421,9 @@ public class RepresentationImpl implements Representation {
 
     @Override
     public void setDescription(List<TypedLiteral> _description_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._description = _description_;
     }
 
@@ -312,6 +434,9 @@ public class RepresentationImpl implements Representation {
 
     @Override
     public void setShapesGraph(URI _shapesGraph_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._shapesGraph = _shapesGraph_;
     }
 
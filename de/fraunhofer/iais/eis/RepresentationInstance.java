@@ -19,4 +19,13 @@ public interface RepresentationInstance extends ModelClass {
     @Beta
     public RepresentationInstance deepCopy();
 
+    @Beta
+    public default RepresentationInstance deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default RepresentationInstance freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
 }
@@ -18,6 +18,15 @@ public interface RequestInProcessMessage extends NotificationMessage {
     @Beta
     public RequestInProcessMessage deepCopy();
 
+    @Beta
+    public default RequestInProcessMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default RequestInProcessMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -29,6 +29,15 @@ public interface RequestMessage extends Message {
     @Beta
     public RequestMessage deepCopy();
 
+    @Beta
+    public default RequestMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default RequestMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -32,6 +32,15 @@ public interface Resource extends Asset, DigitalContent, DescribedSemantically,
     @Beta
     public Resource deepCopy();
 
+    @Beta
+    public default Resource deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Resource freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -506,7 +506,8 @@ public class ResourceBuilder implements Builder<Resource> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -514,7 +515,21 @@ public class ResourceBuilder implements Builder<Resource> {
      */
     @Override
     public Resource build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(resourceImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(resourceImpl);
+        }
+        return resourceImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public Resource buildUnchecked() {
         return resourceImpl;
     }
 }
@@ -23,6 +23,15 @@ public interface ResourceCatalog extends Catalog {
     @Beta
     public ResourceCatalog deepCopy();
 
+    @Beta
+    public default ResourceCatalog deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ResourceCatalog freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -108,7 +108,8 @@ public class ResourceCatalogBuilder implements Builder<ResourceCatalog> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -116,7 +117,21 @@ public class ResourceCatalogBuilder implements Builder<ResourceCatalog> {
      */
     @Override
     public ResourceCatalog build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(resourceCatalogImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(resourceCatalogImpl);
+        }
+        return resourceCatalogImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public ResourceCatalog buildUnchecked() {
         return resourceCatalogImpl;
     }
 }
@@ -1,15 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 
@@ -33,22 +33,39 @@ public class ResourceCatalogImpl implements ResourceCatalog {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Resource Catalog", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<ResourceCatalogImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(ResourceCatalogImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment =
-        Arrays.asList(new TypedLiteral("Class that aggregates Resources from a (distributable) Catalog.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Resource Catalog", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Class that aggregates Resources from a (distributable) Catalog.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:offeredResourceAsObject", "offeredResourceAsObject"})
@@ -64,29 +81,43 @@ public class ResourceCatalogImpl implements ResourceCatalog {
     protected List<URI> _requestedResourceAsUri = new ArrayList<>();
 
     protected ResourceCatalogImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("resourceCatalog");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("resourceCatalog"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:ResourceCatalog", this.id).build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -94,21 +125,20 @@ public class ResourceCatalogImpl implements ResourceCatalog {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -123,20 +153,32 @@ public class ResourceCatalogImpl implements ResourceCatalog {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._offeredResourceAsObject,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._offeredResourceAsObject,
             this._offeredResourceAsUri,
             this._requestedResourceAsObject,
             this._requestedResourceAsUri);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -158,30 +200,76 @@ public class ResourceCatalogImpl implements ResourceCatalog {
 
     @Override
     public ResourceCatalog deepCopy() {
-        ResourceCatalogBuilder builder = new ResourceCatalogBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public ResourceCatalog deepCopy(CopyContext context) {
+        ResourceCatalogBuilder builder =
+            context.preservesIds() ? new ResourceCatalogBuilder(getId()) : new ResourceCatalogBuilder();
+        context.register(this, builder.buildUnchecked());
         for (Resource item : this._offeredResourceAsObject) {
             if (item != null) {
-                builder._offeredResourceAsObject_(item.deepCopy());
+                builder._offeredResourceAsObject_(context.copy(item));
             }
         }
         for (URI item : this._offeredResourceAsUri) {
             if (item != null) {
-                builder._offeredResourceAsUri_(URI.create(item.toString()));
+                builder._offeredResourceAsUri_(item);
             }
         }
         for (Resource item : this._requestedResourceAsObject) {
             if (item != null) {
-                builder._requestedResourceAsObject_(item.deepCopy());
+                builder._requestedResourceAsObject_(context.copy(item));
             }
         }
         for (URI item : this._requestedResourceAsUri) {
             if (item != null) {
-                builder._requestedResourceAsUri_(URI.create(item.toString()));
+                builder._requestedResourceAsUri_(item);
             }
         }
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.children(this._offeredResourceAsObject);
+        validator.children(this._requestedResourceAsObject);
+    }
+
+    @Override
+    public ResourceCatalog freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            this._offeredResourceAsObject = Freezer.freezeAll(this._offeredResourceAsObject);
+            this._offeredResourceAsUri = Freezer.freezeAll(this._offeredResourceAsUri);
+            this._requestedResourceAsObject = Freezer.freezeAll(this._requestedResourceAsObject);
+            this._requestedResourceAsUri = Freezer.freezeAll(this._requestedResourceAsUri);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -191,10 +279,11 @@ public class ResourceCatalogImpl implements ResourceCatalog {
 
     @Override
     public void setOfferedResourceAsObject(List<Resource> _offeredResource_) {
-        this._offeredResourceAsObject = _offeredResource_;
-        for (Resource item : this._offeredResourceAsObject) {
-            this._offeredResourceAsUri.remove(item.getId());
+        if (this.frozen) {
+            throw Freezer.frozen(this);
         }
+        this._offeredResourceAsObject = _offeredResource_;
+        DualProperty.removeObjectIds(this._offeredResourceAsUri, this._offeredResourceAsObject);
     }
 
     @Override
@@ -204,18 +293,16 @@ public class ResourceCatalogImpl implements ResourceCatalog {
 
     @Override
     public void setOfferedResourceAsUri(List<URI> _offeredResource_) {
-        this._offeredResourceAsUri = _offeredResource_;
-        for (Resource item : this._offeredResourceAsObject) {
-            this._offeredResourceAsUri.remove(item.getId());
+        if (this.frozen) {
+            throw Freezer.frozen(this);
         }
+        this._offeredResourceAsUri = _offeredResource_;
+        DualProperty.removeObjectIds(this._offeredResourceAsUri, this._offeredResourceAsObject);
     }
 
     @Override
     public UriOrModelClass getOfferedResource() {
-        return new UriOrModelClass(
-            Stream.concat(
-                this._offeredResourceAsObject.stream(),
-                this._offeredResourceAsUri.stream()).collect(Collectors.toList()));
+        return new UriOrModelClass(DualProperty.union(this._offeredResourceAsObject, this._offeredResourceAsUri));
     }
 
     @Override
@@ -225,10 +312,11 @@ public class ResourceCatalogImpl implements ResourceCatalog {
 
     @Override
     public void setRequestedResourceAsObject(List<Resource> _requestedResource_) {
-        this._requestedResourceAsObject = _requestedResource_;
-        for (Resource item : this._requestedResourceAsObject) {
-            this._requestedResourceAsUri.remove(item.getId());
+        if (this.frozen) {
+            throw Freezer.frozen(this);
         }
+        this._requestedResourceAsObject = _requestedResource_;
+        DualProperty.removeObjectIds(this._requestedResourceAsUri, this._requestedResourceAsObject);
     }
 
     @Override
@@ -238,18 +326,16 @@ public class ResourceCatalogImpl implements ResourceCatalog {
 
     @Override
     public void setRequestedResourceAsUri(List<URI> _requestedResource_) {
-        this._requestedResourceAsUri = _requestedResource_;
-        for (Resource item : this._requestedResourceAsObject) {
-            this._requestedResourceAsUri.remove(item.getId());
+        if (this.frozen) {
+            throw Freezer.frozen(this);
         }
+        this._requestedResourceAsUri = _requestedResource_;
+        DualProperty.removeObjectIds(this._requestedResourceAsUri, this._requestedResourceAsObject);
     }
 
     @Override
     public UriOrModelClass getRequestedResource() {
-        return new UriOrModelClass(
-            Stream.concat(
-                this._requestedResourceAsObject.stream(),
-                this._requestedResourceAsUri.stream()).collect(Collectors.toList()));
+        return new UriOrModelClass(DualProperty.union(this._requestedResourceAsObject, this._requestedResourceAsUri));
     }
 
 }
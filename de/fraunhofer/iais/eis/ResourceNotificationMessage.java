@@ -25,6 +25,15 @@ public interface ResourceNotificationMessage extends NotificationMessage {
     @Beta
     public ResourceNotificationMessage deepCopy();
 
+    @Beta
+    public default ResourceNotificationMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ResourceNotificationMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
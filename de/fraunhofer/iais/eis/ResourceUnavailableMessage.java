@@ -19,6 +19,15 @@ public interface ResourceUnavailableMessage extends ResourceNotificationMessage
     @Beta
     public ResourceUnavailableMessage deepCopy();
 
+    @Beta
+    public default ResourceUnavailableMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ResourceUnavailableMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -19,6 +19,15 @@ public interface ResourceUpdateMessage extends ResourceNotificationMessage {
     @Beta
     public ResourceUpdateMessage deepCopy();
 
+    @Beta
+    public default ResourceUpdateMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ResourceUpdateMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -30,6 +30,15 @@ public interface ResponseMessage extends Message {
     @Beta
     public ResponseMessage deepCopy();
 
+    @Beta
+    public default ResponseMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ResponseMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
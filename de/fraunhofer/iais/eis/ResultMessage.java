@@ -18,6 +18,15 @@ public interface ResultMessage extends ResponseMessage {
     @Beta
     public ResultMessage deepCopy();
 
+    @Beta
+    public default ResultMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ResultMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -18,6 +18,15 @@ public interface RolebasedAgreement extends ContractAgreement {
     @Beta
     public RolebasedAgreement deepCopy();
 
+    @Beta
+    public default RolebasedAgreement deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default RolebasedAgreement freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -18,6 +18,15 @@ public interface RolebasedOffer extends ContractOffer {
     @Beta
     public RolebasedOffer deepCopy();
 
+    @Beta
+    public default RolebasedOffer deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default RolebasedOffer freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -18,6 +18,15 @@ public interface RolebasedRequest extends ContractRequest {
     @Beta
     public RolebasedRequest deepCopy();
 
+    @Beta
+    public default RolebasedRequest deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default RolebasedRequest freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
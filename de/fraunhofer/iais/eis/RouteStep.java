@@ -22,6 +22,15 @@ public interface RouteStep extends AppRoute {
     @Beta
     public RouteStep deepCopy();
 
+    @Beta
+    public default RouteStep deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default RouteStep freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 
@@ -34,23 +36,39 @@ public class RouteStepImpl implements RouteStep {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Route step", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<RouteStepImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(RouteStepImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment = Arrays.asList(new TypedLiteral(
-        "RouteSteps hold information about a communication pipelines between apps. A RouteStep should hold    one value for the ids:appRouteStart and/or ids:appRouteEnd properties, so that communication between app endpoints remain distinguishable.    ",
-        "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Route step", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("RouteSteps hold information about a communication pipelines between apps. A RouteStep should hold    one value for the ids:appRouteStart and/or ids:appRouteEnd properties, so that communication between app endpoints remain distinguishable.    ", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:appRouteBroker", "appRouteBroker"})
@@ -85,29 +103,47 @@ public class RouteStepImpl implements RouteStep {
     protected String _routeDescription;
 
     protected RouteStepImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("routeStep");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("routeStep"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:RouteStep", this.id)
+            .add("routeConfiguration", this._routeConfiguration)
+            .add("routeDeployMethod", this._routeDeployMethod)
+            .add("routeDescription", this._routeDescription)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -115,21 +151,20 @@ public class RouteStepImpl implements RouteStep {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -144,17 +179,25 @@ public class RouteStepImpl implements RouteStep {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._requiredDataApp,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._requiredDataApp,
             this._routeDeployMethod,
             this._routeDescription,
             this._routeConfiguration,
@@ -164,6 +207,10 @@ public class RouteStepImpl implements RouteStep {
             this._appRouteOutput,
             this._appRouteBroker,
             this._appRouteClearingHouse);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -191,46 +238,101 @@ public class RouteStepImpl implements RouteStep {
 
     @Override
     public RouteStep deepCopy() {
-        RouteStepBuilder builder = new RouteStepBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public RouteStep deepCopy(CopyContext context) {
+        RouteStepBuilder builder =
+            context.preservesIds() ? new RouteStepBuilder(getId()) : new RouteStepBuilder();
+        context.register(this, builder.buildUnchecked());
         if (this._requiredDataApp != null) {
-            builder._requiredDataApp_(this._requiredDataApp.deepCopy());
+            builder._requiredDataApp_(context.copy(this._requiredDataApp));
         }
         builder._routeDeployMethod_(this._routeDeployMethod);
         builder._routeDescription_(this._routeDescription);
         builder._routeConfiguration_(this._routeConfiguration);
         for (RouteStep item : this._hasSubRoute) {
             if (item != null) {
-                builder._hasSubRoute_(item.deepCopy());
+                builder._hasSubRoute_(context.copy(item));
             }
         }
         for (Endpoint item : this._appRouteStart) {
             if (item != null) {
-                builder._appRouteStart_(item.deepCopy());
+                builder._appRouteStart_(context.copy(item));
             }
         }
         for (Endpoint item : this._appRouteEnd) {
             if (item != null) {
-                builder._appRouteEnd_(item.deepCopy());
+                builder._appRouteEnd_(context.copy(item));
             }
         }
         for (Resource item : this._appRouteOutput) {
             if (item != null) {
-                builder._appRouteOutput_(item.deepCopy());
+                builder._appRouteOutput_(context.copy(item));
             }
         }
         for (Broker item : this._appRouteBroker) {
             if (item != null) {
-                builder._appRouteBroker_(item.deepCopy());
+                builder._appRouteBroker_(context.copy(item));
             }
         }
         for (ClearingHouse item : this._appRouteClearingHouse) {
             if (item != null) {
-                builder._appRouteClearingHouse_(item.deepCopy());
+                builder._appRouteClearingHouse_(context.copy(item));
             }
         }
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.notNull(this._routeDeployMethod, "routeDeployMethod");
+        validator.children(this._appRouteBroker);
+        validator.children(this._appRouteClearingHouse);
+        validator.children(this._appRouteEnd);
+        validator.children(this._appRouteOutput);
+        validator.children(this._appRouteStart);
+        validator.children(this._hasSubRoute);
+        validator.child(this._requiredDataApp);
+    }
+
+    @Override
+    public RouteStep freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            this._appRouteBroker = Freezer.freezeAll(this._appRouteBroker);
+            this._appRouteClearingHouse = Freezer.freezeAll(this._appRouteClearingHouse);
+            this._appRouteEnd = Freezer.freezeAll(this._appRouteEnd);
+            this._appRouteOutput = Freezer.freezeAll(this._appRouteOutput);
+            this._appRouteStart = Freezer.freezeAll(this._appRouteStart);
+            this._hasSubRoute = Freezer.freezeAll(this._hasSubRoute);
+            Freezer.freeze(this._requiredDataApp);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -240,6 +342,9 @@ public class RouteStepImpl implements RouteStep {
 
     @Override
     public void setRequiredDataApp(AppRepresentation _requiredDataApp_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._requiredDataApp = _requiredDataApp_;
     }
 
@@ -251,6 +356,9 @@ public class RouteStepImpl implements RouteStep {
 
     @Override
     public void setRouteDeployMethod(String _routeDeployMethod_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._routeDeployMethod = _routeDeployMethod_;
     }
 
@@ -261,6 +369,9 @@ public class RouteStepImpl implements RouteStep {
 
     @Override
     public void setRouteDescription(String _routeDescription_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._routeDescription = _routeDescription_;
     }
 
@@ -271,6 +382,9 @@ public class RouteStepImpl implements RouteStep {
 
     @Override
     public void setRouteConfiguration(String _routeConfiguration_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._routeConfiguration = _routeConfiguration_;
     }
 
@@ -281,6 +395,9 @@ public class RouteStepImpl implements RouteStep {
 
     @Override
     public void setHasSubRoute(List<RouteStep> _hasSubRoute_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._hasSubRoute = _hasSubRoute_;
     }
 
@@ -291,6 +408,9 @@ public class RouteStepImpl implements RouteStep {
 
     @Override
     public void setAppRouteStart(List<Endpoint> _appRouteStart_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._appRouteStart = _appRouteStart_;
     }
 
@@ -301,6 +421,9 @@ public class RouteStepImpl implements RouteStep {
 
     @Override
     public void setAppRouteEnd(List<Endpoint> _appRouteEnd_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._appRouteEnd = _appRouteEnd_;
     }
 
@@ -311,6 +434,9 @@ public class RouteStepImpl implements RouteStep {
 
     @Override
     public void setAppRouteOutput(List<Resource> _appRouteOutput_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._appRouteOutput = _appRouteOutput_;
     }
 
@@ -321,6 +447,9 @@ public class RouteStepImpl implements RouteStep {
 
     @Override
     public void setAppRouteBroker(List<Broker> _appRouteBroker_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._appRouteBroker = _appRouteBroker_;
     }
 
@@ -331,6 +460,9 @@ public class RouteStepImpl implements RouteStep {
 
     @Override
     public void setAppRouteClearingHouse(List<ClearingHouse> _appRouteClearingHouse_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._appRouteClearingHouse = _appRouteClearingHouse_;
     }
 }
@@ -26,6 +26,15 @@ public interface Rule extends Described {
     @Beta
     public Rule deepCopy();
 
+    @Beta
+    public default Rule deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Rule freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -18,6 +18,15 @@ public interface SalesAgreement extends ContractAgreement {
     @Beta
     public SalesAgreement deepCopy();
 
+    @Beta
+    public default SalesAgreement deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default SalesAgreement freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
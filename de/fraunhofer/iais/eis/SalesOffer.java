@@ -18,6 +18,15 @@ public interface SalesOffer extends ContractOffer {
     @Beta
     public SalesOffer deepCopy();
 
+    @Beta
+    public default SalesOffer deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default SalesOffer freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
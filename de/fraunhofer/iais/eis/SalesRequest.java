@@ -18,6 +18,15 @@ public interface SalesRequest extends ContractRequest {
     @Beta
     public SalesRequest deepCopy();
 
+    @Beta
+    public default SalesRequest deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default SalesRequest freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -18,6 +18,15 @@ public interface SecurityAgreement extends ContractAgreement {
     @Beta
     public SecurityAgreement deepCopy();
 
+    @Beta
+    public default SecurityAgreement deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default SecurityAgreement freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
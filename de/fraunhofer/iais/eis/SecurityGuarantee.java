@@ -26,6 +26,15 @@ public interface SecurityGuarantee extends ModelClass {
     @Beta
     public SecurityGuarantee deepCopy();
 
+    @Beta
+    public default SecurityGuarantee deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default SecurityGuarantee freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -18,6 +18,15 @@ public interface SecurityOffer extends ContractOffer {
     @Beta
     public SecurityOffer deepCopy();
 
+    @Beta
+    public default SecurityOffer deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default SecurityOffer freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
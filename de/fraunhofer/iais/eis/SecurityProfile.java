@@ -23,6 +23,15 @@ public interface SecurityProfile extends ModelClass {
     @Beta
     public SecurityProfile deepCopy();
 
+    @Beta
+    public default SecurityProfile deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default SecurityProfile freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -64,4 +73,29 @@ public interface SecurityProfile extends ModelClass {
     SecurityProfile TRUST_SECURITY_PROFILE =
         new SecurityProfileBuilder(URI.create("https://w3id.org/idsa/code/TRUST_SECURITY_PROFILE")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/BASE_SECURITY_PROFILE
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static SecurityProfile fromId(URI id) {
+        return id == null ? null : SecurityProfileImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:BASE_SECURITY_PROFILE).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static SecurityProfile fromString(String id) {
+        return id == null ? null : SecurityProfileImpl.defaultInstance(id);
+    }
+
 }
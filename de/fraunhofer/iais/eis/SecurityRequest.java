@@ -18,6 +18,15 @@ public interface SecurityRequest extends ContractRequest {
     @Beta
     public SecurityRequest deepCopy();
 
+    @Beta
+    public default SecurityRequest deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default SecurityRequest freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
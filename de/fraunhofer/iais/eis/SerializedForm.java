@@ -0,0 +1,25 @@
+package de.fraunhofer.iais.eis;
+
+/**
+ * Serialized form of a frozen object, as stored by setSerializedForm(), together with the format it
+ * was created for. Instances are immutable, so they can be published through a volatile field.
+ */
+final class SerializedForm {
+
+    private final Object format;
+
+    private final Object value;
+
+    SerializedForm(Object format, Object value) {
+        this.format = format;
+        this.value = value;
+    }
+
+    /**
+     * Returns the serialized form stored in the given holder, if it was created for the given format.
+     */
+    static Object get(SerializedForm form, Object format) {
+        return form != null && form.format == format ? form.value : null;
+    }
+
+}
@@ -22,6 +22,15 @@ public interface ServiceIsolationGuarantee extends SecurityGuarantee {
     @Beta
     public ServiceIsolationGuarantee deepCopy();
 
+    @Beta
+    public default ServiceIsolationGuarantee deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default ServiceIsolationGuarantee freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /** 
@@ -39,4 +48,29 @@ public interface ServiceIsolationGuarantee extends SecurityGuarantee {
     ServiceIsolationGuarantee SERVICE_ISOLATION_PROCESS_GROUP =
         new ServiceIsolationGuaranteeBuilder(URI.create("https://w3id.org/idsa/code/SERVICE_ISOLATION_PROCESS_GROUP")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/SERVICE_ISOLATION_LEAST_PRIVILEGE
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static ServiceIsolationGuarantee fromId(URI id) {
+        return id == null ? null : ServiceIsolationGuaranteeImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:SERVICE_ISOLATION_LEAST_PRIVILEGE).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static ServiceIsolationGuarantee fromString(String id) {
+        return id == null ? null : ServiceIsolationGuaranteeImpl.defaultInstance(id);
+    }
+
 }
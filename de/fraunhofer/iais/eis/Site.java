@@ -19,6 +19,15 @@ public interface Site extends ModelClass {
     @Beta
     public Site deepCopy();
 
+    @Beta
+    public default Site deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Site freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
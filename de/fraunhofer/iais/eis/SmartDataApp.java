@@ -18,6 +18,15 @@ public interface SmartDataApp extends DataApp {
     @Beta
     public SmartDataApp deepCopy();
 
+    @Beta
+    public default SmartDataApp deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default SmartDataApp freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
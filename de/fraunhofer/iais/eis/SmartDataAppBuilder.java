@@ -97,7 +97,8 @@ public class SmartDataAppBuilder implements Builder<SmartDataApp> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -105,7 +106,21 @@ public class SmartDataAppBuilder implements Builder<SmartDataApp> {
      */
     @Override
     public SmartDataApp build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(smartDataAppImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(smartDataAppImpl);
+        }
+        return smartDataAppImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public SmartDataApp buildUnchecked() {
         return smartDataAppImpl;
     }
 }
@@ -1,17 +1,18 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
-
 import com.fasterxml.jackson.annotation.JsonAlias;
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
@@ -32,22 +33,39 @@ public class SmartDataAppImpl implements SmartDataApp {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Smart DataApp", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<SmartDataAppImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(SmartDataAppImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment =
-        Arrays.asList(new TypedLiteral("Smart DataApps are executing any kind of necessary data processing or transformation.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Smart DataApp", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Smart DataApps are executing any kind of necessary data processing or transformation.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:appDocumentation", "appDocumentation"})
@@ -67,29 +85,47 @@ public class SmartDataAppImpl implements SmartDataApp {
     protected List<UsagePolicyClass> _supportedUsagePolicies = new ArrayList<>();
 
     protected SmartDataAppImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("smartDataApp");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("smartDataApp"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:SmartDataApp", this.id)
+            .add("appDocumentation", this._appDocumentation)
+            .add("appEnvironmentVariables", this._appEnvironmentVariables)
+            .add("appStorageConfiguration", this._appStorageConfiguration)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -97,21 +133,20 @@ public class SmartDataAppImpl implements SmartDataApp {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -126,21 +161,33 @@ public class SmartDataAppImpl implements SmartDataApp {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._appDocumentation,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._appDocumentation,
             this._appEndpoint,
             this._appEnvironmentVariables,
             this._appStorageConfiguration,
             this._supportedUsagePolicies);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -163,11 +210,18 @@ public class SmartDataAppImpl implements SmartDataApp {
 
     @Override
     public SmartDataApp deepCopy() {
-        SmartDataAppBuilder builder = new SmartDataAppBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public SmartDataApp deepCopy(CopyContext context) {
+        SmartDataAppBuilder builder =
+            context.preservesIds() ? new SmartDataAppBuilder(getId()) : new SmartDataAppBuilder();
+        context.register(this, builder.buildUnchecked());
         builder._appDocumentation_(this._appDocumentation);
         for (AppEndpoint item : this._appEndpoint) {
             if (item != null) {
-                builder._appEndpoint_(item.deepCopy());
+                builder._appEndpoint_(context.copy(item));
             }
         }
         builder._appEnvironmentVariables_(this._appEnvironmentVariables);
@@ -178,6 +232,44 @@ public class SmartDataAppImpl implements SmartDataApp {
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.notEmpty(this._appEndpoint, "appEndpoint");
+        validator.children(this._appEndpoint);
+        validator.children(this._supportedUsagePolicies);
+    }
+
+    @Override
+    public SmartDataApp freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            this._appEndpoint = Freezer.freezeAll(this._appEndpoint);
+            this._supportedUsagePolicies = Freezer.freezeAll(this._supportedUsagePolicies);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -187,6 +279,9 @@ public class SmartDataAppImpl implements SmartDataApp {
 
     @Override
     public void setAppDocumentation(String _appDocumentation_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._appDocumentation = _appDocumentation_;
     }
 
@@ -198,6 +293,9 @@ public class SmartDataAppImpl implements SmartDataApp {
 
     @Override
     public void setAppEndpoint(List<AppEndpoint> _appEndpoint_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._appEndpoint = _appEndpoint_;
     }
 
@@ -208,6 +306,9 @@ public class SmartDataAppImpl implements SmartDataApp {
 
     @Override
     public void setAppEnvironmentVariables(String _appEnvironmentVariables_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._appEnvironmentVariables = _appEnvironmentVariables_;
     }
 
@@ -218,6 +319,9 @@ public class SmartDataAppImpl implements SmartDataApp {
 
     @Override
     public void setAppStorageConfiguration(String _appStorageConfiguration_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._appStorageConfiguration = _appStorageConfiguration_;
     }
 
@@ -228,6 +332,9 @@ public class SmartDataAppImpl implements SmartDataApp {
 
     @Override
     public void setSupportedUsagePolicies(List<UsagePolicyClass> _supportedUsagePolicies_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._supportedUsagePolicies = _supportedUsagePolicies_;
     }
 }
@@ -19,6 +19,15 @@ public interface SoftwareRepresentation extends Representation {
     @Beta
     public SoftwareRepresentation deepCopy();
 
+    @Beta
+    public default SoftwareRepresentation deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default SoftwareRepresentation freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
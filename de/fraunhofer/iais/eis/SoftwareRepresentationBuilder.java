@@ -154,7 +154,8 @@ public class SoftwareRepresentationBuilder implements Builder<SoftwareRepresenta
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -162,7 +163,21 @@ public class SoftwareRepresentationBuilder implements Builder<SoftwareRepresenta
      */
     @Override
     public SoftwareRepresentation build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(softwareRepresentationImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(softwareRepresentationImpl);
+        }
+        return softwareRepresentationImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public SoftwareRepresentation buildUnchecked() {
         return softwareRepresentationImpl;
     }
 }
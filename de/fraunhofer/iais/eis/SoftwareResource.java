@@ -18,6 +18,15 @@ public interface SoftwareResource extends Resource {
     @Beta
     public SoftwareResource deepCopy();
 
+    @Beta
+    public default SoftwareResource deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default SoftwareResource freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -506,7 +506,8 @@ public class SoftwareResourceBuilder implements Builder<SoftwareResource> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -514,7 +515,21 @@ public class SoftwareResourceBuilder implements Builder<SoftwareResource> {
      */
     @Override
     public SoftwareResource build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(softwareResourceImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(softwareResourceImpl);
+        }
+        return softwareResourceImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public SoftwareResource buildUnchecked() {
         return softwareResourceImpl;
     }
 }
@@ -18,6 +18,15 @@ public interface SpatialAgreement extends ContractAgreement {
     @Beta
     public SpatialAgreement deepCopy();
 
+    @Beta
+    public default SpatialAgreement deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default SpatialAgreement freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -18,6 +18,15 @@ public interface SpatialOffer extends ContractOffer {
     @Beta
     public SpatialOffer deepCopy();
 
+    @Beta
+    public default SpatialOffer deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default SpatialOffer freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
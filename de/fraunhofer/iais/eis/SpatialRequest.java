@@ -18,6 +18,15 @@ public interface SpatialRequest extends ContractRequest {
     @Beta
     public SpatialRequest deepCopy();
 
+    @Beta
+    public default SpatialRequest deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default SpatialRequest freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -18,6 +18,15 @@ public interface SwapAgreement extends ContractAgreement {
     @Beta
     public SwapAgreement deepCopy();
 
+    @Beta
+    public default SwapAgreement deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default SwapAgreement freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
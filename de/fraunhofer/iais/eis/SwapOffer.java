@@ -18,6 +18,15 @@ public interface SwapOffer extends ContractOffer {
     @Beta
     public SwapOffer deepCopy();
 
+    @Beta
+    public default SwapOffer deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default SwapOffer freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -18,6 +18,15 @@ public interface SwapRequest extends ContractRequest {
     @Beta
     public SwapRequest deepCopy();
 
+    @Beta
+    public default SwapRequest deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default SwapRequest freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -19,6 +19,15 @@ public interface SystemAdapter extends DataApp {
     @Beta
     public SystemAdapter deepCopy();
 
+    @Beta
+    public default SystemAdapter deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default SystemAdapter freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
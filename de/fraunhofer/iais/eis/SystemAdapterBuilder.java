@@ -97,7 +97,8 @@ public class SystemAdapterBuilder implements Builder<SystemAdapter> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -105,7 +106,21 @@ public class SystemAdapterBuilder implements Builder<SystemAdapter> {
      */
     @Override
     public SystemAdapter build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(systemAdapterImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(systemAdapterImpl);
+        }
+        return systemAdapterImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public SystemAdapter buildUnchecked() {
         return systemAdapterImpl;
     }
 }
@@ -22,6 +22,15 @@ public interface TemporalEntity extends ModelClass {
     @Beta
     public TemporalEntity deepCopy();
 
+    @Beta
+    public default TemporalEntity deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default TemporalEntity freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
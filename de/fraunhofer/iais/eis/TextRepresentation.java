@@ -18,6 +18,15 @@ public interface TextRepresentation extends Representation {
     @Beta
     public TextRepresentation deepCopy();
 
+    @Beta
+    public default TextRepresentation deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default TextRepresentation freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
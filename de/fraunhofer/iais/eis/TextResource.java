@@ -18,6 +18,15 @@ public interface TextResource extends Resource {
     @Beta
     public TextResource deepCopy();
 
+    @Beta
+    public default TextResource deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default TextResource freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -0,0 +1,82 @@
+package de.fraunhofer.iais.eis;
+
+import java.net.URI;
+import java.util.List;
+
+import de.fraunhofer.iais.eis.util.TypedLiteral;
+
+/**
+ * Builds the short description returned by toString() of the model classes, e.g.
+ * "ids:ArtifactRequestMessage[@id=https://example.org/msg, issuerConnector=https://example.org/c1]".
+ * It shows the type, the "@id" and a few key properties with truncated values. Referred objects are
+ * shown by their "@id" and lists by their first element, so the cost does not depend on the size of
+ * the object graph. The complete serialization is returned by toRdf().
+ */
+final class ToStringBuilder {
+
+    // longest value that is shown completely, longer values are truncated
+    private static final int MAX_VALUE_LENGTH = 64;
+
+    private final StringBuilder builder = new StringBuilder(128);
+
+    ToStringBuilder(String typeName, URI id) {
+        builder.append(typeName).append("[@id=").append(id);
+    }
+
+    /**
+     * Appends a property, if it is set.
+     */
+    ToStringBuilder add(String name, Object value) {
+        if (value instanceof List) {
+            List<?> values = (List<?>) value;
+            if (values.isEmpty()) {
+                return this;
+            }
+            builder.append(", ").append(name).append("=[");
+            appendValue(values.get(0));
+            if (values.size() > 1) {
+                builder.append(", +").append(values.size() - 1).append(" more");
+            }
+            builder.append(']');
+        } else if (value != null) {
+            builder.append(", ").append(name).append('=');
+            appendValue(value);
+        }
+        return this;
+    }
+
+    String build() {
+        return builder.append(']').toString();
+    }
+
+    private void appendValue(Object value) {
+        if (value instanceof ModelClass) {
+            // the id as it is, as describing an object must not generate the ids of the objects it refers to
+            builder.append(((ModelClass) value).peekId());
+        } else if (value instanceof TypedLiteral) {
+            TypedLiteral literal = (TypedLiteral) value;
+            builder.append('"');
+            appendText(literal.getValue());
+            builder.append('"');
+            if (literal.getLanguage() != null) {
+                builder.append('@').append(literal.getLanguage());
+            }
+        } else if (value instanceof CharSequence) {
+            appendText((CharSequence) value);
+        } else {
+            appendText(String.valueOf(value));
+        }
+    }
+
+    // appends at most MAX_VALUE_LENGTH characters of the text, without copying it first
+    private void appendText(CharSequence text) {
+        if (text == null) {
+            builder.append((Object) null);
+        } else if (text.length() > MAX_VALUE_LENGTH) {
+            builder.append(text, 0, MAX_VALUE_LENGTH).append("...");
+        } else {
+            builder.append(text);
+        }
+    }
+
+}
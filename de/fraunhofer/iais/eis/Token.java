@@ -22,6 +22,15 @@ public interface Token extends ModelClass {
     @Beta
     public Token deepCopy();
 
+    @Beta
+    public default Token deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Token freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -20,6 +20,15 @@ public interface TokenFormat extends ModelClass {
     @Beta
     public TokenFormat deepCopy();
 
+    @Beta
+    public default TokenFormat deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default TokenFormat freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /** 
@@ -46,4 +55,29 @@ public interface TokenFormat extends ModelClass {
     */
     TokenFormat UNKNOWN = new TokenFormatBuilder(URI.create("https://w3id.org/idsa/code/UNKNOWN")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/JWT
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static TokenFormat fromId(URI id) {
+        return id == null ? null : TokenFormatImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:JWT).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static TokenFormat fromString(String id) {
+        return id == null ? null : TokenFormatImpl.defaultInstance(id);
+    }
+
 }
@@ -18,6 +18,15 @@ public interface TrustedConnector extends Connector {
     @Beta
     public TrustedConnector deepCopy();
 
+    @Beta
+    public default TrustedConnector deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default TrustedConnector freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
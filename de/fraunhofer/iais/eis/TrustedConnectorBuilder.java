@@ -306,7 +306,8 @@ public class TrustedConnectorBuilder implements Builder<TrustedConnector> {
 
     /**
      * This function takes the values that were set previously via the other functions of this class and
-     * turns them into a Java bean.
+     * turns them into a Java bean, which is validated unless validation is deferred for the current
+     * thread (see ValidationMode).
      * 
      * @return Bean with specified values
      * @throws ConstraintViolationException This exception is thrown, if a validator is used and a
@@ -314,7 +315,21 @@ public class TrustedConnectorBuilder implements Builder<TrustedConnector> {
      */
     @Override
     public TrustedConnector build() throws ConstraintViolationException {
-        VocabUtil.getInstance().validate(trustedConnectorImpl);
+        if (ValidationMode.current() == ValidationMode.IMMEDIATE) {
+            ModelValidator.validate(trustedConnectorImpl);
+        }
+        return trustedConnectorImpl;
+    }
+
+    /**
+     * This function takes the values that were set previously via the other functions of this class and
+     * turns them into a Java bean without validating it. It is meant for trusted internal construction,
+     * whose result is validated once at its boundary, e.g. with ValidationMode.validate().
+     * 
+     * @return Bean with specified values
+     */
+    @Override
+    public TrustedConnector buildUnchecked() {
         return trustedConnectorImpl;
     }
 }
@@ -19,6 +19,15 @@ public interface UploadMessage extends RequestMessage {
     @Beta
     public UploadMessage deepCopy();
 
+    @Beta
+    public default UploadMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default UploadMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -19,6 +19,15 @@ public interface UploadResponseMessage extends ResponseMessage {
     @Beta
     public UploadResponseMessage deepCopy();
 
+    @Beta
+    public default UploadResponseMessage deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default UploadResponseMessage freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
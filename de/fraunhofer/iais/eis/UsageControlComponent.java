@@ -25,6 +25,15 @@ public interface UsageControlComponent extends ModelClass {
     @Beta
     public UsageControlComponent deepCopy();
 
+    @Beta
+    public default UsageControlComponent deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default UsageControlComponent freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotNull;
 
@@ -31,22 +33,39 @@ public class UsageControlComponentImpl implements UsageControlComponent {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Usage Control Component", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<UsageControlComponentImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(UsageControlComponentImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment =
-        Arrays.asList(new TypedLiteral("Defined usage control component (i.e. PIP, PXP, etc.) in the IDS.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Usage Control Component", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Defined usage control component (i.e. PIP, PXP, etc.) in the IDS.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:endpointURI", "endpointURI"})
@@ -57,29 +76,46 @@ public class UsageControlComponentImpl implements UsageControlComponent {
     protected URI _interfaceDescription;
 
     protected UsageControlComponentImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("usageControlComponent");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("usageControlComponent"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:UsageControlComponent", this.id)
+            .add("endpointURI", this._endpointURI)
+            .add("interfaceDescription", this._interfaceDescription)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -87,21 +123,20 @@ public class UsageControlComponentImpl implements UsageControlComponent {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -116,18 +151,30 @@ public class UsageControlComponentImpl implements UsageControlComponent {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._interfaceDescription,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._interfaceDescription,
             this._endpointURI);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -147,16 +194,57 @@ public class UsageControlComponentImpl implements UsageControlComponent {
 
     @Override
     public UsageControlComponent deepCopy() {
-        UsageControlComponentBuilder builder = new UsageControlComponentBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public UsageControlComponent deepCopy(CopyContext context) {
+        UsageControlComponentBuilder builder =
+            context.preservesIds() ? new UsageControlComponentBuilder(getId()) : new UsageControlComponentBuilder();
+        context.register(this, builder.buildUnchecked());
         if (this._interfaceDescription != null) {
-            builder._interfaceDescription_(URI.create(this._interfaceDescription.toString()));
+            builder._interfaceDescription_(this._interfaceDescription);
         }
         if (this._endpointURI != null) {
-            builder._endpointURI_(URI.create(this._endpointURI.toString()));
+            builder._endpointURI_(this._endpointURI);
         }
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.notNull(this._interfaceDescription, "interfaceDescription");
+    }
+
+    @Override
+    public UsageControlComponent freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -167,6 +255,9 @@ public class UsageControlComponentImpl implements UsageControlComponent {
 
     @Override
     public void setInterfaceDescription(URI _interfaceDescription_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._interfaceDescription = _interfaceDescription_;
     }
 
@@ -177,6 +268,9 @@ public class UsageControlComponentImpl implements UsageControlComponent {
 
     @Override
     public void setEndpointURI(URI _endpointURI_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._endpointURI = _endpointURI_;
     }
 }
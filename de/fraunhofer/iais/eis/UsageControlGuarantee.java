@@ -20,6 +20,15 @@ public interface UsageControlGuarantee extends SecurityGuarantee {
     @Beta
     public UsageControlGuarantee deepCopy();
 
+    @Beta
+    public default UsageControlGuarantee deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default UsageControlGuarantee freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /** 
@@ -37,4 +46,29 @@ public interface UsageControlGuarantee extends SecurityGuarantee {
     UsageControlGuarantee USAGE_CONTROL_REMOTE_COMPLIANCE_VERIFICATION =
         new UsageControlGuaranteeBuilder(URI.create("https://w3id.org/idsa/code/USAGE_CONTROL_REMOTE_COMPLIANCE_VERIFICATION")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/USAGE_CONTROL_NONE
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static UsageControlGuarantee fromId(URI id) {
+        return id == null ? null : UsageControlGuaranteeImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:USAGE_CONTROL_NONE).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static UsageControlGuarantee fromString(String id) {
+        return id == null ? null : UsageControlGuaranteeImpl.defaultInstance(id);
+    }
+
 }
@@ -27,6 +27,15 @@ public interface UsageControlObject extends ModelClass {
     @Beta
     public UsageControlObject deepCopy();
 
+    @Beta
+    public default UsageControlObject deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default UsageControlObject freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -1,13 +1,15 @@
 package de.fraunhofer.iais.eis;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
@@ -34,22 +36,39 @@ public class UsageControlObjectImpl implements UsageControlObject {
 
     @JsonProperty("@id")
     @JsonAlias({"@id", "id"})
-    @NotNull
-    protected URI id;
+    protected volatile URI id;
 
-    // List of all labels of this class
-    @JsonIgnore
-    protected List<TypedLiteral> label = Arrays.asList(new TypedLiteral("Usage Control Object", "en"));
+    // sets the generated id only if no other thread has set one before, see getId()
+    private static final AtomicReferenceFieldUpdater<UsageControlObjectImpl, URI> ID =
+        AtomicReferenceFieldUpdater.newUpdater(UsageControlObjectImpl.class, URI.class, "id");
 
-    // List of all comments of this class
-    @JsonIgnore
-    protected List<TypedLiteral> comment =
-        Arrays.asList(new TypedLiteral("A data element containing all relevant information for usage control engines.", "en"));
+    // List of all labels of this class, shared by all instances
+    protected static final List<TypedLiteral> LABEL = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("Usage Control Object", "en")));
+
+    // List of all comments of this class, shared by all instances
+    protected static final List<TypedLiteral> COMMENT = Collections.unmodifiableList(Arrays.asList(
+        new TypedLiteral("A data element containing all relevant information for usage control engines.", "en")));
 
     // all classes have a generic property array
     @JsonIgnore
     protected Map<String, Object> properties;
 
+    // read-only view of the generic properties, created on first access and reset by setProperty()
+    @JsonIgnore
+    protected volatile Map<String, Object> propertiesView;
+
+    // frozen objects are read-only, see freeze()
+    @JsonIgnore
+    protected boolean frozen;
+
+    @JsonIgnore
+    protected int frozenHashCode;
+
+    // serialized form stored by a serializer, kept only once the object is frozen
+    @JsonIgnore
+    protected volatile SerializedForm serializedForm;
+
     // instance fields as derived from the IDS Information Model ontology
 
     @JsonAlias({"ids:accessed", "accessed"})
@@ -89,29 +108,48 @@ public class UsageControlObjectImpl implements UsageControlObject {
     protected Participant _user;
 
     protected UsageControlObjectImpl() {
-        id = VocabUtil.getInstance().createRandomUrl("usageControlObject");
+        // the id is generated on first access, unless it has been set before
     }
 
     @JsonProperty("@id")
+    @NotNull
     final public URI getId() {
+        URI id = this.id;
+        if (id == null) {
+            ID.compareAndSet(this, null, VocabUtil.getInstance().createRandomUrl("usageControlObject"));
+            id = this.id;
+        }
         return id;
     }
 
+    @Override
+    public URI peekId() {
+        return this.id;
+    }
+
     public String toRdf() {
         return VocabUtil.getInstance().toRdf(this);
     }
 
     @Override
     public String toString() {
-        return this.toRdf();
+        // short description for logs and exception messages, see toRdf() for the complete serialization
+        return new ToStringBuilder("ids:UsageControlObject", this.id)
+            .add("accessed", this._accessed)
+            .add("created", this._created)
+            .add("data", this._data)
+            .add("modified", this._modified)
+            .build();
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getLabel() {
-        return this.label;
+        return LABEL;
     }
 
+    @JsonIgnore
     public List<TypedLiteral> getComment() {
-        return this.comment;
+        return COMMENT;
     }
 
     // getter and setter for generic property map
@@ -119,21 +157,20 @@ public class UsageControlObjectImpl implements UsageControlObject {
     public Map<String, Object> getProperties() {
         if (this.properties == null)
             return null;
-        Iterator<String> iter = this.properties.keySet().iterator();
-        Map<String, Object> resultset = new HashMap<String, Object>();
-        while (iter.hasNext()) {
-            String key = iter.next();
-            resultset.put(key, urifyObjects(this.properties.get(key)));
+        Map<String, Object> view = this.propertiesView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(new HashMap<String, Object>(this.properties));
+            this.propertiesView = view;
         }
-        return resultset;
+        return view;
     }
 
     public Object urifyObjects(Object value) {
         if (value instanceof String && value.toString().startsWith("http")) {
             try {
                 value = new URI(value.toString());
-            } catch (Exception e) {
-                /* do nothing */ }
+            } catch (URISyntaxException e) {
+                /* keep the string */ }
         } else if (value instanceof ArrayList) {
             ArrayList<Object> result_array = new ArrayList<Object>();
             ((ArrayList) value).forEach(x -> result_array.add(urifyObjects(x)));
@@ -148,17 +185,25 @@ public class UsageControlObjectImpl implements UsageControlObject {
 
     @JsonAnySetter
     public void setProperty(String property, Object value) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         if (this.properties == null)
             this.properties = new HashMap<String, Object>();
         if (property.startsWith("@")) {
             return;
         } ;
-        this.properties.put(property, value);
+        // stored as read-only snapshot with URIs parsed, see getProperties()
+        this.properties.put(property, PropertyValues.snapshot(value));
+        this.propertiesView = null;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this._data,
+        if (this.frozen && this.frozenHashCode != 0) {
+            return this.frozenHashCode;
+        }
+        int hashCode = Objects.hash(this._data,
             this._user,
             this._source,
             this._contract,
@@ -169,6 +214,10 @@ public class UsageControlObjectImpl implements UsageControlObject {
             this._created,
             this._modified,
             this._action);
+        if (this.frozen) {
+            this.frozenHashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -197,19 +246,26 @@ public class UsageControlObjectImpl implements UsageControlObject {
 
     @Override
     public UsageControlObject deepCopy() {
-        UsageControlObjectBuilder builder = new UsageControlObjectBuilder();
+        return deepCopy(CopyContext.withNewIds());
+    }
+
+    @Override
+    public UsageControlObject deepCopy(CopyContext context) {
+        UsageControlObjectBuilder builder =
+            context.preservesIds() ? new UsageControlObjectBuilder(getId()) : new UsageControlObjectBuilder();
+        context.register(this, builder.buildUnchecked());
         if (this._data != null) {
-            builder._data_(URI.create(this._data.toString()));
+            builder._data_(this._data);
         }
         if (this._user != null) {
-            builder._user_(this._user.deepCopy());
+            builder._user_(context.copy(this._user));
         }
         if (this._source != null) {
-            builder._source_(URI.create(this._source.toString()));
+            builder._source_(this._source);
         }
         for (ContractAgreement item : this._contract) {
             if (item != null) {
-                builder._contract_(item.deepCopy());
+                builder._contract_(context.copy(item));
             }
         }
         builder._usageDuration_(this._usageDuration);
@@ -220,7 +276,7 @@ public class UsageControlObjectImpl implements UsageControlObject {
             builder._hasState_(item);
         }
         if (this._requester != null) {
-            builder._requester_(URI.create(this._requester.toString()));
+            builder._requester_(this._requester);
         }
         if (this._created != null) {
             builder._created_((XMLGregorianCalendar) this._created.clone());
@@ -234,6 +290,50 @@ public class UsageControlObjectImpl implements UsageControlObject {
         return builder.build();
     }
 
+    @Override
+    public void validate(ModelValidator validator) {
+        validator.notNull(this._data, "data");
+        validator.notEmpty(this._contract, "contract");
+        validator.notNull(this._created, "created");
+        validator.children(this._action);
+        validator.children(this._contract);
+        validator.children(this._hasState);
+        validator.child(this._user);
+    }
+
+    @Override
+    public UsageControlObject freeze() {
+        if (!this.frozen) {
+            // fix the id before it can no longer be generated lazily
+            getId();
+            this.frozen = true;
+            // create the view of the generic properties while still confined to the freezing thread
+            getProperties();
+            this._action = Freezer.freezeAll(this._action);
+            this._contract = Freezer.freezeAll(this._contract);
+            this._hasState = Freezer.freezeAll(this._hasState);
+            Freezer.freeze(this._user);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public Object getSerializedForm(Object format) {
+        return SerializedForm.get(this.serializedForm, format);
+    }
+
+    @Override
+    public void setSerializedForm(Object format, Object serializedForm) {
+        if (this.frozen) {
+            this.serializedForm = new SerializedForm(format, serializedForm);
+        }
+    }
+
     // accessor method implementations as derived from the IDS Information Model ontology
 
     @Override
@@ -244,6 +344,9 @@ public class UsageControlObjectImpl implements UsageControlObject {
 
     @Override
     public void setData(URI _data_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._data = _data_;
     }
 
@@ -254,6 +357,9 @@ public class UsageControlObjectImpl implements UsageControlObject {
 
     @Override
     public void setUser(Participant _user_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._user = _user_;
     }
 
@@ -264,6 +370,9 @@ public class UsageControlObjectImpl implements UsageControlObject {
 
     @Override
     public void setSource(URI _source_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._source = _source_;
     }
 
@@ -275,6 +384,9 @@ public class UsageControlObjectImpl implements UsageControlObject {
 
     @Override
     public void setContract(List<ContractAgreement> _contract_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._contract = _contract_;
     }
 
@@ -285,6 +397,9 @@ public class UsageControlObjectImpl implements UsageControlObject {
 
     @Override
     public void setUsageDuration(javax.xml.datatype.Duration _usageDuration_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._usageDuration = _usageDuration_;
     }
 
@@ -296,6 +411,9 @@ public class UsageControlObjectImpl implements UsageControlObject {
 
     @Override
     public void setAccessed(XMLGregorianCalendar _accessed_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._accessed = _accessed_;
     }
 
@@ -306,6 +424,9 @@ public class UsageControlObjectImpl implements UsageControlObject {
 
     @Override
     public void setHasState(List<ArtifactState> _hasState_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._hasState = _hasState_;
     }
 
@@ -316,6 +437,9 @@ public class UsageControlObjectImpl implements UsageControlObject {
 
     @Override
     public void setRequester(URI _requester_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._requester = _requester_;
     }
 
@@ -328,6 +452,9 @@ public class UsageControlObjectImpl implements UsageControlObject {
 
     @Override
     public void setCreated(XMLGregorianCalendar _created_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._created = _created_;
     }
 
@@ -339,6 +466,9 @@ public class UsageControlObjectImpl implements UsageControlObject {
 
     @Override
     public void setModified(XMLGregorianCalendar _modified_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._modified = _modified_;
     }
 
@@ -349,6 +479,9 @@ public class UsageControlObjectImpl implements UsageControlObject {
 
     @Override
     public void setAction(List<Action> _action_) {
+        if (this.frozen) {
+            throw Freezer.frozen(this);
+        }
         this._action = _action_;
     }
 }
@@ -20,6 +20,15 @@ public interface UsagePolicyClass extends ModelClass {
     @Beta
     public UsagePolicyClass deepCopy();
 
+    @Beta
+    public default UsagePolicyClass deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default UsagePolicyClass freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
     /**
@@ -168,4 +177,29 @@ public interface UsagePolicyClass extends ModelClass {
     UsagePolicyClass USE_DATA_AND_DELETE_AFTER =
         new UsagePolicyClassBuilder(URI.create("https://w3id.org/idsa/code/USE_DATA_AND_DELETE_AFTER")).build();
 
+    // Lookup of the default instances by their identifier
+
+    /**
+     * Resolves the default instance of this class with the given identifier.
+     *
+     * @param id identifier of the default instance, e.g. https://w3id.org/idsa/code/ALLOW_DATA_USAGE
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static UsagePolicyClass fromId(URI id) {
+        return id == null ? null : UsagePolicyClassImpl.defaultInstance(id.toString());
+    }
+
+    /**
+     * Resolves the default instance of this class with the given identifier, which is either given
+     * as full IRI or in its prefixed form (e.g. idsc:ALLOW_DATA_USAGE).
+     *
+     * @param id identifier of the default instance
+     * @return the shared default instance or null, if the identifier does not denote a default
+     *         instance of this class
+     */
+    static UsagePolicyClass fromString(String id) {
+        return id == null ? null : UsagePolicyClassImpl.defaultInstance(id);
+    }
+
 }
@@ -20,6 +20,15 @@ public interface UserAuthentication extends ModelClass {
     @Beta
     public UserAuthentication deepCopy();
 
+    @Beta
+    public default UserAuthentication deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default UserAuthentication freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
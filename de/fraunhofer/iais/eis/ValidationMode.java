@@ -0,0 +1,81 @@
+package de.fraunhofer.iais.eis;
+
+import java.util.function.Supplier;
+
+import de.fraunhofer.iais.eis.util.*;
+
+/**
+ * Controls whether the build() functions of the builder classes validate the constructed object. The
+ * mode is scoped to the current thread, so that trusted internal construction can skip validation
+ * without affecting other threads:
+ *
+ * <pre>
+ * BaseConnector connector = ValidationMode.deferred(() -&gt; createSelfDescription());
+ * ValidationMode.validate(connector);
+ * </pre>
+ */
+public enum ValidationMode {
+
+    /**
+     * Every call of build() validates the constructed object (default).
+     */
+    IMMEDIATE,
+
+    /**
+     * Calls of build() do not validate the constructed object. The caller is responsible for a
+     * validation of the result, e.g. with {@link #validate(ModelClass)}.
+     */
+    DEFERRED;
+
+    private static final ThreadLocal<ValidationMode> CURRENT = ThreadLocal.withInitial(() -> IMMEDIATE);
+
+    /**
+     * This function retrieves the validation mode of the current thread.
+     *
+     * @return validation mode of the current thread
+     */
+    public static ValidationMode current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * This function sets the validation mode of the current thread.
+     *
+     * @param mode desired validation mode
+     * @return the validation mode that was active before
+     */
+    public static ValidationMode set(ValidationMode mode) {
+        ValidationMode previous = CURRENT.get();
+        CURRENT.set(mode);
+        return previous;
+    }
+
+    /**
+     * This function runs the given construction with validation deferred on the current thread and
+     * restores the previous mode afterwards.
+     *
+     * @param construction code constructing objects via their builders
+     * @param <T> type of the constructed object
+     * @return result of the construction, not validated
+     */
+    public static <T> T deferred(Supplier<T> construction) {
+        ValidationMode previous = set(DEFERRED);
+        try {
+            return construction.get();
+        } finally {
+            set(previous);
+        }
+    }
+
+    /**
+     * This function validates the given object and every object reachable from it once, e.g. at the
+     * boundary of code that constructed it with validation deferred.
+     *
+     * @param root object to validate together with its children
+     * @throws ConstraintViolationException This exception is thrown, if a violation is found.
+     */
+    public static void validate(ModelClass root) throws ConstraintViolationException {
+        ModelValidator.validateAll(root);
+    }
+
+}
@@ -18,6 +18,15 @@ public interface Value extends RepresentationInstance {
     @Beta
     public Value deepCopy();
 
+    @Beta
+    public default Value deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default Value freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
@@ -19,6 +19,15 @@ public interface VideoRepresentation extends Representation {
     @Beta
     public VideoRepresentation deepCopy();
 
+    @Beta
+    public default VideoRepresentation deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default VideoRepresentation freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // accessor methods as derived from the IDS Information Model ontology
 
     /**
@@ -18,6 +18,15 @@ public interface VideoResource extends Resource {
     @Beta
     public VideoResource deepCopy();
 
+    @Beta
+    public default VideoResource deepCopy(CopyContext context) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deepCopy(CopyContext)");
+    }
+
+    public default VideoResource freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support freeze()");
+    }
+
     // Default instances of this class as defined in the ontology
 
 }
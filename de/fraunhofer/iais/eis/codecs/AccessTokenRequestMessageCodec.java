@@ -0,0 +1,180 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:AccessTokenRequestMessage.
+ */
+public final class AccessTokenRequestMessageCodec {
+
+    private AccessTokenRequestMessageCodec() {}
+
+    public static class Serializer extends ModelSerializer<AccessTokenRequestMessage> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(AccessTokenRequestMessage.class, "ids:AccessTokenRequestMessage");
+        }
+
+        @Override
+        protected void serializeProperties(AccessTokenRequestMessage value, JsonGenerator gen,
+            SerializerProvider provider)
+            throws IOException {
+            writeValue(gen, provider, "ids:authorizationToken", value.getAuthorizationToken());
+            writeValue(gen, provider, "ids:contentVersion", value.getContentVersion());
+            writeUri(gen, "ids:correlationMessage", value.getCorrelationMessage());
+            writeDate(gen, provider, "ids:issued", value.getIssued());
+            writeUri(gen, "ids:issuerConnector", value.getIssuerConnector());
+            writeValue(gen, provider, "ids:modelVersion", value.getModelVersion());
+            writeUris(gen, "ids:recipientAgent", value.getRecipientAgent());
+            writeUris(gen, "ids:recipientConnector", value.getRecipientConnector());
+            writeValue(gen, provider, "ids:securityToken", value.getSecurityToken());
+            writeUri(gen, "ids:senderAgent", value.getSenderAgent());
+            writeUri(gen, "ids:transferContract", value.getTransferContract());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<AccessTokenRequestMessageImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(AccessTokenRequestMessageImpl.class);
+        }
+
+        @Override
+        protected AccessTokenRequestMessageImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id,
+            String field)
+            throws IOException {
+            Token _authorizationToken = null;
+            String _contentVersion = null;
+            URI _correlationMessage = null;
+            XMLGregorianCalendar _issued = null;
+            URI _issuerConnector = null;
+            String _modelVersion = null;
+            List<URI> _recipientAgent = null;
+            List<URI> _recipientConnector = null;
+            DynamicAttributeToken _securityToken = null;
+            URI _senderAgent = null;
+            URI _transferContract = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:authorizationToken":
+                    case "https://w3id.org/idsa/core/authorizationToken":
+                    case "authorizationToken":
+                        _authorizationToken = readObject(p, ctxt, Token.class);
+                        break;
+                    case "ids:contentVersion":
+                    case "https://w3id.org/idsa/core/contentVersion":
+                    case "contentVersion":
+                        _contentVersion = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:correlationMessage":
+                    case "https://w3id.org/idsa/core/correlationMessage":
+                    case "correlationMessage":
+                        _correlationMessage = readUri(p, ctxt);
+                        break;
+                    case "ids:issued":
+                    case "https://w3id.org/idsa/core/issued":
+                    case "issued":
+                        _issued = readDate(p, ctxt);
+                        break;
+                    case "ids:issuerConnector":
+                    case "https://w3id.org/idsa/core/issuerConnector":
+                    case "issuerConnector":
+                        _issuerConnector = readUri(p, ctxt);
+                        break;
+                    case "ids:modelVersion":
+                    case "https://w3id.org/idsa/core/modelVersion":
+                    case "modelVersion":
+                        _modelVersion = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:recipientAgent":
+                    case "https://w3id.org/idsa/core/recipientAgent":
+                    case "recipientAgent":
+                        _recipientAgent = readUris(p, ctxt);
+                        break;
+                    case "ids:recipientConnector":
+                    case "https://w3id.org/idsa/core/recipientConnector":
+                    case "recipientConnector":
+                        _recipientConnector = readUris(p, ctxt);
+                        break;
+                    case "ids:securityToken":
+                    case "https://w3id.org/idsa/core/securityToken":
+                    case "securityToken":
+                        _securityToken = readObject(p, ctxt, DynamicAttributeToken.class);
+                        break;
+                    case "ids:senderAgent":
+                    case "https://w3id.org/idsa/core/senderAgent":
+                    case "senderAgent":
+                        _senderAgent = readUri(p, ctxt);
+                        break;
+                    case "ids:transferContract":
+                    case "https://w3id.org/idsa/core/transferContract":
+                    case "transferContract":
+                        _transferContract = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            AccessTokenRequestMessageBuilder builder =
+                id != null ? new AccessTokenRequestMessageBuilder(id) : new AccessTokenRequestMessageBuilder();
+            if (_authorizationToken != null) {
+                builder._authorizationToken_(_authorizationToken);
+            }
+            if (_contentVersion != null) {
+                builder._contentVersion_(_contentVersion);
+            }
+            if (_correlationMessage != null) {
+                builder._correlationMessage_(_correlationMessage);
+            }
+            if (_issued != null) {
+                builder._issued_(_issued);
+            }
+            if (_issuerConnector != null) {
+                builder._issuerConnector_(_issuerConnector);
+            }
+            if (_modelVersion != null) {
+                builder._modelVersion_(_modelVersion);
+            }
+            if (_recipientAgent != null) {
+                builder._recipientAgent_(_recipientAgent);
+            }
+            if (_recipientConnector != null) {
+                builder._recipientConnector_(_recipientConnector);
+            }
+            if (_securityToken != null) {
+                builder._securityToken_(_securityToken);
+            }
+            if (_senderAgent != null) {
+                builder._senderAgent_(_senderAgent);
+            }
+            if (_transferContract != null) {
+                builder._transferContract_(_transferContract);
+            }
+            return withProperties((AccessTokenRequestMessageImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
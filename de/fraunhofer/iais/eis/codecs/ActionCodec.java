@@ -0,0 +1,96 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:Action.
+ */
+public final class ActionCodec {
+
+    private ActionCodec() {}
+
+    public static class Serializer extends ModelSerializer<Action> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(Action.class, "ids:Action");
+        }
+
+        @Override
+        protected void serializeProperties(Action value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValues(gen, provider, "ids:actionRefinement", value.getActionRefinement());
+            writeValue(gen, provider, "ids:includedIn", value.getIncludedIn());
+            writeValue(gen, provider, "ids:pxpEndpoint", value.getPxpEndpoint());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<ActionImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(ActionImpl.class);
+        }
+
+        @Override
+        protected ActionImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            List<Constraint> _actionRefinement = null;
+            Action _includedIn = null;
+            PXP _pxpEndpoint = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:actionRefinement":
+                    case "https://w3id.org/idsa/core/actionRefinement":
+                    case "actionRefinement":
+                        _actionRefinement = readObjects(p, ctxt, Constraint.class);
+                        break;
+                    case "ids:includedIn":
+                    case "https://w3id.org/idsa/core/includedIn":
+                    case "includedIn":
+                        _includedIn = readObject(p, ctxt, Action.class);
+                        break;
+                    case "ids:pxpEndpoint":
+                    case "https://w3id.org/idsa/core/pxpEndpoint":
+                    case "pxpEndpoint":
+                        _pxpEndpoint = readObject(p, ctxt, PXP.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            ActionBuilder builder =
+                id != null ? new ActionBuilder(id) : new ActionBuilder();
+            if (_actionRefinement != null) {
+                builder._actionRefinement_(_actionRefinement);
+            }
+            if (_includedIn != null) {
+                builder._includedIn_(_includedIn);
+            }
+            if (_pxpEndpoint != null) {
+                builder._pxpEndpoint_(_pxpEndpoint);
+            }
+            return withProperties((ActionImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,87 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+import de.fraunhofer.iais.eis.util.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:Agent.
+ */
+public final class AgentCodec {
+
+    private AgentCodec() {}
+
+    public static class Serializer extends ModelSerializer<Agent> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(Agent.class, "ids:Agent");
+        }
+
+        @Override
+        protected void serializeProperties(Agent value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValues(gen, provider, "ids:description", value.getDescription());
+            writeValues(gen, provider, "ids:title", value.getTitle());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<AgentImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(AgentImpl.class);
+        }
+
+        @Override
+        protected AgentImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            List<TypedLiteral> _description = null;
+            List<TypedLiteral> _title = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:description":
+                    case "https://w3id.org/idsa/core/description":
+                    case "description":
+                        _description = readValues(p, ctxt, TypedLiteral.class);
+                        break;
+                    case "ids:title":
+                    case "https://w3id.org/idsa/core/title":
+                    case "title":
+                        _title = readValues(p, ctxt, TypedLiteral.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            AgentBuilder builder =
+                id != null ? new AgentBuilder(id) : new AgentBuilder();
+            if (_description != null) {
+                builder._description_(_description);
+            }
+            if (_title != null) {
+                builder._title_(_title);
+            }
+            return withProperties((AgentImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
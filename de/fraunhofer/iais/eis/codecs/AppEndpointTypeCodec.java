@@ -0,0 +1,65 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:AppEndpointType.
+ */
+public final class AppEndpointTypeCodec {
+
+    private AppEndpointTypeCodec() {}
+
+    public static class Serializer extends ModelSerializer<AppEndpointType> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(AppEndpointType.class, "ids:AppEndpointType");
+        }
+
+        @Override
+        protected void serializeProperties(AppEndpointType value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<AppEndpointTypeImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(AppEndpointTypeImpl.class);
+        }
+
+        @Override
+        protected AppEndpointTypeImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            AppEndpointTypeBuilder builder =
+                id != null ? new AppEndpointTypeBuilder(id) : new AppEndpointTypeBuilder();
+            return withProperties((AppEndpointTypeImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
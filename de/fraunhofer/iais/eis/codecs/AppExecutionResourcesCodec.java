@@ -0,0 +1,66 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:AppExecutionResources.
+ */
+public final class AppExecutionResourcesCodec {
+
+    private AppExecutionResourcesCodec() {}
+
+    public static class Serializer extends ModelSerializer<AppExecutionResources> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(AppExecutionResources.class, "ids:AppExecutionResources");
+        }
+
+        @Override
+        protected void serializeProperties(AppExecutionResources value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<AppExecutionResourcesImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(AppExecutionResourcesImpl.class);
+        }
+
+        @Override
+        protected AppExecutionResourcesImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id,
+            String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            AppExecutionResourcesBuilder builder =
+                id != null ? new AppExecutionResourcesBuilder(id) : new AppExecutionResourcesBuilder();
+            return withProperties((AppExecutionResourcesImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
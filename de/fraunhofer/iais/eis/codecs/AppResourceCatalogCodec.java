@@ -0,0 +1,77 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:AppResourceCatalog.
+ */
+public final class AppResourceCatalogCodec {
+
+    private AppResourceCatalogCodec() {}
+
+    public static class Serializer extends ModelSerializer<AppResourceCatalog> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(AppResourceCatalog.class, "ids:AppResourceCatalog");
+        }
+
+        @Override
+        protected void serializeProperties(AppResourceCatalog value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValues(gen, provider, "ids:listedAppResource", value.getListedAppResource());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<AppResourceCatalogImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(AppResourceCatalogImpl.class);
+        }
+
+        @Override
+        protected AppResourceCatalogImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id,
+            String field)
+            throws IOException {
+            List<AppResource> _listedAppResource = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:listedAppResource":
+                    case "https://w3id.org/idsa/core/listedAppResource":
+                    case "listedAppResource":
+                        _listedAppResource = readObjects(p, ctxt, AppResource.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            AppResourceCatalogBuilder builder =
+                id != null ? new AppResourceCatalogBuilder(id) : new AppResourceCatalogBuilder();
+            if (_listedAppResource != null) {
+                builder._listedAppResource_(_listedAppResource);
+            }
+            return withProperties((AppResourceCatalogImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,76 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:AppStoreCatalog.
+ */
+public final class AppStoreCatalogCodec {
+
+    private AppStoreCatalogCodec() {}
+
+    public static class Serializer extends ModelSerializer<AppStoreCatalog> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(AppStoreCatalog.class, "ids:AppStoreCatalog");
+        }
+
+        @Override
+        protected void serializeProperties(AppStoreCatalog value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValues(gen, provider, "ids:listedConnector", value.getListedConnector());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<AppStoreCatalogImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(AppStoreCatalogImpl.class);
+        }
+
+        @Override
+        protected AppStoreCatalogImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            List<Connector> _listedConnector = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:listedConnector":
+                    case "https://w3id.org/idsa/core/listedConnector":
+                    case "listedConnector":
+                        _listedConnector = readObjects(p, ctxt, Connector.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            AppStoreCatalogBuilder builder =
+                id != null ? new AppStoreCatalogBuilder(id) : new AppStoreCatalogBuilder();
+            if (_listedConnector != null) {
+                builder._listedConnector_(_listedConnector);
+            }
+            return withProperties((AppStoreCatalogImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
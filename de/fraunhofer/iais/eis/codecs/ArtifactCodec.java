@@ -0,0 +1,118 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.Map;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:Artifact.
+ */
+public final class ArtifactCodec {
+
+    private ArtifactCodec() {}
+
+    public static class Serializer extends ModelSerializer<Artifact> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(Artifact.class, "ids:Artifact");
+        }
+
+        @Override
+        protected void serializeProperties(Artifact value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValue(gen, provider, "ids:byteSize", value.getByteSize());
+            writeValue(gen, provider, "ids:checkSum", value.getCheckSum());
+            writeDate(gen, provider, "ids:creationDate", value.getCreationDate());
+            writeValue(gen, provider, "ids:duration", value.getDuration());
+            writeValue(gen, provider, "ids:fileName", value.getFileName());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<ArtifactImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(ArtifactImpl.class);
+        }
+
+        @Override
+        protected ArtifactImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            BigInteger _byteSize = null;
+            String _checkSum = null;
+            XMLGregorianCalendar _creationDate = null;
+            java.math.BigDecimal _duration = null;
+            String _fileName = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:byteSize":
+                    case "https://w3id.org/idsa/core/byteSize":
+                    case "byteSize":
+                        _byteSize = readValue(p, ctxt, BigInteger.class);
+                        break;
+                    case "ids:checkSum":
+                    case "https://w3id.org/idsa/core/checkSum":
+                    case "checkSum":
+                        _checkSum = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:creationDate":
+                    case "https://w3id.org/idsa/core/creationDate":
+                    case "creationDate":
+                        _creationDate = readDate(p, ctxt);
+                        break;
+                    case "ids:duration":
+                    case "https://w3id.org/idsa/core/duration":
+                    case "duration":
+                        _duration = readValue(p, ctxt, java.math.BigDecimal.class);
+                        break;
+                    case "ids:fileName":
+                    case "https://w3id.org/idsa/core/fileName":
+                    case "fileName":
+                        _fileName = readValue(p, ctxt, String.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            ArtifactBuilder builder =
+                id != null ? new ArtifactBuilder(id) : new ArtifactBuilder();
+            if (_byteSize != null) {
+                builder._byteSize_(_byteSize);
+            }
+            if (_checkSum != null) {
+                builder._checkSum_(_checkSum);
+            }
+            if (_creationDate != null) {
+                builder._creationDate_(_creationDate);
+            }
+            if (_duration != null) {
+                builder._duration_(_duration);
+            }
+            if (_fileName != null) {
+                builder._fileName_(_fileName);
+            }
+            return withProperties((ArtifactImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
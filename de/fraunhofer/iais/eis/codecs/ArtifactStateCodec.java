@@ -0,0 +1,65 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:ArtifactState.
+ */
+public final class ArtifactStateCodec {
+
+    private ArtifactStateCodec() {}
+
+    public static class Serializer extends ModelSerializer<ArtifactState> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(ArtifactState.class, "ids:ArtifactState");
+        }
+
+        @Override
+        protected void serializeProperties(ArtifactState value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<ArtifactStateImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(ArtifactStateImpl.class);
+        }
+
+        @Override
+        protected ArtifactStateImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            ArtifactStateBuilder builder =
+                id != null ? new ArtifactStateBuilder(id) : new ArtifactStateBuilder();
+            return withProperties((ArtifactStateImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
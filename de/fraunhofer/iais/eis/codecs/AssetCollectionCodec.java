@@ -0,0 +1,85 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:AssetCollection.
+ */
+public final class AssetCollectionCodec {
+
+    private AssetCollectionCodec() {}
+
+    public static class Serializer extends ModelSerializer<AssetCollection> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(AssetCollection.class, "ids:AssetCollection");
+        }
+
+        @Override
+        protected void serializeProperties(AssetCollection value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValue(gen, provider, "ids:assetRefinement", value.getAssetRefinement());
+            writeUri(gen, "ids:assetSource", value.getAssetSource());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<AssetCollectionImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(AssetCollectionImpl.class);
+        }
+
+        @Override
+        protected AssetCollectionImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            AbstractConstraint _assetRefinement = null;
+            URI _assetSource = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:assetRefinement":
+                    case "https://w3id.org/idsa/core/assetRefinement":
+                    case "assetRefinement":
+                        _assetRefinement = readObject(p, ctxt, AbstractConstraint.class);
+                        break;
+                    case "ids:assetSource":
+                    case "https://w3id.org/idsa/core/assetSource":
+                    case "assetSource":
+                        _assetSource = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            AssetCollectionBuilder builder =
+                id != null ? new AssetCollectionBuilder(id) : new AssetCollectionBuilder();
+            if (_assetRefinement != null) {
+                builder._assetRefinement_(_assetRefinement);
+            }
+            if (_assetSource != null) {
+                builder._assetSource_(_assetSource);
+            }
+            return withProperties((AssetCollectionImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
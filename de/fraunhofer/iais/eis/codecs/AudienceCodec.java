@@ -0,0 +1,65 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:Audience.
+ */
+public final class AudienceCodec {
+
+    private AudienceCodec() {}
+
+    public static class Serializer extends ModelSerializer<Audience> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(Audience.class, "ids:Audience");
+        }
+
+        @Override
+        protected void serializeProperties(Audience value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<AudienceImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(AudienceImpl.class);
+        }
+
+        @Override
+        protected AudienceImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            AudienceBuilder builder =
+                id != null ? new AudienceBuilder(id) : new AudienceBuilder();
+            return withProperties((AudienceImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
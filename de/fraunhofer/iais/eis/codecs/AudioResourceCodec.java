@@ -0,0 +1,389 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+import de.fraunhofer.iais.eis.util.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:AudioResource.
+ */
+public final class AudioResourceCodec {
+
+    private AudioResourceCodec() {}
+
+    public static class Serializer extends ModelSerializer<AudioResource> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(AudioResource.class, "ids:AudioResource");
+        }
+
+        @Override
+        protected void serializeProperties(AudioResource value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValue(gen, provider, "ids:accrualPeriodicity", value.getAccrualPeriodicity());
+            writeValues(gen, provider, "ids:contentPart", value.getContentPart());
+            writeUri(gen, "ids:contentStandard", value.getContentStandard());
+            writeValue(gen, provider, "ids:contentType", value.getContentType());
+            writeValues(gen, provider, "ids:contractOffer", value.getContractOffer());
+            writeDate(gen, provider, "ids:created", value.getCreated());
+            writeUri(gen, "ids:customLicense", value.getCustomLicense());
+            writeValues(gen, provider, "ids:defaultRepresentation", value.getDefaultRepresentation());
+            writeValues(gen, provider, "ids:description", value.getDescription());
+            writeValues(gen, provider, "ids:keyword", value.getKeyword());
+            writeValues(gen, provider, "ids:language", value.getLanguage());
+            writeDate(gen, provider, "ids:modified", value.getModified());
+            writeValue(gen, provider, "ids:paymentModality", value.getPaymentModality());
+            writeObjectOrUri(gen, provider, "ids:publisher", value.getPublisherAsObject(), value.getPublisherAsUri());
+            writeValues(gen, provider, "ids:representation", value.getRepresentation());
+            writeValues(gen, provider, "ids:resourceEndpoint", value.getResourceEndpoint());
+            writeValues(gen, provider, "ids:resourcePart", value.getResourcePart());
+            writeValues(gen, provider, "ids:sample", value.getSample());
+            writeUri(gen, "ids:shapesGraph", value.getShapesGraph());
+            writeObjectOrUri(gen, provider, "ids:sovereign", value.getSovereignAsObject(), value.getSovereignAsUri());
+            writeValues(gen, provider, "ids:spatialCoverage", value.getSpatialCoverage());
+            writeUri(gen, "ids:standardLicense", value.getStandardLicense());
+            writeValues(gen, provider, "ids:temporalCoverage", value.getTemporalCoverage());
+            writeValue(gen, provider, "ids:temporalResolution", value.getTemporalResolution());
+            writeUris(gen, "ids:theme", value.getTheme());
+            writeValues(gen, provider, "ids:title", value.getTitle());
+            writeValue(gen, provider, "ids:variant", value.getVariant());
+            writeValue(gen, provider, "ids:version", value.getVersion());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<AudioResourceImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(AudioResourceImpl.class);
+        }
+
+        @Override
+        protected AudioResourceImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            Frequency _accrualPeriodicity = null;
+            List<DigitalContent> _contentPart = null;
+            URI _contentStandard = null;
+            ContentType _contentType = null;
+            List<ContractOffer> _contractOffer = null;
+            XMLGregorianCalendar _created = null;
+            URI _customLicense = null;
+            List<Representation> _defaultRepresentation = null;
+            List<TypedLiteral> _description = null;
+            List<TypedLiteral> _keyword = null;
+            List<Language> _language = null;
+            XMLGregorianCalendar _modified = null;
+            PaymentModality _paymentModality = null;
+            Agent _publisherAsObject = null;
+            URI _publisherAsUri = null;
+            List<Representation> _representation = null;
+            List<ConnectorEndpoint> _resourceEndpoint = null;
+            List<Resource> _resourcePart = null;
+            List<Resource> _sample = null;
+            URI _shapesGraph = null;
+            Agent _sovereignAsObject = null;
+            URI _sovereignAsUri = null;
+            List<Location> _spatialCoverage = null;
+            URI _standardLicense = null;
+            List<TemporalEntity> _temporalCoverage = null;
+            Frequency _temporalResolution = null;
+            List<URI> _theme = null;
+            List<TypedLiteral> _title = null;
+            Resource _variant = null;
+            String _version = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:accrualPeriodicity":
+                    case "https://w3id.org/idsa/core/accrualPeriodicity":
+                    case "accrualPeriodicity":
+                        _accrualPeriodicity = readObject(p, ctxt, Frequency.class);
+                        break;
+                    case "ids:contentPart":
+                    case "https://w3id.org/idsa/core/contentPart":
+                    case "contentPart":
+                        _contentPart = readObjects(p, ctxt, DigitalContent.class);
+                        break;
+                    case "ids:contentStandard":
+                    case "https://w3id.org/idsa/core/contentStandard":
+                    case "contentStandard":
+                        _contentStandard = readUri(p, ctxt);
+                        break;
+                    case "ids:contentType":
+                    case "https://w3id.org/idsa/core/contentType":
+                    case "contentType":
+                        _contentType = readObject(p, ctxt, ContentType.class);
+                        break;
+                    case "ids:contractOffer":
+                    case "https://w3id.org/idsa/core/contractOffer":
+                    case "contractOffer":
+                        _contractOffer = readObjects(p, ctxt, ContractOffer.class);
+                        break;
+                    case "ids:created":
+                    case "https://w3id.org/idsa/core/created":
+                    case "created":
+                        _created = readDate(p, ctxt);
+                        break;
+                    case "ids:customLicense":
+                    case "https://w3id.org/idsa/core/customLicense":
+                    case "customLicense":
+                        _customLicense = readUri(p, ctxt);
+                        break;
+                    case "ids:defaultRepresentation":
+                    case "https://w3id.org/idsa/core/defaultRepresentation":
+                    case "defaultRepresentation":
+                        _defaultRepresentation = readObjects(p, ctxt, Representation.class);
+                        break;
+                    case "ids:description":
+                    case "https://w3id.org/idsa/core/description":
+                    case "description":
+                        _description = readValues(p, ctxt, TypedLiteral.class);
+                        break;
+                    case "ids:keyword":
+                    case "https://w3id.org/idsa/core/keyword":
+                    case "keyword":
+                        _keyword = readValues(p, ctxt, TypedLiteral.class);
+                        break;
+                    case "ids:language":
+                    case "https://w3id.org/idsa/core/language":
+                    case "language":
+                        _language = readObjects(p, ctxt, Language.class);
+                        break;
+                    case "ids:modified":
+                    case "https://w3id.org/idsa/core/modified":
+                    case "modified":
+                        _modified = readDate(p, ctxt);
+                        break;
+                    case "ids:paymentModality":
+                    case "https://w3id.org/idsa/core/paymentModality":
+                    case "paymentModality":
+                        _paymentModality = readObject(p, ctxt, PaymentModality.class);
+                        break;
+                    case "ids:publisher":
+                    case "https://w3id.org/idsa/core/publisher":
+                    case "publisher": {
+                        Object value = readObjectOrUri(p, ctxt, Agent.class);
+                        if (value instanceof URI) {
+                            _publisherAsUri = (URI) value;
+                        } else {
+                            _publisherAsObject = (Agent) value;
+                        }
+                        break;
+                    }
+                    case "ids:publisherAsObject":
+                    case "https://w3id.org/idsa/core/publisherAsObject":
+                    case "publisherAsObject":
+                        _publisherAsObject = readObject(p, ctxt, Agent.class);
+                        break;
+                    case "ids:publisherAsUri":
+                    case "https://w3id.org/idsa/core/publisherAsUri":
+                    case "publisherAsUri":
+                        _publisherAsUri = readUri(p, ctxt);
+                        break;
+                    case "ids:representation":
+                    case "https://w3id.org/idsa/core/representation":
+                    case "representation":
+                        _representation = readObjects(p, ctxt, Representation.class);
+                        break;
+                    case "ids:resourceEndpoint":
+                    case "https://w3id.org/idsa/core/resourceEndpoint":
+                    case "resourceEndpoint":
+                        _resourceEndpoint = readObjects(p, ctxt, ConnectorEndpoint.class);
+                        break;
+                    case "ids:resourcePart":
+                    case "https://w3id.org/idsa/core/resourcePart":
+                    case "resourcePart":
+                        _resourcePart = readObjects(p, ctxt, Resource.class);
+                        break;
+                    case "ids:sample":
+                    case "https://w3id.org/idsa/core/sample":
+                    case "sample":
+                        _sample = readObjects(p, ctxt, Resource.class);
+                        break;
+                    case "ids:shapesGraph":
+                    case "https://w3id.org/idsa/core/shapesGraph":
+                    case "shapesGraph":
+                        _shapesGraph = readUri(p, ctxt);
+                        break;
+                    case "ids:sovereign":
+                    case "https://w3id.org/idsa/core/sovereign":
+                    case "sovereign": {
+                        Object value = readObjectOrUri(p, ctxt, Agent.class);
+                        if (value instanceof URI) {
+                            _sovereignAsUri = (URI) value;
+                        } else {
+                            _sovereignAsObject = (Agent) value;
+                        }
+                        break;
+                    }
+                    case "ids:sovereignAsObject":
+                    case "https://w3id.org/idsa/core/sovereignAsObject":
+                    case "sovereignAsObject":
+                        _sovereignAsObject = readObject(p, ctxt, Agent.class);
+                        break;
+                    case "ids:sovereignAsUri":
+                    case "https://w3id.org/idsa/core/sovereignAsUri":
+                    case "sovereignAsUri":
+                        _sovereignAsUri = readUri(p, ctxt);
+                        break;
+                    case "ids:spatialCoverage":
+                    case "https://w3id.org/idsa/core/spatialCoverage":
+                    case "spatialCoverage":
+                        _spatialCoverage = readObjects(p, ctxt, Location.class);
+                        break;
+                    case "ids:standardLicense":
+                    case "https://w3id.org/idsa/core/standardLicense":
+                    case "standardLicense":
+                        _standardLicense = readUri(p, ctxt);
+                        break;
+                    case "ids:temporalCoverage":
+                    case "https://w3id.org/idsa/core/temporalCoverage":
+                    case "temporalCoverage":
+                        _temporalCoverage = readObjects(p, ctxt, TemporalEntity.class);
+                        break;
+                    case "ids:temporalResolution":
+                    case "https://w3id.org/idsa/core/temporalResolution":
+                    case "temporalResolution":
+                        _temporalResolution = readObject(p, ctxt, Frequency.class);
+                        break;
+                    case "ids:theme":
+                    case "https://w3id.org/idsa/core/theme":
+                    case "theme":
+                        _theme = readUris(p, ctxt);
+                        break;
+                    case "ids:title":
+                    case "https://w3id.org/idsa/core/title":
+                    case "title":
+                        _title = readValues(p, ctxt, TypedLiteral.class);
+                        break;
+                    case "ids:variant":
+                    case "https://w3id.org/idsa/core/variant":
+                    case "variant":
+                        _variant = readObject(p, ctxt, Resource.class);
+                        break;
+                    case "ids:version":
+                    case "https://w3id.org/idsa/core/version":
+                    case "version":
+                        _version = readValue(p, ctxt, String.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            AudioResourceBuilder builder =
+                id != null ? new AudioResourceBuilder(id) : new AudioResourceBuilder();
+            if (_accrualPeriodicity != null) {
+                builder._accrualPeriodicity_(_accrualPeriodicity);
+            }
+            if (_contentPart != null) {
+                builder._contentPart_(_contentPart);
+            }
+            if (_contentStandard != null) {
+                builder._contentStandard_(_contentStandard);
+            }
+            if (_contentType != null) {
+                builder._contentType_(_contentType);
+            }
+            if (_contractOffer != null) {
+                builder._contractOffer_(_contractOffer);
+            }
+            if (_created != null) {
+                builder._created_(_created);
+            }
+            if (_customLicense != null) {
+                builder._customLicense_(_customLicense);
+            }
+            if (_defaultRepresentation != null) {
+                builder._defaultRepresentation_(_defaultRepresentation);
+            }
+            if (_description != null) {
+                builder._description_(_description);
+            }
+            if (_keyword != null) {
+                builder._keyword_(_keyword);
+            }
+            if (_language != null) {
+                builder._language_(_language);
+            }
+            if (_modified != null) {
+                builder._modified_(_modified);
+            }
+            if (_paymentModality != null) {
+                builder._paymentModality_(_paymentModality);
+            }
+            if (_publisherAsObject != null) {
+                builder._publisherAsObject_(_publisherAsObject);
+            }
+            if (_publisherAsUri != null) {
+                builder._publisherAsUri_(_publisherAsUri);
+            }
+            if (_representation != null) {
+                builder._representation_(_representation);
+            }
+            if (_resourceEndpoint != null) {
+                builder._resourceEndpoint_(_resourceEndpoint);
+            }
+            if (_resourcePart != null) {
+                builder._resourcePart_(_resourcePart);
+            }
+            if (_sample != null) {
+                builder._sample_(_sample);
+            }
+            if (_shapesGraph != null) {
+                builder._shapesGraph_(_shapesGraph);
+            }
+            if (_sovereignAsObject != null) {
+                builder._sovereignAsObject_(_sovereignAsObject);
+            }
+            if (_sovereignAsUri != null) {
+                builder._sovereignAsUri_(_sovereignAsUri);
+            }
+            if (_spatialCoverage != null) {
+                builder._spatialCoverage_(_spatialCoverage);
+            }
+            if (_standardLicense != null) {
+                builder._standardLicense_(_standardLicense);
+            }
+            if (_temporalCoverage != null) {
+                builder._temporalCoverage_(_temporalCoverage);
+            }
+            if (_temporalResolution != null) {
+                builder._temporalResolution_(_temporalResolution);
+            }
+            if (_theme != null) {
+                builder._theme_(_theme);
+            }
+            if (_title != null) {
+                builder._title_(_title);
+            }
+            if (_variant != null) {
+                builder._variant_(_variant);
+            }
+            if (_version != null) {
+                builder._version_(_version);
+            }
+            return withProperties((AudioResourceImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
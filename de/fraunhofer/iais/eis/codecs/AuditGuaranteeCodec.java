@@ -0,0 +1,65 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:AuditGuarantee.
+ */
+public final class AuditGuaranteeCodec {
+
+    private AuditGuaranteeCodec() {}
+
+    public static class Serializer extends ModelSerializer<AuditGuarantee> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(AuditGuarantee.class, "ids:AuditGuarantee");
+        }
+
+        @Override
+        protected void serializeProperties(AuditGuarantee value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<AuditGuaranteeImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(AuditGuaranteeImpl.class);
+        }
+
+        @Override
+        protected AuditGuaranteeImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            AuditGuaranteeBuilder builder =
+                id != null ? new AuditGuaranteeBuilder(id) : new AuditGuaranteeBuilder();
+            return withProperties((AuditGuaranteeImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,85 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:AuthInfo.
+ */
+public final class AuthInfoCodec {
+
+    private AuthInfoCodec() {}
+
+    public static class Serializer extends ModelSerializer<AuthInfo> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(AuthInfo.class, "ids:AuthInfo");
+        }
+
+        @Override
+        protected void serializeProperties(AuthInfo value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeUri(gen, "ids:authService", value.getAuthService());
+            writeValue(gen, provider, "ids:authStandard", value.getAuthStandard());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<AuthInfoImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(AuthInfoImpl.class);
+        }
+
+        @Override
+        protected AuthInfoImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            URI _authService = null;
+            AuthStandard _authStandard = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:authService":
+                    case "https://w3id.org/idsa/core/authService":
+                    case "authService":
+                        _authService = readUri(p, ctxt);
+                        break;
+                    case "ids:authStandard":
+                    case "https://w3id.org/idsa/core/authStandard":
+                    case "authStandard":
+                        _authStandard = readObject(p, ctxt, AuthStandard.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            AuthInfoBuilder builder =
+                id != null ? new AuthInfoBuilder(id) : new AuthInfoBuilder();
+            if (_authService != null) {
+                builder._authService_(_authService);
+            }
+            if (_authStandard != null) {
+                builder._authStandard_(_authStandard);
+            }
+            return withProperties((AuthInfoImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
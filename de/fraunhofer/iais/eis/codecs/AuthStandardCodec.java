@@ -0,0 +1,65 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:AuthStandard.
+ */
+public final class AuthStandardCodec {
+
+    private AuthStandardCodec() {}
+
+    public static class Serializer extends ModelSerializer<AuthStandard> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(AuthStandard.class, "ids:AuthStandard");
+        }
+
+        @Override
+        protected void serializeProperties(AuthStandard value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<AuthStandardImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(AuthStandardImpl.class);
+        }
+
+        @Override
+        protected AuthStandardImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            AuthStandardBuilder builder =
+                id != null ? new AuthStandardBuilder(id) : new AuthStandardBuilder();
+            return withProperties((AuthStandardImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,67 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:AuthenticationGuarantee.
+ */
+public final class AuthenticationGuaranteeCodec {
+
+    private AuthenticationGuaranteeCodec() {}
+
+    public static class Serializer extends ModelSerializer<AuthenticationGuarantee> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(AuthenticationGuarantee.class, "ids:AuthenticationGuarantee");
+        }
+
+        @Override
+        protected void serializeProperties(AuthenticationGuarantee value, JsonGenerator gen,
+            SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<AuthenticationGuaranteeImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(AuthenticationGuaranteeImpl.class);
+        }
+
+        @Override
+        protected AuthenticationGuaranteeImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id,
+            String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            AuthenticationGuaranteeBuilder builder =
+                id != null ? new AuthenticationGuaranteeBuilder(id) : new AuthenticationGuaranteeBuilder();
+            return withProperties((AuthenticationGuaranteeImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
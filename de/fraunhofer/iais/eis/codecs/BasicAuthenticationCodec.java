@@ -0,0 +1,86 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:BasicAuthentication.
+ */
+public final class BasicAuthenticationCodec {
+
+    private BasicAuthenticationCodec() {}
+
+    public static class Serializer extends ModelSerializer<BasicAuthentication> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(BasicAuthentication.class, "ids:BasicAuthentication");
+        }
+
+        @Override
+        protected void serializeProperties(BasicAuthentication value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValue(gen, provider, "ids:authPassword", value.getAuthPassword());
+            writeValue(gen, provider, "ids:authUsername", value.getAuthUsername());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<BasicAuthenticationImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(BasicAuthenticationImpl.class);
+        }
+
+        @Override
+        protected BasicAuthenticationImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id,
+            String field)
+            throws IOException {
+            String _authPassword = null;
+            String _authUsername = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:authPassword":
+                    case "https://w3id.org/idsa/core/authPassword":
+                    case "authPassword":
+                        _authPassword = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:authUsername":
+                    case "https://w3id.org/idsa/core/authUsername":
+                    case "authUsername":
+                        _authUsername = readValue(p, ctxt, String.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            BasicAuthenticationBuilder builder =
+                id != null ? new BasicAuthenticationBuilder(id) : new BasicAuthenticationBuilder();
+            if (_authPassword != null) {
+                builder._authPassword_(_authPassword);
+            }
+            if (_authUsername != null) {
+                builder._authUsername_(_authUsername);
+            }
+            return withProperties((BasicAuthenticationImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,65 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:BinaryOperator.
+ */
+public final class BinaryOperatorCodec {
+
+    private BinaryOperatorCodec() {}
+
+    public static class Serializer extends ModelSerializer<BinaryOperator> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(BinaryOperator.class, "ids:BinaryOperator");
+        }
+
+        @Override
+        protected void serializeProperties(BinaryOperator value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<BinaryOperatorImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(BinaryOperatorImpl.class);
+        }
+
+        @Override
+        protected BinaryOperatorImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            BinaryOperatorBuilder builder =
+                id != null ? new BinaryOperatorBuilder(id) : new BinaryOperatorBuilder();
+            return withProperties((BinaryOperatorImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
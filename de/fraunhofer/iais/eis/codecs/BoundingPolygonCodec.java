@@ -0,0 +1,76 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:BoundingPolygon.
+ */
+public final class BoundingPolygonCodec {
+
+    private BoundingPolygonCodec() {}
+
+    public static class Serializer extends ModelSerializer<BoundingPolygon> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(BoundingPolygon.class, "ids:BoundingPolygon");
+        }
+
+        @Override
+        protected void serializeProperties(BoundingPolygon value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValues(gen, provider, "ids:geoPoint", value.getGeoPoint());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<BoundingPolygonImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(BoundingPolygonImpl.class);
+        }
+
+        @Override
+        protected BoundingPolygonImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            List<GeoPoint> _geoPoint = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:geoPoint":
+                    case "https://w3id.org/idsa/core/geoPoint":
+                    case "geoPoint":
+                        _geoPoint = readObjects(p, ctxt, GeoPoint.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            BoundingPolygonBuilder builder =
+                id != null ? new BoundingPolygonBuilder(id) : new BoundingPolygonBuilder();
+            if (_geoPoint != null) {
+                builder._geoPoint_(_geoPoint);
+            }
+            return withProperties((BoundingPolygonImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,76 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:BrokerCatalog.
+ */
+public final class BrokerCatalogCodec {
+
+    private BrokerCatalogCodec() {}
+
+    public static class Serializer extends ModelSerializer<BrokerCatalog> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(BrokerCatalog.class, "ids:BrokerCatalog");
+        }
+
+        @Override
+        protected void serializeProperties(BrokerCatalog value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValues(gen, provider, "ids:listedConnector", value.getListedConnector());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<BrokerCatalogImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(BrokerCatalogImpl.class);
+        }
+
+        @Override
+        protected BrokerCatalogImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            List<Connector> _listedConnector = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:listedConnector":
+                    case "https://w3id.org/idsa/core/listedConnector":
+                    case "listedConnector":
+                        _listedConnector = readObjects(p, ctxt, Connector.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            BrokerCatalogBuilder builder =
+                id != null ? new BrokerCatalogBuilder(id) : new BrokerCatalogBuilder();
+            if (_listedConnector != null) {
+                builder._listedConnector_(_listedConnector);
+            }
+            return withProperties((BrokerCatalogImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
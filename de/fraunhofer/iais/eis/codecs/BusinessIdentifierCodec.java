@@ -0,0 +1,86 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:BusinessIdentifier.
+ */
+public final class BusinessIdentifierCodec {
+
+    private BusinessIdentifierCodec() {}
+
+    public static class Serializer extends ModelSerializer<BusinessIdentifier> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(BusinessIdentifier.class, "ids:BusinessIdentifier");
+        }
+
+        @Override
+        protected void serializeProperties(BusinessIdentifier value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValue(gen, provider, "ids:identifierNumber", value.getIdentifierNumber());
+            writeValue(gen, provider, "ids:identifierSystem", value.getIdentifierSystem());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<BusinessIdentifierImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(BusinessIdentifierImpl.class);
+        }
+
+        @Override
+        protected BusinessIdentifierImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id,
+            String field)
+            throws IOException {
+            String _identifierNumber = null;
+            String _identifierSystem = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:identifierNumber":
+                    case "https://w3id.org/idsa/core/identifierNumber":
+                    case "identifierNumber":
+                        _identifierNumber = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:identifierSystem":
+                    case "https://w3id.org/idsa/core/identifierSystem":
+                    case "identifierSystem":
+                        _identifierSystem = readValue(p, ctxt, String.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            BusinessIdentifierBuilder builder =
+                id != null ? new BusinessIdentifierBuilder(id) : new BusinessIdentifierBuilder();
+            if (_identifierNumber != null) {
+                builder._identifierNumber_(_identifierNumber);
+            }
+            if (_identifierSystem != null) {
+                builder._identifierSystem_(_identifierSystem);
+            }
+            return withProperties((BusinessIdentifierImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,77 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:ClearingHouseCatalog.
+ */
+public final class ClearingHouseCatalogCodec {
+
+    private ClearingHouseCatalogCodec() {}
+
+    public static class Serializer extends ModelSerializer<ClearingHouseCatalog> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(ClearingHouseCatalog.class, "ids:ClearingHouseCatalog");
+        }
+
+        @Override
+        protected void serializeProperties(ClearingHouseCatalog value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValues(gen, provider, "ids:listedClearingHouse", value.getListedClearingHouse());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<ClearingHouseCatalogImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(ClearingHouseCatalogImpl.class);
+        }
+
+        @Override
+        protected ClearingHouseCatalogImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id,
+            String field)
+            throws IOException {
+            List<ClearingHouse> _listedClearingHouse = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:listedClearingHouse":
+                    case "https://w3id.org/idsa/core/listedClearingHouse":
+                    case "listedClearingHouse":
+                        _listedClearingHouse = readObjects(p, ctxt, ClearingHouse.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            ClearingHouseCatalogBuilder builder =
+                id != null ? new ClearingHouseCatalogBuilder(id) : new ClearingHouseCatalogBuilder();
+            if (_listedClearingHouse != null) {
+                builder._listedClearingHouse_(_listedClearingHouse);
+            }
+            return withProperties((ClearingHouseCatalogImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
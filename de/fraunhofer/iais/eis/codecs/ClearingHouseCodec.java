@@ -0,0 +1,208 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+import de.fraunhofer.iais.eis.util.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:ClearingHouse.
+ */
+public final class ClearingHouseCodec {
+
+    private ClearingHouseCodec() {}
+
+    public static class Serializer extends ModelSerializer<ClearingHouse> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(ClearingHouse.class, "ids:ClearingHouse");
+        }
+
+        @Override
+        protected void serializeProperties(ClearingHouse value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValue(gen, provider, "ids:componentCertification", value.getComponentCertification());
+            writeObjectOrUri(gen, provider, "ids:curator", value.getCuratorAsObject(), value.getCuratorAsUri());
+            writeValues(gen, provider, "ids:description", value.getDescription());
+            writeValues(gen, provider, "ids:inboundModelVersion", value.getInboundModelVersion());
+            writeObjectOrUri(gen, provider, "ids:maintainer", value.getMaintainerAsObject(),
+                value.getMaintainerAsUri());
+            writeValue(gen, provider, "ids:outboundModelVersion", value.getOutboundModelVersion());
+            writeValue(gen, provider, "ids:physicalLocation", value.getPhysicalLocation());
+            writeValue(gen, provider, "ids:publicKey", value.getPublicKey());
+            writeValues(gen, provider, "ids:title", value.getTitle());
+            writeValue(gen, provider, "ids:version", value.getVersion());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<ClearingHouseImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(ClearingHouseImpl.class);
+        }
+
+        @Override
+        protected ClearingHouseImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            ComponentCertification _componentCertification = null;
+            Participant _curatorAsObject = null;
+            URI _curatorAsUri = null;
+            List<TypedLiteral> _description = null;
+            List<String> _inboundModelVersion = null;
+            Participant _maintainerAsObject = null;
+            URI _maintainerAsUri = null;
+            String _outboundModelVersion = null;
+            Location _physicalLocation = null;
+            PublicKey _publicKey = null;
+            List<TypedLiteral> _title = null;
+            String _version = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:componentCertification":
+                    case "https://w3id.org/idsa/core/componentCertification":
+                    case "componentCertification":
+                        _componentCertification = readObject(p, ctxt, ComponentCertification.class);
+                        break;
+                    case "ids:curator":
+                    case "https://w3id.org/idsa/core/curator":
+                    case "curator": {
+                        Object value = readObjectOrUri(p, ctxt, Participant.class);
+                        if (value instanceof URI) {
+                            _curatorAsUri = (URI) value;
+                        } else {
+                            _curatorAsObject = (Participant) value;
+                        }
+                        break;
+                    }
+                    case "ids:curatorAsObject":
+                    case "https://w3id.org/idsa/core/curatorAsObject":
+                    case "curatorAsObject":
+                        _curatorAsObject = readObject(p, ctxt, Participant.class);
+                        break;
+                    case "ids:curatorAsUri":
+                    case "https://w3id.org/idsa/core/curatorAsUri":
+                    case "curatorAsUri":
+                        _curatorAsUri = readUri(p, ctxt);
+                        break;
+                    case "ids:description":
+                    case "https://w3id.org/idsa/core/description":
+                    case "description":
+                        _description = readValues(p, ctxt, TypedLiteral.class);
+                        break;
+                    case "ids:inboundModelVersion":
+                    case "https://w3id.org/idsa/core/inboundModelVersion":
+                    case "inboundModelVersion":
+                        _inboundModelVersion = readValues(p, ctxt, String.class);
+                        break;
+                    case "ids:maintainer":
+                    case "https://w3id.org/idsa/core/maintainer":
+                    case "maintainer": {
+                        Object value = readObjectOrUri(p, ctxt, Participant.class);
+                        if (value instanceof URI) {
+                            _maintainerAsUri = (URI) value;
+                        } else {
+                            _maintainerAsObject = (Participant) value;
+                        }
+                        break;
+                    }
+                    case "ids:maintainerAsObject":
+                    case "https://w3id.org/idsa/core/maintainerAsObject":
+                    case "maintainerAsObject":
+                        _maintainerAsObject = readObject(p, ctxt, Participant.class);
+                        break;
+                    case "ids:maintainerAsUri":
+                    case "https://w3id.org/idsa/core/maintainerAsUri":
+                    case "maintainerAsUri":
+                        _maintainerAsUri = readUri(p, ctxt);
+                        break;
+                    case "ids:outboundModelVersion":
+                    case "https://w3id.org/idsa/core/outboundModelVersion":
+                    case "outboundModelVersion":
+                        _outboundModelVersion = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:physicalLocation":
+                    case "https://w3id.org/idsa/core/physicalLocation":
+                    case "physicalLocation":
+                        _physicalLocation = readObject(p, ctxt, Location.class);
+                        break;
+                    case "ids:publicKey":
+                    case "https://w3id.org/idsa/core/publicKey":
+                    case "publicKey":
+                        _publicKey = readObject(p, ctxt, PublicKey.class);
+                        break;
+                    case "ids:title":
+                    case "https://w3id.org/idsa/core/title":
+                    case "title":
+                        _title = readValues(p, ctxt, TypedLiteral.class);
+                        break;
+                    case "ids:version":
+                    case "https://w3id.org/idsa/core/version":
+                    case "version":
+                        _version = readValue(p, ctxt, String.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            ClearingHouseBuilder builder =
+                id != null ? new ClearingHouseBuilder(id) : new ClearingHouseBuilder();
+            if (_componentCertification != null) {
+                builder._componentCertification_(_componentCertification);
+            }
+            if (_curatorAsObject != null) {
+                builder._curatorAsObject_(_curatorAsObject);
+            }
+            if (_curatorAsUri != null) {
+                builder._curatorAsUri_(_curatorAsUri);
+            }
+            if (_description != null) {
+                builder._description_(_description);
+            }
+            if (_inboundModelVersion != null) {
+                builder._inboundModelVersion_(_inboundModelVersion);
+            }
+            if (_maintainerAsObject != null) {
+                builder._maintainerAsObject_(_maintainerAsObject);
+            }
+            if (_maintainerAsUri != null) {
+                builder._maintainerAsUri_(_maintainerAsUri);
+            }
+            if (_outboundModelVersion != null) {
+                builder._outboundModelVersion_(_outboundModelVersion);
+            }
+            if (_physicalLocation != null) {
+                builder._physicalLocation_(_physicalLocation);
+            }
+            if (_publicKey != null) {
+                builder._publicKey_(_publicKey);
+            }
+            if (_title != null) {
+                builder._title_(_title);
+            }
+            if (_version != null) {
+                builder._version_(_version);
+            }
+            return withProperties((ClearingHouseImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,692 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Jackson module that registers the generated serializers and deserializers of all model classes,
+ * which read and write JSON-LD without reflective bean introspection:
+ *
+ * <pre>
+ * mapper.registerModule(new CodecModule());
+ * </pre>
+ *
+ * Values of other types (e.g. TypedLiteral) are (de-)serialized as configured in the ObjectMapper.
+ * Objects are dispatched by their "@type" in one lookup (see {@link ModelTypes}), also when reading
+ * an interface such as Message. The deserializers accept the compacted ("ids:title"), full ("https://w3id.org/idsa/core/title") and
+ * plain ("title") property names and URIs given as string or as node reference {"@id": ...}.
+ */
+public class CodecModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    public CodecModule() {
+        super(CodecModule.class.getSimpleName());
+        addDeserializer(AbstractConstraint.class, new InterfaceDeserializer<>(AbstractConstraint.class));
+        addDeserializer(AccessTokenRequestMessage.class, new InterfaceDeserializer<>(AccessTokenRequestMessage.class));
+        addDeserializer(AccessTokenResponseMessage.class, new InterfaceDeserializer<>(AccessTokenResponseMessage.class));
+        addDeserializer(Action.class, new InterfaceDeserializer<>(Action.class));
+        addDeserializer(Agent.class, new InterfaceDeserializer<>(Agent.class));
+        addDeserializer(AppAvailableMessage.class, new InterfaceDeserializer<>(AppAvailableMessage.class));
+        addDeserializer(AppDeleteMessage.class, new InterfaceDeserializer<>(AppDeleteMessage.class));
+        addDeserializer(AppEndpoint.class, new InterfaceDeserializer<>(AppEndpoint.class));
+        addDeserializer(AppEndpointType.class, new InterfaceDeserializer<>(AppEndpointType.class));
+        addDeserializer(AppExecutionResources.class, new InterfaceDeserializer<>(AppExecutionResources.class));
+        addDeserializer(AppNotificationMessage.class, new InterfaceDeserializer<>(AppNotificationMessage.class));
+        addDeserializer(AppRegistrationRequestMessage.class, new InterfaceDeserializer<>(AppRegistrationRequestMessage.class));
+        addDeserializer(AppRegistrationResponseMessage.class, new InterfaceDeserializer<>(AppRegistrationResponseMessage.class));
+        addDeserializer(AppRepresentation.class, new InterfaceDeserializer<>(AppRepresentation.class));
+        addDeserializer(AppResource.class, new InterfaceDeserializer<>(AppResource.class));
+        addDeserializer(AppResourceCatalog.class, new InterfaceDeserializer<>(AppResourceCatalog.class));
+        addDeserializer(AppRoute.class, new InterfaceDeserializer<>(AppRoute.class));
+        addDeserializer(AppStore.class, new InterfaceDeserializer<>(AppStore.class));
+        addDeserializer(AppStoreCatalog.class, new InterfaceDeserializer<>(AppStoreCatalog.class));
+        addDeserializer(AppUnavailableMessage.class, new InterfaceDeserializer<>(AppUnavailableMessage.class));
+        addDeserializer(AppUploadMessage.class, new InterfaceDeserializer<>(AppUploadMessage.class));
+        addDeserializer(AppUploadResponseMessage.class, new InterfaceDeserializer<>(AppUploadResponseMessage.class));
+        addDeserializer(Artifact.class, new InterfaceDeserializer<>(Artifact.class));
+        addDeserializer(ArtifactRequestMessage.class, new InterfaceDeserializer<>(ArtifactRequestMessage.class));
+        addDeserializer(ArtifactResponseMessage.class, new InterfaceDeserializer<>(ArtifactResponseMessage.class));
+        addDeserializer(ArtifactState.class, new InterfaceDeserializer<>(ArtifactState.class));
+        addDeserializer(Asset.class, new InterfaceDeserializer<>(Asset.class));
+        addDeserializer(AssetCollection.class, new InterfaceDeserializer<>(AssetCollection.class));
+        addDeserializer(Audience.class, new InterfaceDeserializer<>(Audience.class));
+        addDeserializer(AudioRepresentation.class, new InterfaceDeserializer<>(AudioRepresentation.class));
+        addDeserializer(AudioResource.class, new InterfaceDeserializer<>(AudioResource.class));
+        addDeserializer(AuditGuarantee.class, new InterfaceDeserializer<>(AuditGuarantee.class));
+        addDeserializer(AuthInfo.class, new InterfaceDeserializer<>(AuthInfo.class));
+        addDeserializer(AuthStandard.class, new InterfaceDeserializer<>(AuthStandard.class));
+        addDeserializer(AuthenticationGuarantee.class, new InterfaceDeserializer<>(AuthenticationGuarantee.class));
+        addDeserializer(BaseConnector.class, new InterfaceDeserializer<>(BaseConnector.class));
+        addDeserializer(BasicAuthentication.class, new InterfaceDeserializer<>(BasicAuthentication.class));
+        addDeserializer(BinaryOperator.class, new InterfaceDeserializer<>(BinaryOperator.class));
+        addDeserializer(BoundingPolygon.class, new InterfaceDeserializer<>(BoundingPolygon.class));
+        addDeserializer(Broker.class, new InterfaceDeserializer<>(Broker.class));
+        addDeserializer(BrokerCatalog.class, new InterfaceDeserializer<>(BrokerCatalog.class));
+        addDeserializer(BusinessIdentifier.class, new InterfaceDeserializer<>(BusinessIdentifier.class));
+        addDeserializer(Catalog.class, new InterfaceDeserializer<>(Catalog.class));
+        addDeserializer(Certification.class, new InterfaceDeserializer<>(Certification.class));
+        addDeserializer(CertificationLevel.class, new InterfaceDeserializer<>(CertificationLevel.class));
+        addDeserializer(ClearingHouse.class, new InterfaceDeserializer<>(ClearingHouse.class));
+        addDeserializer(ClearingHouseCatalog.class, new InterfaceDeserializer<>(ClearingHouseCatalog.class));
+        addDeserializer(CommandMessage.class, new InterfaceDeserializer<>(CommandMessage.class));
+        addDeserializer(ComponentCertification.class, new InterfaceDeserializer<>(ComponentCertification.class));
+        addDeserializer(ComponentCertificationLevel.class, new InterfaceDeserializer<>(ComponentCertificationLevel.class));
+        addDeserializer(Concept.class, new InterfaceDeserializer<>(Concept.class));
+        addDeserializer(ConfigurationModel.class, new InterfaceDeserializer<>(ConfigurationModel.class));
+        addDeserializer(Connector.class, new InterfaceDeserializer<>(Connector.class));
+        addDeserializer(ConnectorCatalog.class, new InterfaceDeserializer<>(ConnectorCatalog.class));
+        addDeserializer(ConnectorCertificateGrantedMessage.class, new InterfaceDeserializer<>(ConnectorCertificateGrantedMessage.class));
+        addDeserializer(ConnectorCertificateRevokedMessage.class, new InterfaceDeserializer<>(ConnectorCertificateRevokedMessage.class));
+        addDeserializer(ConnectorDeployMode.class, new InterfaceDeserializer<>(ConnectorDeployMode.class));
+        addDeserializer(ConnectorEndpoint.class, new InterfaceDeserializer<>(ConnectorEndpoint.class));
+        addDeserializer(ConnectorNotificationMessage.class, new InterfaceDeserializer<>(ConnectorNotificationMessage.class));
+        addDeserializer(ConnectorStatus.class, new InterfaceDeserializer<>(ConnectorStatus.class));
+        addDeserializer(ConnectorUnavailableMessage.class, new InterfaceDeserializer<>(ConnectorUnavailableMessage.class));
+        addDeserializer(ConnectorUpdateMessage.class, new InterfaceDeserializer<>(ConnectorUpdateMessage.class));
+        addDeserializer(ConnectorbasedAgreement.class, new InterfaceDeserializer<>(ConnectorbasedAgreement.class));
+        addDeserializer(ConnectorbasedOffer.class, new InterfaceDeserializer<>(ConnectorbasedOffer.class));
+        addDeserializer(ConnectorbasedRequest.class, new InterfaceDeserializer<>(ConnectorbasedRequest.class));
+        addDeserializer(Constraint.class, new InterfaceDeserializer<>(Constraint.class));
+        addDeserializer(ContentType.class, new InterfaceDeserializer<>(ContentType.class));
+        addDeserializer(Contract.class, new InterfaceDeserializer<>(Contract.class));
+        addDeserializer(ContractAgreement.class, new InterfaceDeserializer<>(ContractAgreement.class));
+        addDeserializer(ContractAgreementMessage.class, new InterfaceDeserializer<>(ContractAgreementMessage.class));
+        addDeserializer(ContractOffer.class, new InterfaceDeserializer<>(ContractOffer.class));
+        addDeserializer(ContractOfferMessage.class, new InterfaceDeserializer<>(ContractOfferMessage.class));
+        addDeserializer(ContractRejectionMessage.class, new InterfaceDeserializer<>(ContractRejectionMessage.class));
+        addDeserializer(ContractRequest.class, new InterfaceDeserializer<>(ContractRequest.class));
+        addDeserializer(ContractRequestMessage.class, new InterfaceDeserializer<>(ContractRequestMessage.class));
+        addDeserializer(ContractResponseMessage.class, new InterfaceDeserializer<>(ContractResponseMessage.class));
+        addDeserializer(ContractSupplementMessage.class, new InterfaceDeserializer<>(ContractSupplementMessage.class));
+        addDeserializer(CustomMediaType.class, new InterfaceDeserializer<>(CustomMediaType.class));
+        addDeserializer(DAPS.class, new InterfaceDeserializer<>(DAPS.class));
+        addDeserializer(DatPayload.class, new InterfaceDeserializer<>(DatPayload.class));
+        addDeserializer(DatRequestPayload.class, new InterfaceDeserializer<>(DatRequestPayload.class));
+        addDeserializer(DataApp.class, new InterfaceDeserializer<>(DataApp.class));
+        addDeserializer(DataRepresentation.class, new InterfaceDeserializer<>(DataRepresentation.class));
+        addDeserializer(DataResource.class, new InterfaceDeserializer<>(DataResource.class));
+        addDeserializer(DeleteAfterIntervalAgreement.class, new InterfaceDeserializer<>(DeleteAfterIntervalAgreement.class));
+        addDeserializer(DeleteAfterIntervalOffer.class, new InterfaceDeserializer<>(DeleteAfterIntervalOffer.class));
+        addDeserializer(DeleteAfterIntervalRequest.class, new InterfaceDeserializer<>(DeleteAfterIntervalRequest.class));
+        addDeserializer(Described.class, new InterfaceDeserializer<>(Described.class));
+        addDeserializer(DescribedSemantically.class, new InterfaceDeserializer<>(DescribedSemantically.class));
+        addDeserializer(DescriptionRequestMessage.class, new InterfaceDeserializer<>(DescriptionRequestMessage.class));
+        addDeserializer(DescriptionResponseMessage.class, new InterfaceDeserializer<>(DescriptionResponseMessage.class));
+        addDeserializer(DigitalContent.class, new InterfaceDeserializer<>(DigitalContent.class));
+        addDeserializer(DistributeEcryptedAgreement.class, new InterfaceDeserializer<>(DistributeEcryptedAgreement.class));
+        addDeserializer(DistributeEcryptedOffer.class, new InterfaceDeserializer<>(DistributeEcryptedOffer.class));
+        addDeserializer(DistributeEcryptedRequest.class, new InterfaceDeserializer<>(DistributeEcryptedRequest.class));
+        addDeserializer(DurationAgreement.class, new InterfaceDeserializer<>(DurationAgreement.class));
+        addDeserializer(DurationEntity.class, new InterfaceDeserializer<>(DurationEntity.class));
+        addDeserializer(DurationOffer.class, new InterfaceDeserializer<>(DurationOffer.class));
+        addDeserializer(DurationRequest.class, new InterfaceDeserializer<>(DurationRequest.class));
+        addDeserializer(Duty.class, new InterfaceDeserializer<>(Duty.class));
+        addDeserializer(DynamicAttributeToken.class, new InterfaceDeserializer<>(DynamicAttributeToken.class));
+        addDeserializer(Endpoint.class, new InterfaceDeserializer<>(Endpoint.class));
+        addDeserializer(EvaluationFacility.class, new InterfaceDeserializer<>(EvaluationFacility.class));
+        addDeserializer(Event.class, new InterfaceDeserializer<>(Event.class));
+        addDeserializer(EventAgreement.class, new InterfaceDeserializer<>(EventAgreement.class));
+        addDeserializer(EventOffer.class, new InterfaceDeserializer<>(EventOffer.class));
+        addDeserializer(EventRequest.class, new InterfaceDeserializer<>(EventRequest.class));
+        addDeserializer(Frequency.class, new InterfaceDeserializer<>(Frequency.class));
+        addDeserializer(GenericEndpoint.class, new InterfaceDeserializer<>(GenericEndpoint.class));
+        addDeserializer(GeoFeature.class, new InterfaceDeserializer<>(GeoFeature.class));
+        addDeserializer(GeoPoint.class, new InterfaceDeserializer<>(GeoPoint.class));
+        addDeserializer(Geometry.class, new InterfaceDeserializer<>(Geometry.class));
+        addDeserializer(HTTPAuthentication.class, new InterfaceDeserializer<>(HTTPAuthentication.class));
+        addDeserializer(IANAMediaType.class, new InterfaceDeserializer<>(IANAMediaType.class));
+        addDeserializer(IdentityProvider.class, new InterfaceDeserializer<>(IdentityProvider.class));
+        addDeserializer(IdsProtocolSpecification.class, new InterfaceDeserializer<>(IdsProtocolSpecification.class));
+        addDeserializer(ImageRepresentation.class, new InterfaceDeserializer<>(ImageRepresentation.class));
+        addDeserializer(ImageResource.class, new InterfaceDeserializer<>(ImageResource.class));
+        addDeserializer(InfrastructureComponent.class, new InterfaceDeserializer<>(InfrastructureComponent.class));
+        addDeserializer(Instant.class, new InterfaceDeserializer<>(Instant.class));
+        addDeserializer(IntegrityGuarantee.class, new InterfaceDeserializer<>(IntegrityGuarantee.class));
+        addDeserializer(IntegrityVerificationScopeGuarantee.class, new InterfaceDeserializer<>(IntegrityVerificationScopeGuarantee.class));
+        addDeserializer(Interval.class, new InterfaceDeserializer<>(Interval.class));
+        addDeserializer(IntervalUsageAgreement.class, new InterfaceDeserializer<>(IntervalUsageAgreement.class));
+        addDeserializer(IntervalUsageOffer.class, new InterfaceDeserializer<>(IntervalUsageOffer.class));
+        addDeserializer(IntervalUsageRequest.class, new InterfaceDeserializer<>(IntervalUsageRequest.class));
+        addDeserializer(InvokeOperationMessage.class, new InterfaceDeserializer<>(InvokeOperationMessage.class));
+        addDeserializer(JwtPayload.class, new InterfaceDeserializer<>(JwtPayload.class));
+        addDeserializer(KeyType.class, new InterfaceDeserializer<>(KeyType.class));
+        addDeserializer(Language.class, new InterfaceDeserializer<>(Language.class));
+        addDeserializer(LeftOperand.class, new InterfaceDeserializer<>(LeftOperand.class));
+        addDeserializer(License.class, new InterfaceDeserializer<>(License.class));
+        addDeserializer(LocalDataConfidentialityGuarantee.class, new InterfaceDeserializer<>(LocalDataConfidentialityGuarantee.class));
+        addDeserializer(Location.class, new InterfaceDeserializer<>(Location.class));
+        addDeserializer(LogLevel.class, new InterfaceDeserializer<>(LogLevel.class));
+        addDeserializer(LogMessage.class, new InterfaceDeserializer<>(LogMessage.class));
+        addDeserializer(LoggingAgreement.class, new InterfaceDeserializer<>(LoggingAgreement.class));
+        addDeserializer(LoggingOffer.class, new InterfaceDeserializer<>(LoggingOffer.class));
+        addDeserializer(LoggingRequest.class, new InterfaceDeserializer<>(LoggingRequest.class));
+        addDeserializer(LogicalConstraint.class, new InterfaceDeserializer<>(LogicalConstraint.class));
+        addDeserializer(ManagedEntity.class, new InterfaceDeserializer<>(ManagedEntity.class));
+        addDeserializer(MediaType.class, new InterfaceDeserializer<>(MediaType.class));
+        addDeserializer(Message.class, new InterfaceDeserializer<>(Message.class));
+        addDeserializer(MessageProcessedNotificationMessage.class, new InterfaceDeserializer<>(MessageProcessedNotificationMessage.class));
+        addDeserializer(Named.class, new InterfaceDeserializer<>(Named.class));
+        addDeserializer(NotMoreThanNAgreement.class, new InterfaceDeserializer<>(NotMoreThanNAgreement.class));
+        addDeserializer(NotMoreThanNOffer.class, new InterfaceDeserializer<>(NotMoreThanNOffer.class));
+        addDeserializer(NotMoreThanNRequest.class, new InterfaceDeserializer<>(NotMoreThanNRequest.class));
+        addDeserializer(NotificationAgreement.class, new InterfaceDeserializer<>(NotificationAgreement.class));
+        addDeserializer(NotificationMessage.class, new InterfaceDeserializer<>(NotificationMessage.class));
+        addDeserializer(NotificationOffer.class, new InterfaceDeserializer<>(NotificationOffer.class));
+        addDeserializer(NotificationRequest.class, new InterfaceDeserializer<>(NotificationRequest.class));
+        addDeserializer(OperationResultMessage.class, new InterfaceDeserializer<>(OperationResultMessage.class));
+        addDeserializer(OrchestrationApp.class, new InterfaceDeserializer<>(OrchestrationApp.class));
+        addDeserializer(PIP.class, new InterfaceDeserializer<>(PIP.class));
+        addDeserializer(PXP.class, new InterfaceDeserializer<>(PXP.class));
+        addDeserializer(ParIS.class, new InterfaceDeserializer<>(ParIS.class));
+        addDeserializer(Participant.class, new InterfaceDeserializer<>(Participant.class));
+        addDeserializer(ParticipantCatalog.class, new InterfaceDeserializer<>(ParticipantCatalog.class));
+        addDeserializer(ParticipantCertificateGrantedMessage.class, new InterfaceDeserializer<>(ParticipantCertificateGrantedMessage.class));
+        addDeserializer(ParticipantCertificateRevokedMessage.class, new InterfaceDeserializer<>(ParticipantCertificateRevokedMessage.class));
+        addDeserializer(ParticipantCertification.class, new InterfaceDeserializer<>(ParticipantCertification.class));
+        addDeserializer(ParticipantCertificationLevel.class, new InterfaceDeserializer<>(ParticipantCertificationLevel.class));
+        addDeserializer(ParticipantNotificationMessage.class, new InterfaceDeserializer<>(ParticipantNotificationMessage.class));
+        addDeserializer(ParticipantRequestMessage.class, new InterfaceDeserializer<>(ParticipantRequestMessage.class));
+        addDeserializer(ParticipantResponseMessage.class, new InterfaceDeserializer<>(ParticipantResponseMessage.class));
+        addDeserializer(ParticipantUnavailableMessage.class, new InterfaceDeserializer<>(ParticipantUnavailableMessage.class));
+        addDeserializer(ParticipantUpdateMessage.class, new InterfaceDeserializer<>(ParticipantUpdateMessage.class));
+        addDeserializer(PaymentModality.class, new InterfaceDeserializer<>(PaymentModality.class));
+        addDeserializer(Permission.class, new InterfaceDeserializer<>(Permission.class));
+        addDeserializer(Person.class, new InterfaceDeserializer<>(Person.class));
+        addDeserializer(Prohibition.class, new InterfaceDeserializer<>(Prohibition.class));
+        addDeserializer(Proxy.class, new InterfaceDeserializer<>(Proxy.class));
+        addDeserializer(PublicKey.class, new InterfaceDeserializer<>(PublicKey.class));
+        addDeserializer(PurposeAgreement.class, new InterfaceDeserializer<>(PurposeAgreement.class));
+        addDeserializer(PurposeOffer.class, new InterfaceDeserializer<>(PurposeOffer.class));
+        addDeserializer(PurposeRequest.class, new InterfaceDeserializer<>(PurposeRequest.class));
+        addDeserializer(QueryLanguage.class, new InterfaceDeserializer<>(QueryLanguage.class));
+        addDeserializer(QueryMessage.class, new InterfaceDeserializer<>(QueryMessage.class));
+        addDeserializer(QueryScope.class, new InterfaceDeserializer<>(QueryScope.class));
+        addDeserializer(QueryTarget.class, new InterfaceDeserializer<>(QueryTarget.class));
+        addDeserializer(RejectionMessage.class, new InterfaceDeserializer<>(RejectionMessage.class));
+        addDeserializer(RejectionReason.class, new InterfaceDeserializer<>(RejectionReason.class));
+        addDeserializer(RentalAgreement.class, new InterfaceDeserializer<>(RentalAgreement.class));
+        addDeserializer(RentalOffer.class, new InterfaceDeserializer<>(RentalOffer.class));
+        addDeserializer(RentalRequest.class, new InterfaceDeserializer<>(RentalRequest.class));
+        addDeserializer(Representation.class, new InterfaceDeserializer<>(Representation.class));
+        addDeserializer(RepresentationInstance.class, new InterfaceDeserializer<>(RepresentationInstance.class));
+        addDeserializer(RequestInProcessMessage.class, new InterfaceDeserializer<>(RequestInProcessMessage.class));
+        addDeserializer(RequestMessage.class, new InterfaceDeserializer<>(RequestMessage.class));
+        addDeserializer(Resource.class, new InterfaceDeserializer<>(Resource.class));
+        addDeserializer(ResourceCatalog.class, new InterfaceDeserializer<>(ResourceCatalog.class));
+        addDeserializer(ResourceNotificationMessage.class, new InterfaceDeserializer<>(ResourceNotificationMessage.class));
+        addDeserializer(ResourceUnavailableMessage.class, new InterfaceDeserializer<>(ResourceUnavailableMessage.class));
+        addDeserializer(ResourceUpdateMessage.class, new InterfaceDeserializer<>(ResourceUpdateMessage.class));
+        addDeserializer(ResponseMessage.class, new InterfaceDeserializer<>(ResponseMessage.class));
+        addDeserializer(ResultMessage.class, new InterfaceDeserializer<>(ResultMessage.class));
+        addDeserializer(RolebasedAgreement.class, new InterfaceDeserializer<>(RolebasedAgreement.class));
+        addDeserializer(RolebasedOffer.class, new InterfaceDeserializer<>(RolebasedOffer.class));
+        addDeserializer(RolebasedRequest.class, new InterfaceDeserializer<>(RolebasedRequest.class));
+        addDeserializer(RouteStep.class, new InterfaceDeserializer<>(RouteStep.class));
+        addDeserializer(Rule.class, new InterfaceDeserializer<>(Rule.class));
+        addDeserializer(SalesAgreement.class, new InterfaceDeserializer<>(SalesAgreement.class));
+        addDeserializer(SalesOffer.class, new InterfaceDeserializer<>(SalesOffer.class));
+        addDeserializer(SalesRequest.class, new InterfaceDeserializer<>(SalesRequest.class));
+        addDeserializer(SecurityAgreement.class, new InterfaceDeserializer<>(SecurityAgreement.class));
+        addDeserializer(SecurityGuarantee.class, new InterfaceDeserializer<>(SecurityGuarantee.class));
+        addDeserializer(SecurityOffer.class, new InterfaceDeserializer<>(SecurityOffer.class));
+        addDeserializer(SecurityProfile.class, new InterfaceDeserializer<>(SecurityProfile.class));
+        addDeserializer(SecurityRequest.class, new InterfaceDeserializer<>(SecurityRequest.class));
+        addDeserializer(ServiceIsolationGuarantee.class, new InterfaceDeserializer<>(ServiceIsolationGuarantee.class));
+        addDeserializer(Site.class, new InterfaceDeserializer<>(Site.class));
+        addDeserializer(SmartDataApp.class, new InterfaceDeserializer<>(SmartDataApp.class));
+        addDeserializer(SoftwareRepresentation.class, new InterfaceDeserializer<>(SoftwareRepresentation.class));
+        addDeserializer(SoftwareResource.class, new InterfaceDeserializer<>(SoftwareResource.class));
+        addDeserializer(SpatialAgreement.class, new InterfaceDeserializer<>(SpatialAgreement.class));
+        addDeserializer(SpatialOffer.class, new InterfaceDeserializer<>(SpatialOffer.class));
+        addDeserializer(SpatialRequest.class, new InterfaceDeserializer<>(SpatialRequest.class));
+        addDeserializer(SwapAgreement.class, new InterfaceDeserializer<>(SwapAgreement.class));
+        addDeserializer(SwapOffer.class, new InterfaceDeserializer<>(SwapOffer.class));
+        addDeserializer(SwapRequest.class, new InterfaceDeserializer<>(SwapRequest.class));
+        addDeserializer(SystemAdapter.class, new InterfaceDeserializer<>(SystemAdapter.class));
+        addDeserializer(TemporalEntity.class, new InterfaceDeserializer<>(TemporalEntity.class));
+        addDeserializer(TextRepresentation.class, new InterfaceDeserializer<>(TextRepresentation.class));
+        addDeserializer(TextResource.class, new InterfaceDeserializer<>(TextResource.class));
+        addDeserializer(Token.class, new InterfaceDeserializer<>(Token.class));
+        addDeserializer(TokenFormat.class, new InterfaceDeserializer<>(TokenFormat.class));
+        addDeserializer(TrustedConnector.class, new InterfaceDeserializer<>(TrustedConnector.class));
+        addDeserializer(UploadMessage.class, new InterfaceDeserializer<>(UploadMessage.class));
+        addDeserializer(UploadResponseMessage.class, new InterfaceDeserializer<>(UploadResponseMessage.class));
+        addDeserializer(UsageControlComponent.class, new InterfaceDeserializer<>(UsageControlComponent.class));
+        addDeserializer(UsageControlGuarantee.class, new InterfaceDeserializer<>(UsageControlGuarantee.class));
+        addDeserializer(UsageControlObject.class, new InterfaceDeserializer<>(UsageControlObject.class));
+        addDeserializer(UsagePolicyClass.class, new InterfaceDeserializer<>(UsagePolicyClass.class));
+        addDeserializer(UserAuthentication.class, new InterfaceDeserializer<>(UserAuthentication.class));
+        addDeserializer(Value.class, new InterfaceDeserializer<>(Value.class));
+        addDeserializer(VideoRepresentation.class, new InterfaceDeserializer<>(VideoRepresentation.class));
+        addDeserializer(VideoResource.class, new InterfaceDeserializer<>(VideoResource.class));
+        addSerializer(AccessTokenRequestMessageImpl.class, new AccessTokenRequestMessageCodec.Serializer());
+        addDeserializer(AccessTokenRequestMessageImpl.class, new AccessTokenRequestMessageCodec.Deserializer());
+        addSerializer(AccessTokenResponseMessageImpl.class, new AccessTokenResponseMessageCodec.Serializer());
+        addDeserializer(AccessTokenResponseMessageImpl.class, new AccessTokenResponseMessageCodec.Deserializer());
+        addSerializer(ActionImpl.class, new ActionCodec.Serializer());
+        addDeserializer(ActionImpl.class, new ActionCodec.Deserializer());
+        addSerializer(AgentImpl.class, new AgentCodec.Serializer());
+        addDeserializer(AgentImpl.class, new AgentCodec.Deserializer());
+        addSerializer(AppAvailableMessageImpl.class, new AppAvailableMessageCodec.Serializer());
+        addDeserializer(AppAvailableMessageImpl.class, new AppAvailableMessageCodec.Deserializer());
+        addSerializer(AppDeleteMessageImpl.class, new AppDeleteMessageCodec.Serializer());
+        addDeserializer(AppDeleteMessageImpl.class, new AppDeleteMessageCodec.Deserializer());
+        addSerializer(AppEndpointImpl.class, new AppEndpointCodec.Serializer());
+        addDeserializer(AppEndpointImpl.class, new AppEndpointCodec.Deserializer());
+        addSerializer(AppEndpointTypeImpl.class, new AppEndpointTypeCodec.Serializer());
+        addDeserializer(AppEndpointTypeImpl.class, new AppEndpointTypeCodec.Deserializer());
+        addSerializer(AppExecutionResourcesImpl.class, new AppExecutionResourcesCodec.Serializer());
+        addDeserializer(AppExecutionResourcesImpl.class, new AppExecutionResourcesCodec.Deserializer());
+        addSerializer(AppRegistrationRequestMessageImpl.class, new AppRegistrationRequestMessageCodec.Serializer());
+        addDeserializer(AppRegistrationRequestMessageImpl.class, new AppRegistrationRequestMessageCodec.Deserializer());
+        addSerializer(AppRegistrationResponseMessageImpl.class, new AppRegistrationResponseMessageCodec.Serializer());
+        addDeserializer(AppRegistrationResponseMessageImpl.class, new AppRegistrationResponseMessageCodec.Deserializer());
+        addSerializer(AppRepresentationImpl.class, new AppRepresentationCodec.Serializer());
+        addDeserializer(AppRepresentationImpl.class, new AppRepresentationCodec.Deserializer());
+        addSerializer(AppResourceCatalogImpl.class, new AppResourceCatalogCodec.Serializer());
+        addDeserializer(AppResourceCatalogImpl.class, new AppResourceCatalogCodec.Deserializer());
+        addSerializer(AppResourceImpl.class, new AppResourceCodec.Serializer());
+        addDeserializer(AppResourceImpl.class, new AppResourceCodec.Deserializer());
+        addSerializer(AppRouteImpl.class, new AppRouteCodec.Serializer());
+        addDeserializer(AppRouteImpl.class, new AppRouteCodec.Deserializer());
+        addSerializer(AppStoreCatalogImpl.class, new AppStoreCatalogCodec.Serializer());
+        addDeserializer(AppStoreCatalogImpl.class, new AppStoreCatalogCodec.Deserializer());
+        addSerializer(AppStoreImpl.class, new AppStoreCodec.Serializer());
+        addDeserializer(AppStoreImpl.class, new AppStoreCodec.Deserializer());
+        addSerializer(AppUnavailableMessageImpl.class, new AppUnavailableMessageCodec.Serializer());
+        addDeserializer(AppUnavailableMessageImpl.class, new AppUnavailableMessageCodec.Deserializer());
+        addSerializer(AppUploadMessageImpl.class, new AppUploadMessageCodec.Serializer());
+        addDeserializer(AppUploadMessageImpl.class, new AppUploadMessageCodec.Deserializer());
+        addSerializer(AppUploadResponseMessageImpl.class, new AppUploadResponseMessageCodec.Serializer());
+        addDeserializer(AppUploadResponseMessageImpl.class, new AppUploadResponseMessageCodec.Deserializer());
+        addSerializer(ArtifactImpl.class, new ArtifactCodec.Serializer());
+        addDeserializer(ArtifactImpl.class, new ArtifactCodec.Deserializer());
+        addSerializer(ArtifactRequestMessageImpl.class, new ArtifactRequestMessageCodec.Serializer());
+        addDeserializer(ArtifactRequestMessageImpl.class, new ArtifactRequestMessageCodec.Deserializer());
+        addSerializer(ArtifactResponseMessageImpl.class, new ArtifactResponseMessageCodec.Serializer());
+        addDeserializer(ArtifactResponseMessageImpl.class, new ArtifactResponseMessageCodec.Deserializer());
+        addSerializer(ArtifactStateImpl.class, new ArtifactStateCodec.Serializer());
+        addDeserializer(ArtifactStateImpl.class, new ArtifactStateCodec.Deserializer());
+        addSerializer(AssetCollectionImpl.class, new AssetCollectionCodec.Serializer());
+        addDeserializer(AssetCollectionImpl.class, new AssetCollectionCodec.Deserializer());
+        addSerializer(AudienceImpl.class, new AudienceCodec.Serializer());
+        addDeserializer(AudienceImpl.class, new AudienceCodec.Deserializer());
+        addSerializer(AudioRepresentationImpl.class, new AudioRepresentationCodec.Serializer());
+        addDeserializer(AudioRepresentationImpl.class, new AudioRepresentationCodec.Deserializer());
+        addSerializer(AudioResourceImpl.class, new AudioResourceCodec.Serializer());
+        addDeserializer(AudioResourceImpl.class, new AudioResourceCodec.Deserializer());
+        addSerializer(AuditGuaranteeImpl.class, new AuditGuaranteeCodec.Serializer());
+        addDeserializer(AuditGuaranteeImpl.class, new AuditGuaranteeCodec.Deserializer());
+        addSerializer(AuthInfoImpl.class, new AuthInfoCodec.Serializer());
+        addDeserializer(AuthInfoImpl.class, new AuthInfoCodec.Deserializer());
+        addSerializer(AuthStandardImpl.class, new AuthStandardCodec.Serializer());
+        addDeserializer(AuthStandardImpl.class, new AuthStandardCodec.Deserializer());
+        addSerializer(AuthenticationGuaranteeImpl.class, new AuthenticationGuaranteeCodec.Serializer());
+        addDeserializer(AuthenticationGuaranteeImpl.class, new AuthenticationGuaranteeCodec.Deserializer());
+        addSerializer(BaseConnectorImpl.class, new BaseConnectorCodec.Serializer());
+        addDeserializer(BaseConnectorImpl.class, new BaseConnectorCodec.Deserializer());
+        addSerializer(BasicAuthenticationImpl.class, new BasicAuthenticationCodec.Serializer());
+        addDeserializer(BasicAuthenticationImpl.class, new BasicAuthenticationCodec.Deserializer());
+        addSerializer(BinaryOperatorImpl.class, new BinaryOperatorCodec.Serializer());
+        addDeserializer(BinaryOperatorImpl.class, new BinaryOperatorCodec.Deserializer());
+        addSerializer(BoundingPolygonImpl.class, new BoundingPolygonCodec.Serializer());
+        addDeserializer(BoundingPolygonImpl.class, new BoundingPolygonCodec.Deserializer());
+        addSerializer(BrokerCatalogImpl.class, new BrokerCatalogCodec.Serializer());
+        addDeserializer(BrokerCatalogImpl.class, new BrokerCatalogCodec.Deserializer());
+        addSerializer(BrokerImpl.class, new BrokerCodec.Serializer());
+        addDeserializer(BrokerImpl.class, new BrokerCodec.Deserializer());
+        addSerializer(BusinessIdentifierImpl.class, new BusinessIdentifierCodec.Serializer());
+        addDeserializer(BusinessIdentifierImpl.class, new BusinessIdentifierCodec.Deserializer());
+        addSerializer(ClearingHouseCatalogImpl.class, new ClearingHouseCatalogCodec.Serializer());
+        addDeserializer(ClearingHouseCatalogImpl.class, new ClearingHouseCatalogCodec.Deserializer());
+        addSerializer(ClearingHouseImpl.class, new ClearingHouseCodec.Serializer());
+        addDeserializer(ClearingHouseImpl.class, new ClearingHouseCodec.Deserializer());
+        addSerializer(CommandMessageImpl.class, new CommandMessageCodec.Serializer());
+        addDeserializer(CommandMessageImpl.class, new CommandMessageCodec.Deserializer());
+        addSerializer(ComponentCertificationImpl.class, new ComponentCertificationCodec.Serializer());
+        addDeserializer(ComponentCertificationImpl.class, new ComponentCertificationCodec.Deserializer());
+        addSerializer(ComponentCertificationLevelImpl.class, new ComponentCertificationLevelCodec.Serializer());
+        addDeserializer(ComponentCertificationLevelImpl.class, new ComponentCertificationLevelCodec.Deserializer());
+        addSerializer(ConfigurationModelImpl.class, new ConfigurationModelCodec.Serializer());
+        addDeserializer(ConfigurationModelImpl.class, new ConfigurationModelCodec.Deserializer());
+        addSerializer(ConnectorCatalogImpl.class, new ConnectorCatalogCodec.Serializer());
+        addDeserializer(ConnectorCatalogImpl.class, new ConnectorCatalogCodec.Deserializer());
+        addSerializer(ConnectorCertificateGrantedMessageImpl.class, new ConnectorCertificateGrantedMessageCodec.Serializer());
+        addDeserializer(ConnectorCertificateGrantedMessageImpl.class, new ConnectorCertificateGrantedMessageCodec.Deserializer());
+        addSerializer(ConnectorCertificateRevokedMessageImpl.class, new ConnectorCertificateRevokedMessageCodec.Serializer());
+        addDeserializer(ConnectorCertificateRevokedMessageImpl.class, new ConnectorCertificateRevokedMessageCodec.Deserializer());
+        addSerializer(ConnectorDeployModeImpl.class, new ConnectorDeployModeCodec.Serializer());
+        addDeserializer(ConnectorDeployModeImpl.class, new ConnectorDeployModeCodec.Deserializer());
+        addSerializer(ConnectorEndpointImpl.class, new ConnectorEndpointCodec.Serializer());
+        addDeserializer(ConnectorEndpointImpl.class, new ConnectorEndpointCodec.Deserializer());
+        addSerializer(ConnectorStatusImpl.class, new ConnectorStatusCodec.Serializer());
+        addDeserializer(ConnectorStatusImpl.class, new ConnectorStatusCodec.Deserializer());
+        addSerializer(ConnectorUnavailableMessageImpl.class, new ConnectorUnavailableMessageCodec.Serializer());
+        addDeserializer(ConnectorUnavailableMessageImpl.class, new ConnectorUnavailableMessageCodec.Deserializer());
+        addSerializer(ConnectorUpdateMessageImpl.class, new ConnectorUpdateMessageCodec.Serializer());
+        addDeserializer(ConnectorUpdateMessageImpl.class, new ConnectorUpdateMessageCodec.Deserializer());
+        addSerializer(ConnectorbasedAgreementImpl.class, new ConnectorbasedAgreementCodec.Serializer());
+        addDeserializer(ConnectorbasedAgreementImpl.class, new ConnectorbasedAgreementCodec.Deserializer());
+        addSerializer(ConnectorbasedOfferImpl.class, new ConnectorbasedOfferCodec.Serializer());
+        addDeserializer(ConnectorbasedOfferImpl.class, new ConnectorbasedOfferCodec.Deserializer());
+        addSerializer(ConnectorbasedRequestImpl.class, new ConnectorbasedRequestCodec.Serializer());
+        addDeserializer(ConnectorbasedRequestImpl.class, new ConnectorbasedRequestCodec.Deserializer());
+        addSerializer(ConstraintImpl.class, new ConstraintCodec.Serializer());
+        addDeserializer(ConstraintImpl.class, new ConstraintCodec.Deserializer());
+        addSerializer(ContentTypeImpl.class, new ContentTypeCodec.Serializer());
+        addDeserializer(ContentTypeImpl.class, new ContentTypeCodec.Deserializer());
+        addSerializer(ContractAgreementImpl.class, new ContractAgreementCodec.Serializer());
+        addDeserializer(ContractAgreementImpl.class, new ContractAgreementCodec.Deserializer());
+        addSerializer(ContractAgreementMessageImpl.class, new ContractAgreementMessageCodec.Serializer());
+        addDeserializer(ContractAgreementMessageImpl.class, new ContractAgreementMessageCodec.Deserializer());
+        addSerializer(ContractOfferImpl.class, new ContractOfferCodec.Serializer());
+        addDeserializer(ContractOfferImpl.class, new ContractOfferCodec.Deserializer());
+        addSerializer(ContractOfferMessageImpl.class, new ContractOfferMessageCodec.Serializer());
+        addDeserializer(ContractOfferMessageImpl.class, new ContractOfferMessageCodec.Deserializer());
+        addSerializer(ContractRejectionMessageImpl.class, new ContractRejectionMessageCodec.Serializer());
+        addDeserializer(ContractRejectionMessageImpl.class, new ContractRejectionMessageCodec.Deserializer());
+        addSerializer(ContractRequestImpl.class, new ContractRequestCodec.Serializer());
+        addDeserializer(ContractRequestImpl.class, new ContractRequestCodec.Deserializer());
+        addSerializer(ContractRequestMessageImpl.class, new ContractRequestMessageCodec.Serializer());
+        addDeserializer(ContractRequestMessageImpl.class, new ContractRequestMessageCodec.Deserializer());
+        addSerializer(ContractResponseMessageImpl.class, new ContractResponseMessageCodec.Serializer());
+        addDeserializer(ContractResponseMessageImpl.class, new ContractResponseMessageCodec.Deserializer());
+        addSerializer(ContractSupplementMessageImpl.class, new ContractSupplementMessageCodec.Serializer());
+        addDeserializer(ContractSupplementMessageImpl.class, new ContractSupplementMessageCodec.Deserializer());
+        addSerializer(CustomMediaTypeImpl.class, new CustomMediaTypeCodec.Serializer());
+        addDeserializer(CustomMediaTypeImpl.class, new CustomMediaTypeCodec.Deserializer());
+        addSerializer(DAPSImpl.class, new DAPSCodec.Serializer());
+        addDeserializer(DAPSImpl.class, new DAPSCodec.Deserializer());
+        addSerializer(DatPayloadImpl.class, new DatPayloadCodec.Serializer());
+        addDeserializer(DatPayloadImpl.class, new DatPayloadCodec.Deserializer());
+        addSerializer(DatRequestPayloadImpl.class, new DatRequestPayloadCodec.Serializer());
+        addDeserializer(DatRequestPayloadImpl.class, new DatRequestPayloadCodec.Deserializer());
+        addSerializer(DataRepresentationImpl.class, new DataRepresentationCodec.Serializer());
+        addDeserializer(DataRepresentationImpl.class, new DataRepresentationCodec.Deserializer());
+        addSerializer(DataResourceImpl.class, new DataResourceCodec.Serializer());
+        addDeserializer(DataResourceImpl.class, new DataResourceCodec.Deserializer());
+        addSerializer(DeleteAfterIntervalAgreementImpl.class, new DeleteAfterIntervalAgreementCodec.Serializer());
+        addDeserializer(DeleteAfterIntervalAgreementImpl.class, new DeleteAfterIntervalAgreementCodec.Deserializer());
+        addSerializer(DeleteAfterIntervalOfferImpl.class, new DeleteAfterIntervalOfferCodec.Serializer());
+        addDeserializer(DeleteAfterIntervalOfferImpl.class, new DeleteAfterIntervalOfferCodec.Deserializer());
+        addSerializer(DeleteAfterIntervalRequestImpl.class, new DeleteAfterIntervalRequestCodec.Serializer());
+        addDeserializer(DeleteAfterIntervalRequestImpl.class, new DeleteAfterIntervalRequestCodec.Deserializer());
+        addSerializer(DescriptionRequestMessageImpl.class, new DescriptionRequestMessageCodec.Serializer());
+        addDeserializer(DescriptionRequestMessageImpl.class, new DescriptionRequestMessageCodec.Deserializer());
+        addSerializer(DescriptionResponseMessageImpl.class, new DescriptionResponseMessageCodec.Serializer());
+        addDeserializer(DescriptionResponseMessageImpl.class, new DescriptionResponseMessageCodec.Deserializer());
+        addSerializer(DistributeEcryptedAgreementImpl.class, new DistributeEcryptedAgreementCodec.Serializer());
+        addDeserializer(DistributeEcryptedAgreementImpl.class, new DistributeEcryptedAgreementCodec.Deserializer());
+        addSerializer(DistributeEcryptedOfferImpl.class, new DistributeEcryptedOfferCodec.Serializer());
+        addDeserializer(DistributeEcryptedOfferImpl.class, new DistributeEcryptedOfferCodec.Deserializer());
+        addSerializer(DistributeEcryptedRequestImpl.class, new DistributeEcryptedRequestCodec.Serializer());
+        addDeserializer(DistributeEcryptedRequestImpl.class, new DistributeEcryptedRequestCodec.Deserializer());
+        addSerializer(DurationAgreementImpl.class, new DurationAgreementCodec.Serializer());
+        addDeserializer(DurationAgreementImpl.class, new DurationAgreementCodec.Deserializer());
+        addSerializer(DurationEntityImpl.class, new DurationEntityCodec.Serializer());
+        addDeserializer(DurationEntityImpl.class, new DurationEntityCodec.Deserializer());
+        addSerializer(DurationOfferImpl.class, new DurationOfferCodec.Serializer());
+        addDeserializer(DurationOfferImpl.class, new DurationOfferCodec.Deserializer());
+        addSerializer(DurationRequestImpl.class, new DurationRequestCodec.Serializer());
+        addDeserializer(DurationRequestImpl.class, new DurationRequestCodec.Deserializer());
+        addSerializer(DutyImpl.class, new DutyCodec.Serializer());
+        addDeserializer(DutyImpl.class, new DutyCodec.Deserializer());
+        addSerializer(DynamicAttributeTokenImpl.class, new DynamicAttributeTokenCodec.Serializer());
+        addDeserializer(DynamicAttributeTokenImpl.class, new DynamicAttributeTokenCodec.Deserializer());
+        addSerializer(EndpointImpl.class, new EndpointCodec.Serializer());
+        addDeserializer(EndpointImpl.class, new EndpointCodec.Deserializer());
+        addSerializer(EvaluationFacilityImpl.class, new EvaluationFacilityCodec.Serializer());
+        addDeserializer(EvaluationFacilityImpl.class, new EvaluationFacilityCodec.Deserializer());
+        addSerializer(EventAgreementImpl.class, new EventAgreementCodec.Serializer());
+        addDeserializer(EventAgreementImpl.class, new EventAgreementCodec.Deserializer());
+        addSerializer(EventImpl.class, new EventCodec.Serializer());
+        addDeserializer(EventImpl.class, new EventCodec.Deserializer());
+        addSerializer(EventOfferImpl.class, new EventOfferCodec.Serializer());
+        addDeserializer(EventOfferImpl.class, new EventOfferCodec.Deserializer());
+        addSerializer(EventRequestImpl.class, new EventRequestCodec.Serializer());
+        addDeserializer(EventRequestImpl.class, new EventRequestCodec.Deserializer());
+        addSerializer(FrequencyImpl.class, new FrequencyCodec.Serializer());
+        addDeserializer(FrequencyImpl.class, new FrequencyCodec.Deserializer());
+        addSerializer(GenericEndpointImpl.class, new GenericEndpointCodec.Serializer());
+        addDeserializer(GenericEndpointImpl.class, new GenericEndpointCodec.Deserializer());
+        addSerializer(GeoFeatureImpl.class, new GeoFeatureCodec.Serializer());
+        addDeserializer(GeoFeatureImpl.class, new GeoFeatureCodec.Deserializer());
+        addSerializer(GeoPointImpl.class, new GeoPointCodec.Serializer());
+        addDeserializer(GeoPointImpl.class, new GeoPointCodec.Deserializer());
+        addSerializer(HTTPAuthenticationImpl.class, new HTTPAuthenticationCodec.Serializer());
+        addDeserializer(HTTPAuthenticationImpl.class, new HTTPAuthenticationCodec.Deserializer());
+        addSerializer(IANAMediaTypeImpl.class, new IANAMediaTypeCodec.Serializer());
+        addDeserializer(IANAMediaTypeImpl.class, new IANAMediaTypeCodec.Deserializer());
+        addSerializer(IdentityProviderImpl.class, new IdentityProviderCodec.Serializer());
+        addDeserializer(IdentityProviderImpl.class, new IdentityProviderCodec.Deserializer());
+        addSerializer(IdsProtocolSpecificationImpl.class, new IdsProtocolSpecificationCodec.Serializer());
+        addDeserializer(IdsProtocolSpecificationImpl.class, new IdsProtocolSpecificationCodec.Deserializer());
+        addSerializer(ImageRepresentationImpl.class, new ImageRepresentationCodec.Serializer());
+        addDeserializer(ImageRepresentationImpl.class, new ImageRepresentationCodec.Deserializer());
+        addSerializer(ImageResourceImpl.class, new ImageResourceCodec.Serializer());
+        addDeserializer(ImageResourceImpl.class, new ImageResourceCodec.Deserializer());
+        addSerializer(InfrastructureComponentImpl.class, new InfrastructureComponentCodec.Serializer());
+        addDeserializer(InfrastructureComponentImpl.class, new InfrastructureComponentCodec.Deserializer());
+        addSerializer(InstantImpl.class, new InstantCodec.Serializer());
+        addDeserializer(InstantImpl.class, new InstantCodec.Deserializer());
+        addSerializer(IntegrityGuaranteeImpl.class, new IntegrityGuaranteeCodec.Serializer());
+        addDeserializer(IntegrityGuaranteeImpl.class, new IntegrityGuaranteeCodec.Deserializer());
+        addSerializer(IntegrityVerificationScopeGuaranteeImpl.class, new IntegrityVerificationScopeGuaranteeCodec.Serializer());
+        addDeserializer(IntegrityVerificationScopeGuaranteeImpl.class, new IntegrityVerificationScopeGuaranteeCodec.Deserializer());
+        addSerializer(IntervalImpl.class, new IntervalCodec.Serializer());
+        addDeserializer(IntervalImpl.class, new IntervalCodec.Deserializer());
+        addSerializer(IntervalUsageAgreementImpl.class, new IntervalUsageAgreementCodec.Serializer());
+        addDeserializer(IntervalUsageAgreementImpl.class, new IntervalUsageAgreementCodec.Deserializer());
+        addSerializer(IntervalUsageOfferImpl.class, new IntervalUsageOfferCodec.Serializer());
+        addDeserializer(IntervalUsageOfferImpl.class, new IntervalUsageOfferCodec.Deserializer());
+        addSerializer(IntervalUsageRequestImpl.class, new IntervalUsageRequestCodec.Serializer());
+        addDeserializer(IntervalUsageRequestImpl.class, new IntervalUsageRequestCodec.Deserializer());
+        addSerializer(InvokeOperationMessageImpl.class, new InvokeOperationMessageCodec.Serializer());
+        addDeserializer(InvokeOperationMessageImpl.class, new InvokeOperationMessageCodec.Deserializer());
+        addSerializer(KeyTypeImpl.class, new KeyTypeCodec.Serializer());
+        addDeserializer(KeyTypeImpl.class, new KeyTypeCodec.Deserializer());
+        addSerializer(LanguageImpl.class, new LanguageCodec.Serializer());
+        addDeserializer(LanguageImpl.class, new LanguageCodec.Deserializer());
+        addSerializer(LeftOperandImpl.class, new LeftOperandCodec.Serializer());
+        addDeserializer(LeftOperandImpl.class, new LeftOperandCodec.Deserializer());
+        addSerializer(LicenseImpl.class, new LicenseCodec.Serializer());
+        addDeserializer(LicenseImpl.class, new LicenseCodec.Deserializer());
+        addSerializer(LocalDataConfidentialityGuaranteeImpl.class, new LocalDataConfidentialityGuaranteeCodec.Serializer());
+        addDeserializer(LocalDataConfidentialityGuaranteeImpl.class, new LocalDataConfidentialityGuaranteeCodec.Deserializer());
+        addSerializer(LogLevelImpl.class, new LogLevelCodec.Serializer());
+        addDeserializer(LogLevelImpl.class, new LogLevelCodec.Deserializer());
+        addSerializer(LogMessageImpl.class, new LogMessageCodec.Serializer());
+        addDeserializer(LogMessageImpl.class, new LogMessageCodec.Deserializer());
+        addSerializer(LoggingAgreementImpl.class, new LoggingAgreementCodec.Serializer());
+        addDeserializer(LoggingAgreementImpl.class, new LoggingAgreementCodec.Deserializer());
+        addSerializer(LoggingOfferImpl.class, new LoggingOfferCodec.Serializer());
+        addDeserializer(LoggingOfferImpl.class, new LoggingOfferCodec.Deserializer());
+        addSerializer(LoggingRequestImpl.class, new LoggingRequestCodec.Serializer());
+        addDeserializer(LoggingRequestImpl.class, new LoggingRequestCodec.Deserializer());
+        addSerializer(LogicalConstraintImpl.class, new LogicalConstraintCodec.Serializer());
+        addDeserializer(LogicalConstraintImpl.class, new LogicalConstraintCodec.Deserializer());
+        addSerializer(MessageProcessedNotificationMessageImpl.class, new MessageProcessedNotificationMessageCodec.Serializer());
+        addDeserializer(MessageProcessedNotificationMessageImpl.class, new MessageProcessedNotificationMessageCodec.Deserializer());
+        addSerializer(NamedImpl.class, new NamedCodec.Serializer());
+        addDeserializer(NamedImpl.class, new NamedCodec.Deserializer());
+        addSerializer(NotMoreThanNAgreementImpl.class, new NotMoreThanNAgreementCodec.Serializer());
+        addDeserializer(NotMoreThanNAgreementImpl.class, new NotMoreThanNAgreementCodec.Deserializer());
+        addSerializer(NotMoreThanNOfferImpl.class, new NotMoreThanNOfferCodec.Serializer());
+        addDeserializer(NotMoreThanNOfferImpl.class, new NotMoreThanNOfferCodec.Deserializer());
+        addSerializer(NotMoreThanNRequestImpl.class, new NotMoreThanNRequestCodec.Serializer());
+        addDeserializer(NotMoreThanNRequestImpl.class, new NotMoreThanNRequestCodec.Deserializer());
+        addSerializer(NotificationAgreementImpl.class, new NotificationAgreementCodec.Serializer());
+        addDeserializer(NotificationAgreementImpl.class, new NotificationAgreementCodec.Deserializer());
+        addSerializer(NotificationMessageImpl.class, new NotificationMessageCodec.Serializer());
+        addDeserializer(NotificationMessageImpl.class, new NotificationMessageCodec.Deserializer());
+        addSerializer(NotificationOfferImpl.class, new NotificationOfferCodec.Serializer());
+        addDeserializer(NotificationOfferImpl.class, new NotificationOfferCodec.Deserializer());
+        addSerializer(NotificationRequestImpl.class, new NotificationRequestCodec.Serializer());
+        addDeserializer(NotificationRequestImpl.class, new NotificationRequestCodec.Deserializer());
+        addSerializer(OperationResultMessageImpl.class, new OperationResultMessageCodec.Serializer());
+        addDeserializer(OperationResultMessageImpl.class, new OperationResultMessageCodec.Deserializer());
+        addSerializer(OrchestrationAppImpl.class, new OrchestrationAppCodec.Serializer());
+        addDeserializer(OrchestrationAppImpl.class, new OrchestrationAppCodec.Deserializer());
+        addSerializer(PIPImpl.class, new PIPCodec.Serializer());
+        addDeserializer(PIPImpl.class, new PIPCodec.Deserializer());
+        addSerializer(PXPImpl.class, new PXPCodec.Serializer());
+        addDeserializer(PXPImpl.class, new PXPCodec.Deserializer());
+        addSerializer(ParISImpl.class, new ParISCodec.Serializer());
+        addDeserializer(ParISImpl.class, new ParISCodec.Deserializer());
+        addSerializer(ParticipantCatalogImpl.class, new ParticipantCatalogCodec.Serializer());
+        addDeserializer(ParticipantCatalogImpl.class, new ParticipantCatalogCodec.Deserializer());
+        addSerializer(ParticipantCertificateGrantedMessageImpl.class, new ParticipantCertificateGrantedMessageCodec.Serializer());
+        addDeserializer(ParticipantCertificateGrantedMessageImpl.class, new ParticipantCertificateGrantedMessageCodec.Deserializer());
+        addSerializer(ParticipantCertificateRevokedMessageImpl.class, new ParticipantCertificateRevokedMessageCodec.Serializer());
+        addDeserializer(ParticipantCertificateRevokedMessageImpl.class, new ParticipantCertificateRevokedMessageCodec.Deserializer());
+        addSerializer(ParticipantCertificationImpl.class, new ParticipantCertificationCodec.Serializer());
+        addDeserializer(ParticipantCertificationImpl.class, new ParticipantCertificationCodec.Deserializer());
+        addSerializer(ParticipantCertificationLevelImpl.class, new ParticipantCertificationLevelCodec.Serializer());
+        addDeserializer(ParticipantCertificationLevelImpl.class, new ParticipantCertificationLevelCodec.Deserializer());
+        addSerializer(ParticipantImpl.class, new ParticipantCodec.Serializer());
+        addDeserializer(ParticipantImpl.class, new ParticipantCodec.Deserializer());
+        addSerializer(ParticipantRequestMessageImpl.class, new ParticipantRequestMessageCodec.Serializer());
+        addDeserializer(ParticipantRequestMessageImpl.class, new ParticipantRequestMessageCodec.Deserializer());
+        addSerializer(ParticipantResponseMessageImpl.class, new ParticipantResponseMessageCodec.Serializer());
+        addDeserializer(ParticipantResponseMessageImpl.class, new ParticipantResponseMessageCodec.Deserializer());
+        addSerializer(ParticipantUnavailableMessageImpl.class, new ParticipantUnavailableMessageCodec.Serializer());
+        addDeserializer(ParticipantUnavailableMessageImpl.class, new ParticipantUnavailableMessageCodec.Deserializer());
+        addSerializer(ParticipantUpdateMessageImpl.class, new ParticipantUpdateMessageCodec.Serializer());
+        addDeserializer(ParticipantUpdateMessageImpl.class, new ParticipantUpdateMessageCodec.Deserializer());
+        addSerializer(PaymentModalityImpl.class, new PaymentModalityCodec.Serializer());
+        addDeserializer(PaymentModalityImpl.class, new PaymentModalityCodec.Deserializer());
+        addSerializer(PermissionImpl.class, new PermissionCodec.Serializer());
+        addDeserializer(PermissionImpl.class, new PermissionCodec.Deserializer());
+        addSerializer(PersonImpl.class, new PersonCodec.Serializer());
+        addDeserializer(PersonImpl.class, new PersonCodec.Deserializer());
+        addSerializer(ProhibitionImpl.class, new ProhibitionCodec.Serializer());
+        addDeserializer(ProhibitionImpl.class, new ProhibitionCodec.Deserializer());
+        addSerializer(ProxyImpl.class, new ProxyCodec.Serializer());
+        addDeserializer(ProxyImpl.class, new ProxyCodec.Deserializer());
+        addSerializer(PublicKeyImpl.class, new PublicKeyCodec.Serializer());
+        addDeserializer(PublicKeyImpl.class, new PublicKeyCodec.Deserializer());
+        addSerializer(PurposeAgreementImpl.class, new PurposeAgreementCodec.Serializer());
+        addDeserializer(PurposeAgreementImpl.class, new PurposeAgreementCodec.Deserializer());
+        addSerializer(PurposeOfferImpl.class, new PurposeOfferCodec.Serializer());
+        addDeserializer(PurposeOfferImpl.class, new PurposeOfferCodec.Deserializer());
+        addSerializer(PurposeRequestImpl.class, new PurposeRequestCodec.Serializer());
+        addDeserializer(PurposeRequestImpl.class, new PurposeRequestCodec.Deserializer());
+        addSerializer(QueryLanguageImpl.class, new QueryLanguageCodec.Serializer());
+        addDeserializer(QueryLanguageImpl.class, new QueryLanguageCodec.Deserializer());
+        addSerializer(QueryMessageImpl.class, new QueryMessageCodec.Serializer());
+        addDeserializer(QueryMessageImpl.class, new QueryMessageCodec.Deserializer());
+        addSerializer(QueryScopeImpl.class, new QueryScopeCodec.Serializer());
+        addDeserializer(QueryScopeImpl.class, new QueryScopeCodec.Deserializer());
+        addSerializer(QueryTargetImpl.class, new QueryTargetCodec.Serializer());
+        addDeserializer(QueryTargetImpl.class, new QueryTargetCodec.Deserializer());
+        addSerializer(RejectionMessageImpl.class, new RejectionMessageCodec.Serializer());
+        addDeserializer(RejectionMessageImpl.class, new RejectionMessageCodec.Deserializer());
+        addSerializer(RejectionReasonImpl.class, new RejectionReasonCodec.Serializer());
+        addDeserializer(RejectionReasonImpl.class, new RejectionReasonCodec.Deserializer());
+        addSerializer(RentalAgreementImpl.class, new RentalAgreementCodec.Serializer());
+        addDeserializer(RentalAgreementImpl.class, new RentalAgreementCodec.Deserializer());
+        addSerializer(RentalOfferImpl.class, new RentalOfferCodec.Serializer());
+        addDeserializer(RentalOfferImpl.class, new RentalOfferCodec.Deserializer());
+        addSerializer(RentalRequestImpl.class, new RentalRequestCodec.Serializer());
+        addDeserializer(RentalRequestImpl.class, new RentalRequestCodec.Deserializer());
+        addSerializer(RepresentationImpl.class, new RepresentationCodec.Serializer());
+        addDeserializer(RepresentationImpl.class, new RepresentationCodec.Deserializer());
+        addSerializer(RequestInProcessMessageImpl.class, new RequestInProcessMessageCodec.Serializer());
+        addDeserializer(RequestInProcessMessageImpl.class, new RequestInProcessMessageCodec.Deserializer());
+        addSerializer(RequestMessageImpl.class, new RequestMessageCodec.Serializer());
+        addDeserializer(RequestMessageImpl.class, new RequestMessageCodec.Deserializer());
+        addSerializer(ResourceCatalogImpl.class, new ResourceCatalogCodec.Serializer());
+        addDeserializer(ResourceCatalogImpl.class, new ResourceCatalogCodec.Deserializer());
+        addSerializer(ResourceImpl.class, new ResourceCodec.Serializer());
+        addDeserializer(ResourceImpl.class, new ResourceCodec.Deserializer());
+        addSerializer(ResourceUnavailableMessageImpl.class, new ResourceUnavailableMessageCodec.Serializer());
+        addDeserializer(ResourceUnavailableMessageImpl.class, new ResourceUnavailableMessageCodec.Deserializer());
+        addSerializer(ResourceUpdateMessageImpl.class, new ResourceUpdateMessageCodec.Serializer());
+        addDeserializer(ResourceUpdateMessageImpl.class, new ResourceUpdateMessageCodec.Deserializer());
+        addSerializer(ResponseMessageImpl.class, new ResponseMessageCodec.Serializer());
+        addDeserializer(ResponseMessageImpl.class, new ResponseMessageCodec.Deserializer());
+        addSerializer(ResultMessageImpl.class, new ResultMessageCodec.Serializer());
+        addDeserializer(ResultMessageImpl.class, new ResultMessageCodec.Deserializer());
+        addSerializer(RolebasedAgreementImpl.class, new RolebasedAgreementCodec.Serializer());
+        addDeserializer(RolebasedAgreementImpl.class, new RolebasedAgreementCodec.Deserializer());
+        addSerializer(RolebasedOfferImpl.class, new RolebasedOfferCodec.Serializer());
+        addDeserializer(RolebasedOfferImpl.class, new RolebasedOfferCodec.Deserializer());
+        addSerializer(RolebasedRequestImpl.class, new RolebasedRequestCodec.Serializer());
+        addDeserializer(RolebasedRequestImpl.class, new RolebasedRequestCodec.Deserializer());
+        addSerializer(RouteStepImpl.class, new RouteStepCodec.Serializer());
+        addDeserializer(RouteStepImpl.class, new RouteStepCodec.Deserializer());
+        addSerializer(SalesAgreementImpl.class, new SalesAgreementCodec.Serializer());
+        addDeserializer(SalesAgreementImpl.class, new SalesAgreementCodec.Deserializer());
+        addSerializer(SalesOfferImpl.class, new SalesOfferCodec.Serializer());
+        addDeserializer(SalesOfferImpl.class, new SalesOfferCodec.Deserializer());
+        addSerializer(SalesRequestImpl.class, new SalesRequestCodec.Serializer());
+        addDeserializer(SalesRequestImpl.class, new SalesRequestCodec.Deserializer());
+        addSerializer(SecurityAgreementImpl.class, new SecurityAgreementCodec.Serializer());
+        addDeserializer(SecurityAgreementImpl.class, new SecurityAgreementCodec.Deserializer());
+        addSerializer(SecurityGuaranteeImpl.class, new SecurityGuaranteeCodec.Serializer());
+        addDeserializer(SecurityGuaranteeImpl.class, new SecurityGuaranteeCodec.Deserializer());
+        addSerializer(SecurityOfferImpl.class, new SecurityOfferCodec.Serializer());
+        addDeserializer(SecurityOfferImpl.class, new SecurityOfferCodec.Deserializer());
+        addSerializer(SecurityProfileImpl.class, new SecurityProfileCodec.Serializer());
+        addDeserializer(SecurityProfileImpl.class, new SecurityProfileCodec.Deserializer());
+        addSerializer(SecurityRequestImpl.class, new SecurityRequestCodec.Serializer());
+        addDeserializer(SecurityRequestImpl.class, new SecurityRequestCodec.Deserializer());
+        addSerializer(ServiceIsolationGuaranteeImpl.class, new ServiceIsolationGuaranteeCodec.Serializer());
+        addDeserializer(ServiceIsolationGuaranteeImpl.class, new ServiceIsolationGuaranteeCodec.Deserializer());
+        addSerializer(SiteImpl.class, new SiteCodec.Serializer());
+        addDeserializer(SiteImpl.class, new SiteCodec.Deserializer());
+        addSerializer(SmartDataAppImpl.class, new SmartDataAppCodec.Serializer());
+        addDeserializer(SmartDataAppImpl.class, new SmartDataAppCodec.Deserializer());
+        addSerializer(SoftwareRepresentationImpl.class, new SoftwareRepresentationCodec.Serializer());
+        addDeserializer(SoftwareRepresentationImpl.class, new SoftwareRepresentationCodec.Deserializer());
+        addSerializer(SoftwareResourceImpl.class, new SoftwareResourceCodec.Serializer());
+        addDeserializer(SoftwareResourceImpl.class, new SoftwareResourceCodec.Deserializer());
+        addSerializer(SpatialAgreementImpl.class, new SpatialAgreementCodec.Serializer());
+        addDeserializer(SpatialAgreementImpl.class, new SpatialAgreementCodec.Deserializer());
+        addSerializer(SpatialOfferImpl.class, new SpatialOfferCodec.Serializer());
+        addDeserializer(SpatialOfferImpl.class, new SpatialOfferCodec.Deserializer());
+        addSerializer(SpatialRequestImpl.class, new SpatialRequestCodec.Serializer());
+        addDeserializer(SpatialRequestImpl.class, new SpatialRequestCodec.Deserializer());
+        addSerializer(SwapAgreementImpl.class, new SwapAgreementCodec.Serializer());
+        addDeserializer(SwapAgreementImpl.class, new SwapAgreementCodec.Deserializer());
+        addSerializer(SwapOfferImpl.class, new SwapOfferCodec.Serializer());
+        addDeserializer(SwapOfferImpl.class, new SwapOfferCodec.Deserializer());
+        addSerializer(SwapRequestImpl.class, new SwapRequestCodec.Serializer());
+        addDeserializer(SwapRequestImpl.class, new SwapRequestCodec.Deserializer());
+        addSerializer(SystemAdapterImpl.class, new SystemAdapterCodec.Serializer());
+        addDeserializer(SystemAdapterImpl.class, new SystemAdapterCodec.Deserializer());
+        addSerializer(TemporalEntityImpl.class, new TemporalEntityCodec.Serializer());
+        addDeserializer(TemporalEntityImpl.class, new TemporalEntityCodec.Deserializer());
+        addSerializer(TextRepresentationImpl.class, new TextRepresentationCodec.Serializer());
+        addDeserializer(TextRepresentationImpl.class, new TextRepresentationCodec.Deserializer());
+        addSerializer(TextResourceImpl.class, new TextResourceCodec.Serializer());
+        addDeserializer(TextResourceImpl.class, new TextResourceCodec.Deserializer());
+        addSerializer(TokenFormatImpl.class, new TokenFormatCodec.Serializer());
+        addDeserializer(TokenFormatImpl.class, new TokenFormatCodec.Deserializer());
+        addSerializer(TokenImpl.class, new TokenCodec.Serializer());
+        addDeserializer(TokenImpl.class, new TokenCodec.Deserializer());
+        addSerializer(TrustedConnectorImpl.class, new TrustedConnectorCodec.Serializer());
+        addDeserializer(TrustedConnectorImpl.class, new TrustedConnectorCodec.Deserializer());
+        addSerializer(UploadMessageImpl.class, new UploadMessageCodec.Serializer());
+        addDeserializer(UploadMessageImpl.class, new UploadMessageCodec.Deserializer());
+        addSerializer(UploadResponseMessageImpl.class, new UploadResponseMessageCodec.Serializer());
+        addDeserializer(UploadResponseMessageImpl.class, new UploadResponseMessageCodec.Deserializer());
+        addSerializer(UsageControlComponentImpl.class, new UsageControlComponentCodec.Serializer());
+        addDeserializer(UsageControlComponentImpl.class, new UsageControlComponentCodec.Deserializer());
+        addSerializer(UsageControlGuaranteeImpl.class, new UsageControlGuaranteeCodec.Serializer());
+        addDeserializer(UsageControlGuaranteeImpl.class, new UsageControlGuaranteeCodec.Deserializer());
+        addSerializer(UsageControlObjectImpl.class, new UsageControlObjectCodec.Serializer());
+        addDeserializer(UsageControlObjectImpl.class, new UsageControlObjectCodec.Deserializer());
+        addSerializer(UsagePolicyClassImpl.class, new UsagePolicyClassCodec.Serializer());
+        addDeserializer(UsagePolicyClassImpl.class, new UsagePolicyClassCodec.Deserializer());
+        addSerializer(ValueImpl.class, new ValueCodec.Serializer());
+        addDeserializer(ValueImpl.class, new ValueCodec.Deserializer());
+        addSerializer(VideoRepresentationImpl.class, new VideoRepresentationCodec.Serializer());
+        addDeserializer(VideoRepresentationImpl.class, new VideoRepresentationCodec.Deserializer());
+        addSerializer(VideoResourceImpl.class, new VideoResourceCodec.Serializer());
+        addDeserializer(VideoResourceImpl.class, new VideoResourceCodec.Deserializer());
+    }
+
+}
@@ -0,0 +1,237 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:ConfigurationModel.
+ */
+public final class ConfigurationModelCodec {
+
+    private ConfigurationModelCodec() {}
+
+    public static class Serializer extends ModelSerializer<ConfigurationModel> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(ConfigurationModel.class, "ids:ConfigurationModel");
+        }
+
+        @Override
+        protected void serializeProperties(ConfigurationModel value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValues(gen, provider, "ids:appRoute", value.getAppRoute());
+            writeValue(gen, provider, "ids:configurationModelLogLevel", value.getConfigurationModelLogLevel());
+            writeValue(gen, provider, "ids:configuredAppResource", value.getConfiguredAppResource());
+            writeValue(gen, provider, "ids:configuredAppStore", value.getConfiguredAppStore());
+            writeValue(gen, provider, "ids:configuredBroker", value.getConfiguredBroker());
+            writeValue(gen, provider, "ids:configuredClearingHouse", value.getConfiguredClearingHouse());
+            writeValue(gen, provider, "ids:connectorDeployMode", value.getConnectorDeployMode());
+            writeValue(gen, provider, "ids:connectorDescription", value.getConnectorDescription());
+            writeValues(gen, provider, "ids:connectorProxy", value.getConnectorProxy());
+            writeValue(gen, provider, "ids:connectorStatus", value.getConnectorStatus());
+            writeUri(gen, "ids:keyStore", value.getKeyStore());
+            writeValue(gen, provider, "ids:keyStoreAlias", value.getKeyStoreAlias());
+            writeValue(gen, provider, "ids:keyStorePassword", value.getKeyStorePassword());
+            writeUri(gen, "ids:trustStore", value.getTrustStore());
+            writeValue(gen, provider, "ids:trustStoreAlias", value.getTrustStoreAlias());
+            writeValue(gen, provider, "ids:trustStorePassword", value.getTrustStorePassword());
+            writeValues(gen, provider, "ids:userAuthentication", value.getUserAuthentication());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<ConfigurationModelImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(ConfigurationModelImpl.class);
+        }
+
+        @Override
+        protected ConfigurationModelImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id,
+            String field)
+            throws IOException {
+            List<AppRoute> _appRoute = null;
+            LogLevel _configurationModelLogLevel = null;
+            AppResourceCatalog _configuredAppResource = null;
+            AppStoreCatalog _configuredAppStore = null;
+            BrokerCatalog _configuredBroker = null;
+            ClearingHouseCatalog _configuredClearingHouse = null;
+            ConnectorDeployMode _connectorDeployMode = null;
+            Connector _connectorDescription = null;
+            List<Proxy> _connectorProxy = null;
+            ConnectorStatus _connectorStatus = null;
+            URI _keyStore = null;
+            String _keyStoreAlias = null;
+            String _keyStorePassword = null;
+            URI _trustStore = null;
+            String _trustStoreAlias = null;
+            String _trustStorePassword = null;
+            List<UserAuthentication> _userAuthentication = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:appRoute":
+                    case "https://w3id.org/idsa/core/appRoute":
+                    case "appRoute":
+                        _appRoute = readObjects(p, ctxt, AppRoute.class);
+                        break;
+                    case "ids:configurationModelLogLevel":
+                    case "https://w3id.org/idsa/core/configurationModelLogLevel":
+                    case "configurationModelLogLevel":
+                        _configurationModelLogLevel = readObject(p, ctxt, LogLevel.class);
+                        break;
+                    case "ids:configuredAppResource":
+                    case "https://w3id.org/idsa/core/configuredAppResource":
+                    case "configuredAppResource":
+                        _configuredAppResource = readObject(p, ctxt, AppResourceCatalog.class);
+                        break;
+                    case "ids:configuredAppStore":
+                    case "https://w3id.org/idsa/core/configuredAppStore":
+                    case "configuredAppStore":
+                        _configuredAppStore = readObject(p, ctxt, AppStoreCatalog.class);
+                        break;
+                    case "ids:configuredBroker":
+                    case "https://w3id.org/idsa/core/configuredBroker":
+                    case "configuredBroker":
+                        _configuredBroker = readObject(p, ctxt, BrokerCatalog.class);
+                        break;
+                    case "ids:configuredClearingHouse":
+                    case "https://w3id.org/idsa/core/configuredClearingHouse":
+                    case "configuredClearingHouse":
+                        _configuredClearingHouse = readObject(p, ctxt, ClearingHouseCatalog.class);
+                        break;
+                    case "ids:connectorDeployMode":
+                    case "https://w3id.org/idsa/core/connectorDeployMode":
+                    case "connectorDeployMode":
+                        _connectorDeployMode = readObject(p, ctxt, ConnectorDeployMode.class);
+                        break;
+                    case "ids:connectorDescription":
+                    case "https://w3id.org/idsa/core/connectorDescription":
+                    case "connectorDescription":
+                        _connectorDescription = readObject(p, ctxt, Connector.class);
+                        break;
+                    case "ids:connectorProxy":
+                    case "https://w3id.org/idsa/core/connectorProxy":
+                    case "connectorProxy":
+                        _connectorProxy = readObjects(p, ctxt, Proxy.class);
+                        break;
+                    case "ids:connectorStatus":
+                    case "https://w3id.org/idsa/core/connectorStatus":
+                    case "connectorStatus":
+                        _connectorStatus = readObject(p, ctxt, ConnectorStatus.class);
+                        break;
+                    case "ids:keyStore":
+                    case "https://w3id.org/idsa/core/keyStore":
+                    case "keyStore":
+                        _keyStore = readUri(p, ctxt);
+                        break;
+                    case "ids:keyStoreAlias":
+                    case "https://w3id.org/idsa/core/keyStoreAlias":
+                    case "keyStoreAlias":
+                        _keyStoreAlias = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:keyStorePassword":
+                    case "https://w3id.org/idsa/core/keyStorePassword":
+                    case "keyStorePassword":
+                        _keyStorePassword = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:trustStore":
+                    case "https://w3id.org/idsa/core/trustStore":
+                    case "trustStore":
+                        _trustStore = readUri(p, ctxt);
+                        break;
+                    case "ids:trustStoreAlias":
+                    case "https://w3id.org/idsa/core/trustStoreAlias":
+                    case "trustStoreAlias":
+                        _trustStoreAlias = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:trustStorePassword":
+                    case "https://w3id.org/idsa/core/trustStorePassword":
+                    case "trustStorePassword":
+                        _trustStorePassword = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:userAuthentication":
+                    case "https://w3id.org/idsa/core/userAuthentication":
+                    case "userAuthentication":
+                        _userAuthentication = readObjects(p, ctxt, UserAuthentication.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            ConfigurationModelBuilder builder =
+                id != null ? new ConfigurationModelBuilder(id) : new ConfigurationModelBuilder();
+            if (_appRoute != null) {
+                builder._appRoute_(_appRoute);
+            }
+            if (_configurationModelLogLevel != null) {
+                builder._configurationModelLogLevel_(_configurationModelLogLevel);
+            }
+            if (_configuredAppResource != null) {
+                builder._configuredAppResource_(_configuredAppResource);
+            }
+            if (_configuredAppStore != null) {
+                builder._configuredAppStore_(_configuredAppStore);
+            }
+            if (_configuredBroker != null) {
+                builder._configuredBroker_(_configuredBroker);
+            }
+            if (_configuredClearingHouse != null) {
+                builder._configuredClearingHouse_(_configuredClearingHouse);
+            }
+            if (_connectorDeployMode != null) {
+                builder._connectorDeployMode_(_connectorDeployMode);
+            }
+            if (_connectorDescription != null) {
+                builder._connectorDescription_(_connectorDescription);
+            }
+            if (_connectorProxy != null) {
+                builder._connectorProxy_(_connectorProxy);
+            }
+            if (_connectorStatus != null) {
+                builder._connectorStatus_(_connectorStatus);
+            }
+            if (_keyStore != null) {
+                builder._keyStore_(_keyStore);
+            }
+            if (_keyStoreAlias != null) {
+                builder._keyStoreAlias_(_keyStoreAlias);
+            }
+            if (_keyStorePassword != null) {
+                builder._keyStorePassword_(_keyStorePassword);
+            }
+            if (_trustStore != null) {
+                builder._trustStore_(_trustStore);
+            }
+            if (_trustStoreAlias != null) {
+                builder._trustStoreAlias_(_trustStoreAlias);
+            }
+            if (_trustStorePassword != null) {
+                builder._trustStorePassword_(_trustStorePassword);
+            }
+            if (_userAuthentication != null) {
+                builder._userAuthentication_(_userAuthentication);
+            }
+            return withProperties((ConfigurationModelImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
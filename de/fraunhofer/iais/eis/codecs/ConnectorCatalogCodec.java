@@ -0,0 +1,77 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:ConnectorCatalog.
+ */
+public final class ConnectorCatalogCodec {
+
+    private ConnectorCatalogCodec() {}
+
+    public static class Serializer extends ModelSerializer<ConnectorCatalog> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(ConnectorCatalog.class, "ids:ConnectorCatalog");
+        }
+
+        @Override
+        protected void serializeProperties(ConnectorCatalog value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValues(gen, provider, "ids:listedConnector", value.getListedConnector());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<ConnectorCatalogImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(ConnectorCatalogImpl.class);
+        }
+
+        @Override
+        protected ConnectorCatalogImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id,
+            String field)
+            throws IOException {
+            List<Connector> _listedConnector = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:listedConnector":
+                    case "https://w3id.org/idsa/core/listedConnector":
+                    case "listedConnector":
+                        _listedConnector = readObjects(p, ctxt, Connector.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            ConnectorCatalogBuilder builder =
+                id != null ? new ConnectorCatalogBuilder(id) : new ConnectorCatalogBuilder();
+            if (_listedConnector != null) {
+                builder._listedConnector_(_listedConnector);
+            }
+            return withProperties((ConnectorCatalogImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,66 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:ConnectorDeployMode.
+ */
+public final class ConnectorDeployModeCodec {
+
+    private ConnectorDeployModeCodec() {}
+
+    public static class Serializer extends ModelSerializer<ConnectorDeployMode> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(ConnectorDeployMode.class, "ids:ConnectorDeployMode");
+        }
+
+        @Override
+        protected void serializeProperties(ConnectorDeployMode value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<ConnectorDeployModeImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(ConnectorDeployModeImpl.class);
+        }
+
+        @Override
+        protected ConnectorDeployModeImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id,
+            String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            ConnectorDeployModeBuilder builder =
+                id != null ? new ConnectorDeployModeBuilder(id) : new ConnectorDeployModeBuilder();
+            return withProperties((ConnectorDeployModeImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,65 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:ConnectorStatus.
+ */
+public final class ConnectorStatusCodec {
+
+    private ConnectorStatusCodec() {}
+
+    public static class Serializer extends ModelSerializer<ConnectorStatus> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(ConnectorStatus.class, "ids:ConnectorStatus");
+        }
+
+        @Override
+        protected void serializeProperties(ConnectorStatus value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<ConnectorStatusImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(ConnectorStatusImpl.class);
+        }
+
+        @Override
+        protected ConnectorStatusImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            ConnectorStatusBuilder builder =
+                id != null ? new ConnectorStatusBuilder(id) : new ConnectorStatusBuilder();
+            return withProperties((ConnectorStatusImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
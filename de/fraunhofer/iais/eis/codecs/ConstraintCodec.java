@@ -0,0 +1,126 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+import de.fraunhofer.iais.eis.util.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:Constraint.
+ */
+public final class ConstraintCodec {
+
+    private ConstraintCodec() {}
+
+    public static class Serializer extends ModelSerializer<Constraint> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(Constraint.class, "ids:Constraint");
+        }
+
+        @Override
+        protected void serializeProperties(Constraint value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValue(gen, provider, "ids:leftOperand", value.getLeftOperand());
+            writeValue(gen, provider, "ids:operator", value.getOperator());
+            writeValue(gen, provider, "ids:pipEndpoint", value.getPipEndpoint());
+            writeValue(gen, provider, "ids:rightOperand", value.getRightOperand());
+            writeUri(gen, "ids:rightOperandReference", value.getRightOperandReference());
+            writeUri(gen, "ids:unit", value.getUnit());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<ConstraintImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(ConstraintImpl.class);
+        }
+
+        @Override
+        protected ConstraintImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            LeftOperand _leftOperand = null;
+            BinaryOperator _operator = null;
+            PIP _pipEndpoint = null;
+            RdfResource _rightOperand = null;
+            URI _rightOperandReference = null;
+            URI _unit = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:leftOperand":
+                    case "https://w3id.org/idsa/core/leftOperand":
+                    case "leftOperand":
+                        _leftOperand = readObject(p, ctxt, LeftOperand.class);
+                        break;
+                    case "ids:operator":
+                    case "https://w3id.org/idsa/core/operator":
+                    case "operator":
+                        _operator = readObject(p, ctxt, BinaryOperator.class);
+                        break;
+                    case "ids:pipEndpoint":
+                    case "https://w3id.org/idsa/core/pipEndpoint":
+                    case "pipEndpoint":
+                        _pipEndpoint = readObject(p, ctxt, PIP.class);
+                        break;
+                    case "ids:rightOperand":
+                    case "https://w3id.org/idsa/core/rightOperand":
+                    case "rightOperand":
+                        _rightOperand = readValue(p, ctxt, RdfResource.class);
+                        break;
+                    case "ids:rightOperandReference":
+                    case "https://w3id.org/idsa/core/rightOperandReference":
+                    case "rightOperandReference":
+                        _rightOperandReference = readUri(p, ctxt);
+                        break;
+                    case "ids:unit":
+                    case "https://w3id.org/idsa/core/unit":
+                    case "unit":
+                        _unit = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            ConstraintBuilder builder =
+                id != null ? new ConstraintBuilder(id) : new ConstraintBuilder();
+            if (_leftOperand != null) {
+                builder._leftOperand_(_leftOperand);
+            }
+            if (_operator != null) {
+                builder._operator_(_operator);
+            }
+            if (_pipEndpoint != null) {
+                builder._pipEndpoint_(_pipEndpoint);
+            }
+            if (_rightOperand != null) {
+                builder._rightOperand_(_rightOperand);
+            }
+            if (_rightOperandReference != null) {
+                builder._rightOperandReference_(_rightOperandReference);
+            }
+            if (_unit != null) {
+                builder._unit_(_unit);
+            }
+            return withProperties((ConstraintImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,65 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:ContentType.
+ */
+public final class ContentTypeCodec {
+
+    private ContentTypeCodec() {}
+
+    public static class Serializer extends ModelSerializer<ContentType> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(ContentType.class, "ids:ContentType");
+        }
+
+        @Override
+        protected void serializeProperties(ContentType value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<ContentTypeImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(ContentTypeImpl.class);
+        }
+
+        @Override
+        protected ContentTypeImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            ContentTypeBuilder builder =
+                id != null ? new ContentTypeBuilder(id) : new ContentTypeBuilder();
+            return withProperties((ContentTypeImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,168 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:ContractOffer.
+ */
+public final class ContractOfferCodec {
+
+    private ContractOfferCodec() {}
+
+    public static class Serializer extends ModelSerializer<ContractOffer> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(ContractOffer.class, "ids:ContractOffer");
+        }
+
+        @Override
+        protected void serializeProperties(ContractOffer value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeUri(gen, "ids:consumer", value.getConsumer());
+            writeValue(gen, provider, "ids:contractAnnex", value.getContractAnnex());
+            writeDate(gen, provider, "ids:contractDate", value.getContractDate());
+            writeValue(gen, provider, "ids:contractDocument", value.getContractDocument());
+            writeDate(gen, provider, "ids:contractEnd", value.getContractEnd());
+            writeDate(gen, provider, "ids:contractStart", value.getContractStart());
+            writeValues(gen, provider, "ids:obligation", value.getObligation());
+            writeValues(gen, provider, "ids:permission", value.getPermission());
+            writeValues(gen, provider, "ids:prohibition", value.getProhibition());
+            writeUri(gen, "ids:provider", value.getProvider());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<ContractOfferImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(ContractOfferImpl.class);
+        }
+
+        @Override
+        protected ContractOfferImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            URI _consumer = null;
+            Resource _contractAnnex = null;
+            XMLGregorianCalendar _contractDate = null;
+            TextResource _contractDocument = null;
+            XMLGregorianCalendar _contractEnd = null;
+            XMLGregorianCalendar _contractStart = null;
+            List<Duty> _obligation = null;
+            List<Permission> _permission = null;
+            List<Prohibition> _prohibition = null;
+            URI _provider = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:consumer":
+                    case "https://w3id.org/idsa/core/consumer":
+                    case "consumer":
+                        _consumer = readUri(p, ctxt);
+                        break;
+                    case "ids:contractAnnex":
+                    case "https://w3id.org/idsa/core/contractAnnex":
+                    case "contractAnnex":
+                        _contractAnnex = readObject(p, ctxt, Resource.class);
+                        break;
+                    case "ids:contractDate":
+                    case "https://w3id.org/idsa/core/contractDate":
+                    case "contractDate":
+                        _contractDate = readDate(p, ctxt);
+                        break;
+                    case "ids:contractDocument":
+                    case "https://w3id.org/idsa/core/contractDocument":
+                    case "contractDocument":
+                        _contractDocument = readObject(p, ctxt, TextResource.class);
+                        break;
+                    case "ids:contractEnd":
+                    case "https://w3id.org/idsa/core/contractEnd":
+                    case "contractEnd":
+                        _contractEnd = readDate(p, ctxt);
+                        break;
+                    case "ids:contractStart":
+                    case "https://w3id.org/idsa/core/contractStart":
+                    case "contractStart":
+                        _contractStart = readDate(p, ctxt);
+                        break;
+                    case "ids:obligation":
+                    case "https://w3id.org/idsa/core/obligation":
+                    case "obligation":
+                        _obligation = readObjects(p, ctxt, Duty.class);
+                        break;
+                    case "ids:permission":
+                    case "https://w3id.org/idsa/core/permission":
+                    case "permission":
+                        _permission = readObjects(p, ctxt, Permission.class);
+                        break;
+                    case "ids:prohibition":
+                    case "https://w3id.org/idsa/core/prohibition":
+                    case "prohibition":
+                        _prohibition = readObjects(p, ctxt, Prohibition.class);
+                        break;
+                    case "ids:provider":
+                    case "https://w3id.org/idsa/core/provider":
+                    case "provider":
+                        _provider = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            ContractOfferBuilder builder =
+                id != null ? new ContractOfferBuilder(id) : new ContractOfferBuilder();
+            if (_consumer != null) {
+                builder._consumer_(_consumer);
+            }
+            if (_contractAnnex != null) {
+                builder._contractAnnex_(_contractAnnex);
+            }
+            if (_contractDate != null) {
+                builder._contractDate_(_contractDate);
+            }
+            if (_contractDocument != null) {
+                builder._contractDocument_(_contractDocument);
+            }
+            if (_contractEnd != null) {
+                builder._contractEnd_(_contractEnd);
+            }
+            if (_contractStart != null) {
+                builder._contractStart_(_contractStart);
+            }
+            if (_obligation != null) {
+                builder._obligation_(_obligation);
+            }
+            if (_permission != null) {
+                builder._permission_(_permission);
+            }
+            if (_prohibition != null) {
+                builder._prohibition_(_prohibition);
+            }
+            if (_provider != null) {
+                builder._provider_(_provider);
+            }
+            return withProperties((ContractOfferImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
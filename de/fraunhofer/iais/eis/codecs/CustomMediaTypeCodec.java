@@ -0,0 +1,75 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:CustomMediaType.
+ */
+public final class CustomMediaTypeCodec {
+
+    private CustomMediaTypeCodec() {}
+
+    public static class Serializer extends ModelSerializer<CustomMediaType> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(CustomMediaType.class, "ids:CustomMediaType");
+        }
+
+        @Override
+        protected void serializeProperties(CustomMediaType value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValue(gen, provider, "ids:filenameExtension", value.getFilenameExtension());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<CustomMediaTypeImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(CustomMediaTypeImpl.class);
+        }
+
+        @Override
+        protected CustomMediaTypeImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            String _filenameExtension = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:filenameExtension":
+                    case "https://w3id.org/idsa/core/filenameExtension":
+                    case "filenameExtension":
+                        _filenameExtension = readValue(p, ctxt, String.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            CustomMediaTypeBuilder builder =
+                id != null ? new CustomMediaTypeBuilder(id) : new CustomMediaTypeBuilder();
+            if (_filenameExtension != null) {
+                builder._filenameExtension_(_filenameExtension);
+            }
+            return withProperties((CustomMediaTypeImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
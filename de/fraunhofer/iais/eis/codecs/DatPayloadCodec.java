@@ -0,0 +1,177 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:DatPayload.
+ */
+public final class DatPayloadCodec {
+
+    private DatPayloadCodec() {}
+
+    public static class Serializer extends ModelSerializer<DatPayload> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(DatPayload.class, "ids:DatPayload");
+        }
+
+        @Override
+        protected void serializeProperties(DatPayload value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValue(gen, provider, "ids:aud", value.getAud());
+            writeValue(gen, provider, "ids:exp", value.getExp());
+            writeValues(gen, provider, "ids:extendedGuarantee", value.getExtendedGuarantee());
+            writeValue(gen, provider, "ids:iat", value.getIat());
+            writeValue(gen, provider, "ids:iss", value.getIss());
+            writeValue(gen, provider, "ids:nbf", value.getNbf());
+            writeUri(gen, "ids:referringConnector", value.getReferringConnector());
+            writeValue(gen, provider, "ids:scope", value.getScope());
+            writeValue(gen, provider, "ids:securityProfile", value.getSecurityProfile());
+            writeValue(gen, provider, "ids:sub", value.getSub());
+            writeValues(gen, provider, "ids:transportCertsSha256", value.getTransportCertsSha256());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<DatPayloadImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(DatPayloadImpl.class);
+        }
+
+        @Override
+        protected DatPayloadImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            Audience _aud = null;
+            BigInteger _exp = null;
+            List<SecurityGuarantee> _extendedGuarantee = null;
+            BigInteger _iat = null;
+            String _iss = null;
+            BigInteger _nbf = null;
+            URI _referringConnector = null;
+            String _scope = null;
+            SecurityProfile _securityProfile = null;
+            String _sub = null;
+            List<String> _transportCertsSha256 = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:aud":
+                    case "https://w3id.org/idsa/core/aud":
+                    case "aud":
+                        _aud = readObject(p, ctxt, Audience.class);
+                        break;
+                    case "ids:exp":
+                    case "https://w3id.org/idsa/core/exp":
+                    case "exp":
+                        _exp = readValue(p, ctxt, BigInteger.class);
+                        break;
+                    case "ids:extendedGuarantee":
+                    case "https://w3id.org/idsa/core/extendedGuarantee":
+                    case "extendedGuarantee":
+                        _extendedGuarantee = readObjects(p, ctxt, SecurityGuarantee.class);
+                        break;
+                    case "ids:iat":
+                    case "https://w3id.org/idsa/core/iat":
+                    case "iat":
+                        _iat = readValue(p, ctxt, BigInteger.class);
+                        break;
+                    case "ids:iss":
+                    case "https://w3id.org/idsa/core/iss":
+                    case "iss":
+                        _iss = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:nbf":
+                    case "https://w3id.org/idsa/core/nbf":
+                    case "nbf":
+                        _nbf = readValue(p, ctxt, BigInteger.class);
+                        break;
+                    case "ids:referringConnector":
+                    case "https://w3id.org/idsa/core/referringConnector":
+                    case "referringConnector":
+                        _referringConnector = readUri(p, ctxt);
+                        break;
+                    case "ids:scope":
+                    case "https://w3id.org/idsa/core/scope":
+                    case "scope":
+                        _scope = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:securityProfile":
+                    case "https://w3id.org/idsa/core/securityProfile":
+                    case "securityProfile":
+                        _securityProfile = readObject(p, ctxt, SecurityProfile.class);
+                        break;
+                    case "ids:sub":
+                    case "https://w3id.org/idsa/core/sub":
+                    case "sub":
+                        _sub = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:transportCertsSha256":
+                    case "https://w3id.org/idsa/core/transportCertsSha256":
+                    case "transportCertsSha256":
+                        _transportCertsSha256 = readValues(p, ctxt, String.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            DatPayloadBuilder builder =
+                id != null ? new DatPayloadBuilder(id) : new DatPayloadBuilder();
+            if (_aud != null) {
+                builder._aud_(_aud);
+            }
+            if (_exp != null) {
+                builder._exp_(_exp);
+            }
+            if (_extendedGuarantee != null) {
+                builder._extendedGuarantee_(_extendedGuarantee);
+            }
+            if (_iat != null) {
+                builder._iat_(_iat);
+            }
+            if (_iss != null) {
+                builder._iss_(_iss);
+            }
+            if (_nbf != null) {
+                builder._nbf_(_nbf);
+            }
+            if (_referringConnector != null) {
+                builder._referringConnector_(_referringConnector);
+            }
+            if (_scope != null) {
+                builder._scope_(_scope);
+            }
+            if (_securityProfile != null) {
+                builder._securityProfile_(_securityProfile);
+            }
+            if (_sub != null) {
+                builder._sub_(_sub);
+            }
+            if (_transportCertsSha256 != null) {
+                builder._transportCertsSha256_(_transportCertsSha256);
+            }
+            return withProperties((DatPayloadImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,180 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+import de.fraunhofer.iais.eis.util.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:DataRepresentation.
+ */
+public final class DataRepresentationCodec {
+
+    private DataRepresentationCodec() {}
+
+    public static class Serializer extends ModelSerializer<DataRepresentation> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(DataRepresentation.class, "ids:DataRepresentation");
+        }
+
+        @Override
+        protected void serializeProperties(DataRepresentation value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeDate(gen, provider, "ids:created", value.getCreated());
+            writeUri(gen, "ids:dataType", value.getDataType());
+            writeValue(gen, provider, "ids:dataTypeSchema", value.getDataTypeSchema());
+            writeValues(gen, provider, "ids:description", value.getDescription());
+            writeValues(gen, provider, "ids:instance", value.getInstance());
+            writeValue(gen, provider, "ids:language", value.getLanguage());
+            writeValue(gen, provider, "ids:mediaType", value.getMediaType());
+            writeDate(gen, provider, "ids:modified", value.getModified());
+            writeUri(gen, "ids:representationStandard", value.getRepresentationStandard());
+            writeUri(gen, "ids:shapesGraph", value.getShapesGraph());
+            writeValues(gen, provider, "ids:title", value.getTitle());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<DataRepresentationImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(DataRepresentationImpl.class);
+        }
+
+        @Override
+        protected DataRepresentationImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id,
+            String field)
+            throws IOException {
+            XMLGregorianCalendar _created = null;
+            URI _dataType = null;
+            Resource _dataTypeSchema = null;
+            List<TypedLiteral> _description = null;
+            List<RepresentationInstance> _instance = null;
+            Language _language = null;
+            MediaType _mediaType = null;
+            XMLGregorianCalendar _modified = null;
+            URI _representationStandard = null;
+            URI _shapesGraph = null;
+            List<TypedLiteral> _title = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:created":
+                    case "https://w3id.org/idsa/core/created":
+                    case "created":
+                        _created = readDate(p, ctxt);
+                        break;
+                    case "ids:dataType":
+                    case "https://w3id.org/idsa/core/dataType":
+                    case "dataType":
+                        _dataType = readUri(p, ctxt);
+                        break;
+                    case "ids:dataTypeSchema":
+                    case "https://w3id.org/idsa/core/dataTypeSchema":
+                    case "dataTypeSchema":
+                        _dataTypeSchema = readObject(p, ctxt, Resource.class);
+                        break;
+                    case "ids:description":
+                    case "https://w3id.org/idsa/core/description":
+                    case "description":
+                        _description = readValues(p, ctxt, TypedLiteral.class);
+                        break;
+                    case "ids:instance":
+                    case "https://w3id.org/idsa/core/instance":
+                    case "instance":
+                        _instance = readObjects(p, ctxt, RepresentationInstance.class);
+                        break;
+                    case "ids:language":
+                    case "https://w3id.org/idsa/core/language":
+                    case "language":
+                        _language = readObject(p, ctxt, Language.class);
+                        break;
+                    case "ids:mediaType":
+                    case "https://w3id.org/idsa/core/mediaType":
+                    case "mediaType":
+                        _mediaType = readObject(p, ctxt, MediaType.class);
+                        break;
+                    case "ids:modified":
+                    case "https://w3id.org/idsa/core/modified":
+                    case "modified":
+                        _modified = readDate(p, ctxt);
+                        break;
+                    case "ids:representationStandard":
+                    case "https://w3id.org/idsa/core/representationStandard":
+                    case "representationStandard":
+                        _representationStandard = readUri(p, ctxt);
+                        break;
+                    case "ids:shapesGraph":
+                    case "https://w3id.org/idsa/core/shapesGraph":
+                    case "shapesGraph":
+                        _shapesGraph = readUri(p, ctxt);
+                        break;
+                    case "ids:title":
+                    case "https://w3id.org/idsa/core/title":
+                    case "title":
+                        _title = readValues(p, ctxt, TypedLiteral.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            DataRepresentationBuilder builder =
+                id != null ? new DataRepresentationBuilder(id) : new DataRepresentationBuilder();
+            if (_created != null) {
+                builder._created_(_created);
+            }
+            if (_dataType != null) {
+                builder._dataType_(_dataType);
+            }
+            if (_dataTypeSchema != null) {
+                builder._dataTypeSchema_(_dataTypeSchema);
+            }
+            if (_description != null) {
+                builder._description_(_description);
+            }
+            if (_instance != null) {
+                builder._instance_(_instance);
+            }
+            if (_language != null) {
+                builder._language_(_language);
+            }
+            if (_mediaType != null) {
+                builder._mediaType_(_mediaType);
+            }
+            if (_modified != null) {
+                builder._modified_(_modified);
+            }
+            if (_representationStandard != null) {
+                builder._representationStandard_(_representationStandard);
+            }
+            if (_shapesGraph != null) {
+                builder._shapesGraph_(_shapesGraph);
+            }
+            if (_title != null) {
+                builder._title_(_title);
+            }
+            return withProperties((DataRepresentationImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,75 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:DurationEntity.
+ */
+public final class DurationEntityCodec {
+
+    private DurationEntityCodec() {}
+
+    public static class Serializer extends ModelSerializer<DurationEntity> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(DurationEntity.class, "ids:DurationEntity");
+        }
+
+        @Override
+        protected void serializeProperties(DurationEntity value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValue(gen, provider, "ids:hasDuration", value.getHasDuration());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<DurationEntityImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(DurationEntityImpl.class);
+        }
+
+        @Override
+        protected DurationEntityImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            javax.xml.datatype.Duration _hasDuration = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:hasDuration":
+                    case "https://w3id.org/idsa/core/hasDuration":
+                    case "hasDuration":
+                        _hasDuration = readValue(p, ctxt, javax.xml.datatype.Duration.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            DurationEntityBuilder builder =
+                id != null ? new DurationEntityBuilder(id) : new DurationEntityBuilder();
+            if (_hasDuration != null) {
+                builder._hasDuration_(_hasDuration);
+            }
+            return withProperties((DurationEntityImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,137 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+import de.fraunhofer.iais.eis.util.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:Endpoint.
+ */
+public final class EndpointCodec {
+
+    private EndpointCodec() {}
+
+    public static class Serializer extends ModelSerializer<Endpoint> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(Endpoint.class, "ids:Endpoint");
+        }
+
+        @Override
+        protected void serializeProperties(Endpoint value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeUri(gen, "ids:accessURL", value.getAccessURL());
+            writeValues(gen, provider, "ids:apiSpecifiation", value.getApiSpecifiation());
+            writeUris(gen, "ids:endpointDocumentation", value.getEndpointDocumentation());
+            writeValues(gen, provider, "ids:endpointInformation", value.getEndpointInformation());
+            writeValue(gen, provider, "ids:inboundPath", value.getInboundPath());
+            writeValue(gen, provider, "ids:outboundPath", value.getOutboundPath());
+            writeValue(gen, provider, "ids:path", value.getPath());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<EndpointImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(EndpointImpl.class);
+        }
+
+        @Override
+        protected EndpointImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            URI _accessURL = null;
+            List<IdsProtocolSpecification> _apiSpecifiation = null;
+            List<URI> _endpointDocumentation = null;
+            List<TypedLiteral> _endpointInformation = null;
+            String _inboundPath = null;
+            String _outboundPath = null;
+            String _path = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:accessURL":
+                    case "https://w3id.org/idsa/core/accessURL":
+                    case "accessURL":
+                        _accessURL = readUri(p, ctxt);
+                        break;
+                    case "ids:apiSpecifiation":
+                    case "https://w3id.org/idsa/core/apiSpecifiation":
+                    case "apiSpecifiation":
+                        _apiSpecifiation = readObjects(p, ctxt, IdsProtocolSpecification.class);
+                        break;
+                    case "ids:endpointDocumentation":
+                    case "https://w3id.org/idsa/core/endpointDocumentation":
+                    case "endpointDocumentation":
+                        _endpointDocumentation = readUris(p, ctxt);
+                        break;
+                    case "ids:endpointInformation":
+                    case "https://w3id.org/idsa/core/endpointInformation":
+                    case "endpointInformation":
+                        _endpointInformation = readValues(p, ctxt, TypedLiteral.class);
+                        break;
+                    case "ids:inboundPath":
+                    case "https://w3id.org/idsa/core/inboundPath":
+                    case "inboundPath":
+                        _inboundPath = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:outboundPath":
+                    case "https://w3id.org/idsa/core/outboundPath":
+                    case "outboundPath":
+                        _outboundPath = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:path":
+                    case "https://w3id.org/idsa/core/path":
+                    case "path":
+                        _path = readValue(p, ctxt, String.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            EndpointBuilder builder =
+                id != null ? new EndpointBuilder(id) : new EndpointBuilder();
+            if (_accessURL != null) {
+                builder._accessURL_(_accessURL);
+            }
+            if (_apiSpecifiation != null) {
+                builder._apiSpecifiation_(_apiSpecifiation);
+            }
+            if (_endpointDocumentation != null) {
+                builder._endpointDocumentation_(_endpointDocumentation);
+            }
+            if (_endpointInformation != null) {
+                builder._endpointInformation_(_endpointInformation);
+            }
+            if (_inboundPath != null) {
+                builder._inboundPath_(_inboundPath);
+            }
+            if (_outboundPath != null) {
+                builder._outboundPath_(_outboundPath);
+            }
+            if (_path != null) {
+                builder._path_(_path);
+            }
+            return withProperties((EndpointImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
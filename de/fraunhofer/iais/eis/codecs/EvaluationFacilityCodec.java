@@ -0,0 +1,66 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:EvaluationFacility.
+ */
+public final class EvaluationFacilityCodec {
+
+    private EvaluationFacilityCodec() {}
+
+    public static class Serializer extends ModelSerializer<EvaluationFacility> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(EvaluationFacility.class, "ids:EvaluationFacility");
+        }
+
+        @Override
+        protected void serializeProperties(EvaluationFacility value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<EvaluationFacilityImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(EvaluationFacilityImpl.class);
+        }
+
+        @Override
+        protected EvaluationFacilityImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id,
+            String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            EvaluationFacilityBuilder builder =
+                id != null ? new EvaluationFacilityBuilder(id) : new EvaluationFacilityBuilder();
+            return withProperties((EvaluationFacilityImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
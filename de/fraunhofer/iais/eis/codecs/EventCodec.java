@@ -0,0 +1,65 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:Event.
+ */
+public final class EventCodec {
+
+    private EventCodec() {}
+
+    public static class Serializer extends ModelSerializer<Event> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(Event.class, "ids:Event");
+        }
+
+        @Override
+        protected void serializeProperties(Event value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<EventImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(EventImpl.class);
+        }
+
+        @Override
+        protected EventImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            EventBuilder builder =
+                id != null ? new EventBuilder(id) : new EventBuilder();
+            return withProperties((EventImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,65 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:Frequency.
+ */
+public final class FrequencyCodec {
+
+    private FrequencyCodec() {}
+
+    public static class Serializer extends ModelSerializer<Frequency> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(Frequency.class, "ids:Frequency");
+        }
+
+        @Override
+        protected void serializeProperties(Frequency value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<FrequencyImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(FrequencyImpl.class);
+        }
+
+        @Override
+        protected FrequencyImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            FrequencyBuilder builder =
+                id != null ? new FrequencyBuilder(id) : new FrequencyBuilder();
+            return withProperties((FrequencyImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
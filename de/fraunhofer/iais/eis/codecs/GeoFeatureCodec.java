@@ -0,0 +1,65 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:GeoFeature.
+ */
+public final class GeoFeatureCodec {
+
+    private GeoFeatureCodec() {}
+
+    public static class Serializer extends ModelSerializer<GeoFeature> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(GeoFeature.class, "ids:GeoFeature");
+        }
+
+        @Override
+        protected void serializeProperties(GeoFeature value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<GeoFeatureImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(GeoFeatureImpl.class);
+        }
+
+        @Override
+        protected GeoFeatureImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            GeoFeatureBuilder builder =
+                id != null ? new GeoFeatureBuilder(id) : new GeoFeatureBuilder();
+            return withProperties((GeoFeatureImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,85 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:GeoPoint.
+ */
+public final class GeoPointCodec {
+
+    private GeoPointCodec() {}
+
+    public static class Serializer extends ModelSerializer<GeoPoint> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(GeoPoint.class, "ids:GeoPoint");
+        }
+
+        @Override
+        protected void serializeProperties(GeoPoint value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValue(gen, provider, "ids:latitude", value.getLatitude());
+            writeValue(gen, provider, "ids:longitude", value.getLongitude());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<GeoPointImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(GeoPointImpl.class);
+        }
+
+        @Override
+        protected GeoPointImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            Float _latitude = null;
+            Float _longitude = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:latitude":
+                    case "https://w3id.org/idsa/core/latitude":
+                    case "latitude":
+                        _latitude = readValue(p, ctxt, Float.class);
+                        break;
+                    case "ids:longitude":
+                    case "https://w3id.org/idsa/core/longitude":
+                    case "longitude":
+                        _longitude = readValue(p, ctxt, Float.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            GeoPointBuilder builder =
+                id != null ? new GeoPointBuilder(id) : new GeoPointBuilder();
+            if (_latitude != null) {
+                builder._latitude_(_latitude);
+            }
+            if (_longitude != null) {
+                builder._longitude_(_longitude);
+            }
+            return withProperties((GeoPointImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
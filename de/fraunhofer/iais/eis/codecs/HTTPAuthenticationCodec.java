@@ -0,0 +1,96 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:HTTPAuthentication.
+ */
+public final class HTTPAuthenticationCodec {
+
+    private HTTPAuthenticationCodec() {}
+
+    public static class Serializer extends ModelSerializer<HTTPAuthentication> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(HTTPAuthentication.class, "ids:HTTPAuthentication");
+        }
+
+        @Override
+        protected void serializeProperties(HTTPAuthentication value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValue(gen, provider, "ids:authPassword", value.getAuthPassword());
+            writeValue(gen, provider, "ids:authUsername", value.getAuthUsername());
+            writeUri(gen, "ids:httpAuthURI", value.getHttpAuthURI());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<HTTPAuthenticationImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(HTTPAuthenticationImpl.class);
+        }
+
+        @Override
+        protected HTTPAuthenticationImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id,
+            String field)
+            throws IOException {
+            String _authPassword = null;
+            String _authUsername = null;
+            URI _httpAuthURI = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:authPassword":
+                    case "https://w3id.org/idsa/core/authPassword":
+                    case "authPassword":
+                        _authPassword = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:authUsername":
+                    case "https://w3id.org/idsa/core/authUsername":
+                    case "authUsername":
+                        _authUsername = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:httpAuthURI":
+                    case "https://w3id.org/idsa/core/httpAuthURI":
+                    case "httpAuthURI":
+                        _httpAuthURI = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            HTTPAuthenticationBuilder builder =
+                id != null ? new HTTPAuthenticationBuilder(id) : new HTTPAuthenticationBuilder();
+            if (_authPassword != null) {
+                builder._authPassword_(_authPassword);
+            }
+            if (_authUsername != null) {
+                builder._authUsername_(_authUsername);
+            }
+            if (_httpAuthURI != null) {
+                builder._httpAuthURI_(_httpAuthURI);
+            }
+            return withProperties((HTTPAuthenticationImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
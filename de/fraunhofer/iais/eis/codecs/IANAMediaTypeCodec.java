@@ -0,0 +1,75 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:IANAMediaType.
+ */
+public final class IANAMediaTypeCodec {
+
+    private IANAMediaTypeCodec() {}
+
+    public static class Serializer extends ModelSerializer<IANAMediaType> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(IANAMediaType.class, "ids:IANAMediaType");
+        }
+
+        @Override
+        protected void serializeProperties(IANAMediaType value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValue(gen, provider, "ids:filenameExtension", value.getFilenameExtension());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<IANAMediaTypeImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(IANAMediaTypeImpl.class);
+        }
+
+        @Override
+        protected IANAMediaTypeImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            String _filenameExtension = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:filenameExtension":
+                    case "https://w3id.org/idsa/core/filenameExtension":
+                    case "filenameExtension":
+                        _filenameExtension = readValue(p, ctxt, String.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            IANAMediaTypeBuilder builder =
+                id != null ? new IANAMediaTypeBuilder(id) : new IANAMediaTypeBuilder();
+            if (_filenameExtension != null) {
+                builder._filenameExtension_(_filenameExtension);
+            }
+            return withProperties((IANAMediaTypeImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,67 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:IdsProtocolSpecification.
+ */
+public final class IdsProtocolSpecificationCodec {
+
+    private IdsProtocolSpecificationCodec() {}
+
+    public static class Serializer extends ModelSerializer<IdsProtocolSpecification> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(IdsProtocolSpecification.class, "ids:IdsProtocolSpecification");
+        }
+
+        @Override
+        protected void serializeProperties(IdsProtocolSpecification value, JsonGenerator gen,
+            SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<IdsProtocolSpecificationImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(IdsProtocolSpecificationImpl.class);
+        }
+
+        @Override
+        protected IdsProtocolSpecificationImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id,
+            String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            IdsProtocolSpecificationBuilder builder =
+                id != null ? new IdsProtocolSpecificationBuilder(id) : new IdsProtocolSpecificationBuilder();
+            return withProperties((IdsProtocolSpecificationImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,87 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:Instant.
+ */
+public final class InstantCodec {
+
+    private InstantCodec() {}
+
+    public static class Serializer extends ModelSerializer<Instant> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(Instant.class, "ids:Instant");
+        }
+
+        @Override
+        protected void serializeProperties(Instant value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeDate(gen, provider, "ids:dateTime", value.getDateTime());
+            writeValue(gen, provider, "ids:hasDuration", value.getHasDuration());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<InstantImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(InstantImpl.class);
+        }
+
+        @Override
+        protected InstantImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            XMLGregorianCalendar _dateTime = null;
+            javax.xml.datatype.Duration _hasDuration = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:dateTime":
+                    case "https://w3id.org/idsa/core/dateTime":
+                    case "dateTime":
+                        _dateTime = readDate(p, ctxt);
+                        break;
+                    case "ids:hasDuration":
+                    case "https://w3id.org/idsa/core/hasDuration":
+                    case "hasDuration":
+                        _hasDuration = readValue(p, ctxt, javax.xml.datatype.Duration.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            InstantBuilder builder =
+                id != null ? new InstantBuilder(id) : new InstantBuilder();
+            if (_dateTime != null) {
+                builder._dateTime_(_dateTime);
+            }
+            if (_hasDuration != null) {
+                builder._hasDuration_(_hasDuration);
+            }
+            return withProperties((InstantImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
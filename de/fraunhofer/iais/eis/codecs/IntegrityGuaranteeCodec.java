@@ -0,0 +1,66 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:IntegrityGuarantee.
+ */
+public final class IntegrityGuaranteeCodec {
+
+    private IntegrityGuaranteeCodec() {}
+
+    public static class Serializer extends ModelSerializer<IntegrityGuarantee> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(IntegrityGuarantee.class, "ids:IntegrityGuarantee");
+        }
+
+        @Override
+        protected void serializeProperties(IntegrityGuarantee value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<IntegrityGuaranteeImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(IntegrityGuaranteeImpl.class);
+        }
+
+        @Override
+        protected IntegrityGuaranteeImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id,
+            String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            IntegrityGuaranteeBuilder builder =
+                id != null ? new IntegrityGuaranteeBuilder(id) : new IntegrityGuaranteeBuilder();
+            return withProperties((IntegrityGuaranteeImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
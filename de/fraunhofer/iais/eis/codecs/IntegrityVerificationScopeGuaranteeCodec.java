@@ -0,0 +1,67 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:IntegrityVerificationScopeGuarantee.
+ */
+public final class IntegrityVerificationScopeGuaranteeCodec {
+
+    private IntegrityVerificationScopeGuaranteeCodec() {}
+
+    public static class Serializer extends ModelSerializer<IntegrityVerificationScopeGuarantee> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(IntegrityVerificationScopeGuarantee.class, "ids:IntegrityVerificationScopeGuarantee");
+        }
+
+        @Override
+        protected void serializeProperties(IntegrityVerificationScopeGuarantee value, JsonGenerator gen,
+            SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<IntegrityVerificationScopeGuaranteeImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(IntegrityVerificationScopeGuaranteeImpl.class);
+        }
+
+        @Override
+        protected IntegrityVerificationScopeGuaranteeImpl deserializeFields(JsonParser p, DeserializationContext ctxt,
+            URI id, String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            IntegrityVerificationScopeGuaranteeBuilder builder =
+                id != null ? new IntegrityVerificationScopeGuaranteeBuilder(id) : new IntegrityVerificationScopeGuaranteeBuilder();
+            return withProperties((IntegrityVerificationScopeGuaranteeImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,36 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+
+/**
+ * Deserializer of the interfaces of the model (e.g. Message), which resolves the class of a node
+ * through {@link ModelTypes} instead of the nested @JsonSubTypes declarations, so that e.g.
+ * mapper.readValue(json, Message.class) is dispatched in one lookup.
+ */
+public class InterfaceDeserializer<T> extends StdDeserializer<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    public InterfaceDeserializer(Class<T> type) {
+        super(type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return (T) ModelDeserializer.readNode(p, ctxt, handledType(), false);
+    }
+
+    @Override
+    public Object deserializeWithType(JsonParser p, DeserializationContext ctxt, TypeDeserializer typeDeserializer)
+        throws IOException {
+        // the type is resolved by deserialize()
+        return deserialize(p, ctxt);
+    }
+
+}
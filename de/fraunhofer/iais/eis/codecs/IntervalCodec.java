@@ -0,0 +1,95 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:Interval.
+ */
+public final class IntervalCodec {
+
+    private IntervalCodec() {}
+
+    public static class Serializer extends ModelSerializer<Interval> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(Interval.class, "ids:Interval");
+        }
+
+        @Override
+        protected void serializeProperties(Interval value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValue(gen, provider, "ids:begin", value.getBegin());
+            writeValue(gen, provider, "ids:end", value.getEnd());
+            writeValue(gen, provider, "ids:hasDuration", value.getHasDuration());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<IntervalImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(IntervalImpl.class);
+        }
+
+        @Override
+        protected IntervalImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            Instant _begin = null;
+            Instant _end = null;
+            javax.xml.datatype.Duration _hasDuration = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:begin":
+                    case "https://w3id.org/idsa/core/begin":
+                    case "begin":
+                        _begin = readObject(p, ctxt, Instant.class);
+                        break;
+                    case "ids:end":
+                    case "https://w3id.org/idsa/core/end":
+                    case "end":
+                        _end = readObject(p, ctxt, Instant.class);
+                        break;
+                    case "ids:hasDuration":
+                    case "https://w3id.org/idsa/core/hasDuration":
+                    case "hasDuration":
+                        _hasDuration = readValue(p, ctxt, javax.xml.datatype.Duration.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            IntervalBuilder builder =
+                id != null ? new IntervalBuilder(id) : new IntervalBuilder();
+            if (_begin != null) {
+                builder._begin_(_begin);
+            }
+            if (_end != null) {
+                builder._end_(_end);
+            }
+            if (_hasDuration != null) {
+                builder._hasDuration_(_hasDuration);
+            }
+            return withProperties((IntervalImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,65 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:KeyType.
+ */
+public final class KeyTypeCodec {
+
+    private KeyTypeCodec() {}
+
+    public static class Serializer extends ModelSerializer<KeyType> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(KeyType.class, "ids:KeyType");
+        }
+
+        @Override
+        protected void serializeProperties(KeyType value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<KeyTypeImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(KeyTypeImpl.class);
+        }
+
+        @Override
+        protected KeyTypeImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            KeyTypeBuilder builder =
+                id != null ? new KeyTypeBuilder(id) : new KeyTypeBuilder();
+            return withProperties((KeyTypeImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
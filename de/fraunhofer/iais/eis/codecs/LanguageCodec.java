@@ -0,0 +1,65 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:Language.
+ */
+public final class LanguageCodec {
+
+    private LanguageCodec() {}
+
+    public static class Serializer extends ModelSerializer<Language> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(Language.class, "ids:Language");
+        }
+
+        @Override
+        protected void serializeProperties(Language value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<LanguageImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(LanguageImpl.class);
+        }
+
+        @Override
+        protected LanguageImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            LanguageBuilder builder =
+                id != null ? new LanguageBuilder(id) : new LanguageBuilder();
+            return withProperties((LanguageImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
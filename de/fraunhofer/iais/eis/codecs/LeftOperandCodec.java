@@ -0,0 +1,75 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:LeftOperand.
+ */
+public final class LeftOperandCodec {
+
+    private LeftOperandCodec() {}
+
+    public static class Serializer extends ModelSerializer<LeftOperand> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(LeftOperand.class, "ids:LeftOperand");
+        }
+
+        @Override
+        protected void serializeProperties(LeftOperand value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValue(gen, provider, "ids:broader", value.getBroader());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<LeftOperandImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(LeftOperandImpl.class);
+        }
+
+        @Override
+        protected LeftOperandImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            LeftOperand _broader = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:broader":
+                    case "https://w3id.org/idsa/core/broader":
+                    case "broader":
+                        _broader = readObject(p, ctxt, LeftOperand.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            LeftOperandBuilder builder =
+                id != null ? new LeftOperandBuilder(id) : new LeftOperandBuilder();
+            if (_broader != null) {
+                builder._broader_(_broader);
+            }
+            return withProperties((LeftOperandImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,65 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:License.
+ */
+public final class LicenseCodec {
+
+    private LicenseCodec() {}
+
+    public static class Serializer extends ModelSerializer<License> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(License.class, "ids:License");
+        }
+
+        @Override
+        protected void serializeProperties(License value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<LicenseImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(LicenseImpl.class);
+        }
+
+        @Override
+        protected LicenseImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            LicenseBuilder builder =
+                id != null ? new LicenseBuilder(id) : new LicenseBuilder();
+            return withProperties((LicenseImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,67 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:LocalDataConfidentialityGuarantee.
+ */
+public final class LocalDataConfidentialityGuaranteeCodec {
+
+    private LocalDataConfidentialityGuaranteeCodec() {}
+
+    public static class Serializer extends ModelSerializer<LocalDataConfidentialityGuarantee> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(LocalDataConfidentialityGuarantee.class, "ids:LocalDataConfidentialityGuarantee");
+        }
+
+        @Override
+        protected void serializeProperties(LocalDataConfidentialityGuarantee value, JsonGenerator gen,
+            SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<LocalDataConfidentialityGuaranteeImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(LocalDataConfidentialityGuaranteeImpl.class);
+        }
+
+        @Override
+        protected LocalDataConfidentialityGuaranteeImpl deserializeFields(JsonParser p, DeserializationContext ctxt,
+            URI id, String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            LocalDataConfidentialityGuaranteeBuilder builder =
+                id != null ? new LocalDataConfidentialityGuaranteeBuilder(id) : new LocalDataConfidentialityGuaranteeBuilder();
+            return withProperties((LocalDataConfidentialityGuaranteeImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,65 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:LogLevel.
+ */
+public final class LogLevelCodec {
+
+    private LogLevelCodec() {}
+
+    public static class Serializer extends ModelSerializer<LogLevel> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(LogLevel.class, "ids:LogLevel");
+        }
+
+        @Override
+        protected void serializeProperties(LogLevel value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<LogLevelImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(LogLevelImpl.class);
+        }
+
+        @Override
+        protected LogLevelImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            LogLevelBuilder builder =
+                id != null ? new LogLevelBuilder(id) : new LogLevelBuilder();
+            return withProperties((LogLevelImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,97 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:LogicalConstraint.
+ */
+public final class LogicalConstraintCodec {
+
+    private LogicalConstraintCodec() {}
+
+    public static class Serializer extends ModelSerializer<LogicalConstraint> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(LogicalConstraint.class, "ids:LogicalConstraint");
+        }
+
+        @Override
+        protected void serializeProperties(LogicalConstraint value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValues(gen, provider, "ids:and", value.getAnd());
+            writeValues(gen, provider, "ids:or", value.getOr());
+            writeValues(gen, provider, "ids:xone", value.getXone());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<LogicalConstraintImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(LogicalConstraintImpl.class);
+        }
+
+        @Override
+        protected LogicalConstraintImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id,
+            String field)
+            throws IOException {
+            List<Constraint> _and = null;
+            List<Constraint> _or = null;
+            List<Constraint> _xone = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:and":
+                    case "https://w3id.org/idsa/core/and":
+                    case "and":
+                        _and = readObjects(p, ctxt, Constraint.class);
+                        break;
+                    case "ids:or":
+                    case "https://w3id.org/idsa/core/or":
+                    case "or":
+                        _or = readObjects(p, ctxt, Constraint.class);
+                        break;
+                    case "ids:xone":
+                    case "https://w3id.org/idsa/core/xone":
+                    case "xone":
+                        _xone = readObjects(p, ctxt, Constraint.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            LogicalConstraintBuilder builder =
+                id != null ? new LogicalConstraintBuilder(id) : new LogicalConstraintBuilder();
+            if (_and != null) {
+                builder._and_(_and);
+            }
+            if (_or != null) {
+                builder._or_(_or);
+            }
+            if (_xone != null) {
+                builder._xone_(_xone);
+            }
+            return withProperties((LogicalConstraintImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
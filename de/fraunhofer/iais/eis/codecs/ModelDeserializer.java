@@ -0,0 +1,386 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Base class of the generated JSON-LD deserializers of the model classes. The generated subclasses
+ * match the property names ("ids:title", "https://w3id.org/idsa/core/title" or "title") in a switch
+ * and construct the object through its builder, without bean introspection. Objects of model classes
+ * are dispatched by their "@type" through {@link ModelTypes}. Values of other types are read by the
+ * deserializers configured in the ObjectMapper.
+ */
+public abstract class ModelDeserializer<T extends ModelClass> extends StdDeserializer<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    protected ModelDeserializer(Class<T> type) {
+        super(type);
+    }
+
+    @Override
+    public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return deserializeFields(p, ctxt, null, firstField(p, ctxt));
+    }
+
+    /**
+     * Reads the properties of an object, starting with the given one.
+     *
+     * @param id "@id" of the object, if it has already been read
+     * @param field name of the current property, or null at the end of the object
+     */
+    protected abstract T deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+        throws IOException;
+
+    @Override
+    public Object deserializeWithType(JsonParser p, DeserializationContext ctxt, TypeDeserializer typeDeserializer)
+        throws IOException {
+        // "@type" is skipped by deserialize(), as the class is already known
+        return deserialize(p, ctxt);
+    }
+
+    /**
+     * Moves to the first property of the current object.
+     *
+     * @return name of the first property or null, if the object has no properties
+     */
+    protected static String firstField(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            return p.nextFieldName();
+        }
+        if (token == JsonToken.FIELD_NAME) {
+            return p.currentName();
+        }
+        if (token != JsonToken.END_OBJECT) {
+            ctxt.handleUnexpectedToken(ModelClass.class, p);
+        }
+        return null;
+    }
+
+    /**
+     * Reads a URI given as string or as node reference {"@id": ...}.
+     */
+    protected static URI readUri(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            URI uri = null;
+            for (String field = p.nextFieldName(); field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                if (field.equals("@id")) {
+                    uri = readUri(p, ctxt);
+                } else {
+                    p.skipChildren();
+                }
+            }
+            return uri;
+        }
+        return token == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, URI.class);
+    }
+
+    /**
+     * Reads a list of URIs, which may also be given as a single URI.
+     */
+    protected static List<URI> readUris(JsonParser p, DeserializationContext ctxt) throws IOException {
+        List<URI> uris = new ArrayList<>();
+        if (p.currentToken() == JsonToken.START_ARRAY) {
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                uris.add(readUri(p, ctxt));
+            }
+        } else if (p.currentToken() != JsonToken.VALUE_NULL) {
+            uris.add(readUri(p, ctxt));
+        }
+        return uris;
+    }
+
+    /**
+     * Reads a value with the deserializer configured for its type.
+     */
+    protected static <E> E readValue(JsonParser p, DeserializationContext ctxt, Class<E> type) throws IOException {
+        return p.currentToken() == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, type);
+    }
+
+    /**
+     * Reads a date (e.g. ids:issued), given in the format written by the serializers (e.g.
+     * "2021-01-02T03:04:05.000UTC"), as xsd:dateTime or in any other form the ObjectMapper accepts.
+     */
+    protected static XMLGregorianCalendar readDate(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() != JsonToken.VALUE_STRING) {
+            return readValue(p, ctxt, XMLGregorianCalendar.class);
+        }
+        String text = p.getText().trim();
+        try {
+            return Datatypes.FACTORY.newXMLGregorianCalendar(text);
+        } catch (IllegalArgumentException e) {
+            // not xsd:dateTime, but the pattern of the serializers
+        }
+        SimpleDateFormat format = new SimpleDateFormat(ModelSerializer.DATE_PATTERN, ctxt.getLocale());
+        format.setTimeZone(ctxt.getTimeZone());
+        try {
+            GregorianCalendar calendar = new GregorianCalendar(ctxt.getTimeZone(), ctxt.getLocale());
+            calendar.setTime(format.parse(text));
+            return Datatypes.FACTORY.newXMLGregorianCalendar(calendar);
+        } catch (ParseException e) {
+            return (XMLGregorianCalendar) ctxt.handleWeirdStringValue(XMLGregorianCalendar.class, text,
+                "expected a date like 2021-01-02T03:04:05.000UTC");
+        }
+    }
+
+    /**
+     * Reads a list of values, which may also be given as a single value.
+     */
+    protected static <E> List<E> readValues(JsonParser p, DeserializationContext ctxt, Class<E> type)
+        throws IOException {
+        List<E> values = new ArrayList<>();
+        if (p.currentToken() == JsonToken.START_ARRAY) {
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                values.add(readValue(p, ctxt, type));
+            }
+        } else if (p.currentToken() != JsonToken.VALUE_NULL) {
+            values.add(readValue(p, ctxt, type));
+        }
+        return values;
+    }
+
+    /**
+     * Reads an object of a model class, given with its "@type".
+     */
+    @SuppressWarnings("unchecked")
+    protected static <E> E readObject(JsonParser p, DeserializationContext ctxt, Class<E> type) throws IOException {
+        return (E) readNode(p, ctxt, type, false);
+    }
+
+    /**
+     * Reads a list of objects of a model class, which may also be given as a single object.
+     */
+    protected static <E> List<E> readObjects(JsonParser p, DeserializationContext ctxt, Class<E> type)
+        throws IOException {
+        List<E> values = new ArrayList<>();
+        if (p.currentToken() == JsonToken.START_ARRAY) {
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                values.add(readObject(p, ctxt, type));
+            }
+        } else if (p.currentToken() != JsonToken.VALUE_NULL) {
+            values.add(readObject(p, ctxt, type));
+        }
+        return values;
+    }
+
+    /**
+     * Reads a value that is either an object of the given type or a URI, given as string or node
+     * reference {"@id": ...}.
+     *
+     * @return the object, the URI or null
+     */
+    protected static Object readObjectOrUri(JsonParser p, DeserializationContext ctxt, Class<?> type)
+        throws IOException {
+        return readNode(p, ctxt, type, true);
+    }
+
+    /**
+     * Reads a list whose elements are either objects of the given type or URIs into the given lists.
+     */
+    @SuppressWarnings("unchecked")
+    protected static <E> void readObjectsAndUris(JsonParser p, DeserializationContext ctxt, Class<E> type,
+        List<E> objects, List<URI> uris) throws IOException {
+        if (p.currentToken() == JsonToken.START_ARRAY) {
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                readObjectsAndUris(p, ctxt, type, objects, uris);
+            }
+            return;
+        }
+        Object value = readObjectOrUri(p, ctxt, type);
+        if (value instanceof URI) {
+            uris.add((URI) value);
+        } else if (value != null) {
+            objects.add((E) value);
+        }
+    }
+
+    /**
+     * Reads a JSON-LD node. The class is looked up in {@link ModelTypes} by the "@type" of the node,
+     * which is expected at the beginning of the node, optionally after "@id". In this case, the
+     * deserializer of the class continues with the remaining properties without buffering them.
+     * Otherwise, the node is buffered until its "@type" is found.
+     */
+    static Object readNode(JsonParser p, DeserializationContext ctxt, Class<?> type, boolean referenceAllowed)
+        throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            return referenceAllowed ? readUri(p, ctxt) : ctxt.handleUnexpectedToken(type, p);
+        }
+        String field = p.nextFieldName();
+        URI id = null;
+        if ("@id".equals(field)) {
+            p.nextToken();
+            id = readUri(p, ctxt);
+            field = p.nextFieldName();
+            if (field == null && referenceAllowed) {
+                return id;
+            }
+        }
+        if (!"@type".equals(field)) {
+            return readBufferedNode(p, ctxt, type, id, field);
+        }
+        p.nextToken();
+        String typeName = readTypeName(p);
+        field = p.nextFieldName();
+        JsonDeserializer<?> deserializer = findDeserializer(ctxt, type, typeName);
+        if (deserializer == null) {
+            while (field != null) {
+                p.nextToken();
+                p.skipChildren();
+                field = p.nextFieldName();
+            }
+            return null;
+        }
+        if (deserializer instanceof ModelDeserializer) {
+            return ((ModelDeserializer<?>) deserializer).deserializeFields(p, ctxt, id, field);
+        }
+        // deserializers of other modules (e.g. DefaultInstanceModule) read the node from its start
+        TokenBuffer prefix = new TokenBuffer(p, ctxt);
+        prefix.writeStartObject();
+        if (id != null) {
+            prefix.writeStringField("@id", id.toString());
+        }
+        prefix.writeStringField("@type", typeName);
+        JsonParser replay = JsonParserSequence.createFlattened(true, prefix.asParser(p), p);
+        replay.nextToken();
+        return deserializer.deserialize(replay, ctxt);
+    }
+
+    private static Object readBufferedNode(JsonParser p, DeserializationContext ctxt, Class<?> type, URI id,
+        String field) throws IOException {
+        TokenBuffer buffer = new TokenBuffer(p, ctxt);
+        buffer.writeStartObject();
+        if (id != null) {
+            buffer.writeStringField("@id", id.toString());
+        }
+        String typeName = null;
+        for (; field != null; field = p.nextFieldName()) {
+            p.nextToken();
+            if (typeName == null && field.equals("@type")) {
+                typeName = readTypeName(p);
+                buffer.writeStringField("@type", typeName);
+            } else {
+                buffer.writeFieldName(field);
+                buffer.copyCurrentStructure(p);
+            }
+        }
+        buffer.writeEndObject();
+        JsonParser buffered = buffer.asParser(p);
+        buffered.nextToken();
+        JsonDeserializer<?> deserializer = findDeserializer(ctxt, type, typeName);
+        return deserializer == null ? null : deserializer.deserialize(buffered, ctxt);
+    }
+
+    /**
+     * Reads the type of a node, which may be given as list of types, of which the first one of a model
+     * class is used.
+     */
+    private static String readTypeName(JsonParser p) throws IOException {
+        if (p.currentToken() != JsonToken.START_ARRAY) {
+            return p.getValueAsString();
+        }
+        String typeName = null;
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            String candidate = p.getValueAsString();
+            if (candidate != null && (typeName == null || ModelTypes.implementation(typeName) == null)) {
+                typeName = candidate;
+            }
+            p.skipChildren();
+        }
+        return typeName;
+    }
+
+    /**
+     * Looks up the deserializer of the class denoted by the given type name. Missing and unknown type
+     * names are passed to the problem handlers of the ObjectMapper.
+     *
+     * @return deserializer or null, if the node is to be skipped
+     */
+    private static JsonDeserializer<?> findDeserializer(DeserializationContext ctxt, Class<?> type, String typeName)
+        throws IOException {
+        JavaType baseType = ctxt.constructType(type);
+        JavaType resolved;
+        if (typeName == null) {
+            resolved = ctxt.handleMissingTypeId(baseType, null, "missing \"@type\"");
+        } else {
+            Class<?> implementation = ModelTypes.implementation(typeName);
+            if (implementation != null && type.isAssignableFrom(implementation)) {
+                resolved = ctxt.constructType(implementation);
+            } else {
+                resolved = ctxt.handleUnknownTypeId(baseType, typeName, null, "unknown \"@type\"");
+            }
+        }
+        return resolved == null ? null : ctxt.findContextualValueDeserializer(resolved, null);
+    }
+
+    /**
+     * Reads a property that is not part of the class, which is kept in the generic properties of the
+     * object. JSON-LD keywords such as "@type" or "@context" are skipped.
+     *
+     * @return the map of generic properties, created on demand
+     */
+    protected static Map<String, Object> readProperty(JsonParser p, DeserializationContext ctxt, String name,
+        Map<String, Object> properties) throws IOException {
+        if (name.startsWith("@")) {
+            p.skipChildren();
+            return properties;
+        }
+        Map<String, Object> result = properties != null ? properties : new LinkedHashMap<>();
+        result.put(name, ctxt.readValue(p, Object.class));
+        return result;
+    }
+
+    /**
+     * Adds the generic properties read by {@link #readProperty} to the given object.
+     */
+    protected static <O extends ModelClass> O withProperties(O object, Map<String, Object> properties) {
+        if (properties != null) {
+            for (Map.Entry<String, Object> property : properties.entrySet()) {
+                object.setProperty(property.getKey(), property.getValue());
+            }
+        }
+        return object;
+    }
+
+    private static class Datatypes {
+        private static final DatatypeFactory FACTORY;
+
+        static {
+            try {
+                FACTORY = DatatypeFactory.newInstance();
+            } catch (DatatypeConfigurationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+}
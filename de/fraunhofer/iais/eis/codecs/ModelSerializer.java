@@ -0,0 +1,459 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.PropertyMetadata;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Base class of the generated JSON-LD serializers of the model classes. The generated subclasses
+ * write the properties of their class directly through the getters, without bean introspection.
+ * Dates are formatted as declared by {@code @JsonFormat} on the getters of the model classes. Values
+ * of other types than model classes, URIs and dates (e.g. TypedLiteral) are written by the
+ * serializers configured in the ObjectMapper.
+ */
+public abstract class ModelSerializer<T extends ModelClass> extends StdSerializer<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Pattern of the date properties, as given by {@code @JsonFormat} on their getters.
+     */
+    static final String DATE_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSSzzz";
+
+    private static final JsonFormat.Value DATE_FORMAT =
+        JsonFormat.Value.forPattern(DATE_PATTERN).withShape(JsonFormat.Shape.STRING);
+
+    /**
+     * Maximum length of the JSON-LD of a frozen object that is kept by the object, in characters.
+     */
+    static final int MAX_FORM_LENGTH = 64 * 1024;
+
+    // serializer of the dates for the SerializationConfig it was created for
+    private static volatile DateSerializer dateSerializer;
+
+    private final String typeName;
+
+    protected ModelSerializer(Class<T> type, String typeName) {
+        super(type);
+        this.typeName = typeName;
+    }
+
+    @Override
+    public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        boolean root = gen.getOutputContext().inRoot();
+        SerializableString form = value.isFrozen() && writesText(gen) ? serializedForm(value, gen, provider, root) : null;
+        if (form != null) {
+            gen.writeRawValue(form);
+        } else {
+            serialize(value, gen, provider, root);
+        }
+    }
+
+    /**
+     * Tells whether the serialized form of a frozen object can be spliced into the output of a
+     * generator. This is only the case for generators that write compact JSON text to a stream or
+     * String. Other generators, e.g. the TokenBuffer of ObjectMapper.valueToTree() or the binary
+     * encoding of BinaryCodec, cannot take raw JSON and get the tokens of the object instead.
+     */
+    private static boolean writesText(JsonGenerator gen) {
+        return gen instanceof JsonGeneratorImpl && gen.getPrettyPrinter() == null;
+    }
+
+    /**
+     * Returns the JSON-LD of a frozen object, which is created once per output format and then kept by
+     * the object. Unchanged subtrees (e.g. a frozen ResourceCatalog within a Connector that is still
+     * being modified) are thus spliced into the output instead of being serialized again. Objects whose
+     * JSON-LD exceeds MAX_FORM_LENGTH characters are not kept, so that streaming a large frozen catalog
+     * (e.g. by toRdf(OutputStream)) does not build the document in memory.
+     *
+     * @return serialized form or null, if the object is to be serialized directly
+     */
+    private SerializableString serializedForm(T value, JsonGenerator gen, SerializerProvider provider, boolean root)
+        throws IOException {
+        Format format = Format.of(gen, provider.getConfig());
+        Object stored = value.getSerializedForm(format);
+        SerializedForms forms;
+        if (stored instanceof SerializedForms) {
+            forms = (SerializedForms) stored;
+        } else {
+            forms = new SerializedForms();
+            value.setSerializedForm(format, forms);
+        }
+        if (forms.tooLarge) {
+            return null;
+        }
+        SerializableString form = root ? forms.root : forms.nested;
+        if (form == null) {
+            FormWriter out = new FormWriter();
+            ObjectCodec codec = gen.getCodec();
+            JsonFactory factory = codec != null ? codec.getFactory() : new JsonFactory();
+            try (JsonGenerator buffer = factory.createGenerator(out)) {
+                for (JsonGenerator.Feature feature : JsonGenerator.Feature.values()) {
+                    buffer.configure(feature, gen.isEnabled(feature));
+                }
+                buffer.setCharacterEscapes(gen.getCharacterEscapes());
+                serialize(value, buffer, provider, root);
+            } catch (FormWriter.TooLarge e) {
+                forms.tooLarge = true;
+                return null;
+            }
+            form = new SerializedString(out.toString());
+            if (root) {
+                forms.root = form;
+            } else {
+                forms.nested = form;
+            }
+        }
+        return form;
+    }
+
+    private void serialize(T value, JsonGenerator gen, SerializerProvider provider, boolean root)
+        throws IOException {
+        gen.writeStartObject(value);
+        if (root) {
+            gen.writeObjectFieldStart("@context");
+            gen.writeStringField("ids", "https://w3id.org/idsa/core/");
+            gen.writeStringField("idsc", "https://w3id.org/idsa/code/");
+            gen.writeEndObject();
+        }
+        gen.writeStringField("@type", typeName);
+        gen.writeStringField("@id", value.getId().toString());
+        serializeProperties(value, gen, provider);
+        Map<String, Object> properties = value.getProperties();
+        if (properties != null) {
+            for (Map.Entry<String, Object> property : properties.entrySet()) {
+                provider.defaultSerializeField(property.getKey(), property.getValue(), gen);
+            }
+        }
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(T value, JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer)
+        throws IOException {
+        // "@type" is always written by serialize()
+        serialize(value, gen, provider);
+    }
+
+    /**
+     * Writes the properties of the given object, except for "@type", "@id" and the generic properties.
+     */
+    protected abstract void serializeProperties(T value, JsonGenerator gen, SerializerProvider provider)
+        throws IOException;
+
+    /**
+     * Writes a URI as node reference {"@id": ...}, if it is set.
+     */
+    protected static void writeUri(JsonGenerator gen, String name, URI value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            writeReference(gen, value);
+        }
+    }
+
+    /**
+     * Writes a list of URIs as node references, if it is not empty.
+     */
+    protected static void writeUris(JsonGenerator gen, String name, List<URI> values) throws IOException {
+        if (values != null && !values.isEmpty()) {
+            gen.writeArrayFieldStart(name);
+            for (URI value : values) {
+                writeReference(gen, value);
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    /**
+     * Writes a value, if it is set.
+     */
+    protected static void writeValue(JsonGenerator gen, SerializerProvider provider, String name, Object value)
+        throws IOException {
+        if (value != null) {
+            provider.defaultSerializeField(name, value, gen);
+        }
+    }
+
+    /**
+     * Writes a date (e.g. ids:issued), if it is set. The date is formatted as declared by the
+     * {@code @JsonFormat} of the date getters of the model classes, e.g. "2021-01-02T03:04:05.000UTC",
+     * through the serializer that the ObjectMapper uses for such a getter.
+     */
+    protected static void writeDate(JsonGenerator gen, SerializerProvider provider, String name,
+        XMLGregorianCalendar value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            dateSerializer(provider).serialize(value, gen, provider);
+        }
+    }
+
+    private static JsonSerializer<Object> dateSerializer(SerializerProvider provider) throws IOException {
+        DateSerializer cached = dateSerializer;
+        if (cached == null || cached.config != provider.getConfig()) {
+            JavaType type = provider.constructType(XMLGregorianCalendar.class);
+            cached = new DateSerializer(provider.getConfig(), provider.findValueSerializer(type, new DateProperty(type)));
+            dateSerializer = cached;
+        }
+        return cached.serializer;
+    }
+
+    /**
+     * Writes a list of values, if it is not empty.
+     */
+    protected static void writeValues(JsonGenerator gen, SerializerProvider provider, String name, List<?> values)
+        throws IOException {
+        if (values != null && !values.isEmpty()) {
+            gen.writeArrayFieldStart(name);
+            for (Object value : values) {
+                provider.defaultSerializeValue(value, gen);
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    /**
+     * Writes a property that is either given as object or as URI (e.g. ids:publisher), if it is set.
+     */
+    protected static void writeObjectOrUri(JsonGenerator gen, SerializerProvider provider, String name,
+        ModelClass object, URI uri) throws IOException {
+        if (object != null) {
+            provider.defaultSerializeField(name, object, gen);
+        } else {
+            writeUri(gen, name, uri);
+        }
+    }
+
+    /**
+     * Writes a list property whose elements are given as objects or as URIs (e.g.
+     * ids:offeredResource), objects first, if any element is set.
+     */
+    protected static void writeObjectsAndUris(JsonGenerator gen, SerializerProvider provider, String name,
+        List<? extends ModelClass> objects, List<URI> uris) throws IOException {
+        boolean noObjects = objects == null || objects.isEmpty();
+        boolean noUris = uris == null || uris.isEmpty();
+        if (noObjects && noUris) {
+            return;
+        }
+        gen.writeArrayFieldStart(name);
+        if (!noObjects) {
+            for (ModelClass object : objects) {
+                provider.defaultSerializeValue(object, gen);
+            }
+        }
+        if (!noUris) {
+            for (URI uri : uris) {
+                writeReference(gen, uri);
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    // serialized forms of a frozen object, with and without "@context"
+    private static final class SerializedForms {
+
+        volatile SerializableString root;
+
+        volatile SerializableString nested;
+
+        // set if the JSON-LD of the object exceeds MAX_FORM_LENGTH
+        volatile boolean tooLarge;
+    }
+
+    /**
+     * The settings that determine the JSON-LD written for an object: the ObjectMapper (represented by
+     * its SubtypeResolver, which every ObjectMapper has its own of), the serialization and generator
+     * features that change the output and the time zone and locale of dates. Settings without
+     * influence on the output (e.g. FLUSH_AFTER_WRITE_VALUE, which ModelWriter disables) do not lead to
+     * another serialized form. Instances are interned, as serialized forms are stored per format
+     * identity.
+     */
+    private static final class Format {
+
+        private static final int IGNORED_SERIALIZATION_FEATURES = SerializationFeature.FLUSH_AFTER_WRITE_VALUE.getMask()
+            | SerializationFeature.CLOSE_CLOSEABLE.getMask() | SerializationFeature.INDENT_OUTPUT.getMask();
+
+        private static final int IGNORED_GENERATOR_FEATURES = JsonGenerator.Feature.AUTO_CLOSE_TARGET.getMask()
+            | JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT.getMask() | JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM.getMask();
+
+        // bound of the interned formats, e.g. for applications that create an ObjectMapper per request
+        private static final int MAX_FORMATS = 64;
+
+        private static final Map<Format, Format> FORMATS = new ConcurrentHashMap<>();
+
+        private final Object mapper;
+
+        private final int serializationFeatures;
+
+        private final int generatorFeatures;
+
+        private final Object characterEscapes;
+
+        private final TimeZone timeZone;
+
+        private final Locale locale;
+
+        private Format(JsonGenerator gen, SerializationConfig config) {
+            this.mapper = config.getSubtypeResolver();
+            this.serializationFeatures = config.getSerializationFeatures() & ~IGNORED_SERIALIZATION_FEATURES;
+            this.generatorFeatures = gen.getFeatureMask() & ~IGNORED_GENERATOR_FEATURES;
+            this.characterEscapes = gen.getCharacterEscapes();
+            this.timeZone = config.getTimeZone();
+            this.locale = config.getLocale();
+        }
+
+        static Format of(JsonGenerator gen, SerializationConfig config) {
+            Format format = new Format(gen, config);
+            Format interned = FORMATS.get(format);
+            if (interned == null) {
+                if (FORMATS.size() >= MAX_FORMATS) {
+                    // the forms stored for the dropped formats are created again on their next use
+                    FORMATS.clear();
+                }
+                interned = FORMATS.putIfAbsent(format, format);
+                if (interned == null) {
+                    interned = format;
+                }
+            }
+            return interned;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Format)) {
+                return false;
+            }
+            Format format = (Format) other;
+            return mapper == format.mapper && serializationFeatures == format.serializationFeatures
+                && generatorFeatures == format.generatorFeatures && characterEscapes == format.characterEscapes
+                && timeZone.equals(format.timeZone) && locale.equals(format.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(mapper), serializationFeatures, generatorFeatures,
+                System.identityHashCode(characterEscapes), timeZone, locale);
+        }
+    }
+
+    /**
+     * Collects a serialized form, but gives up as soon as it exceeds MAX_FORM_LENGTH characters.
+     */
+    private static final class FormWriter extends Writer {
+
+        private final StringBuilder chars = new StringBuilder();
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            ensureCapacity(length);
+            chars.append(buffer, offset, length);
+        }
+
+        @Override
+        public void write(String text, int offset, int length) throws IOException {
+            ensureCapacity(length);
+            chars.append(text, offset, offset + length);
+        }
+
+        private void ensureCapacity(int length) throws TooLarge {
+            if (chars.length() + length > MAX_FORM_LENGTH) {
+                throw new TooLarge();
+            }
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {}
+
+        @Override
+        public String toString() {
+            return chars.toString();
+        }
+
+        // thrown to stop the serialization, so without stack trace
+        static final class TooLarge extends IOException {
+
+            private static final long serialVersionUID = 1L;
+
+            TooLarge() {
+                super("serialized form exceeds " + MAX_FORM_LENGTH + " characters", null);
+            }
+
+            @Override
+            public synchronized Throwable fillInStackTrace() {
+                return this;
+            }
+        }
+    }
+
+    private static void writeReference(JsonGenerator gen, URI value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject();
+        gen.writeStringField("@id", value.toString());
+        gen.writeEndObject();
+    }
+
+    private static final class DateSerializer {
+
+        final SerializationConfig config;
+
+        final JsonSerializer<Object> serializer;
+
+        DateSerializer(SerializationConfig config, JsonSerializer<Object> serializer) {
+            this.config = config;
+            this.serializer = serializer;
+        }
+    }
+
+    /**
+     * Property that carries the {@code @JsonFormat} of the date getters, so that the serializer is
+     * configured as for the annotated getter.
+     */
+    private static final class DateProperty extends BeanProperty.Std {
+
+        private static final long serialVersionUID = 1L;
+
+        DateProperty(JavaType type) {
+            super(PropertyName.construct("date"), type, null, null, PropertyMetadata.STD_OPTIONAL);
+        }
+
+        @Override
+        public JsonFormat.Value findPropertyFormat(MapperConfig<?> config, Class<?> baseType) {
+            return super.findPropertyFormat(config, baseType).withOverrides(DATE_FORMAT);
+        }
+    }
+
+}
@@ -0,0 +1,252 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Flat index of the implementation classes by the names accepted as "@type" of a node, i.e.
+ * "ids:Resource", "https://w3id.org/idsa/core/Resource" and "Resource". It replaces the walk through
+ * the nested @JsonSubTypes declarations of the interfaces (e.g. Message, RequestMessage,
+ * ArtifactRequestMessage) by a single lookup.
+ */
+final class ModelTypes {
+
+    private static final Map<String, Class<? extends ModelClass>> IMPLEMENTATIONS = new HashMap<>(1024);
+
+    static {
+        register("AccessTokenRequestMessage", AccessTokenRequestMessageImpl.class);
+        register("AccessTokenResponseMessage", AccessTokenResponseMessageImpl.class);
+        register("Action", ActionImpl.class);
+        register("Agent", AgentImpl.class);
+        register("AppAvailableMessage", AppAvailableMessageImpl.class);
+        register("AppDeleteMessage", AppDeleteMessageImpl.class);
+        register("AppEndpoint", AppEndpointImpl.class);
+        register("AppEndpointType", AppEndpointTypeImpl.class);
+        register("AppExecutionResources", AppExecutionResourcesImpl.class);
+        register("AppRegistrationRequestMessage", AppRegistrationRequestMessageImpl.class);
+        register("AppRegistrationResponseMessage", AppRegistrationResponseMessageImpl.class);
+        register("AppRepresentation", AppRepresentationImpl.class);
+        register("AppResourceCatalog", AppResourceCatalogImpl.class);
+        register("AppResource", AppResourceImpl.class);
+        register("AppRoute", AppRouteImpl.class);
+        register("AppStoreCatalog", AppStoreCatalogImpl.class);
+        register("AppStore", AppStoreImpl.class);
+        register("AppUnavailableMessage", AppUnavailableMessageImpl.class);
+        register("AppUploadMessage", AppUploadMessageImpl.class);
+        register("AppUploadResponseMessage", AppUploadResponseMessageImpl.class);
+        register("Artifact", ArtifactImpl.class);
+        register("ArtifactRequestMessage", ArtifactRequestMessageImpl.class);
+        register("ArtifactResponseMessage", ArtifactResponseMessageImpl.class);
+        register("ArtifactState", ArtifactStateImpl.class);
+        register("AssetCollection", AssetCollectionImpl.class);
+        register("Audience", AudienceImpl.class);
+        register("AudioRepresentation", AudioRepresentationImpl.class);
+        register("AudioResource", AudioResourceImpl.class);
+        register("AuditGuarantee", AuditGuaranteeImpl.class);
+        register("AuthInfo", AuthInfoImpl.class);
+        register("AuthStandard", AuthStandardImpl.class);
+        register("AuthenticationGuarantee", AuthenticationGuaranteeImpl.class);
+        register("BaseConnector", BaseConnectorImpl.class);
+        register("BasicAuthentication", BasicAuthenticationImpl.class);
+        register("BinaryOperator", BinaryOperatorImpl.class);
+        register("BoundingPolygon", BoundingPolygonImpl.class);
+        register("BrokerCatalog", BrokerCatalogImpl.class);
+        register("Broker", BrokerImpl.class);
+        register("BusinessIdentifier", BusinessIdentifierImpl.class);
+        register("ClearingHouseCatalog", ClearingHouseCatalogImpl.class);
+        register("ClearingHouse", ClearingHouseImpl.class);
+        register("CommandMessage", CommandMessageImpl.class);
+        register("ComponentCertification", ComponentCertificationImpl.class);
+        register("ComponentCertificationLevel", ComponentCertificationLevelImpl.class);
+        register("ConfigurationModel", ConfigurationModelImpl.class);
+        register("ConnectorCatalog", ConnectorCatalogImpl.class);
+        register("ConnectorCertificateGrantedMessage", ConnectorCertificateGrantedMessageImpl.class);
+        register("ConnectorCertificateRevokedMessage", ConnectorCertificateRevokedMessageImpl.class);
+        register("ConnectorDeployMode", ConnectorDeployModeImpl.class);
+        register("ConnectorEndpoint", ConnectorEndpointImpl.class);
+        register("ConnectorStatus", ConnectorStatusImpl.class);
+        register("ConnectorUnavailableMessage", ConnectorUnavailableMessageImpl.class);
+        register("ConnectorUpdateMessage", ConnectorUpdateMessageImpl.class);
+        register("ConnectorbasedAgreement", ConnectorbasedAgreementImpl.class);
+        register("ConnectorbasedOffer", ConnectorbasedOfferImpl.class);
+        register("ConnectorbasedRequest", ConnectorbasedRequestImpl.class);
+        register("Constraint", ConstraintImpl.class);
+        register("ContentType", ContentTypeImpl.class);
+        register("ContractAgreement", ContractAgreementImpl.class);
+        register("ContractAgreementMessage", ContractAgreementMessageImpl.class);
+        register("ContractOffer", ContractOfferImpl.class);
+        register("ContractOfferMessage", ContractOfferMessageImpl.class);
+        register("ContractRejectionMessage", ContractRejectionMessageImpl.class);
+        register("ContractRequest", ContractRequestImpl.class);
+        register("ContractRequestMessage", ContractRequestMessageImpl.class);
+        register("ContractResponseMessage", ContractResponseMessageImpl.class);
+        register("ContractSupplementMessage", ContractSupplementMessageImpl.class);
+        register("CustomMediaType", CustomMediaTypeImpl.class);
+        register("DAPS", DAPSImpl.class);
+        register("DatPayload", DatPayloadImpl.class);
+        register("DatRequestPayload", DatRequestPayloadImpl.class);
+        register("DataRepresentation", DataRepresentationImpl.class);
+        register("DataResource", DataResourceImpl.class);
+        register("DeleteAfterIntervalAgreement", DeleteAfterIntervalAgreementImpl.class);
+        register("DeleteAfterIntervalOffer", DeleteAfterIntervalOfferImpl.class);
+        register("DeleteAfterIntervalRequest", DeleteAfterIntervalRequestImpl.class);
+        register("DescriptionRequestMessage", DescriptionRequestMessageImpl.class);
+        register("DescriptionResponseMessage", DescriptionResponseMessageImpl.class);
+        register("DistributeEcryptedAgreement", DistributeEcryptedAgreementImpl.class);
+        register("DistributeEcryptedOffer", DistributeEcryptedOfferImpl.class);
+        register("DistributeEcryptedRequest", DistributeEcryptedRequestImpl.class);
+        register("DurationAgreement", DurationAgreementImpl.class);
+        register("DurationEntity", DurationEntityImpl.class);
+        register("DurationOffer", DurationOfferImpl.class);
+        register("DurationRequest", DurationRequestImpl.class);
+        register("Duty", DutyImpl.class);
+        register("DynamicAttributeToken", DynamicAttributeTokenImpl.class);
+        register("Endpoint", EndpointImpl.class);
+        register("EvaluationFacility", EvaluationFacilityImpl.class);
+        register("EventAgreement", EventAgreementImpl.class);
+        register("Event", EventImpl.class);
+        register("EventOffer", EventOfferImpl.class);
+        register("EventRequest", EventRequestImpl.class);
+        register("Frequency", FrequencyImpl.class);
+        register("GenericEndpoint", GenericEndpointImpl.class);
+        register("GeoFeature", GeoFeatureImpl.class);
+        register("GeoPoint", GeoPointImpl.class);
+        register("HTTPAuthentication", HTTPAuthenticationImpl.class);
+        register("IANAMediaType", IANAMediaTypeImpl.class);
+        register("IdentityProvider", IdentityProviderImpl.class);
+        register("IdsProtocolSpecification", IdsProtocolSpecificationImpl.class);
+        register("ImageRepresentation", ImageRepresentationImpl.class);
+        register("ImageResource", ImageResourceImpl.class);
+        register("InfrastructureComponent", InfrastructureComponentImpl.class);
+        register("Instant", InstantImpl.class);
+        register("IntegrityGuarantee", IntegrityGuaranteeImpl.class);
+        register("IntegrityVerificationScopeGuarantee", IntegrityVerificationScopeGuaranteeImpl.class);
+        register("Interval", IntervalImpl.class);
+        register("IntervalUsageAgreement", IntervalUsageAgreementImpl.class);
+        register("IntervalUsageOffer", IntervalUsageOfferImpl.class);
+        register("IntervalUsageRequest", IntervalUsageRequestImpl.class);
+        register("InvokeOperationMessage", InvokeOperationMessageImpl.class);
+        register("KeyType", KeyTypeImpl.class);
+        register("Language", LanguageImpl.class);
+        register("LeftOperand", LeftOperandImpl.class);
+        register("License", LicenseImpl.class);
+        register("LocalDataConfidentialityGuarantee", LocalDataConfidentialityGuaranteeImpl.class);
+        register("LogLevel", LogLevelImpl.class);
+        register("LogMessage", LogMessageImpl.class);
+        register("LoggingAgreement", LoggingAgreementImpl.class);
+        register("LoggingOffer", LoggingOfferImpl.class);
+        register("LoggingRequest", LoggingRequestImpl.class);
+        register("LogicalConstraint", LogicalConstraintImpl.class);
+        register("MessageProcessedNotificationMessage", MessageProcessedNotificationMessageImpl.class);
+        register("Named", NamedImpl.class);
+        register("NotMoreThanNAgreement", NotMoreThanNAgreementImpl.class);
+        register("NotMoreThanNOffer", NotMoreThanNOfferImpl.class);
+        register("NotMoreThanNRequest", NotMoreThanNRequestImpl.class);
+        register("NotificationAgreement", NotificationAgreementImpl.class);
+        register("NotificationMessage", NotificationMessageImpl.class);
+        register("NotificationOffer", NotificationOfferImpl.class);
+        register("NotificationRequest", NotificationRequestImpl.class);
+        register("OperationResultMessage", OperationResultMessageImpl.class);
+        register("OrchestrationApp", OrchestrationAppImpl.class);
+        register("PIP", PIPImpl.class);
+        register("PXP", PXPImpl.class);
+        register("ParIS", ParISImpl.class);
+        register("ParticipantCatalog", ParticipantCatalogImpl.class);
+        register("ParticipantCertificateGrantedMessage", ParticipantCertificateGrantedMessageImpl.class);
+        register("ParticipantCertificateRevokedMessage", ParticipantCertificateRevokedMessageImpl.class);
+        register("ParticipantCertification", ParticipantCertificationImpl.class);
+        register("ParticipantCertificationLevel", ParticipantCertificationLevelImpl.class);
+        register("Participant", ParticipantImpl.class);
+        register("ParticipantRequestMessage", ParticipantRequestMessageImpl.class);
+        register("ParticipantResponseMessage", ParticipantResponseMessageImpl.class);
+        register("ParticipantUnavailableMessage", ParticipantUnavailableMessageImpl.class);
+        register("ParticipantUpdateMessage", ParticipantUpdateMessageImpl.class);
+        register("PaymentModality", PaymentModalityImpl.class);
+        register("Permission", PermissionImpl.class);
+        register("Person", PersonImpl.class);
+        register("Prohibition", ProhibitionImpl.class);
+        register("Proxy", ProxyImpl.class);
+        register("PublicKey", PublicKeyImpl.class);
+        register("PurposeAgreement", PurposeAgreementImpl.class);
+        register("PurposeOffer", PurposeOfferImpl.class);
+        register("PurposeRequest", PurposeRequestImpl.class);
+        register("QueryLanguage", QueryLanguageImpl.class);
+        register("QueryMessage", QueryMessageImpl.class);
+        register("QueryScope", QueryScopeImpl.class);
+        register("QueryTarget", QueryTargetImpl.class);
+        register("RejectionMessage", RejectionMessageImpl.class);
+        register("RejectionReason", RejectionReasonImpl.class);
+        register("RentalAgreement", RentalAgreementImpl.class);
+        register("RentalOffer", RentalOfferImpl.class);
+        register("RentalRequest", RentalRequestImpl.class);
+        register("Representation", RepresentationImpl.class);
+        register("RequestInProcessMessage", RequestInProcessMessageImpl.class);
+        register("RequestMessage", RequestMessageImpl.class);
+        register("ResourceCatalog", ResourceCatalogImpl.class);
+        register("Resource", ResourceImpl.class);
+        register("ResourceUnavailableMessage", ResourceUnavailableMessageImpl.class);
+        register("ResourceUpdateMessage", ResourceUpdateMessageImpl.class);
+        register("ResponseMessage", ResponseMessageImpl.class);
+        register("ResultMessage", ResultMessageImpl.class);
+        register("RolebasedAgreement", RolebasedAgreementImpl.class);
+        register("RolebasedOffer", RolebasedOfferImpl.class);
+        register("RolebasedRequest", RolebasedRequestImpl.class);
+        register("RouteStep", RouteStepImpl.class);
+        register("SalesAgreement", SalesAgreementImpl.class);
+        register("SalesOffer", SalesOfferImpl.class);
+        register("SalesRequest", SalesRequestImpl.class);
+        register("SecurityAgreement", SecurityAgreementImpl.class);
+        register("SecurityGuarantee", SecurityGuaranteeImpl.class);
+        register("SecurityOffer", SecurityOfferImpl.class);
+        register("SecurityProfile", SecurityProfileImpl.class);
+        register("SecurityRequest", SecurityRequestImpl.class);
+        register("ServiceIsolationGuarantee", ServiceIsolationGuaranteeImpl.class);
+        register("Site", SiteImpl.class);
+        register("SmartDataApp", SmartDataAppImpl.class);
+        register("SoftwareRepresentation", SoftwareRepresentationImpl.class);
+        register("SoftwareResource", SoftwareResourceImpl.class);
+        register("SpatialAgreement", SpatialAgreementImpl.class);
+        register("SpatialOffer", SpatialOfferImpl.class);
+        register("SpatialRequest", SpatialRequestImpl.class);
+        register("SwapAgreement", SwapAgreementImpl.class);
+        register("SwapOffer", SwapOfferImpl.class);
+        register("SwapRequest", SwapRequestImpl.class);
+        register("SystemAdapter", SystemAdapterImpl.class);
+        register("TemporalEntity", TemporalEntityImpl.class);
+        register("TextRepresentation", TextRepresentationImpl.class);
+        register("TextResource", TextResourceImpl.class);
+        register("TokenFormat", TokenFormatImpl.class);
+        register("Token", TokenImpl.class);
+        register("TrustedConnector", TrustedConnectorImpl.class);
+        register("UploadMessage", UploadMessageImpl.class);
+        register("UploadResponseMessage", UploadResponseMessageImpl.class);
+        register("UsageControlComponent", UsageControlComponentImpl.class);
+        register("UsageControlGuarantee", UsageControlGuaranteeImpl.class);
+        register("UsageControlObject", UsageControlObjectImpl.class);
+        register("UsagePolicyClass", UsagePolicyClassImpl.class);
+        register("Value", ValueImpl.class);
+        register("VideoRepresentation", VideoRepresentationImpl.class);
+        register("VideoResource", VideoResourceImpl.class);
+    }
+
+    private static void register(String name, Class<? extends ModelClass> implementation) {
+        IMPLEMENTATIONS.put("ids:" + name, implementation);
+        IMPLEMENTATIONS.put("https://w3id.org/idsa/core/" + name, implementation);
+        IMPLEMENTATIONS.put(name, implementation);
+    }
+
+    private ModelTypes() {}
+
+    /**
+     * Looks up the implementation class of a type name.
+     *
+     * @param typeName compacted, full or plain name of the type, may be null
+     * @return implementation class or null, if the name does not denote a class of the model
+     */
+    static Class<? extends ModelClass> implementation(String typeName) {
+        return typeName == null ? null : IMPLEMENTATIONS.get(typeName);
+    }
+
+}
@@ -0,0 +1,75 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:Named.
+ */
+public final class NamedCodec {
+
+    private NamedCodec() {}
+
+    public static class Serializer extends ModelSerializer<Named> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(Named.class, "ids:Named");
+        }
+
+        @Override
+        protected void serializeProperties(Named value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValue(gen, provider, "ids:name", value.getName());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<NamedImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(NamedImpl.class);
+        }
+
+        @Override
+        protected NamedImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            String _name = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:name":
+                    case "https://w3id.org/idsa/core/name":
+                    case "name":
+                        _name = readValue(p, ctxt, String.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            NamedBuilder builder =
+                id != null ? new NamedBuilder(id) : new NamedBuilder();
+            if (_name != null) {
+                builder._name_(_name);
+            }
+            return withProperties((NamedImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
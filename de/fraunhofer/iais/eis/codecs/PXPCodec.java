@@ -0,0 +1,85 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:PXP.
+ */
+public final class PXPCodec {
+
+    private PXPCodec() {}
+
+    public static class Serializer extends ModelSerializer<PXP> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(PXP.class, "ids:PXP");
+        }
+
+        @Override
+        protected void serializeProperties(PXP value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeUri(gen, "ids:endpointURI", value.getEndpointURI());
+            writeUri(gen, "ids:interfaceDescription", value.getInterfaceDescription());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<PXPImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(PXPImpl.class);
+        }
+
+        @Override
+        protected PXPImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            URI _endpointURI = null;
+            URI _interfaceDescription = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:endpointURI":
+                    case "https://w3id.org/idsa/core/endpointURI":
+                    case "endpointURI":
+                        _endpointURI = readUri(p, ctxt);
+                        break;
+                    case "ids:interfaceDescription":
+                    case "https://w3id.org/idsa/core/interfaceDescription":
+                    case "interfaceDescription":
+                        _interfaceDescription = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            PXPBuilder builder =
+                id != null ? new PXPBuilder(id) : new PXPBuilder();
+            if (_endpointURI != null) {
+                builder._endpointURI_(_endpointURI);
+            }
+            if (_interfaceDescription != null) {
+                builder._interfaceDescription_(_interfaceDescription);
+            }
+            return withProperties((PXPImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,88 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:ParticipantCatalog.
+ */
+public final class ParticipantCatalogCodec {
+
+    private ParticipantCatalogCodec() {}
+
+    public static class Serializer extends ModelSerializer<ParticipantCatalog> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(ParticipantCatalog.class, "ids:ParticipantCatalog");
+        }
+
+        @Override
+        protected void serializeProperties(ParticipantCatalog value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeObjectsAndUris(gen, provider, "ids:member", value.getMemberAsObject(), value.getMemberAsUri());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<ParticipantCatalogImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(ParticipantCatalogImpl.class);
+        }
+
+        @Override
+        protected ParticipantCatalogImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id,
+            String field)
+            throws IOException {
+            List<Participant> _memberAsObject = new ArrayList<>();
+            List<URI> _memberAsUri = new ArrayList<>();
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:member":
+                    case "https://w3id.org/idsa/core/member":
+                    case "member":
+                        readObjectsAndUris(p, ctxt, Participant.class, _memberAsObject, _memberAsUri);
+                        break;
+                    case "ids:memberAsObject":
+                    case "https://w3id.org/idsa/core/memberAsObject":
+                    case "memberAsObject":
+                        _memberAsObject.addAll(readObjects(p, ctxt, Participant.class));
+                        break;
+                    case "ids:memberAsUri":
+                    case "https://w3id.org/idsa/core/memberAsUri":
+                    case "memberAsUri":
+                        _memberAsUri.addAll(readUris(p, ctxt));
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            ParticipantCatalogBuilder builder =
+                id != null ? new ParticipantCatalogBuilder(id) : new ParticipantCatalogBuilder();
+            builder._memberAsObject_(_memberAsObject);
+            builder._memberAsUri_(_memberAsUri);
+            return withProperties((ParticipantCatalogImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,141 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+import de.fraunhofer.iais.eis.util.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:ParticipantCertification.
+ */
+public final class ParticipantCertificationCodec {
+
+    private ParticipantCertificationCodec() {}
+
+    public static class Serializer extends ModelSerializer<ParticipantCertification> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(ParticipantCertification.class, "ids:ParticipantCertification");
+        }
+
+        @Override
+        protected void serializeProperties(ParticipantCertification value, JsonGenerator gen,
+            SerializerProvider provider)
+            throws IOException {
+            writeValue(gen, provider, "ids:certificationLevel", value.getCertificationLevel());
+            writeValues(gen, provider, "ids:description", value.getDescription());
+            writeValue(gen, provider, "ids:evaluationFacility", value.getEvaluationFacility());
+            writeDate(gen, provider, "ids:lastValidDate", value.getLastValidDate());
+            writeDate(gen, provider, "ids:membershipEnd", value.getMembershipEnd());
+            writeValues(gen, provider, "ids:title", value.getTitle());
+            writeValue(gen, provider, "ids:version", value.getVersion());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<ParticipantCertificationImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(ParticipantCertificationImpl.class);
+        }
+
+        @Override
+        protected ParticipantCertificationImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id,
+            String field)
+            throws IOException {
+            CertificationLevel _certificationLevel = null;
+            List<TypedLiteral> _description = null;
+            EvaluationFacility _evaluationFacility = null;
+            XMLGregorianCalendar _lastValidDate = null;
+            XMLGregorianCalendar _membershipEnd = null;
+            List<TypedLiteral> _title = null;
+            String _version = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:certificationLevel":
+                    case "https://w3id.org/idsa/core/certificationLevel":
+                    case "certificationLevel":
+                        _certificationLevel = readObject(p, ctxt, CertificationLevel.class);
+                        break;
+                    case "ids:description":
+                    case "https://w3id.org/idsa/core/description":
+                    case "description":
+                        _description = readValues(p, ctxt, TypedLiteral.class);
+                        break;
+                    case "ids:evaluationFacility":
+                    case "https://w3id.org/idsa/core/evaluationFacility":
+                    case "evaluationFacility":
+                        _evaluationFacility = readObject(p, ctxt, EvaluationFacility.class);
+                        break;
+                    case "ids:lastValidDate":
+                    case "https://w3id.org/idsa/core/lastValidDate":
+                    case "lastValidDate":
+                        _lastValidDate = readDate(p, ctxt);
+                        break;
+                    case "ids:membershipEnd":
+                    case "https://w3id.org/idsa/core/membershipEnd":
+                    case "membershipEnd":
+                        _membershipEnd = readDate(p, ctxt);
+                        break;
+                    case "ids:title":
+                    case "https://w3id.org/idsa/core/title":
+                    case "title":
+                        _title = readValues(p, ctxt, TypedLiteral.class);
+                        break;
+                    case "ids:version":
+                    case "https://w3id.org/idsa/core/version":
+                    case "version":
+                        _version = readValue(p, ctxt, String.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            ParticipantCertificationBuilder builder =
+                id != null ? new ParticipantCertificationBuilder(id) : new ParticipantCertificationBuilder();
+            if (_certificationLevel != null) {
+                builder._certificationLevel_(_certificationLevel);
+            }
+            if (_description != null) {
+                builder._description_(_description);
+            }
+            if (_evaluationFacility != null) {
+                builder._evaluationFacility_(_evaluationFacility);
+            }
+            if (_lastValidDate != null) {
+                builder._lastValidDate_(_lastValidDate);
+            }
+            if (_membershipEnd != null) {
+                builder._membershipEnd_(_membershipEnd);
+            }
+            if (_title != null) {
+                builder._title_(_title);
+            }
+            if (_version != null) {
+                builder._version_(_version);
+            }
+            return withProperties((ParticipantCertificationImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,77 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:ParticipantCertificationLevel.
+ */
+public final class ParticipantCertificationLevelCodec {
+
+    private ParticipantCertificationLevelCodec() {}
+
+    public static class Serializer extends ModelSerializer<ParticipantCertificationLevel> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(ParticipantCertificationLevel.class, "ids:ParticipantCertificationLevel");
+        }
+
+        @Override
+        protected void serializeProperties(ParticipantCertificationLevel value, JsonGenerator gen,
+            SerializerProvider provider)
+            throws IOException {
+            writeValue(gen, provider, "ids:includedCertificationLevel", value.getIncludedCertificationLevel());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<ParticipantCertificationLevelImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(ParticipantCertificationLevelImpl.class);
+        }
+
+        @Override
+        protected ParticipantCertificationLevelImpl deserializeFields(JsonParser p, DeserializationContext ctxt,
+            URI id, String field)
+            throws IOException {
+            CertificationLevel _includedCertificationLevel = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:includedCertificationLevel":
+                    case "https://w3id.org/idsa/core/includedCertificationLevel":
+                    case "includedCertificationLevel":
+                        _includedCertificationLevel = readObject(p, ctxt, CertificationLevel.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            ParticipantCertificationLevelBuilder builder =
+                id != null ? new ParticipantCertificationLevelBuilder(id) : new ParticipantCertificationLevelBuilder();
+            if (_includedCertificationLevel != null) {
+                builder._includedCertificationLevel_(_includedCertificationLevel);
+            }
+            return withProperties((ParticipantCertificationLevelImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
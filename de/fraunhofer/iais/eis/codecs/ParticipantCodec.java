@@ -0,0 +1,217 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+import de.fraunhofer.iais.eis.util.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:Participant.
+ */
+public final class ParticipantCodec {
+
+    private ParticipantCodec() {}
+
+    public static class Serializer extends ModelSerializer<Participant> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(Participant.class, "ids:Participant");
+        }
+
+        @Override
+        protected void serializeProperties(Participant value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValues(gen, provider, "ids:businessIdentifier", value.getBusinessIdentifier());
+            writeValues(gen, provider, "ids:corporateEmailAddress", value.getCorporateEmailAddress());
+            writeUri(gen, "ids:corporateHomepage", value.getCorporateHomepage());
+            writeValues(gen, provider, "ids:description", value.getDescription());
+            writeValue(gen, provider, "ids:jurisdiction", value.getJurisdiction());
+            writeValue(gen, provider, "ids:legalForm", value.getLegalForm());
+            writeValues(gen, provider, "ids:legalName", value.getLegalName());
+            writeValues(gen, provider, "ids:memberParticipant", value.getMemberParticipant());
+            writeValues(gen, provider, "ids:memberPerson", value.getMemberPerson());
+            writeValue(gen, provider, "ids:participantCertification", value.getParticipantCertification());
+            writeValue(gen, provider, "ids:participantRefinement", value.getParticipantRefinement());
+            writeValue(gen, provider, "ids:primarySite", value.getPrimarySite());
+            writeValues(gen, provider, "ids:title", value.getTitle());
+            writeValue(gen, provider, "ids:vatID", value.getVatID());
+            writeValue(gen, provider, "ids:version", value.getVersion());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<ParticipantImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(ParticipantImpl.class);
+        }
+
+        @Override
+        protected ParticipantImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            List<BusinessIdentifier> _businessIdentifier = null;
+            List<String> _corporateEmailAddress = null;
+            URI _corporateHomepage = null;
+            List<TypedLiteral> _description = null;
+            String _jurisdiction = null;
+            String _legalForm = null;
+            List<String> _legalName = null;
+            List<Participant> _memberParticipant = null;
+            List<Person> _memberPerson = null;
+            ParticipantCertification _participantCertification = null;
+            AbstractConstraint _participantRefinement = null;
+            Site _primarySite = null;
+            List<TypedLiteral> _title = null;
+            String _vatID = null;
+            String _version = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:businessIdentifier":
+                    case "https://w3id.org/idsa/core/businessIdentifier":
+                    case "businessIdentifier":
+                        _businessIdentifier = readObjects(p, ctxt, BusinessIdentifier.class);
+                        break;
+                    case "ids:corporateEmailAddress":
+                    case "https://w3id.org/idsa/core/corporateEmailAddress":
+                    case "corporateEmailAddress":
+                        _corporateEmailAddress = readValues(p, ctxt, String.class);
+                        break;
+                    case "ids:corporateHomepage":
+                    case "https://w3id.org/idsa/core/corporateHomepage":
+                    case "corporateHomepage":
+                        _corporateHomepage = readUri(p, ctxt);
+                        break;
+                    case "ids:description":
+                    case "https://w3id.org/idsa/core/description":
+                    case "description":
+                        _description = readValues(p, ctxt, TypedLiteral.class);
+                        break;
+                    case "ids:jurisdiction":
+                    case "https://w3id.org/idsa/core/jurisdiction":
+                    case "jurisdiction":
+                        _jurisdiction = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:legalForm":
+                    case "https://w3id.org/idsa/core/legalForm":
+                    case "legalForm":
+                        _legalForm = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:legalName":
+                    case "https://w3id.org/idsa/core/legalName":
+                    case "legalName":
+                        _legalName = readValues(p, ctxt, String.class);
+                        break;
+                    case "ids:memberParticipant":
+                    case "https://w3id.org/idsa/core/memberParticipant":
+                    case "memberParticipant":
+                        _memberParticipant = readObjects(p, ctxt, Participant.class);
+                        break;
+                    case "ids:memberPerson":
+                    case "https://w3id.org/idsa/core/memberPerson":
+                    case "memberPerson":
+                        _memberPerson = readObjects(p, ctxt, Person.class);
+                        break;
+                    case "ids:participantCertification":
+                    case "https://w3id.org/idsa/core/participantCertification":
+                    case "participantCertification":
+                        _participantCertification = readObject(p, ctxt, ParticipantCertification.class);
+                        break;
+                    case "ids:participantRefinement":
+                    case "https://w3id.org/idsa/core/participantRefinement":
+                    case "participantRefinement":
+                        _participantRefinement = readObject(p, ctxt, AbstractConstraint.class);
+                        break;
+                    case "ids:primarySite":
+                    case "https://w3id.org/idsa/core/primarySite":
+                    case "primarySite":
+                        _primarySite = readObject(p, ctxt, Site.class);
+                        break;
+                    case "ids:title":
+                    case "https://w3id.org/idsa/core/title":
+                    case "title":
+                        _title = readValues(p, ctxt, TypedLiteral.class);
+                        break;
+                    case "ids:vatID":
+                    case "https://w3id.org/idsa/core/vatID":
+                    case "vatID":
+                        _vatID = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:version":
+                    case "https://w3id.org/idsa/core/version":
+                    case "version":
+                        _version = readValue(p, ctxt, String.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            ParticipantBuilder builder =
+                id != null ? new ParticipantBuilder(id) : new ParticipantBuilder();
+            if (_businessIdentifier != null) {
+                builder._businessIdentifier_(_businessIdentifier);
+            }
+            if (_corporateEmailAddress != null) {
+                builder._corporateEmailAddress_(_corporateEmailAddress);
+            }
+            if (_corporateHomepage != null) {
+                builder._corporateHomepage_(_corporateHomepage);
+            }
+            if (_description != null) {
+                builder._description_(_description);
+            }
+            if (_jurisdiction != null) {
+                builder._jurisdiction_(_jurisdiction);
+            }
+            if (_legalForm != null) {
+                builder._legalForm_(_legalForm);
+            }
+            if (_legalName != null) {
+                builder._legalName_(_legalName);
+            }
+            if (_memberParticipant != null) {
+                builder._memberParticipant_(_memberParticipant);
+            }
+            if (_memberPerson != null) {
+                builder._memberPerson_(_memberPerson);
+            }
+            if (_participantCertification != null) {
+                builder._participantCertification_(_participantCertification);
+            }
+            if (_participantRefinement != null) {
+                builder._participantRefinement_(_participantRefinement);
+            }
+            if (_primarySite != null) {
+                builder._primarySite_(_primarySite);
+            }
+            if (_title != null) {
+                builder._title_(_title);
+            }
+            if (_vatID != null) {
+                builder._vatID_(_vatID);
+            }
+            if (_version != null) {
+                builder._version_(_version);
+            }
+            return withProperties((ParticipantImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
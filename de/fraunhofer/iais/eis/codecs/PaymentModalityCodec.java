@@ -0,0 +1,65 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:PaymentModality.
+ */
+public final class PaymentModalityCodec {
+
+    private PaymentModalityCodec() {}
+
+    public static class Serializer extends ModelSerializer<PaymentModality> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(PaymentModality.class, "ids:PaymentModality");
+        }
+
+        @Override
+        protected void serializeProperties(PaymentModality value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<PaymentModalityImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(PaymentModalityImpl.class);
+        }
+
+        @Override
+        protected PaymentModalityImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            PaymentModalityBuilder builder =
+                id != null ? new PaymentModalityBuilder(id) : new PaymentModalityBuilder();
+            return withProperties((PaymentModalityImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,116 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:Person.
+ */
+public final class PersonCodec {
+
+    private PersonCodec() {}
+
+    public static class Serializer extends ModelSerializer<Person> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(Person.class, "ids:Person");
+        }
+
+        @Override
+        protected void serializeProperties(Person value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValues(gen, provider, "ids:emailAddress", value.getEmailAddress());
+            writeValue(gen, provider, "ids:familyName", value.getFamilyName());
+            writeValue(gen, provider, "ids:givenName", value.getGivenName());
+            writeValue(gen, provider, "ids:homepage", value.getHomepage());
+            writeValues(gen, provider, "ids:phoneNumber", value.getPhoneNumber());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<PersonImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(PersonImpl.class);
+        }
+
+        @Override
+        protected PersonImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            List<String> _emailAddress = null;
+            String _familyName = null;
+            String _givenName = null;
+            String _homepage = null;
+            List<String> _phoneNumber = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:emailAddress":
+                    case "https://w3id.org/idsa/core/emailAddress":
+                    case "emailAddress":
+                        _emailAddress = readValues(p, ctxt, String.class);
+                        break;
+                    case "ids:familyName":
+                    case "https://w3id.org/idsa/core/familyName":
+                    case "familyName":
+                        _familyName = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:givenName":
+                    case "https://w3id.org/idsa/core/givenName":
+                    case "givenName":
+                        _givenName = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:homepage":
+                    case "https://w3id.org/idsa/core/homepage":
+                    case "homepage":
+                        _homepage = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:phoneNumber":
+                    case "https://w3id.org/idsa/core/phoneNumber":
+                    case "phoneNumber":
+                        _phoneNumber = readValues(p, ctxt, String.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            PersonBuilder builder =
+                id != null ? new PersonBuilder(id) : new PersonBuilder();
+            if (_emailAddress != null) {
+                builder._emailAddress_(_emailAddress);
+            }
+            if (_familyName != null) {
+                builder._familyName_(_familyName);
+            }
+            if (_givenName != null) {
+                builder._givenName_(_givenName);
+            }
+            if (_homepage != null) {
+                builder._homepage_(_homepage);
+            }
+            if (_phoneNumber != null) {
+                builder._phoneNumber_(_phoneNumber);
+            }
+            return withProperties((PersonImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
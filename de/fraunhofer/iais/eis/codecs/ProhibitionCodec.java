@@ -0,0 +1,147 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+import de.fraunhofer.iais.eis.util.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:Prohibition.
+ */
+public final class ProhibitionCodec {
+
+    private ProhibitionCodec() {}
+
+    public static class Serializer extends ModelSerializer<Prohibition> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(Prohibition.class, "ids:Prohibition");
+        }
+
+        @Override
+        protected void serializeProperties(Prohibition value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValues(gen, provider, "ids:action", value.getAction());
+            writeValue(gen, provider, "ids:assetRefinement", value.getAssetRefinement());
+            writeUris(gen, "ids:assignee", value.getAssignee());
+            writeUris(gen, "ids:assigner", value.getAssigner());
+            writeValues(gen, provider, "ids:constraint", value.getConstraint());
+            writeValues(gen, provider, "ids:description", value.getDescription());
+            writeUri(gen, "ids:target", value.getTarget());
+            writeValues(gen, provider, "ids:title", value.getTitle());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<ProhibitionImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(ProhibitionImpl.class);
+        }
+
+        @Override
+        protected ProhibitionImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            List<Action> _action = null;
+            AbstractConstraint _assetRefinement = null;
+            List<URI> _assignee = null;
+            List<URI> _assigner = null;
+            List<AbstractConstraint> _constraint = null;
+            List<TypedLiteral> _description = null;
+            URI _target = null;
+            List<TypedLiteral> _title = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:action":
+                    case "https://w3id.org/idsa/core/action":
+                    case "action":
+                        _action = readObjects(p, ctxt, Action.class);
+                        break;
+                    case "ids:assetRefinement":
+                    case "https://w3id.org/idsa/core/assetRefinement":
+                    case "assetRefinement":
+                        _assetRefinement = readObject(p, ctxt, AbstractConstraint.class);
+                        break;
+                    case "ids:assignee":
+                    case "https://w3id.org/idsa/core/assignee":
+                    case "assignee":
+                        _assignee = readUris(p, ctxt);
+                        break;
+                    case "ids:assigner":
+                    case "https://w3id.org/idsa/core/assigner":
+                    case "assigner":
+                        _assigner = readUris(p, ctxt);
+                        break;
+                    case "ids:constraint":
+                    case "https://w3id.org/idsa/core/constraint":
+                    case "constraint":
+                        _constraint = readObjects(p, ctxt, AbstractConstraint.class);
+                        break;
+                    case "ids:description":
+                    case "https://w3id.org/idsa/core/description":
+                    case "description":
+                        _description = readValues(p, ctxt, TypedLiteral.class);
+                        break;
+                    case "ids:target":
+                    case "https://w3id.org/idsa/core/target":
+                    case "target":
+                        _target = readUri(p, ctxt);
+                        break;
+                    case "ids:title":
+                    case "https://w3id.org/idsa/core/title":
+                    case "title":
+                        _title = readValues(p, ctxt, TypedLiteral.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            ProhibitionBuilder builder =
+                id != null ? new ProhibitionBuilder(id) : new ProhibitionBuilder();
+            if (_action != null) {
+                builder._action_(_action);
+            }
+            if (_assetRefinement != null) {
+                builder._assetRefinement_(_assetRefinement);
+            }
+            if (_assignee != null) {
+                builder._assignee_(_assignee);
+            }
+            if (_assigner != null) {
+                builder._assigner_(_assigner);
+            }
+            if (_constraint != null) {
+                builder._constraint_(_constraint);
+            }
+            if (_description != null) {
+                builder._description_(_description);
+            }
+            if (_target != null) {
+                builder._target_(_target);
+            }
+            if (_title != null) {
+                builder._title_(_title);
+            }
+            return withProperties((ProhibitionImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
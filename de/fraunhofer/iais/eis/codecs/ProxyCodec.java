@@ -0,0 +1,96 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:Proxy.
+ */
+public final class ProxyCodec {
+
+    private ProxyCodec() {}
+
+    public static class Serializer extends ModelSerializer<Proxy> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(Proxy.class, "ids:Proxy");
+        }
+
+        @Override
+        protected void serializeProperties(Proxy value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeUris(gen, "ids:noProxy", value.getNoProxy());
+            writeValue(gen, provider, "ids:proxyAuthentication", value.getProxyAuthentication());
+            writeUri(gen, "ids:proxyURI", value.getProxyURI());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<ProxyImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(ProxyImpl.class);
+        }
+
+        @Override
+        protected ProxyImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            List<URI> _noProxy = null;
+            BasicAuthentication _proxyAuthentication = null;
+            URI _proxyURI = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:noProxy":
+                    case "https://w3id.org/idsa/core/noProxy":
+                    case "noProxy":
+                        _noProxy = readUris(p, ctxt);
+                        break;
+                    case "ids:proxyAuthentication":
+                    case "https://w3id.org/idsa/core/proxyAuthentication":
+                    case "proxyAuthentication":
+                        _proxyAuthentication = readObject(p, ctxt, BasicAuthentication.class);
+                        break;
+                    case "ids:proxyURI":
+                    case "https://w3id.org/idsa/core/proxyURI":
+                    case "proxyURI":
+                        _proxyURI = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            ProxyBuilder builder =
+                id != null ? new ProxyBuilder(id) : new ProxyBuilder();
+            if (_noProxy != null) {
+                builder._noProxy_(_noProxy);
+            }
+            if (_proxyAuthentication != null) {
+                builder._proxyAuthentication_(_proxyAuthentication);
+            }
+            if (_proxyURI != null) {
+                builder._proxyURI_(_proxyURI);
+            }
+            return withProperties((ProxyImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,85 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:PublicKey.
+ */
+public final class PublicKeyCodec {
+
+    private PublicKeyCodec() {}
+
+    public static class Serializer extends ModelSerializer<PublicKey> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(PublicKey.class, "ids:PublicKey");
+        }
+
+        @Override
+        protected void serializeProperties(PublicKey value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValue(gen, provider, "ids:keyType", value.getKeyType());
+            writeValue(gen, provider, "ids:keyValue", value.getKeyValue());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<PublicKeyImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(PublicKeyImpl.class);
+        }
+
+        @Override
+        protected PublicKeyImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            KeyType _keyType = null;
+            byte[] _keyValue = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:keyType":
+                    case "https://w3id.org/idsa/core/keyType":
+                    case "keyType":
+                        _keyType = readObject(p, ctxt, KeyType.class);
+                        break;
+                    case "ids:keyValue":
+                    case "https://w3id.org/idsa/core/keyValue":
+                    case "keyValue":
+                        _keyValue = readValue(p, ctxt, byte[].class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            PublicKeyBuilder builder =
+                id != null ? new PublicKeyBuilder(id) : new PublicKeyBuilder();
+            if (_keyType != null) {
+                builder._keyType_(_keyType);
+            }
+            if (_keyValue != null) {
+                builder._keyValue_(_keyValue);
+            }
+            return withProperties((PublicKeyImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
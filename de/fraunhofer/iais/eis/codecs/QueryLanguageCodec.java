@@ -0,0 +1,65 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:QueryLanguage.
+ */
+public final class QueryLanguageCodec {
+
+    private QueryLanguageCodec() {}
+
+    public static class Serializer extends ModelSerializer<QueryLanguage> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(QueryLanguage.class, "ids:QueryLanguage");
+        }
+
+        @Override
+        protected void serializeProperties(QueryLanguage value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<QueryLanguageImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(QueryLanguageImpl.class);
+        }
+
+        @Override
+        protected QueryLanguageImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            QueryLanguageBuilder builder =
+                id != null ? new QueryLanguageBuilder(id) : new QueryLanguageBuilder();
+            return withProperties((QueryLanguageImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,65 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:QueryScope.
+ */
+public final class QueryScopeCodec {
+
+    private QueryScopeCodec() {}
+
+    public static class Serializer extends ModelSerializer<QueryScope> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(QueryScope.class, "ids:QueryScope");
+        }
+
+        @Override
+        protected void serializeProperties(QueryScope value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<QueryScopeImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(QueryScopeImpl.class);
+        }
+
+        @Override
+        protected QueryScopeImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            QueryScopeBuilder builder =
+                id != null ? new QueryScopeBuilder(id) : new QueryScopeBuilder();
+            return withProperties((QueryScopeImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,65 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:QueryTarget.
+ */
+public final class QueryTargetCodec {
+
+    private QueryTargetCodec() {}
+
+    public static class Serializer extends ModelSerializer<QueryTarget> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(QueryTarget.class, "ids:QueryTarget");
+        }
+
+        @Override
+        protected void serializeProperties(QueryTarget value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<QueryTargetImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(QueryTargetImpl.class);
+        }
+
+        @Override
+        protected QueryTargetImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            QueryTargetBuilder builder =
+                id != null ? new QueryTargetBuilder(id) : new QueryTargetBuilder();
+            return withProperties((QueryTargetImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,65 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:RejectionReason.
+ */
+public final class RejectionReasonCodec {
+
+    private RejectionReasonCodec() {}
+
+    public static class Serializer extends ModelSerializer<RejectionReason> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(RejectionReason.class, "ids:RejectionReason");
+        }
+
+        @Override
+        protected void serializeProperties(RejectionReason value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<RejectionReasonImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(RejectionReasonImpl.class);
+        }
+
+        @Override
+        protected RejectionReasonImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            RejectionReasonBuilder builder =
+                id != null ? new RejectionReasonBuilder(id) : new RejectionReasonBuilder();
+            return withProperties((RejectionReasonImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,110 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:ResourceCatalog.
+ */
+public final class ResourceCatalogCodec {
+
+    private ResourceCatalogCodec() {}
+
+    public static class Serializer extends ModelSerializer<ResourceCatalog> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(ResourceCatalog.class, "ids:ResourceCatalog");
+        }
+
+        @Override
+        protected void serializeProperties(ResourceCatalog value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeObjectsAndUris(gen, provider, "ids:offeredResource", value.getOfferedResourceAsObject(),
+                value.getOfferedResourceAsUri());
+            writeObjectsAndUris(gen, provider, "ids:requestedResource", value.getRequestedResourceAsObject(),
+                value.getRequestedResourceAsUri());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<ResourceCatalogImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(ResourceCatalogImpl.class);
+        }
+
+        @Override
+        protected ResourceCatalogImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            List<Resource> _offeredResourceAsObject = new ArrayList<>();
+            List<URI> _offeredResourceAsUri = new ArrayList<>();
+            List<Resource> _requestedResourceAsObject = new ArrayList<>();
+            List<URI> _requestedResourceAsUri = new ArrayList<>();
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:offeredResource":
+                    case "https://w3id.org/idsa/core/offeredResource":
+                    case "offeredResource":
+                        readObjectsAndUris(p, ctxt, Resource.class, _offeredResourceAsObject, _offeredResourceAsUri);
+                        break;
+                    case "ids:offeredResourceAsObject":
+                    case "https://w3id.org/idsa/core/offeredResourceAsObject":
+                    case "offeredResourceAsObject":
+                        _offeredResourceAsObject.addAll(readObjects(p, ctxt, Resource.class));
+                        break;
+                    case "ids:offeredResourceAsUri":
+                    case "https://w3id.org/idsa/core/offeredResourceAsUri":
+                    case "offeredResourceAsUri":
+                        _offeredResourceAsUri.addAll(readUris(p, ctxt));
+                        break;
+                    case "ids:requestedResource":
+                    case "https://w3id.org/idsa/core/requestedResource":
+                    case "requestedResource":
+                        readObjectsAndUris(p, ctxt, Resource.class, _requestedResourceAsObject,
+                            _requestedResourceAsUri);
+                        break;
+                    case "ids:requestedResourceAsObject":
+                    case "https://w3id.org/idsa/core/requestedResourceAsObject":
+                    case "requestedResourceAsObject":
+                        _requestedResourceAsObject.addAll(readObjects(p, ctxt, Resource.class));
+                        break;
+                    case "ids:requestedResourceAsUri":
+                    case "https://w3id.org/idsa/core/requestedResourceAsUri":
+                    case "requestedResourceAsUri":
+                        _requestedResourceAsUri.addAll(readUris(p, ctxt));
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            ResourceCatalogBuilder builder =
+                id != null ? new ResourceCatalogBuilder(id) : new ResourceCatalogBuilder();
+            builder._offeredResourceAsObject_(_offeredResourceAsObject);
+            builder._offeredResourceAsUri_(_offeredResourceAsUri);
+            builder._requestedResourceAsObject_(_requestedResourceAsObject);
+            builder._requestedResourceAsUri_(_requestedResourceAsUri);
+            return withProperties((ResourceCatalogImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,166 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:RouteStep.
+ */
+public final class RouteStepCodec {
+
+    private RouteStepCodec() {}
+
+    public static class Serializer extends ModelSerializer<RouteStep> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(RouteStep.class, "ids:RouteStep");
+        }
+
+        @Override
+        protected void serializeProperties(RouteStep value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValues(gen, provider, "ids:appRouteBroker", value.getAppRouteBroker());
+            writeValues(gen, provider, "ids:appRouteClearingHouse", value.getAppRouteClearingHouse());
+            writeValues(gen, provider, "ids:appRouteEnd", value.getAppRouteEnd());
+            writeValues(gen, provider, "ids:appRouteOutput", value.getAppRouteOutput());
+            writeValues(gen, provider, "ids:appRouteStart", value.getAppRouteStart());
+            writeValues(gen, provider, "ids:hasSubRoute", value.getHasSubRoute());
+            writeValue(gen, provider, "ids:requiredDataApp", value.getRequiredDataApp());
+            writeValue(gen, provider, "ids:routeConfiguration", value.getRouteConfiguration());
+            writeValue(gen, provider, "ids:routeDeployMethod", value.getRouteDeployMethod());
+            writeValue(gen, provider, "ids:routeDescription", value.getRouteDescription());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<RouteStepImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(RouteStepImpl.class);
+        }
+
+        @Override
+        protected RouteStepImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            List<Broker> _appRouteBroker = null;
+            List<ClearingHouse> _appRouteClearingHouse = null;
+            List<Endpoint> _appRouteEnd = null;
+            List<Resource> _appRouteOutput = null;
+            List<Endpoint> _appRouteStart = null;
+            List<RouteStep> _hasSubRoute = null;
+            AppRepresentation _requiredDataApp = null;
+            String _routeConfiguration = null;
+            String _routeDeployMethod = null;
+            String _routeDescription = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:appRouteBroker":
+                    case "https://w3id.org/idsa/core/appRouteBroker":
+                    case "appRouteBroker":
+                        _appRouteBroker = readObjects(p, ctxt, Broker.class);
+                        break;
+                    case "ids:appRouteClearingHouse":
+                    case "https://w3id.org/idsa/core/appRouteClearingHouse":
+                    case "appRouteClearingHouse":
+                        _appRouteClearingHouse = readObjects(p, ctxt, ClearingHouse.class);
+                        break;
+                    case "ids:appRouteEnd":
+                    case "https://w3id.org/idsa/core/appRouteEnd":
+                    case "appRouteEnd":
+                        _appRouteEnd = readObjects(p, ctxt, Endpoint.class);
+                        break;
+                    case "ids:appRouteOutput":
+                    case "https://w3id.org/idsa/core/appRouteOutput":
+                    case "appRouteOutput":
+                        _appRouteOutput = readObjects(p, ctxt, Resource.class);
+                        break;
+                    case "ids:appRouteStart":
+                    case "https://w3id.org/idsa/core/appRouteStart":
+                    case "appRouteStart":
+                        _appRouteStart = readObjects(p, ctxt, Endpoint.class);
+                        break;
+                    case "ids:hasSubRoute":
+                    case "https://w3id.org/idsa/core/hasSubRoute":
+                    case "hasSubRoute":
+                        _hasSubRoute = readObjects(p, ctxt, RouteStep.class);
+                        break;
+                    case "ids:requiredDataApp":
+                    case "https://w3id.org/idsa/core/requiredDataApp":
+                    case "requiredDataApp":
+                        _requiredDataApp = readObject(p, ctxt, AppRepresentation.class);
+                        break;
+                    case "ids:routeConfiguration":
+                    case "https://w3id.org/idsa/core/routeConfiguration":
+                    case "routeConfiguration":
+                        _routeConfiguration = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:routeDeployMethod":
+                    case "https://w3id.org/idsa/core/routeDeployMethod":
+                    case "routeDeployMethod":
+                        _routeDeployMethod = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:routeDescription":
+                    case "https://w3id.org/idsa/core/routeDescription":
+                    case "routeDescription":
+                        _routeDescription = readValue(p, ctxt, String.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            RouteStepBuilder builder =
+                id != null ? new RouteStepBuilder(id) : new RouteStepBuilder();
+            if (_appRouteBroker != null) {
+                builder._appRouteBroker_(_appRouteBroker);
+            }
+            if (_appRouteClearingHouse != null) {
+                builder._appRouteClearingHouse_(_appRouteClearingHouse);
+            }
+            if (_appRouteEnd != null) {
+                builder._appRouteEnd_(_appRouteEnd);
+            }
+            if (_appRouteOutput != null) {
+                builder._appRouteOutput_(_appRouteOutput);
+            }
+            if (_appRouteStart != null) {
+                builder._appRouteStart_(_appRouteStart);
+            }
+            if (_hasSubRoute != null) {
+                builder._hasSubRoute_(_hasSubRoute);
+            }
+            if (_requiredDataApp != null) {
+                builder._requiredDataApp_(_requiredDataApp);
+            }
+            if (_routeConfiguration != null) {
+                builder._routeConfiguration_(_routeConfiguration);
+            }
+            if (_routeDeployMethod != null) {
+                builder._routeDeployMethod_(_routeDeployMethod);
+            }
+            if (_routeDescription != null) {
+                builder._routeDescription_(_routeDescription);
+            }
+            return withProperties((RouteStepImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
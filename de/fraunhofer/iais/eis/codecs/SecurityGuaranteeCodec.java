@@ -0,0 +1,66 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:SecurityGuarantee.
+ */
+public final class SecurityGuaranteeCodec {
+
+    private SecurityGuaranteeCodec() {}
+
+    public static class Serializer extends ModelSerializer<SecurityGuarantee> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(SecurityGuarantee.class, "ids:SecurityGuarantee");
+        }
+
+        @Override
+        protected void serializeProperties(SecurityGuarantee value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<SecurityGuaranteeImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(SecurityGuaranteeImpl.class);
+        }
+
+        @Override
+        protected SecurityGuaranteeImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id,
+            String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            SecurityGuaranteeBuilder builder =
+                id != null ? new SecurityGuaranteeBuilder(id) : new SecurityGuaranteeBuilder();
+            return withProperties((SecurityGuaranteeImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,76 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:SecurityProfile.
+ */
+public final class SecurityProfileCodec {
+
+    private SecurityProfileCodec() {}
+
+    public static class Serializer extends ModelSerializer<SecurityProfile> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(SecurityProfile.class, "ids:SecurityProfile");
+        }
+
+        @Override
+        protected void serializeProperties(SecurityProfile value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValues(gen, provider, "ids:securityGuarantee", value.getSecurityGuarantee());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<SecurityProfileImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(SecurityProfileImpl.class);
+        }
+
+        @Override
+        protected SecurityProfileImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            List<SecurityGuarantee> _securityGuarantee = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:securityGuarantee":
+                    case "https://w3id.org/idsa/core/securityGuarantee":
+                    case "securityGuarantee":
+                        _securityGuarantee = readObjects(p, ctxt, SecurityGuarantee.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            SecurityProfileBuilder builder =
+                id != null ? new SecurityProfileBuilder(id) : new SecurityProfileBuilder();
+            if (_securityGuarantee != null) {
+                builder._securityGuarantee_(_securityGuarantee);
+            }
+            return withProperties((SecurityProfileImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,67 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:ServiceIsolationGuarantee.
+ */
+public final class ServiceIsolationGuaranteeCodec {
+
+    private ServiceIsolationGuaranteeCodec() {}
+
+    public static class Serializer extends ModelSerializer<ServiceIsolationGuarantee> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(ServiceIsolationGuarantee.class, "ids:ServiceIsolationGuarantee");
+        }
+
+        @Override
+        protected void serializeProperties(ServiceIsolationGuarantee value, JsonGenerator gen,
+            SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<ServiceIsolationGuaranteeImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(ServiceIsolationGuaranteeImpl.class);
+        }
+
+        @Override
+        protected ServiceIsolationGuaranteeImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id,
+            String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            ServiceIsolationGuaranteeBuilder builder =
+                id != null ? new ServiceIsolationGuaranteeBuilder(id) : new ServiceIsolationGuaranteeBuilder();
+            return withProperties((ServiceIsolationGuaranteeImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,75 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:Site.
+ */
+public final class SiteCodec {
+
+    private SiteCodec() {}
+
+    public static class Serializer extends ModelSerializer<Site> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(Site.class, "ids:Site");
+        }
+
+        @Override
+        protected void serializeProperties(Site value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValue(gen, provider, "ids:siteAddress", value.getSiteAddress());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<SiteImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(SiteImpl.class);
+        }
+
+        @Override
+        protected SiteImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            String _siteAddress = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:siteAddress":
+                    case "https://w3id.org/idsa/core/siteAddress":
+                    case "siteAddress":
+                        _siteAddress = readValue(p, ctxt, String.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            SiteBuilder builder =
+                id != null ? new SiteBuilder(id) : new SiteBuilder();
+            if (_siteAddress != null) {
+                builder._siteAddress_(_siteAddress);
+            }
+            return withProperties((SiteImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
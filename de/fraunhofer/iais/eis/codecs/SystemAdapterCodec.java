@@ -0,0 +1,116 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:SystemAdapter.
+ */
+public final class SystemAdapterCodec {
+
+    private SystemAdapterCodec() {}
+
+    public static class Serializer extends ModelSerializer<SystemAdapter> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(SystemAdapter.class, "ids:SystemAdapter");
+        }
+
+        @Override
+        protected void serializeProperties(SystemAdapter value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValue(gen, provider, "ids:appDocumentation", value.getAppDocumentation());
+            writeValues(gen, provider, "ids:appEndpoint", value.getAppEndpoint());
+            writeValue(gen, provider, "ids:appEnvironmentVariables", value.getAppEnvironmentVariables());
+            writeValue(gen, provider, "ids:appStorageConfiguration", value.getAppStorageConfiguration());
+            writeValues(gen, provider, "ids:supportedUsagePolicies", value.getSupportedUsagePolicies());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<SystemAdapterImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(SystemAdapterImpl.class);
+        }
+
+        @Override
+        protected SystemAdapterImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            String _appDocumentation = null;
+            List<AppEndpoint> _appEndpoint = null;
+            String _appEnvironmentVariables = null;
+            String _appStorageConfiguration = null;
+            List<UsagePolicyClass> _supportedUsagePolicies = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:appDocumentation":
+                    case "https://w3id.org/idsa/core/appDocumentation":
+                    case "appDocumentation":
+                        _appDocumentation = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:appEndpoint":
+                    case "https://w3id.org/idsa/core/appEndpoint":
+                    case "appEndpoint":
+                        _appEndpoint = readObjects(p, ctxt, AppEndpoint.class);
+                        break;
+                    case "ids:appEnvironmentVariables":
+                    case "https://w3id.org/idsa/core/appEnvironmentVariables":
+                    case "appEnvironmentVariables":
+                        _appEnvironmentVariables = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:appStorageConfiguration":
+                    case "https://w3id.org/idsa/core/appStorageConfiguration":
+                    case "appStorageConfiguration":
+                        _appStorageConfiguration = readValue(p, ctxt, String.class);
+                        break;
+                    case "ids:supportedUsagePolicies":
+                    case "https://w3id.org/idsa/core/supportedUsagePolicies":
+                    case "supportedUsagePolicies":
+                        _supportedUsagePolicies = readObjects(p, ctxt, UsagePolicyClass.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            SystemAdapterBuilder builder =
+                id != null ? new SystemAdapterBuilder(id) : new SystemAdapterBuilder();
+            if (_appDocumentation != null) {
+                builder._appDocumentation_(_appDocumentation);
+            }
+            if (_appEndpoint != null) {
+                builder._appEndpoint_(_appEndpoint);
+            }
+            if (_appEnvironmentVariables != null) {
+                builder._appEnvironmentVariables_(_appEnvironmentVariables);
+            }
+            if (_appStorageConfiguration != null) {
+                builder._appStorageConfiguration_(_appStorageConfiguration);
+            }
+            if (_supportedUsagePolicies != null) {
+                builder._supportedUsagePolicies_(_supportedUsagePolicies);
+            }
+            return withProperties((SystemAdapterImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
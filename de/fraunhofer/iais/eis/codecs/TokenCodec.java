@@ -0,0 +1,85 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:Token.
+ */
+public final class TokenCodec {
+
+    private TokenCodec() {}
+
+    public static class Serializer extends ModelSerializer<Token> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(Token.class, "ids:Token");
+        }
+
+        @Override
+        protected void serializeProperties(Token value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeValue(gen, provider, "ids:tokenFormat", value.getTokenFormat());
+            writeValue(gen, provider, "ids:tokenValue", value.getTokenValue());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<TokenImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(TokenImpl.class);
+        }
+
+        @Override
+        protected TokenImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            TokenFormat _tokenFormat = null;
+            String _tokenValue = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:tokenFormat":
+                    case "https://w3id.org/idsa/core/tokenFormat":
+                    case "tokenFormat":
+                        _tokenFormat = readObject(p, ctxt, TokenFormat.class);
+                        break;
+                    case "ids:tokenValue":
+                    case "https://w3id.org/idsa/core/tokenValue":
+                    case "tokenValue":
+                        _tokenValue = readValue(p, ctxt, String.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            TokenBuilder builder =
+                id != null ? new TokenBuilder(id) : new TokenBuilder();
+            if (_tokenFormat != null) {
+                builder._tokenFormat_(_tokenFormat);
+            }
+            if (_tokenValue != null) {
+                builder._tokenValue_(_tokenValue);
+            }
+            return withProperties((TokenImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
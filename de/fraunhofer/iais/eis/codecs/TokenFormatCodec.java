@@ -0,0 +1,65 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:TokenFormat.
+ */
+public final class TokenFormatCodec {
+
+    private TokenFormatCodec() {}
+
+    public static class Serializer extends ModelSerializer<TokenFormat> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(TokenFormat.class, "ids:TokenFormat");
+        }
+
+        @Override
+        protected void serializeProperties(TokenFormat value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<TokenFormatImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(TokenFormatImpl.class);
+        }
+
+        @Override
+        protected TokenFormatImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            TokenFormatBuilder builder =
+                id != null ? new TokenFormatBuilder(id) : new TokenFormatBuilder();
+            return withProperties((TokenFormatImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,66 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:UsageControlGuarantee.
+ */
+public final class UsageControlGuaranteeCodec {
+
+    private UsageControlGuaranteeCodec() {}
+
+    public static class Serializer extends ModelSerializer<UsageControlGuarantee> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(UsageControlGuarantee.class, "ids:UsageControlGuarantee");
+        }
+
+        @Override
+        protected void serializeProperties(UsageControlGuarantee value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<UsageControlGuaranteeImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(UsageControlGuaranteeImpl.class);
+        }
+
+        @Override
+        protected UsageControlGuaranteeImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id,
+            String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            UsageControlGuaranteeBuilder builder =
+                id != null ? new UsageControlGuaranteeBuilder(id) : new UsageControlGuaranteeBuilder();
+            return withProperties((UsageControlGuaranteeImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,179 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:UsageControlObject.
+ */
+public final class UsageControlObjectCodec {
+
+    private UsageControlObjectCodec() {}
+
+    public static class Serializer extends ModelSerializer<UsageControlObject> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(UsageControlObject.class, "ids:UsageControlObject");
+        }
+
+        @Override
+        protected void serializeProperties(UsageControlObject value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            writeDate(gen, provider, "ids:accessed", value.getAccessed());
+            writeValues(gen, provider, "ids:action", value.getAction());
+            writeValues(gen, provider, "ids:contract", value.getContract());
+            writeDate(gen, provider, "ids:created", value.getCreated());
+            writeUri(gen, "ids:data", value.getData());
+            writeValues(gen, provider, "ids:hasState", value.getHasState());
+            writeDate(gen, provider, "ids:modified", value.getModified());
+            writeUri(gen, "ids:requester", value.getRequester());
+            writeUri(gen, "ids:source", value.getSource());
+            writeValue(gen, provider, "ids:usageDuration", value.getUsageDuration());
+            writeValue(gen, provider, "ids:user", value.getUser());
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<UsageControlObjectImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(UsageControlObjectImpl.class);
+        }
+
+        @Override
+        protected UsageControlObjectImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id,
+            String field)
+            throws IOException {
+            XMLGregorianCalendar _accessed = null;
+            List<Action> _action = null;
+            List<ContractAgreement> _contract = null;
+            XMLGregorianCalendar _created = null;
+            URI _data = null;
+            List<ArtifactState> _hasState = null;
+            XMLGregorianCalendar _modified = null;
+            URI _requester = null;
+            URI _source = null;
+            javax.xml.datatype.Duration _usageDuration = null;
+            Participant _user = null;
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    case "ids:accessed":
+                    case "https://w3id.org/idsa/core/accessed":
+                    case "accessed":
+                        _accessed = readDate(p, ctxt);
+                        break;
+                    case "ids:action":
+                    case "https://w3id.org/idsa/core/action":
+                    case "action":
+                        _action = readObjects(p, ctxt, Action.class);
+                        break;
+                    case "ids:contract":
+                    case "https://w3id.org/idsa/core/contract":
+                    case "contract":
+                        _contract = readObjects(p, ctxt, ContractAgreement.class);
+                        break;
+                    case "ids:created":
+                    case "https://w3id.org/idsa/core/created":
+                    case "created":
+                        _created = readDate(p, ctxt);
+                        break;
+                    case "ids:data":
+                    case "https://w3id.org/idsa/core/data":
+                    case "data":
+                        _data = readUri(p, ctxt);
+                        break;
+                    case "ids:hasState":
+                    case "https://w3id.org/idsa/core/hasState":
+                    case "hasState":
+                        _hasState = readObjects(p, ctxt, ArtifactState.class);
+                        break;
+                    case "ids:modified":
+                    case "https://w3id.org/idsa/core/modified":
+                    case "modified":
+                        _modified = readDate(p, ctxt);
+                        break;
+                    case "ids:requester":
+                    case "https://w3id.org/idsa/core/requester":
+                    case "requester":
+                        _requester = readUri(p, ctxt);
+                        break;
+                    case "ids:source":
+                    case "https://w3id.org/idsa/core/source":
+                    case "source":
+                        _source = readUri(p, ctxt);
+                        break;
+                    case "ids:usageDuration":
+                    case "https://w3id.org/idsa/core/usageDuration":
+                    case "usageDuration":
+                        _usageDuration = readValue(p, ctxt, javax.xml.datatype.Duration.class);
+                        break;
+                    case "ids:user":
+                    case "https://w3id.org/idsa/core/user":
+                    case "user":
+                        _user = readObject(p, ctxt, Participant.class);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            UsageControlObjectBuilder builder =
+                id != null ? new UsageControlObjectBuilder(id) : new UsageControlObjectBuilder();
+            if (_accessed != null) {
+                builder._accessed_(_accessed);
+            }
+            if (_action != null) {
+                builder._action_(_action);
+            }
+            if (_contract != null) {
+                builder._contract_(_contract);
+            }
+            if (_created != null) {
+                builder._created_(_created);
+            }
+            if (_data != null) {
+                builder._data_(_data);
+            }
+            if (_hasState != null) {
+                builder._hasState_(_hasState);
+            }
+            if (_modified != null) {
+                builder._modified_(_modified);
+            }
+            if (_requester != null) {
+                builder._requester_(_requester);
+            }
+            if (_source != null) {
+                builder._source_(_source);
+            }
+            if (_usageDuration != null) {
+                builder._usageDuration_(_usageDuration);
+            }
+            if (_user != null) {
+                builder._user_(_user);
+            }
+            return withProperties((UsageControlObjectImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
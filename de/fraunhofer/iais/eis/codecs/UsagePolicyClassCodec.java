@@ -0,0 +1,66 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:UsagePolicyClass.
+ */
+public final class UsagePolicyClassCodec {
+
+    private UsagePolicyClassCodec() {}
+
+    public static class Serializer extends ModelSerializer<UsagePolicyClass> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(UsagePolicyClass.class, "ids:UsagePolicyClass");
+        }
+
+        @Override
+        protected void serializeProperties(UsagePolicyClass value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<UsagePolicyClassImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(UsagePolicyClassImpl.class);
+        }
+
+        @Override
+        protected UsagePolicyClassImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id,
+            String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            UsagePolicyClassBuilder builder =
+                id != null ? new UsagePolicyClassBuilder(id) : new UsagePolicyClassBuilder();
+            return withProperties((UsagePolicyClassImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
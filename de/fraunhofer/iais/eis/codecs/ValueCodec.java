@@ -0,0 +1,65 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated JSON-LD serializer and deserializer of ids:Value.
+ */
+public final class ValueCodec {
+
+    private ValueCodec() {}
+
+    public static class Serializer extends ModelSerializer<Value> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(Value.class, "ids:Value");
+        }
+
+        @Override
+        protected void serializeProperties(Value value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        }
+
+    }
+
+    public static class Deserializer extends ModelDeserializer<ValueImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(ValueImpl.class);
+        }
+
+        @Override
+        protected ValueImpl deserializeFields(JsonParser p, DeserializationContext ctxt, URI id, String field)
+            throws IOException {
+            Map<String, Object> properties = null;
+            for (; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "@id":
+                        id = readUri(p, ctxt);
+                        break;
+                    default:
+                        properties = readProperty(p, ctxt, field, properties);
+                }
+            }
+            ValueBuilder builder =
+                id != null ? new ValueBuilder(id) : new ValueBuilder();
+            return withProperties((ValueImpl) builder.buildUnchecked(), properties);
+        }
+
+    }
+
+}
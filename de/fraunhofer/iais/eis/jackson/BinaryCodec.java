@@ -0,0 +1,495 @@
+package de.fraunhofer.iais.eis.jackson;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Compact binary encoding of the model classes for trusted internal links, e.g. for the headers of
+ * ArtifactRequestMessages exchanged between the connectors of one operator:
+ *
+ * <pre>
+ * BinaryCodec codec = new BinaryCodec(mapper);
+ * byte[] header = codec.write(message);
+ * Message received = codec.read(header, Message.class);
+ * </pre>
+ *
+ * The encoding is the sequence of JSON tokens that the ObjectMapper produces for the JSON-LD form, so
+ * that reading the binary form yields the same object as reading the JSON-LD form. Property names,
+ * type names and the identifiers of default instances are written as their index in a fixed
+ * dictionary derived from the "ids:" names of the mixins, other strings as UTF-8 and numbers as
+ * variable-length integers. {@link #transcode(JsonParser, OutputStream)} and
+ * {@link #transcode(byte[], JsonGenerator)} convert between both forms without constructing objects.
+ *
+ * The format has no self-description beyond the dictionary version in its header, so both ends of a
+ * link must use the same version of this library.
+ */
+public class BinaryCodec {
+
+    // header: marker byte followed by the dictionary version
+    private static final int MARKER = 0xD5;
+
+    private static final int TAG_START_OBJECT = 0x01;
+    private static final int TAG_END_OBJECT = 0x02;
+    private static final int TAG_START_ARRAY = 0x03;
+    private static final int TAG_END_ARRAY = 0x04;
+    private static final int TAG_FIELD_NAME = 0x05;
+    private static final int TAG_FIELD_NAME_INDEX = 0x06;
+    private static final int TAG_STRING = 0x07;
+    private static final int TAG_STRING_INDEX = 0x08;
+    private static final int TAG_INTEGER = 0x09;
+    private static final int TAG_BIG_INTEGER = 0x0A;
+    private static final int TAG_FLOAT = 0x0B;
+    private static final int TAG_DOUBLE = 0x0C;
+    private static final int TAG_BIG_DECIMAL = 0x0D;
+    private static final int TAG_TRUE = 0x0E;
+    private static final int TAG_FALSE = 0x0F;
+    private static final int TAG_NULL = 0x10;
+    private static final int TAG_BINARY = 0x11;
+
+    private final ObjectMapper mapper;
+
+    /**
+     * Creates a codec.
+     *
+     * @param mapper ObjectMapper configured for the (de-)serialization of the IDS Information Model
+     */
+    public BinaryCodec(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * This function encodes a value.
+     *
+     * @param value value to encode
+     * @return binary form of the value
+     * @throws IOException This exception is thrown, if the value cannot be serialized.
+     */
+    public byte[] write(Object value) throws IOException {
+        TokenBuffer tokens = new TokenBuffer(mapper, false);
+        mapper.writeValue(tokens, value);
+        Output out = new Output();
+        try (JsonParser p = tokens.asParser()) {
+            encode(p, out);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * This function encodes a value to the given stream, which is not closed.
+     *
+     * @param value value to encode
+     * @param out target of the binary form
+     * @throws IOException This exception is thrown, if the value cannot be serialized or written.
+     */
+    public void write(Object value, OutputStream out) throws IOException {
+        out.write(write(value));
+    }
+
+    /**
+     * This function decodes a value.
+     *
+     * @param data binary form of the value
+     * @param type class of the value, e.g. Message.class
+     * @param <T> type of the value
+     * @return decoded value
+     * @throws IOException This exception is thrown, if the data is not a valid binary form of the type.
+     */
+    public <T> T read(byte[] data, Class<T> type) throws IOException {
+        return read(data, 0, data.length, type);
+    }
+
+    /**
+     * This function decodes a value from a part of an array, e.g. of a network buffer.
+     *
+     * @param data array holding the binary form of the value
+     * @param offset start of the binary form within the array
+     * @param length length of the binary form
+     * @param type class of the value, e.g. Message.class
+     * @param <T> type of the value
+     * @return decoded value
+     * @throws IOException This exception is thrown, if the data is not a valid binary form of the type.
+     */
+    public <T> T read(byte[] data, int offset, int length, Class<T> type) throws IOException {
+        TokenBuffer tokens = new TokenBuffer(mapper, false);
+        decode(new Input(data, offset, length), tokens);
+        try (JsonParser p = tokens.asParser()) {
+            return mapper.readValue(p, type);
+        }
+    }
+
+    /**
+     * This function decodes a value from the remaining content of the given stream, which is not
+     * closed.
+     *
+     * @param in binary form of the value
+     * @param type class of the value, e.g. Message.class
+     * @param <T> type of the value
+     * @return decoded value
+     * @throws IOException This exception is thrown, if the data cannot be read or is not a valid binary
+     *         form of the type.
+     */
+    public <T> T read(InputStream in, Class<T> type) throws IOException {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        byte[] chunk = new byte[8192];
+        for (int n = in.read(chunk); n != -1; n = in.read(chunk)) {
+            data.write(chunk, 0, n);
+        }
+        return read(data.toByteArray(), type);
+    }
+
+    /**
+     * This function converts the JSON-LD form of a value into its binary form. The parser is left at
+     * the last token of the value, so that further values of the same stream can be read afterwards.
+     *
+     * @param json parser positioned before the value
+     * @param out target of the binary form, not closed
+     * @throws IOException This exception is thrown, if the JSON-LD cannot be read or written.
+     */
+    public static void transcode(JsonParser json, OutputStream out) throws IOException {
+        Output binary = new Output();
+        encode(json, binary);
+        out.write(binary.toByteArray());
+    }
+
+    /**
+     * This function converts the binary form of a value into its JSON-LD form.
+     *
+     * @param data binary form of the value
+     * @param json generator receiving the JSON-LD form, not closed
+     * @throws IOException This exception is thrown, if the data is not a valid binary form.
+     */
+    public static void transcode(byte[] data, JsonGenerator json) throws IOException {
+        decode(new Input(data, 0, data.length), json);
+        json.flush();
+    }
+
+    private static void encode(JsonParser p, Output out) throws IOException {
+        out.writeByte(MARKER);
+        out.writeByte(BinaryDictionary.VERSION);
+        // depth of the value, so that only the value the parser is positioned before is encoded, and
+        // not the values following it in the same stream
+        int depth = 0;
+        JsonToken token;
+        while ((token = p.nextToken()) != null) {
+            switch (token) {
+                case START_OBJECT:
+                    out.writeByte(TAG_START_OBJECT);
+                    break;
+                case END_OBJECT:
+                    out.writeByte(TAG_END_OBJECT);
+                    break;
+                case START_ARRAY:
+                    out.writeByte(TAG_START_ARRAY);
+                    break;
+                case END_ARRAY:
+                    out.writeByte(TAG_END_ARRAY);
+                    break;
+                case FIELD_NAME:
+                    writeString(out, TAG_FIELD_NAME, TAG_FIELD_NAME_INDEX, p.currentName());
+                    break;
+                case VALUE_STRING:
+                    writeString(out, TAG_STRING, TAG_STRING_INDEX, p.getText());
+                    break;
+                case VALUE_NUMBER_INT:
+                    if (p.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                        out.writeByte(TAG_BIG_INTEGER);
+                        out.writeString(p.getBigIntegerValue().toString());
+                    } else {
+                        long value = p.getLongValue();
+                        out.writeByte(TAG_INTEGER);
+                        out.writeVarLong((value << 1) ^ (value >> 63));
+                    }
+                    break;
+                case VALUE_NUMBER_FLOAT:
+                    JsonParser.NumberType numberType = p.getNumberType();
+                    if (numberType == JsonParser.NumberType.BIG_DECIMAL) {
+                        out.writeByte(TAG_BIG_DECIMAL);
+                        out.writeString(p.getDecimalValue().toString());
+                    } else if (numberType == JsonParser.NumberType.FLOAT) {
+                        out.writeByte(TAG_FLOAT);
+                        out.writeFixed(Float.floatToIntBits(p.getFloatValue()), 4);
+                    } else {
+                        out.writeByte(TAG_DOUBLE);
+                        out.writeFixed(Double.doubleToLongBits(p.getDoubleValue()), 8);
+                    }
+                    break;
+                case VALUE_TRUE:
+                    out.writeByte(TAG_TRUE);
+                    break;
+                case VALUE_FALSE:
+                    out.writeByte(TAG_FALSE);
+                    break;
+                case VALUE_NULL:
+                    out.writeByte(TAG_NULL);
+                    break;
+                case VALUE_EMBEDDED_OBJECT:
+                    Object embedded = p.getEmbeddedObject();
+                    if (embedded == null) {
+                        out.writeByte(TAG_NULL);
+                    } else if (embedded instanceof byte[]) {
+                        byte[] bytes = (byte[]) embedded;
+                        out.writeByte(TAG_BINARY);
+                        out.writeVarLong(bytes.length);
+                        out.writeBytes(bytes, 0, bytes.length);
+                    } else {
+                        throw new IOException("Embedded value of " + embedded.getClass() + " cannot be encoded");
+                    }
+                    break;
+                default:
+                    throw new IOException("Token " + token + " cannot be encoded");
+            }
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+            if (depth == 0) {
+                break;
+            }
+        }
+    }
+
+    private static void writeString(Output out, int literalTag, int indexTag, String value) {
+        int index = BinaryDictionary.indexOf(value);
+        if (index >= 0) {
+            out.writeByte(indexTag);
+            out.writeVarLong(index);
+        } else {
+            out.writeByte(literalTag);
+            out.writeString(value);
+        }
+    }
+
+    private static void decode(Input in, JsonGenerator gen) throws IOException {
+        if (in.readByte() != MARKER) {
+            throw new IOException("Data is not in the binary format of " + BinaryCodec.class.getSimpleName());
+        }
+        int version = in.readByte();
+        if (version != BinaryDictionary.VERSION) {
+            throw new IOException("Unsupported dictionary version " + version);
+        }
+        while (in.hasRemaining()) {
+            int tag = in.readByte();
+            switch (tag) {
+                case TAG_START_OBJECT:
+                    gen.writeStartObject();
+                    break;
+                case TAG_END_OBJECT:
+                    gen.writeEndObject();
+                    break;
+                case TAG_START_ARRAY:
+                    gen.writeStartArray();
+                    break;
+                case TAG_END_ARRAY:
+                    gen.writeEndArray();
+                    break;
+                case TAG_FIELD_NAME:
+                    gen.writeFieldName(in.readString());
+                    break;
+                case TAG_FIELD_NAME_INDEX:
+                    gen.writeFieldName(in.readEntry());
+                    break;
+                case TAG_STRING:
+                    gen.writeString(in.readString());
+                    break;
+                case TAG_STRING_INDEX:
+                    gen.writeString(in.readEntry());
+                    break;
+                case TAG_INTEGER:
+                    long encoded = in.readVarLong();
+                    long value = (encoded >>> 1) ^ -(encoded & 1);
+                    if (value == (int) value) {
+                        gen.writeNumber((int) value);
+                    } else {
+                        gen.writeNumber(value);
+                    }
+                    break;
+                case TAG_BIG_INTEGER:
+                    gen.writeNumber(new BigInteger(in.readString()));
+                    break;
+                case TAG_FLOAT:
+                    gen.writeNumber(Float.intBitsToFloat((int) in.readFixed(4)));
+                    break;
+                case TAG_DOUBLE:
+                    gen.writeNumber(Double.longBitsToDouble(in.readFixed(8)));
+                    break;
+                case TAG_BIG_DECIMAL:
+                    gen.writeNumber(new BigDecimal(in.readString()));
+                    break;
+                case TAG_TRUE:
+                    gen.writeBoolean(true);
+                    break;
+                case TAG_FALSE:
+                    gen.writeBoolean(false);
+                    break;
+                case TAG_NULL:
+                    gen.writeNull();
+                    break;
+                case TAG_BINARY:
+                    gen.writeBinary(in.readBytes());
+                    break;
+                default:
+                    throw new IOException("Invalid tag " + tag + " at position " + in.position());
+            }
+        }
+    }
+
+    /**
+     * Growable target of the encoding.
+     */
+    private static final class Output {
+
+        private byte[] buffer = new byte[256];
+
+        private int length;
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[length++] = (byte) value;
+        }
+
+        void writeBytes(byte[] bytes, int offset, int count) {
+            ensureCapacity(count);
+            System.arraycopy(bytes, offset, buffer, length, count);
+            length += count;
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[length++] = (byte) value;
+        }
+
+        void writeFixed(long value, int bytes) {
+            ensureCapacity(bytes);
+            for (int i = 0; i < bytes; i++) {
+                buffer[length++] = (byte) (value >>> (8 * i));
+            }
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            writeBytes(bytes, 0, bytes.length);
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, length);
+        }
+
+        private void ensureCapacity(int count) {
+            if (length + count > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + count));
+            }
+        }
+    }
+
+    /**
+     * Source of the decoding.
+     */
+    private static final class Input {
+
+        private final byte[] data;
+
+        private final int end;
+
+        private int position;
+
+        Input(byte[] data, int offset, int length) {
+            if (offset < 0 || length < 0 || offset + length > data.length) {
+                throw new IndexOutOfBoundsException("offset " + offset + ", length " + length);
+            }
+            this.data = data;
+            this.position = offset;
+            this.end = offset + length;
+        }
+
+        boolean hasRemaining() {
+            return position < end;
+        }
+
+        int position() {
+            return position;
+        }
+
+        int readByte() throws EOFException {
+            require(1);
+            return data[position++] & 0xFF;
+        }
+
+        long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed variable-length integer at position " + position);
+        }
+
+        long readFixed(int bytes) throws EOFException {
+            require(bytes);
+            long value = 0;
+            for (int i = 0; i < bytes; i++) {
+                value |= (long) (data[position++] & 0xFF) << (8 * i);
+            }
+            return value;
+        }
+
+        byte[] readBytes() throws IOException {
+            int length = readLength();
+            byte[] bytes = Arrays.copyOfRange(data, position, position + length);
+            position += length;
+            return bytes;
+        }
+
+        String readString() throws IOException {
+            int length = readLength();
+            String value = new String(data, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        String readEntry() throws IOException {
+            long index = readVarLong();
+            String entry = index <= Integer.MAX_VALUE ? BinaryDictionary.entry((int) index) : null;
+            if (entry == null) {
+                throw new IOException("Invalid dictionary index " + index + " at position " + position);
+            }
+            return entry;
+        }
+
+        private int readLength() throws IOException {
+            long length = readVarLong();
+            if (length > end - position) {
+                throw new EOFException("Length " + length + " exceeds the data at position " + position);
+            }
+            return (int) length;
+        }
+
+        private void require(int count) throws EOFException {
+            if (end - position < count) {
+                throw new EOFException("Unexpected end of data at position " + position);
+            }
+        }
+    }
+
+}
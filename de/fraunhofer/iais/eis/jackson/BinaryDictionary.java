@@ -0,0 +1,947 @@
+package de.fraunhofer.iais.eis.jackson;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dictionary of the strings that are encoded by their index in the binary format of
+ * {@link BinaryCodec}: the JSON-LD keywords, the "ids:" property names of the mixins, the type names
+ * and the identifiers of the default instances.
+ */
+final class BinaryDictionary {
+
+    /**
+     * Version of the dictionary, written into the header of every encoded value.
+     */
+    static final int VERSION = 1;
+
+    // the index of an entry is part of the binary format, so entries must only be appended (together
+    // with a new VERSION, which readers of older versions reject)
+    private static final String[] ENTRIES = {
+        "@context",
+        "@type",
+        "@id",
+        "@value",
+        "@language",
+        "ids",
+        "idsc",
+        "https://w3id.org/idsa/core/",
+        "https://w3id.org/idsa/code/",
+        "http://www.w3.org/2001/XMLSchema#string",
+        "en",
+        "de",
+        "ids:accessURL",
+        "ids:accessed",
+        "ids:accrualPeriodicity",
+        "ids:action",
+        "ids:actionRefinement",
+        "ids:affectedConnector",
+        "ids:affectedDataApp",
+        "ids:affectedParticipant",
+        "ids:affectedResource",
+        "ids:and",
+        "ids:apiSpecifiation",
+        "ids:appArtifactReference",
+        "ids:appDocumentation",
+        "ids:appEndpoint",
+        "ids:appEndpointMediaType",
+        "ids:appEndpointPort",
+        "ids:appEndpointProtocol",
+        "ids:appEndpointType",
+        "ids:appEnvironmentVariables",
+        "ids:appRoute",
+        "ids:appRouteBroker",
+        "ids:appRouteClearingHouse",
+        "ids:appRouteEnd",
+        "ids:appRouteOutput",
+        "ids:appRouteStart",
+        "ids:appStorageConfiguration",
+        "ids:assetRefinement",
+        "ids:assetSource",
+        "ids:assignee",
+        "ids:assigner",
+        "ids:aud",
+        "ids:authInfo",
+        "ids:authPassword",
+        "ids:authService",
+        "ids:authStandard",
+        "ids:authUsername",
+        "ids:authorizationToken",
+        "ids:begin",
+        "ids:broader",
+        "ids:businessIdentifier",
+        "ids:byteSize",
+        "ids:certificationLevel",
+        "ids:checkSum",
+        "ids:componentCertification",
+        "ids:configurationModelLogLevel",
+        "ids:configuredAppResource",
+        "ids:configuredAppStore",
+        "ids:configuredBroker",
+        "ids:configuredClearingHouse",
+        "ids:connectorCatalog",
+        "ids:connectorDeployMode",
+        "ids:connectorDescription",
+        "ids:connectorProxy",
+        "ids:connectorStatus",
+        "ids:constraint",
+        "ids:consumer",
+        "ids:contentPart",
+        "ids:contentStandard",
+        "ids:contentType",
+        "ids:contentVersion",
+        "ids:contract",
+        "ids:contractAnnex",
+        "ids:contractDate",
+        "ids:contractDocument",
+        "ids:contractEnd",
+        "ids:contractOffer",
+        "ids:contractRejectionReason",
+        "ids:contractStart",
+        "ids:corporateEmailAddress",
+        "ids:corporateHomepage",
+        "ids:correlationMessage",
+        "ids:created",
+        "ids:creationDate",
+        "ids:curator",
+        "ids:customLicense",
+        "ids:data",
+        "ids:dataAppDistributionService",
+        "ids:dataAppInformation",
+        "ids:dataAppRuntimeEnvironment",
+        "ids:dataType",
+        "ids:dataTypeSchema",
+        "ids:dateTime",
+        "ids:defaultRepresentation",
+        "ids:description",
+        "ids:duration",
+        "ids:emailAddress",
+        "ids:end",
+        "ids:endpointArtifact",
+        "ids:endpointDocumentation",
+        "ids:endpointInformation",
+        "ids:endpointURI",
+        "ids:evaluationFacility",
+        "ids:exp",
+        "ids:extendedGuarantee",
+        "ids:familyName",
+        "ids:fileName",
+        "ids:filenameExtension",
+        "ids:frameRate",
+        "ids:genericEndpointAuthentication",
+        "ids:genericEndpointConfiguration",
+        "ids:geoPoint",
+        "ids:givenName",
+        "ids:hasAgent",
+        "ids:hasDefaultEndpoint",
+        "ids:hasDuration",
+        "ids:hasEndpoint",
+        "ids:hasState",
+        "ids:hasSubRoute",
+        "ids:height",
+        "ids:homepage",
+        "ids:httpAuthURI",
+        "ids:iat",
+        "ids:identifierNumber",
+        "ids:identifierSystem",
+        "ids:inboundModelVersion",
+        "ids:inboundPath",
+        "ids:includedCertificationLevel",
+        "ids:includedIn",
+        "ids:instance",
+        "ids:interfaceDescription",
+        "ids:iss",
+        "ids:issued",
+        "ids:issuerConnector",
+        "ids:jurisdiction",
+        "ids:keyStore",
+        "ids:keyStoreAlias",
+        "ids:keyStorePassword",
+        "ids:keyType",
+        "ids:keyValue",
+        "ids:keyword",
+        "ids:language",
+        "ids:lastValidDate",
+        "ids:latitude",
+        "ids:leftOperand",
+        "ids:legalForm",
+        "ids:legalName",
+        "ids:listedAppResource",
+        "ids:listedClearingHouse",
+        "ids:listedConnector",
+        "ids:longitude",
+        "ids:maintainer",
+        "ids:mediaType",
+        "ids:member",
+        "ids:memberParticipant",
+        "ids:memberPerson",
+        "ids:membershipEnd",
+        "ids:modelVersion",
+        "ids:modified",
+        "ids:name",
+        "ids:nbf",
+        "ids:noProxy",
+        "ids:obligation",
+        "ids:offeredResource",
+        "ids:operationReference",
+        "ids:operator",
+        "ids:or",
+        "ids:outboundModelVersion",
+        "ids:outboundPath",
+        "ids:participantCatalog",
+        "ids:participantCertification",
+        "ids:participantRefinement",
+        "ids:path",
+        "ids:paymentModality",
+        "ids:permission",
+        "ids:phoneNumber",
+        "ids:physicalLocation",
+        "ids:pipEndpoint",
+        "ids:postDuty",
+        "ids:preDuty",
+        "ids:primarySite",
+        "ids:prohibition",
+        "ids:provider",
+        "ids:proxyAuthentication",
+        "ids:proxyURI",
+        "ids:publicKey",
+        "ids:publisher",
+        "ids:pxpEndpoint",
+        "ids:queryLanguage",
+        "ids:queryScope",
+        "ids:recipientAgent",
+        "ids:recipientConnector",
+        "ids:recipientScope",
+        "ids:referringConnector",
+        "ids:rejectionReason",
+        "ids:representation",
+        "ids:representationStandard",
+        "ids:requestedArtifact",
+        "ids:requestedElement",
+        "ids:requestedParticipant",
+        "ids:requestedResource",
+        "ids:requester",
+        "ids:requiredDataApp",
+        "ids:resourceCatalog",
+        "ids:resourceEndpoint",
+        "ids:resourcePart",
+        "ids:revocationReason",
+        "ids:rightOperand",
+        "ids:rightOperandReference",
+        "ids:routeConfiguration",
+        "ids:routeDeployMethod",
+        "ids:routeDescription",
+        "ids:sample",
+        "ids:samplingRate",
+        "ids:scope",
+        "ids:securityGuarantee",
+        "ids:securityProfile",
+        "ids:securityToken",
+        "ids:senderAgent",
+        "ids:shapesGraph",
+        "ids:siteAddress",
+        "ids:source",
+        "ids:sovereign",
+        "ids:spatialCoverage",
+        "ids:standardLicense",
+        "ids:sub",
+        "ids:supportedUsagePolicies",
+        "ids:target",
+        "ids:temporalCoverage",
+        "ids:temporalResolution",
+        "ids:theme",
+        "ids:title",
+        "ids:tokenFormat",
+        "ids:tokenValue",
+        "ids:transferContract",
+        "ids:transportCertsSha256",
+        "ids:trustStore",
+        "ids:trustStoreAlias",
+        "ids:trustStorePassword",
+        "ids:unit",
+        "ids:usageDuration",
+        "ids:user",
+        "ids:userAuthentication",
+        "ids:variant",
+        "ids:vatID",
+        "ids:version",
+        "ids:width",
+        "ids:xone",
+        "ids:AccessTokenRequestMessage",
+        "ids:AccessTokenResponseMessage",
+        "ids:Action",
+        "ids:Agent",
+        "ids:AppAvailableMessage",
+        "ids:AppDeleteMessage",
+        "ids:AppEndpoint",
+        "ids:AppEndpointType",
+        "ids:AppExecutionResources",
+        "ids:AppRegistrationRequestMessage",
+        "ids:AppRegistrationResponseMessage",
+        "ids:AppRepresentation",
+        "ids:AppResource",
+        "ids:AppResourceCatalog",
+        "ids:AppRoute",
+        "ids:AppStore",
+        "ids:AppStoreCatalog",
+        "ids:AppUnavailableMessage",
+        "ids:AppUploadMessage",
+        "ids:AppUploadResponseMessage",
+        "ids:Artifact",
+        "ids:ArtifactRequestMessage",
+        "ids:ArtifactResponseMessage",
+        "ids:ArtifactState",
+        "ids:AssetCollection",
+        "ids:Audience",
+        "ids:AudioRepresentation",
+        "ids:AudioResource",
+        "ids:AuditGuarantee",
+        "ids:AuthInfo",
+        "ids:AuthStandard",
+        "ids:AuthenticationGuarantee",
+        "ids:BaseConnector",
+        "ids:BasicAuthentication",
+        "ids:BinaryOperator",
+        "ids:BoundingPolygon",
+        "ids:Broker",
+        "ids:BrokerCatalog",
+        "ids:BusinessIdentifier",
+        "ids:ClearingHouse",
+        "ids:ClearingHouseCatalog",
+        "ids:CommandMessage",
+        "ids:ComponentCertification",
+        "ids:ComponentCertificationLevel",
+        "ids:ConfigurationModel",
+        "ids:ConnectorCatalog",
+        "ids:ConnectorCertificateGrantedMessage",
+        "ids:ConnectorCertificateRevokedMessage",
+        "ids:ConnectorDeployMode",
+        "ids:ConnectorEndpoint",
+        "ids:ConnectorStatus",
+        "ids:ConnectorUnavailableMessage",
+        "ids:ConnectorUpdateMessage",
+        "ids:ConnectorbasedAgreement",
+        "ids:ConnectorbasedOffer",
+        "ids:ConnectorbasedRequest",
+        "ids:Constraint",
+        "ids:ContentType",
+        "ids:ContractAgreement",
+        "ids:ContractAgreementMessage",
+        "ids:ContractOffer",
+        "ids:ContractOfferMessage",
+        "ids:ContractRejectionMessage",
+        "ids:ContractRequest",
+        "ids:ContractRequestMessage",
+        "ids:ContractResponseMessage",
+        "ids:ContractSupplementMessage",
+        "ids:CustomMediaType",
+        "ids:DAPS",
+        "ids:DatPayload",
+        "ids:DatRequestPayload",
+        "ids:DataRepresentation",
+        "ids:DataResource",
+        "ids:DeleteAfterIntervalAgreement",
+        "ids:DeleteAfterIntervalOffer",
+        "ids:DeleteAfterIntervalRequest",
+        "ids:DescriptionRequestMessage",
+        "ids:DescriptionResponseMessage",
+        "ids:DistributeEcryptedAgreement",
+        "ids:DistributeEcryptedOffer",
+        "ids:DistributeEcryptedRequest",
+        "ids:DurationAgreement",
+        "ids:DurationEntity",
+        "ids:DurationOffer",
+        "ids:DurationRequest",
+        "ids:Duty",
+        "ids:DynamicAttributeToken",
+        "ids:Endpoint",
+        "ids:EvaluationFacility",
+        "ids:Event",
+        "ids:EventAgreement",
+        "ids:EventOffer",
+        "ids:EventRequest",
+        "ids:Frequency",
+        "ids:GenericEndpoint",
+        "ids:GeoFeature",
+        "ids:GeoPoint",
+        "ids:HTTPAuthentication",
+        "ids:IANAMediaType",
+        "ids:IdentityProvider",
+        "ids:IdsProtocolSpecification",
+        "ids:ImageRepresentation",
+        "ids:ImageResource",
+        "ids:InfrastructureComponent",
+        "ids:Instant",
+        "ids:IntegrityGuarantee",
+        "ids:IntegrityVerificationScopeGuarantee",
+        "ids:Interval",
+        "ids:IntervalUsageAgreement",
+        "ids:IntervalUsageOffer",
+        "ids:IntervalUsageRequest",
+        "ids:InvokeOperationMessage",
+        "ids:KeyType",
+        "ids:Language",
+        "ids:LeftOperand",
+        "ids:License",
+        "ids:LocalDataConfidentialityGuarantee",
+        "ids:LogLevel",
+        "ids:LogMessage",
+        "ids:LoggingAgreement",
+        "ids:LoggingOffer",
+        "ids:LoggingRequest",
+        "ids:LogicalConstraint",
+        "ids:MessageProcessedNotificationMessage",
+        "ids:Named",
+        "ids:NotMoreThanNAgreement",
+        "ids:NotMoreThanNOffer",
+        "ids:NotMoreThanNRequest",
+        "ids:NotificationAgreement",
+        "ids:NotificationMessage",
+        "ids:NotificationOffer",
+        "ids:NotificationRequest",
+        "ids:OperationResultMessage",
+        "ids:OrchestrationApp",
+        "ids:PIP",
+        "ids:PXP",
+        "ids:ParIS",
+        "ids:Participant",
+        "ids:ParticipantCatalog",
+        "ids:ParticipantCertificateGrantedMessage",
+        "ids:ParticipantCertificateRevokedMessage",
+        "ids:ParticipantCertification",
+        "ids:ParticipantCertificationLevel",
+        "ids:ParticipantRequestMessage",
+        "ids:ParticipantResponseMessage",
+        "ids:ParticipantUnavailableMessage",
+        "ids:ParticipantUpdateMessage",
+        "ids:PaymentModality",
+        "ids:Permission",
+        "ids:Person",
+        "ids:Prohibition",
+        "ids:Proxy",
+        "ids:PublicKey",
+        "ids:PurposeAgreement",
+        "ids:PurposeOffer",
+        "ids:PurposeRequest",
+        "ids:QueryLanguage",
+        "ids:QueryMessage",
+        "ids:QueryScope",
+        "ids:QueryTarget",
+        "ids:RejectionMessage",
+        "ids:RejectionReason",
+        "ids:RentalAgreement",
+        "ids:RentalOffer",
+        "ids:RentalRequest",
+        "ids:Representation",
+        "ids:RequestInProcessMessage",
+        "ids:RequestMessage",
+        "ids:Resource",
+        "ids:ResourceCatalog",
+        "ids:ResourceUnavailableMessage",
+        "ids:ResourceUpdateMessage",
+        "ids:ResponseMessage",
+        "ids:ResultMessage",
+        "ids:RolebasedAgreement",
+        "ids:RolebasedOffer",
+        "ids:RolebasedRequest",
+        "ids:RouteStep",
+        "ids:SalesAgreement",
+        "ids:SalesOffer",
+        "ids:SalesRequest",
+        "ids:SecurityAgreement",
+        "ids:SecurityGuarantee",
+        "ids:SecurityOffer",
+        "ids:SecurityProfile",
+        "ids:SecurityRequest",
+        "ids:ServiceIsolationGuarantee",
+        "ids:Site",
+        "ids:SmartDataApp",
+        "ids:SoftwareRepresentation",
+        "ids:SoftwareResource",
+        "ids:SpatialAgreement",
+        "ids:SpatialOffer",
+        "ids:SpatialRequest",
+        "ids:SwapAgreement",
+        "ids:SwapOffer",
+        "ids:SwapRequest",
+        "ids:SystemAdapter",
+        "ids:TemporalEntity",
+        "ids:TextRepresentation",
+        "ids:TextResource",
+        "ids:Token",
+        "ids:TokenFormat",
+        "ids:TrustedConnector",
+        "ids:UploadMessage",
+        "ids:UploadResponseMessage",
+        "ids:UsageControlComponent",
+        "ids:UsageControlGuarantee",
+        "ids:UsageControlObject",
+        "ids:UsagePolicyClass",
+        "ids:Value",
+        "ids:VideoRepresentation",
+        "ids:VideoResource",
+        "https://w3id.org/idsa/code/AA",
+        "https://w3id.org/idsa/code/AB",
+        "https://w3id.org/idsa/code/ABSOLUTE_SPATIAL_POSITION",
+        "https://w3id.org/idsa/code/ACTIVE_ONLY",
+        "https://w3id.org/idsa/code/ADD",
+        "https://w3id.org/idsa/code/AE",
+        "https://w3id.org/idsa/code/AF",
+        "https://w3id.org/idsa/code/AFTER",
+        "https://w3id.org/idsa/code/AGGREGATE_BY_CONSUMER",
+        "https://w3id.org/idsa/code/AGGREGATE_BY_PROVIDER",
+        "https://w3id.org/idsa/code/AK",
+        "https://w3id.org/idsa/code/ALL",
+        "https://w3id.org/idsa/code/ALLOW_DATA_USAGE",
+        "https://w3id.org/idsa/code/AM",
+        "https://w3id.org/idsa/code/AN",
+        "https://w3id.org/idsa/code/ANNUAL",
+        "https://w3id.org/idsa/code/ANONYMIZE",
+        "https://w3id.org/idsa/code/ANONYMIZED",
+        "https://w3id.org/idsa/code/ANY",
+        "https://w3id.org/idsa/code/APPLICATION",
+        "https://w3id.org/idsa/code/APPLICATION_RESTRICTED_DATA_USAGE",
+        "https://w3id.org/idsa/code/APPSTORE",
+        "https://w3id.org/idsa/code/APP_RESOURCES_LOCAL_ENFORCEMENT",
+        "https://w3id.org/idsa/code/APP_RESOURCES_NONE",
+        "https://w3id.org/idsa/code/APP_RESOURCES_REMOTE_VERIFICATION",
+        "https://w3id.org/idsa/code/AR",
+        "https://w3id.org/idsa/code/ARTIFACT_STATE",
+        "https://w3id.org/idsa/code/AS",
+        "https://w3id.org/idsa/code/ATTACH_POLICY_FOR_THIRD_PARTY",
+        "https://w3id.org/idsa/code/AUDIT_LOCAL_LOGGING",
+        "https://w3id.org/idsa/code/AUDIT_NONE",
+        "https://w3id.org/idsa/code/AUDIT_REMOTE_TRACING",
+        "https://w3id.org/idsa/code/AUTHENTICATION_MUTUAL",
+        "https://w3id.org/idsa/code/AUTHENTICATION_NONE",
+        "https://w3id.org/idsa/code/AUTHENTICATION_SERVER_SIDE",
+        "https://w3id.org/idsa/code/AV",
+        "https://w3id.org/idsa/code/AY",
+        "https://w3id.org/idsa/code/AZ",
+        "https://w3id.org/idsa/code/BA",
+        "https://w3id.org/idsa/code/BAD_PARAMETERS",
+        "https://w3id.org/idsa/code/BASE_SECURITY_PROFILE",
+        "https://w3id.org/idsa/code/BE",
+        "https://w3id.org/idsa/code/BEFORE",
+        "https://w3id.org/idsa/code/BG",
+        "https://w3id.org/idsa/code/BH",
+        "https://w3id.org/idsa/code/BI",
+        "https://w3id.org/idsa/code/BIENNIAL",
+        "https://w3id.org/idsa/code/BIHOURLY",
+        "https://w3id.org/idsa/code/BIMONTHLY",
+        "https://w3id.org/idsa/code/BIWEEKLY",
+        "https://w3id.org/idsa/code/BM",
+        "https://w3id.org/idsa/code/BN",
+        "https://w3id.org/idsa/code/BO",
+        "https://w3id.org/idsa/code/BR",
+        "https://w3id.org/idsa/code/BROKER",
+        "https://w3id.org/idsa/code/BS",
+        "https://w3id.org/idsa/code/CA",
+        "https://w3id.org/idsa/code/CE",
+        "https://w3id.org/idsa/code/CH",
+        "https://w3id.org/idsa/code/CLEARING_HOUSE",
+        "https://w3id.org/idsa/code/CO",
+        "https://w3id.org/idsa/code/COMBINED",
+        "https://w3id.org/idsa/code/COMPENSATE",
+        "https://w3id.org/idsa/code/COMPONENT_BASE_SECURITY_PROFILE_CHECKLIST_APPROACH",
+        "https://w3id.org/idsa/code/COMPONENT_BASE_SECURITY_PROFILE_CONCEPT_REVIEW",
+        "https://w3id.org/idsa/code/COMPONENT_TRUSTPLUS_SECURITY_PROFILE_CONCEPT_REVIEW",
+        "https://w3id.org/idsa/code/COMPONENT_TRUSTPLUS_SECURITY_PROFILE_HIGH_ASSURANCE_EVALUATION",
+        "https://w3id.org/idsa/code/COMPONENT_TRUST_SECURITY_PROFILE_CONCEPT_REVIEW",
+        "https://w3id.org/idsa/code/COMPONENT_TRUST_SECURITY_PROFILE_HIGH_ASSURANCE_EVALUATION",
+        "https://w3id.org/idsa/code/CONFIG_ENDPOINT",
+        "https://w3id.org/idsa/code/CONNECTOR",
+        "https://w3id.org/idsa/code/CONNECTOR_BADLY_CONFIGURED",
+        "https://w3id.org/idsa/code/CONNECTOR_OFFLINE",
+        "https://w3id.org/idsa/code/CONNECTOR_ONLINE",
+        "https://w3id.org/idsa/code/CONNECTOR_RESTRICTED_DATA_USAGE",
+        "https://w3id.org/idsa/code/CONTAINS",
+        "https://w3id.org/idsa/code/CONTINUOUS",
+        "https://w3id.org/idsa/code/COUNT",
+        "https://w3id.org/idsa/code/COVERED_BY",
+        "https://w3id.org/idsa/code/COVERS",
+        "https://w3id.org/idsa/code/CR",
+        "https://w3id.org/idsa/code/CS",
+        "https://w3id.org/idsa/code/CU",
+        "https://w3id.org/idsa/code/CV",
+        "https://w3id.org/idsa/code/CY",
+        "https://w3id.org/idsa/code/DA",
+        "https://w3id.org/idsa/code/DAILY",
+        "https://w3id.org/idsa/code/DATA_RENTAL",
+        "https://w3id.org/idsa/code/DATE_TIME",
+        "https://w3id.org/idsa/code/DE",
+        "https://w3id.org/idsa/code/DEBUG_LEVEL_LOGGING",
+        "https://w3id.org/idsa/code/DEFINES_AS",
+        "https://w3id.org/idsa/code/DELAY",
+        "https://w3id.org/idsa/code/DELETE",
+        "https://w3id.org/idsa/code/DISJOINT",
+        "https://w3id.org/idsa/code/DISTRIBUTE",
+        "https://w3id.org/idsa/code/DISTRIBUTE_ONLY_IF_ENCRYPTED",
+        "https://w3id.org/idsa/code/DIVIDE",
+        "https://w3id.org/idsa/code/DSA",
+        "https://w3id.org/idsa/code/DURATION_EQ",
+        "https://w3id.org/idsa/code/DURATION_RESTRICTED_DATA_USAGE",
+        "https://w3id.org/idsa/code/DURING",
+        "https://w3id.org/idsa/code/DV",
+        "https://w3id.org/idsa/code/DZ",
+        "https://w3id.org/idsa/code/ECDSA",
+        "https://w3id.org/idsa/code/ED25519",
+        "https://w3id.org/idsa/code/EE",
+        "https://w3id.org/idsa/code/EL",
+        "https://w3id.org/idsa/code/ELAPSED_TIME",
+        "https://w3id.org/idsa/code/EN",
+        "https://w3id.org/idsa/code/ENCRYPT",
+        "https://w3id.org/idsa/code/ENCRYPTED",
+        "https://w3id.org/idsa/code/ENDPOINT",
+        "https://w3id.org/idsa/code/EO",
+        "https://w3id.org/idsa/code/EQ",
+        "https://w3id.org/idsa/code/EQUALS",
+        "https://w3id.org/idsa/code/ES",
+        "https://w3id.org/idsa/code/ET",
+        "https://w3id.org/idsa/code/EU",
+        "https://w3id.org/idsa/code/EVENT",
+        "https://w3id.org/idsa/code/EVENT_RESTRICTED_DATA_USAGE",
+        "https://w3id.org/idsa/code/EVERY_10_MINUTES",
+        "https://w3id.org/idsa/code/EVERY_15_MINUTES",
+        "https://w3id.org/idsa/code/EVERY_1_MINUTE",
+        "https://w3id.org/idsa/code/EVERY_30_MINUTES",
+        "https://w3id.org/idsa/code/EVERY_5_MINUTES",
+        "https://w3id.org/idsa/code/EVERY_THREE_HOURS",
+        "https://w3id.org/idsa/code/FA",
+        "https://w3id.org/idsa/code/FF",
+        "https://w3id.org/idsa/code/FI",
+        "https://w3id.org/idsa/code/FINISHED_BY",
+        "https://w3id.org/idsa/code/FINISHES",
+        "https://w3id.org/idsa/code/FIXED_PRICE",
+        "https://w3id.org/idsa/code/FJ",
+        "https://w3id.org/idsa/code/FO",
+        "https://w3id.org/idsa/code/FR",
+        "https://w3id.org/idsa/code/FREE",
+        "https://w3id.org/idsa/code/FY",
+        "https://w3id.org/idsa/code/GA",
+        "https://w3id.org/idsa/code/GD",
+        "https://w3id.org/idsa/code/GL",
+        "https://w3id.org/idsa/code/GN",
+        "https://w3id.org/idsa/code/GRANT_USE",
+        "https://w3id.org/idsa/code/GT",
+        "https://w3id.org/idsa/code/GTEQ",
+        "https://w3id.org/idsa/code/GU",
+        "https://w3id.org/idsa/code/GV",
+        "https://w3id.org/idsa/code/HA",
+        "https://w3id.org/idsa/code/HASH",
+        "https://w3id.org/idsa/code/HASH_ALGORITHM",
+        "https://w3id.org/idsa/code/HAS_MEMBERSHIP",
+        "https://w3id.org/idsa/code/HAS_SITE",
+        "https://w3id.org/idsa/code/HAS_STATE",
+        "https://w3id.org/idsa/code/HE",
+        "https://w3id.org/idsa/code/HI",
+        "https://w3id.org/idsa/code/HO",
+        "https://w3id.org/idsa/code/HOURLY",
+        "https://w3id.org/idsa/code/HR",
+        "https://w3id.org/idsa/code/HT",
+        "https://w3id.org/idsa/code/HU",
+        "https://w3id.org/idsa/code/HY",
+        "https://w3id.org/idsa/code/HZ",
+        "https://w3id.org/idsa/code/IA",
+        "https://w3id.org/idsa/code/ID",
+        "https://w3id.org/idsa/code/IDS-CP",
+        "https://w3id.org/idsa/code/IDS-REST",
+        "https://w3id.org/idsa/code/IDS_CONNECTOR_ATTRIBUTES_ALL",
+        "https://w3id.org/idsa/code/IE",
+        "https://w3id.org/idsa/code/IG",
+        "https://w3id.org/idsa/code/II",
+        "https://w3id.org/idsa/code/IK",
+        "https://w3id.org/idsa/code/IN",
+        "https://w3id.org/idsa/code/INACTIVE_ONLY",
+        "https://w3id.org/idsa/code/INCREMENT_COUNTER",
+        "https://w3id.org/idsa/code/INPUT_ENDPOINT",
+        "https://w3id.org/idsa/code/INSIDE",
+        "https://w3id.org/idsa/code/INSIDE_NETWORK",
+        "https://w3id.org/idsa/code/INTEGRITY_PROTECTION_LOCAL",
+        "https://w3id.org/idsa/code/INTEGRITY_PROTECTION_NONE",
+        "https://w3id.org/idsa/code/INTEGRITY_VERIFICATION_REMOTE",
+        "https://w3id.org/idsa/code/INTEGRITY_VERIFICATION_SCOPE_KERNEL_CORE_CONTAINER",
+        "https://w3id.org/idsa/code/INTEGRITY_VERIFICATION_SCOPE_KERNEL_CORE_CONTAINER_APPLICATION",
+        "https://w3id.org/idsa/code/INTEGRITY_VERIFICATION_SCOPE_NONE",
+        "https://w3id.org/idsa/code/INTERFACE_DEFINITION",
+        "https://w3id.org/idsa/code/INTERNAL_RECIPIENT_ERROR",
+        "https://w3id.org/idsa/code/INTERVAL_RESTRICTED_DATA_USAGE",
+        "https://w3id.org/idsa/code/IO",
+        "https://w3id.org/idsa/code/IRREGULAR",
+        "https://w3id.org/idsa/code/IS",
+        "https://w3id.org/idsa/code/IT",
+        "https://w3id.org/idsa/code/IU",
+        "https://w3id.org/idsa/code/JA",
+        "https://w3id.org/idsa/code/JSON_PATH",
+        "https://w3id.org/idsa/code/JV",
+        "https://w3id.org/idsa/code/JWT",
+        "https://w3id.org/idsa/code/KA",
+        "https://w3id.org/idsa/code/KG",
+        "https://w3id.org/idsa/code/KI",
+        "https://w3id.org/idsa/code/KJ",
+        "https://w3id.org/idsa/code/KK",
+        "https://w3id.org/idsa/code/KL",
+        "https://w3id.org/idsa/code/KM",
+        "https://w3id.org/idsa/code/KN",
+        "https://w3id.org/idsa/code/KO",
+        "https://w3id.org/idsa/code/KR",
+        "https://w3id.org/idsa/code/KS",
+        "https://w3id.org/idsa/code/KU",
+        "https://w3id.org/idsa/code/KV",
+        "https://w3id.org/idsa/code/KW",
+        "https://w3id.org/idsa/code/KY",
+        "https://w3id.org/idsa/code/LA",
+        "https://w3id.org/idsa/code/LB",
+        "https://w3id.org/idsa/code/LG",
+        "https://w3id.org/idsa/code/LI",
+        "https://w3id.org/idsa/code/LN",
+        "https://w3id.org/idsa/code/LO",
+        "https://w3id.org/idsa/code/LOCAL_DATA_CONFIDENTIALITY_FULL_ENCRYPTION",
+        "https://w3id.org/idsa/code/LOCAL_DATA_CONFIDENTIALITY_NONE",
+        "https://w3id.org/idsa/code/LOCAL_DATA_CONFIDENTIALITY_SECURE_ERASURE",
+        "https://w3id.org/idsa/code/LOCAL_LOGGING",
+        "https://w3id.org/idsa/code/LOCATION_RESTRICTED_DATA_USAGE",
+        "https://w3id.org/idsa/code/LOG",
+        "https://w3id.org/idsa/code/LOG_LEVEL",
+        "https://w3id.org/idsa/code/LONGER",
+        "https://w3id.org/idsa/code/LONGER_EQ",
+        "https://w3id.org/idsa/code/LT",
+        "https://w3id.org/idsa/code/LTEQ",
+        "https://w3id.org/idsa/code/LU",
+        "https://w3id.org/idsa/code/LV",
+        "https://w3id.org/idsa/code/MALFORMED_MESSAGE",
+        "https://w3id.org/idsa/code/MATCHES",
+        "https://w3id.org/idsa/code/MEETS",
+        "https://w3id.org/idsa/code/MEMBER_OF",
+        "https://w3id.org/idsa/code/MESSAGE_TYPE_NOT_SUPPORTED",
+        "https://w3id.org/idsa/code/METHOD_NOT_SUPPORTED",
+        "https://w3id.org/idsa/code/MET_BY",
+        "https://w3id.org/idsa/code/MG",
+        "https://w3id.org/idsa/code/MH",
+        "https://w3id.org/idsa/code/MI",
+        "https://w3id.org/idsa/code/MINIMAL_LOGGING",
+        "https://w3id.org/idsa/code/MK",
+        "https://w3id.org/idsa/code/ML",
+        "https://w3id.org/idsa/code/MN",
+        "https://w3id.org/idsa/code/MODIFY",
+        "https://w3id.org/idsa/code/MODIFY_DATA_IN_REST",
+        "https://w3id.org/idsa/code/MODIFY_DATA_IN_TRANSIT",
+        "https://w3id.org/idsa/code/MONTHLY",
+        "https://w3id.org/idsa/code/MR",
+        "https://w3id.org/idsa/code/MS",
+        "https://w3id.org/idsa/code/MT",
+        "https://w3id.org/idsa/code/MULTIPART",
+        "https://w3id.org/idsa/code/MULTIPLY",
+        "https://w3id.org/idsa/code/MULTI_LINGUAL",
+        "https://w3id.org/idsa/code/MY",
+        "https://w3id.org/idsa/code/NA",
+        "https://w3id.org/idsa/code/NB",
+        "https://w3id.org/idsa/code/ND",
+        "https://w3id.org/idsa/code/NE",
+        "https://w3id.org/idsa/code/NEGOTIATION_BASIS",
+        "https://w3id.org/idsa/code/NEXT_POLICY",
+        "https://w3id.org/idsa/code/NG",
+        "https://w3id.org/idsa/code/NL",
+        "https://w3id.org/idsa/code/NN",
+        "https://w3id.org/idsa/code/NO",
+        "https://w3id.org/idsa/code/NOT",
+        "https://w3id.org/idsa/code/NOTIFICATION_LEVEL",
+        "https://w3id.org/idsa/code/NOTIFY",
+        "https://w3id.org/idsa/code/NOT_AUTHENTICATED",
+        "https://w3id.org/idsa/code/NOT_AUTHORIZED",
+        "https://w3id.org/idsa/code/NOT_FOUND",
+        "https://w3id.org/idsa/code/NO_LOGGING",
+        "https://w3id.org/idsa/code/NR",
+        "https://w3id.org/idsa/code/NV",
+        "https://w3id.org/idsa/code/NY",
+        "https://w3id.org/idsa/code/OAUTH2_JWT",
+        "https://w3id.org/idsa/code/OC",
+        "https://w3id.org/idsa/code/OJ",
+        "https://w3id.org/idsa/code/OM",
+        "https://w3id.org/idsa/code/OPERAND",
+        "https://w3id.org/idsa/code/OR",
+        "https://w3id.org/idsa/code/OS",
+        "https://w3id.org/idsa/code/OTHER",
+        "https://w3id.org/idsa/code/OUTPUT_ENDPOINT",
+        "https://w3id.org/idsa/code/OVERLAPPED_BY",
+        "https://w3id.org/idsa/code/OVERLAPS",
+        "https://w3id.org/idsa/code/PA",
+        "https://w3id.org/idsa/code/PARIS",
+        "https://w3id.org/idsa/code/PARTICIPANT_CENTRAL_LEVEL_CONTROL_FRAMEWORK",
+        "https://w3id.org/idsa/code/PARTICIPANT_CENTRAL_LEVEL_MANAGEMENT_SYSTEM",
+        "https://w3id.org/idsa/code/PARTICIPANT_ENTRY_LEVEL_MANAGEMENT_SYSTEM",
+        "https://w3id.org/idsa/code/PARTICIPANT_ENTRY_LEVEL_SELF_ASSESSMENT",
+        "https://w3id.org/idsa/code/PARTICIPANT_MEMBER_LEVEL_CONTROL_FRAMEWORK",
+        "https://w3id.org/idsa/code/PARTICIPANT_MEMBER_LEVEL_MANAGEMENT_SYSTEM",
+        "https://w3id.org/idsa/code/PATH",
+        "https://w3id.org/idsa/code/PAYMENT",
+        "https://w3id.org/idsa/code/PAY_AMOUNT",
+        "https://w3id.org/idsa/code/PI",
+        "https://w3id.org/idsa/code/PL",
+        "https://w3id.org/idsa/code/POLICY_EVALUATION_TIME",
+        "https://w3id.org/idsa/code/PREPATUAL_DATA_SALE",
+        "https://w3id.org/idsa/code/PROCESS_ENDPOINT",
+        "https://w3id.org/idsa/code/PRODUCTIVE_DEPLOYMENT",
+        "https://w3id.org/idsa/code/PS",
+        "https://w3id.org/idsa/code/PSEUDONYMIZED",
+        "https://w3id.org/idsa/code/PT",
+        "https://w3id.org/idsa/code/PURPOSE",
+        "https://w3id.org/idsa/code/PURPOSE_RESTRICTED_DATA_USAGE",
+        "https://w3id.org/idsa/code/QU",
+        "https://w3id.org/idsa/code/QUANTITY",
+        "https://w3id.org/idsa/code/QUARTERLY",
+        "https://w3id.org/idsa/code/QUERY",
+        "https://w3id.org/idsa/code/READ",
+        "https://w3id.org/idsa/code/RECIPIENT",
+        "https://w3id.org/idsa/code/RECURRENCE_RATE",
+        "https://w3id.org/idsa/code/REMOTE_NOTIFICATION",
+        "https://w3id.org/idsa/code/REPLACE",
+        "https://w3id.org/idsa/code/REPLACE_WITH",
+        "https://w3id.org/idsa/code/RESTRICTED_NUMBER_OF_USAGES",
+        "https://w3id.org/idsa/code/RM",
+        "https://w3id.org/idsa/code/RN",
+        "https://w3id.org/idsa/code/RO",
+        "https://w3id.org/idsa/code/ROLE",
+        "https://w3id.org/idsa/code/ROLE_RESTRICTED_DATA_USAGE",
+        "https://w3id.org/idsa/code/RSA",
+        "https://w3id.org/idsa/code/RU",
+        "https://w3id.org/idsa/code/RW",
+        "https://w3id.org/idsa/code/SA",
+        "https://w3id.org/idsa/code/SAME_AS",
+        "https://w3id.org/idsa/code/SAML_1_1",
+        "https://w3id.org/idsa/code/SAML_2_0",
+        "https://w3id.org/idsa/code/SC",
+        "https://w3id.org/idsa/code/SCHEMA_DEFINITION",
+        "https://w3id.org/idsa/code/SD",
+        "https://w3id.org/idsa/code/SE",
+        "https://w3id.org/idsa/code/SECURITY_LEVEL",
+        "https://w3id.org/idsa/code/SECURITY_LEVEL_RESTRICTED_POLICY",
+        "https://w3id.org/idsa/code/SELF_DESCRIPTION_ENDPOINT",
+        "https://w3id.org/idsa/code/SEMIANNUAL",
+        "https://w3id.org/idsa/code/SEMIMONTHLY",
+        "https://w3id.org/idsa/code/SEMIWEEKLY",
+        "https://w3id.org/idsa/code/SERVICE_ISOLATION_LEAST_PRIVILEGE",
+        "https://w3id.org/idsa/code/SERVICE_ISOLATION_NONE",
+        "https://w3id.org/idsa/code/SERVICE_ISOLATION_PROCESS_GROUP",
+        "https://w3id.org/idsa/code/SG",
+        "https://w3id.org/idsa/code/SHORTER",
+        "https://w3id.org/idsa/code/SHORTER_EQ",
+        "https://w3id.org/idsa/code/SHUFFLE",
+        "https://w3id.org/idsa/code/SI",
+        "https://w3id.org/idsa/code/SK",
+        "https://w3id.org/idsa/code/SL",
+        "https://w3id.org/idsa/code/SM",
+        "https://w3id.org/idsa/code/SN",
+        "https://w3id.org/idsa/code/SO",
+        "https://w3id.org/idsa/code/SPARQL",
+        "https://w3id.org/idsa/code/SPATIAL_CONTAINS",
+        "https://w3id.org/idsa/code/SPATIAL_EQUALS",
+        "https://w3id.org/idsa/code/SPATIAL_MEET",
+        "https://w3id.org/idsa/code/SPATIAL_OVERLAP",
+        "https://w3id.org/idsa/code/SQ",
+        "https://w3id.org/idsa/code/SQL",
+        "https://w3id.org/idsa/code/SR",
+        "https://w3id.org/idsa/code/SS",
+        "https://w3id.org/idsa/code/ST",
+        "https://w3id.org/idsa/code/STARTED_BY",
+        "https://w3id.org/idsa/code/STARTS",
+        "https://w3id.org/idsa/code/STATE",
+        "https://w3id.org/idsa/code/STATE_RESTRICTED_POLICY",
+        "https://w3id.org/idsa/code/STATUS_ENDPOINT",
+        "https://w3id.org/idsa/code/STRING_CONTAINS",
+        "https://w3id.org/idsa/code/STRING_EQ",
+        "https://w3id.org/idsa/code/STRING_IS_CONTAINED",
+        "https://w3id.org/idsa/code/SU",
+        "https://w3id.org/idsa/code/SV",
+        "https://w3id.org/idsa/code/SW",
+        "https://w3id.org/idsa/code/SWT",
+        "https://w3id.org/idsa/code/SYSTEM",
+        "https://w3id.org/idsa/code/SYSTEM_DEVICE",
+        "https://w3id.org/idsa/code/TA",
+        "https://w3id.org/idsa/code/TARGET_POLICY",
+        "https://w3id.org/idsa/code/TE",
+        "https://w3id.org/idsa/code/TEMPORAL_DISJOINT",
+        "https://w3id.org/idsa/code/TEMPORAL_EQUALS",
+        "https://w3id.org/idsa/code/TEMPORARILY_NOT_AVAILABLE",
+        "https://w3id.org/idsa/code/TEST_DEPLOYMENT",
+        "https://w3id.org/idsa/code/TG",
+        "https://w3id.org/idsa/code/TH",
+        "https://w3id.org/idsa/code/THREE_TIMES_A_MONTH",
+        "https://w3id.org/idsa/code/THREE_TIMES_A_WEEK",
+        "https://w3id.org/idsa/code/THREE_TIMES_A_YEAR",
+        "https://w3id.org/idsa/code/TI",
+        "https://w3id.org/idsa/code/TK",
+        "https://w3id.org/idsa/code/TL",
+        "https://w3id.org/idsa/code/TN",
+        "https://w3id.org/idsa/code/TO",
+        "https://w3id.org/idsa/code/TOO_MANY_RESULTS",
+        "https://w3id.org/idsa/code/TR",
+        "https://w3id.org/idsa/code/TRACK_PROVENANCE",
+        "https://w3id.org/idsa/code/TRIENNIAL",
+        "https://w3id.org/idsa/code/TRUST_PLUS_SECURITY_PROFILE",
+        "https://w3id.org/idsa/code/TRUST_SECURITY_PROFILE",
+        "https://w3id.org/idsa/code/TS",
+        "https://w3id.org/idsa/code/TT",
+        "https://w3id.org/idsa/code/TW",
+        "https://w3id.org/idsa/code/TWO_TIMES_A_DAY",
+        "https://w3id.org/idsa/code/TY",
+        "https://w3id.org/idsa/code/UG",
+        "https://w3id.org/idsa/code/UK",
+        "https://w3id.org/idsa/code/UNKNOWN",
+        "https://w3id.org/idsa/code/UR",
+        "https://w3id.org/idsa/code/USAGE_CONTROL_NONE",
+        "https://w3id.org/idsa/code/USAGE_CONTROL_POLICY_ENFORCEMENT",
+        "https://w3id.org/idsa/code/USAGE_CONTROL_REMOTE_COMPLIANCE_VERIFICATION",
+        "https://w3id.org/idsa/code/USAGE_POLICY_ENDPOINT",
+        "https://w3id.org/idsa/code/USE",
+        "https://w3id.org/idsa/code/USER",
+        "https://w3id.org/idsa/code/USE_DATA_AND_DELETE_AFTER",
+        "https://w3id.org/idsa/code/UZ",
+        "https://w3id.org/idsa/code/VE",
+        "https://w3id.org/idsa/code/VERSION_NOT_SUPPORTED",
+        "https://w3id.org/idsa/code/VI",
+        "https://w3id.org/idsa/code/VO",
+        "https://w3id.org/idsa/code/WA",
+        "https://w3id.org/idsa/code/WEEKLY",
+        "https://w3id.org/idsa/code/WO",
+        "https://w3id.org/idsa/code/WRITE",
+        "https://w3id.org/idsa/code/XH",
+        "https://w3id.org/idsa/code/XPATH",
+        "https://w3id.org/idsa/code/XQUERY",
+        "https://w3id.org/idsa/code/YI",
+        "https://w3id.org/idsa/code/YO",
+        "https://w3id.org/idsa/code/ZA",
+        "https://w3id.org/idsa/code/ZH",
+        "https://w3id.org/idsa/code/ZU",
+    };
+
+    private static final Map<String, Integer> INDEX = new HashMap<>(ENTRIES.length * 2);
+
+    static {
+        for (int i = 0; i < ENTRIES.length; i++) {
+            INDEX.put(ENTRIES[i], i);
+        }
+    }
+
+    private BinaryDictionary() {}
+
+    /**
+     * Looks up the index of a string.
+     *
+     * @return index or -1, if the string is not part of the dictionary
+     */
+    static int indexOf(String value) {
+        Integer index = INDEX.get(value);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Looks up the string at an index.
+     *
+     * @return string or null, if the index is out of range
+     */
+    static String entry(int index) {
+        return index >= 0 && index < ENTRIES.length ? ENTRIES[index] : null;
+    }
+
+}
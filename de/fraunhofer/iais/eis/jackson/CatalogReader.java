@@ -0,0 +1,202 @@
+package de.fraunhofer.iais.eis.jackson;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Pull-style reader that yields the elements of a list property of a large JSON-LD document (e.g. the
+ * ids:offeredResource of the catalogs of a Broker self-description) one at a time, so that the
+ * document never has to be materialized as a whole:
+ *
+ * <pre>
+ * try (CatalogReader&lt;Resource&gt; resources = CatalogReader.offeredResources(mapper, in)) {
+ *     while (resources.hasNext()) {
+ *         index(resources.next());
+ *     }
+ * }
+ * </pre>
+ *
+ * The reader yields the values of every occurrence of the property in the document, at any depth,
+ * but does not look into the yielded elements themselves. Elements given as plain URI references,
+ * either as string or as object with nothing but an "@id" (e.g. the ids:offeredResourceAsUri of a
+ * catalog), are skipped, as they cannot be represented by the element type. Only the element currently
+ * read is held in memory.
+ */
+public class CatalogReader<T extends ModelClass> implements Iterator<T>, Closeable {
+
+    private final JsonParser parser;
+
+    private final ObjectReader elementReader;
+
+    private final String property;
+
+    private boolean inList;
+
+    private T next;
+
+    /**
+     * Creates a reader for the given property.
+     *
+     * @param mapper ObjectMapper configured for the deserialization of the IDS Information Model
+     * @param in JSON-LD document, closed together with the reader
+     * @param property local name of the list property, e.g. "offeredResource"
+     * @param elementType class of the list elements, e.g. Resource.class
+     * @throws IOException This exception is thrown, if the document cannot be opened.
+     */
+    public CatalogReader(ObjectMapper mapper, InputStream in, String property, Class<T> elementType)
+        throws IOException {
+        this.parser = mapper.getFactory().createParser(in);
+        this.elementReader = mapper.readerFor(elementType);
+        this.property = JsonLd.localName(property);
+    }
+
+    /**
+     * Creates a reader for the offered resources of all ResourceCatalogs in a document.
+     */
+    public static CatalogReader<Resource> offeredResources(ObjectMapper mapper, InputStream in) throws IOException {
+        return new CatalogReader<>(mapper, in, "offeredResource", Resource.class);
+    }
+
+    /**
+     * Creates a reader for the connectors listed by all ConnectorCatalogs in a document.
+     */
+    public static CatalogReader<Connector> listedConnectors(ObjectMapper mapper, InputStream in) throws IOException {
+        return new CatalogReader<>(mapper, in, "listedConnector", Connector.class);
+    }
+
+    /**
+     * Creates a reader for the members of all ParticipantCatalogs in a document.
+     */
+    public static CatalogReader<Participant> members(ObjectMapper mapper, InputStream in) throws IOException {
+        return new CatalogReader<>(mapper, in, "member", Participant.class);
+    }
+
+    /**
+     * Creates a reader for the app resources listed by all AppResourceCatalogs in a document.
+     */
+    public static CatalogReader<AppResource> listedAppResources(ObjectMapper mapper, InputStream in)
+        throws IOException {
+        return new CatalogReader<>(mapper, in, "listedAppResource", AppResource.class);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = readNext();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T element = next;
+        next = null;
+        return element;
+    }
+
+    /**
+     * Provides the remaining elements as sequential stream, which closes the reader when it is closed.
+     *
+     * @return stream of the remaining elements
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL),
+            false).onClose(() -> {
+                try {
+                    close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    private T readNext() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            if (inList) {
+                if (token == JsonToken.END_ARRAY) {
+                    inList = false;
+                } else {
+                    T element = readElement(token);
+                    if (element != null) {
+                        return element;
+                    }
+                }
+            } else if (token == JsonToken.FIELD_NAME && JsonLd.isProperty(parser.getCurrentName(), property)) {
+                token = parser.nextToken();
+                if (token == JsonToken.START_ARRAY) {
+                    inList = true;
+                } else {
+                    T element = readElement(token);
+                    if (element != null) {
+                        return element;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private T readElement(JsonToken token) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        // The tokens read ahead to recognize a reference {"@id": ...} are replayed in front of the rest
+        // of the element, so that the element itself is not buffered.
+        TokenBuffer prefix = new TokenBuffer(parser);
+        prefix.writeStartObject();
+        token = parser.nextToken();
+        if (token == JsonToken.FIELD_NAME && parser.getCurrentName().equals("@id")) {
+            prefix.copyCurrentEvent(parser);
+            token = parser.nextToken();
+            prefix.copyCurrentEvent(parser);
+            if (token.isScalarValue()) {
+                token = parser.nextToken();
+                if (token == JsonToken.END_OBJECT) {
+                    // plain URI reference, which cannot be represented by the element type
+                    return null;
+                }
+            } else {
+                // not a reference, the value is read from the document
+                token = null;
+            }
+        }
+        if (token != null) {
+            prefix.copyCurrentEvent(parser);
+        }
+        // not closed, as closing the sequence would close the document as well
+        JsonParser element = JsonParserSequence.createFlattened(false, prefix.asParser(), parser);
+        return elementReader.readValue(element);
+    }
+
+}
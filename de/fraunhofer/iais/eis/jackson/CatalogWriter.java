@@ -0,0 +1,165 @@
+package de.fraunhofer.iais.eis.jackson;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Streaming writer that emits a catalog (e.g. a ResourceCatalog) as JSON-LD document while pulling the
+ * elements of its list property (e.g. ids:offeredResource) from an Iterator or Stream, so that the
+ * complete catalog never has to be built in memory:
+ *
+ * <pre>
+ * try (CatalogWriter writer = new CatalogWriter(mapper, out)) {
+ *     writer.writeOfferedResources(new ResourceCatalogBuilder(catalogId).build(), resources.iterator());
+ * }
+ * </pre>
+ *
+ * The remaining properties of the catalog are serialized from the given catalog object. Of its own
+ * value of the streamed property only the URI references (e.g. set with _offeredResourceAsUri_) are
+ * kept and written ahead of the streamed elements; its objects are replaced by the streamed elements.
+ */
+public class CatalogWriter implements Closeable, Flushable {
+
+    private final JsonGenerator generator;
+
+    private final ObjectMapper mapper;
+
+    private final ObjectWriter elementWriter;
+
+    /**
+     * Creates a writer.
+     *
+     * @param mapper ObjectMapper configured for the serialization of the IDS Information Model
+     * @param out target of the JSON-LD document, closed together with the writer
+     * @throws IOException This exception is thrown, if the target cannot be opened.
+     */
+    public CatalogWriter(ObjectMapper mapper, OutputStream out) throws IOException {
+        this.generator = mapper.getFactory().createGenerator(out);
+        this.mapper = mapper;
+        this.elementWriter = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Writes a ResourceCatalog with the given offered resources.
+     */
+    public void writeOfferedResources(ResourceCatalog catalog, Iterator<? extends Resource> resources)
+        throws IOException {
+        writeCatalog(catalog, "offeredResource", resources);
+    }
+
+    /**
+     * Writes a ConnectorCatalog with the given listed connectors.
+     */
+    public void writeListedConnectors(ConnectorCatalog catalog, Iterator<? extends Connector> connectors)
+        throws IOException {
+        writeCatalog(catalog, "listedConnector", connectors);
+    }
+
+    /**
+     * Writes an AppResourceCatalog with the given listed app resources.
+     */
+    public void writeListedAppResources(AppResourceCatalog catalog, Iterator<? extends AppResource> appResources)
+        throws IOException {
+        writeCatalog(catalog, "listedAppResource", appResources);
+    }
+
+    /**
+     * Writes the given catalog as top-level JSON-LD object with the elements of a stream as value of
+     * one of its list properties. The stream is consumed, but not closed.
+     *
+     * @param catalog catalog providing the remaining properties
+     * @param property local name of the list property, e.g. "offeredResource"
+     * @param elements elements of the list property
+     * @throws IOException This exception is thrown, if writing fails.
+     */
+    public void writeCatalog(ModelClass catalog, String property, Stream<? extends ModelClass> elements)
+        throws IOException {
+        writeCatalog(catalog, property, elements.iterator());
+    }
+
+    /**
+     * Writes the given catalog as top-level JSON-LD object with the elements of an iterator as value of
+     * one of its list properties.
+     *
+     * @param catalog catalog providing the remaining properties
+     * @param property local name of the list property, e.g. "offeredResource"
+     * @param elements elements of the list property
+     * @throws IOException This exception is thrown, if writing fails.
+     */
+    public void writeCatalog(ModelClass catalog, String property, Iterator<? extends ModelClass> elements)
+        throws IOException {
+        String localName = JsonLd.localName(property);
+        ObjectNode header = mapper.valueToTree(catalog);
+
+        generator.writeStartObject();
+        generator.writeObjectFieldStart("@context");
+        generator.writeStringField("ids", JsonLd.IDS);
+        generator.writeStringField("idsc", JsonLd.IDSC);
+        generator.writeEndObject();
+        List<JsonNode> references = new ArrayList<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = header.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (isStreamedProperty(field.getKey(), localName)) {
+                addReferences(field.getValue(), references);
+            } else if (!field.getKey().equals("@context")) {
+                generator.writeFieldName(field.getKey());
+                generator.writeTree(field.getValue());
+            }
+        }
+        generator.writeArrayFieldStart("ids:" + localName);
+        for (JsonNode reference : references) {
+            generator.writeTree(reference);
+        }
+        while (elements.hasNext()) {
+            elementWriter.writeValue(generator, elements.next());
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+
+    // the streamed property replaces its serialized value as well as the separate AsObject/AsUri lists
+    private static boolean isStreamedProperty(String key, String localName) {
+        return JsonLd.isProperty(key, localName)
+            || JsonLd.isProperty(key, localName + "AsObject")
+            || JsonLd.isProperty(key, localName + "AsUri");
+    }
+
+    // URI references are serialized as plain string by the mixins and as {"@id": ...} by the codecs
+    private static void addReferences(JsonNode value, List<JsonNode> references) {
+        if (value.isArray()) {
+            for (JsonNode element : value) {
+                addReferences(element, references);
+            }
+        } else if (value.isTextual() || (value.isObject() && value.size() == 1 && value.has("@id"))) {
+            references.add(value);
+        }
+    }
+
+}
@@ -0,0 +1,157 @@
+package de.fraunhofer.iais.eis.jackson;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.DeserializationProblemHandler;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Jackson module that makes deserialization return the shared default instances (e.g.
+ * {@link Language#EN}) instead of new objects, whenever a deserialized value of a class with default
+ * instances is equal to one of them and carries no additional properties. Besides, the module allows
+ * such values to be given without "@type", as in {"@id": "https://w3id.org/idsa/code/EN"}.
+ *
+ * Register the module on the ObjectMapper used for parsing to enable this mode:
+ * 
+ * <pre>
+ * mapper.registerModule(new DefaultInstanceModule());
+ * </pre>
+ */
+public class DefaultInstanceModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Map<Class<?>, Function<URI, ? extends ModelClass>> LOOKUP_BY_IMPLEMENTATION = new HashMap<>();
+
+    private static final Map<Class<?>, Class<?>> IMPLEMENTATION_BY_TYPE = new HashMap<>();
+
+    static {
+        register(Action.class, ActionImpl.class, Action::fromId);
+        register(AppEndpointType.class, AppEndpointTypeImpl.class, AppEndpointType::fromId);
+        register(AppExecutionResources.class, AppExecutionResourcesImpl.class, AppExecutionResources::fromId);
+        register(ArtifactState.class, ArtifactStateImpl.class, ArtifactState::fromId);
+        register(Audience.class, AudienceImpl.class, Audience::fromId);
+        register(AuditGuarantee.class, AuditGuaranteeImpl.class, AuditGuarantee::fromId);
+        register(AuthStandard.class, AuthStandardImpl.class, AuthStandard::fromId);
+        register(AuthenticationGuarantee.class, AuthenticationGuaranteeImpl.class, AuthenticationGuarantee::fromId);
+        register(BinaryOperator.class, BinaryOperatorImpl.class, BinaryOperator::fromId);
+        register(ComponentCertificationLevel.class, ComponentCertificationLevelImpl.class, ComponentCertificationLevel::fromId);
+        register(ConnectorDeployMode.class, ConnectorDeployModeImpl.class, ConnectorDeployMode::fromId);
+        register(ConnectorStatus.class, ConnectorStatusImpl.class, ConnectorStatus::fromId);
+        register(ContentType.class, ContentTypeImpl.class, ContentType::fromId);
+        register(Frequency.class, FrequencyImpl.class, Frequency::fromId);
+        register(IdsProtocolSpecification.class, IdsProtocolSpecificationImpl.class, IdsProtocolSpecification::fromId);
+        register(IntegrityGuarantee.class, IntegrityGuaranteeImpl.class, IntegrityGuarantee::fromId);
+        register(IntegrityVerificationScopeGuarantee.class, IntegrityVerificationScopeGuaranteeImpl.class, IntegrityVerificationScopeGuarantee::fromId);
+        register(KeyType.class, KeyTypeImpl.class, KeyType::fromId);
+        register(Language.class, LanguageImpl.class, Language::fromId);
+        register(LeftOperand.class, LeftOperandImpl.class, LeftOperand::fromId);
+        register(LocalDataConfidentialityGuarantee.class, LocalDataConfidentialityGuaranteeImpl.class, LocalDataConfidentialityGuarantee::fromId);
+        register(LogLevel.class, LogLevelImpl.class, LogLevel::fromId);
+        register(ParticipantCertificationLevel.class, ParticipantCertificationLevelImpl.class, ParticipantCertificationLevel::fromId);
+        register(PaymentModality.class, PaymentModalityImpl.class, PaymentModality::fromId);
+        register(QueryLanguage.class, QueryLanguageImpl.class, QueryLanguage::fromId);
+        register(QueryScope.class, QueryScopeImpl.class, QueryScope::fromId);
+        register(QueryTarget.class, QueryTargetImpl.class, QueryTarget::fromId);
+        register(RejectionReason.class, RejectionReasonImpl.class, RejectionReason::fromId);
+        register(SecurityProfile.class, SecurityProfileImpl.class, SecurityProfile::fromId);
+        register(ServiceIsolationGuarantee.class, ServiceIsolationGuaranteeImpl.class, ServiceIsolationGuarantee::fromId);
+        register(TokenFormat.class, TokenFormatImpl.class, TokenFormat::fromId);
+        register(UsageControlGuarantee.class, UsageControlGuaranteeImpl.class, UsageControlGuarantee::fromId);
+        register(UsagePolicyClass.class, UsagePolicyClassImpl.class, UsagePolicyClass::fromId);
+    }
+
+    private static <T extends ModelClass> void register(Class<T> type, Class<? extends T> implementation,
+        Function<URI, T> lookup) {
+        LOOKUP_BY_IMPLEMENTATION.put(implementation, lookup);
+        IMPLEMENTATION_BY_TYPE.put(type, implementation);
+    }
+
+    public DefaultInstanceModule() {
+        super(DefaultInstanceModule.class.getSimpleName());
+        setDeserializerModifier(new BeanDeserializerModifier() {
+
+            @Override
+            public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDesc,
+                JsonDeserializer<?> deserializer) {
+                Function<URI, ? extends ModelClass> lookup = LOOKUP_BY_IMPLEMENTATION.get(beanDesc.getBeanClass());
+                return lookup == null ? deserializer : new DefaultInstanceDeserializer(deserializer, lookup);
+            }
+        });
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        context.addDeserializationProblemHandler(new DeserializationProblemHandler() {
+
+            @Override
+            public JavaType handleMissingTypeId(DeserializationContext ctxt, JavaType baseType, TypeIdResolver idResolver,
+                String failureMsg) {
+                Class<?> implementation = IMPLEMENTATION_BY_TYPE.get(baseType.getRawClass());
+                return implementation == null ? null : ctxt.constructType(implementation);
+            }
+        });
+    }
+
+    /**
+     * Replaces the result of the wrapped bean deserializer by the equal default instance, if any.
+     */
+    private static class DefaultInstanceDeserializer extends DelegatingDeserializer {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Function<URI, ? extends ModelClass> lookup;
+
+        DefaultInstanceDeserializer(JsonDeserializer<?> delegate, Function<URI, ? extends ModelClass> lookup) {
+            super(delegate);
+            this.lookup = lookup;
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+            return new DefaultInstanceDeserializer(newDelegatee, lookup);
+        }
+
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return intern(_delegatee.deserialize(p, ctxt));
+        }
+
+        @Override
+        public Object deserializeWithType(JsonParser p, DeserializationContext ctxt, TypeDeserializer typeDeserializer)
+            throws IOException {
+            return intern(_delegatee.deserializeWithType(p, ctxt, typeDeserializer));
+        }
+
+        private Object intern(Object value) {
+            if (!(value instanceof ModelClass)) {
+                return value;
+            }
+            ModelClass candidate = (ModelClass) value;
+            ModelClass defaultInstance = lookup.apply(candidate.getId());
+            if (defaultInstance == null || !defaultInstance.equals(candidate)) {
+                return value;
+            }
+            Map<String, Object> properties = candidate.getProperties();
+            return properties == null || properties.isEmpty() ? defaultInstance : value;
+        }
+    }
+
+}
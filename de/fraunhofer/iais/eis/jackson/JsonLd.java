@@ -0,0 +1,54 @@
+package de.fraunhofer.iais.eis.jackson;
+
+/**
+ * Names of the JSON-LD serialization of the IDS Information Model, as used by the streaming reader
+ * and writer of this package.
+ */
+final class JsonLd {
+
+    /**
+     * Namespace of the classes and properties of the IDS Information Model, abbreviated as "ids".
+     */
+    static final String IDS = "https://w3id.org/idsa/core/";
+
+    /**
+     * Namespace of the default instances (e.g. idsc:EN), abbreviated as "idsc".
+     */
+    static final String IDSC = "https://w3id.org/idsa/code/";
+
+    private JsonLd() {}
+
+    /**
+     * Checks whether a JSON key denotes the given property of the IDS Information Model, which may be
+     * written compacted ("ids:offeredResource"), as full IRI or without prefix ("offeredResource").
+     *
+     * @param key JSON key to check
+     * @param property local name of the property, e.g. "offeredResource"
+     */
+    static boolean isProperty(String key, String property) {
+        if (key.endsWith(property)) {
+            int prefixLength = key.length() - property.length();
+            return prefixLength == 0
+                || prefixLength == 4 && key.startsWith("ids:")
+                || prefixLength == IDS.length() && key.startsWith(IDS);
+        }
+        return false;
+    }
+
+    /**
+     * Strips the prefix from a compacted ("ids:offeredResource") or full property IRI.
+     *
+     * @param property property name or IRI
+     * @return local name of the property, e.g. "offeredResource"
+     */
+    static String localName(String property) {
+        if (property.startsWith("ids:")) {
+            return property.substring(4);
+        }
+        if (property.startsWith(IDS)) {
+            return property.substring(IDS.length());
+        }
+        return property;
+    }
+
+}
@@ -0,0 +1,160 @@
+package de.fraunhofer.iais.eis.jackson;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Reader that extracts only selected properties of a Message, e.g. for routing decisions. All other
+ * properties, such as ids:securityToken or custom properties, are skipped at the token level without
+ * being deserialized:
+ *
+ * <pre>
+ * MessageProjection projection = MessageProjection.routing(mapper);
+ * Message header = projection.read(in);
+ * URI recipient = header.getRecipientConnector().get(0);
+ * </pre>
+ *
+ * The returned Message has the class given by its "@type" and its "@id", but only the selected
+ * properties are set, so it is neither validated nor meant to be forwarded.
+ */
+public class MessageProjection {
+
+    private final ObjectMapper mapper;
+
+    private final Projection filter;
+
+    /**
+     * Creates a projection.
+     *
+     * @param mapper ObjectMapper configured for the deserialization of the IDS Information Model
+     * @param properties local names of the properties of Message to read, e.g. "issuerConnector"
+     * @throws IllegalArgumentException This exception is thrown, if a name is not a property of Message.
+     */
+    public MessageProjection(ObjectMapper mapper, String... properties) {
+        this.mapper = mapper;
+        this.filter = new Projection(properties);
+    }
+
+    /**
+     * Creates a projection on the properties needed to route a message: ids:issuerConnector,
+     * ids:recipientConnector, ids:correlationMessage and ids:transferContract.
+     */
+    public static MessageProjection routing(ObjectMapper mapper) {
+        return new MessageProjection(mapper,
+            "issuerConnector", "recipientConnector", "correlationMessage", "transferContract");
+    }
+
+    /**
+     * This function reads the selected properties of a Message from a stream.
+     *
+     * @param in UTF-8 encoded JSON-LD of the Message
+     * @return Message with the selected properties
+     * @throws IOException This exception is thrown, if the JSON-LD cannot be parsed.
+     */
+    public Message read(InputStream in) throws IOException {
+        try (JsonParser parser = mapper.getFactory().createParser(in)) {
+            return read(parser);
+        }
+    }
+
+    /**
+     * This function reads the selected properties of a Message from a part of an array.
+     *
+     * @param data array holding the UTF-8 encoded JSON-LD of the Message
+     * @param offset start of the JSON-LD within the array
+     * @param length length of the JSON-LD in bytes
+     * @return Message with the selected properties
+     * @throws IOException This exception is thrown, if the JSON-LD cannot be parsed.
+     */
+    public Message read(byte[] data, int offset, int length) throws IOException {
+        try (JsonParser parser = mapper.getFactory().createParser(data, offset, length)) {
+            return read(parser);
+        }
+    }
+
+    /**
+     * This function reads the selected properties of a Message from the remaining bytes of a buffer,
+     * without changing its position.
+     *
+     * @param buffer buffer holding the UTF-8 encoded JSON-LD of the Message between its position and limit
+     * @return Message with the selected properties
+     * @throws IOException This exception is thrown, if the JSON-LD cannot be parsed.
+     */
+    public Message read(ByteBuffer buffer) throws IOException {
+        try (JsonParser parser = ModelReader.createParser(mapper.getFactory(), buffer)) {
+            return read(parser);
+        }
+    }
+
+    /**
+     * This function reads the selected properties of the Message at the current position of a parser.
+     * The parser is left at the end of the Message.
+     *
+     * @param parser parser positioned before or at the start of the Message
+     * @return Message with the selected properties
+     * @throws IOException This exception is thrown, if the JSON-LD cannot be parsed.
+     */
+    public Message read(JsonParser parser) throws IOException {
+        JsonParser filtered = new FilteringParserDelegate(parser, filter,
+            TokenFilter.Inclusion.INCLUDE_ALL_AND_PATH, true);
+        return mapper.readValue(filtered, Message.class);
+    }
+
+    // includes "@id", "@type" and the selected properties of the top-level object and nothing else
+    private static final class Projection extends TokenFilter {
+
+        private final Set<String> keys = new HashSet<>();
+
+        Projection(String... properties) {
+            keys.add("@id");
+            keys.add("@type");
+            for (String property : properties) {
+                String localName = JsonLd.localName(property);
+                if (!isMessageProperty(localName)) {
+                    throw new IllegalArgumentException("'" + property + "' is not a property of ids:Message");
+                }
+                keys.add(localName);
+                keys.add("ids:" + localName);
+                keys.add(JsonLd.IDS + localName);
+            }
+        }
+
+        @Override
+        public TokenFilter includeProperty(String name) {
+            return keys.contains(name) ? TokenFilter.INCLUDE_ALL : null;
+        }
+
+        @Override
+        public TokenFilter includeElement(int index) {
+            return null;
+        }
+
+        @Override
+        protected boolean _includeScalar() {
+            return false;
+        }
+
+        private static boolean isMessageProperty(String localName) {
+            if (localName.isEmpty()) {
+                return false;
+            }
+            try {
+                String getter = "get" + Character.toUpperCase(localName.charAt(0)) + localName.substring(1);
+                return Message.class.getMethod(getter).getDeclaringClass() != ModelClass.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,75 @@
+package de.fraunhofer.iais.eis.jackson;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+/**
+ * Entry points for reading UTF-8 encoded JSON-LD straight from byte arrays and ByteBuffers, e.g. from
+ * network buffers or memory-mapped log segments, without decoding the content into a String first:
+ *
+ * <pre>
+ * ModelReader reader = new ModelReader(mapper);
+ * Message header = reader.read(segment.slice(), Message.class);
+ * </pre>
+ */
+public class ModelReader {
+
+    private final ObjectMapper mapper;
+
+    /**
+     * Creates a reader.
+     *
+     * @param mapper ObjectMapper configured for the deserialization of the IDS Information Model
+     */
+    public ModelReader(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * This function reads a value from a part of an array. The bytes are parsed in place.
+     *
+     * @param data array holding the UTF-8 encoded JSON-LD
+     * @param offset start of the JSON-LD within the array
+     * @param length length of the JSON-LD in bytes
+     * @param type class of the value, e.g. Message.class
+     * @param <T> type of the value
+     * @return parsed value
+     * @throws IOException This exception is thrown, if the JSON-LD cannot be parsed.
+     */
+    public <T> T read(byte[] data, int offset, int length, Class<T> type) throws IOException {
+        return mapper.readValue(data, offset, length, type);
+    }
+
+    /**
+     * This function reads a value from the remaining bytes of a buffer, without changing its position.
+     * Buffers backed by an array are parsed in place. The content of other buffers, such as direct or
+     * memory-mapped ones, is streamed through the fixed-size input buffer of the parser.
+     *
+     * @param buffer buffer holding the UTF-8 encoded JSON-LD between its position and limit
+     * @param type class of the value, e.g. Message.class
+     * @param <T> type of the value
+     * @return parsed value
+     * @throws IOException This exception is thrown, if the JSON-LD cannot be parsed.
+     */
+    public <T> T read(ByteBuffer buffer, Class<T> type) throws IOException {
+        try (JsonParser parser = createParser(mapper.getFactory(), buffer)) {
+            return mapper.readValue(parser, type);
+        }
+    }
+
+    /**
+     * Creates a parser over the remaining bytes of a buffer, which parses array-backed buffers in place.
+     */
+    static JsonParser createParser(JsonFactory factory, ByteBuffer buffer) throws IOException {
+        if (buffer.hasArray()) {
+            return factory.createParser(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        return factory.createParser(new ByteBufferBackedInputStream(buffer.duplicate()));
+    }
+
+}
@@ -0,0 +1,166 @@
+package de.fraunhofer.iais.eis.jackson;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import de.fraunhofer.iais.eis.codecs.CodecModule;
+
+/**
+ * Writes objects as JSON-LD directly to a stream, e.g. the body of an HTTP response, instead of
+ * building the document as String first. The generator encodes into a fixed-size buffer that is
+ * passed on to the target whenever it is full, so large graphs such as a broker self-description with
+ * many thousand resources are written with bounded memory, and the first bytes are sent before the
+ * serialization has finished:
+ *
+ * <pre>
+ * ModelWriter.shared().write(connector, response.getOutputStream());
+ * </pre>
+ */
+public class ModelWriter {
+
+    private final ObjectMapper mapper;
+
+    private final ObjectWriter writer;
+
+    /**
+     * Creates a writer.
+     *
+     * @param mapper ObjectMapper configured for the serialization of the IDS Information Model
+     */
+    public ModelWriter(ObjectMapper mapper) {
+        this.mapper = mapper;
+        this.writer = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    private static class Shared {
+        private static final ModelWriter WRITER =
+            new ModelWriter(ObjectMapperFactory.create().registerModule(new CodecModule()));
+    }
+
+    /**
+     * Returns a shared writer that uses the generated serializers of package
+     * de.fraunhofer.iais.eis.codecs. It is used by ModelClass.toRdf(OutputStream) and toRdf(Writer).
+     */
+    public static ModelWriter shared() {
+        return Shared.WRITER;
+    }
+
+    /**
+     * This function writes a value as UTF-8 encoded JSON-LD. The stream is flushed, but not closed.
+     *
+     * @param value value to write, e.g. a Connector
+     * @param out target of the JSON-LD document
+     * @throws IOException This exception is thrown, if writing fails.
+     */
+    public void write(Object value, OutputStream out) throws IOException {
+        write(value, mapper.getFactory().createGenerator(out));
+    }
+
+    /**
+     * This function writes a value as JSON-LD. The writer is flushed, but not closed.
+     *
+     * @param value value to write, e.g. a Connector
+     * @param out target of the JSON-LD document
+     * @throws IOException This exception is thrown, if writing fails.
+     */
+    public void write(Object value, Writer out) throws IOException {
+        write(value, mapper.getFactory().createGenerator(out));
+    }
+
+    /**
+     * This function writes a value as UTF-8 encoded JSON-LD in chunks, e.g. for servers with
+     * non-blocking responses, which queue the chunks instead of blocking on a stream. Every chunk is a
+     * new buffer of at most the given size, which the consumer may keep.
+     *
+     * @param value value to write, e.g. a Connector
+     * @param chunkSize maximum size of a chunk in bytes
+     * @param chunks consumer of the chunks, called on the current thread in the order of the document
+     * @throws IOException This exception is thrown, if writing fails.
+     */
+    public void write(Object value, int chunkSize, Consumer<ByteBuffer> chunks) throws IOException {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunk size must be positive, but is " + chunkSize);
+        }
+        try (ChunkedOutputStream out = new ChunkedOutputStream(chunkSize, chunks)) {
+            write(value, out);
+        }
+    }
+
+    private void write(Object value, JsonGenerator generator) throws IOException {
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try {
+            writer.writeValue(generator, value);
+        } finally {
+            // flushes the remaining content to the target, which stays open
+            generator.close();
+        }
+    }
+
+    private static final class ChunkedOutputStream extends OutputStream {
+
+        private final int chunkSize;
+
+        private final Consumer<ByteBuffer> chunks;
+
+        private byte[] chunk;
+
+        private int length;
+
+        ChunkedOutputStream(int chunkSize, Consumer<ByteBuffer> chunks) {
+            this.chunkSize = chunkSize;
+            this.chunks = chunks;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (chunk == null) {
+                chunk = new byte[chunkSize];
+            }
+            chunk[length++] = (byte) b;
+            if (length == chunkSize) {
+                flush();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (chunk == null) {
+                    chunk = new byte[chunkSize];
+                }
+                int count = Math.min(len, chunkSize - length);
+                System.arraycopy(b, off, chunk, length, count);
+                length += count;
+                off += count;
+                len -= count;
+                if (length == chunkSize) {
+                    flush();
+                }
+            }
+        }
+
+        // hands the current chunk over to the consumer, which takes ownership of its buffer
+        @Override
+        public void flush() {
+            if (length > 0) {
+                chunks.accept(ByteBuffer.wrap(chunk, 0, length));
+                chunk = null;
+                length = 0;
+            }
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+    }
+
+}
@@ -0,0 +1,338 @@
+package de.fraunhofer.iais.eis.jackson;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.fraunhofer.iais.eis.*;
+import de.fraunhofer.iais.eis.mixins.*;
+
+/**
+ * Provides ObjectMapper instances with the mixins of the IDS Information Model (package
+ * de.fraunhofer.iais.eis.mixins) registered, which map the Java properties to their "ids:" names.
+ * The shared instance is thread-safe and should be reused, as Jackson caches the serializers and
+ * deserializers per mapper:
+ *
+ * <pre>
+ * ObjectMapper mapper = ObjectMapperFactory.shared();
+ * ObjectMapperFactory.warmUp(mapper); // e.g. during startup, before the first request is served
+ * </pre>
+ */
+public final class ObjectMapperFactory {
+
+    private static final Map<Class<?>, Class<?>> MIXINS = new LinkedHashMap<>();
+
+    private static final List<Class<?>> IMPLEMENTATIONS = new ArrayList<>();
+
+    static {
+        register(AbstractConstraint.class, AbstractConstraintMixin.class, null);
+        register(AccessTokenRequestMessage.class, AccessTokenRequestMessageMixin.class, AccessTokenRequestMessageImpl.class);
+        register(AccessTokenResponseMessage.class, AccessTokenResponseMessageMixin.class, AccessTokenResponseMessageImpl.class);
+        register(Action.class, ActionMixin.class, ActionImpl.class);
+        register(Agent.class, AgentMixin.class, AgentImpl.class);
+        register(AppAvailableMessage.class, AppAvailableMessageMixin.class, AppAvailableMessageImpl.class);
+        register(AppDeleteMessage.class, AppDeleteMessageMixin.class, AppDeleteMessageImpl.class);
+        register(AppEndpoint.class, AppEndpointMixin.class, AppEndpointImpl.class);
+        register(AppEndpointType.class, AppEndpointTypeMixin.class, AppEndpointTypeImpl.class);
+        register(AppExecutionResources.class, AppExecutionResourcesMixin.class, AppExecutionResourcesImpl.class);
+        register(AppNotificationMessage.class, AppNotificationMessageMixin.class, null);
+        register(AppRegistrationRequestMessage.class, AppRegistrationRequestMessageMixin.class, AppRegistrationRequestMessageImpl.class);
+        register(AppRegistrationResponseMessage.class, AppRegistrationResponseMessageMixin.class, AppRegistrationResponseMessageImpl.class);
+        register(AppRepresentation.class, AppRepresentationMixin.class, AppRepresentationImpl.class);
+        register(AppResource.class, AppResourceMixin.class, AppResourceImpl.class);
+        register(AppResourceCatalog.class, AppResourceCatalogMixin.class, AppResourceCatalogImpl.class);
+        register(AppRoute.class, AppRouteMixin.class, AppRouteImpl.class);
+        register(AppStore.class, AppStoreMixin.class, AppStoreImpl.class);
+        register(AppStoreCatalog.class, AppStoreCatalogMixin.class, AppStoreCatalogImpl.class);
+        register(AppUnavailableMessage.class, AppUnavailableMessageMixin.class, AppUnavailableMessageImpl.class);
+        register(AppUploadMessage.class, AppUploadMessageMixin.class, AppUploadMessageImpl.class);
+        register(AppUploadResponseMessage.class, AppUploadResponseMessageMixin.class, AppUploadResponseMessageImpl.class);
+        register(Artifact.class, ArtifactMixin.class, ArtifactImpl.class);
+        register(ArtifactRequestMessage.class, ArtifactRequestMessageMixin.class, ArtifactRequestMessageImpl.class);
+        register(ArtifactResponseMessage.class, ArtifactResponseMessageMixin.class, ArtifactResponseMessageImpl.class);
+        register(ArtifactState.class, ArtifactStateMixin.class, ArtifactStateImpl.class);
+        register(Asset.class, AssetMixin.class, null);
+        register(AssetCollection.class, AssetCollectionMixin.class, AssetCollectionImpl.class);
+        register(Audience.class, AudienceMixin.class, AudienceImpl.class);
+        register(AudioRepresentation.class, AudioRepresentationMixin.class, AudioRepresentationImpl.class);
+        register(AudioResource.class, AudioResourceMixin.class, AudioResourceImpl.class);
+        register(AuditGuarantee.class, AuditGuaranteeMixin.class, AuditGuaranteeImpl.class);
+        register(AuthInfo.class, AuthInfoMixin.class, AuthInfoImpl.class);
+        register(AuthStandard.class, AuthStandardMixin.class, AuthStandardImpl.class);
+        register(AuthenticationGuarantee.class, AuthenticationGuaranteeMixin.class, AuthenticationGuaranteeImpl.class);
+        register(BaseConnector.class, BaseConnectorMixin.class, BaseConnectorImpl.class);
+        register(BasicAuthentication.class, BasicAuthenticationMixin.class, BasicAuthenticationImpl.class);
+        register(BinaryOperator.class, BinaryOperatorMixin.class, BinaryOperatorImpl.class);
+        register(BoundingPolygon.class, BoundingPolygonMixin.class, BoundingPolygonImpl.class);
+        register(Broker.class, BrokerMixin.class, BrokerImpl.class);
+        register(BrokerCatalog.class, BrokerCatalogMixin.class, BrokerCatalogImpl.class);
+        register(BusinessIdentifier.class, BusinessIdentifierMixin.class, BusinessIdentifierImpl.class);
+        register(Catalog.class, CatalogMixin.class, null);
+        register(Certification.class, CertificationMixin.class, null);
+        register(CertificationLevel.class, CertificationLevelMixin.class, null);
+        register(ClearingHouse.class, ClearingHouseMixin.class, ClearingHouseImpl.class);
+        register(ClearingHouseCatalog.class, ClearingHouseCatalogMixin.class, ClearingHouseCatalogImpl.class);
+        register(CommandMessage.class, CommandMessageMixin.class, CommandMessageImpl.class);
+        register(ComponentCertification.class, ComponentCertificationMixin.class, ComponentCertificationImpl.class);
+        register(ComponentCertificationLevel.class, ComponentCertificationLevelMixin.class, ComponentCertificationLevelImpl.class);
+        register(Concept.class, ConceptMixin.class, null);
+        register(ConfigurationModel.class, ConfigurationModelMixin.class, ConfigurationModelImpl.class);
+        register(Connector.class, ConnectorMixin.class, null);
+        register(ConnectorCatalog.class, ConnectorCatalogMixin.class, ConnectorCatalogImpl.class);
+        register(ConnectorCertificateGrantedMessage.class, ConnectorCertificateGrantedMessageMixin.class, ConnectorCertificateGrantedMessageImpl.class);
+        register(ConnectorCertificateRevokedMessage.class, ConnectorCertificateRevokedMessageMixin.class, ConnectorCertificateRevokedMessageImpl.class);
+        register(ConnectorDeployMode.class, ConnectorDeployModeMixin.class, ConnectorDeployModeImpl.class);
+        register(ConnectorEndpoint.class, ConnectorEndpointMixin.class, ConnectorEndpointImpl.class);
+        register(ConnectorNotificationMessage.class, ConnectorNotificationMessageMixin.class, null);
+        register(ConnectorStatus.class, ConnectorStatusMixin.class, ConnectorStatusImpl.class);
+        register(ConnectorUnavailableMessage.class, ConnectorUnavailableMessageMixin.class, ConnectorUnavailableMessageImpl.class);
+        register(ConnectorUpdateMessage.class, ConnectorUpdateMessageMixin.class, ConnectorUpdateMessageImpl.class);
+        register(ConnectorbasedAgreement.class, ConnectorbasedAgreementMixin.class, ConnectorbasedAgreementImpl.class);
+        register(ConnectorbasedOffer.class, ConnectorbasedOfferMixin.class, ConnectorbasedOfferImpl.class);
+        register(ConnectorbasedRequest.class, ConnectorbasedRequestMixin.class, ConnectorbasedRequestImpl.class);
+        register(Constraint.class, ConstraintMixin.class, ConstraintImpl.class);
+        register(ContentType.class, ContentTypeMixin.class, ContentTypeImpl.class);
+        register(Contract.class, ContractMixin.class, null);
+        register(ContractAgreement.class, ContractAgreementMixin.class, ContractAgreementImpl.class);
+        register(ContractAgreementMessage.class, ContractAgreementMessageMixin.class, ContractAgreementMessageImpl.class);
+        register(ContractOffer.class, ContractOfferMixin.class, ContractOfferImpl.class);
+        register(ContractOfferMessage.class, ContractOfferMessageMixin.class, ContractOfferMessageImpl.class);
+        register(ContractRejectionMessage.class, ContractRejectionMessageMixin.class, ContractRejectionMessageImpl.class);
+        register(ContractRequest.class, ContractRequestMixin.class, ContractRequestImpl.class);
+        register(ContractRequestMessage.class, ContractRequestMessageMixin.class, ContractRequestMessageImpl.class);
+        register(ContractResponseMessage.class, ContractResponseMessageMixin.class, ContractResponseMessageImpl.class);
+        register(ContractSupplementMessage.class, ContractSupplementMessageMixin.class, ContractSupplementMessageImpl.class);
+        register(CustomMediaType.class, CustomMediaTypeMixin.class, CustomMediaTypeImpl.class);
+        register(DAPS.class, DAPSMixin.class, DAPSImpl.class);
+        register(DatPayload.class, DatPayloadMixin.class, DatPayloadImpl.class);
+        register(DatRequestPayload.class, DatRequestPayloadMixin.class, DatRequestPayloadImpl.class);
+        register(DataApp.class, DataAppMixin.class, null);
+        register(DataRepresentation.class, DataRepresentationMixin.class, DataRepresentationImpl.class);
+        register(DataResource.class, DataResourceMixin.class, DataResourceImpl.class);
+        register(DeleteAfterIntervalAgreement.class, DeleteAfterIntervalAgreementMixin.class, DeleteAfterIntervalAgreementImpl.class);
+        register(DeleteAfterIntervalOffer.class, DeleteAfterIntervalOfferMixin.class, DeleteAfterIntervalOfferImpl.class);
+        register(DeleteAfterIntervalRequest.class, DeleteAfterIntervalRequestMixin.class, DeleteAfterIntervalRequestImpl.class);
+        register(Described.class, DescribedMixin.class, null);
+        register(DescribedSemantically.class, DescribedSemanticallyMixin.class, null);
+        register(DescriptionRequestMessage.class, DescriptionRequestMessageMixin.class, DescriptionRequestMessageImpl.class);
+        register(DescriptionResponseMessage.class, DescriptionResponseMessageMixin.class, DescriptionResponseMessageImpl.class);
+        register(DigitalContent.class, DigitalContentMixin.class, null);
+        register(DistributeEcryptedAgreement.class, DistributeEcryptedAgreementMixin.class, DistributeEcryptedAgreementImpl.class);
+        register(DistributeEcryptedOffer.class, DistributeEcryptedOfferMixin.class, DistributeEcryptedOfferImpl.class);
+        register(DistributeEcryptedRequest.class, DistributeEcryptedRequestMixin.class, DistributeEcryptedRequestImpl.class);
+        register(DurationAgreement.class, DurationAgreementMixin.class, DurationAgreementImpl.class);
+        register(DurationEntity.class, DurationEntityMixin.class, DurationEntityImpl.class);
+        register(DurationOffer.class, DurationOfferMixin.class, DurationOfferImpl.class);
+        register(DurationRequest.class, DurationRequestMixin.class, DurationRequestImpl.class);
+        register(Duty.class, DutyMixin.class, DutyImpl.class);
+        register(DynamicAttributeToken.class, DynamicAttributeTokenMixin.class, DynamicAttributeTokenImpl.class);
+        register(Endpoint.class, EndpointMixin.class, EndpointImpl.class);
+        register(EvaluationFacility.class, EvaluationFacilityMixin.class, EvaluationFacilityImpl.class);
+        register(Event.class, EventMixin.class, EventImpl.class);
+        register(EventAgreement.class, EventAgreementMixin.class, EventAgreementImpl.class);
+        register(EventOffer.class, EventOfferMixin.class, EventOfferImpl.class);
+        register(EventRequest.class, EventRequestMixin.class, EventRequestImpl.class);
+        register(Frequency.class, FrequencyMixin.class, FrequencyImpl.class);
+        register(GenericEndpoint.class, GenericEndpointMixin.class, GenericEndpointImpl.class);
+        register(GeoFeature.class, GeoFeatureMixin.class, GeoFeatureImpl.class);
+        register(GeoPoint.class, GeoPointMixin.class, GeoPointImpl.class);
+        register(Geometry.class, GeometryMixin.class, null);
+        register(HTTPAuthentication.class, HTTPAuthenticationMixin.class, HTTPAuthenticationImpl.class);
+        register(IANAMediaType.class, IANAMediaTypeMixin.class, IANAMediaTypeImpl.class);
+        register(IdentityProvider.class, IdentityProviderMixin.class, IdentityProviderImpl.class);
+        register(IdsProtocolSpecification.class, IdsProtocolSpecificationMixin.class, IdsProtocolSpecificationImpl.class);
+        register(ImageRepresentation.class, ImageRepresentationMixin.class, ImageRepresentationImpl.class);
+        register(ImageResource.class, ImageResourceMixin.class, ImageResourceImpl.class);
+        register(InfrastructureComponent.class, InfrastructureComponentMixin.class, InfrastructureComponentImpl.class);
+        register(Instant.class, InstantMixin.class, InstantImpl.class);
+        register(IntegrityGuarantee.class, IntegrityGuaranteeMixin.class, IntegrityGuaranteeImpl.class);
+        register(IntegrityVerificationScopeGuarantee.class, IntegrityVerificationScopeGuaranteeMixin.class, IntegrityVerificationScopeGuaranteeImpl.class);
+        register(Interval.class, IntervalMixin.class, IntervalImpl.class);
+        register(IntervalUsageAgreement.class, IntervalUsageAgreementMixin.class, IntervalUsageAgreementImpl.class);
+        register(IntervalUsageOffer.class, IntervalUsageOfferMixin.class, IntervalUsageOfferImpl.class);
+        register(IntervalUsageRequest.class, IntervalUsageRequestMixin.class, IntervalUsageRequestImpl.class);
+        register(InvokeOperationMessage.class, InvokeOperationMessageMixin.class, InvokeOperationMessageImpl.class);
+        register(JwtPayload.class, JwtPayloadMixin.class, null);
+        register(KeyType.class, KeyTypeMixin.class, KeyTypeImpl.class);
+        register(Language.class, LanguageMixin.class, LanguageImpl.class);
+        register(LeftOperand.class, LeftOperandMixin.class, LeftOperandImpl.class);
+        register(License.class, LicenseMixin.class, LicenseImpl.class);
+        register(LocalDataConfidentialityGuarantee.class, LocalDataConfidentialityGuaranteeMixin.class, LocalDataConfidentialityGuaranteeImpl.class);
+        register(Location.class, LocationMixin.class, null);
+        register(LogLevel.class, LogLevelMixin.class, LogLevelImpl.class);
+        register(LogMessage.class, LogMessageMixin.class, LogMessageImpl.class);
+        register(LoggingAgreement.class, LoggingAgreementMixin.class, LoggingAgreementImpl.class);
+        register(LoggingOffer.class, LoggingOfferMixin.class, LoggingOfferImpl.class);
+        register(LoggingRequest.class, LoggingRequestMixin.class, LoggingRequestImpl.class);
+        register(LogicalConstraint.class, LogicalConstraintMixin.class, LogicalConstraintImpl.class);
+        register(ManagedEntity.class, ManagedEntityMixin.class, null);
+        register(MediaType.class, MediaTypeMixin.class, null);
+        register(Message.class, MessageMixin.class, null);
+        register(MessageProcessedNotificationMessage.class, MessageProcessedNotificationMessageMixin.class, MessageProcessedNotificationMessageImpl.class);
+        register(Named.class, NamedMixin.class, NamedImpl.class);
+        register(NotMoreThanNAgreement.class, NotMoreThanNAgreementMixin.class, NotMoreThanNAgreementImpl.class);
+        register(NotMoreThanNOffer.class, NotMoreThanNOfferMixin.class, NotMoreThanNOfferImpl.class);
+        register(NotMoreThanNRequest.class, NotMoreThanNRequestMixin.class, NotMoreThanNRequestImpl.class);
+        register(NotificationAgreement.class, NotificationAgreementMixin.class, NotificationAgreementImpl.class);
+        register(NotificationMessage.class, NotificationMessageMixin.class, NotificationMessageImpl.class);
+        register(NotificationOffer.class, NotificationOfferMixin.class, NotificationOfferImpl.class);
+        register(NotificationRequest.class, NotificationRequestMixin.class, NotificationRequestImpl.class);
+        register(OperationResultMessage.class, OperationResultMessageMixin.class, OperationResultMessageImpl.class);
+        register(OrchestrationApp.class, OrchestrationAppMixin.class, OrchestrationAppImpl.class);
+        register(PIP.class, PIPMixin.class, PIPImpl.class);
+        register(PXP.class, PXPMixin.class, PXPImpl.class);
+        register(ParIS.class, ParISMixin.class, ParISImpl.class);
+        register(Participant.class, ParticipantMixin.class, ParticipantImpl.class);
+        register(ParticipantCatalog.class, ParticipantCatalogMixin.class, ParticipantCatalogImpl.class);
+        register(ParticipantCertificateGrantedMessage.class, ParticipantCertificateGrantedMessageMixin.class, ParticipantCertificateGrantedMessageImpl.class);
+        register(ParticipantCertificateRevokedMessage.class, ParticipantCertificateRevokedMessageMixin.class, ParticipantCertificateRevokedMessageImpl.class);
+        register(ParticipantCertification.class, ParticipantCertificationMixin.class, ParticipantCertificationImpl.class);
+        register(ParticipantCertificationLevel.class, ParticipantCertificationLevelMixin.class, ParticipantCertificationLevelImpl.class);
+        register(ParticipantNotificationMessage.class, ParticipantNotificationMessageMixin.class, null);
+        register(ParticipantRequestMessage.class, ParticipantRequestMessageMixin.class, ParticipantRequestMessageImpl.class);
+        register(ParticipantResponseMessage.class, ParticipantResponseMessageMixin.class, ParticipantResponseMessageImpl.class);
+        register(ParticipantUnavailableMessage.class, ParticipantUnavailableMessageMixin.class, ParticipantUnavailableMessageImpl.class);
+        register(ParticipantUpdateMessage.class, ParticipantUpdateMessageMixin.class, ParticipantUpdateMessageImpl.class);
+        register(PaymentModality.class, PaymentModalityMixin.class, PaymentModalityImpl.class);
+        register(Permission.class, PermissionMixin.class, PermissionImpl.class);
+        register(Person.class, PersonMixin.class, PersonImpl.class);
+        register(Prohibition.class, ProhibitionMixin.class, ProhibitionImpl.class);
+        register(Proxy.class, ProxyMixin.class, ProxyImpl.class);
+        register(PublicKey.class, PublicKeyMixin.class, PublicKeyImpl.class);
+        register(PurposeAgreement.class, PurposeAgreementMixin.class, PurposeAgreementImpl.class);
+        register(PurposeOffer.class, PurposeOfferMixin.class, PurposeOfferImpl.class);
+        register(PurposeRequest.class, PurposeRequestMixin.class, PurposeRequestImpl.class);
+        register(QueryLanguage.class, QueryLanguageMixin.class, QueryLanguageImpl.class);
+        register(QueryMessage.class, QueryMessageMixin.class, QueryMessageImpl.class);
+        register(QueryScope.class, QueryScopeMixin.class, QueryScopeImpl.class);
+        register(QueryTarget.class, QueryTargetMixin.class, QueryTargetImpl.class);
+        register(RejectionMessage.class, RejectionMessageMixin.class, RejectionMessageImpl.class);
+        register(RejectionReason.class, RejectionReasonMixin.class, RejectionReasonImpl.class);
+        register(RentalAgreement.class, RentalAgreementMixin.class, RentalAgreementImpl.class);
+        register(RentalOffer.class, RentalOfferMixin.class, RentalOfferImpl.class);
+        register(RentalRequest.class, RentalRequestMixin.class, RentalRequestImpl.class);
+        register(Representation.class, RepresentationMixin.class, RepresentationImpl.class);
+        register(RepresentationInstance.class, RepresentationInstanceMixin.class, null);
+        register(RequestInProcessMessage.class, RequestInProcessMessageMixin.class, RequestInProcessMessageImpl.class);
+        register(RequestMessage.class, RequestMessageMixin.class, RequestMessageImpl.class);
+        register(Resource.class, ResourceMixin.class, ResourceImpl.class);
+        register(ResourceCatalog.class, ResourceCatalogMixin.class, ResourceCatalogImpl.class);
+        register(ResourceNotificationMessage.class, ResourceNotificationMessageMixin.class, null);
+        register(ResourceUnavailableMessage.class, ResourceUnavailableMessageMixin.class, ResourceUnavailableMessageImpl.class);
+        register(ResourceUpdateMessage.class, ResourceUpdateMessageMixin.class, ResourceUpdateMessageImpl.class);
+        register(ResponseMessage.class, ResponseMessageMixin.class, ResponseMessageImpl.class);
+        register(ResultMessage.class, ResultMessageMixin.class, ResultMessageImpl.class);
+        register(RolebasedAgreement.class, RolebasedAgreementMixin.class, RolebasedAgreementImpl.class);
+        register(RolebasedOffer.class, RolebasedOfferMixin.class, RolebasedOfferImpl.class);
+        register(RolebasedRequest.class, RolebasedRequestMixin.class, RolebasedRequestImpl.class);
+        register(RouteStep.class, RouteStepMixin.class, RouteStepImpl.class);
+        register(Rule.class, RuleMixin.class, null);
+        register(SalesAgreement.class, SalesAgreementMixin.class, SalesAgreementImpl.class);
+        register(SalesOffer.class, SalesOfferMixin.class, SalesOfferImpl.class);
+        register(SalesRequest.class, SalesRequestMixin.class, SalesRequestImpl.class);
+        register(SecurityAgreement.class, SecurityAgreementMixin.class, SecurityAgreementImpl.class);
+        register(SecurityGuarantee.class, SecurityGuaranteeMixin.class, SecurityGuaranteeImpl.class);
+        register(SecurityOffer.class, SecurityOfferMixin.class, SecurityOfferImpl.class);
+        register(SecurityProfile.class, SecurityProfileMixin.class, SecurityProfileImpl.class);
+        register(SecurityRequest.class, SecurityRequestMixin.class, SecurityRequestImpl.class);
+        register(ServiceIsolationGuarantee.class, ServiceIsolationGuaranteeMixin.class, ServiceIsolationGuaranteeImpl.class);
+        register(Site.class, SiteMixin.class, SiteImpl.class);
+        register(SmartDataApp.class, SmartDataAppMixin.class, SmartDataAppImpl.class);
+        register(SoftwareRepresentation.class, SoftwareRepresentationMixin.class, SoftwareRepresentationImpl.class);
+        register(SoftwareResource.class, SoftwareResourceMixin.class, SoftwareResourceImpl.class);
+        register(SpatialAgreement.class, SpatialAgreementMixin.class, SpatialAgreementImpl.class);
+        register(SpatialOffer.class, SpatialOfferMixin.class, SpatialOfferImpl.class);
+        register(SpatialRequest.class, SpatialRequestMixin.class, SpatialRequestImpl.class);
+        register(SwapAgreement.class, SwapAgreementMixin.class, SwapAgreementImpl.class);
+        register(SwapOffer.class, SwapOfferMixin.class, SwapOfferImpl.class);
+        register(SwapRequest.class, SwapRequestMixin.class, SwapRequestImpl.class);
+        register(SystemAdapter.class, SystemAdapterMixin.class, SystemAdapterImpl.class);
+        register(TemporalEntity.class, TemporalEntityMixin.class, TemporalEntityImpl.class);
+        register(TextRepresentation.class, TextRepresentationMixin.class, TextRepresentationImpl.class);
+        register(TextResource.class, TextResourceMixin.class, TextResourceImpl.class);
+        register(Token.class, TokenMixin.class, TokenImpl.class);
+        register(TokenFormat.class, TokenFormatMixin.class, TokenFormatImpl.class);
+        register(TrustedConnector.class, TrustedConnectorMixin.class, TrustedConnectorImpl.class);
+        register(UploadMessage.class, UploadMessageMixin.class, UploadMessageImpl.class);
+        register(UploadResponseMessage.class, UploadResponseMessageMixin.class, UploadResponseMessageImpl.class);
+        register(UsageControlComponent.class, UsageControlComponentMixin.class, UsageControlComponentImpl.class);
+        register(UsageControlGuarantee.class, UsageControlGuaranteeMixin.class, UsageControlGuaranteeImpl.class);
+        register(UsageControlObject.class, UsageControlObjectMixin.class, UsageControlObjectImpl.class);
+        register(UsagePolicyClass.class, UsagePolicyClassMixin.class, UsagePolicyClassImpl.class);
+        register(UserAuthentication.class, UserAuthenticationMixin.class, null);
+        register(Value.class, ValueMixin.class, ValueImpl.class);
+        register(VideoRepresentation.class, VideoRepresentationMixin.class, VideoRepresentationImpl.class);
+        register(VideoResource.class, VideoResourceMixin.class, VideoResourceImpl.class);
+    }
+
+    private static void register(Class<? extends ModelClass> type, Class<?> mixin,
+        Class<? extends ModelClass> implementation) {
+        MIXINS.put(type, mixin);
+        if (implementation != null) {
+            IMPLEMENTATIONS.add(implementation);
+        }
+    }
+
+    // holder of the shared mapper, which is created on first use
+    private static class Shared {
+        private static final ObjectMapper MAPPER = create();
+    }
+
+    private ObjectMapperFactory() {}
+
+    /**
+     * This function creates a new ObjectMapper with all mixins registered, e.g. to apply further
+     * configuration or modules such as {@link DefaultInstanceModule}.
+     *
+     * @return new ObjectMapper
+     */
+    public static ObjectMapper create() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.setMixIns(MIXINS);
+        // the subtypes listed by the mixins omit the implementation classes of non-abstract types (e.g.
+        // ResourceImpl for "ids:Resource")
+        mapper.registerSubtypes(IMPLEMENTATIONS);
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return mapper;
+    }
+
+    /**
+     * This function retrieves the shared ObjectMapper with all mixins registered. The instance must
+     * not be reconfigured.
+     *
+     * @return shared ObjectMapper
+     */
+    public static ObjectMapper shared() {
+        return Shared.MAPPER;
+    }
+
+    /**
+     * This function resolves the serializers and deserializers of all classes of the IDS Information
+     * Model in the shared ObjectMapper.
+     */
+    public static void warmUp() {
+        warmUp(shared());
+    }
+
+    /**
+     * This function resolves the serializers and deserializers of all classes of the IDS Information
+     * Model in the given ObjectMapper, so that the first (de)serialization of each class does not pay
+     * for the introspection.
+     *
+     * @param mapper ObjectMapper to prepare
+     */
+    public static void warmUp(ObjectMapper mapper) {
+        for (Class<?> type : MIXINS.keySet()) {
+            mapper.readerFor(type);
+        }
+        for (Class<?> implementation : IMPLEMENTATIONS) {
+            mapper.readerFor(implementation);
+            mapper.canSerialize(implementation);
+        }
+    }
+
+}
@@ -0,0 +1,27 @@
+package de.fraunhofer.iais.eis.rdf;
+
+/**
+ * RDF literal as parsed from Turtle or N-Triples.
+ */
+final class Literal {
+
+    final String lexical;
+
+    // IRI of the datatype, or null for plain and language-tagged strings
+    final String datatype;
+
+    final String language;
+
+    Literal(String lexical, String datatype, String language) {
+        this.lexical = lexical;
+        this.datatype = datatype;
+        this.language = language;
+    }
+
+    @Override
+    public String toString() {
+        String suffix = language != null ? "@" + language : datatype != null ? "^^<" + datatype + ">" : "";
+        return '"' + lexical + '"' + suffix;
+    }
+
+}
@@ -0,0 +1,15516 @@
+package de.fraunhofer.iais.eis.rdf;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import de.fraunhofer.iais.eis.*;
+import de.fraunhofer.iais.eis.rdf.RdfReader.Node;
+import de.fraunhofer.iais.eis.util.*;
+
+/**
+ * Generated table of the model classes by their RDF class, as used by {@link RdfReader}. For every
+ * class, it maps the IRIs of the properties to the functions of its builder.
+ */
+final class ModelObjects {
+
+    static final String IDS = RdfWriter.IDS;
+
+    /**
+     * Constructs the object of a subject from its triples.
+     */
+    interface Reader {
+        void read(URI id, Node node, RdfReader in) throws IOException;
+    }
+
+    /**
+     * Model class of an RDF class with the function reading its objects.
+     */
+    static final class Type {
+
+        final Class<?> implementation;
+
+        final Reader reader;
+
+        Type(Class<?> implementation, Reader reader) {
+            this.implementation = implementation;
+            this.reader = reader;
+        }
+    }
+
+    private static final Map<String, Type> TYPES = new HashMap<>();
+
+    private static final Map<Class<?>, Type> INTERFACES = new HashMap<>();
+
+    // lookup of the default instances of the classes that have some
+    private static final Map<Class<?>, Function<URI, ? extends ModelClass>> DEFAULT_INSTANCES = new HashMap<>();
+
+    static {
+        register(IDS + "AccessTokenRequestMessage", AccessTokenRequestMessage.class,
+            AccessTokenRequestMessageImpl.class, ModelObjects::readAccessTokenRequestMessage);
+        register(IDS + "AccessTokenResponseMessage", AccessTokenResponseMessage.class,
+            AccessTokenResponseMessageImpl.class, ModelObjects::readAccessTokenResponseMessage);
+        register(IDS + "Action", Action.class, ActionImpl.class, ModelObjects::readAction);
+        register(IDS + "Agent", Agent.class, AgentImpl.class, ModelObjects::readAgent);
+        register(IDS + "AppAvailableMessage", AppAvailableMessage.class, AppAvailableMessageImpl.class,
+            ModelObjects::readAppAvailableMessage);
+        register(IDS + "AppDeleteMessage", AppDeleteMessage.class, AppDeleteMessageImpl.class,
+            ModelObjects::readAppDeleteMessage);
+        register(IDS + "AppEndpoint", AppEndpoint.class, AppEndpointImpl.class, ModelObjects::readAppEndpoint);
+        register(IDS + "AppEndpointType", AppEndpointType.class, AppEndpointTypeImpl.class,
+            ModelObjects::readAppEndpointType);
+        register(IDS + "AppExecutionResources", AppExecutionResources.class, AppExecutionResourcesImpl.class,
+            ModelObjects::readAppExecutionResources);
+        register(IDS + "AppRegistrationRequestMessage", AppRegistrationRequestMessage.class,
+            AppRegistrationRequestMessageImpl.class, ModelObjects::readAppRegistrationRequestMessage);
+        register(IDS + "AppRegistrationResponseMessage", AppRegistrationResponseMessage.class,
+            AppRegistrationResponseMessageImpl.class, ModelObjects::readAppRegistrationResponseMessage);
+        register(IDS + "AppRepresentation", AppRepresentation.class, AppRepresentationImpl.class,
+            ModelObjects::readAppRepresentation);
+        register(IDS + "AppResourceCatalog", AppResourceCatalog.class, AppResourceCatalogImpl.class,
+            ModelObjects::readAppResourceCatalog);
+        register(IDS + "AppResource", AppResource.class, AppResourceImpl.class, ModelObjects::readAppResource);
+        register(IDS + "AppRoute", AppRoute.class, AppRouteImpl.class, ModelObjects::readAppRoute);
+        register(IDS + "AppStoreCatalog", AppStoreCatalog.class, AppStoreCatalogImpl.class,
+            ModelObjects::readAppStoreCatalog);
+        register(IDS + "AppStore", AppStore.class, AppStoreImpl.class, ModelObjects::readAppStore);
+        register(IDS + "AppUnavailableMessage", AppUnavailableMessage.class, AppUnavailableMessageImpl.class,
+            ModelObjects::readAppUnavailableMessage);
+        register(IDS + "AppUploadMessage", AppUploadMessage.class, AppUploadMessageImpl.class,
+            ModelObjects::readAppUploadMessage);
+        register(IDS + "AppUploadResponseMessage", AppUploadResponseMessage.class, AppUploadResponseMessageImpl.class,
+            ModelObjects::readAppUploadResponseMessage);
+        register(IDS + "Artifact", Artifact.class, ArtifactImpl.class, ModelObjects::readArtifact);
+        register(IDS + "ArtifactRequestMessage", ArtifactRequestMessage.class, ArtifactRequestMessageImpl.class,
+            ModelObjects::readArtifactRequestMessage);
+        register(IDS + "ArtifactResponseMessage", ArtifactResponseMessage.class, ArtifactResponseMessageImpl.class,
+            ModelObjects::readArtifactResponseMessage);
+        register(IDS + "ArtifactState", ArtifactState.class, ArtifactStateImpl.class, ModelObjects::readArtifactState);
+        register(IDS + "AssetCollection", AssetCollection.class, AssetCollectionImpl.class,
+            ModelObjects::readAssetCollection);
+        register(IDS + "Audience", Audience.class, AudienceImpl.class, ModelObjects::readAudience);
+        register(IDS + "AudioRepresentation", AudioRepresentation.class, AudioRepresentationImpl.class,
+            ModelObjects::readAudioRepresentation);
+        register(IDS + "AudioResource", AudioResource.class, AudioResourceImpl.class, ModelObjects::readAudioResource);
+        register(IDS + "AuditGuarantee", AuditGuarantee.class, AuditGuaranteeImpl.class,
+            ModelObjects::readAuditGuarantee);
+        register(IDS + "AuthInfo", AuthInfo.class, AuthInfoImpl.class, ModelObjects::readAuthInfo);
+        register(IDS + "AuthStandard", AuthStandard.class, AuthStandardImpl.class, ModelObjects::readAuthStandard);
+        register(IDS + "AuthenticationGuarantee", AuthenticationGuarantee.class, AuthenticationGuaranteeImpl.class,
+            ModelObjects::readAuthenticationGuarantee);
+        register(IDS + "BaseConnector", BaseConnector.class, BaseConnectorImpl.class, ModelObjects::readBaseConnector);
+        register(IDS + "BasicAuthentication", BasicAuthentication.class, BasicAuthenticationImpl.class,
+            ModelObjects::readBasicAuthentication);
+        register(IDS + "BinaryOperator", BinaryOperator.class, BinaryOperatorImpl.class,
+            ModelObjects::readBinaryOperator);
+        register(IDS + "BoundingPolygon", BoundingPolygon.class, BoundingPolygonImpl.class,
+            ModelObjects::readBoundingPolygon);
+        register(IDS + "BrokerCatalog", BrokerCatalog.class, BrokerCatalogImpl.class, ModelObjects::readBrokerCatalog);
+        register(IDS + "Broker", Broker.class, BrokerImpl.class, ModelObjects::readBroker);
+        register(IDS + "BusinessIdentifier", BusinessIdentifier.class, BusinessIdentifierImpl.class,
+            ModelObjects::readBusinessIdentifier);
+        register(IDS + "ClearingHouseCatalog", ClearingHouseCatalog.class, ClearingHouseCatalogImpl.class,
+            ModelObjects::readClearingHouseCatalog);
+        register(IDS + "ClearingHouse", ClearingHouse.class, ClearingHouseImpl.class, ModelObjects::readClearingHouse);
+        register(IDS + "CommandMessage", CommandMessage.class, CommandMessageImpl.class,
+            ModelObjects::readCommandMessage);
+        register(IDS + "ComponentCertification", ComponentCertification.class, ComponentCertificationImpl.class,
+            ModelObjects::readComponentCertification);
+        register(IDS + "ComponentCertificationLevel", ComponentCertificationLevel.class,
+            ComponentCertificationLevelImpl.class, ModelObjects::readComponentCertificationLevel);
+        register(IDS + "ConfigurationModel", ConfigurationModel.class, ConfigurationModelImpl.class,
+            ModelObjects::readConfigurationModel);
+        register(IDS + "ConnectorCatalog", ConnectorCatalog.class, ConnectorCatalogImpl.class,
+            ModelObjects::readConnectorCatalog);
+        register(IDS + "ConnectorCertificateGrantedMessage", ConnectorCertificateGrantedMessage.class,
+            ConnectorCertificateGrantedMessageImpl.class, ModelObjects::readConnectorCertificateGrantedMessage);
+        register(IDS + "ConnectorCertificateRevokedMessage", ConnectorCertificateRevokedMessage.class,
+            ConnectorCertificateRevokedMessageImpl.class, ModelObjects::readConnectorCertificateRevokedMessage);
+        register(IDS + "ConnectorDeployMode", ConnectorDeployMode.class, ConnectorDeployModeImpl.class,
+            ModelObjects::readConnectorDeployMode);
+        register(IDS + "ConnectorEndpoint", ConnectorEndpoint.class, ConnectorEndpointImpl.class,
+            ModelObjects::readConnectorEndpoint);
+        register(IDS + "ConnectorStatus", ConnectorStatus.class, ConnectorStatusImpl.class,
+            ModelObjects::readConnectorStatus);
+        register(IDS + "ConnectorUnavailableMessage", ConnectorUnavailableMessage.class,
+            ConnectorUnavailableMessageImpl.class, ModelObjects::readConnectorUnavailableMessage);
+        register(IDS + "ConnectorUpdateMessage", ConnectorUpdateMessage.class, ConnectorUpdateMessageImpl.class,
+            ModelObjects::readConnectorUpdateMessage);
+        register(IDS + "ConnectorbasedAgreement", ConnectorbasedAgreement.class, ConnectorbasedAgreementImpl.class,
+            ModelObjects::readConnectorbasedAgreement);
+        register(IDS + "ConnectorbasedOffer", ConnectorbasedOffer.class, ConnectorbasedOfferImpl.class,
+            ModelObjects::readConnectorbasedOffer);
+        register(IDS + "ConnectorbasedRequest", ConnectorbasedRequest.class, ConnectorbasedRequestImpl.class,
+            ModelObjects::readConnectorbasedRequest);
+        register(IDS + "Constraint", Constraint.class, ConstraintImpl.class, ModelObjects::readConstraint);
+        register(IDS + "ContentType", ContentType.class, ContentTypeImpl.class, ModelObjects::readContentType);
+        register(IDS + "ContractAgreement", ContractAgreement.class, ContractAgreementImpl.class,
+            ModelObjects::readContractAgreement);
+        register(IDS + "ContractAgreementMessage", ContractAgreementMessage.class, ContractAgreementMessageImpl.class,
+            ModelObjects::readContractAgreementMessage);
+        register(IDS + "ContractOffer", ContractOffer.class, ContractOfferImpl.class, ModelObjects::readContractOffer);
+        register(IDS + "ContractOfferMessage", ContractOfferMessage.class, ContractOfferMessageImpl.class,
+            ModelObjects::readContractOfferMessage);
+        register(IDS + "ContractRejectionMessage", ContractRejectionMessage.class, ContractRejectionMessageImpl.class,
+            ModelObjects::readContractRejectionMessage);
+        register(IDS + "ContractRequest", ContractRequest.class, ContractRequestImpl.class,
+            ModelObjects::readContractRequest);
+        register(IDS + "ContractRequestMessage", ContractRequestMessage.class, ContractRequestMessageImpl.class,
+            ModelObjects::readContractRequestMessage);
+        register(IDS + "ContractResponseMessage", ContractResponseMessage.class, ContractResponseMessageImpl.class,
+            ModelObjects::readContractResponseMessage);
+        register(IDS + "ContractSupplementMessage", ContractSupplementMessage.class,
+            ContractSupplementMessageImpl.class, ModelObjects::readContractSupplementMessage);
+        register(IDS + "CustomMediaType", CustomMediaType.class, CustomMediaTypeImpl.class,
+            ModelObjects::readCustomMediaType);
+        register(IDS + "DAPS", DAPS.class, DAPSImpl.class, ModelObjects::readDAPS);
+        register(IDS + "DatPayload", DatPayload.class, DatPayloadImpl.class, ModelObjects::readDatPayload);
+        register(IDS + "DatRequestPayload", DatRequestPayload.class, DatRequestPayloadImpl.class,
+            ModelObjects::readDatRequestPayload);
+        register(IDS + "DataRepresentation", DataRepresentation.class, DataRepresentationImpl.class,
+            ModelObjects::readDataRepresentation);
+        register(IDS + "DataResource", DataResource.class, DataResourceImpl.class, ModelObjects::readDataResource);
+        register(IDS + "DeleteAfterIntervalAgreement", DeleteAfterIntervalAgreement.class,
+            DeleteAfterIntervalAgreementImpl.class, ModelObjects::readDeleteAfterIntervalAgreement);
+        register(IDS + "DeleteAfterIntervalOffer", DeleteAfterIntervalOffer.class, DeleteAfterIntervalOfferImpl.class,
+            ModelObjects::readDeleteAfterIntervalOffer);
+        register(IDS + "DeleteAfterIntervalRequest", DeleteAfterIntervalRequest.class,
+            DeleteAfterIntervalRequestImpl.class, ModelObjects::readDeleteAfterIntervalRequest);
+        register(IDS + "DescriptionRequestMessage", DescriptionRequestMessage.class,
+            DescriptionRequestMessageImpl.class, ModelObjects::readDescriptionRequestMessage);
+        register(IDS + "DescriptionResponseMessage", DescriptionResponseMessage.class,
+            DescriptionResponseMessageImpl.class, ModelObjects::readDescriptionResponseMessage);
+        register(IDS + "DistributeEcryptedAgreement", DistributeEcryptedAgreement.class,
+            DistributeEcryptedAgreementImpl.class, ModelObjects::readDistributeEcryptedAgreement);
+        register(IDS + "DistributeEcryptedOffer", DistributeEcryptedOffer.class, DistributeEcryptedOfferImpl.class,
+            ModelObjects::readDistributeEcryptedOffer);
+        register(IDS + "DistributeEcryptedRequest", DistributeEcryptedRequest.class,
+            DistributeEcryptedRequestImpl.class, ModelObjects::readDistributeEcryptedRequest);
+        register(IDS + "DurationAgreement", DurationAgreement.class, DurationAgreementImpl.class,
+            ModelObjects::readDurationAgreement);
+        register(IDS + "DurationEntity", DurationEntity.class, DurationEntityImpl.class,
+            ModelObjects::readDurationEntity);
+        register(IDS + "DurationOffer", DurationOffer.class, DurationOfferImpl.class, ModelObjects::readDurationOffer);
+        register(IDS + "DurationRequest", DurationRequest.class, DurationRequestImpl.class,
+            ModelObjects::readDurationRequest);
+        register(IDS + "Duty", Duty.class, DutyImpl.class, ModelObjects::readDuty);
+        register(IDS + "DynamicAttributeToken", DynamicAttributeToken.class, DynamicAttributeTokenImpl.class,
+            ModelObjects::readDynamicAttributeToken);
+        register(IDS + "Endpoint", Endpoint.class, EndpointImpl.class, ModelObjects::readEndpoint);
+        register(IDS + "EvaluationFacility", EvaluationFacility.class, EvaluationFacilityImpl.class,
+            ModelObjects::readEvaluationFacility);
+        register(IDS + "EventAgreement", EventAgreement.class, EventAgreementImpl.class,
+            ModelObjects::readEventAgreement);
+        register(IDS + "Event", Event.class, EventImpl.class, ModelObjects::readEvent);
+        register(IDS + "EventOffer", EventOffer.class, EventOfferImpl.class, ModelObjects::readEventOffer);
+        register(IDS + "EventRequest", EventRequest.class, EventRequestImpl.class, ModelObjects::readEventRequest);
+        register(IDS + "Frequency", Frequency.class, FrequencyImpl.class, ModelObjects::readFrequency);
+        register(IDS + "GenericEndpoint", GenericEndpoint.class, GenericEndpointImpl.class,
+            ModelObjects::readGenericEndpoint);
+        register(IDS + "GeoFeature", GeoFeature.class, GeoFeatureImpl.class, ModelObjects::readGeoFeature);
+        register(IDS + "GeoPoint", GeoPoint.class, GeoPointImpl.class, ModelObjects::readGeoPoint);
+        register(IDS + "HTTPAuthentication", HTTPAuthentication.class, HTTPAuthenticationImpl.class,
+            ModelObjects::readHTTPAuthentication);
+        register(IDS + "IANAMediaType", IANAMediaType.class, IANAMediaTypeImpl.class, ModelObjects::readIANAMediaType);
+        register(IDS + "IdentityProvider", IdentityProvider.class, IdentityProviderImpl.class,
+            ModelObjects::readIdentityProvider);
+        register(IDS + "IdsProtocolSpecification", IdsProtocolSpecification.class, IdsProtocolSpecificationImpl.class,
+            ModelObjects::readIdsProtocolSpecification);
+        register(IDS + "ImageRepresentation", ImageRepresentation.class, ImageRepresentationImpl.class,
+            ModelObjects::readImageRepresentation);
+        register(IDS + "ImageResource", ImageResource.class, ImageResourceImpl.class, ModelObjects::readImageResource);
+        register(IDS + "InfrastructureComponent", InfrastructureComponent.class, InfrastructureComponentImpl.class,
+            ModelObjects::readInfrastructureComponent);
+        register(IDS + "Instant", Instant.class, InstantImpl.class, ModelObjects::readInstant);
+        register(IDS + "IntegrityGuarantee", IntegrityGuarantee.class, IntegrityGuaranteeImpl.class,
+            ModelObjects::readIntegrityGuarantee);
+        register(IDS + "IntegrityVerificationScopeGuarantee", IntegrityVerificationScopeGuarantee.class,
+            IntegrityVerificationScopeGuaranteeImpl.class, ModelObjects::readIntegrityVerificationScopeGuarantee);
+        register(IDS + "Interval", Interval.class, IntervalImpl.class, ModelObjects::readInterval);
+        register(IDS + "IntervalUsageAgreement", IntervalUsageAgreement.class, IntervalUsageAgreementImpl.class,
+            ModelObjects::readIntervalUsageAgreement);
+        register(IDS + "IntervalUsageOffer", IntervalUsageOffer.class, IntervalUsageOfferImpl.class,
+            ModelObjects::readIntervalUsageOffer);
+        register(IDS + "IntervalUsageRequest", IntervalUsageRequest.class, IntervalUsageRequestImpl.class,
+            ModelObjects::readIntervalUsageRequest);
+        register(IDS + "InvokeOperationMessage", InvokeOperationMessage.class, InvokeOperationMessageImpl.class,
+            ModelObjects::readInvokeOperationMessage);
+        register(IDS + "KeyType", KeyType.class, KeyTypeImpl.class, ModelObjects::readKeyType);
+        register(IDS + "Language", Language.class, LanguageImpl.class, ModelObjects::readLanguage);
+        register(IDS + "LeftOperand", LeftOperand.class, LeftOperandImpl.class, ModelObjects::readLeftOperand);
+        register(IDS + "License", License.class, LicenseImpl.class, ModelObjects::readLicense);
+        register(IDS + "LocalDataConfidentialityGuarantee", LocalDataConfidentialityGuarantee.class,
+            LocalDataConfidentialityGuaranteeImpl.class, ModelObjects::readLocalDataConfidentialityGuarantee);
+        register(IDS + "LogLevel", LogLevel.class, LogLevelImpl.class, ModelObjects::readLogLevel);
+        register(IDS + "LogMessage", LogMessage.class, LogMessageImpl.class, ModelObjects::readLogMessage);
+        register(IDS + "LoggingAgreement", LoggingAgreement.class, LoggingAgreementImpl.class,
+            ModelObjects::readLoggingAgreement);
+        register(IDS + "LoggingOffer", LoggingOffer.class, LoggingOfferImpl.class, ModelObjects::readLoggingOffer);
+        register(IDS + "LoggingRequest", LoggingRequest.class, LoggingRequestImpl.class,
+            ModelObjects::readLoggingRequest);
+        register(IDS + "LogicalConstraint", LogicalConstraint.class, LogicalConstraintImpl.class,
+            ModelObjects::readLogicalConstraint);
+        register(IDS + "MessageProcessedNotificationMessage", MessageProcessedNotificationMessage.class,
+            MessageProcessedNotificationMessageImpl.class, ModelObjects::readMessageProcessedNotificationMessage);
+        register(IDS + "Named", Named.class, NamedImpl.class, ModelObjects::readNamed);
+        register(IDS + "NotMoreThanNAgreement", NotMoreThanNAgreement.class, NotMoreThanNAgreementImpl.class,
+            ModelObjects::readNotMoreThanNAgreement);
+        register(IDS + "NotMoreThanNOffer", NotMoreThanNOffer.class, NotMoreThanNOfferImpl.class,
+            ModelObjects::readNotMoreThanNOffer);
+        register(IDS + "NotMoreThanNRequest", NotMoreThanNRequest.class, NotMoreThanNRequestImpl.class,
+            ModelObjects::readNotMoreThanNRequest);
+        register(IDS + "NotificationAgreement", NotificationAgreement.class, NotificationAgreementImpl.class,
+            ModelObjects::readNotificationAgreement);
+        register(IDS + "NotificationMessage", NotificationMessage.class, NotificationMessageImpl.class,
+            ModelObjects::readNotificationMessage);
+        register(IDS + "NotificationOffer", NotificationOffer.class, NotificationOfferImpl.class,
+            ModelObjects::readNotificationOffer);
+        register(IDS + "NotificationRequest", NotificationRequest.class, NotificationRequestImpl.class,
+            ModelObjects::readNotificationRequest);
+        register(IDS + "OperationResultMessage", OperationResultMessage.class, OperationResultMessageImpl.class,
+            ModelObjects::readOperationResultMessage);
+        register(IDS + "OrchestrationApp", OrchestrationApp.class, OrchestrationAppImpl.class,
+            ModelObjects::readOrchestrationApp);
+        register(IDS + "PIP", PIP.class, PIPImpl.class, ModelObjects::readPIP);
+        register(IDS + "PXP", PXP.class, PXPImpl.class, ModelObjects::readPXP);
+        register(IDS + "ParIS", ParIS.class, ParISImpl.class, ModelObjects::readParIS);
+        register(IDS + "ParticipantCatalog", ParticipantCatalog.class, ParticipantCatalogImpl.class,
+            ModelObjects::readParticipantCatalog);
+        register(IDS + "ParticipantCertificateGrantedMessage", ParticipantCertificateGrantedMessage.class,
+            ParticipantCertificateGrantedMessageImpl.class, ModelObjects::readParticipantCertificateGrantedMessage);
+        register(IDS + "ParticipantCertificateRevokedMessage", ParticipantCertificateRevokedMessage.class,
+            ParticipantCertificateRevokedMessageImpl.class, ModelObjects::readParticipantCertificateRevokedMessage);
+        register(IDS + "ParticipantCertification", ParticipantCertification.class, ParticipantCertificationImpl.class,
+            ModelObjects::readParticipantCertification);
+        register(IDS + "ParticipantCertificationLevel", ParticipantCertificationLevel.class,
+            ParticipantCertificationLevelImpl.class, ModelObjects::readParticipantCertificationLevel);
+        register(IDS + "Participant", Participant.class, ParticipantImpl.class, ModelObjects::readParticipant);
+        register(IDS + "ParticipantRequestMessage", ParticipantRequestMessage.class,
+            ParticipantRequestMessageImpl.class, ModelObjects::readParticipantRequestMessage);
+        register(IDS + "ParticipantResponseMessage", ParticipantResponseMessage.class,
+            ParticipantResponseMessageImpl.class, ModelObjects::readParticipantResponseMessage);
+        register(IDS + "ParticipantUnavailableMessage", ParticipantUnavailableMessage.class,
+            ParticipantUnavailableMessageImpl.class, ModelObjects::readParticipantUnavailableMessage);
+        register(IDS + "ParticipantUpdateMessage", ParticipantUpdateMessage.class, ParticipantUpdateMessageImpl.class,
+            ModelObjects::readParticipantUpdateMessage);
+        register(IDS + "PaymentModality", PaymentModality.class, PaymentModalityImpl.class,
+            ModelObjects::readPaymentModality);
+        register(IDS + "Permission", Permission.class, PermissionImpl.class, ModelObjects::readPermission);
+        register(IDS + "Person", Person.class, PersonImpl.class, ModelObjects::readPerson);
+        register(IDS + "Prohibition", Prohibition.class, ProhibitionImpl.class, ModelObjects::readProhibition);
+        register(IDS + "Proxy", Proxy.class, ProxyImpl.class, ModelObjects::readProxy);
+        register(IDS + "PublicKey", PublicKey.class, PublicKeyImpl.class, ModelObjects::readPublicKey);
+        register(IDS + "PurposeAgreement", PurposeAgreement.class, PurposeAgreementImpl.class,
+            ModelObjects::readPurposeAgreement);
+        register(IDS + "PurposeOffer", PurposeOffer.class, PurposeOfferImpl.class, ModelObjects::readPurposeOffer);
+        register(IDS + "PurposeRequest", PurposeRequest.class, PurposeRequestImpl.class,
+            ModelObjects::readPurposeRequest);
+        register(IDS + "QueryLanguage", QueryLanguage.class, QueryLanguageImpl.class, ModelObjects::readQueryLanguage);
+        register(IDS + "QueryMessage", QueryMessage.class, QueryMessageImpl.class, ModelObjects::readQueryMessage);
+        register(IDS + "QueryScope", QueryScope.class, QueryScopeImpl.class, ModelObjects::readQueryScope);
+        register(IDS + "QueryTarget", QueryTarget.class, QueryTargetImpl.class, ModelObjects::readQueryTarget);
+        register(IDS + "RejectionMessage", RejectionMessage.class, RejectionMessageImpl.class,
+            ModelObjects::readRejectionMessage);
+        register(IDS + "RejectionReason", RejectionReason.class, RejectionReasonImpl.class,
+            ModelObjects::readRejectionReason);
+        register(IDS + "RentalAgreement", RentalAgreement.class, RentalAgreementImpl.class,
+            ModelObjects::readRentalAgreement);
+        register(IDS + "RentalOffer", RentalOffer.class, RentalOfferImpl.class, ModelObjects::readRentalOffer);
+        register(IDS + "RentalRequest", RentalRequest.class, RentalRequestImpl.class, ModelObjects::readRentalRequest);
+        register(IDS + "Representation", Representation.class, RepresentationImpl.class,
+            ModelObjects::readRepresentation);
+        register(IDS + "RequestInProcessMessage", RequestInProcessMessage.class, RequestInProcessMessageImpl.class,
+            ModelObjects::readRequestInProcessMessage);
+        register(IDS + "RequestMessage", RequestMessage.class, RequestMessageImpl.class,
+            ModelObjects::readRequestMessage);
+        register(IDS + "ResourceCatalog", ResourceCatalog.class, ResourceCatalogImpl.class,
+            ModelObjects::readResourceCatalog);
+        register(IDS + "Resource", Resource.class, ResourceImpl.class, ModelObjects::readResource);
+        register(IDS + "ResourceUnavailableMessage", ResourceUnavailableMessage.class,
+            ResourceUnavailableMessageImpl.class, ModelObjects::readResourceUnavailableMessage);
+        register(IDS + "ResourceUpdateMessage", ResourceUpdateMessage.class, ResourceUpdateMessageImpl.class,
+            ModelObjects::readResourceUpdateMessage);
+        register(IDS + "ResponseMessage", ResponseMessage.class, ResponseMessageImpl.class,
+            ModelObjects::readResponseMessage);
+        register(IDS + "ResultMessage", ResultMessage.class, ResultMessageImpl.class, ModelObjects::readResultMessage);
+        register(IDS + "RolebasedAgreement", RolebasedAgreement.class, RolebasedAgreementImpl.class,
+            ModelObjects::readRolebasedAgreement);
+        register(IDS + "RolebasedOffer", RolebasedOffer.class, RolebasedOfferImpl.class,
+            ModelObjects::readRolebasedOffer);
+        register(IDS + "RolebasedRequest", RolebasedRequest.class, RolebasedRequestImpl.class,
+            ModelObjects::readRolebasedRequest);
+        register(IDS + "RouteStep", RouteStep.class, RouteStepImpl.class, ModelObjects::readRouteStep);
+        register(IDS + "SalesAgreement", SalesAgreement.class, SalesAgreementImpl.class,
+            ModelObjects::readSalesAgreement);
+        register(IDS + "SalesOffer", SalesOffer.class, SalesOfferImpl.class, ModelObjects::readSalesOffer);
+        register(IDS + "SalesRequest", SalesRequest.class, SalesRequestImpl.class, ModelObjects::readSalesRequest);
+        register(IDS + "SecurityAgreement", SecurityAgreement.class, SecurityAgreementImpl.class,
+            ModelObjects::readSecurityAgreement);
+        register(IDS + "SecurityGuarantee", SecurityGuarantee.class, SecurityGuaranteeImpl.class,
+            ModelObjects::readSecurityGuarantee);
+        register(IDS + "SecurityOffer", SecurityOffer.class, SecurityOfferImpl.class, ModelObjects::readSecurityOffer);
+        register(IDS + "SecurityProfile", SecurityProfile.class, SecurityProfileImpl.class,
+            ModelObjects::readSecurityProfile);
+        register(IDS + "SecurityRequest", SecurityRequest.class, SecurityRequestImpl.class,
+            ModelObjects::readSecurityRequest);
+        register(IDS + "ServiceIsolationGuarantee", ServiceIsolationGuarantee.class,
+            ServiceIsolationGuaranteeImpl.class, ModelObjects::readServiceIsolationGuarantee);
+        register(IDS + "Site", Site.class, SiteImpl.class, ModelObjects::readSite);
+        register(IDS + "SmartDataApp", SmartDataApp.class, SmartDataAppImpl.class, ModelObjects::readSmartDataApp);
+        register(IDS + "SoftwareRepresentation", SoftwareRepresentation.class, SoftwareRepresentationImpl.class,
+            ModelObjects::readSoftwareRepresentation);
+        register(IDS + "SoftwareResource", SoftwareResource.class, SoftwareResourceImpl.class,
+            ModelObjects::readSoftwareResource);
+        register(IDS + "SpatialAgreement", SpatialAgreement.class, SpatialAgreementImpl.class,
+            ModelObjects::readSpatialAgreement);
+        register(IDS + "SpatialOffer", SpatialOffer.class, SpatialOfferImpl.class, ModelObjects::readSpatialOffer);
+        register(IDS + "SpatialRequest", SpatialRequest.class, SpatialRequestImpl.class,
+            ModelObjects::readSpatialRequest);
+        register(IDS + "SwapAgreement", SwapAgreement.class, SwapAgreementImpl.class, ModelObjects::readSwapAgreement);
+        register(IDS + "SwapOffer", SwapOffer.class, SwapOfferImpl.class, ModelObjects::readSwapOffer);
+        register(IDS + "SwapRequest", SwapRequest.class, SwapRequestImpl.class, ModelObjects::readSwapRequest);
+        register(IDS + "SystemAdapter", SystemAdapter.class, SystemAdapterImpl.class, ModelObjects::readSystemAdapter);
+        register(IDS + "TemporalEntity", TemporalEntity.class, TemporalEntityImpl.class,
+            ModelObjects::readTemporalEntity);
+        register(IDS + "TextRepresentation", TextRepresentation.class, TextRepresentationImpl.class,
+            ModelObjects::readTextRepresentation);
+        register(IDS + "TextResource", TextResource.class, TextResourceImpl.class, ModelObjects::readTextResource);
+        register(IDS + "TokenFormat", TokenFormat.class, TokenFormatImpl.class, ModelObjects::readTokenFormat);
+        register(IDS + "Token", Token.class, TokenImpl.class, ModelObjects::readToken);
+        register(IDS + "TrustedConnector", TrustedConnector.class, TrustedConnectorImpl.class,
+            ModelObjects::readTrustedConnector);
+        register(IDS + "UploadMessage", UploadMessage.class, UploadMessageImpl.class, ModelObjects::readUploadMessage);
+        register(IDS + "UploadResponseMessage", UploadResponseMessage.class, UploadResponseMessageImpl.class,
+            ModelObjects::readUploadResponseMessage);
+        register(IDS + "UsageControlComponent", UsageControlComponent.class, UsageControlComponentImpl.class,
+            ModelObjects::readUsageControlComponent);
+        register(IDS + "UsageControlGuarantee", UsageControlGuarantee.class, UsageControlGuaranteeImpl.class,
+            ModelObjects::readUsageControlGuarantee);
+        register(IDS + "UsageControlObject", UsageControlObject.class, UsageControlObjectImpl.class,
+            ModelObjects::readUsageControlObject);
+        register(IDS + "UsagePolicyClass", UsagePolicyClass.class, UsagePolicyClassImpl.class,
+            ModelObjects::readUsagePolicyClass);
+        register(IDS + "Value", Value.class, ValueImpl.class, ModelObjects::readValue);
+        register(IDS + "VideoRepresentation", VideoRepresentation.class, VideoRepresentationImpl.class,
+            ModelObjects::readVideoRepresentation);
+        register(IDS + "VideoResource", VideoResource.class, VideoResourceImpl.class, ModelObjects::readVideoResource);
+
+        DEFAULT_INSTANCES.put(Action.class, Action::fromId);
+        DEFAULT_INSTANCES.put(AppEndpointType.class, AppEndpointType::fromId);
+        DEFAULT_INSTANCES.put(AppExecutionResources.class, AppExecutionResources::fromId);
+        DEFAULT_INSTANCES.put(ArtifactState.class, ArtifactState::fromId);
+        DEFAULT_INSTANCES.put(Audience.class, Audience::fromId);
+        DEFAULT_INSTANCES.put(AuditGuarantee.class, AuditGuarantee::fromId);
+        DEFAULT_INSTANCES.put(AuthStandard.class, AuthStandard::fromId);
+        DEFAULT_INSTANCES.put(AuthenticationGuarantee.class, AuthenticationGuarantee::fromId);
+        DEFAULT_INSTANCES.put(BinaryOperator.class, BinaryOperator::fromId);
+        DEFAULT_INSTANCES.put(ComponentCertificationLevel.class, ComponentCertificationLevel::fromId);
+        DEFAULT_INSTANCES.put(ConnectorDeployMode.class, ConnectorDeployMode::fromId);
+        DEFAULT_INSTANCES.put(ConnectorStatus.class, ConnectorStatus::fromId);
+        DEFAULT_INSTANCES.put(ContentType.class, ContentType::fromId);
+        DEFAULT_INSTANCES.put(Frequency.class, Frequency::fromId);
+        DEFAULT_INSTANCES.put(IdsProtocolSpecification.class, IdsProtocolSpecification::fromId);
+        DEFAULT_INSTANCES.put(IntegrityGuarantee.class, IntegrityGuarantee::fromId);
+        DEFAULT_INSTANCES.put(IntegrityVerificationScopeGuarantee.class, IntegrityVerificationScopeGuarantee::fromId);
+        DEFAULT_INSTANCES.put(KeyType.class, KeyType::fromId);
+        DEFAULT_INSTANCES.put(Language.class, Language::fromId);
+        DEFAULT_INSTANCES.put(LeftOperand.class, LeftOperand::fromId);
+        DEFAULT_INSTANCES.put(LocalDataConfidentialityGuarantee.class, LocalDataConfidentialityGuarantee::fromId);
+        DEFAULT_INSTANCES.put(LogLevel.class, LogLevel::fromId);
+        DEFAULT_INSTANCES.put(ParticipantCertificationLevel.class, ParticipantCertificationLevel::fromId);
+        DEFAULT_INSTANCES.put(PaymentModality.class, PaymentModality::fromId);
+        DEFAULT_INSTANCES.put(QueryLanguage.class, QueryLanguage::fromId);
+        DEFAULT_INSTANCES.put(QueryScope.class, QueryScope::fromId);
+        DEFAULT_INSTANCES.put(QueryTarget.class, QueryTarget::fromId);
+        DEFAULT_INSTANCES.put(RejectionReason.class, RejectionReason::fromId);
+        DEFAULT_INSTANCES.put(SecurityProfile.class, SecurityProfile::fromId);
+        DEFAULT_INSTANCES.put(ServiceIsolationGuarantee.class, ServiceIsolationGuarantee::fromId);
+        DEFAULT_INSTANCES.put(TokenFormat.class, TokenFormat::fromId);
+        DEFAULT_INSTANCES.put(UsageControlGuarantee.class, UsageControlGuarantee::fromId);
+        DEFAULT_INSTANCES.put(UsagePolicyClass.class, UsagePolicyClass::fromId);
+    }
+
+    private ModelObjects() {}
+
+    private static void register(String iri, Class<?> type, Class<?> implementation, Reader reader) {
+        Type entry = new Type(implementation, reader);
+        TYPES.put(iri, entry);
+        INTERFACES.put(type, entry);
+    }
+
+    /**
+     * Returns the model class of the given RDF class, or null if it is not part of the model.
+     */
+    static Type type(String iri) {
+        return TYPES.get(iri);
+    }
+
+    /**
+     * Returns the model class implementing the given interface, e.g. for subjects without rdf:type, or
+     * null if the interface has no implementation of its own.
+     */
+    static Type type(Class<?> type) {
+        return INTERFACES.get(type);
+    }
+
+    /**
+     * Returns the default instance of the given class with the given IRI (e.g. idsc:EN), if any.
+     */
+    static ModelClass defaultInstance(Class<?> type, URI id) {
+        Function<URI, ? extends ModelClass> lookup = DEFAULT_INSTANCES.get(type);
+        return lookup != null ? lookup.apply(id) : null;
+    }
+
+    private static void readAccessTokenRequestMessage(URI id, Node node, RdfReader in) throws IOException {
+        AccessTokenRequestMessageBuilder builder = id != null
+            ? new AccessTokenRequestMessageBuilder(id)
+            : new AccessTokenRequestMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readAccessTokenResponseMessage(URI id, Node node, RdfReader in) throws IOException {
+        AccessTokenResponseMessageBuilder builder = id != null
+            ? new AccessTokenResponseMessageBuilder(id)
+            : new AccessTokenResponseMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readAction(URI id, Node node, RdfReader in) throws IOException {
+        ActionBuilder builder = id != null
+            ? new ActionBuilder(id)
+            : new ActionBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "actionRefinement": {
+                    Constraint value = in.value(object, Constraint.class);
+                    if (value != null) {
+                        builder._actionRefinement_(value);
+                    }
+                    break;
+                }
+                case IDS + "includedIn": {
+                    Action value = in.value(object, Action.class);
+                    if (value != null) {
+                        builder._includedIn_(value);
+                    }
+                    break;
+                }
+                case IDS + "pxpEndpoint": {
+                    PXP value = in.value(object, PXP.class);
+                    if (value != null) {
+                        builder._pxpEndpoint_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readAgent(URI id, Node node, RdfReader in) throws IOException {
+        AgentBuilder builder = id != null
+            ? new AgentBuilder(id)
+            : new AgentBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readAppAvailableMessage(URI id, Node node, RdfReader in) throws IOException {
+        AppAvailableMessageBuilder builder = id != null
+            ? new AppAvailableMessageBuilder(id)
+            : new AppAvailableMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "affectedResource": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._affectedResource_(value);
+                    }
+                    break;
+                }
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readAppDeleteMessage(URI id, Node node, RdfReader in) throws IOException {
+        AppDeleteMessageBuilder builder = id != null
+            ? new AppDeleteMessageBuilder(id)
+            : new AppDeleteMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "affectedResource": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._affectedResource_(value);
+                    }
+                    break;
+                }
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readAppEndpoint(URI id, Node node, RdfReader in) throws IOException {
+        AppEndpointBuilder builder = id != null
+            ? new AppEndpointBuilder(id)
+            : new AppEndpointBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "accessURL": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._accessURL_(value);
+                    }
+                    break;
+                }
+                case IDS + "apiSpecifiation": {
+                    IdsProtocolSpecification value = in.value(object, IdsProtocolSpecification.class);
+                    if (value != null) {
+                        builder._apiSpecifiation_(value);
+                    }
+                    break;
+                }
+                case IDS + "appEndpointMediaType": {
+                    MediaType value = in.value(object, MediaType.class);
+                    if (value != null) {
+                        builder._appEndpointMediaType_(value);
+                    }
+                    break;
+                }
+                case IDS + "appEndpointPort": {
+                    BigInteger value = in.value(object, BigInteger.class);
+                    if (value != null) {
+                        builder._appEndpointPort_(value);
+                    }
+                    break;
+                }
+                case IDS + "appEndpointProtocol": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._appEndpointProtocol_(value);
+                    }
+                    break;
+                }
+                case IDS + "appEndpointType": {
+                    AppEndpointType value = in.value(object, AppEndpointType.class);
+                    if (value != null) {
+                        builder._appEndpointType_(value);
+                    }
+                    break;
+                }
+                case IDS + "endpointDocumentation": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._endpointDocumentation_(value);
+                    }
+                    break;
+                }
+                case IDS + "endpointInformation": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._endpointInformation_(value);
+                    }
+                    break;
+                }
+                case IDS + "inboundPath": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._inboundPath_(value);
+                    }
+                    break;
+                }
+                case IDS + "language": {
+                    Language value = in.value(object, Language.class);
+                    if (value != null) {
+                        builder._language_(value);
+                    }
+                    break;
+                }
+                case IDS + "outboundPath": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._outboundPath_(value);
+                    }
+                    break;
+                }
+                case IDS + "path": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._path_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readAppEndpointType(URI id, Node node, RdfReader in) throws IOException {
+        AppEndpointTypeBuilder builder = id != null
+            ? new AppEndpointTypeBuilder(id)
+            : new AppEndpointTypeBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readAppExecutionResources(URI id, Node node, RdfReader in) throws IOException {
+        AppExecutionResourcesBuilder builder = id != null
+            ? new AppExecutionResourcesBuilder(id)
+            : new AppExecutionResourcesBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readAppRegistrationRequestMessage(URI id, Node node, RdfReader in) throws IOException {
+        AppRegistrationRequestMessageBuilder builder = id != null
+            ? new AppRegistrationRequestMessageBuilder(id)
+            : new AppRegistrationRequestMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "affectedDataApp": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._affectedDataApp_(value);
+                    }
+                    break;
+                }
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readAppRegistrationResponseMessage(URI id, Node node, RdfReader in) throws IOException {
+        AppRegistrationResponseMessageBuilder builder = id != null
+            ? new AppRegistrationResponseMessageBuilder(id)
+            : new AppRegistrationResponseMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readAppRepresentation(URI id, Node node, RdfReader in) throws IOException {
+        AppRepresentationBuilder builder = id != null
+            ? new AppRepresentationBuilder(id)
+            : new AppRepresentationBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "created": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._created_(value);
+                    }
+                    break;
+                }
+                case IDS + "dataAppDistributionService": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._dataAppDistributionService_(value);
+                    }
+                    break;
+                }
+                case IDS + "dataAppInformation": {
+                    DataApp value = in.value(object, DataApp.class);
+                    if (value != null) {
+                        builder._dataAppInformation_(value);
+                    }
+                    break;
+                }
+                case IDS + "dataAppRuntimeEnvironment": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._dataAppRuntimeEnvironment_(value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "instance": {
+                    RepresentationInstance value = in.value(object, RepresentationInstance.class);
+                    if (value != null) {
+                        builder._instance_(value);
+                    }
+                    break;
+                }
+                case IDS + "language": {
+                    Language value = in.value(object, Language.class);
+                    if (value != null) {
+                        builder._language_(value);
+                    }
+                    break;
+                }
+                case IDS + "mediaType": {
+                    MediaType value = in.value(object, MediaType.class);
+                    if (value != null) {
+                        builder._mediaType_(value);
+                    }
+                    break;
+                }
+                case IDS + "modified": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._modified_(value);
+                    }
+                    break;
+                }
+                case IDS + "representationStandard": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._representationStandard_(value);
+                    }
+                    break;
+                }
+                case IDS + "shapesGraph": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._shapesGraph_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readAppResourceCatalog(URI id, Node node, RdfReader in) throws IOException {
+        AppResourceCatalogBuilder builder = id != null
+            ? new AppResourceCatalogBuilder(id)
+            : new AppResourceCatalogBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "listedAppResource": {
+                    AppResource value = in.value(object, AppResource.class);
+                    if (value != null) {
+                        builder._listedAppResource_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readAppResource(URI id, Node node, RdfReader in) throws IOException {
+        AppResourceBuilder builder = id != null
+            ? new AppResourceBuilder(id)
+            : new AppResourceBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "accrualPeriodicity": {
+                    Frequency value = in.value(object, Frequency.class);
+                    if (value != null) {
+                        builder._accrualPeriodicity_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentPart": {
+                    DigitalContent value = in.value(object, DigitalContent.class);
+                    if (value != null) {
+                        builder._contentPart_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentStandard": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._contentStandard_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentType": {
+                    ContentType value = in.value(object, ContentType.class);
+                    if (value != null) {
+                        builder._contentType_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractOffer": {
+                    ContractOffer value = in.value(object, ContractOffer.class);
+                    if (value != null) {
+                        builder._contractOffer_(value);
+                    }
+                    break;
+                }
+                case IDS + "created": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._created_(value);
+                    }
+                    break;
+                }
+                case IDS + "customLicense": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._customLicense_(value);
+                    }
+                    break;
+                }
+                case IDS + "defaultRepresentation": {
+                    Representation value = in.value(object, Representation.class);
+                    if (value != null) {
+                        builder._defaultRepresentation_(value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "keyword": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._keyword_(value);
+                    }
+                    break;
+                }
+                case IDS + "language": {
+                    Language value = in.value(object, Language.class);
+                    if (value != null) {
+                        builder._language_(value);
+                    }
+                    break;
+                }
+                case IDS + "modified": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._modified_(value);
+                    }
+                    break;
+                }
+                case IDS + "paymentModality": {
+                    PaymentModality value = in.value(object, PaymentModality.class);
+                    if (value != null) {
+                        builder._paymentModality_(value);
+                    }
+                    break;
+                }
+                case IDS + "publisher": {
+                    Object value = in.objectOrUri(object, Agent.class);
+                    if (value instanceof URI) {
+                        builder._publisherAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._publisherAsObject_((Agent) value);
+                    }
+                    break;
+                }
+                case IDS + "representation": {
+                    Representation value = in.value(object, Representation.class);
+                    if (value != null) {
+                        builder._representation_(value);
+                    }
+                    break;
+                }
+                case IDS + "resourceEndpoint": {
+                    ConnectorEndpoint value = in.value(object, ConnectorEndpoint.class);
+                    if (value != null) {
+                        builder._resourceEndpoint_(value);
+                    }
+                    break;
+                }
+                case IDS + "resourcePart": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._resourcePart_(value);
+                    }
+                    break;
+                }
+                case IDS + "sample": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._sample_(value);
+                    }
+                    break;
+                }
+                case IDS + "shapesGraph": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._shapesGraph_(value);
+                    }
+                    break;
+                }
+                case IDS + "sovereign": {
+                    Object value = in.objectOrUri(object, Agent.class);
+                    if (value instanceof URI) {
+                        builder._sovereignAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._sovereignAsObject_((Agent) value);
+                    }
+                    break;
+                }
+                case IDS + "spatialCoverage": {
+                    Location value = in.value(object, Location.class);
+                    if (value != null) {
+                        builder._spatialCoverage_(value);
+                    }
+                    break;
+                }
+                case IDS + "standardLicense": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._standardLicense_(value);
+                    }
+                    break;
+                }
+                case IDS + "temporalCoverage": {
+                    TemporalEntity value = in.value(object, TemporalEntity.class);
+                    if (value != null) {
+                        builder._temporalCoverage_(value);
+                    }
+                    break;
+                }
+                case IDS + "temporalResolution": {
+                    Frequency value = in.value(object, Frequency.class);
+                    if (value != null) {
+                        builder._temporalResolution_(value);
+                    }
+                    break;
+                }
+                case IDS + "theme": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._theme_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                case IDS + "variant": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._variant_(value);
+                    }
+                    break;
+                }
+                case IDS + "version": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._version_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readAppRoute(URI id, Node node, RdfReader in) throws IOException {
+        AppRouteBuilder builder = id != null
+            ? new AppRouteBuilder(id)
+            : new AppRouteBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "appRouteBroker": {
+                    Broker value = in.value(object, Broker.class);
+                    if (value != null) {
+                        builder._appRouteBroker_(value);
+                    }
+                    break;
+                }
+                case IDS + "appRouteClearingHouse": {
+                    ClearingHouse value = in.value(object, ClearingHouse.class);
+                    if (value != null) {
+                        builder._appRouteClearingHouse_(value);
+                    }
+                    break;
+                }
+                case IDS + "appRouteEnd": {
+                    Endpoint value = in.value(object, Endpoint.class);
+                    if (value != null) {
+                        builder._appRouteEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "appRouteOutput": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._appRouteOutput_(value);
+                    }
+                    break;
+                }
+                case IDS + "appRouteStart": {
+                    Endpoint value = in.value(object, Endpoint.class);
+                    if (value != null) {
+                        builder._appRouteStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "hasSubRoute": {
+                    RouteStep value = in.value(object, RouteStep.class);
+                    if (value != null) {
+                        builder._hasSubRoute_(value);
+                    }
+                    break;
+                }
+                case IDS + "routeConfiguration": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._routeConfiguration_(value);
+                    }
+                    break;
+                }
+                case IDS + "routeDeployMethod": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._routeDeployMethod_(value);
+                    }
+                    break;
+                }
+                case IDS + "routeDescription": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._routeDescription_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readAppStoreCatalog(URI id, Node node, RdfReader in) throws IOException {
+        AppStoreCatalogBuilder builder = id != null
+            ? new AppStoreCatalogBuilder(id)
+            : new AppStoreCatalogBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "listedConnector": {
+                    Connector value = in.value(object, Connector.class);
+                    if (value != null) {
+                        builder._listedConnector_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readAppStore(URI id, Node node, RdfReader in) throws IOException {
+        AppStoreBuilder builder = id != null
+            ? new AppStoreBuilder(id)
+            : new AppStoreBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authInfo": {
+                    AuthInfo value = in.value(object, AuthInfo.class);
+                    if (value != null) {
+                        builder._authInfo_(value);
+                    }
+                    break;
+                }
+                case IDS + "componentCertification": {
+                    ComponentCertification value = in.value(object, ComponentCertification.class);
+                    if (value != null) {
+                        builder._componentCertification_(value);
+                    }
+                    break;
+                }
+                case IDS + "curator": {
+                    Object value = in.objectOrUri(object, Participant.class);
+                    if (value instanceof URI) {
+                        builder._curatorAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._curatorAsObject_((Participant) value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "extendedGuarantee": {
+                    SecurityGuarantee value = in.value(object, SecurityGuarantee.class);
+                    if (value != null) {
+                        builder._extendedGuarantee_(value);
+                    }
+                    break;
+                }
+                case IDS + "hasAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._hasAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "hasDefaultEndpoint": {
+                    ConnectorEndpoint value = in.value(object, ConnectorEndpoint.class);
+                    if (value != null) {
+                        builder._hasDefaultEndpoint_(value);
+                    }
+                    break;
+                }
+                case IDS + "hasEndpoint": {
+                    ConnectorEndpoint value = in.value(object, ConnectorEndpoint.class);
+                    if (value != null) {
+                        builder._hasEndpoint_(value);
+                    }
+                    break;
+                }
+                case IDS + "inboundModelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._inboundModelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "maintainer": {
+                    Object value = in.objectOrUri(object, Participant.class);
+                    if (value instanceof URI) {
+                        builder._maintainerAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._maintainerAsObject_((Participant) value);
+                    }
+                    break;
+                }
+                case IDS + "outboundModelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._outboundModelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "physicalLocation": {
+                    Location value = in.value(object, Location.class);
+                    if (value != null) {
+                        builder._physicalLocation_(value);
+                    }
+                    break;
+                }
+                case IDS + "publicKey": {
+                    PublicKey value = in.value(object, PublicKey.class);
+                    if (value != null) {
+                        builder._publicKey_(value);
+                    }
+                    break;
+                }
+                case IDS + "resourceCatalog": {
+                    ResourceCatalog value = in.value(object, ResourceCatalog.class);
+                    if (value != null) {
+                        builder._resourceCatalog_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityProfile": {
+                    SecurityProfile value = in.value(object, SecurityProfile.class);
+                    if (value != null) {
+                        builder._securityProfile_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                case IDS + "version": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._version_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readAppUnavailableMessage(URI id, Node node, RdfReader in) throws IOException {
+        AppUnavailableMessageBuilder builder = id != null
+            ? new AppUnavailableMessageBuilder(id)
+            : new AppUnavailableMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "affectedResource": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._affectedResource_(value);
+                    }
+                    break;
+                }
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readAppUploadMessage(URI id, Node node, RdfReader in) throws IOException {
+        AppUploadMessageBuilder builder = id != null
+            ? new AppUploadMessageBuilder(id)
+            : new AppUploadMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "appArtifactReference": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._appArtifactReference_(value);
+                    }
+                    break;
+                }
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readAppUploadResponseMessage(URI id, Node node, RdfReader in) throws IOException {
+        AppUploadResponseMessageBuilder builder = id != null
+            ? new AppUploadResponseMessageBuilder(id)
+            : new AppUploadResponseMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readArtifact(URI id, Node node, RdfReader in) throws IOException {
+        ArtifactBuilder builder = id != null
+            ? new ArtifactBuilder(id)
+            : new ArtifactBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "byteSize": {
+                    BigInteger value = in.value(object, BigInteger.class);
+                    if (value != null) {
+                        builder._byteSize_(value);
+                    }
+                    break;
+                }
+                case IDS + "checkSum": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._checkSum_(value);
+                    }
+                    break;
+                }
+                case IDS + "creationDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._creationDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "duration": {
+                    java.math.BigDecimal value = in.value(object, java.math.BigDecimal.class);
+                    if (value != null) {
+                        builder._duration_(value);
+                    }
+                    break;
+                }
+                case IDS + "fileName": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._fileName_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readArtifactRequestMessage(URI id, Node node, RdfReader in) throws IOException {
+        ArtifactRequestMessageBuilder builder = id != null
+            ? new ArtifactRequestMessageBuilder(id)
+            : new ArtifactRequestMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "requestedArtifact": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._requestedArtifact_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readArtifactResponseMessage(URI id, Node node, RdfReader in) throws IOException {
+        ArtifactResponseMessageBuilder builder = id != null
+            ? new ArtifactResponseMessageBuilder(id)
+            : new ArtifactResponseMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readArtifactState(URI id, Node node, RdfReader in) throws IOException {
+        ArtifactStateBuilder builder = id != null
+            ? new ArtifactStateBuilder(id)
+            : new ArtifactStateBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readAssetCollection(URI id, Node node, RdfReader in) throws IOException {
+        AssetCollectionBuilder builder = id != null
+            ? new AssetCollectionBuilder(id)
+            : new AssetCollectionBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "assetRefinement": {
+                    AbstractConstraint value = in.value(object, AbstractConstraint.class);
+                    if (value != null) {
+                        builder._assetRefinement_(value);
+                    }
+                    break;
+                }
+                case IDS + "assetSource": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._assetSource_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readAudience(URI id, Node node, RdfReader in) throws IOException {
+        AudienceBuilder builder = id != null
+            ? new AudienceBuilder(id)
+            : new AudienceBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readAudioRepresentation(URI id, Node node, RdfReader in) throws IOException {
+        AudioRepresentationBuilder builder = id != null
+            ? new AudioRepresentationBuilder(id)
+            : new AudioRepresentationBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "created": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._created_(value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "instance": {
+                    RepresentationInstance value = in.value(object, RepresentationInstance.class);
+                    if (value != null) {
+                        builder._instance_(value);
+                    }
+                    break;
+                }
+                case IDS + "language": {
+                    Language value = in.value(object, Language.class);
+                    if (value != null) {
+                        builder._language_(value);
+                    }
+                    break;
+                }
+                case IDS + "mediaType": {
+                    MediaType value = in.value(object, MediaType.class);
+                    if (value != null) {
+                        builder._mediaType_(value);
+                    }
+                    break;
+                }
+                case IDS + "modified": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._modified_(value);
+                    }
+                    break;
+                }
+                case IDS + "representationStandard": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._representationStandard_(value);
+                    }
+                    break;
+                }
+                case IDS + "samplingRate": {
+                    java.math.BigDecimal value = in.value(object, java.math.BigDecimal.class);
+                    if (value != null) {
+                        builder._samplingRate_(value);
+                    }
+                    break;
+                }
+                case IDS + "shapesGraph": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._shapesGraph_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readAudioResource(URI id, Node node, RdfReader in) throws IOException {
+        AudioResourceBuilder builder = id != null
+            ? new AudioResourceBuilder(id)
+            : new AudioResourceBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "accrualPeriodicity": {
+                    Frequency value = in.value(object, Frequency.class);
+                    if (value != null) {
+                        builder._accrualPeriodicity_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentPart": {
+                    DigitalContent value = in.value(object, DigitalContent.class);
+                    if (value != null) {
+                        builder._contentPart_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentStandard": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._contentStandard_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentType": {
+                    ContentType value = in.value(object, ContentType.class);
+                    if (value != null) {
+                        builder._contentType_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractOffer": {
+                    ContractOffer value = in.value(object, ContractOffer.class);
+                    if (value != null) {
+                        builder._contractOffer_(value);
+                    }
+                    break;
+                }
+                case IDS + "created": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._created_(value);
+                    }
+                    break;
+                }
+                case IDS + "customLicense": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._customLicense_(value);
+                    }
+                    break;
+                }
+                case IDS + "defaultRepresentation": {
+                    Representation value = in.value(object, Representation.class);
+                    if (value != null) {
+                        builder._defaultRepresentation_(value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "keyword": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._keyword_(value);
+                    }
+                    break;
+                }
+                case IDS + "language": {
+                    Language value = in.value(object, Language.class);
+                    if (value != null) {
+                        builder._language_(value);
+                    }
+                    break;
+                }
+                case IDS + "modified": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._modified_(value);
+                    }
+                    break;
+                }
+                case IDS + "paymentModality": {
+                    PaymentModality value = in.value(object, PaymentModality.class);
+                    if (value != null) {
+                        builder._paymentModality_(value);
+                    }
+                    break;
+                }
+                case IDS + "publisher": {
+                    Object value = in.objectOrUri(object, Agent.class);
+                    if (value instanceof URI) {
+                        builder._publisherAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._publisherAsObject_((Agent) value);
+                    }
+                    break;
+                }
+                case IDS + "representation": {
+                    Representation value = in.value(object, Representation.class);
+                    if (value != null) {
+                        builder._representation_(value);
+                    }
+                    break;
+                }
+                case IDS + "resourceEndpoint": {
+                    ConnectorEndpoint value = in.value(object, ConnectorEndpoint.class);
+                    if (value != null) {
+                        builder._resourceEndpoint_(value);
+                    }
+                    break;
+                }
+                case IDS + "resourcePart": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._resourcePart_(value);
+                    }
+                    break;
+                }
+                case IDS + "sample": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._sample_(value);
+                    }
+                    break;
+                }
+                case IDS + "shapesGraph": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._shapesGraph_(value);
+                    }
+                    break;
+                }
+                case IDS + "sovereign": {
+                    Object value = in.objectOrUri(object, Agent.class);
+                    if (value instanceof URI) {
+                        builder._sovereignAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._sovereignAsObject_((Agent) value);
+                    }
+                    break;
+                }
+                case IDS + "spatialCoverage": {
+                    Location value = in.value(object, Location.class);
+                    if (value != null) {
+                        builder._spatialCoverage_(value);
+                    }
+                    break;
+                }
+                case IDS + "standardLicense": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._standardLicense_(value);
+                    }
+                    break;
+                }
+                case IDS + "temporalCoverage": {
+                    TemporalEntity value = in.value(object, TemporalEntity.class);
+                    if (value != null) {
+                        builder._temporalCoverage_(value);
+                    }
+                    break;
+                }
+                case IDS + "temporalResolution": {
+                    Frequency value = in.value(object, Frequency.class);
+                    if (value != null) {
+                        builder._temporalResolution_(value);
+                    }
+                    break;
+                }
+                case IDS + "theme": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._theme_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                case IDS + "variant": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._variant_(value);
+                    }
+                    break;
+                }
+                case IDS + "version": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._version_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readAuditGuarantee(URI id, Node node, RdfReader in) throws IOException {
+        AuditGuaranteeBuilder builder = id != null
+            ? new AuditGuaranteeBuilder(id)
+            : new AuditGuaranteeBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readAuthInfo(URI id, Node node, RdfReader in) throws IOException {
+        AuthInfoBuilder builder = id != null
+            ? new AuthInfoBuilder(id)
+            : new AuthInfoBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authService": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._authService_(value);
+                    }
+                    break;
+                }
+                case IDS + "authStandard": {
+                    AuthStandard value = in.value(object, AuthStandard.class);
+                    if (value != null) {
+                        builder._authStandard_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readAuthStandard(URI id, Node node, RdfReader in) throws IOException {
+        AuthStandardBuilder builder = id != null
+            ? new AuthStandardBuilder(id)
+            : new AuthStandardBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readAuthenticationGuarantee(URI id, Node node, RdfReader in) throws IOException {
+        AuthenticationGuaranteeBuilder builder = id != null
+            ? new AuthenticationGuaranteeBuilder(id)
+            : new AuthenticationGuaranteeBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readBaseConnector(URI id, Node node, RdfReader in) throws IOException {
+        BaseConnectorBuilder builder = id != null
+            ? new BaseConnectorBuilder(id)
+            : new BaseConnectorBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authInfo": {
+                    AuthInfo value = in.value(object, AuthInfo.class);
+                    if (value != null) {
+                        builder._authInfo_(value);
+                    }
+                    break;
+                }
+                case IDS + "componentCertification": {
+                    ComponentCertification value = in.value(object, ComponentCertification.class);
+                    if (value != null) {
+                        builder._componentCertification_(value);
+                    }
+                    break;
+                }
+                case IDS + "curator": {
+                    Object value = in.objectOrUri(object, Participant.class);
+                    if (value instanceof URI) {
+                        builder._curatorAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._curatorAsObject_((Participant) value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "extendedGuarantee": {
+                    SecurityGuarantee value = in.value(object, SecurityGuarantee.class);
+                    if (value != null) {
+                        builder._extendedGuarantee_(value);
+                    }
+                    break;
+                }
+                case IDS + "hasAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._hasAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "hasDefaultEndpoint": {
+                    ConnectorEndpoint value = in.value(object, ConnectorEndpoint.class);
+                    if (value != null) {
+                        builder._hasDefaultEndpoint_(value);
+                    }
+                    break;
+                }
+                case IDS + "hasEndpoint": {
+                    ConnectorEndpoint value = in.value(object, ConnectorEndpoint.class);
+                    if (value != null) {
+                        builder._hasEndpoint_(value);
+                    }
+                    break;
+                }
+                case IDS + "inboundModelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._inboundModelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "maintainer": {
+                    Object value = in.objectOrUri(object, Participant.class);
+                    if (value instanceof URI) {
+                        builder._maintainerAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._maintainerAsObject_((Participant) value);
+                    }
+                    break;
+                }
+                case IDS + "outboundModelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._outboundModelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "physicalLocation": {
+                    Location value = in.value(object, Location.class);
+                    if (value != null) {
+                        builder._physicalLocation_(value);
+                    }
+                    break;
+                }
+                case IDS + "publicKey": {
+                    PublicKey value = in.value(object, PublicKey.class);
+                    if (value != null) {
+                        builder._publicKey_(value);
+                    }
+                    break;
+                }
+                case IDS + "resourceCatalog": {
+                    ResourceCatalog value = in.value(object, ResourceCatalog.class);
+                    if (value != null) {
+                        builder._resourceCatalog_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityProfile": {
+                    SecurityProfile value = in.value(object, SecurityProfile.class);
+                    if (value != null) {
+                        builder._securityProfile_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                case IDS + "version": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._version_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readBasicAuthentication(URI id, Node node, RdfReader in) throws IOException {
+        BasicAuthenticationBuilder builder = id != null
+            ? new BasicAuthenticationBuilder(id)
+            : new BasicAuthenticationBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authPassword": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._authPassword_(value);
+                    }
+                    break;
+                }
+                case IDS + "authUsername": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._authUsername_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readBinaryOperator(URI id, Node node, RdfReader in) throws IOException {
+        BinaryOperatorBuilder builder = id != null
+            ? new BinaryOperatorBuilder(id)
+            : new BinaryOperatorBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readBoundingPolygon(URI id, Node node, RdfReader in) throws IOException {
+        BoundingPolygonBuilder builder = id != null
+            ? new BoundingPolygonBuilder(id)
+            : new BoundingPolygonBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "geoPoint": {
+                    GeoPoint value = in.value(object, GeoPoint.class);
+                    if (value != null) {
+                        builder._geoPoint_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readBrokerCatalog(URI id, Node node, RdfReader in) throws IOException {
+        BrokerCatalogBuilder builder = id != null
+            ? new BrokerCatalogBuilder(id)
+            : new BrokerCatalogBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "listedConnector": {
+                    Connector value = in.value(object, Connector.class);
+                    if (value != null) {
+                        builder._listedConnector_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readBroker(URI id, Node node, RdfReader in) throws IOException {
+        BrokerBuilder builder = id != null
+            ? new BrokerBuilder(id)
+            : new BrokerBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authInfo": {
+                    AuthInfo value = in.value(object, AuthInfo.class);
+                    if (value != null) {
+                        builder._authInfo_(value);
+                    }
+                    break;
+                }
+                case IDS + "componentCertification": {
+                    ComponentCertification value = in.value(object, ComponentCertification.class);
+                    if (value != null) {
+                        builder._componentCertification_(value);
+                    }
+                    break;
+                }
+                case IDS + "connectorCatalog": {
+                    ConnectorCatalog value = in.value(object, ConnectorCatalog.class);
+                    if (value != null) {
+                        builder._connectorCatalog_(value);
+                    }
+                    break;
+                }
+                case IDS + "curator": {
+                    Object value = in.objectOrUri(object, Participant.class);
+                    if (value instanceof URI) {
+                        builder._curatorAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._curatorAsObject_((Participant) value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "extendedGuarantee": {
+                    SecurityGuarantee value = in.value(object, SecurityGuarantee.class);
+                    if (value != null) {
+                        builder._extendedGuarantee_(value);
+                    }
+                    break;
+                }
+                case IDS + "hasAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._hasAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "hasDefaultEndpoint": {
+                    ConnectorEndpoint value = in.value(object, ConnectorEndpoint.class);
+                    if (value != null) {
+                        builder._hasDefaultEndpoint_(value);
+                    }
+                    break;
+                }
+                case IDS + "hasEndpoint": {
+                    ConnectorEndpoint value = in.value(object, ConnectorEndpoint.class);
+                    if (value != null) {
+                        builder._hasEndpoint_(value);
+                    }
+                    break;
+                }
+                case IDS + "inboundModelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._inboundModelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "maintainer": {
+                    Object value = in.objectOrUri(object, Participant.class);
+                    if (value instanceof URI) {
+                        builder._maintainerAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._maintainerAsObject_((Participant) value);
+                    }
+                    break;
+                }
+                case IDS + "outboundModelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._outboundModelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "physicalLocation": {
+                    Location value = in.value(object, Location.class);
+                    if (value != null) {
+                        builder._physicalLocation_(value);
+                    }
+                    break;
+                }
+                case IDS + "publicKey": {
+                    PublicKey value = in.value(object, PublicKey.class);
+                    if (value != null) {
+                        builder._publicKey_(value);
+                    }
+                    break;
+                }
+                case IDS + "resourceCatalog": {
+                    ResourceCatalog value = in.value(object, ResourceCatalog.class);
+                    if (value != null) {
+                        builder._resourceCatalog_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityProfile": {
+                    SecurityProfile value = in.value(object, SecurityProfile.class);
+                    if (value != null) {
+                        builder._securityProfile_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                case IDS + "version": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._version_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readBusinessIdentifier(URI id, Node node, RdfReader in) throws IOException {
+        BusinessIdentifierBuilder builder = id != null
+            ? new BusinessIdentifierBuilder(id)
+            : new BusinessIdentifierBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "identifierNumber": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._identifierNumber_(value);
+                    }
+                    break;
+                }
+                case IDS + "identifierSystem": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._identifierSystem_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readClearingHouseCatalog(URI id, Node node, RdfReader in) throws IOException {
+        ClearingHouseCatalogBuilder builder = id != null
+            ? new ClearingHouseCatalogBuilder(id)
+            : new ClearingHouseCatalogBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "listedClearingHouse": {
+                    ClearingHouse value = in.value(object, ClearingHouse.class);
+                    if (value != null) {
+                        builder._listedClearingHouse_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readClearingHouse(URI id, Node node, RdfReader in) throws IOException {
+        ClearingHouseBuilder builder = id != null
+            ? new ClearingHouseBuilder(id)
+            : new ClearingHouseBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "componentCertification": {
+                    ComponentCertification value = in.value(object, ComponentCertification.class);
+                    if (value != null) {
+                        builder._componentCertification_(value);
+                    }
+                    break;
+                }
+                case IDS + "curator": {
+                    Object value = in.objectOrUri(object, Participant.class);
+                    if (value instanceof URI) {
+                        builder._curatorAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._curatorAsObject_((Participant) value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "inboundModelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._inboundModelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "maintainer": {
+                    Object value = in.objectOrUri(object, Participant.class);
+                    if (value instanceof URI) {
+                        builder._maintainerAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._maintainerAsObject_((Participant) value);
+                    }
+                    break;
+                }
+                case IDS + "outboundModelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._outboundModelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "physicalLocation": {
+                    Location value = in.value(object, Location.class);
+                    if (value != null) {
+                        builder._physicalLocation_(value);
+                    }
+                    break;
+                }
+                case IDS + "publicKey": {
+                    PublicKey value = in.value(object, PublicKey.class);
+                    if (value != null) {
+                        builder._publicKey_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                case IDS + "version": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._version_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readCommandMessage(URI id, Node node, RdfReader in) throws IOException {
+        CommandMessageBuilder builder = id != null
+            ? new CommandMessageBuilder(id)
+            : new CommandMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readComponentCertification(URI id, Node node, RdfReader in) throws IOException {
+        ComponentCertificationBuilder builder = id != null
+            ? new ComponentCertificationBuilder(id)
+            : new ComponentCertificationBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "certificationLevel": {
+                    CertificationLevel value = in.value(object, CertificationLevel.class);
+                    if (value != null) {
+                        builder._certificationLevel_(value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "evaluationFacility": {
+                    EvaluationFacility value = in.value(object, EvaluationFacility.class);
+                    if (value != null) {
+                        builder._evaluationFacility_(value);
+                    }
+                    break;
+                }
+                case IDS + "lastValidDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._lastValidDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                case IDS + "version": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._version_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readComponentCertificationLevel(URI id, Node node, RdfReader in) throws IOException {
+        ComponentCertificationLevelBuilder builder = id != null
+            ? new ComponentCertificationLevelBuilder(id)
+            : new ComponentCertificationLevelBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "includedCertificationLevel": {
+                    CertificationLevel value = in.value(object, CertificationLevel.class);
+                    if (value != null) {
+                        builder._includedCertificationLevel_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readConfigurationModel(URI id, Node node, RdfReader in) throws IOException {
+        ConfigurationModelBuilder builder = id != null
+            ? new ConfigurationModelBuilder(id)
+            : new ConfigurationModelBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "appRoute": {
+                    AppRoute value = in.value(object, AppRoute.class);
+                    if (value != null) {
+                        builder._appRoute_(value);
+                    }
+                    break;
+                }
+                case IDS + "configurationModelLogLevel": {
+                    LogLevel value = in.value(object, LogLevel.class);
+                    if (value != null) {
+                        builder._configurationModelLogLevel_(value);
+                    }
+                    break;
+                }
+                case IDS + "configuredAppResource": {
+                    AppResourceCatalog value = in.value(object, AppResourceCatalog.class);
+                    if (value != null) {
+                        builder._configuredAppResource_(value);
+                    }
+                    break;
+                }
+                case IDS + "configuredAppStore": {
+                    AppStoreCatalog value = in.value(object, AppStoreCatalog.class);
+                    if (value != null) {
+                        builder._configuredAppStore_(value);
+                    }
+                    break;
+                }
+                case IDS + "configuredBroker": {
+                    BrokerCatalog value = in.value(object, BrokerCatalog.class);
+                    if (value != null) {
+                        builder._configuredBroker_(value);
+                    }
+                    break;
+                }
+                case IDS + "configuredClearingHouse": {
+                    ClearingHouseCatalog value = in.value(object, ClearingHouseCatalog.class);
+                    if (value != null) {
+                        builder._configuredClearingHouse_(value);
+                    }
+                    break;
+                }
+                case IDS + "connectorDeployMode": {
+                    ConnectorDeployMode value = in.value(object, ConnectorDeployMode.class);
+                    if (value != null) {
+                        builder._connectorDeployMode_(value);
+                    }
+                    break;
+                }
+                case IDS + "connectorDescription": {
+                    Connector value = in.value(object, Connector.class);
+                    if (value != null) {
+                        builder._connectorDescription_(value);
+                    }
+                    break;
+                }
+                case IDS + "connectorProxy": {
+                    Proxy value = in.value(object, Proxy.class);
+                    if (value != null) {
+                        builder._connectorProxy_(value);
+                    }
+                    break;
+                }
+                case IDS + "connectorStatus": {
+                    ConnectorStatus value = in.value(object, ConnectorStatus.class);
+                    if (value != null) {
+                        builder._connectorStatus_(value);
+                    }
+                    break;
+                }
+                case IDS + "keyStore": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._keyStore_(value);
+                    }
+                    break;
+                }
+                case IDS + "keyStoreAlias": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._keyStoreAlias_(value);
+                    }
+                    break;
+                }
+                case IDS + "keyStorePassword": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._keyStorePassword_(value);
+                    }
+                    break;
+                }
+                case IDS + "trustStore": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._trustStore_(value);
+                    }
+                    break;
+                }
+                case IDS + "trustStoreAlias": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._trustStoreAlias_(value);
+                    }
+                    break;
+                }
+                case IDS + "trustStorePassword": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._trustStorePassword_(value);
+                    }
+                    break;
+                }
+                case IDS + "userAuthentication": {
+                    UserAuthentication value = in.value(object, UserAuthentication.class);
+                    if (value != null) {
+                        builder._userAuthentication_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readConnectorCatalog(URI id, Node node, RdfReader in) throws IOException {
+        ConnectorCatalogBuilder builder = id != null
+            ? new ConnectorCatalogBuilder(id)
+            : new ConnectorCatalogBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "listedConnector": {
+                    Connector value = in.value(object, Connector.class);
+                    if (value != null) {
+                        builder._listedConnector_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readConnectorCertificateGrantedMessage(URI id, Node node, RdfReader in) throws IOException {
+        ConnectorCertificateGrantedMessageBuilder builder = id != null
+            ? new ConnectorCertificateGrantedMessageBuilder(id)
+            : new ConnectorCertificateGrantedMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "affectedConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._affectedConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readConnectorCertificateRevokedMessage(URI id, Node node, RdfReader in) throws IOException {
+        ConnectorCertificateRevokedMessageBuilder builder = id != null
+            ? new ConnectorCertificateRevokedMessageBuilder(id)
+            : new ConnectorCertificateRevokedMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "affectedConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._affectedConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "revocationReason": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._revocationReason_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readConnectorDeployMode(URI id, Node node, RdfReader in) throws IOException {
+        ConnectorDeployModeBuilder builder = id != null
+            ? new ConnectorDeployModeBuilder(id)
+            : new ConnectorDeployModeBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readConnectorEndpoint(URI id, Node node, RdfReader in) throws IOException {
+        ConnectorEndpointBuilder builder = id != null
+            ? new ConnectorEndpointBuilder(id)
+            : new ConnectorEndpointBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "accessURL": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._accessURL_(value);
+                    }
+                    break;
+                }
+                case IDS + "apiSpecifiation": {
+                    IdsProtocolSpecification value = in.value(object, IdsProtocolSpecification.class);
+                    if (value != null) {
+                        builder._apiSpecifiation_(value);
+                    }
+                    break;
+                }
+                case IDS + "endpointArtifact": {
+                    Artifact value = in.value(object, Artifact.class);
+                    if (value != null) {
+                        builder._endpointArtifact_(value);
+                    }
+                    break;
+                }
+                case IDS + "endpointDocumentation": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._endpointDocumentation_(value);
+                    }
+                    break;
+                }
+                case IDS + "endpointInformation": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._endpointInformation_(value);
+                    }
+                    break;
+                }
+                case IDS + "inboundPath": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._inboundPath_(value);
+                    }
+                    break;
+                }
+                case IDS + "outboundPath": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._outboundPath_(value);
+                    }
+                    break;
+                }
+                case IDS + "path": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._path_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readConnectorStatus(URI id, Node node, RdfReader in) throws IOException {
+        ConnectorStatusBuilder builder = id != null
+            ? new ConnectorStatusBuilder(id)
+            : new ConnectorStatusBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readConnectorUnavailableMessage(URI id, Node node, RdfReader in) throws IOException {
+        ConnectorUnavailableMessageBuilder builder = id != null
+            ? new ConnectorUnavailableMessageBuilder(id)
+            : new ConnectorUnavailableMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "affectedConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._affectedConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readConnectorUpdateMessage(URI id, Node node, RdfReader in) throws IOException {
+        ConnectorUpdateMessageBuilder builder = id != null
+            ? new ConnectorUpdateMessageBuilder(id)
+            : new ConnectorUpdateMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "affectedConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._affectedConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readConnectorbasedAgreement(URI id, Node node, RdfReader in) throws IOException {
+        ConnectorbasedAgreementBuilder builder = id != null
+            ? new ConnectorbasedAgreementBuilder(id)
+            : new ConnectorbasedAgreementBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readConnectorbasedOffer(URI id, Node node, RdfReader in) throws IOException {
+        ConnectorbasedOfferBuilder builder = id != null
+            ? new ConnectorbasedOfferBuilder(id)
+            : new ConnectorbasedOfferBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readConnectorbasedRequest(URI id, Node node, RdfReader in) throws IOException {
+        ConnectorbasedRequestBuilder builder = id != null
+            ? new ConnectorbasedRequestBuilder(id)
+            : new ConnectorbasedRequestBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readConstraint(URI id, Node node, RdfReader in) throws IOException {
+        ConstraintBuilder builder = id != null
+            ? new ConstraintBuilder(id)
+            : new ConstraintBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "leftOperand": {
+                    LeftOperand value = in.value(object, LeftOperand.class);
+                    if (value != null) {
+                        builder._leftOperand_(value);
+                    }
+                    break;
+                }
+                case IDS + "operator": {
+                    BinaryOperator value = in.value(object, BinaryOperator.class);
+                    if (value != null) {
+                        builder._operator_(value);
+                    }
+                    break;
+                }
+                case IDS + "pipEndpoint": {
+                    PIP value = in.value(object, PIP.class);
+                    if (value != null) {
+                        builder._pipEndpoint_(value);
+                    }
+                    break;
+                }
+                case IDS + "rightOperand": {
+                    RdfResource value = in.value(object, RdfResource.class);
+                    if (value != null) {
+                        builder._rightOperand_(value);
+                    }
+                    break;
+                }
+                case IDS + "rightOperandReference": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._rightOperandReference_(value);
+                    }
+                    break;
+                }
+                case IDS + "unit": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._unit_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readContentType(URI id, Node node, RdfReader in) throws IOException {
+        ContentTypeBuilder builder = id != null
+            ? new ContentTypeBuilder(id)
+            : new ContentTypeBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readContractAgreement(URI id, Node node, RdfReader in) throws IOException {
+        ContractAgreementBuilder builder = id != null
+            ? new ContractAgreementBuilder(id)
+            : new ContractAgreementBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readContractAgreementMessage(URI id, Node node, RdfReader in) throws IOException {
+        ContractAgreementMessageBuilder builder = id != null
+            ? new ContractAgreementMessageBuilder(id)
+            : new ContractAgreementMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readContractOffer(URI id, Node node, RdfReader in) throws IOException {
+        ContractOfferBuilder builder = id != null
+            ? new ContractOfferBuilder(id)
+            : new ContractOfferBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readContractOfferMessage(URI id, Node node, RdfReader in) throws IOException {
+        ContractOfferMessageBuilder builder = id != null
+            ? new ContractOfferMessageBuilder(id)
+            : new ContractOfferMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readContractRejectionMessage(URI id, Node node, RdfReader in) throws IOException {
+        ContractRejectionMessageBuilder builder = id != null
+            ? new ContractRejectionMessageBuilder(id)
+            : new ContractRejectionMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractRejectionReason": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._contractRejectionReason_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "rejectionReason": {
+                    RejectionReason value = in.value(object, RejectionReason.class);
+                    if (value != null) {
+                        builder._rejectionReason_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readContractRequest(URI id, Node node, RdfReader in) throws IOException {
+        ContractRequestBuilder builder = id != null
+            ? new ContractRequestBuilder(id)
+            : new ContractRequestBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readContractRequestMessage(URI id, Node node, RdfReader in) throws IOException {
+        ContractRequestMessageBuilder builder = id != null
+            ? new ContractRequestMessageBuilder(id)
+            : new ContractRequestMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readContractResponseMessage(URI id, Node node, RdfReader in) throws IOException {
+        ContractResponseMessageBuilder builder = id != null
+            ? new ContractResponseMessageBuilder(id)
+            : new ContractResponseMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readContractSupplementMessage(URI id, Node node, RdfReader in) throws IOException {
+        ContractSupplementMessageBuilder builder = id != null
+            ? new ContractSupplementMessageBuilder(id)
+            : new ContractSupplementMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readCustomMediaType(URI id, Node node, RdfReader in) throws IOException {
+        CustomMediaTypeBuilder builder = id != null
+            ? new CustomMediaTypeBuilder(id)
+            : new CustomMediaTypeBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "filenameExtension": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._filenameExtension_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readDAPS(URI id, Node node, RdfReader in) throws IOException {
+        DAPSBuilder builder = id != null
+            ? new DAPSBuilder(id)
+            : new DAPSBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "componentCertification": {
+                    ComponentCertification value = in.value(object, ComponentCertification.class);
+                    if (value != null) {
+                        builder._componentCertification_(value);
+                    }
+                    break;
+                }
+                case IDS + "curator": {
+                    Object value = in.objectOrUri(object, Participant.class);
+                    if (value instanceof URI) {
+                        builder._curatorAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._curatorAsObject_((Participant) value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "inboundModelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._inboundModelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "maintainer": {
+                    Object value = in.objectOrUri(object, Participant.class);
+                    if (value instanceof URI) {
+                        builder._maintainerAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._maintainerAsObject_((Participant) value);
+                    }
+                    break;
+                }
+                case IDS + "outboundModelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._outboundModelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "physicalLocation": {
+                    Location value = in.value(object, Location.class);
+                    if (value != null) {
+                        builder._physicalLocation_(value);
+                    }
+                    break;
+                }
+                case IDS + "publicKey": {
+                    PublicKey value = in.value(object, PublicKey.class);
+                    if (value != null) {
+                        builder._publicKey_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                case IDS + "version": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._version_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readDatPayload(URI id, Node node, RdfReader in) throws IOException {
+        DatPayloadBuilder builder = id != null
+            ? new DatPayloadBuilder(id)
+            : new DatPayloadBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "aud": {
+                    Audience value = in.value(object, Audience.class);
+                    if (value != null) {
+                        builder._aud_(value);
+                    }
+                    break;
+                }
+                case IDS + "exp": {
+                    BigInteger value = in.value(object, BigInteger.class);
+                    if (value != null) {
+                        builder._exp_(value);
+                    }
+                    break;
+                }
+                case IDS + "extendedGuarantee": {
+                    SecurityGuarantee value = in.value(object, SecurityGuarantee.class);
+                    if (value != null) {
+                        builder._extendedGuarantee_(value);
+                    }
+                    break;
+                }
+                case IDS + "iat": {
+                    BigInteger value = in.value(object, BigInteger.class);
+                    if (value != null) {
+                        builder._iat_(value);
+                    }
+                    break;
+                }
+                case IDS + "iss": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._iss_(value);
+                    }
+                    break;
+                }
+                case IDS + "nbf": {
+                    BigInteger value = in.value(object, BigInteger.class);
+                    if (value != null) {
+                        builder._nbf_(value);
+                    }
+                    break;
+                }
+                case IDS + "referringConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._referringConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "scope": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._scope_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityProfile": {
+                    SecurityProfile value = in.value(object, SecurityProfile.class);
+                    if (value != null) {
+                        builder._securityProfile_(value);
+                    }
+                    break;
+                }
+                case IDS + "sub": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._sub_(value);
+                    }
+                    break;
+                }
+                case IDS + "transportCertsSha256": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._transportCertsSha256_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readDatRequestPayload(URI id, Node node, RdfReader in) throws IOException {
+        DatRequestPayloadBuilder builder = id != null
+            ? new DatRequestPayloadBuilder(id)
+            : new DatRequestPayloadBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "aud": {
+                    Audience value = in.value(object, Audience.class);
+                    if (value != null) {
+                        builder._aud_(value);
+                    }
+                    break;
+                }
+                case IDS + "exp": {
+                    BigInteger value = in.value(object, BigInteger.class);
+                    if (value != null) {
+                        builder._exp_(value);
+                    }
+                    break;
+                }
+                case IDS + "iat": {
+                    BigInteger value = in.value(object, BigInteger.class);
+                    if (value != null) {
+                        builder._iat_(value);
+                    }
+                    break;
+                }
+                case IDS + "iss": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._iss_(value);
+                    }
+                    break;
+                }
+                case IDS + "nbf": {
+                    BigInteger value = in.value(object, BigInteger.class);
+                    if (value != null) {
+                        builder._nbf_(value);
+                    }
+                    break;
+                }
+                case IDS + "referringConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._referringConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "scope": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._scope_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityProfile": {
+                    SecurityProfile value = in.value(object, SecurityProfile.class);
+                    if (value != null) {
+                        builder._securityProfile_(value);
+                    }
+                    break;
+                }
+                case IDS + "sub": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._sub_(value);
+                    }
+                    break;
+                }
+                case IDS + "transportCertsSha256": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._transportCertsSha256_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readDataRepresentation(URI id, Node node, RdfReader in) throws IOException {
+        DataRepresentationBuilder builder = id != null
+            ? new DataRepresentationBuilder(id)
+            : new DataRepresentationBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "created": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._created_(value);
+                    }
+                    break;
+                }
+                case IDS + "dataType": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._dataType_(value);
+                    }
+                    break;
+                }
+                case IDS + "dataTypeSchema": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._dataTypeSchema_(value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "instance": {
+                    RepresentationInstance value = in.value(object, RepresentationInstance.class);
+                    if (value != null) {
+                        builder._instance_(value);
+                    }
+                    break;
+                }
+                case IDS + "language": {
+                    Language value = in.value(object, Language.class);
+                    if (value != null) {
+                        builder._language_(value);
+                    }
+                    break;
+                }
+                case IDS + "mediaType": {
+                    MediaType value = in.value(object, MediaType.class);
+                    if (value != null) {
+                        builder._mediaType_(value);
+                    }
+                    break;
+                }
+                case IDS + "modified": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._modified_(value);
+                    }
+                    break;
+                }
+                case IDS + "representationStandard": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._representationStandard_(value);
+                    }
+                    break;
+                }
+                case IDS + "shapesGraph": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._shapesGraph_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readDataResource(URI id, Node node, RdfReader in) throws IOException {
+        DataResourceBuilder builder = id != null
+            ? new DataResourceBuilder(id)
+            : new DataResourceBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "accrualPeriodicity": {
+                    Frequency value = in.value(object, Frequency.class);
+                    if (value != null) {
+                        builder._accrualPeriodicity_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentPart": {
+                    DigitalContent value = in.value(object, DigitalContent.class);
+                    if (value != null) {
+                        builder._contentPart_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentStandard": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._contentStandard_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentType": {
+                    ContentType value = in.value(object, ContentType.class);
+                    if (value != null) {
+                        builder._contentType_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractOffer": {
+                    ContractOffer value = in.value(object, ContractOffer.class);
+                    if (value != null) {
+                        builder._contractOffer_(value);
+                    }
+                    break;
+                }
+                case IDS + "created": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._created_(value);
+                    }
+                    break;
+                }
+                case IDS + "customLicense": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._customLicense_(value);
+                    }
+                    break;
+                }
+                case IDS + "defaultRepresentation": {
+                    Representation value = in.value(object, Representation.class);
+                    if (value != null) {
+                        builder._defaultRepresentation_(value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "keyword": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._keyword_(value);
+                    }
+                    break;
+                }
+                case IDS + "language": {
+                    Language value = in.value(object, Language.class);
+                    if (value != null) {
+                        builder._language_(value);
+                    }
+                    break;
+                }
+                case IDS + "modified": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._modified_(value);
+                    }
+                    break;
+                }
+                case IDS + "paymentModality": {
+                    PaymentModality value = in.value(object, PaymentModality.class);
+                    if (value != null) {
+                        builder._paymentModality_(value);
+                    }
+                    break;
+                }
+                case IDS + "publisher": {
+                    Object value = in.objectOrUri(object, Agent.class);
+                    if (value instanceof URI) {
+                        builder._publisherAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._publisherAsObject_((Agent) value);
+                    }
+                    break;
+                }
+                case IDS + "representation": {
+                    Representation value = in.value(object, Representation.class);
+                    if (value != null) {
+                        builder._representation_(value);
+                    }
+                    break;
+                }
+                case IDS + "resourceEndpoint": {
+                    ConnectorEndpoint value = in.value(object, ConnectorEndpoint.class);
+                    if (value != null) {
+                        builder._resourceEndpoint_(value);
+                    }
+                    break;
+                }
+                case IDS + "resourcePart": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._resourcePart_(value);
+                    }
+                    break;
+                }
+                case IDS + "sample": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._sample_(value);
+                    }
+                    break;
+                }
+                case IDS + "shapesGraph": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._shapesGraph_(value);
+                    }
+                    break;
+                }
+                case IDS + "sovereign": {
+                    Object value = in.objectOrUri(object, Agent.class);
+                    if (value instanceof URI) {
+                        builder._sovereignAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._sovereignAsObject_((Agent) value);
+                    }
+                    break;
+                }
+                case IDS + "spatialCoverage": {
+                    Location value = in.value(object, Location.class);
+                    if (value != null) {
+                        builder._spatialCoverage_(value);
+                    }
+                    break;
+                }
+                case IDS + "standardLicense": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._standardLicense_(value);
+                    }
+                    break;
+                }
+                case IDS + "temporalCoverage": {
+                    TemporalEntity value = in.value(object, TemporalEntity.class);
+                    if (value != null) {
+                        builder._temporalCoverage_(value);
+                    }
+                    break;
+                }
+                case IDS + "temporalResolution": {
+                    Frequency value = in.value(object, Frequency.class);
+                    if (value != null) {
+                        builder._temporalResolution_(value);
+                    }
+                    break;
+                }
+                case IDS + "theme": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._theme_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                case IDS + "variant": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._variant_(value);
+                    }
+                    break;
+                }
+                case IDS + "version": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._version_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readDeleteAfterIntervalAgreement(URI id, Node node, RdfReader in) throws IOException {
+        DeleteAfterIntervalAgreementBuilder builder = id != null
+            ? new DeleteAfterIntervalAgreementBuilder(id)
+            : new DeleteAfterIntervalAgreementBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readDeleteAfterIntervalOffer(URI id, Node node, RdfReader in) throws IOException {
+        DeleteAfterIntervalOfferBuilder builder = id != null
+            ? new DeleteAfterIntervalOfferBuilder(id)
+            : new DeleteAfterIntervalOfferBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readDeleteAfterIntervalRequest(URI id, Node node, RdfReader in) throws IOException {
+        DeleteAfterIntervalRequestBuilder builder = id != null
+            ? new DeleteAfterIntervalRequestBuilder(id)
+            : new DeleteAfterIntervalRequestBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readDescriptionRequestMessage(URI id, Node node, RdfReader in) throws IOException {
+        DescriptionRequestMessageBuilder builder = id != null
+            ? new DescriptionRequestMessageBuilder(id)
+            : new DescriptionRequestMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "requestedElement": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._requestedElement_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readDescriptionResponseMessage(URI id, Node node, RdfReader in) throws IOException {
+        DescriptionResponseMessageBuilder builder = id != null
+            ? new DescriptionResponseMessageBuilder(id)
+            : new DescriptionResponseMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readDistributeEcryptedAgreement(URI id, Node node, RdfReader in) throws IOException {
+        DistributeEcryptedAgreementBuilder builder = id != null
+            ? new DistributeEcryptedAgreementBuilder(id)
+            : new DistributeEcryptedAgreementBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readDistributeEcryptedOffer(URI id, Node node, RdfReader in) throws IOException {
+        DistributeEcryptedOfferBuilder builder = id != null
+            ? new DistributeEcryptedOfferBuilder(id)
+            : new DistributeEcryptedOfferBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readDistributeEcryptedRequest(URI id, Node node, RdfReader in) throws IOException {
+        DistributeEcryptedRequestBuilder builder = id != null
+            ? new DistributeEcryptedRequestBuilder(id)
+            : new DistributeEcryptedRequestBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readDurationAgreement(URI id, Node node, RdfReader in) throws IOException {
+        DurationAgreementBuilder builder = id != null
+            ? new DurationAgreementBuilder(id)
+            : new DurationAgreementBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readDurationEntity(URI id, Node node, RdfReader in) throws IOException {
+        DurationEntityBuilder builder = id != null
+            ? new DurationEntityBuilder(id)
+            : new DurationEntityBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "hasDuration": {
+                    javax.xml.datatype.Duration value = in.value(object, javax.xml.datatype.Duration.class);
+                    if (value != null) {
+                        builder._hasDuration_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readDurationOffer(URI id, Node node, RdfReader in) throws IOException {
+        DurationOfferBuilder builder = id != null
+            ? new DurationOfferBuilder(id)
+            : new DurationOfferBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readDurationRequest(URI id, Node node, RdfReader in) throws IOException {
+        DurationRequestBuilder builder = id != null
+            ? new DurationRequestBuilder(id)
+            : new DurationRequestBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readDuty(URI id, Node node, RdfReader in) throws IOException {
+        DutyBuilder builder = id != null
+            ? new DutyBuilder(id)
+            : new DutyBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "action": {
+                    Action value = in.value(object, Action.class);
+                    if (value != null) {
+                        builder._action_(value);
+                    }
+                    break;
+                }
+                case IDS + "assetRefinement": {
+                    AbstractConstraint value = in.value(object, AbstractConstraint.class);
+                    if (value != null) {
+                        builder._assetRefinement_(value);
+                    }
+                    break;
+                }
+                case IDS + "assignee": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._assignee_(value);
+                    }
+                    break;
+                }
+                case IDS + "assigner": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._assigner_(value);
+                    }
+                    break;
+                }
+                case IDS + "constraint": {
+                    AbstractConstraint value = in.value(object, AbstractConstraint.class);
+                    if (value != null) {
+                        builder._constraint_(value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "target": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._target_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readDynamicAttributeToken(URI id, Node node, RdfReader in) throws IOException {
+        DynamicAttributeTokenBuilder builder = id != null
+            ? new DynamicAttributeTokenBuilder(id)
+            : new DynamicAttributeTokenBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "tokenFormat": {
+                    TokenFormat value = in.value(object, TokenFormat.class);
+                    if (value != null) {
+                        builder._tokenFormat_(value);
+                    }
+                    break;
+                }
+                case IDS + "tokenValue": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._tokenValue_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readEndpoint(URI id, Node node, RdfReader in) throws IOException {
+        EndpointBuilder builder = id != null
+            ? new EndpointBuilder(id)
+            : new EndpointBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "accessURL": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._accessURL_(value);
+                    }
+                    break;
+                }
+                case IDS + "apiSpecifiation": {
+                    IdsProtocolSpecification value = in.value(object, IdsProtocolSpecification.class);
+                    if (value != null) {
+                        builder._apiSpecifiation_(value);
+                    }
+                    break;
+                }
+                case IDS + "endpointDocumentation": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._endpointDocumentation_(value);
+                    }
+                    break;
+                }
+                case IDS + "endpointInformation": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._endpointInformation_(value);
+                    }
+                    break;
+                }
+                case IDS + "inboundPath": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._inboundPath_(value);
+                    }
+                    break;
+                }
+                case IDS + "outboundPath": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._outboundPath_(value);
+                    }
+                    break;
+                }
+                case IDS + "path": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._path_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readEvaluationFacility(URI id, Node node, RdfReader in) throws IOException {
+        EvaluationFacilityBuilder builder = id != null
+            ? new EvaluationFacilityBuilder(id)
+            : new EvaluationFacilityBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readEventAgreement(URI id, Node node, RdfReader in) throws IOException {
+        EventAgreementBuilder builder = id != null
+            ? new EventAgreementBuilder(id)
+            : new EventAgreementBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readEvent(URI id, Node node, RdfReader in) throws IOException {
+        EventBuilder builder = id != null
+            ? new EventBuilder(id)
+            : new EventBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readEventOffer(URI id, Node node, RdfReader in) throws IOException {
+        EventOfferBuilder builder = id != null
+            ? new EventOfferBuilder(id)
+            : new EventOfferBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readEventRequest(URI id, Node node, RdfReader in) throws IOException {
+        EventRequestBuilder builder = id != null
+            ? new EventRequestBuilder(id)
+            : new EventRequestBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readFrequency(URI id, Node node, RdfReader in) throws IOException {
+        FrequencyBuilder builder = id != null
+            ? new FrequencyBuilder(id)
+            : new FrequencyBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readGenericEndpoint(URI id, Node node, RdfReader in) throws IOException {
+        GenericEndpointBuilder builder = id != null
+            ? new GenericEndpointBuilder(id)
+            : new GenericEndpointBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "accessURL": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._accessURL_(value);
+                    }
+                    break;
+                }
+                case IDS + "apiSpecifiation": {
+                    IdsProtocolSpecification value = in.value(object, IdsProtocolSpecification.class);
+                    if (value != null) {
+                        builder._apiSpecifiation_(value);
+                    }
+                    break;
+                }
+                case IDS + "endpointDocumentation": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._endpointDocumentation_(value);
+                    }
+                    break;
+                }
+                case IDS + "endpointInformation": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._endpointInformation_(value);
+                    }
+                    break;
+                }
+                case IDS + "genericEndpointAuthentication": {
+                    BasicAuthentication value = in.value(object, BasicAuthentication.class);
+                    if (value != null) {
+                        builder._genericEndpointAuthentication_(value);
+                    }
+                    break;
+                }
+                case IDS + "genericEndpointConfiguration": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._genericEndpointConfiguration_(value);
+                    }
+                    break;
+                }
+                case IDS + "inboundPath": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._inboundPath_(value);
+                    }
+                    break;
+                }
+                case IDS + "outboundPath": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._outboundPath_(value);
+                    }
+                    break;
+                }
+                case IDS + "path": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._path_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readGeoFeature(URI id, Node node, RdfReader in) throws IOException {
+        GeoFeatureBuilder builder = id != null
+            ? new GeoFeatureBuilder(id)
+            : new GeoFeatureBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readGeoPoint(URI id, Node node, RdfReader in) throws IOException {
+        GeoPointBuilder builder = id != null
+            ? new GeoPointBuilder(id)
+            : new GeoPointBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "latitude": {
+                    Float value = in.value(object, Float.class);
+                    if (value != null) {
+                        builder._latitude_(value);
+                    }
+                    break;
+                }
+                case IDS + "longitude": {
+                    Float value = in.value(object, Float.class);
+                    if (value != null) {
+                        builder._longitude_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readHTTPAuthentication(URI id, Node node, RdfReader in) throws IOException {
+        HTTPAuthenticationBuilder builder = id != null
+            ? new HTTPAuthenticationBuilder(id)
+            : new HTTPAuthenticationBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authPassword": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._authPassword_(value);
+                    }
+                    break;
+                }
+                case IDS + "authUsername": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._authUsername_(value);
+                    }
+                    break;
+                }
+                case IDS + "httpAuthURI": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._httpAuthURI_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readIANAMediaType(URI id, Node node, RdfReader in) throws IOException {
+        IANAMediaTypeBuilder builder = id != null
+            ? new IANAMediaTypeBuilder(id)
+            : new IANAMediaTypeBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "filenameExtension": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._filenameExtension_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readIdentityProvider(URI id, Node node, RdfReader in) throws IOException {
+        IdentityProviderBuilder builder = id != null
+            ? new IdentityProviderBuilder(id)
+            : new IdentityProviderBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "componentCertification": {
+                    ComponentCertification value = in.value(object, ComponentCertification.class);
+                    if (value != null) {
+                        builder._componentCertification_(value);
+                    }
+                    break;
+                }
+                case IDS + "curator": {
+                    Object value = in.objectOrUri(object, Participant.class);
+                    if (value instanceof URI) {
+                        builder._curatorAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._curatorAsObject_((Participant) value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "inboundModelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._inboundModelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "maintainer": {
+                    Object value = in.objectOrUri(object, Participant.class);
+                    if (value instanceof URI) {
+                        builder._maintainerAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._maintainerAsObject_((Participant) value);
+                    }
+                    break;
+                }
+                case IDS + "outboundModelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._outboundModelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "physicalLocation": {
+                    Location value = in.value(object, Location.class);
+                    if (value != null) {
+                        builder._physicalLocation_(value);
+                    }
+                    break;
+                }
+                case IDS + "publicKey": {
+                    PublicKey value = in.value(object, PublicKey.class);
+                    if (value != null) {
+                        builder._publicKey_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                case IDS + "version": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._version_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readIdsProtocolSpecification(URI id, Node node, RdfReader in) throws IOException {
+        IdsProtocolSpecificationBuilder builder = id != null
+            ? new IdsProtocolSpecificationBuilder(id)
+            : new IdsProtocolSpecificationBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readImageRepresentation(URI id, Node node, RdfReader in) throws IOException {
+        ImageRepresentationBuilder builder = id != null
+            ? new ImageRepresentationBuilder(id)
+            : new ImageRepresentationBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "created": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._created_(value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "height": {
+                    java.math.BigDecimal value = in.value(object, java.math.BigDecimal.class);
+                    if (value != null) {
+                        builder._height_(value);
+                    }
+                    break;
+                }
+                case IDS + "instance": {
+                    RepresentationInstance value = in.value(object, RepresentationInstance.class);
+                    if (value != null) {
+                        builder._instance_(value);
+                    }
+                    break;
+                }
+                case IDS + "language": {
+                    Language value = in.value(object, Language.class);
+                    if (value != null) {
+                        builder._language_(value);
+                    }
+                    break;
+                }
+                case IDS + "mediaType": {
+                    MediaType value = in.value(object, MediaType.class);
+                    if (value != null) {
+                        builder._mediaType_(value);
+                    }
+                    break;
+                }
+                case IDS + "modified": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._modified_(value);
+                    }
+                    break;
+                }
+                case IDS + "representationStandard": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._representationStandard_(value);
+                    }
+                    break;
+                }
+                case IDS + "shapesGraph": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._shapesGraph_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                case IDS + "width": {
+                    java.math.BigDecimal value = in.value(object, java.math.BigDecimal.class);
+                    if (value != null) {
+                        builder._width_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readImageResource(URI id, Node node, RdfReader in) throws IOException {
+        ImageResourceBuilder builder = id != null
+            ? new ImageResourceBuilder(id)
+            : new ImageResourceBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "accrualPeriodicity": {
+                    Frequency value = in.value(object, Frequency.class);
+                    if (value != null) {
+                        builder._accrualPeriodicity_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentPart": {
+                    DigitalContent value = in.value(object, DigitalContent.class);
+                    if (value != null) {
+                        builder._contentPart_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentStandard": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._contentStandard_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentType": {
+                    ContentType value = in.value(object, ContentType.class);
+                    if (value != null) {
+                        builder._contentType_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractOffer": {
+                    ContractOffer value = in.value(object, ContractOffer.class);
+                    if (value != null) {
+                        builder._contractOffer_(value);
+                    }
+                    break;
+                }
+                case IDS + "created": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._created_(value);
+                    }
+                    break;
+                }
+                case IDS + "customLicense": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._customLicense_(value);
+                    }
+                    break;
+                }
+                case IDS + "defaultRepresentation": {
+                    Representation value = in.value(object, Representation.class);
+                    if (value != null) {
+                        builder._defaultRepresentation_(value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "keyword": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._keyword_(value);
+                    }
+                    break;
+                }
+                case IDS + "language": {
+                    Language value = in.value(object, Language.class);
+                    if (value != null) {
+                        builder._language_(value);
+                    }
+                    break;
+                }
+                case IDS + "modified": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._modified_(value);
+                    }
+                    break;
+                }
+                case IDS + "paymentModality": {
+                    PaymentModality value = in.value(object, PaymentModality.class);
+                    if (value != null) {
+                        builder._paymentModality_(value);
+                    }
+                    break;
+                }
+                case IDS + "publisher": {
+                    Object value = in.objectOrUri(object, Agent.class);
+                    if (value instanceof URI) {
+                        builder._publisherAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._publisherAsObject_((Agent) value);
+                    }
+                    break;
+                }
+                case IDS + "representation": {
+                    Representation value = in.value(object, Representation.class);
+                    if (value != null) {
+                        builder._representation_(value);
+                    }
+                    break;
+                }
+                case IDS + "resourceEndpoint": {
+                    ConnectorEndpoint value = in.value(object, ConnectorEndpoint.class);
+                    if (value != null) {
+                        builder._resourceEndpoint_(value);
+                    }
+                    break;
+                }
+                case IDS + "resourcePart": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._resourcePart_(value);
+                    }
+                    break;
+                }
+                case IDS + "sample": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._sample_(value);
+                    }
+                    break;
+                }
+                case IDS + "shapesGraph": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._shapesGraph_(value);
+                    }
+                    break;
+                }
+                case IDS + "sovereign": {
+                    Object value = in.objectOrUri(object, Agent.class);
+                    if (value instanceof URI) {
+                        builder._sovereignAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._sovereignAsObject_((Agent) value);
+                    }
+                    break;
+                }
+                case IDS + "spatialCoverage": {
+                    Location value = in.value(object, Location.class);
+                    if (value != null) {
+                        builder._spatialCoverage_(value);
+                    }
+                    break;
+                }
+                case IDS + "standardLicense": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._standardLicense_(value);
+                    }
+                    break;
+                }
+                case IDS + "temporalCoverage": {
+                    TemporalEntity value = in.value(object, TemporalEntity.class);
+                    if (value != null) {
+                        builder._temporalCoverage_(value);
+                    }
+                    break;
+                }
+                case IDS + "temporalResolution": {
+                    Frequency value = in.value(object, Frequency.class);
+                    if (value != null) {
+                        builder._temporalResolution_(value);
+                    }
+                    break;
+                }
+                case IDS + "theme": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._theme_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                case IDS + "variant": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._variant_(value);
+                    }
+                    break;
+                }
+                case IDS + "version": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._version_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readInfrastructureComponent(URI id, Node node, RdfReader in) throws IOException {
+        InfrastructureComponentBuilder builder = id != null
+            ? new InfrastructureComponentBuilder(id)
+            : new InfrastructureComponentBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "componentCertification": {
+                    ComponentCertification value = in.value(object, ComponentCertification.class);
+                    if (value != null) {
+                        builder._componentCertification_(value);
+                    }
+                    break;
+                }
+                case IDS + "curator": {
+                    Object value = in.objectOrUri(object, Participant.class);
+                    if (value instanceof URI) {
+                        builder._curatorAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._curatorAsObject_((Participant) value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "inboundModelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._inboundModelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "maintainer": {
+                    Object value = in.objectOrUri(object, Participant.class);
+                    if (value instanceof URI) {
+                        builder._maintainerAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._maintainerAsObject_((Participant) value);
+                    }
+                    break;
+                }
+                case IDS + "outboundModelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._outboundModelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "physicalLocation": {
+                    Location value = in.value(object, Location.class);
+                    if (value != null) {
+                        builder._physicalLocation_(value);
+                    }
+                    break;
+                }
+                case IDS + "publicKey": {
+                    PublicKey value = in.value(object, PublicKey.class);
+                    if (value != null) {
+                        builder._publicKey_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                case IDS + "version": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._version_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readInstant(URI id, Node node, RdfReader in) throws IOException {
+        InstantBuilder builder = id != null
+            ? new InstantBuilder(id)
+            : new InstantBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "dateTime": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._dateTime_(value);
+                    }
+                    break;
+                }
+                case IDS + "hasDuration": {
+                    javax.xml.datatype.Duration value = in.value(object, javax.xml.datatype.Duration.class);
+                    if (value != null) {
+                        builder._hasDuration_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readIntegrityGuarantee(URI id, Node node, RdfReader in) throws IOException {
+        IntegrityGuaranteeBuilder builder = id != null
+            ? new IntegrityGuaranteeBuilder(id)
+            : new IntegrityGuaranteeBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readIntegrityVerificationScopeGuarantee(URI id, Node node, RdfReader in) throws IOException {
+        IntegrityVerificationScopeGuaranteeBuilder builder = id != null
+            ? new IntegrityVerificationScopeGuaranteeBuilder(id)
+            : new IntegrityVerificationScopeGuaranteeBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readInterval(URI id, Node node, RdfReader in) throws IOException {
+        IntervalBuilder builder = id != null
+            ? new IntervalBuilder(id)
+            : new IntervalBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "begin": {
+                    Instant value = in.value(object, Instant.class);
+                    if (value != null) {
+                        builder._begin_(value);
+                    }
+                    break;
+                }
+                case IDS + "end": {
+                    Instant value = in.value(object, Instant.class);
+                    if (value != null) {
+                        builder._end_(value);
+                    }
+                    break;
+                }
+                case IDS + "hasDuration": {
+                    javax.xml.datatype.Duration value = in.value(object, javax.xml.datatype.Duration.class);
+                    if (value != null) {
+                        builder._hasDuration_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readIntervalUsageAgreement(URI id, Node node, RdfReader in) throws IOException {
+        IntervalUsageAgreementBuilder builder = id != null
+            ? new IntervalUsageAgreementBuilder(id)
+            : new IntervalUsageAgreementBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readIntervalUsageOffer(URI id, Node node, RdfReader in) throws IOException {
+        IntervalUsageOfferBuilder builder = id != null
+            ? new IntervalUsageOfferBuilder(id)
+            : new IntervalUsageOfferBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readIntervalUsageRequest(URI id, Node node, RdfReader in) throws IOException {
+        IntervalUsageRequestBuilder builder = id != null
+            ? new IntervalUsageRequestBuilder(id)
+            : new IntervalUsageRequestBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readInvokeOperationMessage(URI id, Node node, RdfReader in) throws IOException {
+        InvokeOperationMessageBuilder builder = id != null
+            ? new InvokeOperationMessageBuilder(id)
+            : new InvokeOperationMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "operationReference": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._operationReference_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readKeyType(URI id, Node node, RdfReader in) throws IOException {
+        KeyTypeBuilder builder = id != null
+            ? new KeyTypeBuilder(id)
+            : new KeyTypeBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readLanguage(URI id, Node node, RdfReader in) throws IOException {
+        LanguageBuilder builder = id != null
+            ? new LanguageBuilder(id)
+            : new LanguageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readLeftOperand(URI id, Node node, RdfReader in) throws IOException {
+        LeftOperandBuilder builder = id != null
+            ? new LeftOperandBuilder(id)
+            : new LeftOperandBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "broader": {
+                    LeftOperand value = in.value(object, LeftOperand.class);
+                    if (value != null) {
+                        builder._broader_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readLicense(URI id, Node node, RdfReader in) throws IOException {
+        LicenseBuilder builder = id != null
+            ? new LicenseBuilder(id)
+            : new LicenseBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readLocalDataConfidentialityGuarantee(URI id, Node node, RdfReader in) throws IOException {
+        LocalDataConfidentialityGuaranteeBuilder builder = id != null
+            ? new LocalDataConfidentialityGuaranteeBuilder(id)
+            : new LocalDataConfidentialityGuaranteeBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readLogLevel(URI id, Node node, RdfReader in) throws IOException {
+        LogLevelBuilder builder = id != null
+            ? new LogLevelBuilder(id)
+            : new LogLevelBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readLogMessage(URI id, Node node, RdfReader in) throws IOException {
+        LogMessageBuilder builder = id != null
+            ? new LogMessageBuilder(id)
+            : new LogMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readLoggingAgreement(URI id, Node node, RdfReader in) throws IOException {
+        LoggingAgreementBuilder builder = id != null
+            ? new LoggingAgreementBuilder(id)
+            : new LoggingAgreementBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readLoggingOffer(URI id, Node node, RdfReader in) throws IOException {
+        LoggingOfferBuilder builder = id != null
+            ? new LoggingOfferBuilder(id)
+            : new LoggingOfferBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readLoggingRequest(URI id, Node node, RdfReader in) throws IOException {
+        LoggingRequestBuilder builder = id != null
+            ? new LoggingRequestBuilder(id)
+            : new LoggingRequestBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readLogicalConstraint(URI id, Node node, RdfReader in) throws IOException {
+        LogicalConstraintBuilder builder = id != null
+            ? new LogicalConstraintBuilder(id)
+            : new LogicalConstraintBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "and": {
+                    Constraint value = in.value(object, Constraint.class);
+                    if (value != null) {
+                        builder._and_(value);
+                    }
+                    break;
+                }
+                case IDS + "or": {
+                    Constraint value = in.value(object, Constraint.class);
+                    if (value != null) {
+                        builder._or_(value);
+                    }
+                    break;
+                }
+                case IDS + "xone": {
+                    Constraint value = in.value(object, Constraint.class);
+                    if (value != null) {
+                        builder._xone_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readMessageProcessedNotificationMessage(URI id, Node node, RdfReader in) throws IOException {
+        MessageProcessedNotificationMessageBuilder builder = id != null
+            ? new MessageProcessedNotificationMessageBuilder(id)
+            : new MessageProcessedNotificationMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readNamed(URI id, Node node, RdfReader in) throws IOException {
+        NamedBuilder builder = id != null
+            ? new NamedBuilder(id)
+            : new NamedBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "name": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._name_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readNotMoreThanNAgreement(URI id, Node node, RdfReader in) throws IOException {
+        NotMoreThanNAgreementBuilder builder = id != null
+            ? new NotMoreThanNAgreementBuilder(id)
+            : new NotMoreThanNAgreementBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readNotMoreThanNOffer(URI id, Node node, RdfReader in) throws IOException {
+        NotMoreThanNOfferBuilder builder = id != null
+            ? new NotMoreThanNOfferBuilder(id)
+            : new NotMoreThanNOfferBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readNotMoreThanNRequest(URI id, Node node, RdfReader in) throws IOException {
+        NotMoreThanNRequestBuilder builder = id != null
+            ? new NotMoreThanNRequestBuilder(id)
+            : new NotMoreThanNRequestBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readNotificationAgreement(URI id, Node node, RdfReader in) throws IOException {
+        NotificationAgreementBuilder builder = id != null
+            ? new NotificationAgreementBuilder(id)
+            : new NotificationAgreementBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readNotificationMessage(URI id, Node node, RdfReader in) throws IOException {
+        NotificationMessageBuilder builder = id != null
+            ? new NotificationMessageBuilder(id)
+            : new NotificationMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readNotificationOffer(URI id, Node node, RdfReader in) throws IOException {
+        NotificationOfferBuilder builder = id != null
+            ? new NotificationOfferBuilder(id)
+            : new NotificationOfferBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readNotificationRequest(URI id, Node node, RdfReader in) throws IOException {
+        NotificationRequestBuilder builder = id != null
+            ? new NotificationRequestBuilder(id)
+            : new NotificationRequestBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readOperationResultMessage(URI id, Node node, RdfReader in) throws IOException {
+        OperationResultMessageBuilder builder = id != null
+            ? new OperationResultMessageBuilder(id)
+            : new OperationResultMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readOrchestrationApp(URI id, Node node, RdfReader in) throws IOException {
+        OrchestrationAppBuilder builder = id != null
+            ? new OrchestrationAppBuilder(id)
+            : new OrchestrationAppBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "appDocumentation": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._appDocumentation_(value);
+                    }
+                    break;
+                }
+                case IDS + "appEndpoint": {
+                    AppEndpoint value = in.value(object, AppEndpoint.class);
+                    if (value != null) {
+                        builder._appEndpoint_(value);
+                    }
+                    break;
+                }
+                case IDS + "appEnvironmentVariables": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._appEnvironmentVariables_(value);
+                    }
+                    break;
+                }
+                case IDS + "appStorageConfiguration": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._appStorageConfiguration_(value);
+                    }
+                    break;
+                }
+                case IDS + "supportedUsagePolicies": {
+                    UsagePolicyClass value = in.value(object, UsagePolicyClass.class);
+                    if (value != null) {
+                        builder._supportedUsagePolicies_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readPIP(URI id, Node node, RdfReader in) throws IOException {
+        PIPBuilder builder = id != null
+            ? new PIPBuilder(id)
+            : new PIPBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "endpointURI": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._endpointURI_(value);
+                    }
+                    break;
+                }
+                case IDS + "interfaceDescription": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._interfaceDescription_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readPXP(URI id, Node node, RdfReader in) throws IOException {
+        PXPBuilder builder = id != null
+            ? new PXPBuilder(id)
+            : new PXPBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "endpointURI": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._endpointURI_(value);
+                    }
+                    break;
+                }
+                case IDS + "interfaceDescription": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._interfaceDescription_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readParIS(URI id, Node node, RdfReader in) throws IOException {
+        ParISBuilder builder = id != null
+            ? new ParISBuilder(id)
+            : new ParISBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authInfo": {
+                    AuthInfo value = in.value(object, AuthInfo.class);
+                    if (value != null) {
+                        builder._authInfo_(value);
+                    }
+                    break;
+                }
+                case IDS + "componentCertification": {
+                    ComponentCertification value = in.value(object, ComponentCertification.class);
+                    if (value != null) {
+                        builder._componentCertification_(value);
+                    }
+                    break;
+                }
+                case IDS + "curator": {
+                    Object value = in.objectOrUri(object, Participant.class);
+                    if (value instanceof URI) {
+                        builder._curatorAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._curatorAsObject_((Participant) value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "extendedGuarantee": {
+                    SecurityGuarantee value = in.value(object, SecurityGuarantee.class);
+                    if (value != null) {
+                        builder._extendedGuarantee_(value);
+                    }
+                    break;
+                }
+                case IDS + "hasAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._hasAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "hasDefaultEndpoint": {
+                    ConnectorEndpoint value = in.value(object, ConnectorEndpoint.class);
+                    if (value != null) {
+                        builder._hasDefaultEndpoint_(value);
+                    }
+                    break;
+                }
+                case IDS + "hasEndpoint": {
+                    ConnectorEndpoint value = in.value(object, ConnectorEndpoint.class);
+                    if (value != null) {
+                        builder._hasEndpoint_(value);
+                    }
+                    break;
+                }
+                case IDS + "inboundModelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._inboundModelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "maintainer": {
+                    Object value = in.objectOrUri(object, Participant.class);
+                    if (value instanceof URI) {
+                        builder._maintainerAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._maintainerAsObject_((Participant) value);
+                    }
+                    break;
+                }
+                case IDS + "outboundModelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._outboundModelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "participantCatalog": {
+                    ParticipantCatalog value = in.value(object, ParticipantCatalog.class);
+                    if (value != null) {
+                        builder._participantCatalog_(value);
+                    }
+                    break;
+                }
+                case IDS + "physicalLocation": {
+                    Location value = in.value(object, Location.class);
+                    if (value != null) {
+                        builder._physicalLocation_(value);
+                    }
+                    break;
+                }
+                case IDS + "publicKey": {
+                    PublicKey value = in.value(object, PublicKey.class);
+                    if (value != null) {
+                        builder._publicKey_(value);
+                    }
+                    break;
+                }
+                case IDS + "resourceCatalog": {
+                    ResourceCatalog value = in.value(object, ResourceCatalog.class);
+                    if (value != null) {
+                        builder._resourceCatalog_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityProfile": {
+                    SecurityProfile value = in.value(object, SecurityProfile.class);
+                    if (value != null) {
+                        builder._securityProfile_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                case IDS + "version": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._version_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readParticipantCatalog(URI id, Node node, RdfReader in) throws IOException {
+        ParticipantCatalogBuilder builder = id != null
+            ? new ParticipantCatalogBuilder(id)
+            : new ParticipantCatalogBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "member": {
+                    Object value = in.objectOrUri(object, Participant.class);
+                    if (value instanceof URI) {
+                        builder._memberAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._memberAsObject_((Participant) value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readParticipantCertificateGrantedMessage(URI id, Node node, RdfReader in) throws IOException {
+        ParticipantCertificateGrantedMessageBuilder builder = id != null
+            ? new ParticipantCertificateGrantedMessageBuilder(id)
+            : new ParticipantCertificateGrantedMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "affectedParticipant": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._affectedParticipant_(value);
+                    }
+                    break;
+                }
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readParticipantCertificateRevokedMessage(URI id, Node node, RdfReader in) throws IOException {
+        ParticipantCertificateRevokedMessageBuilder builder = id != null
+            ? new ParticipantCertificateRevokedMessageBuilder(id)
+            : new ParticipantCertificateRevokedMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "affectedParticipant": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._affectedParticipant_(value);
+                    }
+                    break;
+                }
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "revocationReason": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._revocationReason_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readParticipantCertification(URI id, Node node, RdfReader in) throws IOException {
+        ParticipantCertificationBuilder builder = id != null
+            ? new ParticipantCertificationBuilder(id)
+            : new ParticipantCertificationBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "certificationLevel": {
+                    CertificationLevel value = in.value(object, CertificationLevel.class);
+                    if (value != null) {
+                        builder._certificationLevel_(value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "evaluationFacility": {
+                    EvaluationFacility value = in.value(object, EvaluationFacility.class);
+                    if (value != null) {
+                        builder._evaluationFacility_(value);
+                    }
+                    break;
+                }
+                case IDS + "lastValidDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._lastValidDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "membershipEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._membershipEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                case IDS + "version": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._version_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readParticipantCertificationLevel(URI id, Node node, RdfReader in) throws IOException {
+        ParticipantCertificationLevelBuilder builder = id != null
+            ? new ParticipantCertificationLevelBuilder(id)
+            : new ParticipantCertificationLevelBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "includedCertificationLevel": {
+                    CertificationLevel value = in.value(object, CertificationLevel.class);
+                    if (value != null) {
+                        builder._includedCertificationLevel_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readParticipant(URI id, Node node, RdfReader in) throws IOException {
+        ParticipantBuilder builder = id != null
+            ? new ParticipantBuilder(id)
+            : new ParticipantBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "businessIdentifier": {
+                    BusinessIdentifier value = in.value(object, BusinessIdentifier.class);
+                    if (value != null) {
+                        builder._businessIdentifier_(value);
+                    }
+                    break;
+                }
+                case IDS + "corporateEmailAddress": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._corporateEmailAddress_(value);
+                    }
+                    break;
+                }
+                case IDS + "corporateHomepage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._corporateHomepage_(value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "jurisdiction": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._jurisdiction_(value);
+                    }
+                    break;
+                }
+                case IDS + "legalForm": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._legalForm_(value);
+                    }
+                    break;
+                }
+                case IDS + "legalName": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._legalName_(value);
+                    }
+                    break;
+                }
+                case IDS + "memberParticipant": {
+                    Participant value = in.value(object, Participant.class);
+                    if (value != null) {
+                        builder._memberParticipant_(value);
+                    }
+                    break;
+                }
+                case IDS + "memberPerson": {
+                    Person value = in.value(object, Person.class);
+                    if (value != null) {
+                        builder._memberPerson_(value);
+                    }
+                    break;
+                }
+                case IDS + "participantCertification": {
+                    ParticipantCertification value = in.value(object, ParticipantCertification.class);
+                    if (value != null) {
+                        builder._participantCertification_(value);
+                    }
+                    break;
+                }
+                case IDS + "participantRefinement": {
+                    AbstractConstraint value = in.value(object, AbstractConstraint.class);
+                    if (value != null) {
+                        builder._participantRefinement_(value);
+                    }
+                    break;
+                }
+                case IDS + "primarySite": {
+                    Site value = in.value(object, Site.class);
+                    if (value != null) {
+                        builder._primarySite_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                case IDS + "vatID": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._vatID_(value);
+                    }
+                    break;
+                }
+                case IDS + "version": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._version_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readParticipantRequestMessage(URI id, Node node, RdfReader in) throws IOException {
+        ParticipantRequestMessageBuilder builder = id != null
+            ? new ParticipantRequestMessageBuilder(id)
+            : new ParticipantRequestMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "requestedParticipant": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._requestedParticipant_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readParticipantResponseMessage(URI id, Node node, RdfReader in) throws IOException {
+        ParticipantResponseMessageBuilder builder = id != null
+            ? new ParticipantResponseMessageBuilder(id)
+            : new ParticipantResponseMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readParticipantUnavailableMessage(URI id, Node node, RdfReader in) throws IOException {
+        ParticipantUnavailableMessageBuilder builder = id != null
+            ? new ParticipantUnavailableMessageBuilder(id)
+            : new ParticipantUnavailableMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "affectedParticipant": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._affectedParticipant_(value);
+                    }
+                    break;
+                }
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readParticipantUpdateMessage(URI id, Node node, RdfReader in) throws IOException {
+        ParticipantUpdateMessageBuilder builder = id != null
+            ? new ParticipantUpdateMessageBuilder(id)
+            : new ParticipantUpdateMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "affectedParticipant": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._affectedParticipant_(value);
+                    }
+                    break;
+                }
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readPaymentModality(URI id, Node node, RdfReader in) throws IOException {
+        PaymentModalityBuilder builder = id != null
+            ? new PaymentModalityBuilder(id)
+            : new PaymentModalityBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readPermission(URI id, Node node, RdfReader in) throws IOException {
+        PermissionBuilder builder = id != null
+            ? new PermissionBuilder(id)
+            : new PermissionBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "action": {
+                    Action value = in.value(object, Action.class);
+                    if (value != null) {
+                        builder._action_(value);
+                    }
+                    break;
+                }
+                case IDS + "assetRefinement": {
+                    AbstractConstraint value = in.value(object, AbstractConstraint.class);
+                    if (value != null) {
+                        builder._assetRefinement_(value);
+                    }
+                    break;
+                }
+                case IDS + "assignee": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._assignee_(value);
+                    }
+                    break;
+                }
+                case IDS + "assigner": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._assigner_(value);
+                    }
+                    break;
+                }
+                case IDS + "constraint": {
+                    AbstractConstraint value = in.value(object, AbstractConstraint.class);
+                    if (value != null) {
+                        builder._constraint_(value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "postDuty": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._postDuty_(value);
+                    }
+                    break;
+                }
+                case IDS + "preDuty": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._preDuty_(value);
+                    }
+                    break;
+                }
+                case IDS + "target": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._target_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readPerson(URI id, Node node, RdfReader in) throws IOException {
+        PersonBuilder builder = id != null
+            ? new PersonBuilder(id)
+            : new PersonBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "emailAddress": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._emailAddress_(value);
+                    }
+                    break;
+                }
+                case IDS + "familyName": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._familyName_(value);
+                    }
+                    break;
+                }
+                case IDS + "givenName": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._givenName_(value);
+                    }
+                    break;
+                }
+                case IDS + "homepage": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._homepage_(value);
+                    }
+                    break;
+                }
+                case IDS + "phoneNumber": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._phoneNumber_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readProhibition(URI id, Node node, RdfReader in) throws IOException {
+        ProhibitionBuilder builder = id != null
+            ? new ProhibitionBuilder(id)
+            : new ProhibitionBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "action": {
+                    Action value = in.value(object, Action.class);
+                    if (value != null) {
+                        builder._action_(value);
+                    }
+                    break;
+                }
+                case IDS + "assetRefinement": {
+                    AbstractConstraint value = in.value(object, AbstractConstraint.class);
+                    if (value != null) {
+                        builder._assetRefinement_(value);
+                    }
+                    break;
+                }
+                case IDS + "assignee": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._assignee_(value);
+                    }
+                    break;
+                }
+                case IDS + "assigner": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._assigner_(value);
+                    }
+                    break;
+                }
+                case IDS + "constraint": {
+                    AbstractConstraint value = in.value(object, AbstractConstraint.class);
+                    if (value != null) {
+                        builder._constraint_(value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "target": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._target_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readProxy(URI id, Node node, RdfReader in) throws IOException {
+        ProxyBuilder builder = id != null
+            ? new ProxyBuilder(id)
+            : new ProxyBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "noProxy": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._noProxy_(value);
+                    }
+                    break;
+                }
+                case IDS + "proxyAuthentication": {
+                    BasicAuthentication value = in.value(object, BasicAuthentication.class);
+                    if (value != null) {
+                        builder._proxyAuthentication_(value);
+                    }
+                    break;
+                }
+                case IDS + "proxyURI": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._proxyURI_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readPublicKey(URI id, Node node, RdfReader in) throws IOException {
+        PublicKeyBuilder builder = id != null
+            ? new PublicKeyBuilder(id)
+            : new PublicKeyBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "keyType": {
+                    KeyType value = in.value(object, KeyType.class);
+                    if (value != null) {
+                        builder._keyType_(value);
+                    }
+                    break;
+                }
+                case IDS + "keyValue": {
+                    byte[] value = in.value(object, byte[].class);
+                    if (value != null) {
+                        builder._keyValue_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readPurposeAgreement(URI id, Node node, RdfReader in) throws IOException {
+        PurposeAgreementBuilder builder = id != null
+            ? new PurposeAgreementBuilder(id)
+            : new PurposeAgreementBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readPurposeOffer(URI id, Node node, RdfReader in) throws IOException {
+        PurposeOfferBuilder builder = id != null
+            ? new PurposeOfferBuilder(id)
+            : new PurposeOfferBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readPurposeRequest(URI id, Node node, RdfReader in) throws IOException {
+        PurposeRequestBuilder builder = id != null
+            ? new PurposeRequestBuilder(id)
+            : new PurposeRequestBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readQueryLanguage(URI id, Node node, RdfReader in) throws IOException {
+        QueryLanguageBuilder builder = id != null
+            ? new QueryLanguageBuilder(id)
+            : new QueryLanguageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readQueryMessage(URI id, Node node, RdfReader in) throws IOException {
+        QueryMessageBuilder builder = id != null
+            ? new QueryMessageBuilder(id)
+            : new QueryMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "queryLanguage": {
+                    QueryLanguage value = in.value(object, QueryLanguage.class);
+                    if (value != null) {
+                        builder._queryLanguage_(value);
+                    }
+                    break;
+                }
+                case IDS + "queryScope": {
+                    QueryScope value = in.value(object, QueryScope.class);
+                    if (value != null) {
+                        builder._queryScope_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientScope": {
+                    QueryTarget value = in.value(object, QueryTarget.class);
+                    if (value != null) {
+                        builder._recipientScope_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readQueryScope(URI id, Node node, RdfReader in) throws IOException {
+        QueryScopeBuilder builder = id != null
+            ? new QueryScopeBuilder(id)
+            : new QueryScopeBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readQueryTarget(URI id, Node node, RdfReader in) throws IOException {
+        QueryTargetBuilder builder = id != null
+            ? new QueryTargetBuilder(id)
+            : new QueryTargetBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readRejectionMessage(URI id, Node node, RdfReader in) throws IOException {
+        RejectionMessageBuilder builder = id != null
+            ? new RejectionMessageBuilder(id)
+            : new RejectionMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "rejectionReason": {
+                    RejectionReason value = in.value(object, RejectionReason.class);
+                    if (value != null) {
+                        builder._rejectionReason_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readRejectionReason(URI id, Node node, RdfReader in) throws IOException {
+        RejectionReasonBuilder builder = id != null
+            ? new RejectionReasonBuilder(id)
+            : new RejectionReasonBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readRentalAgreement(URI id, Node node, RdfReader in) throws IOException {
+        RentalAgreementBuilder builder = id != null
+            ? new RentalAgreementBuilder(id)
+            : new RentalAgreementBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readRentalOffer(URI id, Node node, RdfReader in) throws IOException {
+        RentalOfferBuilder builder = id != null
+            ? new RentalOfferBuilder(id)
+            : new RentalOfferBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readRentalRequest(URI id, Node node, RdfReader in) throws IOException {
+        RentalRequestBuilder builder = id != null
+            ? new RentalRequestBuilder(id)
+            : new RentalRequestBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readRepresentation(URI id, Node node, RdfReader in) throws IOException {
+        RepresentationBuilder builder = id != null
+            ? new RepresentationBuilder(id)
+            : new RepresentationBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "created": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._created_(value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "instance": {
+                    RepresentationInstance value = in.value(object, RepresentationInstance.class);
+                    if (value != null) {
+                        builder._instance_(value);
+                    }
+                    break;
+                }
+                case IDS + "language": {
+                    Language value = in.value(object, Language.class);
+                    if (value != null) {
+                        builder._language_(value);
+                    }
+                    break;
+                }
+                case IDS + "mediaType": {
+                    MediaType value = in.value(object, MediaType.class);
+                    if (value != null) {
+                        builder._mediaType_(value);
+                    }
+                    break;
+                }
+                case IDS + "modified": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._modified_(value);
+                    }
+                    break;
+                }
+                case IDS + "representationStandard": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._representationStandard_(value);
+                    }
+                    break;
+                }
+                case IDS + "shapesGraph": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._shapesGraph_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readRequestInProcessMessage(URI id, Node node, RdfReader in) throws IOException {
+        RequestInProcessMessageBuilder builder = id != null
+            ? new RequestInProcessMessageBuilder(id)
+            : new RequestInProcessMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readRequestMessage(URI id, Node node, RdfReader in) throws IOException {
+        RequestMessageBuilder builder = id != null
+            ? new RequestMessageBuilder(id)
+            : new RequestMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readResourceCatalog(URI id, Node node, RdfReader in) throws IOException {
+        ResourceCatalogBuilder builder = id != null
+            ? new ResourceCatalogBuilder(id)
+            : new ResourceCatalogBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "offeredResource": {
+                    Object value = in.objectOrUri(object, Resource.class);
+                    if (value instanceof URI) {
+                        builder._offeredResourceAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._offeredResourceAsObject_((Resource) value);
+                    }
+                    break;
+                }
+                case IDS + "requestedResource": {
+                    Object value = in.objectOrUri(object, Resource.class);
+                    if (value instanceof URI) {
+                        builder._requestedResourceAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._requestedResourceAsObject_((Resource) value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readResource(URI id, Node node, RdfReader in) throws IOException {
+        ResourceBuilder builder = id != null
+            ? new ResourceBuilder(id)
+            : new ResourceBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "accrualPeriodicity": {
+                    Frequency value = in.value(object, Frequency.class);
+                    if (value != null) {
+                        builder._accrualPeriodicity_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentPart": {
+                    DigitalContent value = in.value(object, DigitalContent.class);
+                    if (value != null) {
+                        builder._contentPart_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentStandard": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._contentStandard_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentType": {
+                    ContentType value = in.value(object, ContentType.class);
+                    if (value != null) {
+                        builder._contentType_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractOffer": {
+                    ContractOffer value = in.value(object, ContractOffer.class);
+                    if (value != null) {
+                        builder._contractOffer_(value);
+                    }
+                    break;
+                }
+                case IDS + "created": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._created_(value);
+                    }
+                    break;
+                }
+                case IDS + "customLicense": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._customLicense_(value);
+                    }
+                    break;
+                }
+                case IDS + "defaultRepresentation": {
+                    Representation value = in.value(object, Representation.class);
+                    if (value != null) {
+                        builder._defaultRepresentation_(value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "keyword": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._keyword_(value);
+                    }
+                    break;
+                }
+                case IDS + "language": {
+                    Language value = in.value(object, Language.class);
+                    if (value != null) {
+                        builder._language_(value);
+                    }
+                    break;
+                }
+                case IDS + "modified": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._modified_(value);
+                    }
+                    break;
+                }
+                case IDS + "paymentModality": {
+                    PaymentModality value = in.value(object, PaymentModality.class);
+                    if (value != null) {
+                        builder._paymentModality_(value);
+                    }
+                    break;
+                }
+                case IDS + "publisher": {
+                    Object value = in.objectOrUri(object, Agent.class);
+                    if (value instanceof URI) {
+                        builder._publisherAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._publisherAsObject_((Agent) value);
+                    }
+                    break;
+                }
+                case IDS + "representation": {
+                    Representation value = in.value(object, Representation.class);
+                    if (value != null) {
+                        builder._representation_(value);
+                    }
+                    break;
+                }
+                case IDS + "resourceEndpoint": {
+                    ConnectorEndpoint value = in.value(object, ConnectorEndpoint.class);
+                    if (value != null) {
+                        builder._resourceEndpoint_(value);
+                    }
+                    break;
+                }
+                case IDS + "resourcePart": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._resourcePart_(value);
+                    }
+                    break;
+                }
+                case IDS + "sample": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._sample_(value);
+                    }
+                    break;
+                }
+                case IDS + "shapesGraph": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._shapesGraph_(value);
+                    }
+                    break;
+                }
+                case IDS + "sovereign": {
+                    Object value = in.objectOrUri(object, Agent.class);
+                    if (value instanceof URI) {
+                        builder._sovereignAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._sovereignAsObject_((Agent) value);
+                    }
+                    break;
+                }
+                case IDS + "spatialCoverage": {
+                    Location value = in.value(object, Location.class);
+                    if (value != null) {
+                        builder._spatialCoverage_(value);
+                    }
+                    break;
+                }
+                case IDS + "standardLicense": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._standardLicense_(value);
+                    }
+                    break;
+                }
+                case IDS + "temporalCoverage": {
+                    TemporalEntity value = in.value(object, TemporalEntity.class);
+                    if (value != null) {
+                        builder._temporalCoverage_(value);
+                    }
+                    break;
+                }
+                case IDS + "temporalResolution": {
+                    Frequency value = in.value(object, Frequency.class);
+                    if (value != null) {
+                        builder._temporalResolution_(value);
+                    }
+                    break;
+                }
+                case IDS + "theme": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._theme_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                case IDS + "variant": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._variant_(value);
+                    }
+                    break;
+                }
+                case IDS + "version": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._version_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readResourceUnavailableMessage(URI id, Node node, RdfReader in) throws IOException {
+        ResourceUnavailableMessageBuilder builder = id != null
+            ? new ResourceUnavailableMessageBuilder(id)
+            : new ResourceUnavailableMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "affectedResource": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._affectedResource_(value);
+                    }
+                    break;
+                }
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readResourceUpdateMessage(URI id, Node node, RdfReader in) throws IOException {
+        ResourceUpdateMessageBuilder builder = id != null
+            ? new ResourceUpdateMessageBuilder(id)
+            : new ResourceUpdateMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "affectedResource": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._affectedResource_(value);
+                    }
+                    break;
+                }
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readResponseMessage(URI id, Node node, RdfReader in) throws IOException {
+        ResponseMessageBuilder builder = id != null
+            ? new ResponseMessageBuilder(id)
+            : new ResponseMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readResultMessage(URI id, Node node, RdfReader in) throws IOException {
+        ResultMessageBuilder builder = id != null
+            ? new ResultMessageBuilder(id)
+            : new ResultMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readRolebasedAgreement(URI id, Node node, RdfReader in) throws IOException {
+        RolebasedAgreementBuilder builder = id != null
+            ? new RolebasedAgreementBuilder(id)
+            : new RolebasedAgreementBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readRolebasedOffer(URI id, Node node, RdfReader in) throws IOException {
+        RolebasedOfferBuilder builder = id != null
+            ? new RolebasedOfferBuilder(id)
+            : new RolebasedOfferBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readRolebasedRequest(URI id, Node node, RdfReader in) throws IOException {
+        RolebasedRequestBuilder builder = id != null
+            ? new RolebasedRequestBuilder(id)
+            : new RolebasedRequestBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readRouteStep(URI id, Node node, RdfReader in) throws IOException {
+        RouteStepBuilder builder = id != null
+            ? new RouteStepBuilder(id)
+            : new RouteStepBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "appRouteBroker": {
+                    Broker value = in.value(object, Broker.class);
+                    if (value != null) {
+                        builder._appRouteBroker_(value);
+                    }
+                    break;
+                }
+                case IDS + "appRouteClearingHouse": {
+                    ClearingHouse value = in.value(object, ClearingHouse.class);
+                    if (value != null) {
+                        builder._appRouteClearingHouse_(value);
+                    }
+                    break;
+                }
+                case IDS + "appRouteEnd": {
+                    Endpoint value = in.value(object, Endpoint.class);
+                    if (value != null) {
+                        builder._appRouteEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "appRouteOutput": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._appRouteOutput_(value);
+                    }
+                    break;
+                }
+                case IDS + "appRouteStart": {
+                    Endpoint value = in.value(object, Endpoint.class);
+                    if (value != null) {
+                        builder._appRouteStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "hasSubRoute": {
+                    RouteStep value = in.value(object, RouteStep.class);
+                    if (value != null) {
+                        builder._hasSubRoute_(value);
+                    }
+                    break;
+                }
+                case IDS + "requiredDataApp": {
+                    AppRepresentation value = in.value(object, AppRepresentation.class);
+                    if (value != null) {
+                        builder._requiredDataApp_(value);
+                    }
+                    break;
+                }
+                case IDS + "routeConfiguration": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._routeConfiguration_(value);
+                    }
+                    break;
+                }
+                case IDS + "routeDeployMethod": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._routeDeployMethod_(value);
+                    }
+                    break;
+                }
+                case IDS + "routeDescription": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._routeDescription_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readSalesAgreement(URI id, Node node, RdfReader in) throws IOException {
+        SalesAgreementBuilder builder = id != null
+            ? new SalesAgreementBuilder(id)
+            : new SalesAgreementBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readSalesOffer(URI id, Node node, RdfReader in) throws IOException {
+        SalesOfferBuilder builder = id != null
+            ? new SalesOfferBuilder(id)
+            : new SalesOfferBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readSalesRequest(URI id, Node node, RdfReader in) throws IOException {
+        SalesRequestBuilder builder = id != null
+            ? new SalesRequestBuilder(id)
+            : new SalesRequestBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readSecurityAgreement(URI id, Node node, RdfReader in) throws IOException {
+        SecurityAgreementBuilder builder = id != null
+            ? new SecurityAgreementBuilder(id)
+            : new SecurityAgreementBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readSecurityGuarantee(URI id, Node node, RdfReader in) throws IOException {
+        SecurityGuaranteeBuilder builder = id != null
+            ? new SecurityGuaranteeBuilder(id)
+            : new SecurityGuaranteeBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readSecurityOffer(URI id, Node node, RdfReader in) throws IOException {
+        SecurityOfferBuilder builder = id != null
+            ? new SecurityOfferBuilder(id)
+            : new SecurityOfferBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readSecurityProfile(URI id, Node node, RdfReader in) throws IOException {
+        SecurityProfileBuilder builder = id != null
+            ? new SecurityProfileBuilder(id)
+            : new SecurityProfileBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "securityGuarantee": {
+                    SecurityGuarantee value = in.value(object, SecurityGuarantee.class);
+                    if (value != null) {
+                        builder._securityGuarantee_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readSecurityRequest(URI id, Node node, RdfReader in) throws IOException {
+        SecurityRequestBuilder builder = id != null
+            ? new SecurityRequestBuilder(id)
+            : new SecurityRequestBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readServiceIsolationGuarantee(URI id, Node node, RdfReader in) throws IOException {
+        ServiceIsolationGuaranteeBuilder builder = id != null
+            ? new ServiceIsolationGuaranteeBuilder(id)
+            : new ServiceIsolationGuaranteeBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readSite(URI id, Node node, RdfReader in) throws IOException {
+        SiteBuilder builder = id != null
+            ? new SiteBuilder(id)
+            : new SiteBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "siteAddress": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._siteAddress_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readSmartDataApp(URI id, Node node, RdfReader in) throws IOException {
+        SmartDataAppBuilder builder = id != null
+            ? new SmartDataAppBuilder(id)
+            : new SmartDataAppBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "appDocumentation": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._appDocumentation_(value);
+                    }
+                    break;
+                }
+                case IDS + "appEndpoint": {
+                    AppEndpoint value = in.value(object, AppEndpoint.class);
+                    if (value != null) {
+                        builder._appEndpoint_(value);
+                    }
+                    break;
+                }
+                case IDS + "appEnvironmentVariables": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._appEnvironmentVariables_(value);
+                    }
+                    break;
+                }
+                case IDS + "appStorageConfiguration": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._appStorageConfiguration_(value);
+                    }
+                    break;
+                }
+                case IDS + "supportedUsagePolicies": {
+                    UsagePolicyClass value = in.value(object, UsagePolicyClass.class);
+                    if (value != null) {
+                        builder._supportedUsagePolicies_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readSoftwareRepresentation(URI id, Node node, RdfReader in) throws IOException {
+        SoftwareRepresentationBuilder builder = id != null
+            ? new SoftwareRepresentationBuilder(id)
+            : new SoftwareRepresentationBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "created": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._created_(value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "instance": {
+                    RepresentationInstance value = in.value(object, RepresentationInstance.class);
+                    if (value != null) {
+                        builder._instance_(value);
+                    }
+                    break;
+                }
+                case IDS + "language": {
+                    Language value = in.value(object, Language.class);
+                    if (value != null) {
+                        builder._language_(value);
+                    }
+                    break;
+                }
+                case IDS + "mediaType": {
+                    MediaType value = in.value(object, MediaType.class);
+                    if (value != null) {
+                        builder._mediaType_(value);
+                    }
+                    break;
+                }
+                case IDS + "modified": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._modified_(value);
+                    }
+                    break;
+                }
+                case IDS + "representationStandard": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._representationStandard_(value);
+                    }
+                    break;
+                }
+                case IDS + "shapesGraph": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._shapesGraph_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readSoftwareResource(URI id, Node node, RdfReader in) throws IOException {
+        SoftwareResourceBuilder builder = id != null
+            ? new SoftwareResourceBuilder(id)
+            : new SoftwareResourceBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "accrualPeriodicity": {
+                    Frequency value = in.value(object, Frequency.class);
+                    if (value != null) {
+                        builder._accrualPeriodicity_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentPart": {
+                    DigitalContent value = in.value(object, DigitalContent.class);
+                    if (value != null) {
+                        builder._contentPart_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentStandard": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._contentStandard_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentType": {
+                    ContentType value = in.value(object, ContentType.class);
+                    if (value != null) {
+                        builder._contentType_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractOffer": {
+                    ContractOffer value = in.value(object, ContractOffer.class);
+                    if (value != null) {
+                        builder._contractOffer_(value);
+                    }
+                    break;
+                }
+                case IDS + "created": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._created_(value);
+                    }
+                    break;
+                }
+                case IDS + "customLicense": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._customLicense_(value);
+                    }
+                    break;
+                }
+                case IDS + "defaultRepresentation": {
+                    Representation value = in.value(object, Representation.class);
+                    if (value != null) {
+                        builder._defaultRepresentation_(value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "keyword": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._keyword_(value);
+                    }
+                    break;
+                }
+                case IDS + "language": {
+                    Language value = in.value(object, Language.class);
+                    if (value != null) {
+                        builder._language_(value);
+                    }
+                    break;
+                }
+                case IDS + "modified": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._modified_(value);
+                    }
+                    break;
+                }
+                case IDS + "paymentModality": {
+                    PaymentModality value = in.value(object, PaymentModality.class);
+                    if (value != null) {
+                        builder._paymentModality_(value);
+                    }
+                    break;
+                }
+                case IDS + "publisher": {
+                    Object value = in.objectOrUri(object, Agent.class);
+                    if (value instanceof URI) {
+                        builder._publisherAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._publisherAsObject_((Agent) value);
+                    }
+                    break;
+                }
+                case IDS + "representation": {
+                    Representation value = in.value(object, Representation.class);
+                    if (value != null) {
+                        builder._representation_(value);
+                    }
+                    break;
+                }
+                case IDS + "resourceEndpoint": {
+                    ConnectorEndpoint value = in.value(object, ConnectorEndpoint.class);
+                    if (value != null) {
+                        builder._resourceEndpoint_(value);
+                    }
+                    break;
+                }
+                case IDS + "resourcePart": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._resourcePart_(value);
+                    }
+                    break;
+                }
+                case IDS + "sample": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._sample_(value);
+                    }
+                    break;
+                }
+                case IDS + "shapesGraph": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._shapesGraph_(value);
+                    }
+                    break;
+                }
+                case IDS + "sovereign": {
+                    Object value = in.objectOrUri(object, Agent.class);
+                    if (value instanceof URI) {
+                        builder._sovereignAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._sovereignAsObject_((Agent) value);
+                    }
+                    break;
+                }
+                case IDS + "spatialCoverage": {
+                    Location value = in.value(object, Location.class);
+                    if (value != null) {
+                        builder._spatialCoverage_(value);
+                    }
+                    break;
+                }
+                case IDS + "standardLicense": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._standardLicense_(value);
+                    }
+                    break;
+                }
+                case IDS + "temporalCoverage": {
+                    TemporalEntity value = in.value(object, TemporalEntity.class);
+                    if (value != null) {
+                        builder._temporalCoverage_(value);
+                    }
+                    break;
+                }
+                case IDS + "temporalResolution": {
+                    Frequency value = in.value(object, Frequency.class);
+                    if (value != null) {
+                        builder._temporalResolution_(value);
+                    }
+                    break;
+                }
+                case IDS + "theme": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._theme_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                case IDS + "variant": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._variant_(value);
+                    }
+                    break;
+                }
+                case IDS + "version": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._version_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readSpatialAgreement(URI id, Node node, RdfReader in) throws IOException {
+        SpatialAgreementBuilder builder = id != null
+            ? new SpatialAgreementBuilder(id)
+            : new SpatialAgreementBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readSpatialOffer(URI id, Node node, RdfReader in) throws IOException {
+        SpatialOfferBuilder builder = id != null
+            ? new SpatialOfferBuilder(id)
+            : new SpatialOfferBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readSpatialRequest(URI id, Node node, RdfReader in) throws IOException {
+        SpatialRequestBuilder builder = id != null
+            ? new SpatialRequestBuilder(id)
+            : new SpatialRequestBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readSwapAgreement(URI id, Node node, RdfReader in) throws IOException {
+        SwapAgreementBuilder builder = id != null
+            ? new SwapAgreementBuilder(id)
+            : new SwapAgreementBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readSwapOffer(URI id, Node node, RdfReader in) throws IOException {
+        SwapOfferBuilder builder = id != null
+            ? new SwapOfferBuilder(id)
+            : new SwapOfferBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readSwapRequest(URI id, Node node, RdfReader in) throws IOException {
+        SwapRequestBuilder builder = id != null
+            ? new SwapRequestBuilder(id)
+            : new SwapRequestBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "consumer": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._consumer_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractAnnex": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._contractAnnex_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDate": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractDate_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractDocument": {
+                    TextResource value = in.value(object, TextResource.class);
+                    if (value != null) {
+                        builder._contractDocument_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractEnd": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractEnd_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractStart": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._contractStart_(value);
+                    }
+                    break;
+                }
+                case IDS + "obligation": {
+                    Duty value = in.value(object, Duty.class);
+                    if (value != null) {
+                        builder._obligation_(value);
+                    }
+                    break;
+                }
+                case IDS + "permission": {
+                    Permission value = in.value(object, Permission.class);
+                    if (value != null) {
+                        builder._permission_(value);
+                    }
+                    break;
+                }
+                case IDS + "prohibition": {
+                    Prohibition value = in.value(object, Prohibition.class);
+                    if (value != null) {
+                        builder._prohibition_(value);
+                    }
+                    break;
+                }
+                case IDS + "provider": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._provider_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readSystemAdapter(URI id, Node node, RdfReader in) throws IOException {
+        SystemAdapterBuilder builder = id != null
+            ? new SystemAdapterBuilder(id)
+            : new SystemAdapterBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "appDocumentation": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._appDocumentation_(value);
+                    }
+                    break;
+                }
+                case IDS + "appEndpoint": {
+                    AppEndpoint value = in.value(object, AppEndpoint.class);
+                    if (value != null) {
+                        builder._appEndpoint_(value);
+                    }
+                    break;
+                }
+                case IDS + "appEnvironmentVariables": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._appEnvironmentVariables_(value);
+                    }
+                    break;
+                }
+                case IDS + "appStorageConfiguration": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._appStorageConfiguration_(value);
+                    }
+                    break;
+                }
+                case IDS + "supportedUsagePolicies": {
+                    UsagePolicyClass value = in.value(object, UsagePolicyClass.class);
+                    if (value != null) {
+                        builder._supportedUsagePolicies_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readTemporalEntity(URI id, Node node, RdfReader in) throws IOException {
+        TemporalEntityBuilder builder = id != null
+            ? new TemporalEntityBuilder(id)
+            : new TemporalEntityBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "hasDuration": {
+                    javax.xml.datatype.Duration value = in.value(object, javax.xml.datatype.Duration.class);
+                    if (value != null) {
+                        builder._hasDuration_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readTextRepresentation(URI id, Node node, RdfReader in) throws IOException {
+        TextRepresentationBuilder builder = id != null
+            ? new TextRepresentationBuilder(id)
+            : new TextRepresentationBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "created": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._created_(value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "instance": {
+                    RepresentationInstance value = in.value(object, RepresentationInstance.class);
+                    if (value != null) {
+                        builder._instance_(value);
+                    }
+                    break;
+                }
+                case IDS + "language": {
+                    Language value = in.value(object, Language.class);
+                    if (value != null) {
+                        builder._language_(value);
+                    }
+                    break;
+                }
+                case IDS + "mediaType": {
+                    MediaType value = in.value(object, MediaType.class);
+                    if (value != null) {
+                        builder._mediaType_(value);
+                    }
+                    break;
+                }
+                case IDS + "modified": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._modified_(value);
+                    }
+                    break;
+                }
+                case IDS + "representationStandard": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._representationStandard_(value);
+                    }
+                    break;
+                }
+                case IDS + "shapesGraph": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._shapesGraph_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readTextResource(URI id, Node node, RdfReader in) throws IOException {
+        TextResourceBuilder builder = id != null
+            ? new TextResourceBuilder(id)
+            : new TextResourceBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "accrualPeriodicity": {
+                    Frequency value = in.value(object, Frequency.class);
+                    if (value != null) {
+                        builder._accrualPeriodicity_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentPart": {
+                    DigitalContent value = in.value(object, DigitalContent.class);
+                    if (value != null) {
+                        builder._contentPart_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentStandard": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._contentStandard_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentType": {
+                    ContentType value = in.value(object, ContentType.class);
+                    if (value != null) {
+                        builder._contentType_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractOffer": {
+                    ContractOffer value = in.value(object, ContractOffer.class);
+                    if (value != null) {
+                        builder._contractOffer_(value);
+                    }
+                    break;
+                }
+                case IDS + "created": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._created_(value);
+                    }
+                    break;
+                }
+                case IDS + "customLicense": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._customLicense_(value);
+                    }
+                    break;
+                }
+                case IDS + "defaultRepresentation": {
+                    Representation value = in.value(object, Representation.class);
+                    if (value != null) {
+                        builder._defaultRepresentation_(value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "keyword": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._keyword_(value);
+                    }
+                    break;
+                }
+                case IDS + "language": {
+                    Language value = in.value(object, Language.class);
+                    if (value != null) {
+                        builder._language_(value);
+                    }
+                    break;
+                }
+                case IDS + "modified": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._modified_(value);
+                    }
+                    break;
+                }
+                case IDS + "paymentModality": {
+                    PaymentModality value = in.value(object, PaymentModality.class);
+                    if (value != null) {
+                        builder._paymentModality_(value);
+                    }
+                    break;
+                }
+                case IDS + "publisher": {
+                    Object value = in.objectOrUri(object, Agent.class);
+                    if (value instanceof URI) {
+                        builder._publisherAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._publisherAsObject_((Agent) value);
+                    }
+                    break;
+                }
+                case IDS + "representation": {
+                    Representation value = in.value(object, Representation.class);
+                    if (value != null) {
+                        builder._representation_(value);
+                    }
+                    break;
+                }
+                case IDS + "resourceEndpoint": {
+                    ConnectorEndpoint value = in.value(object, ConnectorEndpoint.class);
+                    if (value != null) {
+                        builder._resourceEndpoint_(value);
+                    }
+                    break;
+                }
+                case IDS + "resourcePart": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._resourcePart_(value);
+                    }
+                    break;
+                }
+                case IDS + "sample": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._sample_(value);
+                    }
+                    break;
+                }
+                case IDS + "shapesGraph": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._shapesGraph_(value);
+                    }
+                    break;
+                }
+                case IDS + "sovereign": {
+                    Object value = in.objectOrUri(object, Agent.class);
+                    if (value instanceof URI) {
+                        builder._sovereignAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._sovereignAsObject_((Agent) value);
+                    }
+                    break;
+                }
+                case IDS + "spatialCoverage": {
+                    Location value = in.value(object, Location.class);
+                    if (value != null) {
+                        builder._spatialCoverage_(value);
+                    }
+                    break;
+                }
+                case IDS + "standardLicense": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._standardLicense_(value);
+                    }
+                    break;
+                }
+                case IDS + "temporalCoverage": {
+                    TemporalEntity value = in.value(object, TemporalEntity.class);
+                    if (value != null) {
+                        builder._temporalCoverage_(value);
+                    }
+                    break;
+                }
+                case IDS + "temporalResolution": {
+                    Frequency value = in.value(object, Frequency.class);
+                    if (value != null) {
+                        builder._temporalResolution_(value);
+                    }
+                    break;
+                }
+                case IDS + "theme": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._theme_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                case IDS + "variant": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._variant_(value);
+                    }
+                    break;
+                }
+                case IDS + "version": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._version_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readTokenFormat(URI id, Node node, RdfReader in) throws IOException {
+        TokenFormatBuilder builder = id != null
+            ? new TokenFormatBuilder(id)
+            : new TokenFormatBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readToken(URI id, Node node, RdfReader in) throws IOException {
+        TokenBuilder builder = id != null
+            ? new TokenBuilder(id)
+            : new TokenBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "tokenFormat": {
+                    TokenFormat value = in.value(object, TokenFormat.class);
+                    if (value != null) {
+                        builder._tokenFormat_(value);
+                    }
+                    break;
+                }
+                case IDS + "tokenValue": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._tokenValue_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readTrustedConnector(URI id, Node node, RdfReader in) throws IOException {
+        TrustedConnectorBuilder builder = id != null
+            ? new TrustedConnectorBuilder(id)
+            : new TrustedConnectorBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authInfo": {
+                    AuthInfo value = in.value(object, AuthInfo.class);
+                    if (value != null) {
+                        builder._authInfo_(value);
+                    }
+                    break;
+                }
+                case IDS + "componentCertification": {
+                    ComponentCertification value = in.value(object, ComponentCertification.class);
+                    if (value != null) {
+                        builder._componentCertification_(value);
+                    }
+                    break;
+                }
+                case IDS + "curator": {
+                    Object value = in.objectOrUri(object, Participant.class);
+                    if (value instanceof URI) {
+                        builder._curatorAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._curatorAsObject_((Participant) value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "extendedGuarantee": {
+                    SecurityGuarantee value = in.value(object, SecurityGuarantee.class);
+                    if (value != null) {
+                        builder._extendedGuarantee_(value);
+                    }
+                    break;
+                }
+                case IDS + "hasAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._hasAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "hasDefaultEndpoint": {
+                    ConnectorEndpoint value = in.value(object, ConnectorEndpoint.class);
+                    if (value != null) {
+                        builder._hasDefaultEndpoint_(value);
+                    }
+                    break;
+                }
+                case IDS + "hasEndpoint": {
+                    ConnectorEndpoint value = in.value(object, ConnectorEndpoint.class);
+                    if (value != null) {
+                        builder._hasEndpoint_(value);
+                    }
+                    break;
+                }
+                case IDS + "inboundModelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._inboundModelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "maintainer": {
+                    Object value = in.objectOrUri(object, Participant.class);
+                    if (value instanceof URI) {
+                        builder._maintainerAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._maintainerAsObject_((Participant) value);
+                    }
+                    break;
+                }
+                case IDS + "outboundModelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._outboundModelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "physicalLocation": {
+                    Location value = in.value(object, Location.class);
+                    if (value != null) {
+                        builder._physicalLocation_(value);
+                    }
+                    break;
+                }
+                case IDS + "publicKey": {
+                    PublicKey value = in.value(object, PublicKey.class);
+                    if (value != null) {
+                        builder._publicKey_(value);
+                    }
+                    break;
+                }
+                case IDS + "resourceCatalog": {
+                    ResourceCatalog value = in.value(object, ResourceCatalog.class);
+                    if (value != null) {
+                        builder._resourceCatalog_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityProfile": {
+                    SecurityProfile value = in.value(object, SecurityProfile.class);
+                    if (value != null) {
+                        builder._securityProfile_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                case IDS + "version": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._version_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readUploadMessage(URI id, Node node, RdfReader in) throws IOException {
+        UploadMessageBuilder builder = id != null
+            ? new UploadMessageBuilder(id)
+            : new UploadMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readUploadResponseMessage(URI id, Node node, RdfReader in) throws IOException {
+        UploadResponseMessageBuilder builder = id != null
+            ? new UploadResponseMessageBuilder(id)
+            : new UploadResponseMessageBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "authorizationToken": {
+                    Token value = in.value(object, Token.class);
+                    if (value != null) {
+                        builder._authorizationToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._contentVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "correlationMessage": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._correlationMessage_(value);
+                    }
+                    break;
+                }
+                case IDS + "issued": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._issued_(value);
+                    }
+                    break;
+                }
+                case IDS + "issuerConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._issuerConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "modelVersion": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._modelVersion_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "recipientConnector": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._recipientConnector_(value);
+                    }
+                    break;
+                }
+                case IDS + "securityToken": {
+                    DynamicAttributeToken value = in.value(object, DynamicAttributeToken.class);
+                    if (value != null) {
+                        builder._securityToken_(value);
+                    }
+                    break;
+                }
+                case IDS + "senderAgent": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._senderAgent_(value);
+                    }
+                    break;
+                }
+                case IDS + "transferContract": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._transferContract_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readUsageControlComponent(URI id, Node node, RdfReader in) throws IOException {
+        UsageControlComponentBuilder builder = id != null
+            ? new UsageControlComponentBuilder(id)
+            : new UsageControlComponentBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "endpointURI": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._endpointURI_(value);
+                    }
+                    break;
+                }
+                case IDS + "interfaceDescription": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._interfaceDescription_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readUsageControlGuarantee(URI id, Node node, RdfReader in) throws IOException {
+        UsageControlGuaranteeBuilder builder = id != null
+            ? new UsageControlGuaranteeBuilder(id)
+            : new UsageControlGuaranteeBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readUsageControlObject(URI id, Node node, RdfReader in) throws IOException {
+        UsageControlObjectBuilder builder = id != null
+            ? new UsageControlObjectBuilder(id)
+            : new UsageControlObjectBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "accessed": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._accessed_(value);
+                    }
+                    break;
+                }
+                case IDS + "action": {
+                    Action value = in.value(object, Action.class);
+                    if (value != null) {
+                        builder._action_(value);
+                    }
+                    break;
+                }
+                case IDS + "contract": {
+                    ContractAgreement value = in.value(object, ContractAgreement.class);
+                    if (value != null) {
+                        builder._contract_(value);
+                    }
+                    break;
+                }
+                case IDS + "created": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._created_(value);
+                    }
+                    break;
+                }
+                case IDS + "data": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._data_(value);
+                    }
+                    break;
+                }
+                case IDS + "hasState": {
+                    ArtifactState value = in.value(object, ArtifactState.class);
+                    if (value != null) {
+                        builder._hasState_(value);
+                    }
+                    break;
+                }
+                case IDS + "modified": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._modified_(value);
+                    }
+                    break;
+                }
+                case IDS + "requester": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._requester_(value);
+                    }
+                    break;
+                }
+                case IDS + "source": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._source_(value);
+                    }
+                    break;
+                }
+                case IDS + "usageDuration": {
+                    javax.xml.datatype.Duration value = in.value(object, javax.xml.datatype.Duration.class);
+                    if (value != null) {
+                        builder._usageDuration_(value);
+                    }
+                    break;
+                }
+                case IDS + "user": {
+                    Participant value = in.value(object, Participant.class);
+                    if (value != null) {
+                        builder._user_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readUsagePolicyClass(URI id, Node node, RdfReader in) throws IOException {
+        UsagePolicyClassBuilder builder = id != null
+            ? new UsagePolicyClassBuilder(id)
+            : new UsagePolicyClassBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readValue(URI id, Node node, RdfReader in) throws IOException {
+        ValueBuilder builder = id != null
+            ? new ValueBuilder(id)
+            : new ValueBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readVideoRepresentation(URI id, Node node, RdfReader in) throws IOException {
+        VideoRepresentationBuilder builder = id != null
+            ? new VideoRepresentationBuilder(id)
+            : new VideoRepresentationBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "created": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._created_(value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "frameRate": {
+                    java.math.BigDecimal value = in.value(object, java.math.BigDecimal.class);
+                    if (value != null) {
+                        builder._frameRate_(value);
+                    }
+                    break;
+                }
+                case IDS + "instance": {
+                    RepresentationInstance value = in.value(object, RepresentationInstance.class);
+                    if (value != null) {
+                        builder._instance_(value);
+                    }
+                    break;
+                }
+                case IDS + "language": {
+                    Language value = in.value(object, Language.class);
+                    if (value != null) {
+                        builder._language_(value);
+                    }
+                    break;
+                }
+                case IDS + "mediaType": {
+                    MediaType value = in.value(object, MediaType.class);
+                    if (value != null) {
+                        builder._mediaType_(value);
+                    }
+                    break;
+                }
+                case IDS + "modified": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._modified_(value);
+                    }
+                    break;
+                }
+                case IDS + "representationStandard": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._representationStandard_(value);
+                    }
+                    break;
+                }
+                case IDS + "shapesGraph": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._shapesGraph_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+    private static void readVideoResource(URI id, Node node, RdfReader in) throws IOException {
+        VideoResourceBuilder builder = id != null
+            ? new VideoResourceBuilder(id)
+            : new VideoResourceBuilder();
+        in.created(node, builder.buildUnchecked());
+        for (int i = 0; i < node.predicates.size(); i++) {
+            Object object = node.objects.get(i);
+            switch (node.predicates.get(i)) {
+                case IDS + "accrualPeriodicity": {
+                    Frequency value = in.value(object, Frequency.class);
+                    if (value != null) {
+                        builder._accrualPeriodicity_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentPart": {
+                    DigitalContent value = in.value(object, DigitalContent.class);
+                    if (value != null) {
+                        builder._contentPart_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentStandard": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._contentStandard_(value);
+                    }
+                    break;
+                }
+                case IDS + "contentType": {
+                    ContentType value = in.value(object, ContentType.class);
+                    if (value != null) {
+                        builder._contentType_(value);
+                    }
+                    break;
+                }
+                case IDS + "contractOffer": {
+                    ContractOffer value = in.value(object, ContractOffer.class);
+                    if (value != null) {
+                        builder._contractOffer_(value);
+                    }
+                    break;
+                }
+                case IDS + "created": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._created_(value);
+                    }
+                    break;
+                }
+                case IDS + "customLicense": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._customLicense_(value);
+                    }
+                    break;
+                }
+                case IDS + "defaultRepresentation": {
+                    Representation value = in.value(object, Representation.class);
+                    if (value != null) {
+                        builder._defaultRepresentation_(value);
+                    }
+                    break;
+                }
+                case IDS + "description": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._description_(value);
+                    }
+                    break;
+                }
+                case IDS + "keyword": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._keyword_(value);
+                    }
+                    break;
+                }
+                case IDS + "language": {
+                    Language value = in.value(object, Language.class);
+                    if (value != null) {
+                        builder._language_(value);
+                    }
+                    break;
+                }
+                case IDS + "modified": {
+                    XMLGregorianCalendar value = in.value(object, XMLGregorianCalendar.class);
+                    if (value != null) {
+                        builder._modified_(value);
+                    }
+                    break;
+                }
+                case IDS + "paymentModality": {
+                    PaymentModality value = in.value(object, PaymentModality.class);
+                    if (value != null) {
+                        builder._paymentModality_(value);
+                    }
+                    break;
+                }
+                case IDS + "publisher": {
+                    Object value = in.objectOrUri(object, Agent.class);
+                    if (value instanceof URI) {
+                        builder._publisherAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._publisherAsObject_((Agent) value);
+                    }
+                    break;
+                }
+                case IDS + "representation": {
+                    Representation value = in.value(object, Representation.class);
+                    if (value != null) {
+                        builder._representation_(value);
+                    }
+                    break;
+                }
+                case IDS + "resourceEndpoint": {
+                    ConnectorEndpoint value = in.value(object, ConnectorEndpoint.class);
+                    if (value != null) {
+                        builder._resourceEndpoint_(value);
+                    }
+                    break;
+                }
+                case IDS + "resourcePart": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._resourcePart_(value);
+                    }
+                    break;
+                }
+                case IDS + "sample": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._sample_(value);
+                    }
+                    break;
+                }
+                case IDS + "shapesGraph": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._shapesGraph_(value);
+                    }
+                    break;
+                }
+                case IDS + "sovereign": {
+                    Object value = in.objectOrUri(object, Agent.class);
+                    if (value instanceof URI) {
+                        builder._sovereignAsUri_((URI) value);
+                    } else if (value != null) {
+                        builder._sovereignAsObject_((Agent) value);
+                    }
+                    break;
+                }
+                case IDS + "spatialCoverage": {
+                    Location value = in.value(object, Location.class);
+                    if (value != null) {
+                        builder._spatialCoverage_(value);
+                    }
+                    break;
+                }
+                case IDS + "standardLicense": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._standardLicense_(value);
+                    }
+                    break;
+                }
+                case IDS + "temporalCoverage": {
+                    TemporalEntity value = in.value(object, TemporalEntity.class);
+                    if (value != null) {
+                        builder._temporalCoverage_(value);
+                    }
+                    break;
+                }
+                case IDS + "temporalResolution": {
+                    Frequency value = in.value(object, Frequency.class);
+                    if (value != null) {
+                        builder._temporalResolution_(value);
+                    }
+                    break;
+                }
+                case IDS + "theme": {
+                    URI value = in.value(object, URI.class);
+                    if (value != null) {
+                        builder._theme_(value);
+                    }
+                    break;
+                }
+                case IDS + "title": {
+                    TypedLiteral value = in.value(object, TypedLiteral.class);
+                    if (value != null) {
+                        builder._title_(value);
+                    }
+                    break;
+                }
+                case IDS + "variant": {
+                    Resource value = in.value(object, Resource.class);
+                    if (value != null) {
+                        builder._variant_(value);
+                    }
+                    break;
+                }
+                case IDS + "version": {
+                    String value = in.value(object, String.class);
+                    if (value != null) {
+                        builder._version_(value);
+                    }
+                    break;
+                }
+                default:
+                    in.property(builder.buildUnchecked(), node.predicates.get(i), object);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,2985 @@
+package de.fraunhofer.iais.eis.rdf;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import de.fraunhofer.iais.eis.*;
+
+/**
+ * Generated table of the RDF classes and properties of the model classes, as used by
+ * {@link RdfWriter}. The IRIs are those of the "ids:" names in the JSON-LD serialization.
+ */
+final class ModelTriples {
+
+    static final String IDS = RdfWriter.IDS;
+
+    /**
+     * Writes the properties of an object of a model class, except for its type.
+     */
+    interface Properties {
+        void write(ModelClass object, RdfWriter out) throws IOException;
+    }
+
+    /**
+     * RDF class of a model class with the function writing its properties.
+     */
+    static final class Type {
+
+        final String iri;
+
+        final Properties properties;
+
+        Type(String iri, Properties properties) {
+            this.iri = iri;
+            this.properties = properties;
+        }
+    }
+
+    private static final Map<Class<?>, Type> TYPES = new HashMap<>();
+
+    // lookup of the default instances of the classes that have some
+    private static final Map<Class<?>, Function<URI, ModelClass>> DEFAULT_INSTANCES = new HashMap<>();
+
+    static {
+        register(AccessTokenRequestMessageImpl.class, IDS + "AccessTokenRequestMessage",
+            ModelTriples::writeAccessTokenRequestMessage);
+        register(AccessTokenResponseMessageImpl.class, IDS + "AccessTokenResponseMessage",
+            ModelTriples::writeAccessTokenResponseMessage);
+        register(ActionImpl.class, IDS + "Action", ModelTriples::writeAction);
+        register(AgentImpl.class, IDS + "Agent", ModelTriples::writeAgent);
+        register(AppAvailableMessageImpl.class, IDS + "AppAvailableMessage", ModelTriples::writeAppAvailableMessage);
+        register(AppDeleteMessageImpl.class, IDS + "AppDeleteMessage", ModelTriples::writeAppDeleteMessage);
+        register(AppEndpointImpl.class, IDS + "AppEndpoint", ModelTriples::writeAppEndpoint);
+        register(AppEndpointTypeImpl.class, IDS + "AppEndpointType", ModelTriples::writeAppEndpointType);
+        register(AppExecutionResourcesImpl.class, IDS + "AppExecutionResources",
+            ModelTriples::writeAppExecutionResources);
+        register(AppRegistrationRequestMessageImpl.class, IDS + "AppRegistrationRequestMessage",
+            ModelTriples::writeAppRegistrationRequestMessage);
+        register(AppRegistrationResponseMessageImpl.class, IDS + "AppRegistrationResponseMessage",
+            ModelTriples::writeAppRegistrationResponseMessage);
+        register(AppRepresentationImpl.class, IDS + "AppRepresentation", ModelTriples::writeAppRepresentation);
+        register(AppResourceCatalogImpl.class, IDS + "AppResourceCatalog", ModelTriples::writeAppResourceCatalog);
+        register(AppResourceImpl.class, IDS + "AppResource", ModelTriples::writeAppResource);
+        register(AppRouteImpl.class, IDS + "AppRoute", ModelTriples::writeAppRoute);
+        register(AppStoreCatalogImpl.class, IDS + "AppStoreCatalog", ModelTriples::writeAppStoreCatalog);
+        register(AppStoreImpl.class, IDS + "AppStore", ModelTriples::writeAppStore);
+        register(AppUnavailableMessageImpl.class, IDS + "AppUnavailableMessage",
+            ModelTriples::writeAppUnavailableMessage);
+        register(AppUploadMessageImpl.class, IDS + "AppUploadMessage", ModelTriples::writeAppUploadMessage);
+        register(AppUploadResponseMessageImpl.class, IDS + "AppUploadResponseMessage",
+            ModelTriples::writeAppUploadResponseMessage);
+        register(ArtifactImpl.class, IDS + "Artifact", ModelTriples::writeArtifact);
+        register(ArtifactRequestMessageImpl.class, IDS + "ArtifactRequestMessage",
+            ModelTriples::writeArtifactRequestMessage);
+        register(ArtifactResponseMessageImpl.class, IDS + "ArtifactResponseMessage",
+            ModelTriples::writeArtifactResponseMessage);
+        register(ArtifactStateImpl.class, IDS + "ArtifactState", ModelTriples::writeArtifactState);
+        register(AssetCollectionImpl.class, IDS + "AssetCollection", ModelTriples::writeAssetCollection);
+        register(AudienceImpl.class, IDS + "Audience", ModelTriples::writeAudience);
+        register(AudioRepresentationImpl.class, IDS + "AudioRepresentation", ModelTriples::writeAudioRepresentation);
+        register(AudioResourceImpl.class, IDS + "AudioResource", ModelTriples::writeAudioResource);
+        register(AuditGuaranteeImpl.class, IDS + "AuditGuarantee", ModelTriples::writeAuditGuarantee);
+        register(AuthInfoImpl.class, IDS + "AuthInfo", ModelTriples::writeAuthInfo);
+        register(AuthStandardImpl.class, IDS + "AuthStandard", ModelTriples::writeAuthStandard);
+        register(AuthenticationGuaranteeImpl.class, IDS + "AuthenticationGuarantee",
+            ModelTriples::writeAuthenticationGuarantee);
+        register(BaseConnectorImpl.class, IDS + "BaseConnector", ModelTriples::writeBaseConnector);
+        register(BasicAuthenticationImpl.class, IDS + "BasicAuthentication", ModelTriples::writeBasicAuthentication);
+        register(BinaryOperatorImpl.class, IDS + "BinaryOperator", ModelTriples::writeBinaryOperator);
+        register(BoundingPolygonImpl.class, IDS + "BoundingPolygon", ModelTriples::writeBoundingPolygon);
+        register(BrokerCatalogImpl.class, IDS + "BrokerCatalog", ModelTriples::writeBrokerCatalog);
+        register(BrokerImpl.class, IDS + "Broker", ModelTriples::writeBroker);
+        register(BusinessIdentifierImpl.class, IDS + "BusinessIdentifier", ModelTriples::writeBusinessIdentifier);
+        register(ClearingHouseCatalogImpl.class, IDS + "ClearingHouseCatalog", ModelTriples::writeClearingHouseCatalog);
+        register(ClearingHouseImpl.class, IDS + "ClearingHouse", ModelTriples::writeClearingHouse);
+        register(CommandMessageImpl.class, IDS + "CommandMessage", ModelTriples::writeCommandMessage);
+        register(ComponentCertificationImpl.class, IDS + "ComponentCertification",
+            ModelTriples::writeComponentCertification);
+        register(ComponentCertificationLevelImpl.class, IDS + "ComponentCertificationLevel",
+            ModelTriples::writeComponentCertificationLevel);
+        register(ConfigurationModelImpl.class, IDS + "ConfigurationModel", ModelTriples::writeConfigurationModel);
+        register(ConnectorCatalogImpl.class, IDS + "ConnectorCatalog", ModelTriples::writeConnectorCatalog);
+        register(ConnectorCertificateGrantedMessageImpl.class, IDS + "ConnectorCertificateGrantedMessage",
+            ModelTriples::writeConnectorCertificateGrantedMessage);
+        register(ConnectorCertificateRevokedMessageImpl.class, IDS + "ConnectorCertificateRevokedMessage",
+            ModelTriples::writeConnectorCertificateRevokedMessage);
+        register(ConnectorDeployModeImpl.class, IDS + "ConnectorDeployMode", ModelTriples::writeConnectorDeployMode);
+        register(ConnectorEndpointImpl.class, IDS + "ConnectorEndpoint", ModelTriples::writeConnectorEndpoint);
+        register(ConnectorStatusImpl.class, IDS + "ConnectorStatus", ModelTriples::writeConnectorStatus);
+        register(ConnectorUnavailableMessageImpl.class, IDS + "ConnectorUnavailableMessage",
+            ModelTriples::writeConnectorUnavailableMessage);
+        register(ConnectorUpdateMessageImpl.class, IDS + "ConnectorUpdateMessage",
+            ModelTriples::writeConnectorUpdateMessage);
+        register(ConnectorbasedAgreementImpl.class, IDS + "ConnectorbasedAgreement",
+            ModelTriples::writeConnectorbasedAgreement);
+        register(ConnectorbasedOfferImpl.class, IDS + "ConnectorbasedOffer", ModelTriples::writeConnectorbasedOffer);
+        register(ConnectorbasedRequestImpl.class, IDS + "ConnectorbasedRequest",
+            ModelTriples::writeConnectorbasedRequest);
+        register(ConstraintImpl.class, IDS + "Constraint", ModelTriples::writeConstraint);
+        register(ContentTypeImpl.class, IDS + "ContentType", ModelTriples::writeContentType);
+        register(ContractAgreementImpl.class, IDS + "ContractAgreement", ModelTriples::writeContractAgreement);
+        register(ContractAgreementMessageImpl.class, IDS + "ContractAgreementMessage",
+            ModelTriples::writeContractAgreementMessage);
+        register(ContractOfferImpl.class, IDS + "ContractOffer", ModelTriples::writeContractOffer);
+        register(ContractOfferMessageImpl.class, IDS + "ContractOfferMessage", ModelTriples::writeContractOfferMessage);
+        register(ContractRejectionMessageImpl.class, IDS + "ContractRejectionMessage",
+            ModelTriples::writeContractRejectionMessage);
+        register(ContractRequestImpl.class, IDS + "ContractRequest", ModelTriples::writeContractRequest);
+        register(ContractRequestMessageImpl.class, IDS + "ContractRequestMessage",
+            ModelTriples::writeContractRequestMessage);
+        register(ContractResponseMessageImpl.class, IDS + "ContractResponseMessage",
+            ModelTriples::writeContractResponseMessage);
+        register(ContractSupplementMessageImpl.class, IDS + "ContractSupplementMessage",
+            ModelTriples::writeContractSupplementMessage);
+        register(CustomMediaTypeImpl.class, IDS + "CustomMediaType", ModelTriples::writeCustomMediaType);
+        register(DAPSImpl.class, IDS + "DAPS", ModelTriples::writeDAPS);
+        register(DatPayloadImpl.class, IDS + "DatPayload", ModelTriples::writeDatPayload);
+        register(DatRequestPayloadImpl.class, IDS + "DatRequestPayload", ModelTriples::writeDatRequestPayload);
+        register(DataRepresentationImpl.class, IDS + "DataRepresentation", ModelTriples::writeDataRepresentation);
+        register(DataResourceImpl.class, IDS + "DataResource", ModelTriples::writeDataResource);
+        register(DeleteAfterIntervalAgreementImpl.class, IDS + "DeleteAfterIntervalAgreement",
+            ModelTriples::writeDeleteAfterIntervalAgreement);
+        register(DeleteAfterIntervalOfferImpl.class, IDS + "DeleteAfterIntervalOffer",
+            ModelTriples::writeDeleteAfterIntervalOffer);
+        register(DeleteAfterIntervalRequestImpl.class, IDS + "DeleteAfterIntervalRequest",
+            ModelTriples::writeDeleteAfterIntervalRequest);
+        register(DescriptionRequestMessageImpl.class, IDS + "DescriptionRequestMessage",
+            ModelTriples::writeDescriptionRequestMessage);
+        register(DescriptionResponseMessageImpl.class, IDS + "DescriptionResponseMessage",
+            ModelTriples::writeDescriptionResponseMessage);
+        register(DistributeEcryptedAgreementImpl.class, IDS + "DistributeEcryptedAgreement",
+            ModelTriples::writeDistributeEcryptedAgreement);
+        register(DistributeEcryptedOfferImpl.class, IDS + "DistributeEcryptedOffer",
+            ModelTriples::writeDistributeEcryptedOffer);
+        register(DistributeEcryptedRequestImpl.class, IDS + "DistributeEcryptedRequest",
+            ModelTriples::writeDistributeEcryptedRequest);
+        register(DurationAgreementImpl.class, IDS + "DurationAgreement", ModelTriples::writeDurationAgreement);
+        register(DurationEntityImpl.class, IDS + "DurationEntity", ModelTriples::writeDurationEntity);
+        register(DurationOfferImpl.class, IDS + "DurationOffer", ModelTriples::writeDurationOffer);
+        register(DurationRequestImpl.class, IDS + "DurationRequest", ModelTriples::writeDurationRequest);
+        register(DutyImpl.class, IDS + "Duty", ModelTriples::writeDuty);
+        register(DynamicAttributeTokenImpl.class, IDS + "DynamicAttributeToken",
+            ModelTriples::writeDynamicAttributeToken);
+        register(EndpointImpl.class, IDS + "Endpoint", ModelTriples::writeEndpoint);
+        register(EvaluationFacilityImpl.class, IDS + "EvaluationFacility", ModelTriples::writeEvaluationFacility);
+        register(EventAgreementImpl.class, IDS + "EventAgreement", ModelTriples::writeEventAgreement);
+        register(EventImpl.class, IDS + "Event", ModelTriples::writeEvent);
+        register(EventOfferImpl.class, IDS + "EventOffer", ModelTriples::writeEventOffer);
+        register(EventRequestImpl.class, IDS + "EventRequest", ModelTriples::writeEventRequest);
+        register(FrequencyImpl.class, IDS + "Frequency", ModelTriples::writeFrequency);
+        register(GenericEndpointImpl.class, IDS + "GenericEndpoint", ModelTriples::writeGenericEndpoint);
+        register(GeoFeatureImpl.class, IDS + "GeoFeature", ModelTriples::writeGeoFeature);
+        register(GeoPointImpl.class, IDS + "GeoPoint", ModelTriples::writeGeoPoint);
+        register(HTTPAuthenticationImpl.class, IDS + "HTTPAuthentication", ModelTriples::writeHTTPAuthentication);
+        register(IANAMediaTypeImpl.class, IDS + "IANAMediaType", ModelTriples::writeIANAMediaType);
+        register(IdentityProviderImpl.class, IDS + "IdentityProvider", ModelTriples::writeIdentityProvider);
+        register(IdsProtocolSpecificationImpl.class, IDS + "IdsProtocolSpecification",
+            ModelTriples::writeIdsProtocolSpecification);
+        register(ImageRepresentationImpl.class, IDS + "ImageRepresentation", ModelTriples::writeImageRepresentation);
+        register(ImageResourceImpl.class, IDS + "ImageResource", ModelTriples::writeImageResource);
+        register(InfrastructureComponentImpl.class, IDS + "InfrastructureComponent",
+            ModelTriples::writeInfrastructureComponent);
+        register(InstantImpl.class, IDS + "Instant", ModelTriples::writeInstant);
+        register(IntegrityGuaranteeImpl.class, IDS + "IntegrityGuarantee", ModelTriples::writeIntegrityGuarantee);
+        register(IntegrityVerificationScopeGuaranteeImpl.class, IDS + "IntegrityVerificationScopeGuarantee",
+            ModelTriples::writeIntegrityVerificationScopeGuarantee);
+        register(IntervalImpl.class, IDS + "Interval", ModelTriples::writeInterval);
+        register(IntervalUsageAgreementImpl.class, IDS + "IntervalUsageAgreement",
+            ModelTriples::writeIntervalUsageAgreement);
+        register(IntervalUsageOfferImpl.class, IDS + "IntervalUsageOffer", ModelTriples::writeIntervalUsageOffer);
+        register(IntervalUsageRequestImpl.class, IDS + "IntervalUsageRequest", ModelTriples::writeIntervalUsageRequest);
+        register(InvokeOperationMessageImpl.class, IDS + "InvokeOperationMessage",
+            ModelTriples::writeInvokeOperationMessage);
+        register(KeyTypeImpl.class, IDS + "KeyType", ModelTriples::writeKeyType);
+        register(LanguageImpl.class, IDS + "Language", ModelTriples::writeLanguage);
+        register(LeftOperandImpl.class, IDS + "LeftOperand", ModelTriples::writeLeftOperand);
+        register(LicenseImpl.class, IDS + "License", ModelTriples::writeLicense);
+        register(LocalDataConfidentialityGuaranteeImpl.class, IDS + "LocalDataConfidentialityGuarantee",
+            ModelTriples::writeLocalDataConfidentialityGuarantee);
+        register(LogLevelImpl.class, IDS + "LogLevel", ModelTriples::writeLogLevel);
+        register(LogMessageImpl.class, IDS + "LogMessage", ModelTriples::writeLogMessage);
+        register(LoggingAgreementImpl.class, IDS + "LoggingAgreement", ModelTriples::writeLoggingAgreement);
+        register(LoggingOfferImpl.class, IDS + "LoggingOffer", ModelTriples::writeLoggingOffer);
+        register(LoggingRequestImpl.class, IDS + "LoggingRequest", ModelTriples::writeLoggingRequest);
+        register(LogicalConstraintImpl.class, IDS + "LogicalConstraint", ModelTriples::writeLogicalConstraint);
+        register(MessageProcessedNotificationMessageImpl.class, IDS + "MessageProcessedNotificationMessage",
+            ModelTriples::writeMessageProcessedNotificationMessage);
+        register(NamedImpl.class, IDS + "Named", ModelTriples::writeNamed);
+        register(NotMoreThanNAgreementImpl.class, IDS + "NotMoreThanNAgreement",
+            ModelTriples::writeNotMoreThanNAgreement);
+        register(NotMoreThanNOfferImpl.class, IDS + "NotMoreThanNOffer", ModelTriples::writeNotMoreThanNOffer);
+        register(NotMoreThanNRequestImpl.class, IDS + "NotMoreThanNRequest", ModelTriples::writeNotMoreThanNRequest);
+        register(NotificationAgreementImpl.class, IDS + "NotificationAgreement",
+            ModelTriples::writeNotificationAgreement);
+        register(NotificationMessageImpl.class, IDS + "NotificationMessage", ModelTriples::writeNotificationMessage);
+        register(NotificationOfferImpl.class, IDS + "NotificationOffer", ModelTriples::writeNotificationOffer);
+        register(NotificationRequestImpl.class, IDS + "NotificationRequest", ModelTriples::writeNotificationRequest);
+        register(OperationResultMessageImpl.class, IDS + "OperationResultMessage",
+            ModelTriples::writeOperationResultMessage);
+        register(OrchestrationAppImpl.class, IDS + "OrchestrationApp", ModelTriples::writeOrchestrationApp);
+        register(PIPImpl.class, IDS + "PIP", ModelTriples::writePIP);
+        register(PXPImpl.class, IDS + "PXP", ModelTriples::writePXP);
+        register(ParISImpl.class, IDS + "ParIS", ModelTriples::writeParIS);
+        register(ParticipantCatalogImpl.class, IDS + "ParticipantCatalog", ModelTriples::writeParticipantCatalog);
+        register(ParticipantCertificateGrantedMessageImpl.class, IDS + "ParticipantCertificateGrantedMessage",
+            ModelTriples::writeParticipantCertificateGrantedMessage);
+        register(ParticipantCertificateRevokedMessageImpl.class, IDS + "ParticipantCertificateRevokedMessage",
+            ModelTriples::writeParticipantCertificateRevokedMessage);
+        register(ParticipantCertificationImpl.class, IDS + "ParticipantCertification",
+            ModelTriples::writeParticipantCertification);
+        register(ParticipantCertificationLevelImpl.class, IDS + "ParticipantCertificationLevel",
+            ModelTriples::writeParticipantCertificationLevel);
+        register(ParticipantImpl.class, IDS + "Participant", ModelTriples::writeParticipant);
+        register(ParticipantRequestMessageImpl.class, IDS + "ParticipantRequestMessage",
+            ModelTriples::writeParticipantRequestMessage);
+        register(ParticipantResponseMessageImpl.class, IDS + "ParticipantResponseMessage",
+            ModelTriples::writeParticipantResponseMessage);
+        register(ParticipantUnavailableMessageImpl.class, IDS + "ParticipantUnavailableMessage",
+            ModelTriples::writeParticipantUnavailableMessage);
+        register(ParticipantUpdateMessageImpl.class, IDS + "ParticipantUpdateMessage",
+            ModelTriples::writeParticipantUpdateMessage);
+        register(PaymentModalityImpl.class, IDS + "PaymentModality", ModelTriples::writePaymentModality);
+        register(PermissionImpl.class, IDS + "Permission", ModelTriples::writePermission);
+        register(PersonImpl.class, IDS + "Person", ModelTriples::writePerson);
+        register(ProhibitionImpl.class, IDS + "Prohibition", ModelTriples::writeProhibition);
+        register(ProxyImpl.class, IDS + "Proxy", ModelTriples::writeProxy);
+        register(PublicKeyImpl.class, IDS + "PublicKey", ModelTriples::writePublicKey);
+        register(PurposeAgreementImpl.class, IDS + "PurposeAgreement", ModelTriples::writePurposeAgreement);
+        register(PurposeOfferImpl.class, IDS + "PurposeOffer", ModelTriples::writePurposeOffer);
+        register(PurposeRequestImpl.class, IDS + "PurposeRequest", ModelTriples::writePurposeRequest);
+        register(QueryLanguageImpl.class, IDS + "QueryLanguage", ModelTriples::writeQueryLanguage);
+        register(QueryMessageImpl.class, IDS + "QueryMessage", ModelTriples::writeQueryMessage);
+        register(QueryScopeImpl.class, IDS + "QueryScope", ModelTriples::writeQueryScope);
+        register(QueryTargetImpl.class, IDS + "QueryTarget", ModelTriples::writeQueryTarget);
+        register(RejectionMessageImpl.class, IDS + "RejectionMessage", ModelTriples::writeRejectionMessage);
+        register(RejectionReasonImpl.class, IDS + "RejectionReason", ModelTriples::writeRejectionReason);
+        register(RentalAgreementImpl.class, IDS + "RentalAgreement", ModelTriples::writeRentalAgreement);
+        register(RentalOfferImpl.class, IDS + "RentalOffer", ModelTriples::writeRentalOffer);
+        register(RentalRequestImpl.class, IDS + "RentalRequest", ModelTriples::writeRentalRequest);
+        register(RepresentationImpl.class, IDS + "Representation", ModelTriples::writeRepresentation);
+        register(RequestInProcessMessageImpl.class, IDS + "RequestInProcessMessage",
+            ModelTriples::writeRequestInProcessMessage);
+        register(RequestMessageImpl.class, IDS + "RequestMessage", ModelTriples::writeRequestMessage);
+        register(ResourceCatalogImpl.class, IDS + "ResourceCatalog", ModelTriples::writeResourceCatalog);
+        register(ResourceImpl.class, IDS + "Resource", ModelTriples::writeResource);
+        register(ResourceUnavailableMessageImpl.class, IDS + "ResourceUnavailableMessage",
+            ModelTriples::writeResourceUnavailableMessage);
+        register(ResourceUpdateMessageImpl.class, IDS + "ResourceUpdateMessage",
+            ModelTriples::writeResourceUpdateMessage);
+        register(ResponseMessageImpl.class, IDS + "ResponseMessage", ModelTriples::writeResponseMessage);
+        register(ResultMessageImpl.class, IDS + "ResultMessage", ModelTriples::writeResultMessage);
+        register(RolebasedAgreementImpl.class, IDS + "RolebasedAgreement", ModelTriples::writeRolebasedAgreement);
+        register(RolebasedOfferImpl.class, IDS + "RolebasedOffer", ModelTriples::writeRolebasedOffer);
+        register(RolebasedRequestImpl.class, IDS + "RolebasedRequest", ModelTriples::writeRolebasedRequest);
+        register(RouteStepImpl.class, IDS + "RouteStep", ModelTriples::writeRouteStep);
+        register(SalesAgreementImpl.class, IDS + "SalesAgreement", ModelTriples::writeSalesAgreement);
+        register(SalesOfferImpl.class, IDS + "SalesOffer", ModelTriples::writeSalesOffer);
+        register(SalesRequestImpl.class, IDS + "SalesRequest", ModelTriples::writeSalesRequest);
+        register(SecurityAgreementImpl.class, IDS + "SecurityAgreement", ModelTriples::writeSecurityAgreement);
+        register(SecurityGuaranteeImpl.class, IDS + "SecurityGuarantee", ModelTriples::writeSecurityGuarantee);
+        register(SecurityOfferImpl.class, IDS + "SecurityOffer", ModelTriples::writeSecurityOffer);
+        register(SecurityProfileImpl.class, IDS + "SecurityProfile", ModelTriples::writeSecurityProfile);
+        register(SecurityRequestImpl.class, IDS + "SecurityRequest", ModelTriples::writeSecurityRequest);
+        register(ServiceIsolationGuaranteeImpl.class, IDS + "ServiceIsolationGuarantee",
+            ModelTriples::writeServiceIsolationGuarantee);
+        register(SiteImpl.class, IDS + "Site", ModelTriples::writeSite);
+        register(SmartDataAppImpl.class, IDS + "SmartDataApp", ModelTriples::writeSmartDataApp);
+        register(SoftwareRepresentationImpl.class, IDS + "SoftwareRepresentation",
+            ModelTriples::writeSoftwareRepresentation);
+        register(SoftwareResourceImpl.class, IDS + "SoftwareResource", ModelTriples::writeSoftwareResource);
+        register(SpatialAgreementImpl.class, IDS + "SpatialAgreement", ModelTriples::writeSpatialAgreement);
+        register(SpatialOfferImpl.class, IDS + "SpatialOffer", ModelTriples::writeSpatialOffer);
+        register(SpatialRequestImpl.class, IDS + "SpatialRequest", ModelTriples::writeSpatialRequest);
+        register(SwapAgreementImpl.class, IDS + "SwapAgreement", ModelTriples::writeSwapAgreement);
+        register(SwapOfferImpl.class, IDS + "SwapOffer", ModelTriples::writeSwapOffer);
+        register(SwapRequestImpl.class, IDS + "SwapRequest", ModelTriples::writeSwapRequest);
+        register(SystemAdapterImpl.class, IDS + "SystemAdapter", ModelTriples::writeSystemAdapter);
+        register(TemporalEntityImpl.class, IDS + "TemporalEntity", ModelTriples::writeTemporalEntity);
+        register(TextRepresentationImpl.class, IDS + "TextRepresentation", ModelTriples::writeTextRepresentation);
+        register(TextResourceImpl.class, IDS + "TextResource", ModelTriples::writeTextResource);
+        register(TokenFormatImpl.class, IDS + "TokenFormat", ModelTriples::writeTokenFormat);
+        register(TokenImpl.class, IDS + "Token", ModelTriples::writeToken);
+        register(TrustedConnectorImpl.class, IDS + "TrustedConnector", ModelTriples::writeTrustedConnector);
+        register(UploadMessageImpl.class, IDS + "UploadMessage", ModelTriples::writeUploadMessage);
+        register(UploadResponseMessageImpl.class, IDS + "UploadResponseMessage",
+            ModelTriples::writeUploadResponseMessage);
+        register(UsageControlComponentImpl.class, IDS + "UsageControlComponent",
+            ModelTriples::writeUsageControlComponent);
+        register(UsageControlGuaranteeImpl.class, IDS + "UsageControlGuarantee",
+            ModelTriples::writeUsageControlGuarantee);
+        register(UsageControlObjectImpl.class, IDS + "UsageControlObject", ModelTriples::writeUsageControlObject);
+        register(UsagePolicyClassImpl.class, IDS + "UsagePolicyClass", ModelTriples::writeUsagePolicyClass);
+        register(ValueImpl.class, IDS + "Value", ModelTriples::writeValue);
+        register(VideoRepresentationImpl.class, IDS + "VideoRepresentation", ModelTriples::writeVideoRepresentation);
+        register(VideoResourceImpl.class, IDS + "VideoResource", ModelTriples::writeVideoResource);
+
+        DEFAULT_INSTANCES.put(ActionImpl.class, Action::fromId);
+        DEFAULT_INSTANCES.put(AppEndpointTypeImpl.class, AppEndpointType::fromId);
+        DEFAULT_INSTANCES.put(AppExecutionResourcesImpl.class, AppExecutionResources::fromId);
+        DEFAULT_INSTANCES.put(ArtifactStateImpl.class, ArtifactState::fromId);
+        DEFAULT_INSTANCES.put(AudienceImpl.class, Audience::fromId);
+        DEFAULT_INSTANCES.put(AuditGuaranteeImpl.class, AuditGuarantee::fromId);
+        DEFAULT_INSTANCES.put(AuthStandardImpl.class, AuthStandard::fromId);
+        DEFAULT_INSTANCES.put(AuthenticationGuaranteeImpl.class, AuthenticationGuarantee::fromId);
+        DEFAULT_INSTANCES.put(BinaryOperatorImpl.class, BinaryOperator::fromId);
+        DEFAULT_INSTANCES.put(ComponentCertificationLevelImpl.class, ComponentCertificationLevel::fromId);
+        DEFAULT_INSTANCES.put(ConnectorDeployModeImpl.class, ConnectorDeployMode::fromId);
+        DEFAULT_INSTANCES.put(ConnectorStatusImpl.class, ConnectorStatus::fromId);
+        DEFAULT_INSTANCES.put(ContentTypeImpl.class, ContentType::fromId);
+        DEFAULT_INSTANCES.put(FrequencyImpl.class, Frequency::fromId);
+        DEFAULT_INSTANCES.put(IdsProtocolSpecificationImpl.class, IdsProtocolSpecification::fromId);
+        DEFAULT_INSTANCES.put(IntegrityGuaranteeImpl.class, IntegrityGuarantee::fromId);
+        DEFAULT_INSTANCES.put(IntegrityVerificationScopeGuaranteeImpl.class,
+            IntegrityVerificationScopeGuarantee::fromId);
+        DEFAULT_INSTANCES.put(KeyTypeImpl.class, KeyType::fromId);
+        DEFAULT_INSTANCES.put(LanguageImpl.class, Language::fromId);
+        DEFAULT_INSTANCES.put(LeftOperandImpl.class, LeftOperand::fromId);
+        DEFAULT_INSTANCES.put(LocalDataConfidentialityGuaranteeImpl.class, LocalDataConfidentialityGuarantee::fromId);
+        DEFAULT_INSTANCES.put(LogLevelImpl.class, LogLevel::fromId);
+        DEFAULT_INSTANCES.put(ParticipantCertificationLevelImpl.class, ParticipantCertificationLevel::fromId);
+        DEFAULT_INSTANCES.put(PaymentModalityImpl.class, PaymentModality::fromId);
+        DEFAULT_INSTANCES.put(QueryLanguageImpl.class, QueryLanguage::fromId);
+        DEFAULT_INSTANCES.put(QueryScopeImpl.class, QueryScope::fromId);
+        DEFAULT_INSTANCES.put(QueryTargetImpl.class, QueryTarget::fromId);
+        DEFAULT_INSTANCES.put(RejectionReasonImpl.class, RejectionReason::fromId);
+        DEFAULT_INSTANCES.put(SecurityProfileImpl.class, SecurityProfile::fromId);
+        DEFAULT_INSTANCES.put(ServiceIsolationGuaranteeImpl.class, ServiceIsolationGuarantee::fromId);
+        DEFAULT_INSTANCES.put(TokenFormatImpl.class, TokenFormat::fromId);
+        DEFAULT_INSTANCES.put(UsageControlGuaranteeImpl.class, UsageControlGuarantee::fromId);
+        DEFAULT_INSTANCES.put(UsagePolicyClassImpl.class, UsagePolicyClass::fromId);
+    }
+
+    private ModelTriples() {}
+
+    private static void register(Class<?> implementation, String iri, Properties properties) {
+        TYPES.put(implementation, new Type(iri, properties));
+    }
+
+    /**
+     * Returns the RDF class of the given object, which is looked up by its implementation class or the
+     * nearest superclass of it, or null for other implementations.
+     */
+    static Type type(ModelClass object) {
+        for (Class<?> c = object.getClass(); c != null; c = c.getSuperclass()) {
+            Type type = TYPES.get(c);
+            if (type != null) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether the given object is a shared default instance, e.g. idsc:EN.
+     */
+    static boolean isDefaultInstance(ModelClass object) {
+        Function<URI, ModelClass> lookup = DEFAULT_INSTANCES.get(object.getClass());
+        return lookup != null && lookup.apply(object.getId()) == object;
+    }
+
+    private static void writeAccessTokenRequestMessage(ModelClass object, RdfWriter out) throws IOException {
+        AccessTokenRequestMessage value = (AccessTokenRequestMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeAccessTokenResponseMessage(ModelClass object, RdfWriter out) throws IOException {
+        AccessTokenResponseMessage value = (AccessTokenResponseMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeAction(ModelClass object, RdfWriter out) throws IOException {
+        Action value = (Action) object;
+        out.value(IDS + "actionRefinement", value.getActionRefinement());
+        out.value(IDS + "includedIn", value.getIncludedIn());
+        out.value(IDS + "pxpEndpoint", value.getPxpEndpoint());
+    }
+
+    private static void writeAgent(ModelClass object, RdfWriter out) throws IOException {
+        Agent value = (Agent) object;
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "title", value.getTitle());
+    }
+
+    private static void writeAppAvailableMessage(ModelClass object, RdfWriter out) throws IOException {
+        AppAvailableMessage value = (AppAvailableMessage) object;
+        out.value(IDS + "affectedResource", value.getAffectedResource());
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeAppDeleteMessage(ModelClass object, RdfWriter out) throws IOException {
+        AppDeleteMessage value = (AppDeleteMessage) object;
+        out.value(IDS + "affectedResource", value.getAffectedResource());
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeAppEndpoint(ModelClass object, RdfWriter out) throws IOException {
+        AppEndpoint value = (AppEndpoint) object;
+        out.value(IDS + "accessURL", value.getAccessURL());
+        out.value(IDS + "apiSpecifiation", value.getApiSpecifiation());
+        out.value(IDS + "appEndpointMediaType", value.getAppEndpointMediaType());
+        out.value(IDS + "appEndpointPort", value.getAppEndpointPort());
+        out.value(IDS + "appEndpointProtocol", value.getAppEndpointProtocol());
+        out.value(IDS + "appEndpointType", value.getAppEndpointType());
+        out.value(IDS + "endpointDocumentation", value.getEndpointDocumentation());
+        out.value(IDS + "endpointInformation", value.getEndpointInformation());
+        out.value(IDS + "inboundPath", value.getInboundPath());
+        out.value(IDS + "language", value.getLanguage());
+        out.value(IDS + "outboundPath", value.getOutboundPath());
+        out.value(IDS + "path", value.getPath());
+    }
+
+    private static void writeAppEndpointType(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeAppExecutionResources(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeAppRegistrationRequestMessage(ModelClass object, RdfWriter out) throws IOException {
+        AppRegistrationRequestMessage value = (AppRegistrationRequestMessage) object;
+        out.value(IDS + "affectedDataApp", value.getAffectedDataApp());
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeAppRegistrationResponseMessage(ModelClass object, RdfWriter out) throws IOException {
+        AppRegistrationResponseMessage value = (AppRegistrationResponseMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeAppRepresentation(ModelClass object, RdfWriter out) throws IOException {
+        AppRepresentation value = (AppRepresentation) object;
+        out.value(IDS + "created", value.getCreated());
+        out.value(IDS + "dataAppDistributionService", value.getDataAppDistributionService());
+        out.value(IDS + "dataAppInformation", value.getDataAppInformation());
+        out.value(IDS + "dataAppRuntimeEnvironment", value.getDataAppRuntimeEnvironment());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "instance", value.getInstance());
+        out.value(IDS + "language", value.getLanguage());
+        out.value(IDS + "mediaType", value.getMediaType());
+        out.value(IDS + "modified", value.getModified());
+        out.value(IDS + "representationStandard", value.getRepresentationStandard());
+        out.value(IDS + "shapesGraph", value.getShapesGraph());
+        out.value(IDS + "title", value.getTitle());
+    }
+
+    private static void writeAppResourceCatalog(ModelClass object, RdfWriter out) throws IOException {
+        AppResourceCatalog value = (AppResourceCatalog) object;
+        out.value(IDS + "listedAppResource", value.getListedAppResource());
+    }
+
+    private static void writeAppResource(ModelClass object, RdfWriter out) throws IOException {
+        AppResource value = (AppResource) object;
+        out.value(IDS + "accrualPeriodicity", value.getAccrualPeriodicity());
+        out.value(IDS + "contentPart", value.getContentPart());
+        out.value(IDS + "contentStandard", value.getContentStandard());
+        out.value(IDS + "contentType", value.getContentType());
+        out.value(IDS + "contractOffer", value.getContractOffer());
+        out.value(IDS + "created", value.getCreated());
+        out.value(IDS + "customLicense", value.getCustomLicense());
+        out.value(IDS + "defaultRepresentation", value.getDefaultRepresentation());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "keyword", value.getKeyword());
+        out.value(IDS + "language", value.getLanguage());
+        out.value(IDS + "modified", value.getModified());
+        out.value(IDS + "paymentModality", value.getPaymentModality());
+        out.value(IDS + "publisher", value.getPublisherAsObject());
+        out.value(IDS + "publisher", value.getPublisherAsUri());
+        out.value(IDS + "representation", value.getRepresentation());
+        out.value(IDS + "resourceEndpoint", value.getResourceEndpoint());
+        out.value(IDS + "resourcePart", value.getResourcePart());
+        out.value(IDS + "sample", value.getSample());
+        out.value(IDS + "shapesGraph", value.getShapesGraph());
+        out.value(IDS + "sovereign", value.getSovereignAsObject());
+        out.value(IDS + "sovereign", value.getSovereignAsUri());
+        out.value(IDS + "spatialCoverage", value.getSpatialCoverage());
+        out.value(IDS + "standardLicense", value.getStandardLicense());
+        out.value(IDS + "temporalCoverage", value.getTemporalCoverage());
+        out.value(IDS + "temporalResolution", value.getTemporalResolution());
+        out.value(IDS + "theme", value.getTheme());
+        out.value(IDS + "title", value.getTitle());
+        out.value(IDS + "variant", value.getVariant());
+        out.value(IDS + "version", value.getVersion());
+    }
+
+    private static void writeAppRoute(ModelClass object, RdfWriter out) throws IOException {
+        AppRoute value = (AppRoute) object;
+        out.value(IDS + "appRouteBroker", value.getAppRouteBroker());
+        out.value(IDS + "appRouteClearingHouse", value.getAppRouteClearingHouse());
+        out.value(IDS + "appRouteEnd", value.getAppRouteEnd());
+        out.value(IDS + "appRouteOutput", value.getAppRouteOutput());
+        out.value(IDS + "appRouteStart", value.getAppRouteStart());
+        out.value(IDS + "hasSubRoute", value.getHasSubRoute());
+        out.value(IDS + "routeConfiguration", value.getRouteConfiguration());
+        out.value(IDS + "routeDeployMethod", value.getRouteDeployMethod());
+        out.value(IDS + "routeDescription", value.getRouteDescription());
+    }
+
+    private static void writeAppStoreCatalog(ModelClass object, RdfWriter out) throws IOException {
+        AppStoreCatalog value = (AppStoreCatalog) object;
+        out.value(IDS + "listedConnector", value.getListedConnector());
+    }
+
+    private static void writeAppStore(ModelClass object, RdfWriter out) throws IOException {
+        AppStore value = (AppStore) object;
+        out.value(IDS + "authInfo", value.getAuthInfo());
+        out.value(IDS + "componentCertification", value.getComponentCertification());
+        out.value(IDS + "curator", value.getCuratorAsObject());
+        out.value(IDS + "curator", value.getCuratorAsUri());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "extendedGuarantee", value.getExtendedGuarantee());
+        out.value(IDS + "hasAgent", value.getHasAgent());
+        out.value(IDS + "hasDefaultEndpoint", value.getHasDefaultEndpoint());
+        out.value(IDS + "hasEndpoint", value.getHasEndpoint());
+        out.value(IDS + "inboundModelVersion", value.getInboundModelVersion());
+        out.value(IDS + "maintainer", value.getMaintainerAsObject());
+        out.value(IDS + "maintainer", value.getMaintainerAsUri());
+        out.value(IDS + "outboundModelVersion", value.getOutboundModelVersion());
+        out.value(IDS + "physicalLocation", value.getPhysicalLocation());
+        out.value(IDS + "publicKey", value.getPublicKey());
+        out.value(IDS + "resourceCatalog", value.getResourceCatalog());
+        out.value(IDS + "securityProfile", value.getSecurityProfile());
+        out.value(IDS + "title", value.getTitle());
+        out.value(IDS + "version", value.getVersion());
+    }
+
+    private static void writeAppUnavailableMessage(ModelClass object, RdfWriter out) throws IOException {
+        AppUnavailableMessage value = (AppUnavailableMessage) object;
+        out.value(IDS + "affectedResource", value.getAffectedResource());
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeAppUploadMessage(ModelClass object, RdfWriter out) throws IOException {
+        AppUploadMessage value = (AppUploadMessage) object;
+        out.value(IDS + "appArtifactReference", value.getAppArtifactReference());
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeAppUploadResponseMessage(ModelClass object, RdfWriter out) throws IOException {
+        AppUploadResponseMessage value = (AppUploadResponseMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeArtifact(ModelClass object, RdfWriter out) throws IOException {
+        Artifact value = (Artifact) object;
+        out.value(IDS + "byteSize", value.getByteSize());
+        out.value(IDS + "checkSum", value.getCheckSum());
+        out.value(IDS + "creationDate", value.getCreationDate());
+        out.value(IDS + "duration", value.getDuration());
+        out.value(IDS + "fileName", value.getFileName());
+    }
+
+    private static void writeArtifactRequestMessage(ModelClass object, RdfWriter out) throws IOException {
+        ArtifactRequestMessage value = (ArtifactRequestMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "requestedArtifact", value.getRequestedArtifact());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeArtifactResponseMessage(ModelClass object, RdfWriter out) throws IOException {
+        ArtifactResponseMessage value = (ArtifactResponseMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeArtifactState(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeAssetCollection(ModelClass object, RdfWriter out) throws IOException {
+        AssetCollection value = (AssetCollection) object;
+        out.value(IDS + "assetRefinement", value.getAssetRefinement());
+        out.value(IDS + "assetSource", value.getAssetSource());
+    }
+
+    private static void writeAudience(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeAudioRepresentation(ModelClass object, RdfWriter out) throws IOException {
+        AudioRepresentation value = (AudioRepresentation) object;
+        out.value(IDS + "created", value.getCreated());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "instance", value.getInstance());
+        out.value(IDS + "language", value.getLanguage());
+        out.value(IDS + "mediaType", value.getMediaType());
+        out.value(IDS + "modified", value.getModified());
+        out.value(IDS + "representationStandard", value.getRepresentationStandard());
+        out.value(IDS + "samplingRate", value.getSamplingRate());
+        out.value(IDS + "shapesGraph", value.getShapesGraph());
+        out.value(IDS + "title", value.getTitle());
+    }
+
+    private static void writeAudioResource(ModelClass object, RdfWriter out) throws IOException {
+        AudioResource value = (AudioResource) object;
+        out.value(IDS + "accrualPeriodicity", value.getAccrualPeriodicity());
+        out.value(IDS + "contentPart", value.getContentPart());
+        out.value(IDS + "contentStandard", value.getContentStandard());
+        out.value(IDS + "contentType", value.getContentType());
+        out.value(IDS + "contractOffer", value.getContractOffer());
+        out.value(IDS + "created", value.getCreated());
+        out.value(IDS + "customLicense", value.getCustomLicense());
+        out.value(IDS + "defaultRepresentation", value.getDefaultRepresentation());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "keyword", value.getKeyword());
+        out.value(IDS + "language", value.getLanguage());
+        out.value(IDS + "modified", value.getModified());
+        out.value(IDS + "paymentModality", value.getPaymentModality());
+        out.value(IDS + "publisher", value.getPublisherAsObject());
+        out.value(IDS + "publisher", value.getPublisherAsUri());
+        out.value(IDS + "representation", value.getRepresentation());
+        out.value(IDS + "resourceEndpoint", value.getResourceEndpoint());
+        out.value(IDS + "resourcePart", value.getResourcePart());
+        out.value(IDS + "sample", value.getSample());
+        out.value(IDS + "shapesGraph", value.getShapesGraph());
+        out.value(IDS + "sovereign", value.getSovereignAsObject());
+        out.value(IDS + "sovereign", value.getSovereignAsUri());
+        out.value(IDS + "spatialCoverage", value.getSpatialCoverage());
+        out.value(IDS + "standardLicense", value.getStandardLicense());
+        out.value(IDS + "temporalCoverage", value.getTemporalCoverage());
+        out.value(IDS + "temporalResolution", value.getTemporalResolution());
+        out.value(IDS + "theme", value.getTheme());
+        out.value(IDS + "title", value.getTitle());
+        out.value(IDS + "variant", value.getVariant());
+        out.value(IDS + "version", value.getVersion());
+    }
+
+    private static void writeAuditGuarantee(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeAuthInfo(ModelClass object, RdfWriter out) throws IOException {
+        AuthInfo value = (AuthInfo) object;
+        out.value(IDS + "authService", value.getAuthService());
+        out.value(IDS + "authStandard", value.getAuthStandard());
+    }
+
+    private static void writeAuthStandard(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeAuthenticationGuarantee(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeBaseConnector(ModelClass object, RdfWriter out) throws IOException {
+        BaseConnector value = (BaseConnector) object;
+        out.value(IDS + "authInfo", value.getAuthInfo());
+        out.value(IDS + "componentCertification", value.getComponentCertification());
+        out.value(IDS + "curator", value.getCuratorAsObject());
+        out.value(IDS + "curator", value.getCuratorAsUri());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "extendedGuarantee", value.getExtendedGuarantee());
+        out.value(IDS + "hasAgent", value.getHasAgent());
+        out.value(IDS + "hasDefaultEndpoint", value.getHasDefaultEndpoint());
+        out.value(IDS + "hasEndpoint", value.getHasEndpoint());
+        out.value(IDS + "inboundModelVersion", value.getInboundModelVersion());
+        out.value(IDS + "maintainer", value.getMaintainerAsObject());
+        out.value(IDS + "maintainer", value.getMaintainerAsUri());
+        out.value(IDS + "outboundModelVersion", value.getOutboundModelVersion());
+        out.value(IDS + "physicalLocation", value.getPhysicalLocation());
+        out.value(IDS + "publicKey", value.getPublicKey());
+        out.value(IDS + "resourceCatalog", value.getResourceCatalog());
+        out.value(IDS + "securityProfile", value.getSecurityProfile());
+        out.value(IDS + "title", value.getTitle());
+        out.value(IDS + "version", value.getVersion());
+    }
+
+    private static void writeBasicAuthentication(ModelClass object, RdfWriter out) throws IOException {
+        BasicAuthentication value = (BasicAuthentication) object;
+        out.value(IDS + "authPassword", value.getAuthPassword());
+        out.value(IDS + "authUsername", value.getAuthUsername());
+    }
+
+    private static void writeBinaryOperator(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeBoundingPolygon(ModelClass object, RdfWriter out) throws IOException {
+        BoundingPolygon value = (BoundingPolygon) object;
+        out.value(IDS + "geoPoint", value.getGeoPoint());
+    }
+
+    private static void writeBrokerCatalog(ModelClass object, RdfWriter out) throws IOException {
+        BrokerCatalog value = (BrokerCatalog) object;
+        out.value(IDS + "listedConnector", value.getListedConnector());
+    }
+
+    private static void writeBroker(ModelClass object, RdfWriter out) throws IOException {
+        Broker value = (Broker) object;
+        out.value(IDS + "authInfo", value.getAuthInfo());
+        out.value(IDS + "componentCertification", value.getComponentCertification());
+        out.value(IDS + "connectorCatalog", value.getConnectorCatalog());
+        out.value(IDS + "curator", value.getCuratorAsObject());
+        out.value(IDS + "curator", value.getCuratorAsUri());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "extendedGuarantee", value.getExtendedGuarantee());
+        out.value(IDS + "hasAgent", value.getHasAgent());
+        out.value(IDS + "hasDefaultEndpoint", value.getHasDefaultEndpoint());
+        out.value(IDS + "hasEndpoint", value.getHasEndpoint());
+        out.value(IDS + "inboundModelVersion", value.getInboundModelVersion());
+        out.value(IDS + "maintainer", value.getMaintainerAsObject());
+        out.value(IDS + "maintainer", value.getMaintainerAsUri());
+        out.value(IDS + "outboundModelVersion", value.getOutboundModelVersion());
+        out.value(IDS + "physicalLocation", value.getPhysicalLocation());
+        out.value(IDS + "publicKey", value.getPublicKey());
+        out.value(IDS + "resourceCatalog", value.getResourceCatalog());
+        out.value(IDS + "securityProfile", value.getSecurityProfile());
+        out.value(IDS + "title", value.getTitle());
+        out.value(IDS + "version", value.getVersion());
+    }
+
+    private static void writeBusinessIdentifier(ModelClass object, RdfWriter out) throws IOException {
+        BusinessIdentifier value = (BusinessIdentifier) object;
+        out.value(IDS + "identifierNumber", value.getIdentifierNumber());
+        out.value(IDS + "identifierSystem", value.getIdentifierSystem());
+    }
+
+    private static void writeClearingHouseCatalog(ModelClass object, RdfWriter out) throws IOException {
+        ClearingHouseCatalog value = (ClearingHouseCatalog) object;
+        out.value(IDS + "listedClearingHouse", value.getListedClearingHouse());
+    }
+
+    private static void writeClearingHouse(ModelClass object, RdfWriter out) throws IOException {
+        ClearingHouse value = (ClearingHouse) object;
+        out.value(IDS + "componentCertification", value.getComponentCertification());
+        out.value(IDS + "curator", value.getCuratorAsObject());
+        out.value(IDS + "curator", value.getCuratorAsUri());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "inboundModelVersion", value.getInboundModelVersion());
+        out.value(IDS + "maintainer", value.getMaintainerAsObject());
+        out.value(IDS + "maintainer", value.getMaintainerAsUri());
+        out.value(IDS + "outboundModelVersion", value.getOutboundModelVersion());
+        out.value(IDS + "physicalLocation", value.getPhysicalLocation());
+        out.value(IDS + "publicKey", value.getPublicKey());
+        out.value(IDS + "title", value.getTitle());
+        out.value(IDS + "version", value.getVersion());
+    }
+
+    private static void writeCommandMessage(ModelClass object, RdfWriter out) throws IOException {
+        CommandMessage value = (CommandMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeComponentCertification(ModelClass object, RdfWriter out) throws IOException {
+        ComponentCertification value = (ComponentCertification) object;
+        out.value(IDS + "certificationLevel", value.getCertificationLevel());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "evaluationFacility", value.getEvaluationFacility());
+        out.value(IDS + "lastValidDate", value.getLastValidDate());
+        out.value(IDS + "title", value.getTitle());
+        out.value(IDS + "version", value.getVersion());
+    }
+
+    private static void writeComponentCertificationLevel(ModelClass object, RdfWriter out) throws IOException {
+        ComponentCertificationLevel value = (ComponentCertificationLevel) object;
+        out.value(IDS + "includedCertificationLevel", value.getIncludedCertificationLevel());
+    }
+
+    private static void writeConfigurationModel(ModelClass object, RdfWriter out) throws IOException {
+        ConfigurationModel value = (ConfigurationModel) object;
+        out.value(IDS + "appRoute", value.getAppRoute());
+        out.value(IDS + "configurationModelLogLevel", value.getConfigurationModelLogLevel());
+        out.value(IDS + "configuredAppResource", value.getConfiguredAppResource());
+        out.value(IDS + "configuredAppStore", value.getConfiguredAppStore());
+        out.value(IDS + "configuredBroker", value.getConfiguredBroker());
+        out.value(IDS + "configuredClearingHouse", value.getConfiguredClearingHouse());
+        out.value(IDS + "connectorDeployMode", value.getConnectorDeployMode());
+        out.value(IDS + "connectorDescription", value.getConnectorDescription());
+        out.value(IDS + "connectorProxy", value.getConnectorProxy());
+        out.value(IDS + "connectorStatus", value.getConnectorStatus());
+        out.value(IDS + "keyStore", value.getKeyStore());
+        out.value(IDS + "keyStoreAlias", value.getKeyStoreAlias());
+        out.value(IDS + "keyStorePassword", value.getKeyStorePassword());
+        out.value(IDS + "trustStore", value.getTrustStore());
+        out.value(IDS + "trustStoreAlias", value.getTrustStoreAlias());
+        out.value(IDS + "trustStorePassword", value.getTrustStorePassword());
+        out.value(IDS + "userAuthentication", value.getUserAuthentication());
+    }
+
+    private static void writeConnectorCatalog(ModelClass object, RdfWriter out) throws IOException {
+        ConnectorCatalog value = (ConnectorCatalog) object;
+        out.value(IDS + "listedConnector", value.getListedConnector());
+    }
+
+    private static void writeConnectorCertificateGrantedMessage(ModelClass object, RdfWriter out) throws IOException {
+        ConnectorCertificateGrantedMessage value = (ConnectorCertificateGrantedMessage) object;
+        out.value(IDS + "affectedConnector", value.getAffectedConnector());
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeConnectorCertificateRevokedMessage(ModelClass object, RdfWriter out) throws IOException {
+        ConnectorCertificateRevokedMessage value = (ConnectorCertificateRevokedMessage) object;
+        out.value(IDS + "affectedConnector", value.getAffectedConnector());
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "revocationReason", value.getRevocationReason());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeConnectorDeployMode(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeConnectorEndpoint(ModelClass object, RdfWriter out) throws IOException {
+        ConnectorEndpoint value = (ConnectorEndpoint) object;
+        out.value(IDS + "accessURL", value.getAccessURL());
+        out.value(IDS + "apiSpecifiation", value.getApiSpecifiation());
+        out.value(IDS + "endpointArtifact", value.getEndpointArtifact());
+        out.value(IDS + "endpointDocumentation", value.getEndpointDocumentation());
+        out.value(IDS + "endpointInformation", value.getEndpointInformation());
+        out.value(IDS + "inboundPath", value.getInboundPath());
+        out.value(IDS + "outboundPath", value.getOutboundPath());
+        out.value(IDS + "path", value.getPath());
+    }
+
+    private static void writeConnectorStatus(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeConnectorUnavailableMessage(ModelClass object, RdfWriter out) throws IOException {
+        ConnectorUnavailableMessage value = (ConnectorUnavailableMessage) object;
+        out.value(IDS + "affectedConnector", value.getAffectedConnector());
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeConnectorUpdateMessage(ModelClass object, RdfWriter out) throws IOException {
+        ConnectorUpdateMessage value = (ConnectorUpdateMessage) object;
+        out.value(IDS + "affectedConnector", value.getAffectedConnector());
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeConnectorbasedAgreement(ModelClass object, RdfWriter out) throws IOException {
+        ConnectorbasedAgreement value = (ConnectorbasedAgreement) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeConnectorbasedOffer(ModelClass object, RdfWriter out) throws IOException {
+        ConnectorbasedOffer value = (ConnectorbasedOffer) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeConnectorbasedRequest(ModelClass object, RdfWriter out) throws IOException {
+        ConnectorbasedRequest value = (ConnectorbasedRequest) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeConstraint(ModelClass object, RdfWriter out) throws IOException {
+        Constraint value = (Constraint) object;
+        out.value(IDS + "leftOperand", value.getLeftOperand());
+        out.value(IDS + "operator", value.getOperator());
+        out.value(IDS + "pipEndpoint", value.getPipEndpoint());
+        out.value(IDS + "rightOperand", value.getRightOperand());
+        out.value(IDS + "rightOperandReference", value.getRightOperandReference());
+        out.value(IDS + "unit", value.getUnit());
+    }
+
+    private static void writeContentType(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeContractAgreement(ModelClass object, RdfWriter out) throws IOException {
+        ContractAgreement value = (ContractAgreement) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeContractAgreementMessage(ModelClass object, RdfWriter out) throws IOException {
+        ContractAgreementMessage value = (ContractAgreementMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeContractOffer(ModelClass object, RdfWriter out) throws IOException {
+        ContractOffer value = (ContractOffer) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeContractOfferMessage(ModelClass object, RdfWriter out) throws IOException {
+        ContractOfferMessage value = (ContractOfferMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeContractRejectionMessage(ModelClass object, RdfWriter out) throws IOException {
+        ContractRejectionMessage value = (ContractRejectionMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "contractRejectionReason", value.getContractRejectionReason());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "rejectionReason", value.getRejectionReason());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeContractRequest(ModelClass object, RdfWriter out) throws IOException {
+        ContractRequest value = (ContractRequest) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeContractRequestMessage(ModelClass object, RdfWriter out) throws IOException {
+        ContractRequestMessage value = (ContractRequestMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeContractResponseMessage(ModelClass object, RdfWriter out) throws IOException {
+        ContractResponseMessage value = (ContractResponseMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeContractSupplementMessage(ModelClass object, RdfWriter out) throws IOException {
+        ContractSupplementMessage value = (ContractSupplementMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeCustomMediaType(ModelClass object, RdfWriter out) throws IOException {
+        CustomMediaType value = (CustomMediaType) object;
+        out.value(IDS + "filenameExtension", value.getFilenameExtension());
+    }
+
+    private static void writeDAPS(ModelClass object, RdfWriter out) throws IOException {
+        DAPS value = (DAPS) object;
+        out.value(IDS + "componentCertification", value.getComponentCertification());
+        out.value(IDS + "curator", value.getCuratorAsObject());
+        out.value(IDS + "curator", value.getCuratorAsUri());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "inboundModelVersion", value.getInboundModelVersion());
+        out.value(IDS + "maintainer", value.getMaintainerAsObject());
+        out.value(IDS + "maintainer", value.getMaintainerAsUri());
+        out.value(IDS + "outboundModelVersion", value.getOutboundModelVersion());
+        out.value(IDS + "physicalLocation", value.getPhysicalLocation());
+        out.value(IDS + "publicKey", value.getPublicKey());
+        out.value(IDS + "title", value.getTitle());
+        out.value(IDS + "version", value.getVersion());
+    }
+
+    private static void writeDatPayload(ModelClass object, RdfWriter out) throws IOException {
+        DatPayload value = (DatPayload) object;
+        out.value(IDS + "aud", value.getAud());
+        out.value(IDS + "exp", value.getExp());
+        out.value(IDS + "extendedGuarantee", value.getExtendedGuarantee());
+        out.value(IDS + "iat", value.getIat());
+        out.value(IDS + "iss", value.getIss());
+        out.value(IDS + "nbf", value.getNbf());
+        out.value(IDS + "referringConnector", value.getReferringConnector());
+        out.value(IDS + "scope", value.getScope());
+        out.value(IDS + "securityProfile", value.getSecurityProfile());
+        out.value(IDS + "sub", value.getSub());
+        out.value(IDS + "transportCertsSha256", value.getTransportCertsSha256());
+    }
+
+    private static void writeDatRequestPayload(ModelClass object, RdfWriter out) throws IOException {
+        DatRequestPayload value = (DatRequestPayload) object;
+        out.value(IDS + "aud", value.getAud());
+        out.value(IDS + "exp", value.getExp());
+        out.value(IDS + "iat", value.getIat());
+        out.value(IDS + "iss", value.getIss());
+        out.value(IDS + "nbf", value.getNbf());
+        out.value(IDS + "referringConnector", value.getReferringConnector());
+        out.value(IDS + "scope", value.getScope());
+        out.value(IDS + "securityProfile", value.getSecurityProfile());
+        out.value(IDS + "sub", value.getSub());
+        out.value(IDS + "transportCertsSha256", value.getTransportCertsSha256());
+    }
+
+    private static void writeDataRepresentation(ModelClass object, RdfWriter out) throws IOException {
+        DataRepresentation value = (DataRepresentation) object;
+        out.value(IDS + "created", value.getCreated());
+        out.value(IDS + "dataType", value.getDataType());
+        out.value(IDS + "dataTypeSchema", value.getDataTypeSchema());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "instance", value.getInstance());
+        out.value(IDS + "language", value.getLanguage());
+        out.value(IDS + "mediaType", value.getMediaType());
+        out.value(IDS + "modified", value.getModified());
+        out.value(IDS + "representationStandard", value.getRepresentationStandard());
+        out.value(IDS + "shapesGraph", value.getShapesGraph());
+        out.value(IDS + "title", value.getTitle());
+    }
+
+    private static void writeDataResource(ModelClass object, RdfWriter out) throws IOException {
+        DataResource value = (DataResource) object;
+        out.value(IDS + "accrualPeriodicity", value.getAccrualPeriodicity());
+        out.value(IDS + "contentPart", value.getContentPart());
+        out.value(IDS + "contentStandard", value.getContentStandard());
+        out.value(IDS + "contentType", value.getContentType());
+        out.value(IDS + "contractOffer", value.getContractOffer());
+        out.value(IDS + "created", value.getCreated());
+        out.value(IDS + "customLicense", value.getCustomLicense());
+        out.value(IDS + "defaultRepresentation", value.getDefaultRepresentation());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "keyword", value.getKeyword());
+        out.value(IDS + "language", value.getLanguage());
+        out.value(IDS + "modified", value.getModified());
+        out.value(IDS + "paymentModality", value.getPaymentModality());
+        out.value(IDS + "publisher", value.getPublisherAsObject());
+        out.value(IDS + "publisher", value.getPublisherAsUri());
+        out.value(IDS + "representation", value.getRepresentation());
+        out.value(IDS + "resourceEndpoint", value.getResourceEndpoint());
+        out.value(IDS + "resourcePart", value.getResourcePart());
+        out.value(IDS + "sample", value.getSample());
+        out.value(IDS + "shapesGraph", value.getShapesGraph());
+        out.value(IDS + "sovereign", value.getSovereignAsObject());
+        out.value(IDS + "sovereign", value.getSovereignAsUri());
+        out.value(IDS + "spatialCoverage", value.getSpatialCoverage());
+        out.value(IDS + "standardLicense", value.getStandardLicense());
+        out.value(IDS + "temporalCoverage", value.getTemporalCoverage());
+        out.value(IDS + "temporalResolution", value.getTemporalResolution());
+        out.value(IDS + "theme", value.getTheme());
+        out.value(IDS + "title", value.getTitle());
+        out.value(IDS + "variant", value.getVariant());
+        out.value(IDS + "version", value.getVersion());
+    }
+
+    private static void writeDeleteAfterIntervalAgreement(ModelClass object, RdfWriter out) throws IOException {
+        DeleteAfterIntervalAgreement value = (DeleteAfterIntervalAgreement) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeDeleteAfterIntervalOffer(ModelClass object, RdfWriter out) throws IOException {
+        DeleteAfterIntervalOffer value = (DeleteAfterIntervalOffer) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeDeleteAfterIntervalRequest(ModelClass object, RdfWriter out) throws IOException {
+        DeleteAfterIntervalRequest value = (DeleteAfterIntervalRequest) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeDescriptionRequestMessage(ModelClass object, RdfWriter out) throws IOException {
+        DescriptionRequestMessage value = (DescriptionRequestMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "requestedElement", value.getRequestedElement());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeDescriptionResponseMessage(ModelClass object, RdfWriter out) throws IOException {
+        DescriptionResponseMessage value = (DescriptionResponseMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeDistributeEcryptedAgreement(ModelClass object, RdfWriter out) throws IOException {
+        DistributeEcryptedAgreement value = (DistributeEcryptedAgreement) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeDistributeEcryptedOffer(ModelClass object, RdfWriter out) throws IOException {
+        DistributeEcryptedOffer value = (DistributeEcryptedOffer) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeDistributeEcryptedRequest(ModelClass object, RdfWriter out) throws IOException {
+        DistributeEcryptedRequest value = (DistributeEcryptedRequest) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeDurationAgreement(ModelClass object, RdfWriter out) throws IOException {
+        DurationAgreement value = (DurationAgreement) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeDurationEntity(ModelClass object, RdfWriter out) throws IOException {
+        DurationEntity value = (DurationEntity) object;
+        out.value(IDS + "hasDuration", value.getHasDuration());
+    }
+
+    private static void writeDurationOffer(ModelClass object, RdfWriter out) throws IOException {
+        DurationOffer value = (DurationOffer) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeDurationRequest(ModelClass object, RdfWriter out) throws IOException {
+        DurationRequest value = (DurationRequest) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeDuty(ModelClass object, RdfWriter out) throws IOException {
+        Duty value = (Duty) object;
+        out.value(IDS + "action", value.getAction());
+        out.value(IDS + "assetRefinement", value.getAssetRefinement());
+        out.value(IDS + "assignee", value.getAssignee());
+        out.value(IDS + "assigner", value.getAssigner());
+        out.value(IDS + "constraint", value.getConstraint());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "target", value.getTarget());
+        out.value(IDS + "title", value.getTitle());
+    }
+
+    private static void writeDynamicAttributeToken(ModelClass object, RdfWriter out) throws IOException {
+        DynamicAttributeToken value = (DynamicAttributeToken) object;
+        out.value(IDS + "tokenFormat", value.getTokenFormat());
+        out.value(IDS + "tokenValue", value.getTokenValue());
+    }
+
+    private static void writeEndpoint(ModelClass object, RdfWriter out) throws IOException {
+        Endpoint value = (Endpoint) object;
+        out.value(IDS + "accessURL", value.getAccessURL());
+        out.value(IDS + "apiSpecifiation", value.getApiSpecifiation());
+        out.value(IDS + "endpointDocumentation", value.getEndpointDocumentation());
+        out.value(IDS + "endpointInformation", value.getEndpointInformation());
+        out.value(IDS + "inboundPath", value.getInboundPath());
+        out.value(IDS + "outboundPath", value.getOutboundPath());
+        out.value(IDS + "path", value.getPath());
+    }
+
+    private static void writeEvaluationFacility(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeEventAgreement(ModelClass object, RdfWriter out) throws IOException {
+        EventAgreement value = (EventAgreement) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeEvent(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeEventOffer(ModelClass object, RdfWriter out) throws IOException {
+        EventOffer value = (EventOffer) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeEventRequest(ModelClass object, RdfWriter out) throws IOException {
+        EventRequest value = (EventRequest) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeFrequency(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeGenericEndpoint(ModelClass object, RdfWriter out) throws IOException {
+        GenericEndpoint value = (GenericEndpoint) object;
+        out.value(IDS + "accessURL", value.getAccessURL());
+        out.value(IDS + "apiSpecifiation", value.getApiSpecifiation());
+        out.value(IDS + "endpointDocumentation", value.getEndpointDocumentation());
+        out.value(IDS + "endpointInformation", value.getEndpointInformation());
+        out.value(IDS + "genericEndpointAuthentication", value.getGenericEndpointAuthentication());
+        out.value(IDS + "genericEndpointConfiguration", value.getGenericEndpointConfiguration());
+        out.value(IDS + "inboundPath", value.getInboundPath());
+        out.value(IDS + "outboundPath", value.getOutboundPath());
+        out.value(IDS + "path", value.getPath());
+    }
+
+    private static void writeGeoFeature(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeGeoPoint(ModelClass object, RdfWriter out) throws IOException {
+        GeoPoint value = (GeoPoint) object;
+        out.value(IDS + "latitude", value.getLatitude());
+        out.value(IDS + "longitude", value.getLongitude());
+    }
+
+    private static void writeHTTPAuthentication(ModelClass object, RdfWriter out) throws IOException {
+        HTTPAuthentication value = (HTTPAuthentication) object;
+        out.value(IDS + "authPassword", value.getAuthPassword());
+        out.value(IDS + "authUsername", value.getAuthUsername());
+        out.value(IDS + "httpAuthURI", value.getHttpAuthURI());
+    }
+
+    private static void writeIANAMediaType(ModelClass object, RdfWriter out) throws IOException {
+        IANAMediaType value = (IANAMediaType) object;
+        out.value(IDS + "filenameExtension", value.getFilenameExtension());
+    }
+
+    private static void writeIdentityProvider(ModelClass object, RdfWriter out) throws IOException {
+        IdentityProvider value = (IdentityProvider) object;
+        out.value(IDS + "componentCertification", value.getComponentCertification());
+        out.value(IDS + "curator", value.getCuratorAsObject());
+        out.value(IDS + "curator", value.getCuratorAsUri());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "inboundModelVersion", value.getInboundModelVersion());
+        out.value(IDS + "maintainer", value.getMaintainerAsObject());
+        out.value(IDS + "maintainer", value.getMaintainerAsUri());
+        out.value(IDS + "outboundModelVersion", value.getOutboundModelVersion());
+        out.value(IDS + "physicalLocation", value.getPhysicalLocation());
+        out.value(IDS + "publicKey", value.getPublicKey());
+        out.value(IDS + "title", value.getTitle());
+        out.value(IDS + "version", value.getVersion());
+    }
+
+    private static void writeIdsProtocolSpecification(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeImageRepresentation(ModelClass object, RdfWriter out) throws IOException {
+        ImageRepresentation value = (ImageRepresentation) object;
+        out.value(IDS + "created", value.getCreated());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "height", value.getHeight());
+        out.value(IDS + "instance", value.getInstance());
+        out.value(IDS + "language", value.getLanguage());
+        out.value(IDS + "mediaType", value.getMediaType());
+        out.value(IDS + "modified", value.getModified());
+        out.value(IDS + "representationStandard", value.getRepresentationStandard());
+        out.value(IDS + "shapesGraph", value.getShapesGraph());
+        out.value(IDS + "title", value.getTitle());
+        out.value(IDS + "width", value.getWidth());
+    }
+
+    private static void writeImageResource(ModelClass object, RdfWriter out) throws IOException {
+        ImageResource value = (ImageResource) object;
+        out.value(IDS + "accrualPeriodicity", value.getAccrualPeriodicity());
+        out.value(IDS + "contentPart", value.getContentPart());
+        out.value(IDS + "contentStandard", value.getContentStandard());
+        out.value(IDS + "contentType", value.getContentType());
+        out.value(IDS + "contractOffer", value.getContractOffer());
+        out.value(IDS + "created", value.getCreated());
+        out.value(IDS + "customLicense", value.getCustomLicense());
+        out.value(IDS + "defaultRepresentation", value.getDefaultRepresentation());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "keyword", value.getKeyword());
+        out.value(IDS + "language", value.getLanguage());
+        out.value(IDS + "modified", value.getModified());
+        out.value(IDS + "paymentModality", value.getPaymentModality());
+        out.value(IDS + "publisher", value.getPublisherAsObject());
+        out.value(IDS + "publisher", value.getPublisherAsUri());
+        out.value(IDS + "representation", value.getRepresentation());
+        out.value(IDS + "resourceEndpoint", value.getResourceEndpoint());
+        out.value(IDS + "resourcePart", value.getResourcePart());
+        out.value(IDS + "sample", value.getSample());
+        out.value(IDS + "shapesGraph", value.getShapesGraph());
+        out.value(IDS + "sovereign", value.getSovereignAsObject());
+        out.value(IDS + "sovereign", value.getSovereignAsUri());
+        out.value(IDS + "spatialCoverage", value.getSpatialCoverage());
+        out.value(IDS + "standardLicense", value.getStandardLicense());
+        out.value(IDS + "temporalCoverage", value.getTemporalCoverage());
+        out.value(IDS + "temporalResolution", value.getTemporalResolution());
+        out.value(IDS + "theme", value.getTheme());
+        out.value(IDS + "title", value.getTitle());
+        out.value(IDS + "variant", value.getVariant());
+        out.value(IDS + "version", value.getVersion());
+    }
+
+    private static void writeInfrastructureComponent(ModelClass object, RdfWriter out) throws IOException {
+        InfrastructureComponent value = (InfrastructureComponent) object;
+        out.value(IDS + "componentCertification", value.getComponentCertification());
+        out.value(IDS + "curator", value.getCuratorAsObject());
+        out.value(IDS + "curator", value.getCuratorAsUri());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "inboundModelVersion", value.getInboundModelVersion());
+        out.value(IDS + "maintainer", value.getMaintainerAsObject());
+        out.value(IDS + "maintainer", value.getMaintainerAsUri());
+        out.value(IDS + "outboundModelVersion", value.getOutboundModelVersion());
+        out.value(IDS + "physicalLocation", value.getPhysicalLocation());
+        out.value(IDS + "publicKey", value.getPublicKey());
+        out.value(IDS + "title", value.getTitle());
+        out.value(IDS + "version", value.getVersion());
+    }
+
+    private static void writeInstant(ModelClass object, RdfWriter out) throws IOException {
+        Instant value = (Instant) object;
+        out.value(IDS + "dateTime", value.getDateTime());
+        out.value(IDS + "hasDuration", value.getHasDuration());
+    }
+
+    private static void writeIntegrityGuarantee(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeIntegrityVerificationScopeGuarantee(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeInterval(ModelClass object, RdfWriter out) throws IOException {
+        Interval value = (Interval) object;
+        out.value(IDS + "begin", value.getBegin());
+        out.value(IDS + "end", value.getEnd());
+        out.value(IDS + "hasDuration", value.getHasDuration());
+    }
+
+    private static void writeIntervalUsageAgreement(ModelClass object, RdfWriter out) throws IOException {
+        IntervalUsageAgreement value = (IntervalUsageAgreement) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeIntervalUsageOffer(ModelClass object, RdfWriter out) throws IOException {
+        IntervalUsageOffer value = (IntervalUsageOffer) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeIntervalUsageRequest(ModelClass object, RdfWriter out) throws IOException {
+        IntervalUsageRequest value = (IntervalUsageRequest) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeInvokeOperationMessage(ModelClass object, RdfWriter out) throws IOException {
+        InvokeOperationMessage value = (InvokeOperationMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "operationReference", value.getOperationReference());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeKeyType(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeLanguage(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeLeftOperand(ModelClass object, RdfWriter out) throws IOException {
+        LeftOperand value = (LeftOperand) object;
+        out.value(IDS + "broader", value.getBroader());
+    }
+
+    private static void writeLicense(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeLocalDataConfidentialityGuarantee(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeLogLevel(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeLogMessage(ModelClass object, RdfWriter out) throws IOException {
+        LogMessage value = (LogMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeLoggingAgreement(ModelClass object, RdfWriter out) throws IOException {
+        LoggingAgreement value = (LoggingAgreement) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeLoggingOffer(ModelClass object, RdfWriter out) throws IOException {
+        LoggingOffer value = (LoggingOffer) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeLoggingRequest(ModelClass object, RdfWriter out) throws IOException {
+        LoggingRequest value = (LoggingRequest) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeLogicalConstraint(ModelClass object, RdfWriter out) throws IOException {
+        LogicalConstraint value = (LogicalConstraint) object;
+        out.value(IDS + "and", value.getAnd());
+        out.value(IDS + "or", value.getOr());
+        out.value(IDS + "xone", value.getXone());
+    }
+
+    private static void writeMessageProcessedNotificationMessage(ModelClass object, RdfWriter out) throws IOException {
+        MessageProcessedNotificationMessage value = (MessageProcessedNotificationMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeNamed(ModelClass object, RdfWriter out) throws IOException {
+        Named value = (Named) object;
+        out.value(IDS + "name", value.getName());
+    }
+
+    private static void writeNotMoreThanNAgreement(ModelClass object, RdfWriter out) throws IOException {
+        NotMoreThanNAgreement value = (NotMoreThanNAgreement) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeNotMoreThanNOffer(ModelClass object, RdfWriter out) throws IOException {
+        NotMoreThanNOffer value = (NotMoreThanNOffer) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeNotMoreThanNRequest(ModelClass object, RdfWriter out) throws IOException {
+        NotMoreThanNRequest value = (NotMoreThanNRequest) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeNotificationAgreement(ModelClass object, RdfWriter out) throws IOException {
+        NotificationAgreement value = (NotificationAgreement) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeNotificationMessage(ModelClass object, RdfWriter out) throws IOException {
+        NotificationMessage value = (NotificationMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeNotificationOffer(ModelClass object, RdfWriter out) throws IOException {
+        NotificationOffer value = (NotificationOffer) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeNotificationRequest(ModelClass object, RdfWriter out) throws IOException {
+        NotificationRequest value = (NotificationRequest) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeOperationResultMessage(ModelClass object, RdfWriter out) throws IOException {
+        OperationResultMessage value = (OperationResultMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeOrchestrationApp(ModelClass object, RdfWriter out) throws IOException {
+        OrchestrationApp value = (OrchestrationApp) object;
+        out.value(IDS + "appDocumentation", value.getAppDocumentation());
+        out.value(IDS + "appEndpoint", value.getAppEndpoint());
+        out.value(IDS + "appEnvironmentVariables", value.getAppEnvironmentVariables());
+        out.value(IDS + "appStorageConfiguration", value.getAppStorageConfiguration());
+        out.value(IDS + "supportedUsagePolicies", value.getSupportedUsagePolicies());
+    }
+
+    private static void writePIP(ModelClass object, RdfWriter out) throws IOException {
+        PIP value = (PIP) object;
+        out.value(IDS + "endpointURI", value.getEndpointURI());
+        out.value(IDS + "interfaceDescription", value.getInterfaceDescription());
+    }
+
+    private static void writePXP(ModelClass object, RdfWriter out) throws IOException {
+        PXP value = (PXP) object;
+        out.value(IDS + "endpointURI", value.getEndpointURI());
+        out.value(IDS + "interfaceDescription", value.getInterfaceDescription());
+    }
+
+    private static void writeParIS(ModelClass object, RdfWriter out) throws IOException {
+        ParIS value = (ParIS) object;
+        out.value(IDS + "authInfo", value.getAuthInfo());
+        out.value(IDS + "componentCertification", value.getComponentCertification());
+        out.value(IDS + "curator", value.getCuratorAsObject());
+        out.value(IDS + "curator", value.getCuratorAsUri());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "extendedGuarantee", value.getExtendedGuarantee());
+        out.value(IDS + "hasAgent", value.getHasAgent());
+        out.value(IDS + "hasDefaultEndpoint", value.getHasDefaultEndpoint());
+        out.value(IDS + "hasEndpoint", value.getHasEndpoint());
+        out.value(IDS + "inboundModelVersion", value.getInboundModelVersion());
+        out.value(IDS + "maintainer", value.getMaintainerAsObject());
+        out.value(IDS + "maintainer", value.getMaintainerAsUri());
+        out.value(IDS + "outboundModelVersion", value.getOutboundModelVersion());
+        out.value(IDS + "participantCatalog", value.getParticipantCatalog());
+        out.value(IDS + "physicalLocation", value.getPhysicalLocation());
+        out.value(IDS + "publicKey", value.getPublicKey());
+        out.value(IDS + "resourceCatalog", value.getResourceCatalog());
+        out.value(IDS + "securityProfile", value.getSecurityProfile());
+        out.value(IDS + "title", value.getTitle());
+        out.value(IDS + "version", value.getVersion());
+    }
+
+    private static void writeParticipantCatalog(ModelClass object, RdfWriter out) throws IOException {
+        ParticipantCatalog value = (ParticipantCatalog) object;
+        out.value(IDS + "member", value.getMemberAsObject());
+        out.value(IDS + "member", value.getMemberAsUri());
+    }
+
+    private static void writeParticipantCertificateGrantedMessage(ModelClass object, RdfWriter out) throws IOException {
+        ParticipantCertificateGrantedMessage value = (ParticipantCertificateGrantedMessage) object;
+        out.value(IDS + "affectedParticipant", value.getAffectedParticipant());
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeParticipantCertificateRevokedMessage(ModelClass object, RdfWriter out) throws IOException {
+        ParticipantCertificateRevokedMessage value = (ParticipantCertificateRevokedMessage) object;
+        out.value(IDS + "affectedParticipant", value.getAffectedParticipant());
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "revocationReason", value.getRevocationReason());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeParticipantCertification(ModelClass object, RdfWriter out) throws IOException {
+        ParticipantCertification value = (ParticipantCertification) object;
+        out.value(IDS + "certificationLevel", value.getCertificationLevel());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "evaluationFacility", value.getEvaluationFacility());
+        out.value(IDS + "lastValidDate", value.getLastValidDate());
+        out.value(IDS + "membershipEnd", value.getMembershipEnd());
+        out.value(IDS + "title", value.getTitle());
+        out.value(IDS + "version", value.getVersion());
+    }
+
+    private static void writeParticipantCertificationLevel(ModelClass object, RdfWriter out) throws IOException {
+        ParticipantCertificationLevel value = (ParticipantCertificationLevel) object;
+        out.value(IDS + "includedCertificationLevel", value.getIncludedCertificationLevel());
+    }
+
+    private static void writeParticipant(ModelClass object, RdfWriter out) throws IOException {
+        Participant value = (Participant) object;
+        out.value(IDS + "businessIdentifier", value.getBusinessIdentifier());
+        out.value(IDS + "corporateEmailAddress", value.getCorporateEmailAddress());
+        out.value(IDS + "corporateHomepage", value.getCorporateHomepage());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "jurisdiction", value.getJurisdiction());
+        out.value(IDS + "legalForm", value.getLegalForm());
+        out.value(IDS + "legalName", value.getLegalName());
+        out.value(IDS + "memberParticipant", value.getMemberParticipant());
+        out.value(IDS + "memberPerson", value.getMemberPerson());
+        out.value(IDS + "participantCertification", value.getParticipantCertification());
+        out.value(IDS + "participantRefinement", value.getParticipantRefinement());
+        out.value(IDS + "primarySite", value.getPrimarySite());
+        out.value(IDS + "title", value.getTitle());
+        out.value(IDS + "vatID", value.getVatID());
+        out.value(IDS + "version", value.getVersion());
+    }
+
+    private static void writeParticipantRequestMessage(ModelClass object, RdfWriter out) throws IOException {
+        ParticipantRequestMessage value = (ParticipantRequestMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "requestedParticipant", value.getRequestedParticipant());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeParticipantResponseMessage(ModelClass object, RdfWriter out) throws IOException {
+        ParticipantResponseMessage value = (ParticipantResponseMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeParticipantUnavailableMessage(ModelClass object, RdfWriter out) throws IOException {
+        ParticipantUnavailableMessage value = (ParticipantUnavailableMessage) object;
+        out.value(IDS + "affectedParticipant", value.getAffectedParticipant());
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeParticipantUpdateMessage(ModelClass object, RdfWriter out) throws IOException {
+        ParticipantUpdateMessage value = (ParticipantUpdateMessage) object;
+        out.value(IDS + "affectedParticipant", value.getAffectedParticipant());
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writePaymentModality(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writePermission(ModelClass object, RdfWriter out) throws IOException {
+        Permission value = (Permission) object;
+        out.value(IDS + "action", value.getAction());
+        out.value(IDS + "assetRefinement", value.getAssetRefinement());
+        out.value(IDS + "assignee", value.getAssignee());
+        out.value(IDS + "assigner", value.getAssigner());
+        out.value(IDS + "constraint", value.getConstraint());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "postDuty", value.getPostDuty());
+        out.value(IDS + "preDuty", value.getPreDuty());
+        out.value(IDS + "target", value.getTarget());
+        out.value(IDS + "title", value.getTitle());
+    }
+
+    private static void writePerson(ModelClass object, RdfWriter out) throws IOException {
+        Person value = (Person) object;
+        out.value(IDS + "emailAddress", value.getEmailAddress());
+        out.value(IDS + "familyName", value.getFamilyName());
+        out.value(IDS + "givenName", value.getGivenName());
+        out.value(IDS + "homepage", value.getHomepage());
+        out.value(IDS + "phoneNumber", value.getPhoneNumber());
+    }
+
+    private static void writeProhibition(ModelClass object, RdfWriter out) throws IOException {
+        Prohibition value = (Prohibition) object;
+        out.value(IDS + "action", value.getAction());
+        out.value(IDS + "assetRefinement", value.getAssetRefinement());
+        out.value(IDS + "assignee", value.getAssignee());
+        out.value(IDS + "assigner", value.getAssigner());
+        out.value(IDS + "constraint", value.getConstraint());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "target", value.getTarget());
+        out.value(IDS + "title", value.getTitle());
+    }
+
+    private static void writeProxy(ModelClass object, RdfWriter out) throws IOException {
+        Proxy value = (Proxy) object;
+        out.value(IDS + "noProxy", value.getNoProxy());
+        out.value(IDS + "proxyAuthentication", value.getProxyAuthentication());
+        out.value(IDS + "proxyURI", value.getProxyURI());
+    }
+
+    private static void writePublicKey(ModelClass object, RdfWriter out) throws IOException {
+        PublicKey value = (PublicKey) object;
+        out.value(IDS + "keyType", value.getKeyType());
+        out.value(IDS + "keyValue", value.getKeyValue());
+    }
+
+    private static void writePurposeAgreement(ModelClass object, RdfWriter out) throws IOException {
+        PurposeAgreement value = (PurposeAgreement) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writePurposeOffer(ModelClass object, RdfWriter out) throws IOException {
+        PurposeOffer value = (PurposeOffer) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writePurposeRequest(ModelClass object, RdfWriter out) throws IOException {
+        PurposeRequest value = (PurposeRequest) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeQueryLanguage(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeQueryMessage(ModelClass object, RdfWriter out) throws IOException {
+        QueryMessage value = (QueryMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "queryLanguage", value.getQueryLanguage());
+        out.value(IDS + "queryScope", value.getQueryScope());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "recipientScope", value.getRecipientScope());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeQueryScope(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeQueryTarget(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeRejectionMessage(ModelClass object, RdfWriter out) throws IOException {
+        RejectionMessage value = (RejectionMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "rejectionReason", value.getRejectionReason());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeRejectionReason(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeRentalAgreement(ModelClass object, RdfWriter out) throws IOException {
+        RentalAgreement value = (RentalAgreement) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeRentalOffer(ModelClass object, RdfWriter out) throws IOException {
+        RentalOffer value = (RentalOffer) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeRentalRequest(ModelClass object, RdfWriter out) throws IOException {
+        RentalRequest value = (RentalRequest) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeRepresentation(ModelClass object, RdfWriter out) throws IOException {
+        Representation value = (Representation) object;
+        out.value(IDS + "created", value.getCreated());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "instance", value.getInstance());
+        out.value(IDS + "language", value.getLanguage());
+        out.value(IDS + "mediaType", value.getMediaType());
+        out.value(IDS + "modified", value.getModified());
+        out.value(IDS + "representationStandard", value.getRepresentationStandard());
+        out.value(IDS + "shapesGraph", value.getShapesGraph());
+        out.value(IDS + "title", value.getTitle());
+    }
+
+    private static void writeRequestInProcessMessage(ModelClass object, RdfWriter out) throws IOException {
+        RequestInProcessMessage value = (RequestInProcessMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeRequestMessage(ModelClass object, RdfWriter out) throws IOException {
+        RequestMessage value = (RequestMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeResourceCatalog(ModelClass object, RdfWriter out) throws IOException {
+        ResourceCatalog value = (ResourceCatalog) object;
+        out.value(IDS + "offeredResource", value.getOfferedResourceAsObject());
+        out.value(IDS + "offeredResource", value.getOfferedResourceAsUri());
+        out.value(IDS + "requestedResource", value.getRequestedResourceAsObject());
+        out.value(IDS + "requestedResource", value.getRequestedResourceAsUri());
+    }
+
+    private static void writeResource(ModelClass object, RdfWriter out) throws IOException {
+        Resource value = (Resource) object;
+        out.value(IDS + "accrualPeriodicity", value.getAccrualPeriodicity());
+        out.value(IDS + "contentPart", value.getContentPart());
+        out.value(IDS + "contentStandard", value.getContentStandard());
+        out.value(IDS + "contentType", value.getContentType());
+        out.value(IDS + "contractOffer", value.getContractOffer());
+        out.value(IDS + "created", value.getCreated());
+        out.value(IDS + "customLicense", value.getCustomLicense());
+        out.value(IDS + "defaultRepresentation", value.getDefaultRepresentation());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "keyword", value.getKeyword());
+        out.value(IDS + "language", value.getLanguage());
+        out.value(IDS + "modified", value.getModified());
+        out.value(IDS + "paymentModality", value.getPaymentModality());
+        out.value(IDS + "publisher", value.getPublisherAsObject());
+        out.value(IDS + "publisher", value.getPublisherAsUri());
+        out.value(IDS + "representation", value.getRepresentation());
+        out.value(IDS + "resourceEndpoint", value.getResourceEndpoint());
+        out.value(IDS + "resourcePart", value.getResourcePart());
+        out.value(IDS + "sample", value.getSample());
+        out.value(IDS + "shapesGraph", value.getShapesGraph());
+        out.value(IDS + "sovereign", value.getSovereignAsObject());
+        out.value(IDS + "sovereign", value.getSovereignAsUri());
+        out.value(IDS + "spatialCoverage", value.getSpatialCoverage());
+        out.value(IDS + "standardLicense", value.getStandardLicense());
+        out.value(IDS + "temporalCoverage", value.getTemporalCoverage());
+        out.value(IDS + "temporalResolution", value.getTemporalResolution());
+        out.value(IDS + "theme", value.getTheme());
+        out.value(IDS + "title", value.getTitle());
+        out.value(IDS + "variant", value.getVariant());
+        out.value(IDS + "version", value.getVersion());
+    }
+
+    private static void writeResourceUnavailableMessage(ModelClass object, RdfWriter out) throws IOException {
+        ResourceUnavailableMessage value = (ResourceUnavailableMessage) object;
+        out.value(IDS + "affectedResource", value.getAffectedResource());
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeResourceUpdateMessage(ModelClass object, RdfWriter out) throws IOException {
+        ResourceUpdateMessage value = (ResourceUpdateMessage) object;
+        out.value(IDS + "affectedResource", value.getAffectedResource());
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeResponseMessage(ModelClass object, RdfWriter out) throws IOException {
+        ResponseMessage value = (ResponseMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeResultMessage(ModelClass object, RdfWriter out) throws IOException {
+        ResultMessage value = (ResultMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeRolebasedAgreement(ModelClass object, RdfWriter out) throws IOException {
+        RolebasedAgreement value = (RolebasedAgreement) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeRolebasedOffer(ModelClass object, RdfWriter out) throws IOException {
+        RolebasedOffer value = (RolebasedOffer) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeRolebasedRequest(ModelClass object, RdfWriter out) throws IOException {
+        RolebasedRequest value = (RolebasedRequest) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeRouteStep(ModelClass object, RdfWriter out) throws IOException {
+        RouteStep value = (RouteStep) object;
+        out.value(IDS + "appRouteBroker", value.getAppRouteBroker());
+        out.value(IDS + "appRouteClearingHouse", value.getAppRouteClearingHouse());
+        out.value(IDS + "appRouteEnd", value.getAppRouteEnd());
+        out.value(IDS + "appRouteOutput", value.getAppRouteOutput());
+        out.value(IDS + "appRouteStart", value.getAppRouteStart());
+        out.value(IDS + "hasSubRoute", value.getHasSubRoute());
+        out.value(IDS + "requiredDataApp", value.getRequiredDataApp());
+        out.value(IDS + "routeConfiguration", value.getRouteConfiguration());
+        out.value(IDS + "routeDeployMethod", value.getRouteDeployMethod());
+        out.value(IDS + "routeDescription", value.getRouteDescription());
+    }
+
+    private static void writeSalesAgreement(ModelClass object, RdfWriter out) throws IOException {
+        SalesAgreement value = (SalesAgreement) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeSalesOffer(ModelClass object, RdfWriter out) throws IOException {
+        SalesOffer value = (SalesOffer) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeSalesRequest(ModelClass object, RdfWriter out) throws IOException {
+        SalesRequest value = (SalesRequest) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeSecurityAgreement(ModelClass object, RdfWriter out) throws IOException {
+        SecurityAgreement value = (SecurityAgreement) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeSecurityGuarantee(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeSecurityOffer(ModelClass object, RdfWriter out) throws IOException {
+        SecurityOffer value = (SecurityOffer) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeSecurityProfile(ModelClass object, RdfWriter out) throws IOException {
+        SecurityProfile value = (SecurityProfile) object;
+        out.value(IDS + "securityGuarantee", value.getSecurityGuarantee());
+    }
+
+    private static void writeSecurityRequest(ModelClass object, RdfWriter out) throws IOException {
+        SecurityRequest value = (SecurityRequest) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeServiceIsolationGuarantee(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeSite(ModelClass object, RdfWriter out) throws IOException {
+        Site value = (Site) object;
+        out.value(IDS + "siteAddress", value.getSiteAddress());
+    }
+
+    private static void writeSmartDataApp(ModelClass object, RdfWriter out) throws IOException {
+        SmartDataApp value = (SmartDataApp) object;
+        out.value(IDS + "appDocumentation", value.getAppDocumentation());
+        out.value(IDS + "appEndpoint", value.getAppEndpoint());
+        out.value(IDS + "appEnvironmentVariables", value.getAppEnvironmentVariables());
+        out.value(IDS + "appStorageConfiguration", value.getAppStorageConfiguration());
+        out.value(IDS + "supportedUsagePolicies", value.getSupportedUsagePolicies());
+    }
+
+    private static void writeSoftwareRepresentation(ModelClass object, RdfWriter out) throws IOException {
+        SoftwareRepresentation value = (SoftwareRepresentation) object;
+        out.value(IDS + "created", value.getCreated());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "instance", value.getInstance());
+        out.value(IDS + "language", value.getLanguage());
+        out.value(IDS + "mediaType", value.getMediaType());
+        out.value(IDS + "modified", value.getModified());
+        out.value(IDS + "representationStandard", value.getRepresentationStandard());
+        out.value(IDS + "shapesGraph", value.getShapesGraph());
+        out.value(IDS + "title", value.getTitle());
+    }
+
+    private static void writeSoftwareResource(ModelClass object, RdfWriter out) throws IOException {
+        SoftwareResource value = (SoftwareResource) object;
+        out.value(IDS + "accrualPeriodicity", value.getAccrualPeriodicity());
+        out.value(IDS + "contentPart", value.getContentPart());
+        out.value(IDS + "contentStandard", value.getContentStandard());
+        out.value(IDS + "contentType", value.getContentType());
+        out.value(IDS + "contractOffer", value.getContractOffer());
+        out.value(IDS + "created", value.getCreated());
+        out.value(IDS + "customLicense", value.getCustomLicense());
+        out.value(IDS + "defaultRepresentation", value.getDefaultRepresentation());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "keyword", value.getKeyword());
+        out.value(IDS + "language", value.getLanguage());
+        out.value(IDS + "modified", value.getModified());
+        out.value(IDS + "paymentModality", value.getPaymentModality());
+        out.value(IDS + "publisher", value.getPublisherAsObject());
+        out.value(IDS + "publisher", value.getPublisherAsUri());
+        out.value(IDS + "representation", value.getRepresentation());
+        out.value(IDS + "resourceEndpoint", value.getResourceEndpoint());
+        out.value(IDS + "resourcePart", value.getResourcePart());
+        out.value(IDS + "sample", value.getSample());
+        out.value(IDS + "shapesGraph", value.getShapesGraph());
+        out.value(IDS + "sovereign", value.getSovereignAsObject());
+        out.value(IDS + "sovereign", value.getSovereignAsUri());
+        out.value(IDS + "spatialCoverage", value.getSpatialCoverage());
+        out.value(IDS + "standardLicense", value.getStandardLicense());
+        out.value(IDS + "temporalCoverage", value.getTemporalCoverage());
+        out.value(IDS + "temporalResolution", value.getTemporalResolution());
+        out.value(IDS + "theme", value.getTheme());
+        out.value(IDS + "title", value.getTitle());
+        out.value(IDS + "variant", value.getVariant());
+        out.value(IDS + "version", value.getVersion());
+    }
+
+    private static void writeSpatialAgreement(ModelClass object, RdfWriter out) throws IOException {
+        SpatialAgreement value = (SpatialAgreement) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeSpatialOffer(ModelClass object, RdfWriter out) throws IOException {
+        SpatialOffer value = (SpatialOffer) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeSpatialRequest(ModelClass object, RdfWriter out) throws IOException {
+        SpatialRequest value = (SpatialRequest) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeSwapAgreement(ModelClass object, RdfWriter out) throws IOException {
+        SwapAgreement value = (SwapAgreement) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeSwapOffer(ModelClass object, RdfWriter out) throws IOException {
+        SwapOffer value = (SwapOffer) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeSwapRequest(ModelClass object, RdfWriter out) throws IOException {
+        SwapRequest value = (SwapRequest) object;
+        out.value(IDS + "consumer", value.getConsumer());
+        out.value(IDS + "contractAnnex", value.getContractAnnex());
+        out.value(IDS + "contractDate", value.getContractDate());
+        out.value(IDS + "contractDocument", value.getContractDocument());
+        out.value(IDS + "contractEnd", value.getContractEnd());
+        out.value(IDS + "contractStart", value.getContractStart());
+        out.value(IDS + "obligation", value.getObligation());
+        out.value(IDS + "permission", value.getPermission());
+        out.value(IDS + "prohibition", value.getProhibition());
+        out.value(IDS + "provider", value.getProvider());
+    }
+
+    private static void writeSystemAdapter(ModelClass object, RdfWriter out) throws IOException {
+        SystemAdapter value = (SystemAdapter) object;
+        out.value(IDS + "appDocumentation", value.getAppDocumentation());
+        out.value(IDS + "appEndpoint", value.getAppEndpoint());
+        out.value(IDS + "appEnvironmentVariables", value.getAppEnvironmentVariables());
+        out.value(IDS + "appStorageConfiguration", value.getAppStorageConfiguration());
+        out.value(IDS + "supportedUsagePolicies", value.getSupportedUsagePolicies());
+    }
+
+    private static void writeTemporalEntity(ModelClass object, RdfWriter out) throws IOException {
+        TemporalEntity value = (TemporalEntity) object;
+        out.value(IDS + "hasDuration", value.getHasDuration());
+    }
+
+    private static void writeTextRepresentation(ModelClass object, RdfWriter out) throws IOException {
+        TextRepresentation value = (TextRepresentation) object;
+        out.value(IDS + "created", value.getCreated());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "instance", value.getInstance());
+        out.value(IDS + "language", value.getLanguage());
+        out.value(IDS + "mediaType", value.getMediaType());
+        out.value(IDS + "modified", value.getModified());
+        out.value(IDS + "representationStandard", value.getRepresentationStandard());
+        out.value(IDS + "shapesGraph", value.getShapesGraph());
+        out.value(IDS + "title", value.getTitle());
+    }
+
+    private static void writeTextResource(ModelClass object, RdfWriter out) throws IOException {
+        TextResource value = (TextResource) object;
+        out.value(IDS + "accrualPeriodicity", value.getAccrualPeriodicity());
+        out.value(IDS + "contentPart", value.getContentPart());
+        out.value(IDS + "contentStandard", value.getContentStandard());
+        out.value(IDS + "contentType", value.getContentType());
+        out.value(IDS + "contractOffer", value.getContractOffer());
+        out.value(IDS + "created", value.getCreated());
+        out.value(IDS + "customLicense", value.getCustomLicense());
+        out.value(IDS + "defaultRepresentation", value.getDefaultRepresentation());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "keyword", value.getKeyword());
+        out.value(IDS + "language", value.getLanguage());
+        out.value(IDS + "modified", value.getModified());
+        out.value(IDS + "paymentModality", value.getPaymentModality());
+        out.value(IDS + "publisher", value.getPublisherAsObject());
+        out.value(IDS + "publisher", value.getPublisherAsUri());
+        out.value(IDS + "representation", value.getRepresentation());
+        out.value(IDS + "resourceEndpoint", value.getResourceEndpoint());
+        out.value(IDS + "resourcePart", value.getResourcePart());
+        out.value(IDS + "sample", value.getSample());
+        out.value(IDS + "shapesGraph", value.getShapesGraph());
+        out.value(IDS + "sovereign", value.getSovereignAsObject());
+        out.value(IDS + "sovereign", value.getSovereignAsUri());
+        out.value(IDS + "spatialCoverage", value.getSpatialCoverage());
+        out.value(IDS + "standardLicense", value.getStandardLicense());
+        out.value(IDS + "temporalCoverage", value.getTemporalCoverage());
+        out.value(IDS + "temporalResolution", value.getTemporalResolution());
+        out.value(IDS + "theme", value.getTheme());
+        out.value(IDS + "title", value.getTitle());
+        out.value(IDS + "variant", value.getVariant());
+        out.value(IDS + "version", value.getVersion());
+    }
+
+    private static void writeTokenFormat(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeToken(ModelClass object, RdfWriter out) throws IOException {
+        Token value = (Token) object;
+        out.value(IDS + "tokenFormat", value.getTokenFormat());
+        out.value(IDS + "tokenValue", value.getTokenValue());
+    }
+
+    private static void writeTrustedConnector(ModelClass object, RdfWriter out) throws IOException {
+        TrustedConnector value = (TrustedConnector) object;
+        out.value(IDS + "authInfo", value.getAuthInfo());
+        out.value(IDS + "componentCertification", value.getComponentCertification());
+        out.value(IDS + "curator", value.getCuratorAsObject());
+        out.value(IDS + "curator", value.getCuratorAsUri());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "extendedGuarantee", value.getExtendedGuarantee());
+        out.value(IDS + "hasAgent", value.getHasAgent());
+        out.value(IDS + "hasDefaultEndpoint", value.getHasDefaultEndpoint());
+        out.value(IDS + "hasEndpoint", value.getHasEndpoint());
+        out.value(IDS + "inboundModelVersion", value.getInboundModelVersion());
+        out.value(IDS + "maintainer", value.getMaintainerAsObject());
+        out.value(IDS + "maintainer", value.getMaintainerAsUri());
+        out.value(IDS + "outboundModelVersion", value.getOutboundModelVersion());
+        out.value(IDS + "physicalLocation", value.getPhysicalLocation());
+        out.value(IDS + "publicKey", value.getPublicKey());
+        out.value(IDS + "resourceCatalog", value.getResourceCatalog());
+        out.value(IDS + "securityProfile", value.getSecurityProfile());
+        out.value(IDS + "title", value.getTitle());
+        out.value(IDS + "version", value.getVersion());
+    }
+
+    private static void writeUploadMessage(ModelClass object, RdfWriter out) throws IOException {
+        UploadMessage value = (UploadMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeUploadResponseMessage(ModelClass object, RdfWriter out) throws IOException {
+        UploadResponseMessage value = (UploadResponseMessage) object;
+        out.value(IDS + "authorizationToken", value.getAuthorizationToken());
+        out.value(IDS + "contentVersion", value.getContentVersion());
+        out.value(IDS + "correlationMessage", value.getCorrelationMessage());
+        out.value(IDS + "issued", value.getIssued());
+        out.value(IDS + "issuerConnector", value.getIssuerConnector());
+        out.value(IDS + "modelVersion", value.getModelVersion());
+        out.value(IDS + "recipientAgent", value.getRecipientAgent());
+        out.value(IDS + "recipientConnector", value.getRecipientConnector());
+        out.value(IDS + "securityToken", value.getSecurityToken());
+        out.value(IDS + "senderAgent", value.getSenderAgent());
+        out.value(IDS + "transferContract", value.getTransferContract());
+    }
+
+    private static void writeUsageControlComponent(ModelClass object, RdfWriter out) throws IOException {
+        UsageControlComponent value = (UsageControlComponent) object;
+        out.value(IDS + "endpointURI", value.getEndpointURI());
+        out.value(IDS + "interfaceDescription", value.getInterfaceDescription());
+    }
+
+    private static void writeUsageControlGuarantee(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeUsageControlObject(ModelClass object, RdfWriter out) throws IOException {
+        UsageControlObject value = (UsageControlObject) object;
+        out.value(IDS + "accessed", value.getAccessed());
+        out.value(IDS + "action", value.getAction());
+        out.value(IDS + "contract", value.getContract());
+        out.value(IDS + "created", value.getCreated());
+        out.value(IDS + "data", value.getData());
+        out.value(IDS + "hasState", value.getHasState());
+        out.value(IDS + "modified", value.getModified());
+        out.value(IDS + "requester", value.getRequester());
+        out.value(IDS + "source", value.getSource());
+        out.value(IDS + "usageDuration", value.getUsageDuration());
+        out.value(IDS + "user", value.getUser());
+    }
+
+    private static void writeUsagePolicyClass(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeValue(ModelClass object, RdfWriter out) throws IOException {
+        // no properties
+    }
+
+    private static void writeVideoRepresentation(ModelClass object, RdfWriter out) throws IOException {
+        VideoRepresentation value = (VideoRepresentation) object;
+        out.value(IDS + "created", value.getCreated());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "frameRate", value.getFrameRate());
+        out.value(IDS + "instance", value.getInstance());
+        out.value(IDS + "language", value.getLanguage());
+        out.value(IDS + "mediaType", value.getMediaType());
+        out.value(IDS + "modified", value.getModified());
+        out.value(IDS + "representationStandard", value.getRepresentationStandard());
+        out.value(IDS + "shapesGraph", value.getShapesGraph());
+        out.value(IDS + "title", value.getTitle());
+    }
+
+    private static void writeVideoResource(ModelClass object, RdfWriter out) throws IOException {
+        VideoResource value = (VideoResource) object;
+        out.value(IDS + "accrualPeriodicity", value.getAccrualPeriodicity());
+        out.value(IDS + "contentPart", value.getContentPart());
+        out.value(IDS + "contentStandard", value.getContentStandard());
+        out.value(IDS + "contentType", value.getContentType());
+        out.value(IDS + "contractOffer", value.getContractOffer());
+        out.value(IDS + "created", value.getCreated());
+        out.value(IDS + "customLicense", value.getCustomLicense());
+        out.value(IDS + "defaultRepresentation", value.getDefaultRepresentation());
+        out.value(IDS + "description", value.getDescription());
+        out.value(IDS + "keyword", value.getKeyword());
+        out.value(IDS + "language", value.getLanguage());
+        out.value(IDS + "modified", value.getModified());
+        out.value(IDS + "paymentModality", value.getPaymentModality());
+        out.value(IDS + "publisher", value.getPublisherAsObject());
+        out.value(IDS + "publisher", value.getPublisherAsUri());
+        out.value(IDS + "representation", value.getRepresentation());
+        out.value(IDS + "resourceEndpoint", value.getResourceEndpoint());
+        out.value(IDS + "resourcePart", value.getResourcePart());
+        out.value(IDS + "sample", value.getSample());
+        out.value(IDS + "shapesGraph", value.getShapesGraph());
+        out.value(IDS + "sovereign", value.getSovereignAsObject());
+        out.value(IDS + "sovereign", value.getSovereignAsUri());
+        out.value(IDS + "spatialCoverage", value.getSpatialCoverage());
+        out.value(IDS + "standardLicense", value.getStandardLicense());
+        out.value(IDS + "temporalCoverage", value.getTemporalCoverage());
+        out.value(IDS + "temporalResolution", value.getTemporalResolution());
+        out.value(IDS + "theme", value.getTheme());
+        out.value(IDS + "title", value.getTitle());
+        out.value(IDS + "variant", value.getVariant());
+        out.value(IDS + "version", value.getVersion());
+    }
+
+}
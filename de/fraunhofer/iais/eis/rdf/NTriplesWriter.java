@@ -0,0 +1,39 @@
+package de.fraunhofer.iais.eis.rdf;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writer for the N-Triples syntax, which writes every triple on a line of its own.
+ */
+final class NTriplesWriter extends RdfWriter {
+
+    NTriplesWriter(Writer out) {
+        super(out);
+    }
+
+    @Override
+    void startSubject(String iri) {}
+
+    @Override
+    void startTriple(String predicate) throws IOException {
+        writeFullIri(subject());
+        out.write(' ');
+        writeFullIri(predicate);
+        out.write(' ');
+    }
+
+    @Override
+    void endTriple() throws IOException {
+        out.write(" .\n");
+    }
+
+    @Override
+    void endSubject() {}
+
+    @Override
+    void writeIri(String iri) throws IOException {
+        writeFullIri(iri);
+    }
+
+}
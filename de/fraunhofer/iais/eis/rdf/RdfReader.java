@@ -0,0 +1,274 @@
+package de.fraunhofer.iais.eis.rdf;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.datatype.Duration;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import de.fraunhofer.iais.eis.*;
+import de.fraunhofer.iais.eis.util.*;
+
+/**
+ * Reads objects of the IDS Information Model directly from RDF in Turtle or N-Triples syntax, without
+ * going through JSON-LD:
+ *
+ * <pre>
+ * RdfReader reader = RdfReader.parse(in);
+ * List&lt;Connector&gt; connectors = reader.read(Connector.class);
+ * </pre>
+ *
+ * The triples are collected in an index by subject, as the triples of a subject may be spread over the
+ * document. The objects are then constructed through their builders by generated code (see
+ * {@link ModelObjects}), which maps the predicate IRIs to the builder functions. References between
+ * subjects, by IRI or blank node, are resolved through the index, and every subject becomes a single
+ * object, even if it is referred to several times. Triples with predicates that are not part of the
+ * class are kept as generic properties.
+ */
+public class RdfReader {
+
+    private final Map<String, Node> nodes = new LinkedHashMap<>();
+
+    private RdfReader() {}
+
+    /**
+     * This function parses a document in Turtle or N-Triples syntax. The reader is not closed.
+     *
+     * @param in source of the document
+     * @return reader providing the objects of the document
+     * @throws IOException This exception is thrown, if the document cannot be read or parsed.
+     */
+    public static RdfReader parse(Reader in) throws IOException {
+        RdfReader reader = new RdfReader();
+        new TurtleParser(in instanceof BufferedReader ? in : new BufferedReader(in), reader::add).parse();
+        return reader;
+    }
+
+    /**
+     * This function parses a UTF-8 encoded document in Turtle or N-Triples syntax. The stream is not
+     * closed.
+     *
+     * @param in source of the document
+     * @return reader providing the objects of the document
+     * @throws IOException This exception is thrown, if the document cannot be read or parsed.
+     */
+    public static RdfReader parse(InputStream in) throws IOException {
+        return parse(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * This function returns the objects of the given class, e.g. all Resources of the document, in the
+     * order of their first triple. Objects that are referred to by the returned ones are included in
+     * them.
+     *
+     * @param type class of the objects, e.g. Connector.class
+     * @param <T> class of the objects
+     * @return objects of the class
+     * @throws IOException This exception is thrown, if a literal cannot be converted to the type of
+     *         its property.
+     */
+    public <T extends ModelClass> List<T> read(Class<T> type) throws IOException {
+        List<T> result = new ArrayList<>();
+        for (Node node : nodes.values()) {
+            ModelObjects.Type nodeType = node.type != null ? ModelObjects.type(node.type) : null;
+            if (nodeType != null && type.isAssignableFrom(nodeType.implementation)) {
+                result.add(type.cast(object(node, type)));
+            }
+        }
+        return result;
+    }
+
+    private void add(String subject, String predicate, Object object) {
+        Node node = nodes.computeIfAbsent(subject, Node::new);
+        if (predicate.equals(RdfWriter.RDF_TYPE) && object instanceof String) {
+            if (node.type == null && ModelObjects.type((String) object) != null) {
+                node.type = (String) object;
+            }
+            return;
+        }
+        node.predicates.add(predicate);
+        node.objects.add(object);
+    }
+
+    // constructs the object of a subject, once, as given by its rdf:type or the expected class
+    private ModelClass object(Node node, Class<?> expected) throws IOException {
+        if (node.object == null) {
+            ModelObjects.Type type = node.type != null ? ModelObjects.type(node.type) : ModelObjects.type(expected);
+            if (type != null) {
+                URI id = node.subject.startsWith("_:") ? null : URI.create(node.subject);
+                type.reader.read(id, node, this);
+            }
+        }
+        return node.object;
+    }
+
+    /**
+     * Registers the object of a subject before its properties are read, so that cyclic references
+     * resolve to it.
+     */
+    void created(Node node, ModelClass object) {
+        node.object = object;
+    }
+
+    /**
+     * Converts an RDF term to a value of the given class.
+     *
+     * @return the value or null, if the term refers to a subject that is not an object of the class
+     */
+    <T> T value(Object term, Class<T> type) throws IOException {
+        try {
+            return type.cast(convert(term, type));
+        } catch (IllegalArgumentException | ClassCastException e) {
+            throw new IOException("Cannot read " + term + " as " + type.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Converts an RDF term to an object of the given class, if the document describes it, or to its
+     * URI otherwise. This is used for the properties that can hold both (e.g. ids:publisher).
+     */
+    Object objectOrUri(Object term, Class<?> type) throws IOException {
+        if (term instanceof String) {
+            Node node = nodes.get(term);
+            if (node != null && (node.type != null || !node.predicates.isEmpty())) {
+                ModelClass object = object(node, type);
+                if (type.isInstance(object)) {
+                    return object;
+                }
+            }
+            return ((String) term).startsWith("_:") ? null : URI.create((String) term);
+        }
+        return value(term, URI.class);
+    }
+
+    /**
+     * Adds a triple whose predicate is not part of the class to the generic properties of the object.
+     */
+    void property(ModelClass object, String predicate, Object term) {
+        if (term instanceof Literal) {
+            object.setProperty(predicate, ((Literal) term).lexical);
+        } else if (!((String) term).startsWith("_:")) {
+            object.setProperty(predicate, URI.create((String) term));
+        }
+    }
+
+    private Object convert(Object term, Class<?> type) throws IOException {
+        if (ModelClass.class.isAssignableFrom(type)) {
+            if (term instanceof Literal) {
+                throw new IllegalArgumentException("literal instead of resource");
+            }
+            Node node = nodes.get(term);
+            if (node != null) {
+                ModelClass object = object(node, type);
+                return type.isInstance(object) ? object : null;
+            }
+            String iri = (String) term;
+            return iri.startsWith("_:") ? null : ModelObjects.defaultInstance(type, URI.create(iri));
+        }
+        if (!(term instanceof Literal)) {
+            String iri = (String) term;
+            if (iri.startsWith("_:")) {
+                return null;
+            }
+            if (type == URI.class) {
+                return URI.create(iri);
+            }
+            if (type == String.class) {
+                return iri;
+            }
+            if (type == RdfResource.class) {
+                return new RdfResource(iri);
+            }
+            if (type == TypedLiteral.class) {
+                return new TypedLiteral(iri, URI.create(RdfWriter.XSD + "anyURI"));
+            }
+            throw new IllegalArgumentException("resource instead of literal");
+        }
+        Literal literal = (Literal) term;
+        String lexical = literal.lexical;
+        if (type == String.class) {
+            return lexical;
+        }
+        if (type == URI.class) {
+            return URI.create(lexical);
+        }
+        if (type == TypedLiteral.class) {
+            if (literal.language != null) {
+                return new TypedLiteral(lexical, literal.language);
+            }
+            return new TypedLiteral(lexical,
+                URI.create(literal.datatype != null ? literal.datatype : RdfWriter.XSD + "string"));
+        }
+        if (type == RdfResource.class) {
+            return new RdfResource(lexical,
+                URI.create(literal.datatype != null ? literal.datatype : RdfWriter.XSD + "string"));
+        }
+        if (type == XMLGregorianCalendar.class) {
+            return Datatypes.FACTORY.newXMLGregorianCalendar(lexical.trim());
+        }
+        if (type == Duration.class) {
+            return Datatypes.FACTORY.newDuration(lexical.trim());
+        }
+        if (type == BigInteger.class) {
+            return new BigInteger(lexical.trim());
+        }
+        if (type == BigDecimal.class) {
+            return new BigDecimal(lexical.trim());
+        }
+        if (type == Float.class) {
+            return Float.valueOf(lexical.trim());
+        }
+        if (type == byte[].class) {
+            return Base64.getDecoder().decode(lexical.trim());
+        }
+        throw new IllegalArgumentException("unsupported type");
+    }
+
+    private static class Datatypes {
+        private static final DatatypeFactory FACTORY;
+
+        static {
+            try {
+                FACTORY = DatatypeFactory.newInstance();
+            } catch (DatatypeConfigurationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Triples of a subject, in the order of the document, except for its rdf:type.
+     */
+    static final class Node {
+
+        final String subject;
+
+        final List<String> predicates = new ArrayList<>();
+
+        final List<Object> objects = new ArrayList<>();
+
+        // IRI of the first rdf:type that is a class of the model
+        String type;
+
+        ModelClass object;
+
+        Node(String subject) {
+            this.subject = subject;
+        }
+    }
+
+}
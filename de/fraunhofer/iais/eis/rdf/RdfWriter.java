@@ -0,0 +1,330 @@
+package de.fraunhofer.iais.eis.rdf;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.datatype.Duration;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import de.fraunhofer.iais.eis.*;
+import de.fraunhofer.iais.eis.util.*;
+
+/**
+ * Writes objects of the IDS Information Model directly as RDF in N-Triples or Turtle syntax, without
+ * going through JSON-LD. The properties of every class are written by generated code (see
+ * {@link ModelTriples}) with the IRIs of the ontology, e.g. https://w3id.org/idsa/core/title:
+ *
+ * <pre>
+ * try (RdfWriter writer = RdfWriter.nTriples(out)) {
+ *     writer.write(connector);
+ * }
+ * </pre>
+ *
+ * The objects are written one after the other, so the memory needed per object does not depend on
+ * the size of the graph. Every object is written once, even if it is referred to several times.
+ * Default instances (e.g. idsc:EN) are only referred to by their IRI.
+ */
+public abstract class RdfWriter implements Closeable, Flushable {
+
+    static final String IDS = "https://w3id.org/idsa/core/";
+
+    static final String IDSC = "https://w3id.org/idsa/code/";
+
+    static final String XSD = "http://www.w3.org/2001/XMLSchema#";
+
+    static final String RDF_TYPE = "http://www.w3.org/1999/02/22-rdf-syntax-ns#type";
+
+    static final String RDF_LANG_STRING = "http://www.w3.org/1999/02/22-rdf-syntax-ns#langString";
+
+    final Writer out;
+
+    private final Set<ModelClass> written = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private final Deque<ModelClass> pending = new ArrayDeque<>();
+
+    private String subject;
+
+    RdfWriter(Writer out) {
+        this.out = out instanceof BufferedWriter ? out : new BufferedWriter(out);
+    }
+
+    /**
+     * Creates a writer for the N-Triples syntax.
+     *
+     * @param out target of the triples, closed together with the writer
+     */
+    public static RdfWriter nTriples(Writer out) {
+        return new NTriplesWriter(out);
+    }
+
+    /**
+     * Creates a writer for the N-Triples syntax, which writes UTF-8.
+     *
+     * @param out target of the triples, closed together with the writer
+     */
+    public static RdfWriter nTriples(OutputStream out) {
+        return nTriples(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Creates a writer for the Turtle syntax, which abbreviates the IRIs of the IDS Information Model
+     * with the prefixes "ids" and "idsc".
+     *
+     * @param out target of the document, closed together with the writer
+     * @throws IOException This exception is thrown, if the prefixes cannot be written.
+     */
+    public static RdfWriter turtle(Writer out) throws IOException {
+        return new TurtleWriter(out);
+    }
+
+    /**
+     * Creates a writer for the Turtle syntax, which writes UTF-8.
+     *
+     * @param out target of the document, closed together with the writer
+     * @throws IOException This exception is thrown, if the prefixes cannot be written.
+     */
+    public static RdfWriter turtle(OutputStream out) throws IOException {
+        return turtle(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * This function writes the triples of the given object and of all objects reachable from it, that
+     * have not been written by this writer before.
+     *
+     * @param object root of the objects to write
+     * @throws IOException This exception is thrown, if writing fails.
+     */
+    public void write(ModelClass object) throws IOException {
+        enqueue(object);
+        while (!pending.isEmpty()) {
+            writeObject(pending.pop());
+        }
+    }
+
+    private void writeObject(ModelClass object) throws IOException {
+        subject = object.getId().toString();
+        startSubject(subject);
+        ModelTriples.Type type = ModelTriples.type(object);
+        if (type != null) {
+            startTriple(RDF_TYPE);
+            writeIri(type.iri);
+            endTriple();
+            type.properties.write(object, this);
+        }
+        Map<String, Object> properties = object.getProperties();
+        if (properties != null) {
+            for (Map.Entry<String, Object> property : properties.entrySet()) {
+                String predicate = expand(property.getKey());
+                if (predicate != null) {
+                    value(predicate, property.getValue());
+                }
+            }
+        }
+        endSubject();
+    }
+
+    private void enqueue(ModelClass object) {
+        if (!ModelTriples.isDefaultInstance(object) && written.add(object)) {
+            pending.push(object);
+        }
+    }
+
+    /**
+     * Writes a triple of the current object for each value. Lists are written as one triple per
+     * element. Objects of model classes are referred to by their IRI and written later.
+     */
+    void value(String predicate, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof List) {
+            for (Object element : (List<?>) value) {
+                value(predicate, element);
+            }
+            return;
+        }
+        if (value instanceof ModelClass) {
+            ModelClass object = (ModelClass) value;
+            startTriple(predicate);
+            writeIri(object.getId().toString());
+            endTriple();
+            enqueue(object);
+        } else if (value instanceof URI) {
+            startTriple(predicate);
+            writeIri(value.toString());
+            endTriple();
+        } else if (value instanceof RdfResource) {
+            RdfResource literal = (RdfResource) value;
+            String language = literal instanceof TypedLiteral ? ((TypedLiteral) literal).getLanguage() : null;
+            String datatype = language == null ? literal.getType() : null;
+            if (datatype != null && datatype.equals(RDF_LANG_STRING)) {
+                datatype = null;
+            }
+            literal(predicate, literal.getValue(), datatype, language);
+        } else if (value instanceof String) {
+            literal(predicate, (String) value, null, null);
+        } else if (value instanceof XMLGregorianCalendar) {
+            XMLGregorianCalendar calendar = (XMLGregorianCalendar) value;
+            literal(predicate, calendar.toXMLFormat(), XSD + calendar.getXMLSchemaType().getLocalPart(), null);
+        } else if (value instanceof Duration) {
+            literal(predicate, value.toString(), XSD + "duration", null);
+        } else if (value instanceof BigInteger || value instanceof Long || value instanceof Integer) {
+            literal(predicate, value.toString(), XSD + "integer", null);
+        } else if (value instanceof BigDecimal) {
+            literal(predicate, ((BigDecimal) value).toPlainString(), XSD + "decimal", null);
+        } else if (value instanceof Float) {
+            literal(predicate, value.toString(), XSD + "float", null);
+        } else if (value instanceof Double) {
+            literal(predicate, value.toString(), XSD + "double", null);
+        } else if (value instanceof Boolean) {
+            literal(predicate, value.toString(), XSD + "boolean", null);
+        } else if (value instanceof byte[]) {
+            literal(predicate, Base64.getEncoder().encodeToString((byte[]) value), XSD + "base64Binary", null);
+        } else if (value instanceof Map) {
+            // nested JSON objects of generic properties are written only as far as they are references
+            Object id = ((Map<?, ?>) value).get("@id");
+            if (id != null) {
+                startTriple(predicate);
+                writeIri(id.toString());
+                endTriple();
+            }
+        } else {
+            literal(predicate, value.toString(), null, null);
+        }
+    }
+
+    private void literal(String predicate, String lexical, String datatype, String language) throws IOException {
+        if (lexical == null) {
+            return;
+        }
+        startTriple(predicate);
+        out.write('"');
+        writeEscaped(lexical);
+        out.write('"');
+        if (language != null && !language.isEmpty()) {
+            out.write('@');
+            out.write(language);
+        } else if (datatype != null && !datatype.equals(XSD + "string")) {
+            out.write("^^");
+            writeIri(datatype);
+        }
+        endTriple();
+    }
+
+    // expands the key of a generic property to an IRI, or returns null for plain JSON keys
+    private static String expand(String key) {
+        if (key.startsWith("ids:")) {
+            return IDS + key.substring(4);
+        }
+        if (key.startsWith("idsc:")) {
+            return IDSC + key.substring(5);
+        }
+        return key.startsWith("http://") || key.startsWith("https://") ? key : null;
+    }
+
+    /**
+     * Subject of the triples that are being written.
+     */
+    String subject() {
+        return subject;
+    }
+
+    abstract void startSubject(String iri) throws IOException;
+
+    /**
+     * Writes the beginning of a triple of the current subject up to its object.
+     */
+    abstract void startTriple(String predicate) throws IOException;
+
+    abstract void endTriple() throws IOException;
+
+    abstract void endSubject() throws IOException;
+
+    abstract void writeIri(String iri) throws IOException;
+
+    /**
+     * Writes an IRI in angle brackets.
+     */
+    void writeFullIri(String iri) throws IOException {
+        out.write('<');
+        for (int i = 0; i < iri.length(); i++) {
+            char c = iri.charAt(i);
+            if (c <= ' ' || c == '<' || c == '>' || c == '"' || c == '{' || c == '}' || c == '|' || c == '^'
+                || c == '`' || c == '\\') {
+                writeUnicodeEscape(c);
+            } else {
+                out.write(c);
+            }
+        }
+        out.write('>');
+    }
+
+    // escapes the content of a quoted literal, which is the same in N-Triples and Turtle
+    private void writeEscaped(String value) throws IOException {
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\' || c == '\n' || c == '\r' || c < ' ') {
+                out.write(value, start, i - start);
+                start = i + 1;
+                switch (c) {
+                    case '"':
+                        out.write("\\\"");
+                        break;
+                    case '\\':
+                        out.write("\\\\");
+                        break;
+                    case '\n':
+                        out.write("\\n");
+                        break;
+                    case '\r':
+                        out.write("\\r");
+                        break;
+                    case '\t':
+                        out.write("\\t");
+                        break;
+                    default:
+                        writeUnicodeEscape(c);
+                }
+            }
+        }
+        out.write(value, start, value.length() - start);
+    }
+
+    private void writeUnicodeEscape(char c) throws IOException {
+        String hex = Integer.toHexString(c);
+        out.write("\\u");
+        for (int i = hex.length(); i < 4; i++) {
+            out.write('0');
+        }
+        out.write(hex);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+}
@@ -0,0 +1,448 @@
+package de.fraunhofer.iais.eis.rdf;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parser for the Turtle syntax, which includes N-Triples. It supports prefixes, base IRIs, predicate
+ * and object lists, blank nodes (labelled and as [ ... ]), all forms of string literals and the
+ * abbreviated numbers and booleans. RDF collections ( ... ) are not supported. The triples are passed
+ * on one at a time; IRIs and blank nodes ("_:label") as String, literals as {@link Literal}.
+ */
+final class TurtleParser {
+
+    /**
+     * Receiver of the parsed triples.
+     */
+    interface Handler {
+        void triple(String subject, String predicate, Object object) throws IOException;
+    }
+
+    private static final int EOF = -1;
+
+    private final Reader in;
+
+    private final Handler handler;
+
+    private final Map<String, String> prefixes = new HashMap<>();
+
+    private final StringBuilder buffer = new StringBuilder();
+
+    private URI base;
+
+    // characters read ahead, or -2
+    private int next = -2;
+
+    private int following = -2;
+
+    private int line = 1;
+
+    private int anonymous;
+
+    TurtleParser(Reader in, Handler handler) {
+        this.in = in;
+        this.handler = handler;
+    }
+
+    /**
+     * Parses the whole document.
+     */
+    void parse() throws IOException {
+        for (int c = skipWhitespace(); c != EOF; c = skipWhitespace()) {
+            if (c == '@') {
+                read();
+                String directive = readName();
+                if (directive.equals("prefix")) {
+                    readPrefix();
+                } else if (directive.equals("base")) {
+                    readBase();
+                } else {
+                    throw error("unknown directive @" + directive);
+                }
+                expect('.');
+            } else if (c == 'P' || c == 'p' || c == 'B' || c == 'b') {
+                String name = readPrefixedNameOrKeyword();
+                if (name.equalsIgnoreCase("PREFIX")) {
+                    readPrefix();
+                } else if (name.equalsIgnoreCase("BASE")) {
+                    readBase();
+                } else {
+                    readTriples(expand(name));
+                }
+            } else {
+                readTriples(null);
+            }
+        }
+    }
+
+    private void readPrefix() throws IOException {
+        skipWhitespace();
+        String prefix = readPrefixedNameOrKeyword();
+        if (!prefix.endsWith(":")) {
+            throw error("expected prefix name, but found " + prefix);
+        }
+        skipWhitespace();
+        prefixes.put(prefix.substring(0, prefix.length() - 1), readIri());
+    }
+
+    private void readBase() throws IOException {
+        skipWhitespace();
+        base = URI.create(readIri());
+    }
+
+    // reads the triples of a statement, whose subject may already have been read
+    private void readTriples(String subject) throws IOException {
+        if (subject == null) {
+            int c = skipWhitespace();
+            if (c == '[') {
+                read();
+                subject = newBlankNode();
+                if (skipWhitespace() != ']') {
+                    readPredicateObjectList(subject);
+                }
+                expect(']');
+                if (skipWhitespace() == '.') {
+                    read();
+                    return;
+                }
+            } else {
+                subject = readResource();
+            }
+        }
+        readPredicateObjectList(subject);
+        expect('.');
+    }
+
+    private void readPredicateObjectList(String subject) throws IOException {
+        while (true) {
+            skipWhitespace();
+            String predicate = readPredicate();
+            do {
+                skipWhitespace();
+                handler.triple(subject, predicate, readObject());
+            } while (accept(','));
+            if (!accept(';')) {
+                return;
+            }
+            // ';' may be repeated or precede the end of the list
+            while (accept(';')) {
+                // nothing to do
+            }
+            int c = skipWhitespace();
+            if (c == '.' || c == ']' || c == EOF) {
+                return;
+            }
+        }
+    }
+
+    private String readPredicate() throws IOException {
+        if (peek() == 'a') {
+            String name = readPrefixedNameOrKeyword();
+            return name.equals("a") ? RdfWriter.RDF_TYPE : expand(name);
+        }
+        return readResource();
+    }
+
+    private Object readObject() throws IOException {
+        int c = peek();
+        switch (c) {
+            case '"':
+            case '\'':
+                return readLiteral();
+            case '[': {
+                read();
+                String node = newBlankNode();
+                if (skipWhitespace() != ']') {
+                    readPredicateObjectList(node);
+                }
+                expect(']');
+                return node;
+            }
+            case '(':
+                throw error("RDF collections are not supported");
+            default:
+                if (c == '+' || c == '-' || c == '.' || c >= '0' && c <= '9') {
+                    return readNumber();
+                }
+                if (c == '<' || c == '_' || c == ':') {
+                    return readResource();
+                }
+                String name = readPrefixedNameOrKeyword();
+                if (name.equals("true") || name.equals("false")) {
+                    return new Literal(name, RdfWriter.XSD + "boolean", null);
+                }
+                return expand(name);
+        }
+    }
+
+    // reads an IRI, a prefixed name or a blank node label
+    private String readResource() throws IOException {
+        int c = peek();
+        if (c == '<') {
+            return readIri();
+        }
+        if (c == '_') {
+            read();
+            if (read() != ':') {
+                throw error("expected blank node label");
+            }
+            return "_:" + readName();
+        }
+        return expand(readPrefixedNameOrKeyword());
+    }
+
+    private String readIri() throws IOException {
+        expect('<');
+        buffer.setLength(0);
+        for (int c = read(); c != '>'; c = read()) {
+            if (c == EOF || c == '\n') {
+                throw error("unterminated IRI");
+            }
+            buffer.appendCodePoint(c == '\\' ? readEscape() : c);
+        }
+        String iri = buffer.toString();
+        if (base != null && !URI.create(iri).isAbsolute()) {
+            return base.resolve(iri).toString();
+        }
+        return iri;
+    }
+
+    private Literal readLiteral() throws IOException {
+        int quote = read();
+        boolean isLong = false;
+        if (peek() == quote) {
+            read();
+            if (peek() != quote) {
+                return readLiteralSuffix("");
+            }
+            read();
+            isLong = true;
+        }
+        buffer.setLength(0);
+        while (true) {
+            int c = read();
+            if (c == EOF || !isLong && (c == '\n' || c == '\r')) {
+                throw error("unterminated string");
+            }
+            if (c == quote) {
+                if (!isLong) {
+                    break;
+                }
+                if (peek() == quote) {
+                    read();
+                    if (peek() == quote) {
+                        read();
+                        break;
+                    }
+                    buffer.append((char) quote);
+                }
+                buffer.append((char) quote);
+            } else if (c == '\\') {
+                buffer.appendCodePoint(readEscape());
+            } else {
+                buffer.append((char) c);
+            }
+        }
+        return readLiteralSuffix(buffer.toString());
+    }
+
+    private Literal readLiteralSuffix(String lexical) throws IOException {
+        if (peek() == '@') {
+            read();
+            return new Literal(lexical, null, readName());
+        }
+        if (peek() == '^') {
+            read();
+            if (read() != '^') {
+                throw error("expected ^^");
+            }
+            return new Literal(lexical, readResource(), null);
+        }
+        return new Literal(lexical, null, null);
+    }
+
+    private Literal readNumber() throws IOException {
+        buffer.setLength(0);
+        String datatype = "integer";
+        for (int c = peek(); c != EOF; c = peek()) {
+            if (c >= '0' && c <= '9' || c == '+' || c == '-') {
+                buffer.append((char) read());
+            } else if (c == '.') {
+                read();
+                int following = peek();
+                if (following < '0' || following > '9') {
+                    // end of the statement
+                    unread('.');
+                    break;
+                }
+                buffer.append('.');
+                datatype = datatype.equals("integer") ? "decimal" : datatype;
+            } else if (c == 'e' || c == 'E') {
+                buffer.append((char) read());
+                datatype = "double";
+            } else {
+                break;
+            }
+        }
+        if (buffer.length() == 0) {
+            // e.g. a statement that ends without an object
+            throw error("expected object");
+        }
+        return new Literal(buffer.toString(), RdfWriter.XSD + datatype, null);
+    }
+
+    // reads a prefixed name ("ids:title", ":x", "ids:") or a keyword ("a", "true", "PREFIX")
+    private String readPrefixedNameOrKeyword() throws IOException {
+        buffer.setLength(0);
+        for (int c = peek(); c != EOF; c = peek()) {
+            if (c == '\\') {
+                read();
+                buffer.append((char) read());
+            } else if (c == '.') {
+                read();
+                if (!isNameChar(peek())) {
+                    // end of the statement
+                    unread('.');
+                    break;
+                }
+                buffer.append('.');
+            } else if (isNameChar(c) || c == ':') {
+                buffer.append((char) read());
+            } else {
+                break;
+            }
+        }
+        if (buffer.length() == 0) {
+            throw error("unexpected character '" + (char) peek() + "'");
+        }
+        return buffer.toString();
+    }
+
+    private String readName() throws IOException {
+        StringBuilder name = new StringBuilder();
+        while (isNameChar(peek())) {
+            name.append((char) read());
+        }
+        return name.toString();
+    }
+
+    // expands a prefixed name to an IRI
+    private String expand(String name) throws IOException {
+        int colon = name.indexOf(':');
+        if (colon < 0) {
+            throw error("unexpected " + name);
+        }
+        String namespace = prefixes.get(name.substring(0, colon));
+        if (namespace == null) {
+            throw error("undefined prefix " + name.substring(0, colon));
+        }
+        return namespace + name.substring(colon + 1);
+    }
+
+    private String newBlankNode() {
+        return "_:anonymous" + (++anonymous);
+    }
+
+    private int readEscape() throws IOException {
+        int c = read();
+        switch (c) {
+            case 't':
+                return '\t';
+            case 'b':
+                return '\b';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 'f':
+                return '\f';
+            case 'u':
+                return readHex(4);
+            case 'U':
+                return readHex(8);
+            case EOF:
+                throw error("unterminated escape sequence");
+            default:
+                return c;
+        }
+    }
+
+    private int readHex(int digits) throws IOException {
+        int value = 0;
+        for (int i = 0; i < digits; i++) {
+            int digit = Character.digit(read(), 16);
+            if (digit < 0) {
+                throw error("invalid escape sequence");
+            }
+            value = value * 16 + digit;
+        }
+        return value;
+    }
+
+    private static boolean isNameChar(int c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_' || c == '-'
+            || c == '%' || c > 0x7f;
+    }
+
+    private void expect(int expected) throws IOException {
+        if (skipWhitespace() != expected) {
+            throw error("expected '" + (char) expected + "'");
+        }
+        read();
+    }
+
+    private boolean accept(int expected) throws IOException {
+        if (skipWhitespace() == expected) {
+            read();
+            return true;
+        }
+        return false;
+    }
+
+    // skips whitespace and comments and returns the next character without consuming it
+    private int skipWhitespace() throws IOException {
+        while (true) {
+            int c = peek();
+            if (c == '#') {
+                while (c != '\n' && c != EOF) {
+                    c = read();
+                }
+            } else if (c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+                read();
+            } else {
+                return c;
+            }
+        }
+    }
+
+    private int peek() throws IOException {
+        if (next == -2) {
+            next = following != -2 ? following : in.read();
+            following = -2;
+        }
+        return next;
+    }
+
+    private int read() throws IOException {
+        int c = peek();
+        next = -2;
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    // pushes back a character that has been read, while the next one has been peeked at
+    private void unread(char c) {
+        following = next;
+        next = c;
+    }
+
+    private IOException error(String message) {
+        return new IOException("Turtle syntax error in line " + line + ": " + message);
+    }
+
+}
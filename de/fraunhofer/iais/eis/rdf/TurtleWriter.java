@@ -0,0 +1,84 @@
+package de.fraunhofer.iais.eis.rdf;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writer for the Turtle syntax, which groups the triples by subject and abbreviates the IRIs of the
+ * IDS Information Model and of XML Schema with prefixes.
+ */
+final class TurtleWriter extends RdfWriter {
+
+    private static final String[][] PREFIXES = {{"ids", IDS}, {"idsc", IDSC}, {"xsd", XSD}};
+
+    // true until the first triple of the current subject has been written
+    private boolean first;
+
+    TurtleWriter(Writer out) throws IOException {
+        super(out);
+        for (String[] prefix : PREFIXES) {
+            this.out.write("@prefix " + prefix[0] + ": <" + prefix[1] + "> .\n");
+        }
+        this.out.write('\n');
+    }
+
+    @Override
+    void startSubject(String iri) {
+        first = true;
+    }
+
+    @Override
+    void startTriple(String predicate) throws IOException {
+        if (first) {
+            writeIri(subject());
+            out.write(' ');
+            first = false;
+        } else {
+            out.write(" ;\n    ");
+        }
+        if (predicate.equals(RDF_TYPE)) {
+            out.write('a');
+        } else {
+            writeIri(predicate);
+        }
+        out.write(' ');
+    }
+
+    @Override
+    void endTriple() {}
+
+    @Override
+    void endSubject() throws IOException {
+        if (!first) {
+            out.write(" .\n\n");
+        }
+    }
+
+    @Override
+    void writeIri(String iri) throws IOException {
+        for (String[] prefix : PREFIXES) {
+            if (iri.startsWith(prefix[1]) && isLocalName(iri, prefix[1].length())) {
+                out.write(prefix[0]);
+                out.write(':');
+                out.write(iri, prefix[1].length(), iri.length() - prefix[1].length());
+                return;
+            }
+        }
+        writeFullIri(iri);
+    }
+
+    // checks whether the rest of the IRI can be written as local name of a prefixed name
+    private static boolean isLocalName(String iri, int start) {
+        if (start == iri.length() || !Character.isLetter(iri.charAt(start))) {
+            return false;
+        }
+        for (int i = start + 1; i < iri.length(); i++) {
+            char c = iri.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,70 @@
+package de.fraunhofer.iais.eis;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CopyContextTest {
+
+    private final ContractOffer offer = new ContractOfferBuilder(URI.create("http://example.org/offer")).build();
+
+    private ResourceCatalog catalog() {
+        Resource first = new ResourceBuilder(URI.create("http://example.org/1"))
+            ._contractOffer_(offer)
+            ._language_(Language.EN)
+            .build();
+        Resource second = new ResourceBuilder(URI.create("http://example.org/2"))._contractOffer_(offer).build();
+        return new ResourceCatalogBuilder(URI.create("http://example.org/catalog"))
+            ._offeredResourceAsObject_(first)
+            ._offeredResourceAsObject_(second)
+            .build();
+    }
+
+    @Test
+    public void preservingIdsKeepsIdsAndSharing() {
+        ResourceCatalog original = catalog();
+        ResourceCatalog copy = CopyContext.preservingIds().copy(original);
+        assertNotSame(original, copy);
+        assertEquals(original.getId(), copy.getId());
+
+        Resource first = copy.getOfferedResourceAsObject().get(0);
+        Resource second = copy.getOfferedResourceAsObject().get(1);
+        assertNotSame(original.getOfferedResourceAsObject().get(0), first);
+        assertEquals(URI.create("http://example.org/1"), first.getId());
+        ContractOffer copiedOffer = first.getContractOffer().get(0);
+        assertNotSame(offer, copiedOffer);
+        assertEquals(offer.getId(), copiedOffer.getId());
+        // the offer shared by both resources is copied once
+        assertSame(copiedOffer, second.getContractOffer().get(0));
+    }
+
+    @Test
+    public void defaultInstancesAreShared() {
+        ResourceCatalog copy = CopyContext.preservingIds().copy(catalog());
+        assertSame(Language.EN, copy.getOfferedResourceAsObject().get(0).getLanguage().get(0));
+    }
+
+    @Test
+    public void deepCopyCreatesNewIds() {
+        ResourceCatalog original = catalog();
+        ResourceCatalog copy = original.deepCopy();
+        assertNotEquals(original.getId(), copy.getId());
+        Resource first = copy.getOfferedResourceAsObject().get(0);
+        assertNotEquals(URI.create("http://example.org/1"), first.getId());
+        assertSame(first.getContractOffer().get(0), copy.getOfferedResourceAsObject().get(1).getContractOffer().get(0));
+    }
+
+    @Test
+    public void cyclicReferencesResolveToCopy() {
+        Resource resource = new ResourceBuilder(URI.create("http://example.org/cyclic")).build();
+        resource.setResourcePart(new ArrayList<>(Arrays.asList(resource)));
+        Resource copy = CopyContext.preservingIds().copy(resource);
+        assertNotSame(resource, copy);
+        assertSame(copy, copy.getResourcePart().get(0));
+    }
+
+}
@@ -0,0 +1,88 @@
+package de.fraunhofer.iais.eis;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class DefaultInstanceLookupTest {
+
+    // all interfaces that declare default instances
+    private static final Class<?>[] VOCABULARIES = {
+        Action.class,
+        AppEndpointType.class,
+        AppExecutionResources.class,
+        ArtifactState.class,
+        Audience.class,
+        AuditGuarantee.class,
+        AuthStandard.class,
+        AuthenticationGuarantee.class,
+        BinaryOperator.class,
+        ComponentCertificationLevel.class,
+        ConnectorDeployMode.class,
+        ConnectorStatus.class,
+        ContentType.class,
+        Frequency.class,
+        IdsProtocolSpecification.class,
+        IntegrityGuarantee.class,
+        IntegrityVerificationScopeGuarantee.class,
+        KeyType.class,
+        Language.class,
+        LeftOperand.class,
+        LocalDataConfidentialityGuarantee.class,
+        LogLevel.class,
+        ParticipantCertificationLevel.class,
+        PaymentModality.class,
+        QueryLanguage.class,
+        QueryScope.class,
+        QueryTarget.class,
+        RejectionReason.class,
+        SecurityProfile.class,
+        ServiceIsolationGuarantee.class,
+        TokenFormat.class,
+        UsageControlGuarantee.class,
+        UsagePolicyClass.class
+    };
+
+    @Test
+    public void everyDeclaredInstanceIsFound() throws Exception {
+        int count = 0;
+        for (Class<?> vocabulary : VOCABULARIES) {
+            Method fromId = vocabulary.getMethod("fromId", URI.class);
+            Method fromString = vocabulary.getMethod("fromString", String.class);
+            for (Field field : vocabulary.getFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) || field.getType() != vocabulary) {
+                    continue;
+                }
+                ModelClass instance = (ModelClass) field.get(null);
+                String name = vocabulary.getSimpleName() + "." + field.getName();
+                assertSame(name, instance, fromId.invoke(null, instance.getId()));
+                assertSame(name, instance, fromString.invoke(null, instance.getId().toString()));
+                assertSame(name, instance,
+                    fromString.invoke(null, "idsc:" + instance.getId().toString().substring("https://w3id.org/idsa/code/".length())));
+                count++;
+            }
+        }
+        assertEquals(434, count);
+    }
+
+    @Test
+    public void wrappedDeclarationsAreFound() {
+        assertSame(ComponentCertificationLevel.COMPONENT_TRUST_SECURITY_PROFILE_HIGH_ASSURANCE_EVALUATION,
+            ComponentCertificationLevel.fromString("idsc:COMPONENT_TRUST_SECURITY_PROFILE_HIGH_ASSURANCE_EVALUATION"));
+        assertSame(IntegrityVerificationScopeGuarantee.INTEGRITY_VERIFICATION_SCOPE_KERNEL_CORE_CONTAINER,
+            IntegrityVerificationScopeGuarantee.fromString("idsc:INTEGRITY_VERIFICATION_SCOPE_KERNEL_CORE_CONTAINER"));
+    }
+
+    @Test
+    public void unknownIdIsNotFound() {
+        assertNull(Language.fromId(URI.create("https://w3id.org/idsa/code/UNKNOWN")));
+        assertNull(Language.fromId(null));
+        assertNull(Language.fromString(null));
+    }
+
+}
@@ -0,0 +1,77 @@
+package de.fraunhofer.iais.eis;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class DualPropertyTest {
+
+    private static Resource resource(String id) {
+        return new ResourceBuilder(URI.create(id)).build();
+    }
+
+    @Test
+    public void settingObjectsRemovesTheirUris() {
+        ResourceCatalog catalog = new ResourceCatalogBuilder().build();
+        catalog.setOfferedResourceAsUri(new ArrayList<>(Arrays.asList(
+            URI.create("http://example.org/1"), URI.create("http://example.org/2"), URI.create("http://example.org/3"))));
+        catalog.setOfferedResourceAsObject(new ArrayList<>(Arrays.asList(
+            resource("http://example.org/1"), resource("http://example.org/3"))));
+        assertEquals(Arrays.asList(URI.create("http://example.org/2")), catalog.getOfferedResourceAsUri());
+        assertEquals(2, catalog.getOfferedResourceAsObject().size());
+    }
+
+    @Test
+    public void settingUrisRemovesThoseOfObjects() {
+        ResourceCatalog catalog = new ResourceCatalogBuilder().build();
+        catalog.setOfferedResourceAsObject(new ArrayList<>(Arrays.asList(resource("http://example.org/1"))));
+        catalog.setOfferedResourceAsUri(new ArrayList<>(Arrays.asList(
+            URI.create("http://example.org/1"), URI.create("http://example.org/2"))));
+        assertEquals(Arrays.asList(URI.create("http://example.org/2")), catalog.getOfferedResourceAsUri());
+    }
+
+    @Test
+    public void removalIsLinearForLargeLists() {
+        int size = 50000;
+        List<URI> uris = new ArrayList<>(size);
+        List<Resource> objects = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            uris.add(URI.create("http://example.org/" + i));
+            if (i % 2 == 0) {
+                objects.add(resource("http://example.org/" + i));
+            }
+        }
+        long start = System.nanoTime();
+        DualProperty.removeObjectIds(uris, objects);
+        // a quadratic removal takes minutes for these sizes
+        assertTrue((System.nanoTime() - start) / 1_000_000 < 5000);
+        assertEquals(size / 2, uris.size());
+        assertEquals(URI.create("http://example.org/1"), uris.get(0));
+    }
+
+    @Test
+    public void unionIsLiveViewOfBothLists() {
+        List<Resource> objects = new ArrayList<>(Arrays.asList(resource("http://example.org/1")));
+        List<URI> uris = new ArrayList<>(Arrays.asList(URI.create("http://example.org/2")));
+        List<Object> union = DualProperty.union(objects, uris);
+        assertEquals(2, union.size());
+        assertSame(objects.get(0), union.get(0));
+        assertEquals(uris.get(0), union.get(1));
+
+        uris.add(URI.create("http://example.org/3"));
+        assertEquals(3, union.size());
+        assertEquals(URI.create("http://example.org/3"), union.get(2));
+        try {
+            union.add(URI.create("http://example.org/4"));
+            fail("expected the view to be read-only");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+package de.fraunhofer.iais.eis;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import de.fraunhofer.iais.eis.util.*;
+
+import static org.junit.Assert.*;
+
+public class ExternalImplementationTest {
+
+    // implementation of the model interface outside of this library, written against its earlier version
+    private static class External implements ModelClass {
+
+        @Override
+        public URI getId() {
+            return URI.create("http://example.org/external");
+        }
+
+        @Override
+        public List<TypedLiteral> getLabel() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<TypedLiteral> getComment() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public String toRdf() {
+            return "";
+        }
+
+        @Override
+        public Map<String, Object> getProperties() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public void setProperty(String property, Object value) {}
+    }
+
+    @Test
+    public void externalImplementationIsNotFrozen() {
+        assertFalse(new External().isFrozen());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void externalImplementationCannotBeFrozen() {
+        new External().freeze();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void externalImplementationCannotBeCopiedInContext() {
+        CopyContext.preservingIds().copy(new External());
+    }
+
+    @Test
+    public void modelInterfacesProvideDefaults() throws Exception {
+        for (Class<?> type : new Class<?>[] { ModelClass.class, Resource.class, Message.class, Connector.class, Language.class }) {
+            assertTrue(type.getMethod("deepCopy", CopyContext.class).isDefault());
+            assertTrue(type.getMethod("freeze").isDefault());
+            assertTrue(type.getMethod("isFrozen").isDefault());
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+package de.fraunhofer.iais.eis;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import de.fraunhofer.iais.eis.util.*;
+
+import static org.junit.Assert.*;
+
+public class FreezeTest {
+
+    private static Resource resource() {
+        return new ResourceBuilder(URI.create("http://example.org/resource"))
+            ._title_(new TypedLiteral("Title", "en"))
+            ._language_(Language.EN)
+            ._contractOffer_(new ContractOfferBuilder(URI.create("http://example.org/offer")).build())
+            .build();
+    }
+
+    @Test
+    public void freezeMakesGraphReadOnly() {
+        Resource resource = resource().freeze();
+        assertTrue(resource.isFrozen());
+        assertTrue(resource.getContractOffer().get(0).isFrozen());
+        try {
+            resource.setVersion("2");
+            fail("expected the setter to fail");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        try {
+            resource.getTitle().add(new TypedLiteral("Other", "en"));
+            fail("expected the list to be unmodifiable");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        try {
+            resource.setProperty("http://example.org/p", "v");
+            fail("expected setProperty() to fail");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void freezeDetachesListsOfCaller() {
+        List<Resource> parts = new ArrayList<>();
+        parts.add(new ResourceBuilder(URI.create("http://example.org/part/1")).build());
+        Resource resource = new ResourceBuilder(URI.create("http://example.org/resource"))._resourcePart_(parts).build().freeze();
+        Resource added = new ResourceBuilder(URI.create("http://example.org/part/2")).build();
+        parts.add(added);
+        parts.clear();
+        assertEquals(1, resource.getResourcePart().size());
+        assertEquals(URI.create("http://example.org/part/1"), resource.getResourcePart().get(0).getId());
+        assertTrue(resource.getResourcePart().get(0).isFrozen());
+        assertFalse(added.isFrozen());
+    }
+
+    @Test
+    public void freezeKeepsDefaultInstancesMutable() {
+        Resource resource = resource().freeze();
+        assertSame(Language.EN, resource.getLanguage().get(0));
+        assertFalse(Language.EN.isFrozen());
+        assertSame(Language.EN, Language.EN.freeze());
+        assertFalse(Language.EN.isFrozen());
+    }
+
+    @Test
+    public void frozenHashCodeIsStable() {
+        Resource resource = resource();
+        int hashCode = resource.hashCode();
+        resource.freeze();
+        assertEquals(hashCode, resource.hashCode());
+    }
+
+    @Test
+    public void deepCopyOfFrozenObjectIsMutable() {
+        Resource copy = resource().freeze().deepCopy(CopyContext.preservingIds());
+        assertFalse(copy.isFrozen());
+        copy.setVersion("2");
+        assertEquals("2", copy.getVersion());
+    }
+
+}
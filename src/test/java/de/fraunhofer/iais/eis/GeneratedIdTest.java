@@ -0,0 +1,66 @@
+package de.fraunhofer.iais.eis;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GeneratedIdTest {
+
+    @Test
+    public void givenIdIsKept() {
+        URI id = URI.create("http://example.org/resource");
+        assertSame(id, new ResourceBuilder(id).build().getId());
+    }
+
+    @Test
+    public void idIsGeneratedOnFirstAccess() {
+        ResourceImpl resource = (ResourceImpl) new ResourceBuilder().build();
+        // neither the builder nor the validation generate the id
+        assertNull(resource.id);
+        URI id = resource.getId();
+        assertNotNull(id);
+        assertSame(id, resource.id);
+        assertSame(id, resource.getId());
+    }
+
+    @Test
+    public void concurrentFirstAccessReturnsSameId() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int round = 0; round < 100; round++) {
+                // objects from a parser without @id start without an id, like this one
+                ResourceImpl resource = new ResourceImpl();
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<URI>> ids = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    ids.add(executor.submit((Callable<URI>) () -> {
+                        start.await();
+                        return resource.getId();
+                    }));
+                }
+                start.countDown();
+                Set<URI> distinct = new HashSet<>();
+                for (Future<URI> id : ids) {
+                    distinct.add(id.get());
+                }
+                assertEquals(1, distinct.size());
+                assertEquals(resource.getId(), distinct.iterator().next());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
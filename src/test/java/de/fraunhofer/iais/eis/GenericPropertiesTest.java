@@ -0,0 +1,85 @@
+package de.fraunhofer.iais.eis;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GenericPropertiesTest {
+
+    @Test
+    public void viewIsReusedUntilSetProperty() {
+        Resource resource = new ResourceBuilder().build();
+        assertNull(resource.getProperties());
+        resource.setProperty("http://example.org/p", "http://example.org/value");
+        Map<String, Object> properties = resource.getProperties();
+        assertEquals(URI.create("http://example.org/value"), properties.get("http://example.org/p"));
+        assertSame(properties, resource.getProperties());
+
+        resource.setProperty("http://example.org/q", "text");
+        Map<String, Object> changed = resource.getProperties();
+        assertNotSame(properties, changed);
+        assertEquals("text", changed.get("http://example.org/q"));
+        assertEquals(2, changed.size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void viewIsReadOnly() {
+        Resource resource = new ResourceBuilder().build();
+        resource.setProperty("http://example.org/p", "v");
+        resource.getProperties().put("http://example.org/q", "w");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void nestedValuesAreReadOnly() {
+        Resource resource = new ResourceBuilder().build();
+        List<Object> values = new ArrayList<>();
+        values.add("http://example.org/value");
+        Map<String, Object> nested = new HashMap<>();
+        nested.put("k", "v");
+        values.add(nested);
+        resource.setProperty("http://example.org/p", values);
+        List<?> read = (List<?>) resource.getProperties().get("http://example.org/p");
+        assertEquals(URI.create("http://example.org/value"), read.get(0));
+        try {
+            read.remove(0);
+            fail("expected the nested list to be read-only");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        try {
+            ((Map<String, Object>) read.get(1)).put("k", "w");
+            fail("expected the nested map to be read-only");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void laterChangesOfValueDoNotReachObject() {
+        Resource resource = new ResourceBuilder().build();
+        List<Object> values = new ArrayList<>();
+        values.add("a");
+        resource.setProperty("http://example.org/p", values);
+        Map<String, Object> properties = resource.getProperties();
+        values.add("b");
+        assertEquals(1, ((List<?>) properties.get("http://example.org/p")).size());
+        assertEquals(1, ((List<?>) resource.getProperties().get("http://example.org/p")).size());
+    }
+
+    @Test
+    public void copyOfViewIsModifiable() {
+        Resource resource = new ResourceBuilder().build();
+        resource.setProperty("http://example.org/p", "v");
+        Map<String, Object> copy = new HashMap<>(resource.getProperties());
+        copy.put("http://example.org/q", "w");
+        assertEquals(1, resource.getProperties().size());
+    }
+
+}
@@ -0,0 +1,57 @@
+package de.fraunhofer.iais.eis;
+
+import java.net.URI;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import de.fraunhofer.iais.eis.util.TypedLiteral;
+
+import static org.junit.Assert.*;
+
+public class ToStringTest {
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+
+    @Test
+    public void describesTypeIdAndKeyProperties() {
+        Resource resource = new ResourceBuilder(URI.create("http://example.org/resource"))
+            ._title_(Arrays.asList(new TypedLiteral("first", "en"), new TypedLiteral("second", "de")))
+            .build();
+        assertEquals("ids:Resource[@id=http://example.org/resource, title=[\"first\"@en, +1 more]]",
+            resource.toString());
+    }
+
+    @Test
+    public void doesNotGenerateIds() {
+        ResourceImpl resource = (ResourceImpl) new ResourceBuilder().build();
+        RepresentationImpl representation = (RepresentationImpl) new RepresentationBuilder().build();
+        String text = new ToStringBuilder("ids:Resource", resource.peekId())
+            .add("representation", Arrays.asList(representation))
+            .build();
+        assertEquals("ids:Resource[@id=null, representation=[null]]", text);
+        assertNull(resource.id);
+        assertNull(representation.id);
+        assertEquals("ids:Resource[@id=null]", resource.toString());
+        assertNull(resource.id);
+
+        URI id = representation.getId();
+        assertEquals("ids:Resource[@id=null, representation=" + id + "]",
+            new ToStringBuilder("ids:Resource", null).add("representation", representation).build());
+    }
+
+    @Test
+    public void truncatesLongValues() {
+        String text = new ToStringBuilder("ids:Resource", null)
+            .add("version", repeat('v', 1000))
+            .add("title", new TypedLiteral(repeat('t', 1000), "en"))
+            .build();
+        assertEquals("ids:Resource[@id=null, version=" + repeat('v', 64) + "..., title=\"" + repeat('t', 64)
+            + "...\"@en]", text);
+    }
+
+}
@@ -0,0 +1,87 @@
+package de.fraunhofer.iais.eis;
+
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Timing harness comparing the bulk construction of BaseConnectors with immediate and with deferred
+ * validation. It is not run with the tests; start it with
+ *
+ * <pre>
+ * java de.fraunhofer.iais.eis.ValidationModeBenchmark [resources per connector] [rounds]
+ * </pre>
+ *
+ * Every round builds one connector with a ResourceCatalog of the given number of Resources, each with
+ * a Representation holding an Artifact, bottom-up through the builders. With immediate validation
+ * every build() validates the graph reachable from its object; with deferred validation the connector
+ * is validated once at the end with ValidationMode.validate().
+ */
+public class ValidationModeBenchmark {
+
+    private static BaseConnector connector(int resources) {
+        List<Resource> offered = new ArrayList<>(resources);
+        for (int i = 0; i < resources; i++) {
+            Artifact artifact = new ArtifactBuilder()
+                ._fileName_("data-" + i + ".csv")
+                ._byteSize_(BigInteger.valueOf(1024 + i))
+                .build();
+            Representation representation = new RepresentationBuilder()
+                ._instance_(artifact)
+                .build();
+            offered.add(new ResourceBuilder()
+                ._version_(Integer.toString(i))
+                ._representation_(representation)
+                .build());
+        }
+        ResourceCatalog catalog = new ResourceCatalogBuilder()
+            ._offeredResourceAsObject_(offered)
+            .build();
+        return new BaseConnectorBuilder()
+            ._resourceCatalog_(catalog)
+            ._hasDefaultEndpoint_(new ConnectorEndpointBuilder()._accessURL_(URI.create("https://connector.example.org/api")).build())
+            ._inboundModelVersion_("4.2.7")
+            ._outboundModelVersion_("4.2.7")
+            ._securityProfile_(SecurityProfile.BASE_SECURITY_PROFILE)
+            ._maintainerAsUri_(URI.create("https://participant.example.org"))
+            ._curatorAsUri_(URI.create("https://participant.example.org"))
+            .build();
+    }
+
+    private static BaseConnector deferred(int resources) {
+        BaseConnector connector = ValidationMode.deferred(() -> connector(resources));
+        ValidationMode.validate(connector);
+        return connector;
+    }
+
+    // returns the average time of a round in milliseconds
+    private static double measure(boolean deferred, int resources, int rounds) {
+        long hash = 0;
+        long start = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            BaseConnector connector = deferred ? deferred(resources) : connector(resources);
+            hash += connector.getResourceCatalog().size();
+        }
+        long time = System.nanoTime() - start;
+        if (hash != rounds) {
+            throw new IllegalStateException();
+        }
+        return time / 1e6 / rounds;
+    }
+
+    public static void main(String[] args) {
+        int resources = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        // warm-up of both modes
+        for (int i = 0; i < 5; i++) {
+            measure(false, resources, rounds);
+            measure(true, resources, rounds);
+        }
+        for (int i = 0; i < 3; i++) {
+            System.out.printf("%d resources: immediate %.2f ms, deferred %.2f ms per connector%n",
+                resources, measure(false, resources, rounds), measure(true, resources, rounds));
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+package de.fraunhofer.iais.eis;
+
+import java.net.URI;
+
+import org.junit.After;
+import org.junit.Test;
+
+import de.fraunhofer.iais.eis.util.*;
+
+import static org.junit.Assert.*;
+
+public class ValidationModeTest {
+
+    @After
+    public void resetMode() {
+        ValidationMode.set(ValidationMode.IMMEDIATE);
+    }
+
+    // lacks the required properties, e.g. ids:issuerConnector
+    private static ArtifactRequestMessageBuilder incompleteMessage() {
+        return new ArtifactRequestMessageBuilder()._requestedArtifact_(URI.create("http://example.org/artifact"));
+    }
+
+    @Test(expected = ConstraintViolationException.class)
+    public void buildValidatesByDefault() {
+        incompleteMessage().build();
+    }
+
+    @Test
+    public void deferredBuildSkipsValidation() {
+        ArtifactRequestMessage message = ValidationMode.deferred(() -> incompleteMessage().build());
+        assertNotNull(message);
+        assertEquals(ValidationMode.IMMEDIATE, ValidationMode.current());
+        try {
+            ValidationMode.validate(message);
+            fail("expected a violation of the deferred validation");
+        } catch (ConstraintViolationException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("issuerConnector"));
+        }
+    }
+
+    @Test
+    public void modeIsScopedToThread() throws Exception {
+        ValidationMode.set(ValidationMode.DEFERRED);
+        ValidationMode[] other = new ValidationMode[1];
+        Thread thread = new Thread(() -> other[0] = ValidationMode.current());
+        thread.start();
+        thread.join();
+        assertEquals(ValidationMode.IMMEDIATE, other[0]);
+        assertNotNull(incompleteMessage().build());
+    }
+
+    @Test
+    public void buildUncheckedSkipsValidation() {
+        assertNotNull(incompleteMessage().buildUnchecked());
+    }
+
+    @Test
+    public void defaultBuildUncheckedDefersValidation() {
+        Builder<ValidationMode> builder = () -> {
+            ValidationMode mode = ValidationMode.current();
+            if (mode == ValidationMode.IMMEDIATE) {
+                throw new ConstraintViolationException("validated");
+            }
+            return mode;
+        };
+        assertEquals(ValidationMode.DEFERRED, builder.buildUnchecked());
+        assertEquals(ValidationMode.IMMEDIATE, ValidationMode.current());
+    }
+
+}
@@ -0,0 +1,110 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.net.URI;
+import java.util.Iterator;
+import java.util.Map;
+
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import de.fraunhofer.iais.eis.*;
+import de.fraunhofer.iais.eis.jackson.ObjectMapperFactory;
+
+import static org.junit.Assert.*;
+
+public class CodecFormatTest {
+
+    private final ObjectMapper mixins = ObjectMapperFactory.create();
+
+    private final ObjectMapper codecs = ObjectMapperFactory.create().registerModule(new CodecModule());
+
+    private static XMLGregorianCalendar date(String lexical) throws Exception {
+        return DatatypeFactory.newInstance().newXMLGregorianCalendar(lexical);
+    }
+
+    private static Message message() throws Exception {
+        return new ArtifactRequestMessageBuilder(URI.create("http://example.org/message"))
+            ._issued_(date("2021-01-02T03:04:05.000Z"))
+            ._modelVersion_("4.2.7")
+            ._issuerConnector_(URI.create("http://example.org/connector"))
+            ._senderAgent_(URI.create("http://example.org/agent"))
+            ._recipientConnector_(URI.create("http://example.org/recipient"))
+            ._requestedArtifact_(URI.create("http://example.org/artifact"))
+            .buildUnchecked();
+    }
+
+    /**
+     * Removes what only differs in form between the two outputs: "@context", unset properties and
+     * URIs written as {"@id": ...} instead of plain strings.
+     */
+    private static JsonNode normalize(JsonNode node) {
+        if (node.isObject()) {
+            if (node.size() == 1 && node.has("@id")) {
+                return node.get("@id");
+            }
+            ObjectNode result = ((ObjectNode) node).objectNode();
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                JsonNode value = field.getValue();
+                if (!field.getKey().equals("@context") && !value.isNull() && !(value.isArray() && value.size() == 0)) {
+                    result.set(field.getKey(), normalize(value));
+                }
+            }
+            return result;
+        }
+        if (node.isArray()) {
+            for (int i = 0; i < node.size(); i++) {
+                ((ArrayNode) node).set(i, normalize(node.get(i)));
+            }
+        }
+        return node;
+    }
+
+    @Test
+    public void codecsWriteDatesLikeMixins() throws Exception {
+        Message message = message();
+        JsonNode expected = mixins.readTree(mixins.writeValueAsString(message));
+        JsonNode actual = codecs.readTree(codecs.writeValueAsString(message));
+        assertEquals(new TextNode("2021-01-02T03:04:05.000UTC"), expected.get("ids:issued"));
+        assertEquals(expected.get("ids:issued"), actual.get("ids:issued"));
+        assertEquals(normalize(expected), normalize(actual));
+    }
+
+    @Test
+    public void codecsWriteAllDatePropertiesLikeMixins() throws Exception {
+        Resource resource = new ResourceBuilder(URI.create("http://example.org/resource"))
+            ._created_(date("2020-12-31T23:59:59.999+01:00"))
+            ._modified_(date("2021-06-01T12:00:00Z"))
+            .build();
+        JsonNode expected = mixins.readTree(mixins.writeValueAsString(resource));
+        JsonNode actual = codecs.readTree(codecs.writeValueAsString(resource));
+        assertEquals(expected.get("ids:created"), actual.get("ids:created"));
+        assertEquals(expected.get("ids:modified"), actual.get("ids:modified"));
+        assertEquals(normalize(expected), normalize(actual));
+    }
+
+    @Test
+    public void codecsReadTheirDates() throws Exception {
+        Message read = codecs.readValue(codecs.writeValueAsString(message()), Message.class);
+        assertEquals(date("2021-01-02T03:04:05.000Z").toGregorianCalendar().getTimeInMillis(),
+            read.getIssued().toGregorianCalendar().getTimeInMillis());
+    }
+
+    @Test
+    public void codecsReadXsdDateTime() throws Exception {
+        String json = "{\"@type\":\"ids:ArtifactRequestMessage\",\"@id\":\"http://example.org/message\","
+            + "\"ids:issued\":\"2021-01-02T03:04:05.000+02:00\"}";
+        Message read = codecs.readValue(json, Message.class);
+        assertEquals(date("2021-01-02T03:04:05.000+02:00"), read.getIssued());
+    }
+
+}
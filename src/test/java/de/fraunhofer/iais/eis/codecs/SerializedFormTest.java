@@ -0,0 +1,138 @@
+package de.fraunhofer.iais.eis.codecs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import de.fraunhofer.iais.eis.*;
+import de.fraunhofer.iais.eis.jackson.ModelWriter;
+import de.fraunhofer.iais.eis.jackson.ObjectMapperFactory;
+
+import static org.junit.Assert.*;
+
+public class SerializedFormTest {
+
+    private final ObjectMapper mapper = ObjectMapperFactory.create().registerModule(new CodecModule());
+
+    private static Connector connector(ResourceCatalog catalog) {
+        return new BaseConnectorBuilder(URI.create("http://example.org/connector"))
+            ._resourceCatalog_(catalog)
+            .buildUnchecked();
+    }
+
+    private static ResourceCatalog catalog() {
+        return new ResourceCatalogBuilder(URI.create("http://example.org/catalog"))
+            ._offeredResourceAsObject_(new ResourceBuilder(URI.create("http://example.org/resource"))._version_("1").build())
+            .build();
+    }
+
+    @Test
+    public void frozenObjectIsWrittenAsBefore() throws Exception {
+        ResourceCatalog catalog = catalog();
+        ResourceCatalog frozen = (ResourceCatalog) CopyContext.preservingIds().copy(catalog).freeze();
+        String expected = mapper.writeValueAsString(catalog);
+        assertEquals(expected, mapper.writeValueAsString(frozen));
+        // second time from the cached form
+        assertEquals(expected, mapper.writeValueAsString(frozen));
+    }
+
+    @Test
+    public void formIsSharedByWritersOfSameFormat() throws Exception {
+        Counter counter = new Counter();
+        ResourceCatalog catalog = catalog();
+        catalog.setProperty("http://example.org/counter", counter);
+        ResourceCatalog frozen = catalog.freeze();
+        String expected = mapper.writeValueAsString(frozen);
+        ModelWriter writer = new ModelWriter(mapper);
+        for (int i = 0; i < 3; i++) {
+            StringWriter out = new StringWriter();
+            // ModelWriter disables FLUSH_AFTER_WRITE_VALUE, which does not change the output
+            writer.write(frozen, out);
+            assertEquals(expected, out.toString());
+            assertEquals(expected, mapper.writeValueAsString(frozen));
+        }
+        assertEquals(1, counter.count);
+        // another format gets its own form
+        mapper.writer().with(JsonGenerator.Feature.ESCAPE_NON_ASCII).writeValueAsString(frozen);
+        assertEquals(2, counter.count);
+    }
+
+    @Test
+    public void largeFormIsNotKept() throws Exception {
+        Counter counter = new Counter();
+        ResourceCatalogBuilder builder = new ResourceCatalogBuilder(URI.create("http://example.org/catalog"));
+        List<Resource> resources = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            resources.add(new ResourceBuilder(URI.create("http://example.org/resource/" + i))._version_("" + i).build());
+        }
+        ResourceCatalog catalog = builder._offeredResourceAsObject_(resources).build();
+        String expected = mapper.writeValueAsString(catalog);
+        assertTrue(expected.length() > ModelSerializer.MAX_FORM_LENGTH);
+        catalog.setProperty("http://example.org/counter", counter);
+        catalog.freeze();
+        for (int i = 0; i < 3; i++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            catalog.toRdf(out);
+            assertTrue(out.size() > ModelSerializer.MAX_FORM_LENGTH);
+        }
+        int written = counter.count;
+        mapper.writeValueAsString(catalog);
+        // serialized directly, without another attempt to keep its form
+        assertEquals(written + 1, counter.count);
+        String json = mapper.writeValueAsString(catalog);
+        assertEquals(expected, json.substring(0, json.indexOf(",\"http://example.org/counter\"")) + "}");
+    }
+
+    // value that counts how often it has been serialized
+    private static final class Counter implements JsonSerializable {
+
+        int count;
+
+        @Override
+        public void serialize(JsonGenerator gen, SerializerProvider provider) throws IOException {
+            count++;
+            gen.writeString("counter");
+        }
+
+        @Override
+        public void serializeWithType(JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer)
+            throws IOException {
+            serialize(gen, provider);
+        }
+    }
+
+    @Test
+    public void frozenSubtreeIsSplicedWithoutContext() throws Exception {
+        ResourceCatalog frozen = (ResourceCatalog) CopyContext.preservingIds().copy(catalog()).freeze();
+        mapper.writeValueAsString(frozen);
+        assertEquals(mapper.writeValueAsString(connector(catalog())), mapper.writeValueAsString(connector(frozen)));
+    }
+
+    @Test
+    public void frozenObjectIsReadAsTree() throws Exception {
+        ResourceCatalog frozen = (ResourceCatalog) CopyContext.preservingIds().copy(catalog()).freeze();
+        mapper.writeValueAsString(frozen);
+        assertEquals(mapper.readTree(mapper.writeValueAsString(catalog())), mapper.valueToTree(frozen));
+    }
+
+    @Test
+    public void frozenObjectIsPrettyPrinted() throws Exception {
+        ResourceCatalog frozen = (ResourceCatalog) CopyContext.preservingIds().copy(catalog()).freeze();
+        mapper.writeValueAsString(frozen);
+        ObjectMapper pretty = mapper.copy().enable(SerializationFeature.INDENT_OUTPUT);
+        assertEquals(pretty.writeValueAsString(catalog()), mapper.writerWithDefaultPrettyPrinter().writeValueAsString(frozen));
+    }
+
+}
@@ -0,0 +1,138 @@
+package de.fraunhofer.iais.eis.jackson;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URI;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.fraunhofer.iais.eis.*;
+import de.fraunhofer.iais.eis.codecs.CodecModule;
+
+import static org.junit.Assert.*;
+
+public class BinaryCodecTest {
+
+    private final ObjectMapper mapper = ObjectMapperFactory.create().registerModule(new CodecModule());
+
+    private final BinaryCodec codec = new BinaryCodec(mapper);
+
+    private static Message message() {
+        Message message = new ArtifactRequestMessageBuilder(URI.create("http://example.org/message"))
+            ._modelVersion_("4.2.7")
+            ._issuerConnector_(URI.create("http://example.org/connector"))
+            ._senderAgent_(URI.create("http://example.org/agent"))
+            ._recipientConnector_(URI.create("http://example.org/recipient"))
+            ._requestedArtifact_(URI.create("http://example.org/artifact"))
+            .buildUnchecked();
+        message.setProperty("http://example.org/long", 12345678901L);
+        message.setProperty("http://example.org/double", 1.5);
+        message.setProperty("http://example.org/flag", true);
+        message.setProperty("http://example.org/text", "äöü");
+        return message;
+    }
+
+    @Test
+    public void readsWhatItWrites() throws Exception {
+        Message message = message();
+        String json = mapper.writeValueAsString(message);
+        Message read = codec.read(codec.write(message), Message.class);
+        assertEquals(json, mapper.writeValueAsString(read));
+    }
+
+    @Test
+    public void isSmallerThanJson() throws Exception {
+        Message message = message();
+        assertTrue(codec.write(message).length < mapper.writeValueAsBytes(message).length);
+    }
+
+    @Test
+    public void readsFromStreamAndSlice() throws Exception {
+        byte[] data = codec.write(message());
+        assertEquals(URI.create("http://example.org/message"),
+            codec.read(new ByteArrayInputStream(data), Message.class).getId());
+        byte[] padded = new byte[data.length + 10];
+        System.arraycopy(data, 0, padded, 5, data.length);
+        assertEquals(URI.create("http://example.org/message"),
+            codec.read(padded, 5, data.length, Message.class).getId());
+    }
+
+    @Test
+    public void transcodesBothWays() throws Exception {
+        Message message = message();
+        String json = mapper.writeValueAsString(message);
+        byte[] data = codec.write(message);
+
+        StringWriter text = new StringWriter();
+        BinaryCodec.transcode(data, mapper.getFactory().createGenerator(text));
+        assertEquals(json, text.toString());
+
+        ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        BinaryCodec.transcode(mapper.getFactory().createParser(json), binary);
+        assertArrayEquals(data, binary.toByteArray());
+    }
+
+    @Test
+    public void writesFrozenObjects() throws Exception {
+        // the message lacks required properties, so it is copied without validation
+        Message copy = ValidationMode.deferred(() -> CopyContext.preservingIds().copy(message()));
+        String json = mapper.writeValueAsString(copy);
+        byte[] data = codec.write(copy);
+        Message frozen = (Message) copy.freeze();
+        // the serialized form of the frozen object is cached by the JSON output, but not spliced into the binary one
+        assertEquals(json, mapper.writeValueAsString(frozen));
+        assertArrayEquals(data, codec.write(frozen));
+        assertEquals(json, mapper.writeValueAsString(codec.read(codec.write(frozen), Message.class)));
+    }
+
+    @Test
+    public void transcodesOneValueOfStream() throws Exception {
+        String first = mapper.writeValueAsString(message());
+        String second = mapper.writeValueAsString(new ResourceBuilder(URI.create("http://example.org/resource")).build());
+        try (JsonParser parser = mapper.getFactory().createParser(first + " " + second + " [1]")) {
+            ByteArrayOutputStream binary = new ByteArrayOutputStream();
+            BinaryCodec.transcode(parser, binary);
+            assertArrayEquals(codec.write(message()), binary.toByteArray());
+
+            binary.reset();
+            BinaryCodec.transcode(parser, binary);
+            assertEquals(URI.create("http://example.org/resource"), codec.read(binary.toByteArray(), Resource.class).getId());
+
+            assertEquals(JsonToken.START_ARRAY, parser.nextToken());
+        }
+    }
+
+    @Test
+    public void dictionaryHoldsDefaultInstances() {
+        ModelClass[] instances = {
+            Language.EN,
+            ComponentCertificationLevel.COMPONENT_TRUSTPLUS_SECURITY_PROFILE_HIGH_ASSURANCE_EVALUATION,
+            ComponentCertificationLevel.COMPONENT_TRUST_SECURITY_PROFILE_HIGH_ASSURANCE_EVALUATION,
+            IntegrityVerificationScopeGuarantee.INTEGRITY_VERIFICATION_SCOPE_KERNEL_CORE_CONTAINER,
+            IntegrityVerificationScopeGuarantee.INTEGRITY_VERIFICATION_SCOPE_KERNEL_CORE_CONTAINER_APPLICATION,
+        };
+        for (ModelClass instance : instances) {
+            String id = instance.getId().toString();
+            assertEquals(id, BinaryDictionary.entry(BinaryDictionary.indexOf(id)));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsTruncatedInput() throws Exception {
+        byte[] data = codec.write(message());
+        codec.read(Arrays.copyOf(data, data.length - 3), Message.class);
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsOtherFormats() throws Exception {
+        codec.read(mapper.writeValueAsBytes(message()), Message.class);
+    }
+
+}
@@ -0,0 +1,91 @@
+package de.fraunhofer.iais.eis.jackson;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.fraunhofer.iais.eis.*;
+import de.fraunhofer.iais.eis.codecs.CodecModule;
+
+import static org.junit.Assert.*;
+
+public class CatalogReaderTest {
+
+    private static ResourceCatalog mixedCatalog() {
+        return new ResourceCatalogBuilder(URI.create("http://example.org/catalog"))
+            ._offeredResourceAsObject_(new ResourceBuilder(URI.create("http://example.org/1"))
+                ._sample_(new ResourceBuilder(URI.create("http://example.org/sample")).build())
+                .build())
+            ._offeredResourceAsObject_(new DataResourceBuilder(URI.create("http://example.org/2")).build())
+            ._offeredResourceAsUri_(URI.create("http://example.org/reference"))
+            .build();
+    }
+
+    private static InputStream document(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<URI> readIds(ObjectMapper mapper, String json) throws Exception {
+        List<URI> ids = new ArrayList<>();
+        try (CatalogReader<Resource> reader = CatalogReader.offeredResources(mapper, document(json))) {
+            reader.forEachRemaining(resource -> ids.add(resource.getId()));
+        }
+        return ids;
+    }
+
+    @Test
+    public void skipsReferenceObjectsWrittenByCodecs() throws Exception {
+        ObjectMapper mapper = ObjectMapperFactory.create().registerModule(new CodecModule());
+        String json = mapper.writeValueAsString(mixedCatalog());
+        assertTrue(json, json.contains("{\"@id\":\"http://example.org/reference\"}"));
+        assertEquals(listOf("http://example.org/1", "http://example.org/2"), readIds(mapper, json));
+    }
+
+    @Test
+    public void skipsReferenceStrings() throws Exception {
+        ObjectMapper mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        String json = "{\"@type\":\"ids:ResourceCatalog\",\"ids:offeredResource\":["
+            + "{\"@type\":\"ids:Resource\",\"@id\":\"http://example.org/1\"},"
+            + "\"http://example.org/reference\","
+            + "{\"@type\":\"ids:DataResource\",\"@id\":\"http://example.org/2\"}]}";
+        assertEquals(listOf("http://example.org/1", "http://example.org/2"), readIds(mapper, json));
+    }
+
+    @Test
+    public void readsObjectsStartingWithId() throws Exception {
+        ObjectMapper mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        String json = "{\"@type\":\"ids:Broker\",\"ids:resourceCatalog\":["
+            + "{\"@type\":\"ids:ResourceCatalog\",\"ids:offeredResource\":["
+            + "{\"@id\":\"http://example.org/1\",\"@type\":\"ids:Resource\",\"ids:version\":\"1\"},"
+            + "{\"@id\":\"http://example.org/reference\"},"
+            + "{\"@type\":\"ids:Resource\",\"@id\":\"http://example.org/2\"}]},"
+            + "{\"@type\":\"ids:ResourceCatalog\",\"offeredResource\":"
+            + "{\"@id\":\"http://example.org/3\",\"@type\":\"ids:Resource\"}}]}";
+        List<Resource> resources = new ArrayList<>();
+        try (CatalogReader<Resource> reader = CatalogReader.offeredResources(mapper, document(json))) {
+            reader.forEachRemaining(resources::add);
+        }
+        assertEquals(3, resources.size());
+        assertEquals(URI.create("http://example.org/1"), resources.get(0).getId());
+        assertEquals("1", resources.get(0).getVersion());
+        assertEquals(URI.create("http://example.org/2"), resources.get(1).getId());
+        assertEquals(URI.create("http://example.org/3"), resources.get(2).getId());
+    }
+
+    private static List<URI> listOf(String... ids) {
+        List<URI> result = new ArrayList<>();
+        for (String id : ids) {
+            result.add(URI.create(id));
+        }
+        return result;
+    }
+
+}
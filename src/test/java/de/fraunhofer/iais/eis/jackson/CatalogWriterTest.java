@@ -0,0 +1,116 @@
+package de.fraunhofer.iais.eis.jackson;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.fraunhofer.iais.eis.*;
+import de.fraunhofer.iais.eis.codecs.CodecModule;
+
+import static org.junit.Assert.*;
+
+public class CatalogWriterTest {
+
+    private static ResourceCatalog header() {
+        // the catalog's own offered resource objects are replaced by the streamed ones, its references are kept
+        return new ResourceCatalogBuilder(URI.create("http://example.org/catalog"))
+            ._offeredResourceAsUri_(URI.create("http://example.org/old"))
+            ._offeredResourceAsObject_(new ResourceBuilder(URI.create("http://example.org/replaced")).build())
+            ._requestedResourceAsUri_(URI.create("http://example.org/requested"))
+            .build();
+    }
+
+    private static List<Resource> resources(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> (Resource) new ResourceBuilder(URI.create("http://example.org/" + i))._version_("" + i).build())
+            .collect(Collectors.toList());
+    }
+
+    private static ResourceCatalog roundTrip(ObjectMapper mapper) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CatalogWriter writer = new CatalogWriter(mapper, out)) {
+            writer.writeOfferedResources(header(), resources(3).iterator());
+        }
+        ResourceCatalog catalog = mapper.readValue(out.toByteArray(), ResourceCatalog.class);
+        assertEquals(URI.create("http://example.org/catalog"), catalog.getId());
+        assertEquals(Collections.singletonList(URI.create("http://example.org/old")), catalog.getOfferedResourceAsUri());
+        List<URI> ids = new ArrayList<>();
+        for (Resource resource : catalog.getOfferedResourceAsObject()) {
+            ids.add(resource.getId());
+        }
+        assertEquals(3, ids.size());
+        assertEquals(URI.create("http://example.org/2"), ids.get(2));
+        assertEquals("2", catalog.getOfferedResourceAsObject().get(2).getVersion());
+        return catalog;
+    }
+
+    @Test
+    public void writesStreamedElementsWithMixins() throws Exception {
+        // the mixins do not read dual properties such as ids:offeredResource, so the tree is checked
+        ObjectMapper mapper = ObjectMapperFactory.create();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CatalogWriter writer = new CatalogWriter(mapper, out)) {
+            writer.writeOfferedResources(header(), resources(3).iterator());
+        }
+        JsonNode catalog = mapper.readTree(out.toByteArray());
+        assertEquals("https://w3id.org/idsa/core/", catalog.path("@context").path("ids").asText());
+        assertEquals("ids:ResourceCatalog", catalog.path("@type").asText());
+        assertEquals("http://example.org/catalog", catalog.path("@id").asText());
+        JsonNode offered = catalog.path("ids:offeredResource");
+        assertEquals(4, offered.size());
+        assertEquals("http://example.org/old", offered.get(0).asText());
+        assertEquals("http://example.org/2", offered.get(3).path("@id").asText());
+        assertEquals("http://example.org/requested", catalog.path("ids:requestedResource").path(0).asText());
+    }
+
+    @Test
+    public void writesStreamedElementsWithCodecs() throws Exception {
+        ResourceCatalog catalog = roundTrip(ObjectMapperFactory.create().registerModule(new CodecModule()));
+        // other properties of the catalog are kept
+        assertEquals(URI.create("http://example.org/requested"), catalog.getRequestedResourceAsUri().get(0));
+    }
+
+    @Test
+    public void writesFrozenCatalog() throws Exception {
+        ObjectMapper mapper = ObjectMapperFactory.create().registerModule(new CodecModule());
+        ResourceCatalog frozen = (ResourceCatalog) CopyContext.preservingIds().copy(header()).freeze();
+        // the serialized form of the catalog is cached in the object before the header is read as tree
+        mapper.writeValueAsString(frozen);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CatalogWriter writer = new CatalogWriter(mapper, out)) {
+            writer.writeOfferedResources(frozen, resources(3).iterator());
+        }
+        ResourceCatalog catalog = mapper.readValue(out.toByteArray(), ResourceCatalog.class);
+        assertEquals(3, catalog.getOfferedResourceAsObject().size());
+        assertEquals(URI.create("http://example.org/requested"), catalog.getRequestedResourceAsUri().get(0));
+    }
+
+    @Test
+    public void streamedDocumentCanBeReadIncrementally() throws Exception {
+        ObjectMapper mapper = ObjectMapperFactory.create().registerModule(new CodecModule());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CatalogWriter writer = new CatalogWriter(mapper, out)) {
+            writer.writeCatalog(header(), "offeredResource", resources(100).stream());
+        }
+        int count = 0;
+        try (CatalogReader<Resource> reader = CatalogReader.offeredResources(mapper,
+            new ByteArrayInputStream(out.toByteArray()))) {
+            while (reader.hasNext()) {
+                assertEquals(URI.create("http://example.org/" + count), reader.next().getId());
+                count++;
+            }
+        }
+        assertEquals(100, count);
+    }
+
+}
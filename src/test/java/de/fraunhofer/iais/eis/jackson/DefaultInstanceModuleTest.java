@@ -0,0 +1,47 @@
+package de.fraunhofer.iais.eis.jackson;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.fraunhofer.iais.eis.*;
+
+import static org.junit.Assert.*;
+
+public class DefaultInstanceModuleTest {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+        .registerModule(new DefaultInstanceModule())
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Test
+    public void referenceWithoutTypeResolvesToDefaultInstance() throws Exception {
+        assertSame(Language.EN, mapper.readValue("{\"@id\":\"https://w3id.org/idsa/code/EN\"}", Language.class));
+    }
+
+    @Test
+    public void typedValueResolvesToDefaultInstance() throws Exception {
+        String json = "{\"@type\":\"ids:Language\",\"@id\":\"https://w3id.org/idsa/code/DE\"}";
+        assertSame(Language.DE, mapper.readValue(json, Language.class));
+    }
+
+    @Test
+    public void valueWithAdditionalPropertiesIsNotInterned() throws Exception {
+        String json = "{\"@type\":\"ids:Language\",\"@id\":\"https://w3id.org/idsa/code/DE\",\"x:y\":1}";
+        Language language = mapper.readValue(json, Language.class);
+        assertNotSame(Language.DE, language);
+        assertEquals(Language.DE.getId(), language.getId());
+    }
+
+    @Test
+    public void nestedValuesAreInterned() throws Exception {
+        String json = "{\"@type\":\"ids:Resource\",\"@id\":\"http://example.org/resource\","
+            + "\"ids:language\":[{\"@id\":\"https://w3id.org/idsa/code/EN\"},"
+            + "{\"@type\":\"ids:Language\",\"@id\":\"https://w3id.org/idsa/code/DE\"}]}";
+        Resource resource = mapper.readValue(json, Resource.class);
+        assertSame(Language.EN, resource.getLanguage().get(0));
+        assertSame(Language.DE, resource.getLanguage().get(1));
+    }
+
+}
@@ -0,0 +1,76 @@
+package de.fraunhofer.iais.eis.jackson;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.fraunhofer.iais.eis.*;
+import de.fraunhofer.iais.eis.codecs.CodecModule;
+
+import static org.junit.Assert.*;
+
+public class MessageProjectionTest {
+
+    private static final byte[] DATA = ("{\"@context\":{\"ids\":\"https://w3id.org/idsa/core/\"},"
+        + "\"@id\":\"http://example.org/message\",\"@type\":\"ids:ArtifactRequestMessage\","
+        + "\"ids:securityToken\":{\"@type\":\"ids:DynamicAttributeToken\",\"@id\":\"http://example.org/token\","
+        + "\"ids:tokenValue\":\"abc\",\"ids:tokenFormat\":{\"@id\":\"idsc:JWT\"}},"
+        + "\"ids:issuerConnector\":\"http://example.org/connector\","
+        + "\"ids:recipientConnector\":[\"http://example.org/recipient/1\",\"http://example.org/recipient/2\"],"
+        + "\"http://example.org/custom\":{\"a\":[1,2]},"
+        + "\"https://w3id.org/idsa/core/transferContract\":\"http://example.org/contract\","
+        + "\"ids:modelVersion\":\"4.2.7\"}").getBytes(StandardCharsets.UTF_8);
+
+    private static void assertRouting(Message message) {
+        assertTrue(message instanceof ArtifactRequestMessage);
+        assertEquals(URI.create("http://example.org/message"), message.getId());
+        assertEquals(URI.create("http://example.org/connector"), message.getIssuerConnector());
+        assertEquals(Arrays.asList(URI.create("http://example.org/recipient/1"), URI.create("http://example.org/recipient/2")),
+            message.getRecipientConnector());
+        // given with the full IRI
+        assertEquals(URI.create("http://example.org/contract"), message.getTransferContract());
+        // skipped
+        assertNull(message.getSecurityToken());
+        assertNull(message.getModelVersion());
+        assertTrue(message.getProperties() == null || message.getProperties().isEmpty());
+    }
+
+    @Test
+    public void readsRoutingPropertiesWithCodecs() throws Exception {
+        MessageProjection projection = MessageProjection.routing(
+            ObjectMapperFactory.create().registerModule(new CodecModule()));
+        assertRouting(projection.read(DATA, 0, DATA.length));
+        assertRouting(projection.read(new ByteArrayInputStream(DATA)));
+        assertRouting(projection.read(ByteBuffer.wrap(DATA)));
+    }
+
+    @Test
+    public void readsRoutingPropertiesWithMixins() throws Exception {
+        assertRouting(MessageProjection.routing(ObjectMapperFactory.create()).read(DATA, 0, DATA.length));
+    }
+
+    @Test
+    public void readsSelectedProperties() throws Exception {
+        Message message = new MessageProjection(ObjectMapperFactory.create(), "ids:modelVersion")
+            .read(DATA, 0, DATA.length);
+        assertEquals("4.2.7", message.getModelVersion());
+        assertNull(message.getIssuerConnector());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsUnknownProperty() {
+        new MessageProjection(new ObjectMapper(), "foo");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsPropertyOfAllModelClasses() {
+        new MessageProjection(new ObjectMapper(), "properties");
+    }
+
+}
@@ -0,0 +1,68 @@
+package de.fraunhofer.iais.eis.jackson;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.fraunhofer.iais.eis.*;
+import de.fraunhofer.iais.eis.codecs.CodecModule;
+
+import static org.junit.Assert.*;
+
+public class ModelReaderTest {
+
+    private static final URI ID = URI.create("http://example.org/message");
+
+    // the message is surrounded by two bytes that are not part of it
+    private static final byte[] DATA = ("xx{\"@type\":\"ids:ArtifactRequestMessage\",\"@id\":\"" + ID + "\"}yy")
+        .getBytes(StandardCharsets.UTF_8);
+
+    private final ModelReader reader = new ModelReader(ObjectMapperFactory.create().registerModule(new CodecModule()));
+
+    private static ByteBuffer window(ByteBuffer buffer) {
+        buffer.position(2);
+        buffer.limit(DATA.length - 2);
+        return buffer;
+    }
+
+    @Test
+    public void readsPartOfArray() throws Exception {
+        assertEquals(ID, reader.read(DATA, 2, DATA.length - 4, Message.class).getId());
+    }
+
+    @Test
+    public void readsHeapBuffer() throws Exception {
+        ByteBuffer buffer = window(ByteBuffer.wrap(DATA));
+        assertEquals(ID, reader.read(buffer, Message.class).getId());
+        assertEquals(2, buffer.position());
+    }
+
+    @Test
+    public void readsSlicedHeapBuffer() throws Exception {
+        ByteBuffer buffer = window(ByteBuffer.wrap(DATA)).slice();
+        assertEquals(ID, reader.read(buffer, Message.class).getId());
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    public void readsDirectBuffer() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(DATA.length);
+        buffer.put(DATA);
+        window(buffer);
+        assertEquals(ID, reader.read(buffer, Message.class).getId());
+        assertEquals(2, buffer.position());
+    }
+
+    @Test
+    public void readsWithMixins() throws Exception {
+        ObjectMapper mapper = ObjectMapperFactory.create();
+        Message message = new ModelReader(mapper).read(window(ByteBuffer.wrap(DATA)), Message.class);
+        assertTrue(message instanceof ArtifactRequestMessage);
+        assertEquals(ID, message.getId());
+    }
+
+}
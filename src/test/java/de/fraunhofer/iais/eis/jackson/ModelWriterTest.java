@@ -0,0 +1,91 @@
+package de.fraunhofer.iais.eis.jackson;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.datatype.DatatypeFactory;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.fraunhofer.iais.eis.*;
+import de.fraunhofer.iais.eis.codecs.CodecModule;
+
+import static org.junit.Assert.*;
+
+public class ModelWriterTest {
+
+    private final ObjectMapper codecs = ObjectMapperFactory.create().registerModule(new CodecModule());
+
+    private static Resource resource() throws Exception {
+        return new ResourceBuilder(URI.create("http://example.org/resource"))
+            ._version_("1")
+            ._created_(DatatypeFactory.newInstance().newXMLGregorianCalendar("2021-01-02T03:04:05.000Z"))
+            ._publisherAsUri_(URI.create("http://example.org/publisher"))
+            .build();
+    }
+
+    @Test
+    public void streamedRdfIsCodecOutput() throws Exception {
+        Resource resource = resource();
+        String expected = codecs.writeValueAsString(resource);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        resource.toRdf(bytes);
+        assertEquals(expected, new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+
+        StringWriter text = new StringWriter();
+        resource.toRdf(text);
+        assertEquals(expected, text.toString());
+    }
+
+    @Test
+    public void streamedRdfDiffersInFormOnly() throws Exception {
+        StringWriter text = new StringWriter();
+        resource().toRdf(text);
+        JsonNode tree = codecs.readTree(text.toString());
+        // only the prefixes, no unset properties, URIs as node references
+        assertEquals(2, tree.get("@context").size());
+        assertFalse(tree.has("ids:description"));
+        assertEquals("http://example.org/publisher", tree.path("ids:publisher").path("@id").asText());
+        assertEquals("2021-01-02T03:04:05.000UTC", tree.path("ids:created").asText());
+
+        Resource read = codecs.readValue(text.toString(), Resource.class);
+        assertEquals(URI.create("http://example.org/resource"), read.getId());
+        assertEquals("1", read.getVersion());
+        assertEquals(URI.create("http://example.org/publisher"), read.getPublisherAsUri());
+        assertEquals(resource().getCreated().toGregorianCalendar().getTimeInMillis(),
+            read.getCreated().toGregorianCalendar().getTimeInMillis());
+    }
+
+    @Test
+    public void chunksAreBounded() throws Exception {
+        ResourceCatalogBuilder catalog = new ResourceCatalogBuilder(URI.create("http://example.org/catalog"));
+        List<Resource> resources = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            resources.add(new ResourceBuilder(URI.create("http://example.org/" + i))._version_("" + i).build());
+        }
+        ResourceCatalog value = catalog._offeredResourceAsObject_(resources).build();
+        ByteArrayOutputStream joined = new ByteArrayOutputStream();
+        List<Integer> sizes = new ArrayList<>();
+        ModelWriter.shared().write(value, 1024, (ByteBuffer chunk) -> {
+            sizes.add(chunk.remaining());
+            byte[] data = new byte[chunk.remaining()];
+            chunk.get(data);
+            joined.write(data, 0, data.length);
+        });
+        assertTrue(sizes.size() > 1);
+        for (int size : sizes) {
+            assertTrue(size <= 1024);
+        }
+        assertEquals(codecs.writeValueAsString(value), new String(joined.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,139 @@
+package de.fraunhofer.iais.eis.rdf;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.datatype.DatatypeFactory;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.fraunhofer.iais.eis.*;
+import de.fraunhofer.iais.eis.codecs.CodecModule;
+import de.fraunhofer.iais.eis.jackson.ObjectMapperFactory;
+import de.fraunhofer.iais.eis.util.*;
+
+import static org.junit.Assert.*;
+
+public class RdfReaderTest {
+
+    private final ObjectMapper mapper = ObjectMapperFactory.create().registerModule(new CodecModule());
+
+    private static BaseConnector connector() throws Exception {
+        List<Resource> resources = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Resource resource = new ResourceBuilder(URI.create("http://example.org/resource/" + i))
+                ._title_(new TypedLiteral("Title \"é\" " + i, "en"))
+                ._language_(Language.EN)
+                ._created_(DatatypeFactory.newInstance().newXMLGregorianCalendar("2020-01-01T00:00:00Z"))
+                ._version_("1")
+                ._publisherAsUri_(URI.create("http://example.org/publisher"))
+                ._contractOffer_(new ContractOfferBuilder(URI.create("http://example.org/offer/" + i))
+                    ._provider_(URI.create("http://example.org/provider"))
+                    ._permission_(new PermissionBuilder(URI.create("http://example.org/permission/" + i))
+                        ._action_(Action.USE)
+                        .buildUnchecked())
+                    .buildUnchecked())
+                .buildUnchecked();
+            resource.setProperty("http://example.org/custom", "value");
+            resources.add(resource);
+        }
+        ResourceCatalog catalog = new ResourceCatalogBuilder(URI.create("http://example.org/catalog"))
+            ._offeredResourceAsObject_(resources)
+            ._offeredResourceAsUri_(URI.create("http://example.org/resource/9"))
+            .buildUnchecked();
+        return (BaseConnector) new BaseConnectorBuilder(URI.create("http://example.org/connector"))
+            ._resourceCatalog_(catalog)
+            ._curatorAsUri_(URI.create("http://example.org/curator"))
+            ._maintainerAsObject_(new ParticipantBuilder(URI.create("http://example.org/participant"))
+                ._legalForm_("GmbH")
+                .buildUnchecked())
+            ._hasDefaultEndpoint_(new ConnectorEndpointBuilder(URI.create("http://example.org/endpoint"))
+                ._accessURL_(URI.create("http://example.org/endpoint/access"))
+                .buildUnchecked())
+            ._securityProfile_(SecurityProfile.BASE_SECURITY_PROFILE)
+            ._inboundModelVersion_("4.0")
+            ._outboundModelVersion_("4.0")
+            .buildUnchecked();
+    }
+
+    private void assertRoundTrip(boolean turtle) throws Exception {
+        BaseConnector connector = connector();
+        StringWriter out = new StringWriter();
+        try (RdfWriter writer = turtle ? RdfWriter.turtle(out) : RdfWriter.nTriples(out)) {
+            writer.write(connector);
+        }
+        List<BaseConnector> read = RdfReader.parse(new StringReader(out.toString())).read(BaseConnector.class);
+        assertEquals(1, read.size());
+        assertEquals(mapper.writeValueAsString(connector), mapper.writeValueAsString(read.get(0)));
+    }
+
+    @Test
+    public void readsWhatNTriplesWriterWrites() throws Exception {
+        assertRoundTrip(false);
+    }
+
+    @Test
+    public void readsWhatTurtleWriterWrites() throws Exception {
+        assertRoundTrip(true);
+    }
+
+    @Test
+    public void readsTurtleSyntax() throws Exception {
+        String turtle = "@prefix ids: <https://w3id.org/idsa/core/> .\n"
+            + "PREFIX idsc: <https://w3id.org/idsa/code/>\n"
+            + "@base <http://example.org/> .\n"
+            + "# comment\n"
+            + "<resource> a ids:DataResource ;\n"
+            + "    ids:title \"\"\"multi\nline\"\"\"@de, 'single' ;\n"
+            + "    ids:contractOffer [ a ids:ContractOffer ; ids:provider <provider> ] ;\n"
+            + "    ids:sample _:sample ;\n"
+            + "    ids:language idsc:DE ;\n"
+            + "    <http://example.org/custom> 42 .\n"
+            + "_:sample a ids:Resource ; ids:version \"2\" .\n";
+        RdfReader reader = RdfReader.parse(new StringReader(turtle));
+        List<Resource> resources = reader.read(Resource.class);
+        assertEquals(2, resources.size());
+
+        Resource resource = resources.get(0);
+        assertTrue(resource instanceof DataResource);
+        assertEquals(URI.create("http://example.org/resource"), resource.getId());
+        assertEquals("multi\nline", resource.getTitle().get(0).getValue());
+        assertEquals("de", resource.getTitle().get(0).getLanguage());
+        assertEquals("single", resource.getTitle().get(1).getValue());
+        assertEquals(URI.create("http://example.org/provider"), resource.getContractOffer().get(0).getProvider());
+        assertSame(Language.DE, resource.getLanguage().get(0));
+        // unknown predicates become generic properties
+        assertEquals("42", String.valueOf(resource.getProperties().get("http://example.org/custom")));
+
+        // the blank node is a single object, referred to by the sample and returned on its own
+        assertEquals("2", resource.getSample().get(0).getVersion());
+        assertSame(resources.get(1), resource.getSample().get(0));
+    }
+
+    @Test
+    public void readsSharedSubjectOnce() throws Exception {
+        String nTriples = "<http://example.org/catalog> <http://www.w3.org/1999/02/22-rdf-syntax-ns#type> <https://w3id.org/idsa/core/ResourceCatalog> .\n"
+            + "<http://example.org/catalog> <https://w3id.org/idsa/core/offeredResource> <http://example.org/resource> .\n"
+            + "<http://example.org/resource> <http://www.w3.org/1999/02/22-rdf-syntax-ns#type> <https://w3id.org/idsa/core/Resource> .\n";
+        RdfReader reader = RdfReader.parse(new StringReader(nTriples));
+        ResourceCatalog catalog = reader.read(ResourceCatalog.class).get(0);
+        assertSame(reader.read(Resource.class).get(0), catalog.getOfferedResourceAsObject().get(0));
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsCollections() throws Exception {
+        RdfReader.parse(new StringReader("<http://example.org/a> <http://example.org/b> ( 1 2 ) ."));
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsSyntaxErrors() throws Exception {
+        RdfReader.parse(new StringReader("<http://example.org/a> <http://example.org/b> ."));
+    }
+
+}